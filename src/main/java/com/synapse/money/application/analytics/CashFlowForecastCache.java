@@ -0,0 +1,190 @@
+package com.synapse.money.application.analytics;
+
+import com.synapse.money.domain.repository.CashFlowForecastRepository;
+import com.synapse.money.domain.valueobject.CashFlowForecast;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Least-recently-used cache of per-user {@link CashFlowForecast}s. Committed
+ * transaction changes are applied to a cached forecast in place instead of
+ * evicting it, so a chart read after a write still needs no query. An entry
+ * is reloaded once older than {@code ttl} or on a new day; the reload picks
+ * up card bills and writes made on other nodes. A {@code max-users} of zero
+ * loads on every call.
+ */
+@Component
+public class CashFlowForecastCache {
+
+    private final CashFlowForecastRepository cashFlowForecastRepository;
+    private final int maxUsers;
+    private final long ttlNanos;
+    private final int months;
+    private final LongSupplier nanoTime;
+    private final Supplier<LocalDate> today;
+    private final Map<Long, Entry> forecasts;
+
+    /**
+     * Bumped whenever changes start committing and once they are applied. A
+     * load that overlapped either may or may not have seen the changes, so
+     * its result is used but not cached.
+     */
+    private long generation;
+
+    /** Transactions between their commit and the application of their changes. */
+    private int committing;
+
+    public CashFlowForecastCache(
+            CashFlowForecastRepository cashFlowForecastRepository,
+            @Value("${synapse.forecast.cache.max-users:256}") int maxUsers,
+            @Value("${synapse.forecast.cache.ttl:15m}") Duration ttl,
+            @Value("${synapse.forecast.months:12}") int months) {
+        this(cashFlowForecastRepository, maxUsers, ttl, months, System::nanoTime, LocalDate::now);
+    }
+
+    CashFlowForecastCache(
+            CashFlowForecastRepository cashFlowForecastRepository,
+            int maxUsers,
+            Duration ttl,
+            int months,
+            LongSupplier nanoTime,
+            Supplier<LocalDate> today) {
+        this.cashFlowForecastRepository = cashFlowForecastRepository;
+        this.maxUsers = maxUsers;
+        this.ttlNanos = ttl.toNanos();
+        this.months = months;
+        this.nanoTime = nanoTime;
+        this.today = today;
+        this.forecasts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * Runs {@code query} against the user's forecast. Cached forecasts are
+     * mutated by committing writers, so the query runs under the lock and
+     * must not keep a reference to the forecast.
+     */
+    public <T> T read(
+            Long userId,
+            Function<CashFlowForecast, T> query) {
+        LocalDate day = today.get();
+        long loadedAt;
+        synchronized (this) {
+            Entry cached = forecasts.get(userId);
+            if (cached != null && cached.forecast().today().equals(day)
+                    && nanoTime.getAsLong() - cached.loadedAt() < ttlNanos) {
+                return query.apply(cached.forecast());
+            }
+            loadedAt = generation;
+        }
+        CashFlowForecast forecast = cashFlowForecastRepository.loadForUser(userId, day, day.plusMonths(months));
+        synchronized (this) {
+            T result = query.apply(forecast);
+            if (generation == loadedAt && committing == 0 && maxUsers > 0) {
+                forecasts.put(userId, new Entry(forecast, nanoTime.getAsLong()));
+            }
+            return result;
+        }
+    }
+
+    public synchronized void evict(Long userId) {
+        generation++;
+        forecasts.remove(userId);
+    }
+
+    /**
+     * Evicts now and again once the surrounding database transaction ends,
+     * for writes that bypass the change handlers; a forecast loaded from
+     * pre-commit rows in between is dropped too.
+     */
+    public void evictOnCompletion(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Applies the changes to cached forecasts once the surrounding database
+     * transaction commits, or right away outside of one. Nothing is applied
+     * on rollback.
+     */
+    public void applyOnCommit(List<TransactionChange> changes) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (CashFlowForecastCache.this) {
+                    started = true;
+                    committing++;
+                    generation++;
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (CashFlowForecastCache.this) {
+                    if (started) {
+                        committing--;
+                    }
+                    if (status == STATUS_COMMITTED) {
+                        apply(changes);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * A change the forecast cannot take drops the user's entry, and the next
+     * read reloads it.
+     */
+    private synchronized void apply(List<TransactionChange> changes) {
+        generation++;
+        for (TransactionChange change : changes) {
+            Long userId = change.userId();
+            Entry cached = forecasts.get(userId);
+            if (cached == null) {
+                continue;
+            }
+            try {
+                cached.forecast().apply(change);
+            } catch (RuntimeException e) {
+                forecasts.remove(userId);
+            }
+        }
+    }
+
+    private record Entry(
+            CashFlowForecast forecast,
+            long loadedAt
+    ) {
+    }
+}
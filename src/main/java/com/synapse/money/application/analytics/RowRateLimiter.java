@@ -0,0 +1,36 @@
+package com.synapse.money.application.analytics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many rows per second a batch may pull from the database, shared
+ * by all of its workers. Each caller reserves the next slot of the budget
+ * and sleeps until it comes due, so throughput stays flat instead of
+ * bursting. A limit of zero or less disables throttling.
+ */
+public final class RowRateLimiter {
+
+    private final long nanosPerRow;
+    private long nextFreeAt;
+
+    public RowRateLimiter(long rowsPerSecond) {
+        this.nanosPerRow = rowsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / rowsPerSecond : 0;
+        this.nextFreeAt = System.nanoTime();
+    }
+
+    public void acquire(int rows) throws InterruptedException {
+        if (nanosPerRow == 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            nextFreeAt = Math.max(nextFreeAt, now);
+            waitNanos = nextFreeAt - now;
+            nextFreeAt += nanosPerRow * rows;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+}
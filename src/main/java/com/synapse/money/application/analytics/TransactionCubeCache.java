@@ -0,0 +1,83 @@
+package com.synapse.money.application.analytics;
+
+import com.synapse.money.domain.repository.TransactionCubeRepository;
+import com.synapse.money.domain.valueobject.TransactionCube;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of per-user {@link TransactionCube} snapshots,
+ * loaded on first use and evicted whenever the user's transactions change.
+ * A {@code max-users} of zero turns caching off and loads on every call.
+ */
+@Component
+public class TransactionCubeCache {
+
+    private final TransactionCubeRepository transactionCubeRepository;
+    private final int maxUsers;
+    private final Map<Long, TransactionCube> cubes;
+
+    /**
+     * Bumped on every eviction. A load that started before an eviction may
+     * have read the old rows, so its result is returned but not cached.
+     */
+    private long generation;
+
+    public TransactionCubeCache(
+            TransactionCubeRepository transactionCubeRepository,
+            @Value("${synapse.analytics.cube.max-users:256}") int maxUsers) {
+        this.transactionCubeRepository = transactionCubeRepository;
+        this.maxUsers = maxUsers;
+        this.cubes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TransactionCube> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public TransactionCube get(Long userId) {
+        long loadedAt;
+        synchronized (this) {
+            TransactionCube cached = cubes.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            loadedAt = generation;
+        }
+        TransactionCube cube = transactionCubeRepository.loadForUser(userId);
+        synchronized (this) {
+            if (generation == loadedAt && maxUsers > 0) {
+                cubes.put(userId, cube);
+            }
+        }
+        return cube;
+    }
+
+    public synchronized void evict(Collection<Long> userIds) {
+        generation++;
+        cubes.keySet().removeAll(userIds);
+    }
+
+    /**
+     * Evicts now and again once the surrounding database transaction ends,
+     * so a snapshot loaded from pre-commit rows in between is dropped too.
+     */
+    public void evictOnCompletion(Collection<Long> userIds) {
+        evict(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userIds);
+                }
+            });
+        }
+    }
+}
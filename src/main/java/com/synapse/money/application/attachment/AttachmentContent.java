@@ -0,0 +1,28 @@
+package com.synapse.money.application.attachment;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+/**
+ * An attachment ready to download. {@code localFile} is set when the
+ * content sits in a local file the servlet container may send directly.
+ */
+public record AttachmentContent(
+        String fileName,
+        String contentType,
+        long byteSize,
+        String sha256,
+        Path localFile,
+        Body body
+) {
+
+    @FunctionalInterface
+    public interface Body {
+
+        void transferTo(
+                long position,
+                long count,
+                WritableByteChannel target) throws IOException;
+    }
+}
@@ -0,0 +1,110 @@
+package com.synapse.money.application.categorization;
+
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.ImportLookupRepository;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Compiled categorizers, least recently used first out. A user's entry is
+ * dropped when their rules change on this node; everything, merchant rules
+ * included, is recompiled once older than {@code ttl}, which bounds how long
+ * other nodes keep using rules changed elsewhere. A {@code max-users} of
+ * zero compiles on every call.
+ */
+@Component
+public class CategorizationEngine {
+
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final ImportLookupRepository importLookupRepository;
+    private final int maxUsers;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+    private final Map<Long, Categorizer> categorizers;
+
+    private MerchantRuleSet merchantRules;
+    private long loadedAt;
+
+    /**
+     * Bumped on every eviction. A compile that started before an eviction
+     * may have read the old rules, so its result is used but not cached.
+     */
+    private long generation;
+
+    public CategorizationEngine(
+            CategorizationRuleRepository categorizationRuleRepository,
+            ImportLookupRepository importLookupRepository,
+            @Value("${synapse.categorization.cache.max-users:1024}") int maxUsers,
+            @Value("${synapse.categorization.cache.ttl:15m}") Duration ttl) {
+        this(categorizationRuleRepository, importLookupRepository, maxUsers, ttl, System::nanoTime);
+    }
+
+    CategorizationEngine(
+            CategorizationRuleRepository categorizationRuleRepository,
+            ImportLookupRepository importLookupRepository,
+            int maxUsers,
+            Duration ttl,
+            LongSupplier nanoTime) {
+        this.categorizationRuleRepository = categorizationRuleRepository;
+        this.importLookupRepository = importLookupRepository;
+        this.maxUsers = maxUsers;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoTime = nanoTime;
+        this.categorizers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Categorizer> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public Categorizer forUser(Long userId) {
+        MerchantRuleSet merchants = merchantRules();
+        long compiledAt;
+        synchronized (this) {
+            Categorizer cached = categorizers.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            compiledAt = generation;
+        }
+        Categorizer categorizer = Categorizer.compile(
+                categorizationRuleRepository.findByUserId(userId),
+                merchants,
+                importLookupRepository.loadForUser(userId)
+        );
+        synchronized (this) {
+            if (generation == compiledAt && maxUsers > 0) {
+                categorizers.put(userId, categorizer);
+            }
+        }
+        return categorizer;
+    }
+
+    public synchronized void evict(Long userId) {
+        generation++;
+        categorizers.remove(userId);
+    }
+
+    /**
+     * Merchant rules are compiled under the lock: the first caller after
+     * expiry pays for it and the others wait instead of compiling again.
+     */
+    private synchronized MerchantRuleSet merchantRules() {
+        long now = nanoTime.getAsLong();
+        if (merchantRules == null || now - loadedAt >= ttlNanos) {
+            merchantRules = MerchantRuleSet.compile(categorizationRuleRepository.findMerchantRules());
+            loadedAt = now;
+            generation++;
+            categorizers.clear();
+        }
+        return merchantRules;
+    }
+}
@@ -0,0 +1,14 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchTransactionRequest(
+        @NotEmpty(message = "At least one transaction is required")
+        @Size(max = 500, message = "At most 500 transactions can be created at once")
+        List<@Valid @NotNull(message = "Transaction is required") TransactionRequest> transactions
+) {}
@@ -0,0 +1,17 @@
+package com.synapse.money.application.dto.request;
+
+import com.synapse.money.domain.enums.EBulkEditKind;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * The categories are required for {@code MERGE_CATEGORY} and ignored
+ * otherwise.
+ */
+public record BulkEditRequest(
+        @NotNull(message = "Kind is required")
+        EBulkEditKind kind,
+
+        Long sourceCategoryId,
+
+        Long targetCategoryId
+) {}
@@ -0,0 +1,16 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record CategorizationRuleRequest(
+        @NotBlank(message = "Pattern is required")
+        @Size(max = 100, message = "Pattern must have at most 100 characters")
+        String pattern,
+
+        @NotNull(message = "Category is required")
+        Long categoryId,
+
+        Long subcategoryId
+) {}
@@ -0,0 +1,21 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record CategoryBudgetRequest(
+        @NotNull(message = "Category is required")
+        Long categoryId,
+
+        @NotNull(message = "Month is required")
+        YearMonth month,
+
+        @NotNull(message = "Limit is required")
+        @Positive(message = "Limit must be positive")
+        @Digits(integer = 10, fraction = 2, message = "Limit must have at most 10 integer and 2 decimal digits")
+        BigDecimal limitAmount
+) {}
@@ -0,0 +1,23 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One statement line; credits are positive and debits negative.
+ */
+public record StatementLineRequest(
+        @NotNull(message = "Date is required")
+        LocalDate date,
+
+        @NotNull(message = "Amount is required")
+        @Digits(integer = 10, fraction = 2, message = "Amount must have at most 10 integer and 2 decimal digits")
+        BigDecimal amount,
+
+        @Size(max = 255, message = "Description must be at most 255 characters")
+        String description
+) {}
@@ -0,0 +1,20 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record StatementReconciliationRequest(
+        @PositiveOrZero(message = "Date tolerance must not be negative")
+        @Max(value = 31, message = "Date tolerance must be at most 31 days")
+        Integer dateToleranceDays,
+
+        @NotEmpty(message = "Statement lines are required")
+        @Size(max = 100_000, message = "A statement may have at most 100000 lines")
+        List<@Valid @NotNull(message = "Statement line is required") StatementLineRequest> lines
+) {}
@@ -0,0 +1,39 @@
+package com.synapse.money.application.dto.request;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransactionRequest(
+        @NotNull(message = "Account is required")
+        Long accountId,
+
+        Long categoryId,
+
+        Long subcategoryId,
+
+        Long creditCardId,
+
+        Long transferAccountId,
+
+        @NotNull(message = "Amount is required")
+        @Positive(message = "Amount must be positive")
+        @Digits(integer = 10, fraction = 2, message = "Amount must have at most 10 integer and 2 decimal digits")
+        BigDecimal amount,
+
+        @Size(max = 255, message = "Description must be at most 255 characters")
+        String description,
+
+        @NotNull(message = "Transaction date is required")
+        LocalDate transactionDate,
+
+        @NotNull(message = "Transaction type is required")
+        ETransactionType transactionType,
+
+        boolean recurring
+) {}
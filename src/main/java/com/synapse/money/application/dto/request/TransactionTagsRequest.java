@@ -0,0 +1,15 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TransactionTagsRequest(
+        @NotNull(message = "Tags are required")
+        @Size(max = 20, message = "A transaction can have at most 20 tags")
+        List<@NotNull(message = "Tag is required")
+        @Pattern(regexp = "^#?[\\p{L}\\p{N}_-]{1,50}$",
+                message = "Tag must be 1 to 50 letters, digits, '_' or '-', optionally after a '#'") String> tags
+) {}
@@ -0,0 +1,12 @@
+package com.synapse.money.application.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+public record WebhookEndpointRequest(
+        @NotBlank(message = "URL is required")
+        @Size(max = 2048, message = "URL must have at most 2048 characters")
+        @Pattern(regexp = "^https://\\S+$", message = "URL must be an absolute https URL")
+        String url
+) {}
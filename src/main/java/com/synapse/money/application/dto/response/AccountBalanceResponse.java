@@ -0,0 +1,10 @@
+package com.synapse.money.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record AccountBalanceResponse(
+        Long accountId,
+        LocalDate asOf,
+        BigDecimal balance
+) {}
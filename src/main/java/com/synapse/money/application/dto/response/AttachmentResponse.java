@@ -0,0 +1,12 @@
+package com.synapse.money.application.dto.response;
+
+import java.time.LocalDateTime;
+
+public record AttachmentResponse(
+        Long id,
+        Long transactionId,
+        String fileName,
+        String contentType,
+        long byteSize,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,7 @@
+package com.synapse.money.application.dto.response;
+
+public record BatchTransactionItemResponse(
+        int index,
+        TransactionResponse transaction,
+        String error
+) {}
@@ -0,0 +1,9 @@
+package com.synapse.money.application.dto.response;
+
+import java.util.List;
+
+public record BatchTransactionResponse(
+        int created,
+        int failed,
+        List<BatchTransactionItemResponse> items
+) {}
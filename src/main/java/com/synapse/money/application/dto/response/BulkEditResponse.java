@@ -0,0 +1,24 @@
+package com.synapse.money.application.dto.response;
+
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code totalCount} is the number of transactions in scope when the edit
+ * was queued, so {@code scannedCount} over it is the progress.
+ */
+public record BulkEditResponse(
+        Long id,
+        EBulkEditKind kind,
+        EBulkEditStatus status,
+        Long sourceCategoryId,
+        Long targetCategoryId,
+        long totalCount,
+        long scannedCount,
+        long updatedCount,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {}
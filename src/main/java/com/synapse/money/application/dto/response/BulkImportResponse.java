@@ -0,0 +1,8 @@
+package com.synapse.money.application.dto.response;
+
+public record BulkImportResponse(
+        long importedRows,
+        long skippedDuplicates,
+        int recomputedAccounts,
+        long elapsedMillis
+) {}
@@ -0,0 +1,8 @@
+package com.synapse.money.application.dto.response;
+
+public record CategorizationRuleResponse(
+        Long id,
+        String pattern,
+        Long categoryId,
+        Long subcategoryId
+) {}
@@ -0,0 +1,14 @@
+package com.synapse.money.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record CategoryBudgetResponse(
+        Long id,
+        Long categoryId,
+        YearMonth month,
+        BigDecimal limitAmount,
+        BigDecimal consumedAmount,
+        BigDecimal remainingAmount,
+        int usedPercent
+) {}
@@ -0,0 +1,9 @@
+package com.synapse.money.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ForecastPointResponse(
+        LocalDate date,
+        BigDecimal balance
+) {}
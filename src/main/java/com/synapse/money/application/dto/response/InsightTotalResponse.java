@@ -0,0 +1,15 @@
+package com.synapse.money.application.dto.response;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record InsightTotalResponse(
+        YearMonth month,
+        Long categoryId,
+        Long accountId,
+        ETransactionType transactionType,
+        BigDecimal totalAmount,
+        long transactionCount
+) {}
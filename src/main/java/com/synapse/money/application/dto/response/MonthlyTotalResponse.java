@@ -0,0 +1,15 @@
+package com.synapse.money.application.dto.response;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record MonthlyTotalResponse(
+        YearMonth month,
+        Long categoryId,
+        Long subcategoryId,
+        ETransactionType transactionType,
+        BigDecimal totalAmount,
+        int transactionCount
+) {}
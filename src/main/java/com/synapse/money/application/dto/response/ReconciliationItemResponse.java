@@ -0,0 +1,12 @@
+package com.synapse.money.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ReconciliationItemResponse(
+        Integer lineNumber,
+        Long transactionId,
+        LocalDate date,
+        BigDecimal amount,
+        String description
+) {}
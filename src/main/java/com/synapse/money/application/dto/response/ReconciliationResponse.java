@@ -0,0 +1,24 @@
+package com.synapse.money.application.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Summary of a reconciliation with its unmatched lines: {@code missing} are
+ * statement lines absent from the ledger, {@code extra} are ledger
+ * transactions absent from the statement.
+ */
+public record ReconciliationResponse(
+        Long id,
+        Long accountId,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        int dateToleranceDays,
+        int matchedCount,
+        int missingCount,
+        int extraCount,
+        List<ReconciliationItemResponse> missing,
+        List<ReconciliationItemResponse> extra,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,9 @@
+package com.synapse.money.application.dto.response;
+
+import java.util.List;
+
+public record TransactionPageResponse(
+        List<TransactionResponse> items,
+        String nextCursor,
+        boolean hasMore
+) {}
@@ -0,0 +1,20 @@
+package com.synapse.money.application.dto.response;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TransactionResponse(
+        Long id,
+        Long accountId,
+        Long categoryId,
+        Long subcategoryId,
+        Long creditCardId,
+        Long transferAccountId,
+        BigDecimal amount,
+        String description,
+        LocalDate transactionDate,
+        ETransactionType transactionType,
+        boolean recurring
+) {}
@@ -0,0 +1,8 @@
+package com.synapse.money.application.dto.response;
+
+import java.util.List;
+
+public record TransactionTagsResponse(
+        Long transactionId,
+        List<String> tags
+) {}
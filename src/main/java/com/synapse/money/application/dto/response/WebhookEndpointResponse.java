@@ -0,0 +1,9 @@
+package com.synapse.money.application.dto.response;
+
+import java.time.LocalDateTime;
+
+public record WebhookEndpointResponse(
+        Long id,
+        String url,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,14 @@
+package com.synapse.money.application.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * Carries the signing secret, so it is only returned when the secret is
+ * created or rotated.
+ */
+public record WebhookEndpointSecretResponse(
+        Long id,
+        String url,
+        String secret,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,88 @@
+package com.synapse.money.application.export;
+
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+public class TransactionCsvExportWriter implements TransactionExportWriter {
+
+    static final String HEADER =
+            "id,date,type,amount,description,account_id,category_id,subcategory_id,credit_card_id,transfer_account_id,recurring\n";
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Writer writer;
+    private final char[] amountBuffer = new char[Money.MAX_PLAIN_LENGTH];
+
+    public TransactionCsvExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+    }
+
+    @Override
+    public void write(TransactionRow row) throws IOException {
+        writer.write(Long.toString(row.id()));
+        writer.write(',');
+        writer.write(row.transactionDate().toString());
+        writer.write(',');
+        writer.write(row.transactionType().getDescription());
+        writer.write(',');
+        writer.write(amountBuffer, 0, Money.formatPlain(row.amountMinorUnits(), amountBuffer));
+        writer.write(',');
+        writeText(row.description());
+        writer.write(',');
+        writer.write(Long.toString(row.accountId()));
+        writer.write(',');
+        writeId(row.categoryId());
+        writer.write(',');
+        writeId(row.subcategoryId());
+        writer.write(',');
+        writeId(row.creditCardId());
+        writer.write(',');
+        writeId(row.transferAccountId());
+        writer.write(',');
+        writer.write(row.recurring() ? "true" : "false");
+        writer.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeId(Long id) throws IOException {
+        if (id != null) {
+            writer.write(Long.toString(id));
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
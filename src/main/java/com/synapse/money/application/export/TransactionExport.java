@@ -0,0 +1,19 @@
+package com.synapse.money.application.export;
+
+import com.synapse.money.domain.enums.EExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public record TransactionExport(
+        EExportFormat format,
+        String fileName,
+        Body body
+) {
+
+    @FunctionalInterface
+    public interface Body {
+
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,23 @@
+package com.synapse.money.application.export;
+
+import com.synapse.money.domain.enums.EExportFormat;
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface TransactionExportWriter {
+
+    void write(TransactionRow row) throws IOException;
+
+    void finish() throws IOException;
+
+    static TransactionExportWriter create(
+            EExportFormat format,
+            OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new TransactionCsvExportWriter(out);
+            case NDJSON -> new TransactionNdjsonExportWriter(out);
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.synapse.money.application.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class TransactionNdjsonExportWriter implements TransactionExportWriter {
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private final JsonGenerator generator;
+    private final char[] amountBuffer = new char[Money.MAX_PLAIN_LENGTH];
+
+    public TransactionNdjsonExportWriter(OutputStream out) throws IOException {
+        this.generator = JSON_FACTORY.createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(TransactionRow row) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.id());
+        generator.writeStringField("date", row.transactionDate().toString());
+        generator.writeStringField("type", row.transactionType().getDescription());
+        generator.writeFieldName("amount");
+        generator.writeNumber(amountBuffer, 0, Money.formatPlain(row.amountMinorUnits(), amountBuffer));
+        generator.writeStringField("description", row.description());
+        generator.writeNumberField("accountId", row.accountId());
+        writeId("categoryId", row.categoryId());
+        writeId("subcategoryId", row.subcategoryId());
+        writeId("creditCardId", row.creditCardId());
+        writeId("transferAccountId", row.transferAccountId());
+        generator.writeBooleanField("recurring", row.recurring());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.close();
+    }
+
+    private void writeId(
+            String field,
+            Long id) throws IOException {
+        if (id == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, id);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Order(0)
+@RequiredArgsConstructor
+public class AccountBalanceChangeHandler implements TransactionChangeHandler {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        for (TransactionChange change : changes) {
+            if (change.before() != null) {
+                accumulate(deltas, change.before(), true);
+            }
+            if (change.after() != null) {
+                accumulate(deltas, change.after(), false);
+            }
+        }
+        accountRepository.applyBalanceDeltas(deltas);
+    }
+
+    private static void accumulate(
+            Map<Long, BigDecimal> deltas,
+            Transaction transaction,
+            boolean reverse) {
+        accumulate(deltas, transaction, transaction.getAccountId(), reverse);
+        if (transaction.isTransfer()) {
+            accumulate(deltas, transaction, transaction.getTransferAccountId(), reverse);
+        }
+    }
+
+    private static void accumulate(
+            Map<Long, BigDecimal> deltas,
+            Transaction transaction,
+            Long accountId,
+            boolean reverse) {
+        BigDecimal delta = transaction.balanceDeltaFor(accountId);
+        deltas.merge(accountId, reverse ? delta.negate() : delta, BigDecimal::add);
+    }
+}
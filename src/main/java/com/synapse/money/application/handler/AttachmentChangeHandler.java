@@ -0,0 +1,75 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drops the attachments of deleted transactions. The rows go with the
+ * transaction; the files are removed only after the commit, so a rollback
+ * leaves both in place.
+ */
+@Slf4j
+@Component
+@Order(35)
+@RequiredArgsConstructor
+public class AttachmentChangeHandler implements TransactionChangeHandler {
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStore attachmentStore;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        List<String> storageKeys = new ArrayList<>();
+        for (TransactionChange change : changes) {
+            if (change.after() != null) {
+                continue;
+            }
+            Transaction deleted = change.before();
+            for (Attachment attachment : attachmentRepository.deleteByTransaction(deleted.getUserId(), deleted.getId())) {
+                storageKeys.add(attachment.storageKey());
+            }
+        }
+        if (storageKeys.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deleteContent(storageKeys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deleteContent(storageKeys);
+            }
+        });
+    }
+
+    private void deleteContent(List<String> storageKeys) {
+        for (String storageKey : storageKeys) {
+            try {
+                attachmentStore.delete(storageKey);
+            } catch (IOException e) {
+                log.warn("Could not delete attachment content {}", storageKey, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.BalanceShift;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps month-end checkpoints exact when a back-dated transaction is posted,
+ * edited or removed by shifting every checkpoint on or after its date. Runs
+ * after {@link AccountBalanceChangeHandler}, which already holds the account
+ * row locks that serialise this against a checkpoint rebuild.
+ */
+@Component
+@Order(5)
+@RequiredArgsConstructor
+public class BalanceCheckpointChangeHandler implements TransactionChangeHandler {
+
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        List<BalanceShift> shifts = new ArrayList<>(changes.size() * 2);
+        for (TransactionChange change : changes) {
+            if (change.before() != null) {
+                addShifts(shifts, change.before(), true);
+            }
+            if (change.after() != null) {
+                addShifts(shifts, change.after(), false);
+            }
+        }
+        balanceCheckpointRepository.applyShifts(shifts);
+    }
+
+    private static void addShifts(
+            List<BalanceShift> shifts,
+            Transaction transaction,
+            boolean reverse) {
+        addShift(shifts, transaction, transaction.getAccountId(), reverse);
+        if (transaction.isTransfer()) {
+            addShift(shifts, transaction, transaction.getTransferAccountId(), reverse);
+        }
+    }
+
+    private static void addShift(
+            List<BalanceShift> shifts,
+            Transaction transaction,
+            Long accountId,
+            boolean reverse) {
+        BigDecimal delta = transaction.balanceDeltaFor(accountId);
+        shifts.add(new BalanceShift(accountId, transaction.getTransactionDate(), reverse ? delta.negate() : delta));
+    }
+}
@@ -0,0 +1,28 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.application.analytics.CashFlowForecastCache;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Order(25)
+@RequiredArgsConstructor
+public class CashFlowForecastChangeHandler implements TransactionChangeHandler {
+
+    private final CashFlowForecastCache cashFlowForecastCache;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        cashFlowForecastCache.applyOnCommit(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        cashFlowForecastCache.applyOnCommit(List.copyOf(changes));
+    }
+}
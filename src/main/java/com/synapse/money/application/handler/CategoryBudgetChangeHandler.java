@@ -0,0 +1,87 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.CategoryBudgetDelta;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps budget consumption in step with categorised expenses. Changes net
+ * out per category and month first, so an edit that keeps both only moves
+ * the amount and a batch touches each budget row once, in lock order.
+ */
+@Component
+@Order(15)
+@RequiredArgsConstructor
+public class CategoryBudgetChangeHandler implements TransactionChangeHandler {
+
+    private final CategoryBudgetRepository categoryBudgetRepository;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Map<Long, Map<Bucket, BigDecimal>> byUser = new TreeMap<>();
+        for (TransactionChange change : changes) {
+            Map<Bucket, BigDecimal> byBucket = byUser.computeIfAbsent(change.userId(), id -> new TreeMap<>());
+            merge(byBucket, change.before(), true);
+            merge(byBucket, change.after(), false);
+        }
+        byUser.forEach((userId, byBucket) -> {
+            List<CategoryBudgetDelta> deltas = new ArrayList<>(byBucket.size());
+            byBucket.forEach((bucket, amount) -> {
+                if (amount.signum() != 0) {
+                    deltas.add(new CategoryBudgetDelta(bucket.month(), bucket.categoryId(), amount));
+                }
+            });
+            if (!deltas.isEmpty()) {
+                categoryBudgetRepository.applyConsumption(userId, deltas);
+            }
+        });
+    }
+
+    private static void merge(
+            Map<Bucket, BigDecimal> byBucket,
+            Transaction transaction,
+            boolean removed) {
+        if (transaction == null
+                || transaction.getTransactionType() != ETransactionType.EXPENSE
+                || transaction.getCategoryId() == null) {
+            return;
+        }
+        Bucket bucket = new Bucket(YearMonth.from(transaction.getTransactionDate()), transaction.getCategoryId());
+        BigDecimal amount = removed ? transaction.getAmount().negate() : transaction.getAmount();
+        byBucket.merge(bucket, amount, BigDecimal::add);
+    }
+
+    private record Bucket(
+            YearMonth month,
+            Long categoryId
+    ) implements Comparable<Bucket> {
+
+        private static final Comparator<Bucket> ORDER = Comparator
+                .comparing(Bucket::month)
+                .thenComparing(Bucket::categoryId);
+
+        @Override
+        public int compareTo(Bucket other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
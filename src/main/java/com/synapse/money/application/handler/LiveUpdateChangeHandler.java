@@ -0,0 +1,127 @@
+package com.synapse.money.application.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.money.application.dto.response.AccountBalanceResponse;
+import com.synapse.money.application.live.LiveUpdate;
+import com.synapse.money.application.live.LiveUpdateHub;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Pushes transaction and balance events to the user's open live
+ * connections once the change has committed. Balances are read after the
+ * balance handler has applied the change, so clients receive the new value
+ * rather than a delta; users without connections cost nothing.
+ */
+@Component
+@Order(40)
+@RequiredArgsConstructor
+public class LiveUpdateChangeHandler implements TransactionChangeHandler {
+
+    static final String BALANCE_UPDATED = "balance.updated";
+
+    private final LiveUpdateHub liveUpdateHub;
+    private final AccountRepository accountRepository;
+    private final TransactionResponseMapper transactionResponseMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Map<Long, List<TransactionChange>> byUser = new LinkedHashMap<>();
+        for (TransactionChange change : changes) {
+            if (liveUpdateHub.hasSubscribers(change.userId())) {
+                byUser.computeIfAbsent(change.userId(), id -> new ArrayList<>()).add(change);
+            }
+        }
+        if (byUser.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<LiveUpdate>> updatesByUser = new LinkedHashMap<>();
+        byUser.forEach((userId, userChanges) -> updatesByUser.put(userId, toUpdates(userChanges)));
+        publishAfterCommit(updatesByUser);
+    }
+
+    private List<LiveUpdate> toUpdates(List<TransactionChange> changes) {
+        List<LiveUpdate> updates = new ArrayList<>();
+        Set<Long> accountIds = new TreeSet<>();
+        for (TransactionChange change : changes) {
+            updates.add(toUpdate(change));
+            collectAccountIds(accountIds, change.before());
+            collectAccountIds(accountIds, change.after());
+        }
+        LocalDate today = LocalDate.now();
+        for (Map.Entry<Long, BigDecimal> balance : accountRepository.findCurrentBalances(accountIds).entrySet()) {
+            updates.add(new LiveUpdate(BALANCE_UPDATED, toJson(
+                    new AccountBalanceResponse(balance.getKey(), today, balance.getValue()))));
+        }
+        return updates;
+    }
+
+    private LiveUpdate toUpdate(TransactionChange change) {
+        if (change.before() == null) {
+            return new LiveUpdate("transaction.created", toJson(transactionResponseMapper.toResponse(change.after())));
+        }
+        if (change.after() == null) {
+            return new LiveUpdate("transaction.deleted", toJson(transactionResponseMapper.toResponse(change.before())));
+        }
+        return new LiveUpdate("transaction.updated", toJson(transactionResponseMapper.toResponse(change.after())));
+    }
+
+    private void publishAfterCommit(Map<Long, List<LiveUpdate>> updatesByUser) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            updatesByUser.forEach(liveUpdateHub::publish);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                updatesByUser.forEach(liveUpdateHub::publish);
+            }
+        });
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void collectAccountIds(
+            Set<Long> accountIds,
+            Transaction transaction) {
+        if (transaction == null) {
+            return;
+        }
+        accountIds.add(transaction.getAccountId());
+        if (transaction.isTransfer()) {
+            accountIds.add(transaction.getTransferAccountId());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.MonthlyTotalDelta;
+import com.synapse.money.domain.valueobject.MonthlyTotalKey;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+@Order(10)
+@RequiredArgsConstructor
+public class MonthlyTotalsChangeHandler implements TransactionChangeHandler {
+
+    private final MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        List<MonthlyTotalDelta> deltas = deltasOf(change);
+        if (!deltas.isEmpty()) {
+            monthlyTotalsRepository.applyDeltas(change.userId(), deltas);
+        }
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Map<Long, Map<MonthlyTotalKey, MonthlyTotalDelta>> byUser = new TreeMap<>();
+        for (TransactionChange change : changes) {
+            accumulate(byUser.computeIfAbsent(change.userId(), userId -> new TreeMap<>()), change);
+        }
+        byUser.forEach((userId, byKey) -> {
+            List<MonthlyTotalDelta> deltas = nonZero(byKey);
+            if (!deltas.isEmpty()) {
+                monthlyTotalsRepository.applyDeltas(userId, deltas);
+            }
+        });
+    }
+
+    /**
+     * Nets the before and after states per bucket, so an edit that keeps the
+     * bucket only adjusts the amount and an edit that moves it touches both.
+     * Buckets come back sorted to keep row-lock order stable across writers.
+     */
+    static List<MonthlyTotalDelta> deltasOf(TransactionChange change) {
+        Map<MonthlyTotalKey, MonthlyTotalDelta> byKey = new TreeMap<>();
+        accumulate(byKey, change);
+        return nonZero(byKey);
+    }
+
+    private static void accumulate(
+            Map<MonthlyTotalKey, MonthlyTotalDelta> byKey,
+            TransactionChange change) {
+        if (change.before() != null) {
+            merge(byKey, change.before(), -1);
+        }
+        if (change.after() != null) {
+            merge(byKey, change.after(), 1);
+        }
+    }
+
+    private static List<MonthlyTotalDelta> nonZero(Map<MonthlyTotalKey, MonthlyTotalDelta> byKey) {
+        List<MonthlyTotalDelta> deltas = new ArrayList<>(byKey.size());
+        for (MonthlyTotalDelta delta : byKey.values()) {
+            if (delta.count() != 0 || delta.amount().signum() != 0) {
+                deltas.add(delta);
+            }
+        }
+        return deltas;
+    }
+
+    private static void merge(
+            Map<MonthlyTotalKey, MonthlyTotalDelta> byKey,
+            Transaction transaction,
+            int sign) {
+        MonthlyTotalKey key = MonthlyTotalKey.of(transaction);
+        BigDecimal amount = sign < 0 ? transaction.getAmount().negate() : transaction.getAmount();
+        byKey.merge(
+                key,
+                new MonthlyTotalDelta(key, amount, sign),
+                (left, right) -> new MonthlyTotalDelta(key, left.amount().add(right.amount()), left.count() + right.count())
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Runs every {@link TransactionChangeHandler} synchronously on the caller's
+ * thread, so derived state is written in the same database transaction as
+ * the change itself and rolls back with it.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionChangeDispatcher {
+
+    private final List<TransactionChangeHandler> handlers;
+
+    public void dispatch(TransactionChange change) {
+        for (TransactionChangeHandler handler : handlers) {
+            handler.onChange(change);
+        }
+    }
+
+    public void dispatchAll(List<TransactionChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (TransactionChangeHandler handler : handlers) {
+            handler.onChanges(changes);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.application.analytics.TransactionCubeCache;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+@Order(20)
+@RequiredArgsConstructor
+public class TransactionCubeChangeHandler implements TransactionChangeHandler {
+
+    private final TransactionCubeCache transactionCubeCache;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        transactionCubeCache.evictOnCompletion(List.of(change.userId()));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Set<Long> userIds = new TreeSet<>();
+        for (TransactionChange change : changes) {
+            userIds.add(change.userId());
+        }
+        transactionCubeCache.evictOnCompletion(userIds);
+    }
+}
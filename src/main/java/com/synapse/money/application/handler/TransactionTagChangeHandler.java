@@ -0,0 +1,47 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.application.tag.TransactionTagIndexCache;
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Drops the tags of deleted transactions; inserts and updates leave tags
+ * alone.
+ */
+@Component
+@Order(45)
+@RequiredArgsConstructor
+public class TransactionTagChangeHandler implements TransactionChangeHandler {
+
+    private final TransactionTagRepository transactionTagRepository;
+    private final TransactionTagIndexCache transactionTagIndexCache;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Map<Long, List<Long>> deletedByUser = new TreeMap<>();
+        for (TransactionChange change : changes) {
+            if (change.after() == null) {
+                deletedByUser.computeIfAbsent(change.userId(), userId -> new ArrayList<>()).add(change.before().getId());
+            }
+        }
+        if (deletedByUser.isEmpty()) {
+            return;
+        }
+        deletedByUser.forEach(transactionTagRepository::deleteByTransactions);
+        transactionTagIndexCache.evictOnCompletion(deletedByUser.keySet());
+    }
+}
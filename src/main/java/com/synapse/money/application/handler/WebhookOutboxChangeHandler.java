@@ -0,0 +1,74 @@
+package com.synapse.money.application.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EWebhookEventType;
+import com.synapse.money.domain.repository.WebhookOutboxRepository;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.OutboxEvent;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes webhook events to the outbox in the transaction of the change, so
+ * an event exists exactly when its change committed. Users without
+ * endpoints cost one indexed lookup and no serialization.
+ */
+@Component
+@Order(30)
+@RequiredArgsConstructor
+public class WebhookOutboxChangeHandler implements TransactionChangeHandler {
+
+    private final WebhookOutboxRepository webhookOutboxRepository;
+    private final TransactionResponseMapper transactionResponseMapper;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onChange(TransactionChange change) {
+        onChanges(List.of(change));
+    }
+
+    @Override
+    public void onChanges(List<TransactionChange> changes) {
+        Map<Long, List<TransactionChange>> byUser = new LinkedHashMap<>();
+        for (TransactionChange change : changes) {
+            byUser.computeIfAbsent(change.userId(), id -> new ArrayList<>()).add(change);
+        }
+        byUser.forEach((userId, userChanges) -> {
+            List<Long> endpointIds = webhookOutboxRepository.findEndpointIds(userId);
+            if (!endpointIds.isEmpty()) {
+                webhookOutboxRepository.enqueue(endpointIds, userChanges.stream().map(this::toEvent).toList());
+            }
+        });
+    }
+
+    private OutboxEvent toEvent(TransactionChange change) {
+        EWebhookEventType type;
+        Transaction subject;
+        if (change.before() == null) {
+            type = EWebhookEventType.TRANSACTION_CREATED;
+            subject = change.after();
+        } else if (change.after() == null) {
+            type = EWebhookEventType.TRANSACTION_DELETED;
+            subject = change.before();
+        } else {
+            type = EWebhookEventType.TRANSACTION_UPDATED;
+            subject = change.after();
+        }
+        try {
+            return new OutboxEvent(type, objectMapper.writeValueAsString(transactionResponseMapper.toResponse(subject)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.synapse.money.application.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.exception.IdempotencyKeyInProgressException;
+import com.synapse.money.domain.exception.IdempotencyKeyReuseException;
+import com.synapse.money.domain.exception.InvalidIdempotencyKeyException;
+import com.synapse.money.domain.repository.IdempotencyKeyRepository;
+import com.synapse.money.domain.valueobject.IdempotencyRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Runs a mutation at most once per {@code Idempotency-Key}. The key is
+ * claimed before the work starts; a retry of a completed request gets the
+ * stored response back, and a retry that arrives while the first is still
+ * running waits for it. A failed execution releases the key, so the client
+ * can retry it.
+ * <p>
+ * The action runs in one database transaction with the stored response and
+ * holds the key's row lock throughout. A crash before the commit therefore
+ * loses the writes and the response together, and a takeover of a stale
+ * claim blocks until a still-running first attempt has finished.
+ */
+@Component
+public class IdempotentRequestExecutor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final RetryingTransactionExecutor transactionExecutor;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration inFlightTimeout;
+
+    public IdempotentRequestExecutor(
+            IdempotencyKeyRepository idempotencyKeyRepository,
+            ObjectMapper objectMapper,
+            RetryingTransactionExecutor transactionExecutor,
+            @Value("${synapse.idempotency.ttl:24h}") Duration ttl,
+            @Value("${synapse.idempotency.wait-timeout:10s}") Duration waitTimeout,
+            @Value("${synapse.idempotency.in-flight-timeout:5m}") Duration inFlightTimeout) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.objectMapper = objectMapper;
+        this.transactionExecutor = transactionExecutor;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.inFlightTimeout = inFlightTimeout;
+    }
+
+    /**
+     * @param key   the client's key, or null to run the action unguarded
+     * @param scope namespace of the key, e.g. the operation and the caller
+     */
+    public <T> ResponseEntity<T> execute(
+            String key,
+            String scope,
+            Object request,
+            Class<T> responseType,
+            Supplier<ResponseEntity<T>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String requestHash = fingerprint(request);
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (!idempotencyKeyRepository.claim(scope, key, requestHash, ttl, inFlightTimeout)) {
+            // An empty result means the first attempt failed and released the
+            // key in the meantime; the next claim will most likely win it.
+            Optional<IdempotencyRecord> existing = idempotencyKeyRepository.find(scope, key);
+            if (existing.isPresent()) {
+                IdempotencyRecord record = existing.get();
+                if (!record.requestHash().equals(requestHash)) {
+                    throw new IdempotencyKeyReuseException(
+                            HEADER + " was already used for a different request");
+                }
+                if (record.completed()) {
+                    return replay(record, responseType);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotencyKeyInProgressException(
+                        "A request with this " + HEADER + " is still in progress");
+            }
+            pause();
+        }
+
+        try {
+            return transactionExecutor.execute(() -> {
+                if (!idempotencyKeyRepository.lock(scope, key)) {
+                    throw new IdempotencyKeyInProgressException(
+                            "A request with this " + HEADER + " is still in progress");
+                }
+                ResponseEntity<T> response = action.get();
+                idempotencyKeyRepository.complete(
+                        scope, key, response.getStatusCode().value(), toJson(response.getBody()));
+                return response;
+            });
+        } catch (IdempotencyKeyInProgressException e) {
+            // The claim was taken over; the key is no longer ours to release.
+            throw e;
+        } catch (RuntimeException e) {
+            idempotencyKeyRepository.release(scope, key);
+            throw e;
+        }
+    }
+
+    public int purgeExpired() {
+        return idempotencyKeyRepository.deleteExpired();
+    }
+
+    private <T> ResponseEntity<T> replay(
+            IdempotencyRecord record,
+            Class<T> responseType) {
+        try {
+            T body = objectMapper.readValue(record.responseBody(), responseType);
+            return ResponseEntity.status(record.statusCode())
+                    .header(REPLAYED_HEADER, "true")
+                    .body(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyKeyInProgressException(
+                    "A request with this " + HEADER + " is still in progress");
+        }
+    }
+}
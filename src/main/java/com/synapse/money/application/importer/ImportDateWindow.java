@@ -0,0 +1,40 @@
+package com.synapse.money.application.importer;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static com.synapse.money.application.importer.TransactionCsvReader.DATE;
+
+/**
+ * First and last transaction date of an import file, both inclusive.
+ */
+public record ImportDateWindow(
+        LocalDate from,
+        LocalDate to
+) {
+
+    /**
+     * Reads the file to its end. Rows without a valid date are skipped here;
+     * the import pass reports them with their line number.
+     *
+     * @return null when no row has a valid date
+     */
+    public static ImportDateWindow scan(TransactionCsvReader reader) throws IOException {
+        LocalDate from = null;
+        LocalDate to = null;
+        for (String[] row = reader.next(); row != null; row = reader.next()) {
+            LocalDate date;
+            try {
+                date = row[DATE] == null ? null : LocalDate.parse(row[DATE]);
+            } catch (DateTimeParseException e) {
+                date = null;
+            }
+            if (date != null) {
+                from = from == null || date.isBefore(from) ? date : from;
+                to = to == null || date.isAfter(to) ? date : to;
+            }
+        }
+        return from == null ? null : new ImportDateWindow(from, to);
+    }
+}
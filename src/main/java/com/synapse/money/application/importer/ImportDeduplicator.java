@@ -0,0 +1,49 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.TransactionFingerprint;
+
+/**
+ * Drops rows an earlier import already stored, comparing fingerprints
+ * against a set loaded once for the file's date window. Rows that repeat
+ * within the file are numbered by occurrence, so they are kept as long as
+ * the stored statement had fewer of them.
+ */
+public class ImportDeduplicator {
+
+    private final FingerprintSet stored;
+    private final FingerprintSet imported = new FingerprintSet();
+
+    private long skippedRows;
+
+    public ImportDeduplicator(FingerprintSet stored) {
+        this.stored = stored;
+    }
+
+    /**
+     * @return the row with its fingerprint set, or null when it was imported before
+     */
+    public Transaction admit(Transaction transaction) {
+        long base = TransactionFingerprint.base(
+                transaction.getAccountId(),
+                transaction.getTransactionDate(),
+                transaction.getTransactionType(),
+                transaction.getAmount(),
+                transaction.getDescription()
+        );
+        long fingerprint = base;
+        for (int occurrence = 1; !imported.add(fingerprint); occurrence++) {
+            fingerprint = TransactionFingerprint.occurrence(base, occurrence);
+        }
+        if (stored.contains(fingerprint)) {
+            skippedRows++;
+            return null;
+        }
+        return transaction.toBuilder().importFingerprint(fingerprint).build();
+    }
+
+    public long skippedRows() {
+        return skippedRows;
+    }
+}
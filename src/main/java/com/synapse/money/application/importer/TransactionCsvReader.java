@@ -0,0 +1,185 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Forward-only RFC 4180 reader for transaction history files. Columns are
+ * matched by header name and returned in the canonical order below, so the
+ * source file may order or omit optional columns freely.
+ */
+public class TransactionCsvReader implements Closeable {
+
+    public static final int DATE = 0;
+    public static final int TYPE = 1;
+    public static final int AMOUNT = 2;
+    public static final int DESCRIPTION = 3;
+    public static final int ACCOUNT = 4;
+    public static final int CATEGORY = 5;
+    public static final int SUBCATEGORY = 6;
+    public static final int CREDIT_CARD = 7;
+    public static final int TRANSFER_ACCOUNT = 8;
+    public static final int RECURRING = 9;
+
+    static final List<String> COLUMNS = List.of(
+            "date",
+            "type",
+            "amount",
+            "description",
+            "account",
+            "category",
+            "subcategory",
+            "credit_card",
+            "transfer_account",
+            "recurring"
+    );
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("date", "type", "amount", "account");
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int NO_PENDING = -2;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder(64);
+    private final List<String> record = new ArrayList<>(COLUMNS.size());
+    private final int[] positions = new int[COLUMNS.size()];
+
+    private int bufferLength;
+    private int bufferPosition;
+    private int pending = NO_PENDING;
+    private long physicalLine = 1;
+    private long recordLine;
+
+    public TransactionCsvReader(InputStream input) throws IOException {
+        this.reader = new InputStreamReader(input, StandardCharsets.UTF_8);
+        readHeader();
+    }
+
+    public String[] next() throws IOException {
+        if (!readRecord()) {
+            return null;
+        }
+
+        String[] row = new String[COLUMNS.size()];
+        for (int column = 0; column < positions.length; column++) {
+            int position = positions[column];
+            if (position >= 0 && position < record.size()) {
+                String value = record.get(position).trim();
+                row[column] = value.isEmpty() ? null : value;
+            }
+        }
+        return row;
+    }
+
+    public long lineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (!readRecord()) {
+            throw new InvalidTransactionImportException(1, "File is empty");
+        }
+
+        Arrays.fill(positions, -1);
+        for (int position = 0; position < record.size(); position++) {
+            String name = record.get(position).trim().toLowerCase(Locale.ROOT);
+            int column = COLUMNS.indexOf(name);
+            if (column >= 0) {
+                positions[column] = position;
+            }
+        }
+
+        for (String required : REQUIRED_COLUMNS) {
+            if (positions[COLUMNS.indexOf(required)] < 0) {
+                throw new InvalidTransactionImportException(recordLine, "Missing required column: " + required);
+            }
+        }
+    }
+
+    private boolean readRecord() throws IOException {
+        while (true) {
+            record.clear();
+            field.setLength(0);
+            recordLine = physicalLine;
+
+            int c = read();
+            if (c == -1) {
+                return false;
+            }
+
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new InvalidTransactionImportException(recordLine, "Unterminated quoted field");
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            pending = next;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            physicalLine++;
+                        }
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    record.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n' || c == -1) {
+                    if (c == '\n') {
+                        physicalLine++;
+                    }
+                    record.add(field.toString());
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+
+            boolean blank = record.size() == 1 && record.getFirst().isBlank();
+            if (!blank) {
+                return true;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != NO_PENDING) {
+            int c = pending;
+            pending = NO_PENDING;
+            return c;
+        }
+        if (bufferPosition == bufferLength) {
+            bufferLength = reader.read(buffer, 0, buffer.length);
+            bufferPosition = 0;
+            if (bufferLength <= 0) {
+                bufferLength = 0;
+                return -1;
+            }
+        }
+        return buffer[bufferPosition++];
+    }
+}
@@ -0,0 +1,68 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class TransactionImportIterator implements Iterator<Transaction> {
+
+    private final TransactionCsvReader reader;
+    private final TransactionImportRowMapper mapper;
+    private final ImportDeduplicator deduplicator;
+    private final Set<Long> affectedAccountIds;
+
+    private Transaction next;
+
+    public TransactionImportIterator(
+            TransactionCsvReader reader,
+            TransactionImportRowMapper mapper,
+            ImportDeduplicator deduplicator,
+            Set<Long> affectedAccountIds) {
+        this.reader = reader;
+        this.mapper = mapper;
+        this.deduplicator = deduplicator;
+        this.affectedAccountIds = affectedAccountIds;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Transaction next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Transaction current = next;
+        next = null;
+        return current;
+    }
+
+    private Transaction readNext() {
+        try {
+            Transaction transaction = null;
+            while (transaction == null) {
+                String[] row = reader.next();
+                if (row == null) {
+                    return null;
+                }
+                transaction = deduplicator.admit(mapper.map(row, reader.lineNumber()));
+            }
+            affectedAccountIds.add(transaction.getAccountId());
+            if (transaction.getTransferAccountId() != null) {
+                affectedAccountIds.add(transaction.getTransferAccountId());
+            }
+            return transaction;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.CategoryAssignment;
+import com.synapse.money.domain.valueobject.ImportLookup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static com.synapse.money.application.importer.TransactionCsvReader.ACCOUNT;
+import static com.synapse.money.application.importer.TransactionCsvReader.AMOUNT;
+import static com.synapse.money.application.importer.TransactionCsvReader.CATEGORY;
+import static com.synapse.money.application.importer.TransactionCsvReader.CREDIT_CARD;
+import static com.synapse.money.application.importer.TransactionCsvReader.DATE;
+import static com.synapse.money.application.importer.TransactionCsvReader.DESCRIPTION;
+import static com.synapse.money.application.importer.TransactionCsvReader.RECURRING;
+import static com.synapse.money.application.importer.TransactionCsvReader.SUBCATEGORY;
+import static com.synapse.money.application.importer.TransactionCsvReader.TRANSFER_ACCOUNT;
+import static com.synapse.money.application.importer.TransactionCsvReader.TYPE;
+
+public class TransactionImportRowMapper {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    private final Long userId;
+    private final ImportLookup lookup;
+    private final Categorizer categorizer;
+
+    /**
+     * @param categorizer fills in the category of rows that name none
+     */
+    public TransactionImportRowMapper(
+            Long userId,
+            ImportLookup lookup,
+            Categorizer categorizer) {
+        this.userId = userId;
+        this.lookup = lookup;
+        this.categorizer = categorizer;
+    }
+
+    public Transaction map(
+            String[] row,
+            long lineNumber) {
+        ETransactionType type = parseType(row[TYPE], lineNumber);
+        Long accountId = resolveAccount(row[ACCOUNT], "account", lineNumber);
+
+        Long transferAccountId = null;
+        if (type == ETransactionType.TRANSFER) {
+            transferAccountId = resolveAccount(row[TRANSFER_ACCOUNT], "transfer_account", lineNumber);
+            if (transferAccountId.equals(accountId)) {
+                throw new InvalidTransactionImportException(lineNumber, "Transfer source and destination must differ");
+            }
+        } else if (row[TRANSFER_ACCOUNT] != null) {
+            throw new InvalidTransactionImportException(lineNumber, "transfer_account is only allowed for transfers");
+        }
+
+        Long categoryId = null;
+        Long subcategoryId = null;
+        if (row[CATEGORY] != null) {
+            categoryId = require(lookup.categoryId(row[CATEGORY]), "Unknown category: " + row[CATEGORY], lineNumber);
+            if (row[SUBCATEGORY] != null) {
+                subcategoryId = require(
+                        lookup.subcategoryId(row[CATEGORY], row[SUBCATEGORY]),
+                        "Unknown subcategory: " + row[SUBCATEGORY],
+                        lineNumber
+                );
+            }
+        } else if (row[SUBCATEGORY] != null) {
+            throw new InvalidTransactionImportException(lineNumber, "subcategory requires a category");
+        }
+
+        Long creditCardId = null;
+        if (row[CREDIT_CARD] != null) {
+            creditCardId = require(lookup.creditCardId(row[CREDIT_CARD]), "Unknown credit card: " + row[CREDIT_CARD], lineNumber);
+        }
+
+        String description = row[DESCRIPTION];
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new InvalidTransactionImportException(lineNumber, "Description exceeds " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        if (categoryId == null && type != ETransactionType.TRANSFER) {
+            CategoryAssignment assignment = categorizer.categorize(description).orElse(null);
+            if (assignment != null) {
+                categoryId = assignment.categoryId();
+                subcategoryId = assignment.subcategoryId();
+            }
+        }
+
+        return Transaction.builder()
+                .userId(userId)
+                .accountId(accountId)
+                .categoryId(categoryId)
+                .subcategoryId(subcategoryId)
+                .creditCardId(creditCardId)
+                .transferAccountId(transferAccountId)
+                .amount(parseAmount(row[AMOUNT], lineNumber))
+                .description(description)
+                .transactionDate(parseDate(row[DATE], lineNumber))
+                .transactionType(type)
+                .isRecurring(parseRecurring(row[RECURRING], lineNumber))
+                .build();
+    }
+
+    private Long resolveAccount(
+            String name,
+            String column,
+            long lineNumber) {
+        if (name == null) {
+            throw new InvalidTransactionImportException(lineNumber, column + " is required");
+        }
+        return require(lookup.accountId(name), "Unknown account: " + name, lineNumber);
+    }
+
+    private static Long require(
+            Long id,
+            String message,
+            long lineNumber) {
+        if (id == null) {
+            throw new InvalidTransactionImportException(lineNumber, message);
+        }
+        return id;
+    }
+
+    private static ETransactionType parseType(
+            String value,
+            long lineNumber) {
+        try {
+            return ETransactionType.fromDescription(value);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTransactionImportException(lineNumber, e.getMessage());
+        }
+    }
+
+    private static BigDecimal parseAmount(
+            String value,
+            long lineNumber) {
+        BigDecimal amount;
+        try {
+            amount = value == null ? null : new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            amount = null;
+        }
+        if (!Transaction.isValidAmount(amount)) {
+            throw new InvalidTransactionImportException(lineNumber, "Invalid amount: " + value);
+        }
+        return amount.setScale(2, RoundingMode.UNNECESSARY);
+    }
+
+    private static LocalDate parseDate(
+            String value,
+            long lineNumber) {
+        if (value == null) {
+            throw new InvalidTransactionImportException(lineNumber, "date is required");
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidTransactionImportException(lineNumber, "Invalid date: " + value);
+        }
+    }
+
+    private static boolean parseRecurring(
+            String value,
+            long lineNumber) {
+        if (value == null || value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        throw new InvalidTransactionImportException(lineNumber, "Invalid recurring flag: " + value);
+    }
+}
@@ -0,0 +1,9 @@
+package com.synapse.money.application.live;
+
+/**
+ * One server-sent event; {@code data} is serialized JSON.
+ */
+public record LiveUpdate(
+        String event,
+        String data
+) {}
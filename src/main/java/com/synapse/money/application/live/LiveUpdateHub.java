@@ -0,0 +1,98 @@
+package com.synapse.money.application.live;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process fan-out of live updates to the connections open on this node.
+ * Sends run on virtual threads, so a client blocked on a full socket parks
+ * a cheap thread instead of a pooled one. Each user holds at most
+ * {@code max-connections-per-user} streams; a new one past the cap closes
+ * that user's oldest.
+ */
+@Component
+public class LiveUpdateHub {
+
+    private final Map<Long, Deque<LiveUpdateSubscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final int maxConnectionsPerUser;
+
+    public LiveUpdateHub(
+            @Value("${synapse.live.buffer-size:256}") int bufferSize,
+            @Value("${synapse.live.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        if (maxConnectionsPerUser < 1) {
+            throw new IllegalArgumentException("Connections per user must be positive");
+        }
+        this.bufferSize = bufferSize;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+    }
+
+    public LiveUpdateSubscription subscribe(
+            Long userId,
+            LiveUpdateSink sink) {
+        LiveUpdateSubscription subscription = new LiveUpdateSubscription(
+                sink, bufferSize, executor, closed -> remove(userId, closed));
+        List<LiveUpdateSubscription> evicted = new ArrayList<>();
+        subscriptions.compute(userId, (id, userSubscriptions) -> {
+            Deque<LiveUpdateSubscription> result = userSubscriptions == null
+                    ? new ConcurrentLinkedDeque<>()
+                    : userSubscriptions;
+            result.addLast(subscription);
+            while (result.size() > maxConnectionsPerUser) {
+                evicted.add(result.pollFirst());
+            }
+            return result;
+        });
+        // closing calls back into remove, which must not run inside compute
+        evicted.forEach(LiveUpdateSubscription::close);
+        return subscription;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        return subscriptions.containsKey(userId);
+    }
+
+    public void publish(
+            Long userId,
+            List<LiveUpdate> updates) {
+        Deque<LiveUpdateSubscription> userSubscriptions = subscriptions.get(userId);
+        if (userSubscriptions == null || updates.isEmpty()) {
+            return;
+        }
+        userSubscriptions.forEach(subscription -> subscription.offer(updates));
+    }
+
+    public void heartbeat() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(LiveUpdateSubscription::heartbeat));
+    }
+
+    public int connectionCount() {
+        return subscriptions.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(userSubscriptions -> userSubscriptions.forEach(LiveUpdateSubscription::close));
+        executor.shutdownNow();
+    }
+
+    private void remove(
+            Long userId,
+            LiveUpdateSubscription subscription) {
+        subscriptions.computeIfPresent(userId, (id, userSubscriptions) -> {
+            userSubscriptions.remove(subscription);
+            return userSubscriptions.isEmpty() ? null : userSubscriptions;
+        });
+    }
+}
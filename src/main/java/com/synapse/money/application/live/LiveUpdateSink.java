@@ -0,0 +1,16 @@
+package com.synapse.money.application.live;
+
+import java.io.IOException;
+
+/**
+ * The transport of one live connection. A subscription never calls its
+ * sink from two threads at once.
+ */
+public interface LiveUpdateSink {
+
+    void send(LiveUpdate update) throws IOException;
+
+    void heartbeat() throws IOException;
+
+    void close();
+}
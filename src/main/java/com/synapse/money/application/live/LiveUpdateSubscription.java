@@ -0,0 +1,136 @@
+package com.synapse.money.application.live;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * One live connection. Updates are buffered up to a fixed capacity, the
+ * oldest being dropped first, so a slow client costs bounded memory and
+ * never slows the writer. The buffer is drained by a task on the executor
+ * that only exists while there is something to send; an idle connection
+ * holds no thread.
+ */
+public final class LiveUpdateSubscription {
+
+    static final String RESYNC_EVENT = "resync";
+
+    private final LiveUpdateSink sink;
+    private final int capacity;
+    private final Executor executor;
+    private final Consumer<LiveUpdateSubscription> onClose;
+    private final ArrayDeque<LiveUpdate> buffer;
+    private long dropped;
+    private boolean heartbeatPending;
+    private boolean draining;
+    private boolean closed;
+
+    LiveUpdateSubscription(
+            LiveUpdateSink sink,
+            int capacity,
+            Executor executor,
+            Consumer<LiveUpdateSubscription> onClose) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.sink = sink;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.onClose = onClose;
+        this.buffer = new ArrayDeque<>(capacity);
+    }
+
+    public void offer(List<LiveUpdate> updates) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            for (LiveUpdate update : updates) {
+                if (buffer.size() == capacity) {
+                    buffer.poll();
+                    dropped++;
+                }
+                buffer.add(update);
+            }
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        schedule();
+    }
+
+    /**
+     * Skipped while updates are in flight, as they keep the connection alive
+     * themselves.
+     */
+    public void heartbeat() {
+        synchronized (this) {
+            if (closed || draining) {
+                return;
+            }
+            heartbeatPending = true;
+            draining = true;
+        }
+        schedule();
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+        }
+        onClose.accept(this);
+        sink.close();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            close();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            LiveUpdate next;
+            long droppedSinceLastSend;
+            boolean sendHeartbeat;
+            synchronized (this) {
+                next = buffer.poll();
+                droppedSinceLastSend = dropped;
+                sendHeartbeat = heartbeatPending;
+                dropped = 0;
+                heartbeatPending = false;
+                if (closed || (next == null && droppedSinceLastSend == 0 && !sendHeartbeat)) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                if (droppedSinceLastSend > 0) {
+                    sink.send(new LiveUpdate(RESYNC_EVENT, "{\"dropped\":" + droppedSinceLastSend + "}"));
+                }
+                if (next != null) {
+                    sink.send(next);
+                } else if (sendHeartbeat) {
+                    sink.heartbeat();
+                }
+            } catch (IOException | RuntimeException e) {
+                close();
+                return;
+            }
+        }
+    }
+}
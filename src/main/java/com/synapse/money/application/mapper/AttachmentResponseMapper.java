@@ -0,0 +1,20 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.domain.valueobject.Attachment;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AttachmentResponseMapper {
+
+    public AttachmentResponse toResponse(Attachment attachment) {
+        return new AttachmentResponse(
+                attachment.id(),
+                attachment.transactionId(),
+                attachment.fileName(),
+                attachment.contentType(),
+                attachment.byteSize(),
+                attachment.createdAt()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BulkEditResponseMapper {
+
+    public BulkEditResponse toResponse(BulkEdit edit) {
+        return new BulkEditResponse(
+                edit.id(),
+                edit.kind(),
+                edit.status(),
+                edit.sourceCategoryId(),
+                edit.targetCategoryId(),
+                edit.totalCount(),
+                edit.scannedCount(),
+                edit.updatedCount(),
+                edit.error(),
+                edit.createdAt(),
+                edit.completedAt()
+        );
+    }
+}
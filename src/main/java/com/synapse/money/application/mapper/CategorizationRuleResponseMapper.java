@@ -0,0 +1,18 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategorizationRuleResponseMapper {
+
+    public CategorizationRuleResponse toResponse(CategorizationRule rule) {
+        return new CategorizationRuleResponse(
+                rule.id(),
+                rule.pattern(),
+                rule.categoryId(),
+                rule.subcategoryId()
+        );
+    }
+}
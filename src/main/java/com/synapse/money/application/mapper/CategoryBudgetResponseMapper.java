@@ -0,0 +1,21 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CategoryBudgetResponseMapper {
+
+    public CategoryBudgetResponse toResponse(CategoryBudget budget) {
+        return new CategoryBudgetResponse(
+                budget.id(),
+                budget.categoryId(),
+                budget.month(),
+                budget.limitAmount(),
+                budget.consumedAmount(),
+                budget.remainingAmount(),
+                budget.usedPercent()
+        );
+    }
+}
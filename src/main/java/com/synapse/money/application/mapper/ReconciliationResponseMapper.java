@@ -0,0 +1,51 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.ReconciliationItemResponse;
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class ReconciliationResponseMapper {
+
+    /**
+     * Matched items are left out; only their count is reported.
+     */
+    public ReconciliationResponse toResponse(
+            Reconciliation reconciliation,
+            List<ReconciliationItem> items) {
+        return new ReconciliationResponse(
+                reconciliation.id(),
+                reconciliation.accountId(),
+                reconciliation.periodStart(),
+                reconciliation.periodEnd(),
+                reconciliation.dateToleranceDays(),
+                reconciliation.matchedCount(),
+                reconciliation.missingCount(),
+                reconciliation.extraCount(),
+                itemsWithStatus(items, EReconciliationStatus.MISSING),
+                itemsWithStatus(items, EReconciliationStatus.EXTRA),
+                reconciliation.createdAt()
+        );
+    }
+
+    private static List<ReconciliationItemResponse> itemsWithStatus(
+            List<ReconciliationItem> items,
+            EReconciliationStatus status) {
+        return items.stream()
+                .filter(item -> item.status() == status)
+                .map(item -> new ReconciliationItemResponse(
+                        item.lineNumber(),
+                        item.transactionId(),
+                        status == EReconciliationStatus.EXTRA ? item.ledgerDate() : item.statementDate(),
+                        Money.ofMinor(item.amountMinorUnits()).toBigDecimal(),
+                        item.description()
+                ))
+                .toList();
+    }
+}
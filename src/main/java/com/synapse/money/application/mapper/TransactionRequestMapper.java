@@ -0,0 +1,31 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.domain.entity.Transaction;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionRequestMapper {
+
+    public Transaction toDomain(
+            Long userId,
+            TransactionRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("TransactionRequest cannot be null");
+        }
+
+        return Transaction.builder()
+                .userId(userId)
+                .accountId(request.accountId())
+                .categoryId(request.categoryId())
+                .subcategoryId(request.subcategoryId())
+                .creditCardId(request.creditCardId())
+                .transferAccountId(request.transferAccountId())
+                .amount(request.amount())
+                .description(request.description())
+                .transactionDate(request.transactionDate())
+                .transactionType(request.transactionType())
+                .isRecurring(request.recurring())
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.valueobject.TaggedTransactionPage;
+import com.synapse.money.domain.valueobject.TransactionPage;
+import com.synapse.money.domain.valueobject.TransactionSearchPage;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionResponseMapper {
+
+    public TransactionResponse toResponse(Transaction transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null");
+        }
+
+        return new TransactionResponse(
+                transaction.getId(),
+                transaction.getAccountId(),
+                transaction.getCategoryId(),
+                transaction.getSubcategoryId(),
+                transaction.getCreditCardId(),
+                transaction.getTransferAccountId(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                transaction.getTransactionDate(),
+                transaction.getTransactionType(),
+                transaction.isRecurring()
+        );
+    }
+
+    public TransactionPageResponse toPageResponse(TransactionPage page) {
+        return new TransactionPageResponse(
+                page.items().stream().map(this::toResponse).toList(),
+                page.hasMore() ? page.nextCursor().encode() : null,
+                page.hasMore()
+        );
+    }
+
+    public TransactionPageResponse toSearchPageResponse(TransactionSearchPage page) {
+        return new TransactionPageResponse(
+                page.hits().stream().map(hit -> toResponse(hit.transaction())).toList(),
+                page.hasMore() ? page.nextCursor().encode() : null,
+                page.hasMore()
+        );
+    }
+
+    public TransactionPageResponse toTaggedPageResponse(TaggedTransactionPage page) {
+        return new TransactionPageResponse(
+                page.items().stream().map(this::toResponse).toList(),
+                page.hasMore() ? page.nextCursor().encode() : null,
+                page.hasMore()
+        );
+    }
+}
@@ -0,0 +1,27 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.WebhookEndpointResponse;
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WebhookEndpointResponseMapper {
+
+    public WebhookEndpointResponse toResponse(WebhookEndpoint endpoint) {
+        return new WebhookEndpointResponse(
+                endpoint.id(),
+                endpoint.url(),
+                endpoint.createdAt()
+        );
+    }
+
+    public WebhookEndpointSecretResponse toSecretResponse(WebhookEndpoint endpoint) {
+        return new WebhookEndpointSecretResponse(
+                endpoint.id(),
+                endpoint.url(),
+                endpoint.secret(),
+                endpoint.createdAt()
+        );
+    }
+}
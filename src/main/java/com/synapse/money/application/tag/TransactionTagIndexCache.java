@@ -0,0 +1,83 @@
+package com.synapse.money.application.tag;
+
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of per-user {@link TransactionTagIndex}es,
+ * loaded on first use and evicted whenever the user's tags change. A
+ * {@code max-users} of zero turns caching off and loads on every call.
+ */
+@Component
+public class TransactionTagIndexCache {
+
+    private final TransactionTagRepository transactionTagRepository;
+    private final int maxUsers;
+    private final Map<Long, TransactionTagIndex> indexes;
+
+    /**
+     * Bumped on every eviction. A load that started before an eviction may
+     * have read the old rows, so its result is returned but not cached.
+     */
+    private long generation;
+
+    public TransactionTagIndexCache(
+            TransactionTagRepository transactionTagRepository,
+            @Value("${synapse.tags.index.max-users:256}") int maxUsers) {
+        this.transactionTagRepository = transactionTagRepository;
+        this.maxUsers = maxUsers;
+        this.indexes = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TransactionTagIndex> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public TransactionTagIndex get(Long userId) {
+        long loadedAt;
+        synchronized (this) {
+            TransactionTagIndex cached = indexes.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            loadedAt = generation;
+        }
+        TransactionTagIndex index = transactionTagRepository.loadIndex(userId);
+        synchronized (this) {
+            if (generation == loadedAt && maxUsers > 0) {
+                indexes.put(userId, index);
+            }
+        }
+        return index;
+    }
+
+    public synchronized void evict(Collection<Long> userIds) {
+        generation++;
+        indexes.keySet().removeAll(userIds);
+    }
+
+    /**
+     * Evicts now and again once the surrounding database transaction ends,
+     * so an index loaded from pre-commit rows in between is dropped too.
+     */
+    public void evictOnCompletion(Collection<Long> userIds) {
+        evict(userIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(userIds);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.ArchiveSegmentRepository;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Moves the oldest not yet archived year of a user's transactions into the
+ * cold tier, one year per call. Checkpoints and monthly totals are rebuilt
+ * first: both are kept for archived periods, which can no longer be
+ * re-derived from the table. Recurring templates stay in the table: the
+ * materializer and the forecast read them from there, however old their
+ * anchor date.
+ */
+@Service
+@RequiredArgsConstructor
+public class ArchiveTransactionsUseCase {
+
+    private final TransactionRepository transactionRepository;
+    private final TransactionArchive transactionArchive;
+    private final ArchiveSegmentRepository archiveSegmentRepository;
+    private final AccountRepository accountRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final MonthlyTotalsRepository monthlyTotalsRepository;
+
+    /**
+     * Archives the next year up to and including {@code through}, if any.
+     */
+    @Transactional
+    public Optional<ArchiveSegment> execute(
+            Long userId,
+            Year through) {
+        LocalDate archivedThrough = archiveSegmentRepository.findArchivedThrough(userId).orElse(null);
+        Optional<Year> next = transactionRepository.findFirstTransactionDateAfter(userId, archivedThrough)
+                .map(Year::from)
+                .filter(year -> !year.isAfter(through));
+        if (next.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDate from = next.get().atDay(1);
+        LocalDate to = next.get().atMonth(12).atEndOfMonth();
+
+        // Both rebuilds lock the user's aggregates, which holds back writers
+        // until the archived rows are gone.
+        balanceCheckpointRepository.rebuildForUser(userId);
+        monthlyTotalsRepository.rebuildForUser(userId);
+
+        List<Long> ids = new ArrayList<>();
+        Map<Long, long[]> deltas = new HashMap<>();
+        ArchiveSegment segment;
+        try {
+            segment = transactionArchive.write(userId, from, to, consumer ->
+                    transactionRepository.streamByUserAndDateRange(userId, from, to, row -> {
+                        if (row.recurring()) {
+                            return;
+                        }
+                        ids.add(row.id());
+                        addBalanceEffect(deltas, row);
+                        consumer.accept(row);
+                    }));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int deleted = transactionRepository.deleteArchived(userId, from, to, ids);
+        if (deleted != ids.size()) {
+            throw new IllegalStateException("Transactions of user " + userId + " changed while " + next.get()
+                    + " was archived: wrote " + ids.size() + ", deleted " + deleted);
+        }
+        Map<Long, BigDecimal> archivedDeltas = new HashMap<>();
+        deltas.forEach((accountId, minorUnits) -> archivedDeltas.put(accountId, Money.ofMinor(minorUnits[0]).toBigDecimal()));
+        accountRepository.applyArchivedDeltas(archivedDeltas, to);
+        archiveSegmentRepository.save(segment);
+        return Optional.of(segment);
+    }
+
+    /**
+     * Same signs as the balance recompute: income adds, everything else
+     * subtracts, and a transfer also credits its destination.
+     */
+    private static void addBalanceEffect(
+            Map<Long, long[]> deltas,
+            TransactionRow row) {
+        long amount = row.amountMinorUnits();
+        long effect = row.transactionType() == ETransactionType.INCOME ? amount : -amount;
+        deltas.computeIfAbsent(row.accountId(), id -> new long[1])[0] += effect;
+        if (row.transactionType() == ETransactionType.TRANSFER && row.transferAccountId() != null) {
+            deltas.computeIfAbsent(row.transferAccountId(), id -> new long[1])[0] += amount;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.CashFlowForecastCache;
+import com.synapse.money.application.analytics.TransactionCubeCache;
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.response.BulkImportResponse;
+import com.synapse.money.application.importer.ImportDateWindow;
+import com.synapse.money.application.importer.ImportDeduplicator;
+import com.synapse.money.application.importer.TransactionCsvReader;
+import com.synapse.money.application.importer.TransactionImportIterator;
+import com.synapse.money.application.importer.TransactionImportRowMapper;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.repository.ImportLookupRepository;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportTransactionsUseCase {
+
+    /** Imports bypass the change handlers, so every budget of the user is recounted. */
+    private static final YearMonth ALL_BUDGET_MONTHS = YearMonth.of(1970, 1);
+
+    private final UserRepository userRepository;
+    private final ImportLookupRepository importLookupRepository;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final MonthlyTotalsRepository monthlyTotalsRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final CategoryBudgetRepository categoryBudgetRepository;
+    private final TransactionCubeCache transactionCubeCache;
+    private final CashFlowForecastCache cashFlowForecastCache;
+    private final CategorizationEngine categorizationEngine;
+
+    @Transactional
+    public BulkImportResponse execute(
+            Long userId,
+            InputStream csv) {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+
+        long startedAt = System.nanoTime();
+        ImportLookup lookup = importLookupRepository.loadForUser(userId);
+        TransactionImportRowMapper mapper = new TransactionImportRowMapper(userId, lookup, categorizationEngine.forUser(userId));
+        Set<Long> affectedAccountIds = new HashSet<>();
+
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("transaction-import-", ".csv");
+            Files.copy(csv, spool, StandardCopyOption.REPLACE_EXISTING);
+            ImportDeduplicator deduplicator = new ImportDeduplicator(storedFingerprints(userId, spool));
+
+            try (TransactionCsvReader reader = new TransactionCsvReader(Files.newInputStream(spool))) {
+                long importedRows = transactionRepository.bulkInsert(
+                        new TransactionImportIterator(reader, mapper, deduplicator, affectedAccountIds)
+                );
+                int recomputedAccounts = accountRepository.recomputeCurrentBalances(affectedAccountIds);
+                balanceCheckpointRepository.rebuildForAccounts(affectedAccountIds);
+                monthlyTotalsRepository.rebuildForUser(userId);
+                categoryBudgetRepository.reconcileUser(userId, ALL_BUDGET_MONTHS);
+                transactionCubeCache.evictOnCompletion(List.of(userId));
+                cashFlowForecastCache.evictOnCompletion(userId);
+
+                return new BulkImportResponse(
+                        importedRows,
+                        deduplicator.skippedRows(),
+                        recomputedAccounts,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+                );
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteSpool(spool);
+        }
+    }
+
+    /**
+     * The upload is spooled to disk so the date window is known before the
+     * COPY starts: no other statement can run on the connection while it is
+     * in progress, and the file is too large to hold in memory.
+     */
+    private FingerprintSet storedFingerprints(
+            Long userId,
+            Path spool) throws IOException {
+        ImportDateWindow window;
+        try (TransactionCsvReader reader = new TransactionCsvReader(Files.newInputStream(spool))) {
+            window = ImportDateWindow.scan(reader);
+        }
+        return window == null
+                ? new FingerprintSet()
+                : transactionRepository.findImportFingerprints(userId, window.from(), window.to());
+    }
+
+    private static void deleteSpool(Path spool) {
+        if (spool == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(spool);
+        } catch (IOException e) {
+            log.warn("Could not delete import spool file {}", spool, e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.RowRateLimiter;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.PlatformStatisticsRepository;
+import com.synapse.money.domain.repository.PlatformTransactionConsumer;
+import com.synapse.money.domain.valueobject.PlatformStatisticsAccumulator;
+import com.synapse.money.domain.valueobject.UserIdRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Weekly platform statistics computed range by range. Each range is scanned
+ * on its own cursor and its partial totals are stored when it finishes; the
+ * week is only published once every range has a stored result, so a failed
+ * run picks up where it stopped.
+ */
+@Service
+@RequiredArgsConstructor
+public class ComputePlatformStatisticsUseCase {
+
+    static final int ROWS_PER_PERMIT = 1_000;
+
+    private final PlatformStatisticsRepository platformStatisticsRepository;
+
+    @Transactional(readOnly = true)
+    public boolean isComputed(LocalDate weekStart) {
+        return platformStatisticsRepository.existsWeek(weekStart);
+    }
+
+    @Transactional
+    public List<UserIdRange> prepare(
+            LocalDate weekStart,
+            int rangeCount) {
+        return platformStatisticsRepository.preparePendingRanges(weekStart, rangeCount);
+    }
+
+    public PlatformStatisticsAccumulator computeRange(
+            LocalDate weekStart,
+            UserIdRange range,
+            RowRateLimiter rateLimiter) {
+        PlatformStatisticsAccumulator accumulator = new PlatformStatisticsAccumulator();
+        platformStatisticsRepository.streamTransactions(
+                range,
+                weekStart,
+                weekStart.plusWeeks(1),
+                new ThrottledConsumer(accumulator, rateLimiter)
+        );
+        platformStatisticsRepository.addAccountBalances(range, accumulator);
+        platformStatisticsRepository.saveRange(weekStart, range, accumulator);
+        return accumulator;
+    }
+
+    @Transactional
+    public boolean complete(LocalDate weekStart) {
+        if (platformStatisticsRepository.countPendingRanges(weekStart) > 0) {
+            return false;
+        }
+        PlatformStatisticsAccumulator totals = new PlatformStatisticsAccumulator();
+        platformStatisticsRepository.findCompletedRanges(weekStart).forEach(totals::merge);
+        platformStatisticsRepository.saveWeek(weekStart, totals);
+        return true;
+    }
+
+    private static final class ThrottledConsumer implements PlatformTransactionConsumer {
+
+        private final PlatformStatisticsAccumulator accumulator;
+        private final RowRateLimiter rateLimiter;
+        private int rowsSincePermit;
+
+        private ThrottledConsumer(
+                PlatformStatisticsAccumulator accumulator,
+                RowRateLimiter rateLimiter) {
+            this.accumulator = accumulator;
+            this.rateLimiter = rateLimiter;
+        }
+
+        @Override
+        public void accept(
+                long userId,
+                ETransactionType type,
+                long amountMinorUnits,
+                Long categoryId) {
+            accumulator.addTransaction(userId, type, amountMinorUnits, categoryId);
+            if (++rowsSincePermit == ROWS_PER_PERMIT) {
+                rowsSincePermit = 0;
+                try {
+                    rateLimiter.acquire(ROWS_PER_PERMIT);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CancellationException("Interrupted while computing platform statistics");
+                }
+            }
+        }
+    }
+}
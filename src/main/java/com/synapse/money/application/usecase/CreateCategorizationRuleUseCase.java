@@ -0,0 +1,46 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.request.CategorizationRuleRequest;
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.application.mapper.CategorizationRuleResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidCategorizationRuleException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.KeywordAutomaton;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class CreateCategorizationRuleUseCase {
+
+    private final UserRepository userRepository;
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final CategorizationEngine categorizationEngine;
+    private final CategorizationRuleResponseMapper categorizationRuleResponseMapper;
+
+    public CategorizationRuleResponse execute(
+            String email,
+            CategorizationRuleRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        String pattern = request.pattern().trim();
+        if (KeywordAutomaton.normalize(pattern).isEmpty()) {
+            throw new InvalidCategorizationRuleException("Pattern must contain a letter or digit");
+        }
+
+        CategorizationRule rule = categorizationRuleRepository.save(
+                user.getId(),
+                pattern,
+                request.categoryId(),
+                request.subcategoryId()
+        ).orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+        categorizationEngine.evict(user.getId());
+        return categorizationRuleResponseMapper.toResponse(rule);
+    }
+}
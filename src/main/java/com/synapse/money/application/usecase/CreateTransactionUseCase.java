@@ -0,0 +1,101 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.mapper.TransactionRequestMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategoryAssignment;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class CreateTransactionUseCase {
+
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionReferenceRepository transactionReferenceRepository;
+    private final TransactionChangeDispatcher transactionChangeDispatcher;
+    private final RetryingTransactionExecutor transactionExecutor;
+    private final CategorizationEngine categorizationEngine;
+    private final TransactionRequestMapper transactionRequestMapper;
+    private final TransactionResponseMapper transactionResponseMapper;
+
+    public TransactionResponse execute(
+            String email,
+            TransactionRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        Transaction mapped = transactionRequestMapper.toDomain(user.getId(), request);
+        mapped.validate();
+        requireOwnedAccounts(user.getId(), mapped);
+        requireOwnedReferences(user.getId(), mapped);
+        Transaction transaction = categorize(mapped);
+
+        Transaction saved = transactionExecutor.execute(() -> {
+            Transaction inserted = transactionRepository.save(transaction);
+            transactionChangeDispatcher.dispatch(TransactionChange.created(inserted));
+            return inserted;
+        });
+        return transactionResponseMapper.toResponse(saved);
+    }
+
+    /**
+     * Fills in the category from the user's rules when none was given.
+     * Transfers stay uncategorized.
+     */
+    private Transaction categorize(Transaction transaction) {
+        if (transaction.getCategoryId() != null || transaction.isTransfer()) {
+            return transaction;
+        }
+        return categorizationEngine.forUser(transaction.getUserId())
+                .categorize(transaction.getDescription())
+                .map(assignment -> withCategory(transaction, assignment))
+                .orElse(transaction);
+    }
+
+    private static Transaction withCategory(
+            Transaction transaction,
+            CategoryAssignment assignment) {
+        return transaction.toBuilder()
+                .categoryId(assignment.categoryId())
+                .subcategoryId(assignment.subcategoryId())
+                .build();
+    }
+
+    private void requireOwnedAccounts(
+            Long userId,
+            Transaction transaction) {
+        var accountIds = Stream.of(transaction.getAccountId(), transaction.getTransferAccountId())
+                .filter(Objects::nonNull)
+                .toList();
+        if (!accountRepository.allOwnedBy(userId, accountIds)) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+    }
+
+    private void requireOwnedReferences(
+            Long userId,
+            Transaction transaction) {
+        if (!transactionReferenceRepository.findUnowned(userId, List.of(transaction)).isEmpty()) {
+            throw new ResourceNotFoundException("Category or credit card not found");
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.BatchTransactionItemResponse;
+import com.synapse.money.application.dto.response.BatchTransactionResponse;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.mapper.TransactionRequestMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidTransactionException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates many transactions in one database transaction. Every item is
+ * validated first and rejected items are reported by index; the rest are
+ * inserted in JDBC batches and go through the change handlers as one batch,
+ * so each account's balance is updated once.
+ */
+@Service
+public class CreateTransactionsBatchUseCase {
+
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionReferenceRepository transactionReferenceRepository;
+    private final TransactionChangeDispatcher transactionChangeDispatcher;
+    private final RetryingTransactionExecutor transactionExecutor;
+    private final CategorizationEngine categorizationEngine;
+    private final TransactionRequestMapper transactionRequestMapper;
+    private final TransactionResponseMapper transactionResponseMapper;
+    private final int batchSize;
+
+    public CreateTransactionsBatchUseCase(
+            UserRepository userRepository,
+            AccountRepository accountRepository,
+            TransactionRepository transactionRepository,
+            TransactionReferenceRepository transactionReferenceRepository,
+            TransactionChangeDispatcher transactionChangeDispatcher,
+            RetryingTransactionExecutor transactionExecutor,
+            CategorizationEngine categorizationEngine,
+            TransactionRequestMapper transactionRequestMapper,
+            TransactionResponseMapper transactionResponseMapper,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:20}") int batchSize) {
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.transactionReferenceRepository = transactionReferenceRepository;
+        this.transactionChangeDispatcher = transactionChangeDispatcher;
+        this.transactionExecutor = transactionExecutor;
+        this.categorizationEngine = categorizationEngine;
+        this.transactionRequestMapper = transactionRequestMapper;
+        this.transactionResponseMapper = transactionResponseMapper;
+        this.batchSize = batchSize;
+    }
+
+    public BatchTransactionResponse execute(
+            String email,
+            List<TransactionRequest> requests) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        BatchTransactionItemResponse[] items = new BatchTransactionItemResponse[requests.size()];
+        List<Integer> candidateIndexes = new ArrayList<>();
+        List<Transaction> candidates = new ArrayList<>();
+        Set<Long> accountIds = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                Transaction transaction = transactionRequestMapper.toDomain(user.getId(), requests.get(i));
+                transaction.validate();
+                candidateIndexes.add(i);
+                candidates.add(transaction);
+                accountIds.add(transaction.getAccountId());
+                if (transaction.getTransferAccountId() != null) {
+                    accountIds.add(transaction.getTransferAccountId());
+                }
+            } catch (InvalidTransactionException e) {
+                items[i] = new BatchTransactionItemResponse(i, null, e.getMessage());
+            }
+        }
+
+        Set<Long> ownedAccountIds = accountRepository.findOwnedIds(user.getId(), accountIds);
+        Set<Integer> unownedReferences = transactionReferenceRepository.findUnowned(user.getId(), candidates);
+        Categorizer categorizer = null;
+        List<Integer> indexes = new ArrayList<>();
+        List<Transaction> accepted = new ArrayList<>();
+        for (int candidate = 0; candidate < candidates.size(); candidate++) {
+            int i = candidateIndexes.get(candidate);
+            Transaction transaction = candidates.get(candidate);
+            if (!ownsAccounts(ownedAccountIds, transaction)) {
+                items[i] = new BatchTransactionItemResponse(i, null, "Account not found");
+                continue;
+            }
+            if (unownedReferences.contains(candidate)) {
+                items[i] = new BatchTransactionItemResponse(i, null, "Category or credit card not found");
+                continue;
+            }
+            if (transaction.getCategoryId() == null && !transaction.isTransfer()) {
+                if (categorizer == null) {
+                    categorizer = categorizationEngine.forUser(user.getId());
+                }
+                transaction = categorize(categorizer, transaction);
+            }
+            indexes.add(i);
+            accepted.add(transaction);
+        }
+
+        List<Transaction> saved = accepted.isEmpty() ? List.of() : transactionExecutor.execute(() -> {
+            List<Transaction> inserted = transactionRepository.saveAll(accepted, batchSize);
+            transactionChangeDispatcher.dispatchAll(inserted.stream().map(TransactionChange::created).toList());
+            return inserted;
+        });
+        for (int i = 0; i < saved.size(); i++) {
+            int index = indexes.get(i);
+            items[index] = new BatchTransactionItemResponse(index, transactionResponseMapper.toResponse(saved.get(i)), null);
+        }
+        return new BatchTransactionResponse(saved.size(), requests.size() - saved.size(), List.of(items));
+    }
+
+    private static boolean ownsAccounts(
+            Set<Long> ownedAccountIds,
+            Transaction transaction) {
+        return ownedAccountIds.contains(transaction.getAccountId())
+                && (transaction.getTransferAccountId() == null
+                || ownedAccountIds.contains(transaction.getTransferAccountId()));
+    }
+
+    private static Transaction categorize(
+            Categorizer categorizer,
+            Transaction transaction) {
+        return categorizer.categorize(transaction.getDescription())
+                .map(assignment -> transaction.toBuilder()
+                        .categoryId(assignment.categoryId())
+                        .subcategoryId(assignment.subcategoryId())
+                        .build())
+                .orElse(transaction);
+    }
+}
@@ -0,0 +1,45 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.WebhookEndpointRequest;
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.application.mapper.WebhookEndpointResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import com.synapse.money.domain.service.WebhookUrlVerifier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.HexFormat;
+
+@Service
+@RequiredArgsConstructor
+public class CreateWebhookEndpointUseCase {
+
+    private static final int SECRET_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final UserRepository userRepository;
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookEndpointResponseMapper webhookEndpointResponseMapper;
+    private final WebhookUrlVerifier webhookUrlVerifier;
+
+    public WebhookEndpointSecretResponse execute(
+            String email,
+            WebhookEndpointRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        webhookUrlVerifier.verify(request.url());
+
+        return webhookEndpointResponseMapper.toSecretResponse(
+                webhookEndpointRepository.save(user.getId(), request.url(), newSecret()));
+    }
+
+    static String newSecret() {
+        byte[] secret = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(secret);
+        return HexFormat.of().formatHex(secret);
+    }
+}
@@ -0,0 +1,43 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * Removes the metadata row first; once it is gone the content is
+ * unreachable, so a failed file delete only leaves an orphan behind.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeleteAttachmentUseCase {
+
+    private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStore attachmentStore;
+
+    public void execute(
+            String email,
+            Long transactionId,
+            Long id) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Attachment attachment = attachmentRepository.delete(id, user.getId(), transactionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found"));
+
+        try {
+            attachmentStore.delete(attachment.storageKey());
+        } catch (IOException e) {
+            log.warn("Could not delete attachment content {}", attachment.storageKey(), e);
+        }
+    }
+}
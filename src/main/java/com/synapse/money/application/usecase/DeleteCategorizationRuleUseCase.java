@@ -0,0 +1,30 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DeleteCategorizationRuleUseCase {
+
+    private final UserRepository userRepository;
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final CategorizationEngine categorizationEngine;
+
+    public void execute(
+            String email,
+            Long ruleId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (!categorizationRuleRepository.deleteByIdAndUserId(ruleId, user.getId())) {
+            throw new ResourceNotFoundException("Categorization rule not found");
+        }
+        categorizationEngine.evict(user.getId());
+    }
+}
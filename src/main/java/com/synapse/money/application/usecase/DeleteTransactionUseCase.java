@@ -0,0 +1,37 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class DeleteTransactionUseCase {
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionChangeDispatcher transactionChangeDispatcher;
+    private final RetryingTransactionExecutor transactionExecutor;
+
+    public void execute(
+            String email,
+            Long transactionId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        transactionExecutor.run(() -> {
+            Transaction transaction = transactionRepository.findByIdAndUserIdForUpdate(transactionId, user.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+
+            transactionRepository.delete(transaction);
+            transactionChangeDispatcher.dispatch(TransactionChange.deleted(transaction));
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Removes the endpoint together with its undelivered events.
+ */
+@Service
+@RequiredArgsConstructor
+public class DeleteWebhookEndpointUseCase {
+
+    private final UserRepository userRepository;
+    private final WebhookEndpointRepository webhookEndpointRepository;
+
+    public void execute(
+            String email,
+            Long endpointId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        if (!webhookEndpointRepository.deleteByIdAndUserId(endpointId, user.getId())) {
+            throw new ResourceNotFoundException("Webhook endpoint not found");
+        }
+    }
+}
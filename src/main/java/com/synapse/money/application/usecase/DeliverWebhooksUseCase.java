@@ -0,0 +1,114 @@
+package com.synapse.money.application.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.synapse.money.domain.exception.WebhookDeliveryException;
+import com.synapse.money.domain.repository.WebhookOutboxRepository;
+import com.synapse.money.domain.service.WebhookSender;
+import com.synapse.money.domain.valueobject.WebhookBatch;
+import com.synapse.money.domain.valueobject.WebhookDelivery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Delivers outbox rows to their endpoints. Each endpoint's events go out in
+ * outbox order, several per request; the first failed request stops the
+ * endpoint's batch, reschedules everything not yet delivered with
+ * exponential backoff and counts towards opening the endpoint's circuit.
+ */
+@Slf4j
+@Service
+public class DeliverWebhooksUseCase {
+
+    private final WebhookOutboxRepository webhookOutboxRepository;
+    private final WebhookSender webhookSender;
+    private final ObjectMapper objectMapper;
+    private final int maxEventsPerRequest;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final int circuitFailureThreshold;
+    private final Duration circuitOpenFor;
+
+    public DeliverWebhooksUseCase(
+            WebhookOutboxRepository webhookOutboxRepository,
+            WebhookSender webhookSender,
+            ObjectMapper objectMapper,
+            @Value("${synapse.webhooks.max-events-per-request:100}") int maxEventsPerRequest,
+            @Value("${synapse.webhooks.lease:2m}") Duration lease,
+            @Value("${synapse.webhooks.initial-backoff:10s}") Duration initialBackoff,
+            @Value("${synapse.webhooks.max-backoff:1h}") Duration maxBackoff,
+            @Value("${synapse.webhooks.max-attempts:12}") int maxAttempts,
+            @Value("${synapse.webhooks.circuit-failure-threshold:5}") int circuitFailureThreshold,
+            @Value("${synapse.webhooks.circuit-open-for:5m}") Duration circuitOpenFor) {
+        this.webhookOutboxRepository = webhookOutboxRepository;
+        this.webhookSender = webhookSender;
+        this.objectMapper = objectMapper;
+        this.maxEventsPerRequest = maxEventsPerRequest;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxAttempts = maxAttempts;
+        this.circuitFailureThreshold = circuitFailureThreshold;
+        this.circuitOpenFor = circuitOpenFor;
+    }
+
+    public List<WebhookBatch> claimDue(int limit) {
+        return WebhookBatch.groupByEndpoint(webhookOutboxRepository.claimDue(limit, lease), maxEventsPerRequest);
+    }
+
+    /**
+     * @return the number of events delivered
+     */
+    public int deliver(WebhookBatch batch) {
+        List<List<WebhookDelivery>> requests = batch.requests();
+        int delivered = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            List<WebhookDelivery> request = requests.get(i);
+            try {
+                webhookSender.send(batch.url(), batch.secret(), toBody(request));
+            } catch (WebhookDeliveryException e) {
+                log.warn("Webhook delivery to endpoint {} failed: {}", batch.endpointId(), e.getMessage());
+                List<Long> undelivered = requests.subList(i, requests.size()).stream()
+                        .flatMap(List::stream)
+                        .map(WebhookDelivery::id)
+                        .toList();
+                webhookOutboxRepository.markFailed(undelivered, initialBackoff, maxBackoff, maxAttempts);
+                webhookOutboxRepository.recordEndpointFailure(batch.endpointId(), circuitFailureThreshold, circuitOpenFor);
+                return delivered;
+            }
+            webhookOutboxRepository.markDelivered(request.stream().map(WebhookDelivery::id).toList());
+            delivered += request.size();
+        }
+        webhookOutboxRepository.recordEndpointSuccess(batch.endpointId());
+        return delivered;
+    }
+
+    /**
+     * Stored payloads are embedded as raw JSON, so they are not parsed again.
+     */
+    String toBody(List<WebhookDelivery> deliveries) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ArrayNode events = root.putArray("events");
+        for (WebhookDelivery delivery : deliveries) {
+            events.addObject()
+                    .put("id", delivery.id())
+                    .put("type", delivery.eventType())
+                    .putRawValue("data", new RawValue(delivery.payload()));
+        }
+        try {
+            return objectMapper.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.export.TransactionExport;
+import com.synapse.money.application.export.TransactionExportWriter;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EExportFormat;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class ExportTransactionsUseCase {
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+
+    public TransactionExport execute(
+            String email,
+            LocalDate from,
+            LocalDate to,
+            EExportFormat format) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("'from' must not be after 'to'");
+        }
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        String fileName = "transactions-" + from + "-" + to + "." + format.getFileExtension();
+        return new TransactionExport(format, fileName, out -> {
+            TransactionExportWriter writer = TransactionExportWriter.create(format, out);
+            transactionRepository.streamByUserAndDateRange(user.getId(), from, to, writer::write);
+            writer.finish();
+        });
+    }
+}
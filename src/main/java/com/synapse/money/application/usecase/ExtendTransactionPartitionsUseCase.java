@@ -0,0 +1,20 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.repository.TransactionPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+
+@Service
+@RequiredArgsConstructor
+public class ExtendTransactionPartitionsUseCase {
+
+    private final TransactionPartitionRepository transactionPartitionRepository;
+
+    @Transactional
+    public int execute(YearMonth through) {
+        return transactionPartitionRepository.createMonthlyPartitionsThrough(through);
+    }
+}
@@ -0,0 +1,77 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.tag.TransactionTagIndexCache;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidSearchQueryException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TaggedTransactionPage;
+import com.synapse.money.domain.valueobject.TransactionIdCursor;
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+import com.synapse.money.domain.valueobject.TransactionTagQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class FilterTransactionsByTagsUseCase {
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTagIndexCache transactionTagIndexCache;
+    private final TransactionResponseMapper transactionResponseMapper;
+
+    /**
+     * Resolves the filter on the user's cached tag index and reads only the
+     * page's transactions, newest id first.
+     */
+    @Transactional(readOnly = true)
+    public TransactionPageResponse execute(
+            String email,
+            List<String> all,
+            List<String> any,
+            List<String> none,
+            String cursor,
+            Integer limit) {
+        TransactionTagQuery query = new TransactionTagQuery(normalize(all), normalize(any), normalize(none));
+        if (!query.hasInclusions()) {
+            throw new InvalidSearchQueryException("Tag filter must include at least one tag in 'all' or 'any'");
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        int pageSize = limit == null
+                ? ListTransactionsUseCase.DEFAULT_PAGE_SIZE
+                : Math.clamp(limit, 1, ListTransactionsUseCase.MAX_PAGE_SIZE);
+        Long beforeId = cursor == null || cursor.isBlank() ? null : TransactionIdCursor.decode(cursor).id();
+
+        TransactionTagIndex index = transactionTagIndexCache.get(user.getId());
+        List<Long> ids = index.idsBefore(index.match(query), beforeId, pageSize + 1);
+        boolean hasMore = ids.size() > pageSize;
+        List<Long> pageIds = hasMore ? ids.subList(0, pageSize) : ids;
+
+        TaggedTransactionPage page = new TaggedTransactionPage(
+                transactionRepository.findByIds(user.getId(), pageIds),
+                hasMore ? new TransactionIdCursor(pageIds.getLast()) : null
+        );
+        return transactionResponseMapper.toTaggedPageResponse(page);
+    }
+
+    private static Set<String> normalize(List<String> tags) {
+        if (tags == null) {
+            return Set.of();
+        }
+        return tags.stream()
+                .filter(tag -> !tag.isBlank())
+                .map(SetTransactionTagsUseCase::normalize)
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,75 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.AccountBalanceResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Service
+@RequiredArgsConstructor
+public class GetAccountBalanceUseCase {
+
+    private final UserRepository userRepository;
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+    private final TransactionArchive transactionArchive;
+
+    @Transactional(readOnly = true)
+    public AccountBalanceResponse execute(
+            String email,
+            Long accountId,
+            LocalDate asOf) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        LocalDate date = asOf == null ? LocalDate.now() : asOf;
+        BigDecimal balance = balanceCheckpointRepository.findBalanceAsOf(user.getId(), accountId, date)
+                .orElseThrow(() -> new ResourceNotFoundException("Account not found"));
+
+        return new AccountBalanceResponse(accountId, date, balance.add(archivedEarlierInMonth(user.getId(), accountId, date)));
+    }
+
+    /**
+     * Checkpoints sit at month ends, and inside archived periods the rows
+     * between the last checkpoint and {@code date} are no longer in the
+     * table; their effect is read back from the archive.
+     */
+    private BigDecimal archivedEarlierInMonth(
+            Long userId,
+            Long accountId,
+            LocalDate date) {
+        if (date.getDayOfMonth() == date.lengthOfMonth()) {
+            return BigDecimal.ZERO;
+        }
+        long minorUnits = 0;
+        try {
+            TransactionRowCursor archived = transactionArchive.scan(userId, date.withDayOfMonth(1), date);
+            while (archived.next()) {
+                if (archived.accountId() == accountId) {
+                    minorUnits += archived.transactionType() == ETransactionType.INCOME
+                            ? archived.amountMinorUnits()
+                            : -archived.amountMinorUnits();
+                }
+                if (archived.transactionType() == ETransactionType.TRANSFER
+                        && accountId.equals(archived.transferAccountId())) {
+                    minorUnits += archived.amountMinorUnits();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return minorUnits == 0 ? BigDecimal.ZERO : Money.ofMinor(minorUnits).toBigDecimal();
+    }
+}
@@ -0,0 +1,39 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.attachment.AttachmentContent;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class GetAttachmentContentUseCase {
+
+    private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStore attachmentStore;
+
+    public AttachmentContent execute(
+            String email,
+            Long transactionId,
+            Long id) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        Attachment attachment = attachmentRepository.findById(id, user.getId(), transactionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment not found"));
+
+        return new AttachmentContent(
+                attachment.fileName(),
+                attachment.contentType(),
+                attachment.byteSize(),
+                attachment.sha256(),
+                attachmentStore.localFile(attachment.storageKey()).orElse(null),
+                (position, count, target) -> attachmentStore.transferTo(attachment.storageKey(), position, count, target)
+        );
+    }
+}
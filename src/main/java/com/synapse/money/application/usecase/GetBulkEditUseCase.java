@@ -0,0 +1,32 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.application.mapper.BulkEditResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetBulkEditUseCase {
+
+    private final UserRepository userRepository;
+    private final BulkEditRepository bulkEditRepository;
+    private final BulkEditResponseMapper bulkEditResponseMapper;
+
+    @Transactional(readOnly = true)
+    public BulkEditResponse execute(
+            String email,
+            Long id) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return bulkEditRepository.findByIdAndUserId(id, user.getId())
+                .map(bulkEditResponseMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Bulk edit not found"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.CashFlowForecastCache;
+import com.synapse.money.application.dto.response.ForecastPointResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.ForecastPoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetCashFlowForecastUseCase {
+
+    private final UserRepository userRepository;
+    private final CashFlowForecastCache cashFlowForecastCache;
+
+    /**
+     * Projected balances of one account, or of all the user's accounts when
+     * {@code accountId} is null.
+     */
+    @Transactional(readOnly = true)
+    public List<ForecastPointResponse> execute(
+            String email,
+            Long accountId,
+            EForecastGranularity granularity) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        List<ForecastPoint> points = cashFlowForecastCache.read(user.getId(), forecast ->
+                accountId == null || forecast.hasAccount(accountId) ? forecast.balances(accountId, granularity) : null);
+        if (points == null) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+        return points.stream()
+                .map(point -> new ForecastPointResponse(point.date(), point.balance().toBigDecimal()))
+                .toList();
+    }
+}
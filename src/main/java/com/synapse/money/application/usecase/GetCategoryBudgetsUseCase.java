@@ -0,0 +1,35 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.application.mapper.CategoryBudgetResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetCategoryBudgetsUseCase {
+
+    private final UserRepository userRepository;
+    private final CategoryBudgetRepository categoryBudgetRepository;
+    private final CategoryBudgetResponseMapper categoryBudgetResponseMapper;
+
+    @Transactional(readOnly = true)
+    public List<CategoryBudgetResponse> execute(
+            String email,
+            YearMonth month) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return categoryBudgetRepository.findByUserAndMonth(user.getId(), month).stream()
+                .map(categoryBudgetResponseMapper::toResponse)
+                .toList();
+    }
+}
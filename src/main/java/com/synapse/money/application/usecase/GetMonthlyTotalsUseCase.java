@@ -0,0 +1,45 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.MonthlyTotalResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetMonthlyTotalsUseCase {
+
+    private final UserRepository userRepository;
+    private final MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @Transactional(readOnly = true)
+    public List<MonthlyTotalResponse> execute(
+            String email,
+            YearMonth from,
+            YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new InvalidDateRangeException("'from' must not be after 'to'");
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return monthlyTotalsRepository.findByUserAndMonthRange(user.getId(), from, to).stream()
+                .map(total -> new MonthlyTotalResponse(
+                        total.month(),
+                        total.categoryId(),
+                        total.subcategoryId(),
+                        total.transactionType(),
+                        total.totalAmount(),
+                        total.transactionCount()
+                ))
+                .toList();
+    }
+}
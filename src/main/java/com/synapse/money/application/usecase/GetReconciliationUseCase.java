@@ -0,0 +1,38 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.application.mapper.ReconciliationResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.ReconciliationRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetReconciliationUseCase {
+
+    private final UserRepository userRepository;
+    private final ReconciliationRepository reconciliationRepository;
+    private final ReconciliationResponseMapper reconciliationResponseMapper;
+
+    @Transactional(readOnly = true)
+    public ReconciliationResponse execute(
+            String email,
+            Long accountId,
+            Long reconciliationId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        Reconciliation reconciliation = reconciliationRepository.findByIdAndUserId(reconciliationId, user.getId())
+                .filter(found -> found.accountId().equals(accountId))
+                .orElseThrow(() -> new ResourceNotFoundException("Reconciliation not found"));
+        return reconciliationResponseMapper.toResponse(
+                reconciliation,
+                reconciliationRepository.findUnmatchedItems(reconciliation.id())
+        );
+    }
+}
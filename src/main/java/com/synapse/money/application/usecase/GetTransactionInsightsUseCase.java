@@ -0,0 +1,44 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.TransactionCubeCache;
+import com.synapse.money.application.dto.response.InsightTotalResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionCubeQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GetTransactionInsightsUseCase {
+
+    private final UserRepository userRepository;
+    private final TransactionCubeCache transactionCubeCache;
+
+    @Transactional(readOnly = true)
+    public List<InsightTotalResponse> execute(
+            String email,
+            TransactionCubeQuery query) {
+        if (query.from().isAfter(query.to())) {
+            throw new InvalidDateRangeException("'from' must not be after 'to'");
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return transactionCubeCache.get(user.getId()).aggregate(query).stream()
+                .map(total -> new InsightTotalResponse(
+                        total.month(),
+                        total.categoryId(),
+                        total.accountId(),
+                        total.transactionType(),
+                        total.total().toBigDecimal(),
+                        total.transactionCount()
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionTagsResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class GetTransactionTagsUseCase {
+
+    private final UserRepository userRepository;
+    private final TransactionTagRepository transactionTagRepository;
+
+    @Transactional(readOnly = true)
+    public TransactionTagsResponse execute(
+            String email,
+            Long transactionId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return new TransactionTagsResponse(
+                transactionId,
+                transactionTagRepository.findByTransaction(user.getId(), transactionId)
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.application.mapper.AttachmentResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ListAttachmentsUseCase {
+
+    private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentResponseMapper attachmentResponseMapper;
+
+    @Transactional(readOnly = true)
+    public List<AttachmentResponse> execute(
+            String email,
+            Long transactionId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return attachmentRepository.findByTransaction(user.getId(), transactionId).stream()
+                .map(attachmentResponseMapper::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,30 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.application.mapper.CategorizationRuleResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ListCategorizationRulesUseCase {
+
+    private final UserRepository userRepository;
+    private final CategorizationRuleRepository categorizationRuleRepository;
+    private final CategorizationRuleResponseMapper categorizationRuleResponseMapper;
+
+    public List<CategorizationRuleResponse> execute(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return categorizationRuleRepository.findByUserId(user.getId()).stream()
+                .map(categorizationRuleResponseMapper::toResponse)
+                .toList();
+    }
+}
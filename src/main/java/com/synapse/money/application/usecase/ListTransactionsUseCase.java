@@ -0,0 +1,43 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionCursor;
+import com.synapse.money.domain.valueobject.TransactionPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ListTransactionsUseCase {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionResponseMapper transactionResponseMapper;
+
+    @Transactional(readOnly = true)
+    public TransactionPageResponse execute(
+            String email,
+            String cursor,
+            Integer limit) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        TransactionCursor after = cursor == null || cursor.isBlank() ? null : TransactionCursor.decode(cursor);
+
+        TransactionPage page = TransactionPage.of(
+                transactionRepository.findPageByUser(user.getId(), after, pageSize + 1),
+                pageSize
+        );
+        return transactionResponseMapper.toPageResponse(page);
+    }
+}
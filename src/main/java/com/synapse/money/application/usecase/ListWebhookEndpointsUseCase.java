@@ -0,0 +1,30 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.WebhookEndpointResponse;
+import com.synapse.money.application.mapper.WebhookEndpointResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class ListWebhookEndpointsUseCase {
+
+    private final UserRepository userRepository;
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookEndpointResponseMapper webhookEndpointResponseMapper;
+
+    public List<WebhookEndpointResponse> execute(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return webhookEndpointRepository.findByUserId(user.getId()).stream()
+                .map(webhookEndpointResponseMapper::toResponse)
+                .toList();
+    }
+}
@@ -0,0 +1,66 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.RecurringTransactionRepository;
+import com.synapse.money.domain.valueobject.MaterializationBatch;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Expands recurring templates into concrete transactions one batch per
+ * database transaction. Inserted occurrences go through the change handlers
+ * as a single batch, so balances and aggregates are adjusted once per
+ * account and bucket rather than once per row.
+ */
+@Service
+@RequiredArgsConstructor
+public class MaterializeRecurringTransactionsUseCase {
+
+    private final RecurringTransactionRepository recurringTransactionRepository;
+    private final TransactionChangeDispatcher transactionChangeDispatcher;
+    private final RetryingTransactionExecutor transactionExecutor;
+
+    public long materializeSlice(
+            int slice,
+            int sliceCount,
+            LocalDate horizon,
+            int batchSize) {
+        long inserted = 0;
+        long afterId = 0;
+        MaterializationBatch batch;
+        do {
+            batch = materializeBatch(slice, sliceCount, afterId, horizon, batchSize);
+            inserted += batch.insertedOccurrences();
+            afterId = batch.lastTemplateId();
+        } while (batch.claimedTemplates() == batchSize);
+        return inserted;
+    }
+
+    public MaterializationBatch materializeBatch(
+            int slice,
+            int sliceCount,
+            long afterId,
+            LocalDate horizon,
+            int batchSize) {
+        return transactionExecutor.execute(() -> {
+            List<Long> templateIds = recurringTransactionRepository.claimDueTemplates(
+                    slice, sliceCount, afterId, horizon, batchSize);
+            if (templateIds.isEmpty()) {
+                return MaterializationBatch.empty(afterId);
+            }
+            List<Transaction> occurrences = recurringTransactionRepository.materialize(templateIds, horizon);
+            transactionChangeDispatcher.dispatchAll(occurrences.stream().map(TransactionChange::created).toList());
+            return new MaterializationBatch(
+                    templateIds.size(),
+                    templateIds.get(templateIds.size() - 1),
+                    occurrences.size()
+            );
+        });
+    }
+}
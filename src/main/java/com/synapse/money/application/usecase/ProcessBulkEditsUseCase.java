@@ -0,0 +1,131 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.CategoryAssignment;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Runs bulk edits one chunk per database transaction. A chunk locks its
+ * rows, rewrites their categories, sends the edits through the change
+ * handlers as one batch and moves the resume point, all in that
+ * transaction; row locks are held for one chunk only, so the user's own
+ * writes wait at most that long.
+ */
+@Service
+public class ProcessBulkEditsUseCase {
+
+    private final BulkEditRepository bulkEditRepository;
+    private final TransactionChangeDispatcher transactionChangeDispatcher;
+    private final RetryingTransactionExecutor transactionExecutor;
+    private final CategorizationEngine categorizationEngine;
+    private final Duration lease;
+
+    public ProcessBulkEditsUseCase(
+            BulkEditRepository bulkEditRepository,
+            TransactionChangeDispatcher transactionChangeDispatcher,
+            RetryingTransactionExecutor transactionExecutor,
+            CategorizationEngine categorizationEngine,
+            @Value("${synapse.bulk-edits.lease:5m}") Duration lease) {
+        this.bulkEditRepository = bulkEditRepository;
+        this.transactionChangeDispatcher = transactionChangeDispatcher;
+        this.transactionExecutor = transactionExecutor;
+        this.categorizationEngine = categorizationEngine;
+        this.lease = lease;
+    }
+
+    public Optional<BulkEdit> claimNext() {
+        return bulkEditRepository.claimNext(lease);
+    }
+
+    /**
+     * Processes the next chunk and renews the lease. A chunk shorter than
+     * {@code chunkSize} is the last one: a merge then deletes its source
+     * category and the edit completes. A merge whose source gained rows in
+     * the meantime keeps running and picks them up with the next chunk.
+     *
+     * @return the edit afterwards; no longer running once it is done
+     */
+    public BulkEdit processChunk(
+            Long id,
+            int chunkSize) {
+        return transactionExecutor.execute(() -> {
+            BulkEdit edit = bulkEditRepository.findByIdForUpdate(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Bulk edit not found"));
+            if (edit.status() != EBulkEditStatus.RUNNING) {
+                return edit;
+            }
+            List<Transaction> chunk = bulkEditRepository.findChunkForUpdate(edit, chunkSize);
+            List<TransactionChange> changes = changesFor(edit, chunk);
+            bulkEditRepository.updateCategories(changes.stream().map(TransactionChange::after).toList());
+            transactionChangeDispatcher.dispatchAll(changes);
+
+            long lastTransactionId = chunk.isEmpty()
+                    ? edit.lastTransactionId()
+                    : Math.max(edit.lastTransactionId(), chunk.getLast().getId());
+            if (chunk.size() == chunkSize) {
+                return bulkEditRepository.advance(id, lastTransactionId, chunk.size(), changes.size(), lease);
+            }
+            if (edit.kind() == EBulkEditKind.MERGE_CATEGORY) {
+                if (!bulkEditRepository.mergeCategory(edit.userId(), edit.sourceCategoryId(), edit.targetCategoryId())) {
+                    return bulkEditRepository.advance(id, lastTransactionId, chunk.size(), changes.size(), lease);
+                }
+                categorizationEngine.evict(edit.userId());
+            }
+            return bulkEditRepository.complete(id, lastTransactionId, chunk.size(), changes.size());
+        });
+    }
+
+    public void fail(
+            Long id,
+            String error) {
+        bulkEditRepository.fail(id, error);
+    }
+
+    private List<TransactionChange> changesFor(
+            BulkEdit edit,
+            List<Transaction> chunk) {
+        Categorizer categorizer = edit.kind() == EBulkEditKind.RECATEGORIZE
+                ? categorizationEngine.forUser(edit.userId())
+                : null;
+        LocalDateTime now = LocalDateTime.now();
+        List<TransactionChange> changes = new ArrayList<>();
+        for (Transaction before : chunk) {
+            CategoryAssignment assignment = switch (edit.kind()) {
+                case MERGE_CATEGORY -> new CategoryAssignment(edit.targetCategoryId(), null);
+                // Transfers stay uncategorized, as on creation.
+                case RECATEGORIZE -> before.isTransfer()
+                        ? null
+                        : categorizer.categorize(before.getDescription()).orElse(null);
+            };
+            if (assignment == null
+                    || Objects.equals(assignment.categoryId(), before.getCategoryId())
+                    && Objects.equals(assignment.subcategoryId(), before.getSubcategoryId())) {
+                continue;
+            }
+            changes.add(TransactionChange.updated(before, before.toBuilder()
+                    .categoryId(assignment.categoryId())
+                    .subcategoryId(assignment.subcategoryId())
+                    .updatedAt(now)
+                    .build()));
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,18 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RebuildBalanceCheckpointsUseCase {
+
+    private final BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Transactional
+    public int execute(Long userId) {
+        return balanceCheckpointRepository.rebuildForUser(userId);
+    }
+}
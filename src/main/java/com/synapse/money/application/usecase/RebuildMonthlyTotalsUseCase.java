@@ -0,0 +1,24 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class RebuildMonthlyTotalsUseCase {
+
+    private final UserRepository userRepository;
+    private final MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @Transactional
+    public int execute(Long userId) {
+        if (userRepository.findById(userId).isEmpty()) {
+            throw new ResourceNotFoundException("User not found: " + userId);
+        }
+        return monthlyTotalsRepository.rebuildForUser(userId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+
+/**
+ * Re-derives budget consumption from transactions one user per database
+ * transaction, so the row locks it takes are short-lived and a deadlock
+ * with a concurrent expense only retries that user.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconcileCategoryBudgetsUseCase {
+
+    private final CategoryBudgetRepository categoryBudgetRepository;
+    private final RetryingTransactionExecutor transactionExecutor;
+
+    public int execute(YearMonth from) {
+        int corrected = 0;
+        for (Long userId : categoryBudgetRepository.findUserIdsWithBudgetsSince(from)) {
+            corrected += transactionExecutor.execute(() -> categoryBudgetRepository.reconcileUser(userId, from));
+        }
+        return corrected;
+    }
+}
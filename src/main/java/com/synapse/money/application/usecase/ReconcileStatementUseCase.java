@@ -0,0 +1,143 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.StatementLineRequest;
+import com.synapse.money.application.dto.request.StatementReconciliationRequest;
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.application.mapper.ReconciliationResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.ReconciliationRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.LedgerEntry;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import com.synapse.money.domain.valueobject.StatementLine;
+import com.synapse.money.domain.valueobject.StatementReconciler;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reconciles a bank statement against one account. The ledger side is read
+ * over the statement's period widened by the date tolerance, so lines near
+ * the edges can still match; unmatched transactions from that margin belong
+ * to the neighbouring statements and are not reported as extra.
+ */
+@Service
+public class ReconcileStatementUseCase {
+
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final ReconciliationRepository reconciliationRepository;
+    private final ReconciliationResponseMapper reconciliationResponseMapper;
+    private final int defaultDateToleranceDays;
+
+    public ReconcileStatementUseCase(
+            UserRepository userRepository,
+            AccountRepository accountRepository,
+            TransactionRepository transactionRepository,
+            ReconciliationRepository reconciliationRepository,
+            ReconciliationResponseMapper reconciliationResponseMapper,
+            @Value("${synapse.reconciliation.date-tolerance-days:3}") int defaultDateToleranceDays) {
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+        this.transactionRepository = transactionRepository;
+        this.reconciliationRepository = reconciliationRepository;
+        this.reconciliationResponseMapper = reconciliationResponseMapper;
+        this.defaultDateToleranceDays = defaultDateToleranceDays;
+    }
+
+    @Transactional
+    public ReconciliationResponse execute(
+            String email,
+            Long accountId,
+            StatementReconciliationRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (!accountRepository.allOwnedBy(user.getId(), List.of(accountId))) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+
+        int tolerance = request.dateToleranceDays() == null ? defaultDateToleranceDays : request.dateToleranceDays();
+        List<StatementLine> statement = new ArrayList<>(request.lines().size());
+        LocalDate periodStart = LocalDate.MAX;
+        LocalDate periodEnd = LocalDate.MIN;
+        for (StatementLineRequest line : request.lines()) {
+            statement.add(new StatementLine(line.date(), Money.of(line.amount()).minorUnits(), line.description()));
+            periodStart = line.date().isBefore(periodStart) ? line.date() : periodStart;
+            periodEnd = line.date().isAfter(periodEnd) ? line.date() : periodEnd;
+        }
+
+        List<LedgerEntry> ledger = ledgerOf(user.getId(), accountId, periodStart.minusDays(tolerance), periodEnd.plusDays(tolerance));
+        List<ReconciliationItem> items = new ArrayList<>(ledger.size() + statement.size());
+        int matched = 0;
+        int missing = 0;
+        int extra = 0;
+        for (ReconciliationItem item : StatementReconciler.reconcile(statement, ledger, tolerance)) {
+            switch (item.status()) {
+                case MATCHED -> matched++;
+                case MISSING -> missing++;
+                case EXTRA -> {
+                    if (item.ledgerDate().isBefore(periodStart) || item.ledgerDate().isAfter(periodEnd)) {
+                        continue;
+                    }
+                    extra++;
+                }
+            }
+            items.add(item);
+        }
+
+        Reconciliation reconciliation = reconciliationRepository.save(
+                user.getId(),
+                new Reconciliation(null, accountId, periodStart, periodEnd, tolerance, matched, missing, extra, null),
+                items
+        );
+        return reconciliationResponseMapper.toResponse(reconciliation, items);
+    }
+
+    /**
+     * The account's transactions signed by their effect on it: income and
+     * incoming transfers add, expenses and outgoing transfers subtract.
+     */
+    private List<LedgerEntry> ledgerOf(
+            Long userId,
+            Long accountId,
+            LocalDate from,
+            LocalDate to) {
+        List<LedgerEntry> ledger = new ArrayList<>();
+        try {
+            transactionRepository.streamByUserAndDateRange(userId, from, to, row -> {
+                if (row.accountId() == accountId) {
+                    long amount = row.transactionType() == ETransactionType.INCOME
+                            ? row.amountMinorUnits()
+                            : -row.amountMinorUnits();
+                    ledger.add(entryOf(row, amount));
+                } else if (row.transactionType() == ETransactionType.TRANSFER
+                        && accountId.equals(row.transferAccountId())) {
+                    ledger.add(entryOf(row, row.amountMinorUnits()));
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ledger;
+    }
+
+    private static LedgerEntry entryOf(
+            TransactionRow row,
+            long amountMinorUnits) {
+        return new LedgerEntry(row.id(), row.transactionDate(), amountMinorUnits, row.description());
+    }
+}
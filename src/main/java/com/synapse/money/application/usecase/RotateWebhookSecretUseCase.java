@@ -0,0 +1,35 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.application.mapper.WebhookEndpointResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Replaces the endpoint's signing secret. Pending events are signed with the
+ * new secret from their next delivery attempt on.
+ */
+@Service
+@RequiredArgsConstructor
+public class RotateWebhookSecretUseCase {
+
+    private final UserRepository userRepository;
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookEndpointResponseMapper webhookEndpointResponseMapper;
+
+    public WebhookEndpointSecretResponse execute(
+            String email,
+            Long endpointId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return webhookEndpointRepository
+                .updateSecret(endpointId, user.getId(), CreateWebhookEndpointUseCase.newSecret())
+                .map(webhookEndpointResponseMapper::toSecretResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Webhook endpoint not found"));
+    }
+}
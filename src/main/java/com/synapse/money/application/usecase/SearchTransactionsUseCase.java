@@ -0,0 +1,56 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidSearchQueryException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionSearchCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SearchTransactionsUseCase {
+
+    /**
+     * Trigram indexes cannot serve patterns shorter than one trigram, so
+     * shorter queries would fall back to scanning every row of the user.
+     */
+    public static final int MIN_QUERY_LENGTH = 3;
+    public static final int MAX_QUERY_LENGTH = 100;
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionResponseMapper transactionResponseMapper;
+
+    @Transactional(readOnly = true)
+    public TransactionPageResponse execute(
+            String email,
+            String query,
+            String cursor,
+            Integer limit) {
+        String normalized = query == null ? "" : query.strip();
+        if (normalized.length() < MIN_QUERY_LENGTH || normalized.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidSearchQueryException(
+                    "Search query must be between %d and %d characters".formatted(MIN_QUERY_LENGTH, MAX_QUERY_LENGTH));
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        int pageSize = limit == null
+                ? ListTransactionsUseCase.DEFAULT_PAGE_SIZE
+                : Math.clamp(limit, 1, ListTransactionsUseCase.MAX_PAGE_SIZE);
+        TransactionSearchCursor after = cursor == null || cursor.isBlank() ? null : TransactionSearchCursor.decode(cursor);
+
+        TransactionSearchPage page = TransactionSearchPage.of(
+                transactionRepository.searchByUser(user.getId(), normalized, after, pageSize + 1),
+                pageSize
+        );
+        return transactionResponseMapper.toSearchPageResponse(page);
+    }
+}
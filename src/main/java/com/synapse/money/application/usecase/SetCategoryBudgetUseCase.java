@@ -0,0 +1,38 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.CategoryBudgetRequest;
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.application.mapper.CategoryBudgetResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class SetCategoryBudgetUseCase {
+
+    private final UserRepository userRepository;
+    private final CategoryBudgetRepository categoryBudgetRepository;
+    private final CategoryBudgetResponseMapper categoryBudgetResponseMapper;
+
+    @Transactional
+    public CategoryBudgetResponse execute(
+            String email,
+            CategoryBudgetRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        CategoryBudget budget = categoryBudgetRepository.upsert(
+                user.getId(),
+                request.categoryId(),
+                request.month(),
+                request.limitAmount()
+        ).orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+        return categoryBudgetResponseMapper.toResponse(budget);
+    }
+}
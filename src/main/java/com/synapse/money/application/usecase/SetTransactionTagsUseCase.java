@@ -0,0 +1,63 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.TransactionTagsRequest;
+import com.synapse.money.application.dto.response.TransactionTagsResponse;
+import com.synapse.money.application.tag.TransactionTagIndexCache;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+@Service
+@RequiredArgsConstructor
+public class SetTransactionTagsUseCase {
+
+    private final UserRepository userRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionTagRepository transactionTagRepository;
+    private final TransactionTagIndexCache transactionTagIndexCache;
+    private final RetryingTransactionExecutor transactionExecutor;
+
+    /**
+     * Replaces the transaction's tags. The transaction row stays locked until
+     * commit, so a concurrent delete cannot leave tags behind.
+     */
+    public TransactionTagsResponse execute(
+            String email,
+            Long transactionId,
+            TransactionTagsRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        TreeSet<String> tags = new TreeSet<>();
+        for (String tag : request.tags()) {
+            tags.add(normalize(tag));
+        }
+        transactionExecutor.run(() -> {
+            transactionRepository.findByIdAndUserIdForUpdate(transactionId, user.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+            transactionTagRepository.replace(user.getId(), transactionId, tags);
+            transactionTagIndexCache.evictOnCompletion(List.of(user.getId()));
+        });
+        return new TransactionTagsResponse(transactionId, List.copyOf(tags));
+    }
+
+    /**
+     * Tags compare without their leading '#' and case-insensitively.
+     */
+    public static String normalize(String tag) {
+        String stripped = tag.strip();
+        if (stripped.startsWith("#")) {
+            stripped = stripped.substring(1);
+        }
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+}
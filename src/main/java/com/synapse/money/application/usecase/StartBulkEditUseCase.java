@@ -0,0 +1,56 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.BulkEditRequest;
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.application.mapper.BulkEditResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.exception.BulkEditInProgressException;
+import com.synapse.money.domain.exception.InvalidBulkEditException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Queues a bulk edit; the rows are rewritten in the background. A user has
+ * at most one edit pending or running at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class StartBulkEditUseCase {
+
+    private final UserRepository userRepository;
+    private final BulkEditRepository bulkEditRepository;
+    private final BulkEditResponseMapper bulkEditResponseMapper;
+
+    @Transactional
+    public BulkEditResponse execute(
+            String email,
+            BulkEditRequest request) {
+        if (request.kind() == EBulkEditKind.MERGE_CATEGORY) {
+            if (request.sourceCategoryId() == null || request.targetCategoryId() == null) {
+                throw new InvalidBulkEditException("A merge needs a source and a target category");
+            }
+            if (request.sourceCategoryId().equals(request.targetCategoryId())) {
+                throw new InvalidBulkEditException("A category cannot be merged into itself");
+            }
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (bulkEditRepository.existsActiveByUserId(user.getId())) {
+            throw new BulkEditInProgressException("Another bulk edit is still in progress");
+        }
+
+        BulkEdit edit = bulkEditRepository.create(
+                user.getId(),
+                request.kind(),
+                request.sourceCategoryId(),
+                request.targetCategoryId()
+        ).orElseThrow(() -> new ResourceNotFoundException("Category not found"));
+        return bulkEditResponseMapper.toResponse(edit);
+    }
+}
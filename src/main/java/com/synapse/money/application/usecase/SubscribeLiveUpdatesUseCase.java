@@ -0,0 +1,27 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.live.LiveUpdateHub;
+import com.synapse.money.application.live.LiveUpdateSink;
+import com.synapse.money.application.live.LiveUpdateSubscription;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class SubscribeLiveUpdatesUseCase {
+
+    private final UserRepository userRepository;
+    private final LiveUpdateHub liveUpdateHub;
+
+    public LiveUpdateSubscription execute(
+            String email,
+            LiveUpdateSink sink) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        return liveUpdateHub.subscribe(user.getId(), sink);
+    }
+}
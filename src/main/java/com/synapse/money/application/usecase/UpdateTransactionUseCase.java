@@ -0,0 +1,78 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.mapper.TransactionRequestMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class UpdateTransactionUseCase {
+
+    private final UserRepository userRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionReferenceRepository transactionReferenceRepository;
+    private final TransactionChangeDispatcher transactionChangeDispatcher;
+    private final RetryingTransactionExecutor transactionExecutor;
+    private final TransactionRequestMapper transactionRequestMapper;
+    private final TransactionResponseMapper transactionResponseMapper;
+
+    public TransactionResponse execute(
+            String email,
+            Long transactionId,
+            TransactionRequest request) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        Transaction changes = transactionRequestMapper.toDomain(user.getId(), request);
+        changes.validate();
+        requireOwnedAccounts(user.getId(), changes);
+        requireOwnedReferences(user.getId(), changes);
+
+        Transaction after = transactionExecutor.execute(() -> {
+            Transaction before = transactionRepository.findByIdAndUserIdForUpdate(transactionId, user.getId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+            Transaction updated = transactionRepository.update(before, changes.toBuilder().id(before.getId()).build());
+
+            transactionChangeDispatcher.dispatch(TransactionChange.updated(before, updated));
+            return updated;
+        });
+        return transactionResponseMapper.toResponse(after);
+    }
+
+    private void requireOwnedAccounts(
+            Long userId,
+            Transaction transaction) {
+        var accountIds = Stream.of(transaction.getAccountId(), transaction.getTransferAccountId())
+                .filter(Objects::nonNull)
+                .toList();
+        if (!accountRepository.allOwnedBy(userId, accountIds)) {
+            throw new ResourceNotFoundException("Account not found");
+        }
+    }
+
+    private void requireOwnedReferences(
+            Long userId,
+            Transaction transaction) {
+        if (!transactionReferenceRepository.findUnowned(userId, List.of(transaction)).isEmpty()) {
+            throw new ResourceNotFoundException("Category or credit card not found");
+        }
+    }
+}
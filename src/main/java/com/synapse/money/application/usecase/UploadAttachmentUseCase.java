@@ -0,0 +1,122 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.application.mapper.AttachmentResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidAttachmentException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Streams the upload into the attachment store before any database work,
+ * so no connection is held while the client sends the body. The metadata
+ * row is inserted through the user's transaction; when that yields nothing
+ * the stored content is removed again.
+ */
+@Slf4j
+@Service
+public class UploadAttachmentUseCase {
+
+    static final String DEFAULT_FILE_NAME = "attachment";
+    static final int MAX_FILE_NAME_LENGTH = 255;
+
+    private final UserRepository userRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentStore attachmentStore;
+    private final AttachmentResponseMapper attachmentResponseMapper;
+    private final long maxBytes;
+    private final List<String> allowedContentTypes;
+
+    public UploadAttachmentUseCase(
+            UserRepository userRepository,
+            AttachmentRepository attachmentRepository,
+            AttachmentStore attachmentStore,
+            AttachmentResponseMapper attachmentResponseMapper,
+            @Value("${synapse.attachments.max-size:10MB}") DataSize maxSize,
+            @Value("${synapse.attachments.allowed-content-types:image/jpeg,image/png,image/heic,application/pdf}")
+            List<String> allowedContentTypes) {
+        this.userRepository = userRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.attachmentStore = attachmentStore;
+        this.attachmentResponseMapper = attachmentResponseMapper;
+        this.maxBytes = maxSize.toBytes();
+        this.allowedContentTypes = allowedContentTypes.stream().map(type -> type.trim().toLowerCase(Locale.ROOT)).toList();
+    }
+
+    public AttachmentResponse execute(
+            String email,
+            Long transactionId,
+            String fileName,
+            String contentType,
+            InputStream content) {
+        String mediaType = mediaTypeOf(contentType);
+        if (!allowedContentTypes.contains(mediaType)) {
+            throw new InvalidAttachmentException("Content type must be one of " + String.join(", ", allowedContentTypes));
+        }
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        AttachmentBlob blob;
+        try {
+            blob = attachmentStore.write(user.getId(), content, maxBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Attachment attachment;
+        try {
+            attachment = attachmentRepository.create(user.getId(), transactionId, sanitize(fileName), mediaType, blob)
+                    .orElseThrow(() -> new ResourceNotFoundException("Transaction not found"));
+        } catch (RuntimeException e) {
+            discard(blob);
+            throw e;
+        }
+        return attachmentResponseMapper.toResponse(attachment);
+    }
+
+    private static String mediaTypeOf(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        int parameters = contentType.indexOf(';');
+        return (parameters < 0 ? contentType : contentType.substring(0, parameters)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Keeps only the last path segment of the client's name and drops
+     * control characters, so the name is safe to echo in a download header.
+     */
+    static String sanitize(String fileName) {
+        if (fileName == null) {
+            return DEFAULT_FILE_NAME;
+        }
+        String name = fileName.substring(Math.max(fileName.lastIndexOf('/'), fileName.lastIndexOf('\\')) + 1)
+                .replaceAll("\\p{Cntrl}", "")
+                .strip();
+        if (name.isEmpty()) {
+            return DEFAULT_FILE_NAME;
+        }
+        return name.length() > MAX_FILE_NAME_LENGTH ? name.substring(0, MAX_FILE_NAME_LENGTH) : name;
+    }
+
+    private void discard(AttachmentBlob blob) {
+        try {
+            attachmentStore.delete(blob.storageKey());
+        } catch (IOException e) {
+            log.warn("Could not delete orphaned attachment {}", blob.storageKey(), e);
+        }
+    }
+}
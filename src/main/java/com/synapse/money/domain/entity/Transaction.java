@@ -0,0 +1,84 @@
+package com.synapse.money.domain.entity;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidTransactionException;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class Transaction {
+    private Long id;
+    private Long userId;
+    private Long accountId;
+    private Long categoryId;
+    private Long subcategoryId;
+    private Long creditCardId;
+    private Long transferAccountId;
+    private BigDecimal amount;
+    private String description;
+    private LocalDate transactionDate;
+    private ETransactionType transactionType;
+    private boolean isRecurring;
+    /** Set on occurrences generated from a recurring template: the template's id. */
+    private Long recurringSourceId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    /** Set on imported rows only; see {@link com.synapse.money.domain.valueobject.TransactionFingerprint}. */
+    private Long importFingerprint;
+
+    public boolean isTransfer() {
+        return transactionType == ETransactionType.TRANSFER;
+    }
+
+    /**
+     * Signed effect of this transaction on the balance of the given account:
+     * income credits {@code accountId}, expenses debit it and transfers move
+     * the amount from {@code accountId} to {@code transferAccountId}.
+     */
+    public BigDecimal balanceDeltaFor(Long targetAccountId) {
+        BigDecimal delta = BigDecimal.ZERO;
+        if (Objects.equals(accountId, targetAccountId)) {
+            delta = transactionType == ETransactionType.INCOME ? amount : amount.negate();
+        }
+        if (isTransfer() && Objects.equals(transferAccountId, targetAccountId)) {
+            delta = delta.add(amount);
+        }
+        return delta;
+    }
+
+    public void validate() {
+        if (!isValidAmount(amount)) {
+            throw new InvalidTransactionException("Amount must be positive with at most 2 decimal places");
+        }
+        if (subcategoryId != null && categoryId == null) {
+            throw new InvalidTransactionException("Subcategory requires a category");
+        }
+        if (isTransfer()) {
+            if (transferAccountId == null) {
+                throw new InvalidTransactionException("Transfer requires a destination account");
+            }
+            if (transferAccountId.equals(accountId)) {
+                throw new InvalidTransactionException("Transfer destination must differ from the source account");
+            }
+        } else if (transferAccountId != null) {
+            throw new InvalidTransactionException("Only transfers can have a destination account");
+        }
+    }
+
+    public static boolean isValidAmount(BigDecimal amount) {
+        return amount != null
+                && amount.signum() > 0
+                && amount.stripTrailingZeros().scale() <= 2
+                && amount.precision() - amount.scale() <= 10;
+    }
+}
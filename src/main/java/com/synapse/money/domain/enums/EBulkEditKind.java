@@ -0,0 +1,34 @@
+package com.synapse.money.domain.enums;
+
+/**
+ * What a bulk edit does to the user's transactions. {@code MERGE_CATEGORY}
+ * moves every transaction of the source category to the target and then
+ * deletes the source; {@code RECATEGORIZE} re-applies the user's
+ * categorization rules to every transaction they match.
+ */
+public enum EBulkEditKind {
+    MERGE_CATEGORY("merge_category"),
+    RECATEGORIZE("recategorize");
+
+    private final String description;
+
+    EBulkEditKind(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static EBulkEditKind fromDescription(String description) {
+        if (description == null) {
+            throw new IllegalArgumentException("Bulk edit kind cannot be null");
+        }
+        for (EBulkEditKind kind : values()) {
+            if (kind.description.equalsIgnoreCase(description.trim())) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("Unknown bulk edit kind: " + description);
+    }
+}
@@ -0,0 +1,30 @@
+package com.synapse.money.domain.enums;
+
+public enum EBulkEditStatus {
+    PENDING("pending"),
+    RUNNING("running"),
+    COMPLETED("completed"),
+    FAILED("failed");
+
+    private final String description;
+
+    EBulkEditStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static EBulkEditStatus fromDescription(String description) {
+        if (description == null) {
+            throw new IllegalArgumentException("Bulk edit status cannot be null");
+        }
+        for (EBulkEditStatus status : values()) {
+            if (status.description.equalsIgnoreCase(description.trim())) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown bulk edit status: " + description);
+    }
+}
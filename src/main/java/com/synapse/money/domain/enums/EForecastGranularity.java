@@ -0,0 +1,6 @@
+package com.synapse.money.domain.enums;
+
+public enum EForecastGranularity {
+    DAY,
+    MONTH
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.enums;
+
+public enum EInsightDimension {
+    MONTH,
+    CATEGORY,
+    ACCOUNT,
+    TYPE
+}
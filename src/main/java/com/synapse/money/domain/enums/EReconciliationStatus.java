@@ -0,0 +1,34 @@
+package com.synapse.money.domain.enums;
+
+/**
+ * Outcome of one line of a statement reconciliation. {@code MISSING} lines
+ * are on the statement but not in the ledger; {@code EXTRA} transactions are
+ * in the ledger but not on the statement.
+ */
+public enum EReconciliationStatus {
+    MATCHED("matched"),
+    MISSING("missing"),
+    EXTRA("extra");
+
+    private final String description;
+
+    EReconciliationStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public static EReconciliationStatus fromDescription(String description) {
+        if (description == null) {
+            throw new IllegalArgumentException("Reconciliation status cannot be null");
+        }
+        for (EReconciliationStatus status : values()) {
+            if (status.description.equalsIgnoreCase(description.trim())) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown reconciliation status: " + description);
+    }
+}
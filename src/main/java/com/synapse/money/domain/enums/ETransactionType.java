@@ -14,4 +14,16 @@ public enum ETransactionType {
     public String getDescription() {
         return description;
     }
+
+    public static ETransactionType fromDescription(String description) {
+        if (description == null) {
+            throw new IllegalArgumentException("Transaction type cannot be null");
+        }
+        for (ETransactionType type : values()) {
+            if (type.description.equalsIgnoreCase(description.trim())) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown transaction type: " + description);
+    }
 }
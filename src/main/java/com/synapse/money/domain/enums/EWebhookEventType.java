@@ -0,0 +1,17 @@
+package com.synapse.money.domain.enums;
+
+public enum EWebhookEventType {
+    TRANSACTION_CREATED("transaction.created"),
+    TRANSACTION_UPDATED("transaction.updated"),
+    TRANSACTION_DELETED("transaction.deleted");
+
+    private final String description;
+
+    EWebhookEventType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class AttachmentTooLargeException extends DomainException {
+
+    public AttachmentTooLargeException(String message) {
+        super(message);
+    }
+}
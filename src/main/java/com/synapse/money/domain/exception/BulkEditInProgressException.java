@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class BulkEditInProgressException extends DomainException {
+
+    public BulkEditInProgressException(String message) {
+        super(message);
+    }
+}
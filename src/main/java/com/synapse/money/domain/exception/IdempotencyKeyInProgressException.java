@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class IdempotencyKeyInProgressException extends DomainException {
+
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class IdempotencyKeyReuseException extends DomainException {
+
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
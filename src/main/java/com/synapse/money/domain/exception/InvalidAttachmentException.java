@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidAttachmentException extends DomainException {
+
+    public InvalidAttachmentException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidBulkEditException extends DomainException {
+
+    public InvalidBulkEditException(String message) {
+        super(message);
+    }
+}
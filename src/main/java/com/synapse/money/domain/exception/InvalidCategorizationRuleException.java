@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidCategorizationRuleException extends DomainException {
+
+    public InvalidCategorizationRuleException(String message) {
+        super(message);
+    }
+}
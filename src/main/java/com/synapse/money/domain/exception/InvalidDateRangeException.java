@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidDateRangeException extends DomainException {
+
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidIdempotencyKeyException extends DomainException {
+
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidPageCursorException extends DomainException {
+
+    public InvalidPageCursorException(String message) {
+        super(message);
+    }
+}
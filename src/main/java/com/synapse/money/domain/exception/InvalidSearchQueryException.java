@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidSearchQueryException extends DomainException {
+
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
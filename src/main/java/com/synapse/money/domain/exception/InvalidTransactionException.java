@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidTransactionException extends DomainException {
+
+    public InvalidTransactionException(String message) {
+        super(message);
+    }
+}
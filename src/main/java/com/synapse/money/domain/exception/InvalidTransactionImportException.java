@@ -0,0 +1,17 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidTransactionImportException extends DomainException {
+
+    private final long lineNumber;
+
+    public InvalidTransactionImportException(
+            long lineNumber,
+            String message) {
+        super("Line " + lineNumber + ": " + message);
+        this.lineNumber = lineNumber;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class InvalidWebhookUrlException extends DomainException {
+
+    public InvalidWebhookUrlException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.exception;
+
+public class ResourceNotFoundException extends DomainException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
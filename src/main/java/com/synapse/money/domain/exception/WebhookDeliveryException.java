@@ -0,0 +1,14 @@
+package com.synapse.money.domain.exception;
+
+public class WebhookDeliveryException extends DomainException {
+
+    public WebhookDeliveryException(String message) {
+        super(message);
+    }
+
+    public WebhookDeliveryException(
+            String message,
+            Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,32 @@
+package com.synapse.money.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+public interface AccountRepository {
+
+    int recomputeCurrentBalances(Collection<Long> accountIds);
+
+    boolean allOwnedBy(
+            Long userId,
+            Collection<Long> accountIds);
+
+    Set<Long> findOwnedIds(
+            Long userId,
+            Collection<Long> accountIds);
+
+    void applyBalanceDeltas(Map<Long, BigDecimal> deltasByAccountId);
+
+    /**
+     * Folds the net effect of newly archived transactions into each account,
+     * so balances rebuilt from the remaining rows stay whole.
+     */
+    void applyArchivedDeltas(
+            Map<Long, BigDecimal> deltasByAccountId,
+            LocalDate archivedThrough);
+
+    Map<Long, BigDecimal> findCurrentBalances(Collection<Long> accountIds);
+}
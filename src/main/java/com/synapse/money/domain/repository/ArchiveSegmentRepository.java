@@ -0,0 +1,22 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchiveSegmentRepository {
+
+    void save(ArchiveSegment segment);
+
+    Optional<LocalDate> findArchivedThrough(Long userId);
+
+    /**
+     * Segments whose period overlaps {@code from}..{@code to}, oldest first.
+     */
+    List<ArchiveSegment> findOverlapping(
+            Long userId,
+            LocalDate from,
+            LocalDate to);
+}
@@ -0,0 +1,38 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentRepository {
+
+    /**
+     * Empty when the transaction does not exist or is not the user's.
+     */
+    Optional<Attachment> create(
+            Long userId,
+            Long transactionId,
+            String fileName,
+            String contentType,
+            AttachmentBlob blob);
+
+    List<Attachment> findByTransaction(
+            Long userId,
+            Long transactionId);
+
+    Optional<Attachment> findById(
+            Long id,
+            Long userId,
+            Long transactionId);
+
+    Optional<Attachment> delete(
+            Long id,
+            Long userId,
+            Long transactionId);
+
+    List<Attachment> deleteByTransaction(
+            Long userId,
+            Long transactionId);
+}
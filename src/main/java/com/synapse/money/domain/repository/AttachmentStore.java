@@ -0,0 +1,46 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.exception.AttachmentTooLargeException;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Holds attachment content outside the database. Content is written once
+ * and read by byte range; metadata lives in {@link AttachmentRepository}.
+ */
+public interface AttachmentStore {
+
+    /**
+     * Streams {@code content} into a new blob of the user. Nothing is kept
+     * when the content exceeds {@code maxBytes}.
+     *
+     * @throws AttachmentTooLargeException when more than {@code maxBytes} arrive
+     */
+    AttachmentBlob write(
+            Long userId,
+            InputStream content,
+            long maxBytes) throws IOException;
+
+    /**
+     * Copies {@code count} bytes starting at {@code position} to
+     * {@code target} and returns how many were copied.
+     */
+    long transferTo(
+            String storageKey,
+            long position,
+            long count,
+            WritableByteChannel target) throws IOException;
+
+    /**
+     * The file holding the blob when the store keeps it on local disk, so
+     * the servlet container can send it without copying it through the JVM.
+     */
+    Optional<Path> localFile(String storageKey);
+
+    void delete(String storageKey) throws IOException;
+}
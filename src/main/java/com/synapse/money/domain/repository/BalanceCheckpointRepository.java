@@ -0,0 +1,23 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.BalanceShift;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface BalanceCheckpointRepository {
+
+    Optional<BigDecimal> findBalanceAsOf(
+            Long userId,
+            Long accountId,
+            LocalDate date);
+
+    void applyShifts(List<BalanceShift> shifts);
+
+    int rebuildForUser(Long userId);
+
+    int rebuildForAccounts(Collection<Long> accountIds);
+}
@@ -0,0 +1,73 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.valueobject.BulkEdit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+public interface BulkEditRepository {
+
+    /**
+     * @return empty when a category to merge is not the user's
+     */
+    Optional<BulkEdit> create(
+            Long userId,
+            EBulkEditKind kind,
+            Long sourceCategoryId,
+            Long targetCategoryId);
+
+    boolean existsActiveByUserId(Long userId);
+
+    Optional<BulkEdit> findByIdAndUserId(
+            Long id,
+            Long userId);
+
+    /**
+     * Leases the oldest pending or running edit whose lease has expired,
+     * so an edit left behind by a crashed node is resumed.
+     */
+    Optional<BulkEdit> claimNext(Duration lease);
+
+    Optional<BulkEdit> findByIdForUpdate(Long id);
+
+    /**
+     * The next {@code limit} transactions the edit still has to visit, in id
+     * order, locked until the end of the database transaction.
+     */
+    List<Transaction> findChunkForUpdate(
+            BulkEdit edit,
+            int limit);
+
+    void updateCategories(List<Transaction> transactions);
+
+    BulkEdit advance(
+            Long id,
+            long lastTransactionId,
+            int scanned,
+            int updated,
+            Duration lease);
+
+    BulkEdit complete(
+            Long id,
+            long lastTransactionId,
+            int scanned,
+            int updated);
+
+    void fail(
+            Long id,
+            String error);
+
+    /**
+     * Folds the source category's budgets into the target's, points its
+     * rules at the target and deletes the source with its subcategories.
+     * Locks the source first and returns false, changing nothing, when
+     * transactions were moved into it after the last chunk was read.
+     */
+    boolean mergeCategory(
+            Long userId,
+            Long sourceCategoryId,
+            Long targetCategoryId);
+}
@@ -0,0 +1,13 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.CashFlowForecast;
+
+import java.time.LocalDate;
+
+public interface CashFlowForecastRepository {
+
+    CashFlowForecast loadForUser(
+            Long userId,
+            LocalDate today,
+            LocalDate end);
+}
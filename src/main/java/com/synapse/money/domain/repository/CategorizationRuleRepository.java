@@ -0,0 +1,31 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.MerchantRule;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface CategorizationRuleRepository {
+
+    /**
+     * @return empty when the category is not the user's or the subcategory
+     * is not the category's
+     */
+    Optional<CategorizationRule> save(
+            Long userId,
+            String pattern,
+            Long categoryId,
+            Long subcategoryId);
+
+    /**
+     * Ordered by id, so older rules win ties.
+     */
+    List<CategorizationRule> findByUserId(Long userId);
+
+    List<MerchantRule> findMerchantRules();
+
+    boolean deleteByIdAndUserId(
+            Long id,
+            Long userId);
+}
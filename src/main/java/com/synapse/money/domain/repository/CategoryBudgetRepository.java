@@ -0,0 +1,41 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import com.synapse.money.domain.valueobject.CategoryBudgetDelta;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+public interface CategoryBudgetRepository {
+
+    /**
+     * Creates the budget with its consumption summed from existing expenses,
+     * or changes the limit of an existing one. Empty when the category does
+     * not belong to the user.
+     */
+    Optional<CategoryBudget> upsert(
+            Long userId,
+            Long categoryId,
+            YearMonth month,
+            BigDecimal limitAmount);
+
+    List<CategoryBudget> findByUserAndMonth(
+            Long userId,
+            YearMonth month);
+
+    void applyConsumption(
+            Long userId,
+            List<CategoryBudgetDelta> deltas);
+
+    List<Long> findUserIdsWithBudgetsSince(YearMonth from);
+
+    /**
+     * Locks the user's budgets from {@code from} on and resets every drifted
+     * consumed amount to the sum of its expenses. Returns the rows corrected.
+     */
+    int reconcileUser(
+            Long userId,
+            YearMonth from);
+}
@@ -0,0 +1,50 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.IdempotencyRecord;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository {
+
+    /**
+     * Claims the key for a new execution, taking over an expired row or one
+     * left in flight for longer than {@code inFlightTimeout}. Returns false
+     * when another request holds or already completed the key.
+     */
+    boolean claim(
+            String scope,
+            String key,
+            String requestHash,
+            Duration ttl,
+            Duration inFlightTimeout
+    );
+
+    Optional<IdempotencyRecord> find(
+            String scope,
+            String key
+    );
+
+    /**
+     * Locks the key's row until the current transaction ends. Returns false
+     * when the key is no longer in flight, i.e. it was taken over.
+     */
+    boolean lock(
+            String scope,
+            String key
+    );
+
+    void complete(
+            String scope,
+            String key,
+            int statusCode,
+            String responseBody
+    );
+
+    void release(
+            String scope,
+            String key
+    );
+
+    int deleteExpired();
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.ImportLookup;
+
+public interface ImportLookupRepository {
+
+    ImportLookup loadForUser(Long userId);
+}
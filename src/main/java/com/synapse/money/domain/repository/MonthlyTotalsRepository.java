@@ -0,0 +1,21 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.MonthlyTotal;
+import com.synapse.money.domain.valueobject.MonthlyTotalDelta;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface MonthlyTotalsRepository {
+
+    void applyDeltas(
+            Long userId,
+            List<MonthlyTotalDelta> deltas);
+
+    int rebuildForUser(Long userId);
+
+    List<MonthlyTotal> findByUserAndMonthRange(
+            Long userId,
+            YearMonth from,
+            YearMonth to);
+}
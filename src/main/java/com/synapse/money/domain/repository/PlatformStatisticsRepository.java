@@ -0,0 +1,47 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.PlatformStatisticsAccumulator;
+import com.synapse.money.domain.valueobject.UserIdRange;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface PlatformStatisticsRepository {
+
+    boolean existsWeek(LocalDate weekStart);
+
+    /**
+     * Splits the user-id space into ranges for the week unless a previous run
+     * already did, and returns the ranges that have no stored result yet.
+     */
+    List<UserIdRange> preparePendingRanges(
+            LocalDate weekStart,
+            int rangeCount);
+
+    /**
+     * Streams the range's transactions dated {@code from} (inclusive) to
+     * {@code to} (exclusive) through a read-only cursor, grouped by user.
+     */
+    long streamTransactions(
+            UserIdRange range,
+            LocalDate from,
+            LocalDate to,
+            PlatformTransactionConsumer consumer);
+
+    void addAccountBalances(
+            UserIdRange range,
+            PlatformStatisticsAccumulator accumulator);
+
+    void saveRange(
+            LocalDate weekStart,
+            UserIdRange range,
+            PlatformStatisticsAccumulator accumulator);
+
+    int countPendingRanges(LocalDate weekStart);
+
+    List<PlatformStatisticsAccumulator> findCompletedRanges(LocalDate weekStart);
+
+    void saveWeek(
+            LocalDate weekStart,
+            PlatformStatisticsAccumulator totals);
+}
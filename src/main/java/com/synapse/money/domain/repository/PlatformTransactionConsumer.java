@@ -0,0 +1,13 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+@FunctionalInterface
+public interface PlatformTransactionConsumer {
+
+    void accept(
+            long userId,
+            ETransactionType type,
+            long amountMinorUnits,
+            Long categoryId);
+}
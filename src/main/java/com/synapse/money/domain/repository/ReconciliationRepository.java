@@ -0,0 +1,29 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ReconciliationRepository {
+
+    /**
+     * Stores the summary and every item; returns the summary with its id and
+     * creation time.
+     */
+    Reconciliation save(
+            Long userId,
+            Reconciliation reconciliation,
+            List<ReconciliationItem> items);
+
+    Optional<Reconciliation> findByIdAndUserId(
+            Long id,
+            Long userId);
+
+    /**
+     * Missing and extra items of a reconciliation, in the order they were
+     * stored.
+     */
+    List<ReconciliationItem> findUnmatchedItems(Long reconciliationId);
+}
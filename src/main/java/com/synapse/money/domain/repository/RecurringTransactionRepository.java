@@ -0,0 +1,30 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RecurringTransactionRepository {
+
+    /**
+     * Locks up to {@code limit} templates of the given user-hash slice that
+     * still have occurrences to generate up to {@code horizon}, skipping rows
+     * another worker already holds.
+     */
+    List<Long> claimDueTemplates(
+            int slice,
+            int sliceCount,
+            long afterId,
+            LocalDate horizon,
+            int limit);
+
+    /**
+     * Inserts the missing occurrences of the claimed templates up to
+     * {@code horizon} and advances their watermark; returns only the rows
+     * that were actually inserted.
+     */
+    List<Transaction> materialize(
+            List<Long> templateIds,
+            LocalDate horizon);
+}
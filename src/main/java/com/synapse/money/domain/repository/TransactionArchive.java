@@ -0,0 +1,33 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Cold tier for closed periods of a user's transactions. Segments are
+ * written before their rows leave the transactions table and are read
+ * back by scans whose date range reaches them.
+ */
+public interface TransactionArchive {
+
+    /**
+     * Writes the rows of one period into a new segment file, replacing any
+     * file left behind by an earlier attempt that did not commit.
+     */
+    ArchiveSegment write(
+            Long userId,
+            LocalDate periodStart,
+            LocalDate periodEnd,
+            TransactionRowSource rows) throws IOException;
+
+    /**
+     * Archived rows dated between {@code from} and {@code to}, both
+     * inclusive, in transaction date and id order.
+     */
+    TransactionRowCursor scan(
+            Long userId,
+            LocalDate from,
+            LocalDate to) throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.TransactionCube;
+
+public interface TransactionCubeRepository {
+
+    TransactionCube loadForUser(Long userId);
+}
@@ -0,0 +1,12 @@
+package com.synapse.money.domain.repository;
+
+import java.time.YearMonth;
+
+public interface TransactionPartitionRepository {
+
+    /**
+     * Creates the missing monthly partitions up to and including
+     * {@code through}; returns how many were created.
+     */
+    int createMonthlyPartitionsThrough(YearMonth through);
+}
@@ -0,0 +1,17 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.util.List;
+import java.util.Set;
+
+public interface TransactionReferenceRepository {
+
+    /**
+     * Positions of the transactions whose category or credit card is not the
+     * user's, or whose subcategory is not under the transaction's category.
+     */
+    Set<Integer> findUnowned(
+            Long userId,
+            List<Transaction> transactions);
+}
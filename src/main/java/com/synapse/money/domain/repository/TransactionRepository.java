@@ -0,0 +1,94 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.TransactionCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchHit;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+public interface TransactionRepository {
+
+    Transaction save(Transaction transaction);
+
+    /**
+     * Inserts all rows in JDBC batches of {@code batchSize} and returns them
+     * with their ids and timestamps set, in the given order.
+     */
+    List<Transaction> saveAll(
+            List<Transaction> transactions,
+            int batchSize);
+
+    Transaction update(
+            Transaction stored,
+            Transaction transaction);
+
+    void delete(Transaction transaction);
+
+    Optional<Transaction> findByIdAndUserIdForUpdate(
+            Long id,
+            Long userId);
+
+    long bulkInsert(Iterator<Transaction> transactions);
+
+    /**
+     * Import fingerprints of the user's transactions dated between
+     * {@code from} and {@code to}, both inclusive.
+     */
+    FingerprintSet findImportFingerprints(
+            Long userId,
+            LocalDate from,
+            LocalDate to);
+
+    List<Transaction> findPageByUser(
+            Long userId,
+            TransactionCursor after,
+            int limit);
+
+    /**
+     * The user's transactions among {@code ids}, newest id first; ids that
+     * are not the user's or no longer exist are skipped.
+     */
+    List<Transaction> findByIds(
+            Long userId,
+            List<Long> ids);
+
+    List<TransactionSearchHit> searchByUser(
+            Long userId,
+            String query,
+            TransactionSearchCursor after,
+            int limit);
+
+    /**
+     * Earliest transaction date of the user after {@code after}, or overall
+     * when {@code after} is null.
+     */
+    Optional<LocalDate> findFirstTransactionDateAfter(
+            Long userId,
+            LocalDate after);
+
+    /**
+     * Removes rows that were copied into the archive. Returns how many of
+     * {@code ids} were deleted.
+     */
+    int deleteArchived(
+            Long userId,
+            LocalDate from,
+            LocalDate to,
+            List<Long> ids);
+
+    /**
+     * Archived rows within the range are merged in, so the scan covers the
+     * whole history.
+     */
+    long streamByUserAndDateRange(
+            Long userId,
+            LocalDate from,
+            LocalDate to,
+            TransactionRowConsumer consumer) throws IOException;
+}
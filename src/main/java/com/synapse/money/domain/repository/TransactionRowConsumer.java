@@ -0,0 +1,11 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface TransactionRowConsumer {
+
+    void accept(TransactionRow row) throws IOException;
+}
@@ -0,0 +1,13 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+/**
+ * Pull-based counterpart of {@link TransactionRowConsumer}: the cursor is
+ * itself the current row and is only valid after {@link #next()} returned
+ * {@code true}.
+ */
+public interface TransactionRowCursor extends TransactionRow {
+
+    boolean next();
+}
@@ -0,0 +1,13 @@
+package com.synapse.money.domain.repository;
+
+import java.io.IOException;
+
+@FunctionalInterface
+public interface TransactionRowSource {
+
+    /**
+     * Pushes every row, in transaction date and id order, and returns how
+     * many were pushed.
+     */
+    long forEach(TransactionRowConsumer consumer) throws IOException;
+}
@@ -0,0 +1,28 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TransactionTagRepository {
+
+    /**
+     * Sets the transaction's tags to exactly {@code tags}. Ownership of the
+     * transaction is the caller's to check.
+     */
+    void replace(
+            Long userId,
+            Long transactionId,
+            Collection<String> tags);
+
+    List<String> findByTransaction(
+            Long userId,
+            Long transactionId);
+
+    void deleteByTransactions(
+            Long userId,
+            Collection<Long> transactionIds);
+
+    TransactionTagIndex loadIndex(Long userId);
+}
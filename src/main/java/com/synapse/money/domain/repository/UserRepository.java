@@ -2,6 +2,7 @@ package com.synapse.money.domain.repository;
 
 import com.synapse.money.domain.entity.User;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository {
@@ -13,4 +14,8 @@ public interface UserRepository {
     Optional<User> findById(Long id);
 
     boolean existsByEmail(String email);
+
+    List<Long> findIdsAfter(
+            Long afterId,
+            int limit);
 }
\ No newline at end of file
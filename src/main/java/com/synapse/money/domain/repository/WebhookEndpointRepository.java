@@ -0,0 +1,28 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WebhookEndpointRepository {
+
+    WebhookEndpoint save(
+            Long userId,
+            String url,
+            String secret
+    );
+
+    List<WebhookEndpoint> findByUserId(Long userId);
+
+    Optional<WebhookEndpoint> updateSecret(
+            Long id,
+            Long userId,
+            String secret
+    );
+
+    boolean deleteByIdAndUserId(
+            Long id,
+            Long userId
+    );
+}
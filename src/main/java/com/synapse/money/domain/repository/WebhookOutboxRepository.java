@@ -0,0 +1,56 @@
+package com.synapse.money.domain.repository;
+
+import com.synapse.money.domain.valueobject.OutboxEvent;
+import com.synapse.money.domain.valueobject.WebhookDelivery;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface WebhookOutboxRepository {
+
+    List<Long> findEndpointIds(Long userId);
+
+    /**
+     * Writes one outbox row per endpoint and event; must run in the
+     * transaction of the change the events describe.
+     */
+    void enqueue(
+            List<Long> endpointIds,
+            List<OutboxEvent> events
+    );
+
+    /**
+     * Leases up to {@code limit} due rows of endpoints whose circuit is
+     * closed, skipping rows another dispatcher holds. A leased row becomes
+     * due again once {@code lease} passes without an outcome being recorded.
+     */
+    List<WebhookDelivery> claimDue(
+            int limit,
+            Duration lease
+    );
+
+    void markDelivered(List<Long> deliveryIds);
+
+    /**
+     * Schedules the next attempt with exponential backoff, or marks the rows
+     * failed once they reach {@code maxAttempts}.
+     */
+    void markFailed(
+            List<Long> deliveryIds,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            int maxAttempts
+    );
+
+    void recordEndpointSuccess(long endpointId);
+
+    /**
+     * Counts a failed request and opens the endpoint's circuit for
+     * {@code openFor} once {@code threshold} failures happened in a row.
+     */
+    void recordEndpointFailure(
+            long endpointId,
+            int threshold,
+            Duration openFor
+    );
+}
@@ -0,0 +1,20 @@
+package com.synapse.money.domain.service;
+
+import com.synapse.money.domain.valueobject.TransactionChange;
+
+import java.util.List;
+
+public interface TransactionChangeHandler {
+
+    void onChange(TransactionChange change);
+
+    /**
+     * Applies a batch of changes written in the same database transaction.
+     * Handlers that can fold the batch into fewer statements override this.
+     */
+    default void onChanges(List<TransactionChange> changes) {
+        for (TransactionChange change : changes) {
+            onChange(change);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.synapse.money.domain.service;
+
+import com.synapse.money.domain.exception.WebhookDeliveryException;
+
+public interface WebhookSender {
+
+    /**
+     * Posts a signed JSON body to the endpoint.
+     *
+     * @throws WebhookDeliveryException when the endpoint is unreachable or
+     *                                  does not answer with a 2xx status
+     */
+    void send(
+            String url,
+            String secret,
+            String body
+    );
+}
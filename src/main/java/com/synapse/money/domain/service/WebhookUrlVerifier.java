@@ -0,0 +1,28 @@
+package com.synapse.money.domain.service;
+
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+
+import java.net.InetAddress;
+
+public interface WebhookUrlVerifier {
+
+    /**
+     * Checks that the URL may be used as a webhook target and returns an
+     * address of its host. Connections must go to that address: resolving
+     * the host again could get a different answer that was never checked.
+     *
+     * @throws InvalidWebhookUrlException when it is not https or its host
+     *                                    resolves to a non-public address
+     */
+    InetAddress resolve(String url);
+
+    /**
+     * Checks that the URL may be used as a webhook target.
+     *
+     * @throws InvalidWebhookUrlException when it is not https or its host
+     *                                    resolves to a non-public address
+     */
+    default void verify(String url) {
+        resolve(url);
+    }
+}
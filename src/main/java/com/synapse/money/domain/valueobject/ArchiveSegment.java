@@ -0,0 +1,17 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDate;
+
+/**
+ * One cold-tier file holding a user's transactions dated within
+ * {@code periodStart}..{@code periodEnd} (inclusive). {@code fileName} is
+ * relative to the archive directory.
+ */
+public record ArchiveSegment(
+        Long userId,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        String fileName,
+        int rowCount,
+        long byteSize
+) {}
@@ -0,0 +1,15 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+public record Attachment(
+        Long id,
+        Long userId,
+        Long transactionId,
+        String fileName,
+        String contentType,
+        long byteSize,
+        String sha256,
+        String storageKey,
+        LocalDateTime createdAt
+) {}
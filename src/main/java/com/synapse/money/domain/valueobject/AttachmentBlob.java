@@ -0,0 +1,11 @@
+package com.synapse.money.domain.valueobject;
+
+/**
+ * Content written to the attachment store: where it lives, how large it is
+ * and its SHA-256 in lowercase hex.
+ */
+public record AttachmentBlob(
+        String storageKey,
+        long byteSize,
+        String sha256
+) {}
@@ -0,0 +1,14 @@
+package com.synapse.money.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Amount to add to every checkpoint of {@code accountId} dated on or after
+ * {@code fromDate}.
+ */
+public record BalanceShift(
+        Long accountId,
+        LocalDate fromDate,
+        BigDecimal delta
+) {}
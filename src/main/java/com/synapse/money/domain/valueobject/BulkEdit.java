@@ -0,0 +1,26 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A background bulk edit and its progress. {@code lastTransactionId} is the
+ * resume point: every transaction up to it has been processed.
+ */
+public record BulkEdit(
+        Long id,
+        Long userId,
+        EBulkEditKind kind,
+        Long sourceCategoryId,
+        Long targetCategoryId,
+        EBulkEditStatus status,
+        long lastTransactionId,
+        long totalCount,
+        long scannedCount,
+        long updatedCount,
+        String error,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {}
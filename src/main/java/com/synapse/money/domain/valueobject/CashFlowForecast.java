@@ -0,0 +1,253 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Projected daily balances of one user's accounts from {@code today} through
+ * {@code end}. Each account has one primitive array of day buckets: slot 0
+ * holds the balance at the end of today and slot {@code i} the net flow
+ * expected {@code i} days later, so a balance is a running sum and a change
+ * touches only the buckets its dates fall in. Flows dated today or earlier
+ * land in slot 0 and flows after {@code end} are dropped.
+ * <p>
+ * Recurring templates are kept with their watermark, so an edited or deleted
+ * template takes back exactly the occurrences it added. Not thread-safe.
+ */
+public final class CashFlowForecast {
+
+    private final LocalDate today;
+    private final LocalDate end;
+    private final int slots;
+    private final Map<Long, long[]> bucketsByAccount = new HashMap<>();
+    private final Map<Long, RecurringTemplate> templates = new HashMap<>();
+
+    public CashFlowForecast(
+            LocalDate today,
+            LocalDate end) {
+        if (end.isBefore(today)) {
+            throw new IllegalArgumentException("Forecast end must not be before today");
+        }
+        this.today = today;
+        this.end = end;
+        this.slots = Math.toIntExact(ChronoUnit.DAYS.between(today, end)) + 1;
+    }
+
+    public LocalDate today() {
+        return today;
+    }
+
+    public LocalDate end() {
+        return end;
+    }
+
+    public boolean hasAccount(long accountId) {
+        return bucketsByAccount.containsKey(accountId);
+    }
+
+    public void addBalance(
+            long accountId,
+            long minorUnits) {
+        buckets(accountId)[0] += minorUnits;
+    }
+
+    public void addFlow(
+            long accountId,
+            LocalDate date,
+            long minorUnits) {
+        if (!date.isAfter(end)) {
+            buckets(accountId)[slotOf(date)] += minorUnits;
+        }
+    }
+
+    /**
+     * A transaction dated after today is already in the account balance; its
+     * effect moves from today to its own date.
+     */
+    public void deferBooked(
+            long accountId,
+            Long transferAccountId,
+            ETransactionType transactionType,
+            long amountMinorUnits,
+            LocalDate date) {
+        post(accountId, transferAccountId, transactionType, amountMinorUnits, today, -1);
+        post(accountId, transferAccountId, transactionType, amountMinorUnits, date, 1);
+    }
+
+    /**
+     * An unpaid card bill leaves the card's account on its due date; one
+     * already overdue is expected to be paid tomorrow.
+     */
+    public void addBill(
+            long accountId,
+            LocalDate dueDate,
+            long amountMinorUnits) {
+        LocalDate tomorrow = today.plusDays(1);
+        addFlow(accountId, dueDate.isBefore(tomorrow) ? tomorrow : dueDate, -amountMinorUnits);
+    }
+
+    public void addTemplate(RecurringTemplate template) {
+        RecurringTemplate previous = templates.put(template.id(), template);
+        if (previous != null) {
+            postOccurrences(previous, previous.watermark(), end, -1);
+        }
+        postOccurrences(template, template.watermark(), end, 1);
+    }
+
+    public RecurringTemplate removeTemplate(long id) {
+        RecurringTemplate removed = templates.remove(id);
+        if (removed != null) {
+            postOccurrences(removed, removed.watermark(), end, -1);
+        }
+        return removed;
+    }
+
+    /**
+     * Occurrences of the template through {@code through} now exist as
+     * transactions, so their projections are taken back.
+     */
+    public void advanceTemplate(
+            long id,
+            LocalDate through) {
+        RecurringTemplate template = templates.get(id);
+        if (template == null || !through.isAfter(template.watermark())) {
+            return;
+        }
+        postOccurrences(template, template.watermark(), through, -1);
+        templates.put(id, template.withWatermark(through));
+    }
+
+    /**
+     * Applies one write to the transactions table. A new template is
+     * materialized from the later of its anchor and today, as the
+     * materializer does; an edited one keeps its watermark.
+     */
+    public void apply(TransactionChange change) {
+        RecurringTemplate previous = null;
+        Transaction before = change.before();
+        Transaction after = change.after();
+        if (before != null) {
+            post(before, -1);
+            if (before.isRecurring()) {
+                previous = removeTemplate(before.getId());
+            }
+        }
+        if (after != null) {
+            post(after, 1);
+            if (after.isRecurring()) {
+                LocalDate watermark = previous != null
+                        ? previous.watermark()
+                        : later(after.getTransactionDate(), today);
+                addTemplate(RecurringTemplate.of(after, watermark));
+            }
+            if (before == null && after.getRecurringSourceId() != null) {
+                advanceTemplate(after.getRecurringSourceId(), after.getTransactionDate());
+            }
+        }
+    }
+
+    /**
+     * Balances of one account, or of all accounts summed when
+     * {@code accountId} is null, from today through the end. Monthly points
+     * fall on month ends, plus the last day when it is not one.
+     */
+    public List<ForecastPoint> balances(
+            Long accountId,
+            EForecastGranularity granularity) {
+        long[] balances = new long[slots];
+        for (Map.Entry<Long, long[]> entry : bucketsByAccount.entrySet()) {
+            if (accountId == null || accountId.equals(entry.getKey())) {
+                long[] buckets = entry.getValue();
+                for (int i = 0; i < slots; i++) {
+                    balances[i] += buckets[i];
+                }
+            }
+        }
+        for (int i = 1; i < slots; i++) {
+            balances[i] += balances[i - 1];
+        }
+
+        List<ForecastPoint> points = new ArrayList<>();
+        for (int i = 0; i < slots; i++) {
+            LocalDate date = today.plusDays(i);
+            if (granularity == EForecastGranularity.DAY
+                    || i == 0
+                    || i == slots - 1
+                    || date.getDayOfMonth() == date.lengthOfMonth()) {
+                points.add(new ForecastPoint(date, Money.ofMinor(balances[i])));
+            }
+        }
+        return points;
+    }
+
+    private void post(
+            Transaction transaction,
+            int sign) {
+        post(
+                transaction.getAccountId(),
+                transaction.getTransferAccountId(),
+                transaction.getTransactionType(),
+                Money.of(transaction.getAmount()).minorUnits(),
+                transaction.getTransactionDate(),
+                sign
+        );
+    }
+
+    private void post(
+            long accountId,
+            Long transferAccountId,
+            ETransactionType transactionType,
+            long amountMinorUnits,
+            LocalDate date,
+            int sign) {
+        long amount = sign * amountMinorUnits;
+        addFlow(accountId, date, transactionType == ETransactionType.INCOME ? amount : -amount);
+        if (transactionType == ETransactionType.TRANSFER && transferAccountId != null) {
+            addFlow(transferAccountId, date, amount);
+        }
+    }
+
+    /**
+     * Posts the occurrences dated after {@code after} and today, through
+     * {@code through}. The loop starts at the month of {@code after}, so an
+     * old anchor does not cost a pass over every month since.
+     */
+    private void postOccurrences(
+            RecurringTemplate template,
+            LocalDate after,
+            LocalDate through,
+            int sign) {
+        LocalDate from = later(after, today);
+        LocalDate last = through.isAfter(end) ? end : through;
+        long k = Math.max(1, ChronoUnit.MONTHS.between(YearMonth.from(template.anchorDate()), YearMonth.from(from)));
+        for (LocalDate date = template.anchorDate().plusMonths(k); !date.isAfter(last); date = template.anchorDate().plusMonths(++k)) {
+            if (date.isAfter(from)) {
+                post(template.accountId(), template.transferAccountId(), template.transactionType(),
+                        template.amountMinorUnits(), date, sign);
+            }
+        }
+    }
+
+    private long[] buckets(long accountId) {
+        return bucketsByAccount.computeIfAbsent(accountId, id -> new long[slots]);
+    }
+
+    private int slotOf(LocalDate date) {
+        return date.isAfter(today) ? (int) ChronoUnit.DAYS.between(today, date) : 0;
+    }
+
+    private static LocalDate later(
+            LocalDate left,
+            LocalDate right) {
+        return left.isAfter(right) ? left : right;
+    }
+}
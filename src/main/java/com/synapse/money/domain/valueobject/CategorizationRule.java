@@ -0,0 +1,8 @@
+package com.synapse.money.domain.valueobject;
+
+public record CategorizationRule(
+        Long id,
+        String pattern,
+        Long categoryId,
+        Long subcategoryId
+) {}
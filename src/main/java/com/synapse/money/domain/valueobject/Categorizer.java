@@ -0,0 +1,77 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * One user's rules next to the global merchant rules. A description is
+ * scanned once, stepping both automata per character; a match of the user's
+ * own rules always beats a merchant rule.
+ */
+public final class Categorizer {
+
+    private final KeywordAutomaton userRules;
+    private final CategoryAssignment[] userAssignments;
+    private final MerchantRuleSet merchantRules;
+    private final ImportLookup lookup;
+
+    private Categorizer(
+            KeywordAutomaton userRules,
+            CategoryAssignment[] userAssignments,
+            MerchantRuleSet merchantRules,
+            ImportLookup lookup) {
+        this.userRules = userRules;
+        this.userAssignments = userAssignments;
+        this.merchantRules = merchantRules;
+        this.lookup = lookup;
+    }
+
+    /**
+     * @param rules the user's rules, earlier rules winning ties
+     * @param lookup the user's category and subcategory ids by name
+     */
+    public static Categorizer compile(
+            List<CategorizationRule> rules,
+            MerchantRuleSet merchantRules,
+            ImportLookup lookup) {
+        return new Categorizer(
+                KeywordAutomaton.compile(rules.stream().map(CategorizationRule::pattern).toList()),
+                rules.stream()
+                        .map(rule -> new CategoryAssignment(rule.categoryId(), rule.subcategoryId()))
+                        .toArray(CategoryAssignment[]::new),
+                merchantRules,
+                lookup
+        );
+    }
+
+    public Optional<CategoryAssignment> categorize(CharSequence description) {
+        if (description == null) {
+            return Optional.empty();
+        }
+        KeywordAutomaton merchants = merchantRules.automaton();
+        int userState = userRules.start();
+        int merchantState = merchants.start();
+        int userMatch = -1;
+        int merchantMatch = -1;
+        boolean separated = true;
+        for (int i = 0, length = description.length(); i < length; i++) {
+            int symbol = KeywordAutomaton.symbol(description.charAt(i));
+            if (symbol == KeywordAutomaton.SEPARATOR) {
+                if (separated) {
+                    continue;
+                }
+                separated = true;
+            } else {
+                separated = false;
+            }
+            userState = userRules.next(userState, symbol);
+            userMatch = userRules.preferred(userMatch, userRules.match(userState));
+            merchantState = merchants.next(merchantState, symbol);
+            merchantMatch = merchants.preferred(merchantMatch, merchants.match(merchantState));
+        }
+        if (userMatch >= 0) {
+            return Optional.of(userAssignments[userMatch]);
+        }
+        return merchantMatch >= 0 ? Optional.ofNullable(merchantRules.resolve(merchantMatch, lookup)) : Optional.empty();
+    }
+}
@@ -0,0 +1,6 @@
+package com.synapse.money.domain.valueobject;
+
+public record CategoryAssignment(
+        Long categoryId,
+        Long subcategoryId
+) {}
@@ -0,0 +1,28 @@
+package com.synapse.money.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.YearMonth;
+
+public record CategoryBudget(
+        Long id,
+        Long categoryId,
+        YearMonth month,
+        BigDecimal limitAmount,
+        BigDecimal consumedAmount
+) {
+
+    public BigDecimal remainingAmount() {
+        return limitAmount.subtract(consumedAmount);
+    }
+
+    /**
+     * Share of the limit already spent, rounded down to a whole percent and
+     * allowed to pass 100 once the budget is overspent.
+     */
+    public int usedPercent() {
+        return consumedAmount.multiply(BigDecimal.valueOf(100))
+                .divide(limitAmount, 0, RoundingMode.FLOOR)
+                .intValueExact();
+    }
+}
@@ -0,0 +1,13 @@
+package com.synapse.money.domain.valueobject;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Net change of expense spending in one category and month.
+ */
+public record CategoryBudgetDelta(
+        YearMonth month,
+        Long categoryId,
+        BigDecimal amount
+) {}
@@ -0,0 +1,74 @@
+package com.synapse.money.domain.valueobject;
+
+/**
+ * Open-addressing set of {@code long} fingerprints: one flat array, no
+ * boxing, so an import's worth of lookups stays cheap. Not thread-safe.
+ */
+public final class FingerprintSet {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long EMPTY = 0;
+
+    private long[] slots = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean containsEmpty;
+
+    /**
+     * @return false if the fingerprint was already present
+     */
+    public boolean add(long fingerprint) {
+        if (fingerprint == EMPTY) {
+            boolean added = !containsEmpty;
+            containsEmpty = true;
+            return added;
+        }
+        if ((size + 1) * 2 > slots.length) {
+            grow();
+        }
+        int mask = slots.length - 1;
+        for (int slot = spread(fingerprint) & mask; ; slot = (slot + 1) & mask) {
+            if (slots[slot] == fingerprint) {
+                return false;
+            }
+            if (slots[slot] == EMPTY) {
+                slots[slot] = fingerprint;
+                size++;
+                return true;
+            }
+        }
+    }
+
+    public boolean contains(long fingerprint) {
+        if (fingerprint == EMPTY) {
+            return containsEmpty;
+        }
+        int mask = slots.length - 1;
+        for (int slot = spread(fingerprint) & mask; ; slot = (slot + 1) & mask) {
+            if (slots[slot] == fingerprint) {
+                return true;
+            }
+            if (slots[slot] == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    public int size() {
+        return size + (containsEmpty ? 1 : 0);
+    }
+
+    private void grow() {
+        long[] old = slots;
+        slots = new long[old.length * 2];
+        size = 0;
+        for (long fingerprint : old) {
+            if (fingerprint != EMPTY) {
+                add(fingerprint);
+            }
+        }
+    }
+
+    private static int spread(long fingerprint) {
+        return (int) (fingerprint ^ (fingerprint >>> 32));
+    }
+}
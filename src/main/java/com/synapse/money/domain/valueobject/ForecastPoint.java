@@ -0,0 +1,11 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDate;
+
+/**
+ * Projected balance at the end of {@code date}.
+ */
+public record ForecastPoint(
+        LocalDate date,
+        Money balance
+) {}
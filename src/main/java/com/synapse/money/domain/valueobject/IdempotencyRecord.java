@@ -0,0 +1,16 @@
+package com.synapse.money.domain.valueobject;
+
+/**
+ * Stored state of one idempotency key. The status code and body stay null
+ * while the first request is still executing.
+ */
+public record IdempotencyRecord(
+        String requestHash,
+        Integer statusCode,
+        String responseBody
+) {
+
+    public boolean completed() {
+        return statusCode != null;
+    }
+}
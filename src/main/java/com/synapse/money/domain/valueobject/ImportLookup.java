@@ -0,0 +1,40 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.Locale;
+import java.util.Map;
+
+public record ImportLookup(
+        Map<String, Long> accountIdsByName,
+        Map<String, Long> categoryIdsByName,
+        Map<String, Long> subcategoryIdsByName,
+        Map<String, Long> creditCardIdsByName
+) {
+
+    public static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public static String subcategoryKey(
+            String categoryName,
+            String subcategoryName) {
+        return key(categoryName) + '/' + key(subcategoryName);
+    }
+
+    public Long accountId(String name) {
+        return accountIdsByName.get(key(name));
+    }
+
+    public Long categoryId(String name) {
+        return categoryIdsByName.get(key(name));
+    }
+
+    public Long subcategoryId(
+            String categoryName,
+            String subcategoryName) {
+        return subcategoryIdsByName.get(subcategoryKey(categoryName, subcategoryName));
+    }
+
+    public Long creditCardId(String name) {
+        return creditCardIdsByName.get(key(name));
+    }
+}
@@ -0,0 +1,18 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.YearMonth;
+
+/**
+ * One group-by bucket of a {@link TransactionCubeQuery}; only the field of
+ * the grouped dimension is set.
+ */
+public record InsightTotal(
+        YearMonth month,
+        Long categoryId,
+        Long accountId,
+        ETransactionType transactionType,
+        Money total,
+        long transactionCount
+) {}
@@ -0,0 +1,229 @@
+package com.synapse.money.domain.valueobject;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aho-Corasick automaton over normalized text. Letters are upper-cased and
+ * stripped of accents, digits are kept and every other run of characters
+ * folds into one separator, so {@code "iFood *SP"} reads as
+ * {@code "IFOOD SP"}. Transitions form a dense table over that 37-symbol
+ * alphabet: scanning costs one array read per character however many
+ * keywords were compiled. Among the keywords found, the longest wins and
+ * ties go to the one compiled first.
+ */
+public final class KeywordAutomaton {
+
+    static final int SEPARATOR = 36;
+    static final int ALPHABET = SEPARATOR + 1;
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    /** Symbols of the Latin-1 and Latin Extended blocks; anything above is a separator. */
+    private static final byte[] SYMBOLS = symbolTable('ɐ');
+
+    private final int[] transitions;
+    private final int[] matches;
+    private final int[] keywordLengths;
+
+    private KeywordAutomaton(
+            int[] transitions,
+            int[] matches,
+            int[] keywordLengths) {
+        this.transitions = transitions;
+        this.matches = matches;
+        this.keywordLengths = keywordLengths;
+    }
+
+    /**
+     * @throws IllegalArgumentException if a keyword has no letter or digit
+     */
+    public static KeywordAutomaton compile(List<String> keywords) {
+        byte[][] encoded = new byte[keywords.size()][];
+        int maxStates = 1;
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = encode(keywords.get(i));
+            if (encoded[i].length == 0) {
+                throw new IllegalArgumentException("Keyword has no letter or digit: " + keywords.get(i));
+            }
+            maxStates += encoded[i].length;
+        }
+
+        int[] transitions = new int[maxStates * ALPHABET];
+        Arrays.fill(transitions, NONE);
+        int[] matches = new int[maxStates];
+        Arrays.fill(matches, NONE);
+        int[] keywordLengths = new int[encoded.length];
+        int states = 1;
+        for (int keyword = 0; keyword < encoded.length; keyword++) {
+            int state = ROOT;
+            for (byte symbol : encoded[keyword]) {
+                int slot = state * ALPHABET + symbol;
+                if (transitions[slot] == NONE) {
+                    transitions[slot] = states++;
+                }
+                state = transitions[slot];
+            }
+            keywordLengths[keyword] = encoded[keyword].length;
+            if (matches[state] == NONE) {
+                matches[state] = keyword;
+            }
+        }
+
+        KeywordAutomaton automaton = new KeywordAutomaton(
+                Arrays.copyOf(transitions, states * ALPHABET),
+                Arrays.copyOf(matches, states),
+                keywordLengths
+        );
+        automaton.link(states);
+        return automaton;
+    }
+
+    /**
+     * Turns the trie into the full transition function: missing edges point
+     * where the failure link would lead, and each state's match becomes the
+     * best keyword among its own and its failure chain's. States are visited
+     * breadth-first, so a failure target is always complete before it is
+     * used.
+     */
+    private void link(int states) {
+        int[] failure = new int[states];
+        int[] queue = new int[states];
+        int tail = 0;
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            int child = transitions[symbol];
+            if (child == NONE) {
+                transitions[symbol] = ROOT;
+            } else {
+                queue[tail++] = child;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int state = queue[head];
+            matches[state] = preferred(matches[state], matches[failure[state]]);
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int slot = state * ALPHABET + symbol;
+                int fallback = transitions[failure[state] * ALPHABET + symbol];
+                if (transitions[slot] == NONE) {
+                    transitions[slot] = fallback;
+                } else {
+                    failure[transitions[slot]] = fallback;
+                    queue[tail++] = transitions[slot];
+                }
+            }
+        }
+    }
+
+    public static int symbol(char c) {
+        return c < SYMBOLS.length ? SYMBOLS[c] : SEPARATOR;
+    }
+
+    public static String normalize(String text) {
+        byte[] symbols = encode(text);
+        char[] chars = new char[symbols.length];
+        for (int i = 0; i < symbols.length; i++) {
+            chars[i] = character(symbols[i]);
+        }
+        return new String(chars);
+    }
+
+    public int keywordCount() {
+        return keywordLengths.length;
+    }
+
+    public int start() {
+        return ROOT;
+    }
+
+    public int next(
+            int state,
+            int symbol) {
+        return transitions[state * ALPHABET + symbol];
+    }
+
+    /**
+     * @return the best keyword ending at this state, or -1
+     */
+    public int match(int state) {
+        return matches[state];
+    }
+
+    /**
+     * @return whichever of two keyword indexes, -1 meaning none, wins
+     */
+    public int preferred(
+            int current,
+            int candidate) {
+        if (candidate == NONE) {
+            return current;
+        }
+        if (current == NONE || keywordLengths[candidate] > keywordLengths[current]) {
+            return candidate;
+        }
+        return keywordLengths[candidate] == keywordLengths[current] && candidate < current ? candidate : current;
+    }
+
+    /**
+     * @return the index of the best keyword contained in the text, or -1
+     */
+    public int find(CharSequence text) {
+        int state = ROOT;
+        int best = NONE;
+        boolean separated = true;
+        for (int i = 0, length = text.length(); i < length; i++) {
+            int symbol = symbol(text.charAt(i));
+            if (symbol == SEPARATOR) {
+                if (separated) {
+                    continue;
+                }
+                separated = true;
+            } else {
+                separated = false;
+            }
+            state = transitions[state * ALPHABET + symbol];
+            best = preferred(best, matches[state]);
+        }
+        return best;
+    }
+
+    private static byte[] encode(String text) {
+        byte[] symbols = new byte[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = symbol(text.charAt(i));
+            if (symbol != SEPARATOR || (length > 0 && symbols[length - 1] != SEPARATOR)) {
+                symbols[length++] = (byte) symbol;
+            }
+        }
+        if (length > 0 && symbols[length - 1] == SEPARATOR) {
+            length--;
+        }
+        return Arrays.copyOf(symbols, length);
+    }
+
+    private static char character(int symbol) {
+        if (symbol < 26) {
+            return (char) ('A' + symbol);
+        }
+        return symbol < SEPARATOR ? (char) ('0' + symbol - 26) : ' ';
+    }
+
+    private static byte[] symbolTable(char end) {
+        byte[] symbols = new byte[end];
+        for (char c = 0; c < end; c++) {
+            char base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD).charAt(0);
+            if (base >= 'a' && base <= 'z') {
+                symbols[c] = (byte) (base - 'a');
+            } else if (base >= 'A' && base <= 'Z') {
+                symbols[c] = (byte) (base - 'A');
+            } else if (base >= '0' && base <= '9') {
+                symbols[c] = (byte) (26 + base - '0');
+            } else {
+                symbols[c] = SEPARATOR;
+            }
+        }
+        return symbols;
+    }
+}
@@ -0,0 +1,14 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDate;
+
+/**
+ * A transaction as it affects one account, signed the same way as a
+ * {@link StatementLine}.
+ */
+public record LedgerEntry(
+        long transactionId,
+        LocalDate date,
+        long amountMinorUnits,
+        String description
+) {}
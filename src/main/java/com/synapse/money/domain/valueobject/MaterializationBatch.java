@@ -0,0 +1,12 @@
+package com.synapse.money.domain.valueobject;
+
+public record MaterializationBatch(
+        int claimedTemplates,
+        long lastTemplateId,
+        int insertedOccurrences
+) {
+
+    public static MaterializationBatch empty(long afterId) {
+        return new MaterializationBatch(0, afterId, 0);
+    }
+}
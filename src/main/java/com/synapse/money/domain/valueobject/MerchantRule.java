@@ -0,0 +1,12 @@
+package com.synapse.money.domain.valueobject;
+
+/**
+ * A global rule. Categories belong to users, so the target is named and
+ * resolved against each user's own categories.
+ */
+public record MerchantRule(
+        Long id,
+        String pattern,
+        String categoryName,
+        String subcategoryName
+) {}
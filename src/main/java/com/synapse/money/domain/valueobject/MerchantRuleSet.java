@@ -0,0 +1,65 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * The compiled global merchant rules, shared by every user's
+ * {@link Categorizer}.
+ */
+public final class MerchantRuleSet {
+
+    public static final MerchantRuleSet EMPTY = compile(List.of());
+
+    private final KeywordAutomaton automaton;
+    private final String[] categoryKeys;
+    private final String[] subcategoryKeys;
+
+    private MerchantRuleSet(
+            KeywordAutomaton automaton,
+            String[] categoryKeys,
+            String[] subcategoryKeys) {
+        this.automaton = automaton;
+        this.categoryKeys = categoryKeys;
+        this.subcategoryKeys = subcategoryKeys;
+    }
+
+    public static MerchantRuleSet compile(List<MerchantRule> rules) {
+        String[] categoryKeys = new String[rules.size()];
+        String[] subcategoryKeys = new String[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            MerchantRule rule = rules.get(i);
+            categoryKeys[i] = ImportLookup.key(rule.categoryName());
+            subcategoryKeys[i] = rule.subcategoryName() == null
+                    ? null
+                    : ImportLookup.subcategoryKey(rule.categoryName(), rule.subcategoryName());
+        }
+        return new MerchantRuleSet(
+                KeywordAutomaton.compile(rules.stream().map(MerchantRule::pattern).toList()),
+                categoryKeys,
+                subcategoryKeys
+        );
+    }
+
+    public KeywordAutomaton automaton() {
+        return automaton;
+    }
+
+    public int size() {
+        return categoryKeys.length;
+    }
+
+    /**
+     * @return the user's category for the rule, or null when the user has no
+     * category of that name; a missing subcategory only drops the subcategory
+     */
+    CategoryAssignment resolve(
+            int rule,
+            ImportLookup lookup) {
+        Long categoryId = lookup.categoryIdsByName().get(categoryKeys[rule]);
+        if (categoryId == null) {
+            return null;
+        }
+        Long subcategoryId = subcategoryKeys[rule] == null ? null : lookup.subcategoryIdsByName().get(subcategoryKeys[rule]);
+        return new CategoryAssignment(categoryId, subcategoryId);
+    }
+}
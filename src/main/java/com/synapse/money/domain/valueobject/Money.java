@@ -0,0 +1,112 @@
+package com.synapse.money.domain.valueobject;
+
+import java.math.BigDecimal;
+
+/**
+ * An amount held as a whole number of cents. Arithmetic is exact and throws
+ * {@link ArithmeticException} on overflow instead of wrapping. The static
+ * helpers work on raw {@code long} cents, so hot loops can aggregate and
+ * format amounts without allocating a {@code Money} or a {@code BigDecimal}
+ * per row.
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static final int SCALE = 2;
+
+    /**
+     * Longest output of {@link #formatPlain}: sign, 17 integer digits, the
+     * point and two decimals.
+     */
+    public static final int MAX_PLAIN_LENGTH = 21;
+
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        try {
+            return new Money(amount.movePointRight(SCALE).longValueExact());
+        } catch (ArithmeticException e) {
+            throw new ArithmeticException("Amount is not a whole number of cents: " + amount);
+        }
+    }
+
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money negate() {
+        return new Money(Math.negateExact(minorUnits));
+    }
+
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor));
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        char[] buffer = new char[MAX_PLAIN_LENGTH];
+        return new String(buffer, 0, formatPlain(minorUnits, buffer));
+    }
+
+    public static long sum(long[] minorUnits) {
+        return sum(minorUnits, 0, minorUnits.length);
+    }
+
+    public static long sum(
+            long[] minorUnits,
+            int from,
+            int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total = Math.addExact(total, minorUnits[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Writes {@code minorUnits} as a plain decimal such as {@code -12.05} to
+     * the start of {@code buffer} and returns the number of chars written.
+     */
+    public static int formatPlain(
+            long minorUnits,
+            char[] buffer) {
+        // Digits come from the non-positive value so Long.MIN_VALUE needs no special case.
+        long value = minorUnits > 0 ? -minorUnits : minorUnits;
+        int position = MAX_PLAIN_LENGTH;
+        buffer[--position] = (char) ('0' - value % 10);
+        value /= 10;
+        buffer[--position] = (char) ('0' - value % 10);
+        value /= 10;
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+        if (minorUnits < 0) {
+            buffer[--position] = '-';
+        }
+        int length = MAX_PLAIN_LENGTH - position;
+        System.arraycopy(buffer, position, buffer, 0, length);
+        return length;
+    }
+}
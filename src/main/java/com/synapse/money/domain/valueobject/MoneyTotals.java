@@ -0,0 +1,37 @@
+package com.synapse.money.domain.valueobject;
+
+/**
+ * Fixed set of running totals in cents, one per bucket index, backed by a
+ * single {@code long[]}. Adding to a bucket allocates nothing, which keeps
+ * report loops over hundreds of thousands of rows out of the young generation.
+ */
+public final class MoneyTotals {
+
+    private final long[] totals;
+
+    public MoneyTotals(int buckets) {
+        this.totals = new long[buckets];
+    }
+
+    public void add(
+            int bucket,
+            long minorUnits) {
+        totals[bucket] = Math.addExact(totals[bucket], minorUnits);
+    }
+
+    public long minorUnits(int bucket) {
+        return totals[bucket];
+    }
+
+    public Money total(int bucket) {
+        return new Money(totals[bucket]);
+    }
+
+    public Money grandTotal() {
+        return new Money(Money.sum(totals));
+    }
+
+    public int size() {
+        return totals.length;
+    }
+}
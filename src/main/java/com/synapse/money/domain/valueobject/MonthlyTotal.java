@@ -0,0 +1,15 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+public record MonthlyTotal(
+        YearMonth month,
+        Long categoryId,
+        Long subcategoryId,
+        ETransactionType transactionType,
+        BigDecimal totalAmount,
+        int transactionCount
+) {}
@@ -0,0 +1,9 @@
+package com.synapse.money.domain.valueobject;
+
+import java.math.BigDecimal;
+
+public record MonthlyTotalDelta(
+        MonthlyTotalKey key,
+        BigDecimal amount,
+        int count
+) {}
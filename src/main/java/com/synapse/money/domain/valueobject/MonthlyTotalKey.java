@@ -0,0 +1,38 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.YearMonth;
+import java.util.Comparator;
+
+public record MonthlyTotalKey(
+        Long userId,
+        YearMonth month,
+        Long categoryId,
+        Long subcategoryId,
+        ETransactionType transactionType
+) implements Comparable<MonthlyTotalKey> {
+
+    private static final Comparator<MonthlyTotalKey> ORDER = Comparator
+            .comparing(MonthlyTotalKey::userId)
+            .thenComparing(MonthlyTotalKey::month)
+            .thenComparing(MonthlyTotalKey::categoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(MonthlyTotalKey::subcategoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(MonthlyTotalKey::transactionType);
+
+    public static MonthlyTotalKey of(Transaction transaction) {
+        return new MonthlyTotalKey(
+                transaction.getUserId(),
+                YearMonth.from(transaction.getTransactionDate()),
+                transaction.getCategoryId(),
+                transaction.getSubcategoryId(),
+                transaction.getTransactionType()
+        );
+    }
+
+    @Override
+    public int compareTo(MonthlyTotalKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,12 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EWebhookEventType;
+
+/**
+ * An event about to be written to the outbox; {@code payload} is the JSON
+ * document delivered as the event's data.
+ */
+public record OutboxEvent(
+        EWebhookEventType type,
+        String payload
+) {}
@@ -0,0 +1,120 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running platform totals for one user-id range. Amounts are kept in cents
+ * and counters in primitives; accumulators of disjoint ranges combine with
+ * {@link #merge} into the platform-wide result.
+ */
+public final class PlatformStatisticsAccumulator {
+
+    private static final ETransactionType[] TYPES = ETransactionType.values();
+
+    private long activeUsers;
+    private long lastUserId = Long.MIN_VALUE;
+    private final long[] countsByType = new long[TYPES.length];
+    private final MoneyTotals volumeByType = new MoneyTotals(TYPES.length);
+    private final Map<Long, long[]> countsByCategory = new HashMap<>();
+    private long accountCount;
+    private long balanceMinorUnits;
+
+    /**
+     * Adds one transaction. Rows must arrive grouped by user, so a change of
+     * user id is what counts an active user.
+     */
+    public void addTransaction(
+            long userId,
+            ETransactionType type,
+            long amountMinorUnits,
+            Long categoryId) {
+        if (userId != lastUserId) {
+            activeUsers++;
+            lastUserId = userId;
+        }
+        addTypeTotals(type, 1, amountMinorUnits);
+        if (categoryId != null) {
+            addCategoryCount(categoryId, 1);
+        }
+    }
+
+    public void addActiveUsers(long users) {
+        activeUsers += users;
+    }
+
+    public void addTypeTotals(
+            ETransactionType type,
+            long count,
+            long amountMinorUnits) {
+        countsByType[type.ordinal()] += count;
+        volumeByType.add(type.ordinal(), amountMinorUnits);
+    }
+
+    public void addCategoryCount(
+            long categoryId,
+            long count) {
+        countsByCategory.computeIfAbsent(categoryId, id -> new long[1])[0] += count;
+    }
+
+    public void addAccounts(
+            long accounts,
+            long balanceMinorUnits) {
+        this.accountCount += accounts;
+        this.balanceMinorUnits = Math.addExact(this.balanceMinorUnits, balanceMinorUnits);
+    }
+
+    public PlatformStatisticsAccumulator merge(PlatformStatisticsAccumulator other) {
+        addActiveUsers(other.activeUsers);
+        for (ETransactionType type : TYPES) {
+            addTypeTotals(type, other.transactionCount(type), other.volumeByType.minorUnits(type.ordinal()));
+        }
+        other.countsByCategory.forEach((categoryId, count) -> addCategoryCount(categoryId, count[0]));
+        addAccounts(other.accountCount, other.balanceMinorUnits);
+        return this;
+    }
+
+    public long activeUsers() {
+        return activeUsers;
+    }
+
+    public long transactionCount(ETransactionType type) {
+        return countsByType[type.ordinal()];
+    }
+
+    public Money volume(ETransactionType type) {
+        return volumeByType.total(type.ordinal());
+    }
+
+    public long accountCount() {
+        return accountCount;
+    }
+
+    public Money totalBalance() {
+        return Money.ofMinor(balanceMinorUnits);
+    }
+
+    public BigDecimal averageBalance() {
+        if (accountCount == 0) {
+            return BigDecimal.ZERO.setScale(Money.SCALE);
+        }
+        return totalBalance().toBigDecimal().divide(BigDecimal.valueOf(accountCount), Money.SCALE, RoundingMode.HALF_EVEN);
+    }
+
+    /**
+     * Transaction count per category, most used first and ties by id.
+     */
+    public Map<Long, Long> categoryPopularity() {
+        Map<Long, Long> popularity = new LinkedHashMap<>();
+        countsByCategory.entrySet().stream()
+                .sorted(Map.Entry.<Long, long[]>comparingByValue((left, right) -> Long.compare(right[0], left[0]))
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> popularity.put(entry.getKey(), entry.getValue()[0]));
+        return popularity;
+    }
+}
@@ -0,0 +1,16 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record Reconciliation(
+        Long id,
+        Long accountId,
+        LocalDate periodStart,
+        LocalDate periodEnd,
+        int dateToleranceDays,
+        int matchedCount,
+        int missingCount,
+        int extraCount,
+        LocalDateTime createdAt
+) {}
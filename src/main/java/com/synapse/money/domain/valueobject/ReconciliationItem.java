@@ -0,0 +1,22 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EReconciliationStatus;
+
+import java.time.LocalDate;
+
+/**
+ * {@code lineNumber} is the 1-based position on the statement and is null for
+ * extra transactions; {@code transactionId} is null for missing lines. The
+ * description is the statement's when there is a line, the ledger's
+ * otherwise, and {@code score} is the description similarity of a match.
+ */
+public record ReconciliationItem(
+        EReconciliationStatus status,
+        Integer lineNumber,
+        Long transactionId,
+        LocalDate statementDate,
+        LocalDate ledgerDate,
+        long amountMinorUnits,
+        String description,
+        Double score
+) {}
@@ -0,0 +1,40 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * A recurring transaction as the forecast projects it: one occurrence per
+ * month after the anchor date, the anchor plus k months clamped to the month
+ * end. Occurrences up to {@code watermark} already exist as transactions.
+ */
+public record RecurringTemplate(
+        long id,
+        long accountId,
+        Long transferAccountId,
+        ETransactionType transactionType,
+        long amountMinorUnits,
+        LocalDate anchorDate,
+        LocalDate watermark
+) {
+
+    public static RecurringTemplate of(
+            Transaction transaction,
+            LocalDate watermark) {
+        return new RecurringTemplate(
+                transaction.getId(),
+                transaction.getAccountId(),
+                transaction.getTransferAccountId(),
+                transaction.getTransactionType(),
+                Money.of(transaction.getAmount()).minorUnits(),
+                transaction.getTransactionDate(),
+                watermark
+        );
+    }
+
+    public RecurringTemplate withWatermark(LocalDate watermark) {
+        return new RecurringTemplate(id, accountId, transferAccountId, transactionType, amountMinorUnits, anchorDate, watermark);
+    }
+}
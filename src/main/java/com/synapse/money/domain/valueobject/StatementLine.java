@@ -0,0 +1,13 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDate;
+
+/**
+ * One line of a bank statement. The amount is signed: credits to the account
+ * are positive and debits negative.
+ */
+public record StatementLine(
+        LocalDate date,
+        long amountMinorUnits,
+        String description
+) {}
@@ -0,0 +1,299 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EReconciliationStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Matches statement lines to ledger entries in one sort-merge pass. Both
+ * sides are ordered by amount and then date, so the candidates for a line
+ * are a contiguous run of equal amounts, and inside that run the entries
+ * within the date tolerance form a window that only moves forward. Among the
+ * unmatched entries in the window, the line takes the one whose description
+ * is most alike, less a small penalty per day apart. The choice is greedy in
+ * date order: a line never gives up its entry to a later line.
+ */
+public final class StatementReconciler {
+
+    /** Similarity given up per day between statement and ledger dates. */
+    static final double DAY_PENALTY = 0.05;
+
+    private static final int[] NO_TRIGRAMS = new int[0];
+
+    private final List<StatementLine> statement;
+    private final List<LedgerEntry> ledger;
+    private final int dateToleranceDays;
+    private final long[] lineAmounts;
+    private final int[] lineDays;
+    private final long[] entryAmounts;
+    private final int[] entryDays;
+    private final int[][] lineTrigrams;
+    private final int[][] entryTrigrams;
+    private final int[] matchOf;
+    private final double[] scores;
+    private final boolean[] used;
+
+    private StatementReconciler(
+            List<StatementLine> statement,
+            List<LedgerEntry> ledger,
+            int dateToleranceDays) {
+        this.statement = statement;
+        this.ledger = ledger;
+        this.dateToleranceDays = dateToleranceDays;
+        this.lineAmounts = new long[statement.size()];
+        this.lineDays = new int[statement.size()];
+        for (int i = 0; i < lineAmounts.length; i++) {
+            lineAmounts[i] = statement.get(i).amountMinorUnits();
+            lineDays[i] = Math.toIntExact(statement.get(i).date().toEpochDay());
+        }
+        this.entryAmounts = new long[ledger.size()];
+        this.entryDays = new int[ledger.size()];
+        for (int i = 0; i < entryAmounts.length; i++) {
+            entryAmounts[i] = ledger.get(i).amountMinorUnits();
+            entryDays[i] = Math.toIntExact(ledger.get(i).date().toEpochDay());
+        }
+        this.lineTrigrams = new int[lineAmounts.length][];
+        this.entryTrigrams = new int[entryAmounts.length][];
+        this.matchOf = new int[lineAmounts.length];
+        Arrays.fill(matchOf, -1);
+        this.scores = new double[lineAmounts.length];
+        this.used = new boolean[entryAmounts.length];
+    }
+
+    /**
+     * Returns one item per statement line, matched or missing, in statement
+     * order, followed by the extra ledger entries in ledger order.
+     */
+    public static List<ReconciliationItem> reconcile(
+            List<StatementLine> statement,
+            List<LedgerEntry> ledger,
+            int dateToleranceDays) {
+        if (dateToleranceDays < 0) {
+            throw new IllegalArgumentException("Date tolerance must not be negative");
+        }
+        StatementReconciler reconciler = new StatementReconciler(statement, ledger, dateToleranceDays);
+        reconciler.merge();
+        return reconciler.items();
+    }
+
+    private void merge() {
+        int[] lineOrder = order(lineAmounts, lineDays);
+        int[] entryOrder = order(entryAmounts, entryDays);
+        int line = 0;
+        int entry = 0;
+        while (line < lineOrder.length && entry < entryOrder.length) {
+            long lineAmount = lineAmounts[lineOrder[line]];
+            long entryAmount = entryAmounts[entryOrder[entry]];
+            int lineEnd = runEnd(lineOrder, lineAmounts, line);
+            int entryEnd = runEnd(entryOrder, entryAmounts, entry);
+            if (lineAmount == entryAmount) {
+                matchRun(lineOrder, line, lineEnd, entryOrder, entry, entryEnd);
+            }
+            if (lineAmount <= entryAmount) {
+                line = lineEnd;
+            }
+            if (entryAmount <= lineAmount) {
+                entry = entryEnd;
+            }
+        }
+    }
+
+    /**
+     * Both runs share one amount and are in date order, so the left edge of
+     * the tolerance window never moves back; entries left behind it are
+     * either matched or too early for every later line.
+     */
+    private void matchRun(
+            int[] lineOrder,
+            int lineFrom,
+            int lineTo,
+            int[] entryOrder,
+            int entryFrom,
+            int entryTo) {
+        int low = entryFrom;
+        for (int l = lineFrom; l < lineTo; l++) {
+            int line = lineOrder[l];
+            int day = lineDays[line];
+            while (low < entryTo && (used[entryOrder[low]] || entryDays[entryOrder[low]] < day - dateToleranceDays)) {
+                low++;
+            }
+            int best = -1;
+            double bestRank = Double.NEGATIVE_INFINITY;
+            double bestSimilarity = 0;
+            for (int e = low; e < entryTo && entryDays[entryOrder[e]] <= day + dateToleranceDays; e++) {
+                int entry = entryOrder[e];
+                if (used[entry]) {
+                    continue;
+                }
+                double similarity = similarity(lineTrigrams(line), entryTrigrams(entry));
+                double rank = similarity - DAY_PENALTY * Math.abs(entryDays[entry] - day);
+                if (rank > bestRank) {
+                    best = entry;
+                    bestRank = rank;
+                    bestSimilarity = similarity;
+                }
+            }
+            if (best >= 0) {
+                used[best] = true;
+                matchOf[line] = best;
+                scores[line] = Math.round(bestSimilarity * 1000) / 1000.0;
+            }
+        }
+    }
+
+    private List<ReconciliationItem> items() {
+        List<ReconciliationItem> items = new ArrayList<>(statement.size() + ledger.size());
+        for (int line = 0; line < matchOf.length; line++) {
+            StatementLine statementLine = statement.get(line);
+            if (matchOf[line] < 0) {
+                items.add(new ReconciliationItem(EReconciliationStatus.MISSING, line + 1, null, statementLine.date(), null,
+                        statementLine.amountMinorUnits(), statementLine.description(), null));
+            } else {
+                LedgerEntry entry = ledger.get(matchOf[line]);
+                items.add(new ReconciliationItem(EReconciliationStatus.MATCHED, line + 1, entry.transactionId(),
+                        statementLine.date(), entry.date(), statementLine.amountMinorUnits(), statementLine.description(),
+                        scores[line]));
+            }
+        }
+        for (int entry = 0; entry < used.length; entry++) {
+            if (!used[entry]) {
+                LedgerEntry ledgerEntry = ledger.get(entry);
+                items.add(new ReconciliationItem(EReconciliationStatus.EXTRA, null, ledgerEntry.transactionId(), null,
+                        ledgerEntry.date(), ledgerEntry.amountMinorUnits(), ledgerEntry.description(), null));
+            }
+        }
+        return items;
+    }
+
+    private int[] lineTrigrams(int line) {
+        if (lineTrigrams[line] == null) {
+            lineTrigrams[line] = trigrams(statement.get(line).description());
+        }
+        return lineTrigrams[line];
+    }
+
+    private int[] entryTrigrams(int entry) {
+        if (entryTrigrams[entry] == null) {
+            entryTrigrams[entry] = trigrams(ledger.get(entry).description());
+        }
+        return entryTrigrams[entry];
+    }
+
+    /**
+     * Positions sorted by amount and then day. Sorting packs the key in the
+     * high half of a {@code long} and the position in the low half, so it runs
+     * over primitives: first on each amount's rank among the distinct
+     * amounts, then on the day within every run of equal amounts.
+     */
+    private static int[] order(
+            long[] amounts,
+            int[] days) {
+        long[] distinct = amounts.clone();
+        Arrays.sort(distinct);
+        int distinctCount = 0;
+        for (int i = 0; i < distinct.length; i++) {
+            if (distinctCount == 0 || distinct[i] != distinct[distinctCount - 1]) {
+                distinct[distinctCount++] = distinct[i];
+            }
+        }
+        long[] keys = new long[amounts.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (long) Arrays.binarySearch(distinct, 0, distinctCount, amounts[i]) << 32 | i;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = (int) keys[i];
+        }
+        for (int from = 0; from < order.length; ) {
+            int to = runEnd(order, amounts, from);
+            if (to - from > 1) {
+                for (int i = from; i < to; i++) {
+                    keys[i] = (long) days[order[i]] << 32 | order[i];
+                }
+                Arrays.sort(keys, from, to);
+                for (int i = from; i < to; i++) {
+                    order[i] = (int) keys[i];
+                }
+            }
+            from = to;
+        }
+        return order;
+    }
+
+    private static int runEnd(
+            int[] order,
+            long[] amounts,
+            int from) {
+        long amount = amounts[order[from]];
+        int end = from + 1;
+        while (end < order.length && amounts[order[end]] == amount) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * Distinct trigrams of the normalized text, sorted. The text is padded
+     * with separators, as {@code pg_trgm} does, so short words and word
+     * boundaries still count.
+     */
+    static int[] trigrams(String text) {
+        if (text == null || text.isEmpty()) {
+            return NO_TRIGRAMS;
+        }
+        int[] grams = new int[text.length() + 1];
+        int count = 0;
+        int first = KeywordAutomaton.SEPARATOR;
+        int second = KeywordAutomaton.SEPARATOR;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = KeywordAutomaton.symbol(text.charAt(i));
+            if (symbol == KeywordAutomaton.SEPARATOR && second == KeywordAutomaton.SEPARATOR) {
+                continue;
+            }
+            grams[count++] = (first * KeywordAutomaton.ALPHABET + second) * KeywordAutomaton.ALPHABET + symbol;
+            first = second;
+            second = symbol;
+        }
+        if (second != KeywordAutomaton.SEPARATOR) {
+            grams[count++] = (first * KeywordAutomaton.ALPHABET + second) * KeywordAutomaton.ALPHABET
+                    + KeywordAutomaton.SEPARATOR;
+        }
+        Arrays.sort(grams, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+
+    /**
+     * Jaccard similarity of two sorted trigram sets, 0 when either is empty.
+     */
+    static double similarity(
+            int[] left,
+            int[] right) {
+        if (left.length == 0 || right.length == 0) {
+            return 0;
+        }
+        int common = 0;
+        int i = 0;
+        int j = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                common++;
+                i++;
+                j++;
+            }
+        }
+        return (double) common / (left.length + right.length - common);
+    }
+}
@@ -0,0 +1,401 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.Arrays;
+
+/**
+ * Immutable compressed set of non-negative ints in the Roaring layout: values
+ * are split by their high 16 bits into chunks, and a chunk is a sorted array
+ * of its low halves while it holds at most {@value #ARRAY_LIMIT} of them and
+ * a 65,536-bit bitmap beyond that. Sparse sets cost two bytes per value,
+ * dense ones at most 8 KiB per chunk, and set operations go chunk by chunk.
+ */
+public final class TagBitmap {
+
+    static final int ARRAY_LIMIT = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int WORDS = CHUNK_SIZE / Long.SIZE;
+
+    private static final TagBitmap EMPTY = new TagBitmap(new char[0], new Container[0]);
+
+    private enum Operation { AND, OR, AND_NOT }
+
+    private final char[] keys;
+    private final Container[] containers;
+    private final int cardinality;
+
+    private TagBitmap(
+            char[] keys,
+            Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+        int total = 0;
+        for (Container container : containers) {
+            total += container.cardinality();
+        }
+        this.cardinality = total;
+    }
+
+    public static TagBitmap empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, (char) (value >>> CHUNK_BITS));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public TagBitmap and(TagBitmap other) {
+        return combine(other, Operation.AND);
+    }
+
+    public TagBitmap or(TagBitmap other) {
+        return combine(other, Operation.OR);
+    }
+
+    public TagBitmap andNot(TagBitmap other) {
+        return combine(other, Operation.AND_NOT);
+    }
+
+    /**
+     * Up to {@code limit} values below {@code bound}, largest first.
+     */
+    public int[] descendingBelow(
+            int bound,
+            int limit) {
+        int[] out = new int[Math.min(limit, cardinality)];
+        int count = 0;
+        for (int i = keys.length - 1; i >= 0 && count < out.length; i--) {
+            int base = keys[i] << CHUNK_BITS;
+            if (base < bound) {
+                count = containers[i].collectDescending(base, bound, out, count);
+            }
+        }
+        return count == out.length ? out : Arrays.copyOf(out, count);
+    }
+
+    private TagBitmap combine(
+            TagBitmap other,
+            Operation operation) {
+        boolean keepLeftOnly = operation != Operation.AND;
+        boolean keepRightOnly = operation == Operation.OR;
+        char[] resultKeys = new char[keys.length + other.keys.length];
+        Container[] resultContainers = new Container[resultKeys.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < keys.length || j < other.keys.length) {
+            if ((i == keys.length && !keepRightOnly) || (j == other.keys.length && !keepLeftOnly)) {
+                break;
+            }
+            int order = i == keys.length ? 1 : j == other.keys.length ? -1 : Character.compare(keys[i], other.keys[j]);
+            char key;
+            Container result;
+            if (order < 0) {
+                key = keys[i];
+                result = keepLeftOnly ? containers[i] : null;
+                i++;
+            } else if (order > 0) {
+                key = other.keys[j];
+                result = keepRightOnly ? other.containers[j] : null;
+                j++;
+            } else {
+                key = keys[i];
+                result = apply(operation, containers[i], other.containers[j]);
+                i++;
+                j++;
+            }
+            if (result != null) {
+                resultKeys[size] = key;
+                resultContainers[size] = result;
+                size++;
+            }
+        }
+        return size == 0 ? EMPTY : new TagBitmap(Arrays.copyOf(resultKeys, size), Arrays.copyOf(resultContainers, size));
+    }
+
+    /**
+     * The chunk-level operation, or null when the result chunk is empty.
+     */
+    private static Container apply(
+            Operation operation,
+            Container left,
+            Container right) {
+        return switch (operation) {
+            case AND -> left instanceof ArrayContainer array
+                    ? array.filter(right, true)
+                    : right instanceof ArrayContainer array
+                    ? array.filter(left, true)
+                    : BitmapContainer.combine((BitmapContainer) left, (BitmapContainer) right, operation);
+            case OR -> left instanceof ArrayContainer leftArray && right instanceof ArrayContainer rightArray
+                    ? leftArray.union(rightArray)
+                    : BitmapContainer.combine(left.toBitmap(), right.toBitmap(), operation);
+            case AND_NOT -> left instanceof ArrayContainer array
+                    ? array.filter(right, false)
+                    : BitmapContainer.combine((BitmapContainer) left, right.toBitmap(), operation);
+        };
+    }
+
+    private static Container fromLows(
+            char[] lows,
+            int count) {
+        if (count == 0) {
+            return null;
+        }
+        if (count <= ARRAY_LIMIT) {
+            return new ArrayContainer(Arrays.copyOf(lows, count));
+        }
+        long[] words = new long[WORDS];
+        for (int i = 0; i < count; i++) {
+            words[lows[i] >>> 6] |= 1L << lows[i];
+        }
+        return new BitmapContainer(words, count);
+    }
+
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+
+        int cardinality();
+
+        boolean contains(char low);
+
+        BitmapContainer toBitmap();
+
+        /**
+         * Writes the chunk's values below {@code bound} into {@code out} from
+         * {@code count} on, largest first, and returns the new count.
+         */
+        int collectDescending(
+                int base,
+                int bound,
+                int[] out,
+                int count);
+    }
+
+    private record ArrayContainer(char[] lows) implements Container {
+
+        @Override
+        public int cardinality() {
+            return lows.length;
+        }
+
+        @Override
+        public boolean contains(char low) {
+            return Arrays.binarySearch(lows, low) >= 0;
+        }
+
+        @Override
+        public BitmapContainer toBitmap() {
+            long[] words = new long[WORDS];
+            for (char low : lows) {
+                words[low >>> 6] |= 1L << low;
+            }
+            return new BitmapContainer(words, lows.length);
+        }
+
+        @Override
+        public int collectDescending(
+                int base,
+                int bound,
+                int[] out,
+                int count) {
+            int end = bound - base >= CHUNK_SIZE ? lows.length : firstAtLeast(bound - base);
+            for (int i = end - 1; i >= 0 && count < out.length; i--) {
+                out[count++] = base + lows[i];
+            }
+            return count;
+        }
+
+        Container filter(
+                Container other,
+                boolean keep) {
+            char[] kept = new char[lows.length];
+            int count = 0;
+            for (char low : lows) {
+                if (other.contains(low) == keep) {
+                    kept[count++] = low;
+                }
+            }
+            return fromLows(kept, count);
+        }
+
+        Container union(ArrayContainer other) {
+            char[] merged = new char[lows.length + other.lows.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < lows.length && j < other.lows.length) {
+                if (lows[i] < other.lows[j]) {
+                    merged[count++] = lows[i++];
+                } else if (lows[i] > other.lows[j]) {
+                    merged[count++] = other.lows[j++];
+                } else {
+                    merged[count++] = lows[i++];
+                    j++;
+                }
+            }
+            while (i < lows.length) {
+                merged[count++] = lows[i++];
+            }
+            while (j < other.lows.length) {
+                merged[count++] = other.lows[j++];
+            }
+            return fromLows(merged, count);
+        }
+
+        private int firstAtLeast(int low) {
+            int from = 0;
+            int to = lows.length;
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (lows[mid] < low) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+
+    private record BitmapContainer(long[] words, int cardinality) implements Container {
+
+        @Override
+        public boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        public BitmapContainer toBitmap() {
+            return this;
+        }
+
+        @Override
+        public int collectDescending(
+                int base,
+                int bound,
+                int[] out,
+                int count) {
+            int last = Math.min(bound - base, CHUNK_SIZE) - 1;
+            int word = last >>> 6;
+            long bits = words[word] & (-1L >>> (63 - (last & 63)));
+            while (count < out.length) {
+                if (bits != 0) {
+                    int bit = 63 - Long.numberOfLeadingZeros(bits);
+                    out[count++] = base + (word << 6) + bit;
+                    bits &= ~(1L << bit);
+                } else if (word == 0) {
+                    break;
+                } else {
+                    bits = words[--word];
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Word-wise operation; a result that fits an array container is
+         * stored as one.
+         */
+        static Container combine(
+                BitmapContainer left,
+                BitmapContainer right,
+                Operation operation) {
+            long[] words = new long[WORDS];
+            int cardinality = 0;
+            for (int i = 0; i < WORDS; i++) {
+                words[i] = switch (operation) {
+                    case AND -> left.words[i] & right.words[i];
+                    case OR -> left.words[i] | right.words[i];
+                    case AND_NOT -> left.words[i] & ~right.words[i];
+                };
+                cardinality += Long.bitCount(words[i]);
+            }
+            if (cardinality == 0) {
+                return null;
+            }
+            if (cardinality > ARRAY_LIMIT) {
+                return new BitmapContainer(words, cardinality);
+            }
+            char[] lows = new char[cardinality];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                for (long bits = words[i]; bits != 0; bits &= bits - 1) {
+                    lows[count++] = (char) ((i << 6) + Long.numberOfTrailingZeros(bits));
+                }
+            }
+            return new ArrayContainer(lows);
+        }
+    }
+
+    /**
+     * Collects values in ascending order, one chunk at a time.
+     */
+    public static final class Builder {
+
+        private char[] keys = new char[4];
+        private Container[] containers = new Container[4];
+        private int size;
+        private int currentKey = -1;
+        private char[] lows = new char[16];
+        private int lowCount;
+        private int last = -1;
+
+        private Builder() {
+        }
+
+        public Builder add(int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException("Values must not be negative");
+            }
+            if (value < last) {
+                throw new IllegalArgumentException("Values must be added in ascending order");
+            }
+            if (value == last) {
+                return this;
+            }
+            last = value;
+            int key = value >>> CHUNK_BITS;
+            if (key != currentKey) {
+                flush();
+                currentKey = key;
+            }
+            if (lowCount == lows.length) {
+                lows = Arrays.copyOf(lows, lows.length * 2);
+            }
+            lows[lowCount++] = (char) value;
+            return this;
+        }
+
+        public TagBitmap build() {
+            flush();
+            return size == 0 ? EMPTY : new TagBitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+        }
+
+        private void flush() {
+            Container container = fromLows(lows, lowCount);
+            if (container == null) {
+                return;
+            }
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, size * 2);
+                containers = Arrays.copyOf(containers, size * 2);
+            }
+            keys[size] = (char) currentKey;
+            containers[size] = container;
+            size++;
+            lowCount = 0;
+        }
+    }
+}
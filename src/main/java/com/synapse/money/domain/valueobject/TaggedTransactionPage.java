@@ -0,0 +1,15 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.util.List;
+
+public record TaggedTransactionPage(
+        List<Transaction> items,
+        TransactionIdCursor nextCursor
+) {
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
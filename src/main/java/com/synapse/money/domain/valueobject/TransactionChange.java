@@ -0,0 +1,49 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.time.LocalDate;
+
+/**
+ * A single write to the transactions table: {@code before} is null for an
+ * insert and {@code after} is null for a delete.
+ */
+public record TransactionChange(
+        Transaction before,
+        Transaction after
+) {
+
+    public TransactionChange {
+        if (before == null && after == null) {
+            throw new IllegalArgumentException("A change needs a before or an after state");
+        }
+    }
+
+    public static TransactionChange created(Transaction transaction) {
+        return new TransactionChange(null, transaction);
+    }
+
+    public static TransactionChange updated(
+            Transaction before,
+            Transaction after) {
+        return new TransactionChange(before, after);
+    }
+
+    public static TransactionChange deleted(Transaction transaction) {
+        return new TransactionChange(transaction, null);
+    }
+
+    public Long userId() {
+        return after != null ? after.getUserId() : before.getUserId();
+    }
+
+    public LocalDate earliestDate() {
+        if (before == null) {
+            return after.getTransactionDate();
+        }
+        if (after == null || before.getTransactionDate().isBefore(after.getTransactionDate())) {
+            return before.getTransactionDate();
+        }
+        return after.getTransactionDate();
+    }
+}
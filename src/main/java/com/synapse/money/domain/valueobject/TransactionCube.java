@@ -0,0 +1,249 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented snapshot of one user's transactions for interactive
+ * slicing. Row {@code i} is spread across parallel primitive arrays sorted by
+ * date; categories and accounts are dictionary-encoded, so a group-by is a
+ * plain array index and a date range is two binary searches. Immutable once
+ * built.
+ */
+public final class TransactionCube {
+
+    private static final ETransactionType[] TYPES = ETransactionType.values();
+
+    private static final int ANY = -1;
+
+    /** Dictionary code of transactions without a category. */
+    private static final int NO_CATEGORY = 0;
+
+    private final int size;
+    private final int[] epochDays;
+    private final int[] months;
+    private final long[] amounts;
+    private final int[] categoryCodes;
+    private final int[] accountCodes;
+    private final int[] typeCodes;
+    private final YearMonth firstMonth;
+    private final int monthCount;
+    private final Long[] categoryIds;
+    private final long[] accountIds;
+    private final Map<Long, Integer> categoryCodeById;
+    private final Map<Long, Integer> accountCodeById;
+
+    private TransactionCube(Builder builder) {
+        this.size = builder.size;
+        this.epochDays = Arrays.copyOf(builder.epochDays, size);
+        this.amounts = Arrays.copyOf(builder.amounts, size);
+        this.categoryCodes = Arrays.copyOf(builder.categoryCodes, size);
+        this.accountCodes = Arrays.copyOf(builder.accountCodes, size);
+        this.typeCodes = Arrays.copyOf(builder.typeCodes, size);
+        this.categoryIds = builder.categoryIds.toArray(Long[]::new);
+        this.accountIds = builder.accountIds.stream().mapToLong(Long::longValue).toArray();
+        this.categoryCodeById = Map.copyOf(builder.categoryCodeById);
+        this.accountCodeById = Map.copyOf(builder.accountCodeById);
+        this.months = new int[size];
+        if (size == 0) {
+            this.firstMonth = null;
+            this.monthCount = 0;
+            return;
+        }
+        this.firstMonth = YearMonth.from(LocalDate.ofEpochDay(epochDays[0]));
+        int month = 0;
+        long nextMonthStart = firstMonth.plusMonths(1).atDay(1).toEpochDay();
+        for (int i = 0; i < size; i++) {
+            while (epochDays[i] >= nextMonthStart) {
+                month++;
+                nextMonthStart = firstMonth.plusMonths(month + 1L).atDay(1).toEpochDay();
+            }
+            months[i] = month;
+        }
+        this.monthCount = month + 1;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<InsightTotal> aggregate(TransactionCubeQuery query) {
+        int from = firstIndexOnOrAfter(query.from().toEpochDay());
+        int to = firstIndexOnOrAfter(query.to().toEpochDay() + 1);
+        Integer categoryCode = query.categoryId() == null ? Integer.valueOf(ANY) : categoryCodeById.get(query.categoryId());
+        Integer accountCode = query.accountId() == null ? Integer.valueOf(ANY) : accountCodeById.get(query.accountId());
+        if (from >= to || categoryCode == null || accountCode == null) {
+            return List.of();
+        }
+        int typeCode = query.type() == null ? ANY : query.type().ordinal();
+
+        int[] groups = groupsOf(query.groupBy());
+        MoneyTotals totals = new MoneyTotals(bucketsOf(query.groupBy()));
+        long[] counts = new long[totals.size()];
+        scan(from, to, typeCode, categoryCode, accountCode, groups, totals, counts);
+
+        List<InsightTotal> result = new ArrayList<>();
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                result.add(totalOf(query.groupBy(), bucket, totals.total(bucket), counts[bucket]));
+            }
+        }
+        if (query.groupBy() == EInsightDimension.CATEGORY || query.groupBy() == EInsightDimension.ACCOUNT) {
+            result.sort(Comparator.comparing(InsightTotal::categoryId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(InsightTotal::accountId, Comparator.nullsFirst(Comparator.naturalOrder())));
+        }
+        return result;
+    }
+
+    /**
+     * The filter is evaluated without branches and non-matching rows add zero,
+     * so the loop body stays straight-line code the JIT can unroll and
+     * vectorise.
+     */
+    private void scan(
+            int from,
+            int to,
+            int typeCode,
+            int categoryCode,
+            int accountCode,
+            int[] groups,
+            MoneyTotals totals,
+            long[] counts) {
+        boolean anyType = typeCode == ANY;
+        boolean anyCategory = categoryCode == ANY;
+        boolean anyAccount = accountCode == ANY;
+        for (int i = from; i < to; i++) {
+            boolean matches = (anyType | typeCodes[i] == typeCode)
+                    & (anyCategory | categoryCodes[i] == categoryCode)
+                    & (anyAccount | accountCodes[i] == accountCode);
+            long mask = matches ? -1L : 0L;
+            totals.add(groups[i], amounts[i] & mask);
+            counts[groups[i]] -= mask;
+        }
+    }
+
+    private int[] groupsOf(EInsightDimension dimension) {
+        return switch (dimension) {
+            case MONTH -> months;
+            case CATEGORY -> categoryCodes;
+            case ACCOUNT -> accountCodes;
+            case TYPE -> typeCodes;
+        };
+    }
+
+    private int bucketsOf(EInsightDimension dimension) {
+        return switch (dimension) {
+            case MONTH -> monthCount;
+            case CATEGORY -> categoryIds.length;
+            case ACCOUNT -> accountIds.length;
+            case TYPE -> TYPES.length;
+        };
+    }
+
+    private InsightTotal totalOf(
+            EInsightDimension dimension,
+            int bucket,
+            Money total,
+            long count) {
+        return switch (dimension) {
+            case MONTH -> new InsightTotal(firstMonth.plusMonths(bucket), null, null, null, total, count);
+            case CATEGORY -> new InsightTotal(null, categoryIds[bucket], null, null, total, count);
+            case ACCOUNT -> new InsightTotal(null, null, accountIds[bucket], null, total, count);
+            case TYPE -> new InsightTotal(null, null, null, TYPES[bucket], total, count);
+        };
+    }
+
+    private int firstIndexOnOrAfter(long epochDay) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (epochDays[mid] < epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Collects rows in date order into growable primitive columns.
+     */
+    public static final class Builder {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private int size;
+        private int[] epochDays = new int[INITIAL_CAPACITY];
+        private long[] amounts = new long[INITIAL_CAPACITY];
+        private int[] categoryCodes = new int[INITIAL_CAPACITY];
+        private int[] accountCodes = new int[INITIAL_CAPACITY];
+        private int[] typeCodes = new int[INITIAL_CAPACITY];
+        private final List<Long> categoryIds = new ArrayList<>();
+        private final List<Long> accountIds = new ArrayList<>();
+        private final Map<Long, Integer> categoryCodeById = new HashMap<>();
+        private final Map<Long, Integer> accountCodeById = new HashMap<>();
+
+        private Builder() {
+            categoryIds.add(null);
+        }
+
+        public Builder add(
+                LocalDate transactionDate,
+                long amountMinorUnits,
+                Long categoryId,
+                long accountId,
+                ETransactionType transactionType) {
+            int epochDay = Math.toIntExact(transactionDate.toEpochDay());
+            if (size > 0 && epochDay < epochDays[size - 1]) {
+                throw new IllegalArgumentException("Rows must be added in transaction date order");
+            }
+            if (size == epochDays.length) {
+                grow();
+            }
+            epochDays[size] = epochDay;
+            amounts[size] = amountMinorUnits;
+            categoryCodes[size] = categoryId == null
+                    ? NO_CATEGORY
+                    : categoryCodeById.computeIfAbsent(categoryId, id -> append(categoryIds, id));
+            accountCodes[size] = accountCodeById.computeIfAbsent(accountId, id -> append(accountIds, id));
+            typeCodes[size] = transactionType.ordinal();
+            size++;
+            return this;
+        }
+
+        public TransactionCube build() {
+            return new TransactionCube(this);
+        }
+
+        private void grow() {
+            int capacity = epochDays.length * 2;
+            epochDays = Arrays.copyOf(epochDays, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            categoryCodes = Arrays.copyOf(categoryCodes, capacity);
+            accountCodes = Arrays.copyOf(accountCodes, capacity);
+            typeCodes = Arrays.copyOf(typeCodes, capacity);
+        }
+
+        private static int append(
+                List<Long> dictionary,
+                Long id) {
+            dictionary.add(id);
+            return dictionary.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * A slice of a {@link TransactionCube}: transactions dated within
+ * {@code from}..{@code to} (inclusive), optionally narrowed to one type,
+ * category or account, summed per {@code groupBy} bucket.
+ */
+public record TransactionCubeQuery(
+        EInsightDimension groupBy,
+        LocalDate from,
+        LocalDate to,
+        ETransactionType type,
+        Long categoryId,
+        Long accountId
+) {}
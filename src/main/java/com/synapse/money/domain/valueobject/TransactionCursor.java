@@ -0,0 +1,43 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Seek position in the {@code (transaction_date DESC, id DESC)} ordering of a
+ * user's transactions, exchanged with clients as an opaque token.
+ */
+public record TransactionCursor(
+        LocalDate transactionDate,
+        long id
+) {
+
+    private static final String VERSION = "v1";
+
+    public static TransactionCursor after(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDate(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = VERSION + ':' + transactionDate.toEpochDay() + ':' + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static TransactionCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidPageCursorException("Invalid page cursor");
+            }
+            return new TransactionCursor(LocalDate.ofEpochDay(Long.parseLong(parts[1])), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidPageCursorException("Invalid page cursor");
+        }
+    }
+}
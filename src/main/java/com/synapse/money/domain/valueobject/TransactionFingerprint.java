@@ -0,0 +1,73 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 64-bit fingerprint of an imported transaction: account, date, type,
+ * amount and the description as {@link KeywordAutomaton#normalize} reads
+ * it, so case, accents and punctuation do not tell rows apart. The k-th
+ * identical row of one import gets occurrence k, which keeps two equal
+ * purchases on the same day distinct while a re-import of the same
+ * statement reproduces the same fingerprints. Fingerprints are stored, so
+ * the hashing must never change.
+ */
+public final class TransactionFingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private TransactionFingerprint() {
+    }
+
+    /**
+     * @return the fingerprint of the first occurrence
+     */
+    public static long base(
+            long accountId,
+            LocalDate transactionDate,
+            ETransactionType type,
+            BigDecimal amount,
+            String description) {
+        long hash = FNV_OFFSET;
+        hash = add(hash, accountId);
+        hash = add(hash, transactionDate.toEpochDay());
+        hash = add(hash, type.getDescription());
+        hash = add(hash, Money.of(amount).minorUnits());
+        hash = add(hash, description == null ? "" : KeywordAutomaton.normalize(description));
+        return mix(hash);
+    }
+
+    public static long occurrence(
+            long base,
+            int occurrence) {
+        return occurrence == 0 ? base : mix(base + occurrence * 0x9e3779b97f4a7c15L);
+    }
+
+    private static long add(
+            long hash,
+            long value) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            hash = (hash ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long add(
+            long hash,
+            String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return (hash ^ 0xff) * FNV_PRIME;
+    }
+
+    /** MurmurHash3's finalizer, so nearby inputs spread over all 64 bits. */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
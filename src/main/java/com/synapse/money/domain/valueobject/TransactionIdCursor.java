@@ -0,0 +1,33 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Seek position in the {@code id DESC} ordering of tag-filtered
+ * transactions, exchanged with clients as an opaque token.
+ */
+public record TransactionIdCursor(long id) {
+
+    private static final String VERSION = "v1";
+
+    public String encode() {
+        String raw = VERSION + ':' + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static TransactionIdCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 2 || !VERSION.equals(parts[0])) {
+                throw new InvalidPageCursorException("Invalid page cursor");
+            }
+            return new TransactionIdCursor(Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageCursorException("Invalid page cursor");
+        }
+    }
+}
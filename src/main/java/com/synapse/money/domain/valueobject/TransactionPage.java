@@ -0,0 +1,25 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.util.List;
+
+public record TransactionPage(
+        List<Transaction> items,
+        TransactionCursor nextCursor
+) {
+
+    public static TransactionPage of(
+            List<Transaction> fetched,
+            int limit) {
+        if (fetched.size() <= limit) {
+            return new TransactionPage(fetched, null);
+        }
+        List<Transaction> items = fetched.subList(0, limit);
+        return new TransactionPage(items, TransactionCursor.after(items.getLast()));
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only view of the current row of a forward-only scan. Implementations
+ * are reused between rows, so values must be consumed before advancing.
+ */
+public interface TransactionRow {
+
+    long id();
+
+    long accountId();
+
+    Long categoryId();
+
+    Long subcategoryId();
+
+    Long creditCardId();
+
+    Long transferAccountId();
+
+    long amountMinorUnits();
+
+    String description();
+
+    LocalDate transactionDate();
+
+    ETransactionType transactionType();
+
+    boolean recurring();
+}
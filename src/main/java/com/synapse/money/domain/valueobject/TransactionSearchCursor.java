@@ -0,0 +1,51 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Seek position in the {@code (rank DESC, transaction_date DESC, id DESC)}
+ * ordering of search results, exchanged with clients as an opaque token.
+ */
+public record TransactionSearchCursor(
+        int rank,
+        LocalDate transactionDate,
+        long id
+) {
+
+    private static final String VERSION = "s1";
+
+    public static TransactionSearchCursor after(TransactionSearchHit hit) {
+        return new TransactionSearchCursor(
+                hit.rank(),
+                hit.transaction().getTransactionDate(),
+                hit.transaction().getId()
+        );
+    }
+
+    public String encode() {
+        String raw = VERSION + ':' + rank + ':' + transactionDate.toEpochDay() + ':' + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static TransactionSearchCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            String[] parts = raw.split(":");
+            if (parts.length != 4 || !VERSION.equals(parts[0])) {
+                throw new InvalidPageCursorException("Invalid page cursor");
+            }
+            return new TransactionSearchCursor(
+                    Integer.parseInt(parts[1]),
+                    LocalDate.ofEpochDay(Long.parseLong(parts[2])),
+                    Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new InvalidPageCursorException("Invalid page cursor");
+        }
+    }
+}
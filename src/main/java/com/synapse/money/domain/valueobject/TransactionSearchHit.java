@@ -0,0 +1,12 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+
+/**
+ * A search match with its rank: the word similarity between the query and
+ * the description, in thousandths, so it can be compared exactly in a cursor.
+ */
+public record TransactionSearchHit(
+        Transaction transaction,
+        int rank
+) {}
@@ -0,0 +1,23 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.List;
+
+public record TransactionSearchPage(
+        List<TransactionSearchHit> hits,
+        TransactionSearchCursor nextCursor
+) {
+
+    public static TransactionSearchPage of(
+            List<TransactionSearchHit> fetched,
+            int limit) {
+        if (fetched.size() <= limit) {
+            return new TransactionSearchPage(fetched, null);
+        }
+        List<TransactionSearchHit> hits = fetched.subList(0, limit);
+        return new TransactionSearchPage(hits, TransactionSearchCursor.after(hits.getLast()));
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,137 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory tag index of one user. Tagged transactions are numbered by
+ * ascending id and every tag maps to the {@link TagBitmap} of the ordinals
+ * carrying it, so a tag filter resolves with bitmap operations alone and
+ * only the ids of the requested page reach the database. Immutable once
+ * built.
+ */
+public final class TransactionTagIndex {
+
+    private final long[] transactionIds;
+    private final Map<String, TagBitmap> bitmaps;
+
+    private TransactionTagIndex(Builder builder) {
+        this.transactionIds = Arrays.copyOf(builder.transactionIds, builder.size);
+        Map<String, TagBitmap> built = new HashMap<>();
+        builder.bitmaps.forEach((tag, bitmap) -> built.put(tag, bitmap.build()));
+        this.bitmaps = Map.copyOf(built);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return transactionIds.length;
+    }
+
+    /**
+     * Ordinals of the transactions matching the query. Required tags are
+     * intersected smallest first; a query with nothing to include matches
+     * nothing, since untagged transactions are not in the index.
+     */
+    public TagBitmap match(TransactionTagQuery query) {
+        TagBitmap result = null;
+        List<TagBitmap> required = query.all().stream()
+                .map(this::bitmapOf)
+                .sorted(Comparator.comparingInt(TagBitmap::cardinality))
+                .toList();
+        for (TagBitmap bitmap : required) {
+            result = result == null ? bitmap : result.and(bitmap);
+        }
+        if (!query.any().isEmpty()) {
+            TagBitmap union = TagBitmap.empty();
+            for (String tag : query.any()) {
+                union = union.or(bitmapOf(tag));
+            }
+            result = result == null ? union : result.and(union);
+        }
+        if (result == null) {
+            return TagBitmap.empty();
+        }
+        for (String tag : query.none()) {
+            if (result.cardinality() == 0) {
+                break;
+            }
+            result = result.andNot(bitmapOf(tag));
+        }
+        return result;
+    }
+
+    /**
+     * Up to {@code limit} ids of {@code matches} below {@code beforeId},
+     * or from the newest when it is null, in descending order.
+     */
+    public List<Long> idsBefore(
+            TagBitmap matches,
+            Long beforeId,
+            int limit) {
+        int bound = beforeId == null ? transactionIds.length : firstOrdinalAtLeast(beforeId);
+        int[] ordinals = matches.descendingBelow(bound, limit);
+        List<Long> ids = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            ids.add(transactionIds[ordinal]);
+        }
+        return ids;
+    }
+
+    private TagBitmap bitmapOf(String tag) {
+        return bitmaps.getOrDefault(tag, TagBitmap.empty());
+    }
+
+    private int firstOrdinalAtLeast(long id) {
+        int low = 0;
+        int high = transactionIds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (transactionIds[mid] < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Collects tag rows in transaction id order.
+     */
+    public static final class Builder {
+
+        private long[] transactionIds = new long[256];
+        private int size;
+        private final Map<String, TagBitmap.Builder> bitmaps = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(
+                long transactionId,
+                String tag) {
+            if (size == 0 || transactionId != transactionIds[size - 1]) {
+                if (size > 0 && transactionId < transactionIds[size - 1]) {
+                    throw new IllegalArgumentException("Rows must be added in transaction id order");
+                }
+                if (size == transactionIds.length) {
+                    transactionIds = Arrays.copyOf(transactionIds, size * 2);
+                }
+                transactionIds[size++] = transactionId;
+            }
+            bitmaps.computeIfAbsent(tag, t -> TagBitmap.builder()).add(size - 1);
+            return this;
+        }
+
+        public TransactionTagIndex build() {
+            return new TransactionTagIndex(this);
+        }
+    }
+}
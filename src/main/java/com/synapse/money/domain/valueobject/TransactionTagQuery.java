@@ -0,0 +1,24 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.Set;
+
+/**
+ * Boolean tag filter: every tag of {@code all}, at least one of {@code any}
+ * when it is not empty, and none of {@code none}.
+ */
+public record TransactionTagQuery(
+        Set<String> all,
+        Set<String> any,
+        Set<String> none
+) {
+
+    public TransactionTagQuery {
+        all = Set.copyOf(all);
+        any = Set.copyOf(any);
+        none = Set.copyOf(none);
+    }
+
+    public boolean hasInclusions() {
+        return !all.isEmpty() || !any.isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An inclusive slice of the user-id space processed as one unit of a batch.
+ */
+public record UserIdRange(
+        int index,
+        long fromId,
+        long toId
+) {
+
+    /**
+     * Splits {@code minId..maxId} into at most {@code count} contiguous ranges
+     * of equal width. The last range is open-ended so users created while a
+     * batch runs are still covered.
+     */
+    public static List<UserIdRange> split(
+            long minId,
+            long maxId,
+            int count) {
+        long span = maxId - minId + 1;
+        long width = Math.max(1, (span + count - 1) / count);
+        List<UserIdRange> ranges = new ArrayList<>(count);
+        for (long from = minId; from <= maxId; from += width) {
+            ranges.add(new UserIdRange(ranges.size(), from, from + width - 1));
+        }
+        UserIdRange last = ranges.removeLast();
+        ranges.add(new UserIdRange(last.index(), last.fromId(), Long.MAX_VALUE));
+        return ranges;
+    }
+}
@@ -0,0 +1,43 @@
+package com.synapse.money.domain.valueobject;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Claimed deliveries of one endpoint in outbox order, split into requests of
+ * at most a fixed number of events.
+ */
+public record WebhookBatch(
+        long endpointId,
+        String url,
+        String secret,
+        List<List<WebhookDelivery>> requests
+) {
+
+    public static List<WebhookBatch> groupByEndpoint(
+            List<WebhookDelivery> deliveries,
+            int maxEventsPerRequest) {
+        Map<Long, List<WebhookDelivery>> byEndpoint = new LinkedHashMap<>();
+        deliveries.stream()
+                .sorted(Comparator.comparingLong(WebhookDelivery::id))
+                .forEach(delivery -> byEndpoint.computeIfAbsent(delivery.endpointId(), id -> new ArrayList<>()).add(delivery));
+
+        List<WebhookBatch> batches = new ArrayList<>(byEndpoint.size());
+        byEndpoint.forEach((endpointId, ordered) -> {
+            List<List<WebhookDelivery>> requests = new ArrayList<>();
+            for (int from = 0; from < ordered.size(); from += maxEventsPerRequest) {
+                requests.add(List.copyOf(ordered.subList(from, Math.min(from + maxEventsPerRequest, ordered.size()))));
+            }
+            WebhookDelivery first = ordered.getFirst();
+            batches.add(new WebhookBatch(endpointId, first.url(), first.secret(), List.copyOf(requests)));
+        });
+        return batches;
+    }
+
+    public int size() {
+        return requests.stream().mapToInt(List::size).sum();
+    }
+}
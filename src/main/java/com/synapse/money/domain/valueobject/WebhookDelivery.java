@@ -0,0 +1,14 @@
+package com.synapse.money.domain.valueobject;
+
+/**
+ * An outbox row claimed for delivery, together with its endpoint.
+ */
+public record WebhookDelivery(
+        long id,
+        long endpointId,
+        String url,
+        String secret,
+        String eventType,
+        String payload,
+        int attempts
+) {}
@@ -0,0 +1,11 @@
+package com.synapse.money.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+public record WebhookEndpoint(
+        Long id,
+        Long userId,
+        String url,
+        String secret,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,220 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The rows of one month block as parallel primitive columns. Dates and ids
+ * are stored as deltas from the previous row and absent ids as zero, which
+ * leaves long runs of small, repeated values for Deflate to squeeze.
+ */
+final class BlockColumns {
+
+    private static final ETransactionType[] TYPES = ETransactionType.values();
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final long NONE = 0L;
+
+    private static final int NULL_LENGTH = -1;
+
+    /** Fixed-width bytes per row: date, six id columns, amount, type, flag, description length. */
+    private static final int ROW_BYTES = 4 + 6 * 8 + 8 + 1 + 1 + 4;
+
+    int size;
+    int[] epochDays;
+    long[] ids;
+    long[] accountIds;
+    long[] categoryIds;
+    long[] subcategoryIds;
+    long[] creditCardIds;
+    long[] transferAccountIds;
+    long[] amounts;
+    byte[] types;
+    byte[] recurring;
+    int[] descriptionStarts;
+    int[] descriptionLengths;
+    byte[] descriptionBytes;
+    int descriptionSize;
+
+    BlockColumns() {
+        this(INITIAL_CAPACITY, INITIAL_CAPACITY * 16);
+    }
+
+    private BlockColumns(
+            int capacity,
+            int descriptionCapacity) {
+        epochDays = new int[capacity];
+        ids = new long[capacity];
+        accountIds = new long[capacity];
+        categoryIds = new long[capacity];
+        subcategoryIds = new long[capacity];
+        creditCardIds = new long[capacity];
+        transferAccountIds = new long[capacity];
+        amounts = new long[capacity];
+        types = new byte[capacity];
+        recurring = new byte[capacity];
+        descriptionStarts = new int[capacity];
+        descriptionLengths = new int[capacity];
+        descriptionBytes = new byte[descriptionCapacity];
+    }
+
+    void add(
+            TransactionRow row,
+            int epochDay) {
+        if (size == ids.length) {
+            grow();
+        }
+        epochDays[size] = epochDay;
+        ids[size] = row.id();
+        accountIds[size] = row.accountId();
+        categoryIds[size] = orNone(row.categoryId());
+        subcategoryIds[size] = orNone(row.subcategoryId());
+        creditCardIds[size] = orNone(row.creditCardId());
+        transferAccountIds[size] = orNone(row.transferAccountId());
+        amounts[size] = row.amountMinorUnits();
+        types[size] = (byte) row.transactionType().ordinal();
+        recurring[size] = (byte) (row.recurring() ? 1 : 0);
+        addDescription(row.description());
+        size++;
+    }
+
+    void clear() {
+        size = 0;
+        descriptionSize = 0;
+    }
+
+    byte[] encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(size * ROW_BYTES + descriptionSize);
+        int previousDay = 0;
+        long previousId = 0;
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(epochDays[i] - previousDay);
+            previousDay = epochDays[i];
+        }
+        for (int i = 0; i < size; i++) {
+            buffer.putLong(ids[i] - previousId);
+            previousId = ids[i];
+        }
+        putAll(buffer, accountIds);
+        putAll(buffer, categoryIds);
+        putAll(buffer, subcategoryIds);
+        putAll(buffer, creditCardIds);
+        putAll(buffer, transferAccountIds);
+        putAll(buffer, amounts);
+        buffer.put(types, 0, size);
+        buffer.put(recurring, 0, size);
+        for (int i = 0; i < size; i++) {
+            buffer.putInt(descriptionLengths[i]);
+        }
+        buffer.put(descriptionBytes, 0, descriptionSize);
+        return buffer.array();
+    }
+
+    static BlockColumns decode(
+            ByteBuffer buffer,
+            int rowCount) {
+        BlockColumns columns = new BlockColumns(rowCount, 0);
+        columns.size = rowCount;
+        int day = 0;
+        long id = 0;
+        for (int i = 0; i < rowCount; i++) {
+            day += buffer.getInt();
+            columns.epochDays[i] = day;
+        }
+        for (int i = 0; i < rowCount; i++) {
+            id += buffer.getLong();
+            columns.ids[i] = id;
+        }
+        getAll(buffer, columns.accountIds);
+        getAll(buffer, columns.categoryIds);
+        getAll(buffer, columns.subcategoryIds);
+        getAll(buffer, columns.creditCardIds);
+        getAll(buffer, columns.transferAccountIds);
+        getAll(buffer, columns.amounts);
+        buffer.get(columns.types);
+        buffer.get(columns.recurring);
+        int start = 0;
+        for (int i = 0; i < rowCount; i++) {
+            int length = buffer.getInt();
+            columns.descriptionStarts[i] = start;
+            columns.descriptionLengths[i] = length;
+            start += Math.max(length, 0);
+        }
+        columns.descriptionBytes = new byte[start];
+        columns.descriptionSize = start;
+        buffer.get(columns.descriptionBytes);
+        return columns;
+    }
+
+    static Long idOrNull(long id) {
+        return id == NONE ? null : id;
+    }
+
+    ETransactionType type(int row) {
+        return TYPES[types[row]];
+    }
+
+    String description(int row) {
+        int length = descriptionLengths[row];
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        return new String(descriptionBytes, descriptionStarts[row], length, StandardCharsets.UTF_8);
+    }
+
+    private void addDescription(String description) {
+        if (description == null) {
+            descriptionLengths[size] = NULL_LENGTH;
+            return;
+        }
+        byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+        if (descriptionSize + bytes.length > descriptionBytes.length) {
+            descriptionBytes = Arrays.copyOf(descriptionBytes, Math.max(descriptionBytes.length * 2, descriptionSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, descriptionBytes, descriptionSize, bytes.length);
+        descriptionStarts[size] = descriptionSize;
+        descriptionLengths[size] = bytes.length;
+        descriptionSize += bytes.length;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        epochDays = Arrays.copyOf(epochDays, capacity);
+        ids = Arrays.copyOf(ids, capacity);
+        accountIds = Arrays.copyOf(accountIds, capacity);
+        categoryIds = Arrays.copyOf(categoryIds, capacity);
+        subcategoryIds = Arrays.copyOf(subcategoryIds, capacity);
+        creditCardIds = Arrays.copyOf(creditCardIds, capacity);
+        transferAccountIds = Arrays.copyOf(transferAccountIds, capacity);
+        amounts = Arrays.copyOf(amounts, capacity);
+        types = Arrays.copyOf(types, capacity);
+        recurring = Arrays.copyOf(recurring, capacity);
+        descriptionStarts = Arrays.copyOf(descriptionStarts, capacity);
+        descriptionLengths = Arrays.copyOf(descriptionLengths, capacity);
+    }
+
+    private void putAll(
+            ByteBuffer buffer,
+            long[] column) {
+        for (int i = 0; i < size; i++) {
+            buffer.putLong(column[i]);
+        }
+    }
+
+    private static void getAll(
+            ByteBuffer buffer,
+            long[] column) {
+        for (int i = 0; i < column.length; i++) {
+            column[i] = buffer.getLong();
+        }
+    }
+
+    private static long orNone(Long id) {
+        return id == null ? NONE : id;
+    }
+}
@@ -0,0 +1,48 @@
+package com.synapse.money.infrastructure.archive;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Index entry of one month block: the dates it spans, where its compressed
+ * columns sit in the file and the CRC-32 of the inflated bytes.
+ */
+record SegmentBlock(
+        int firstEpochDay,
+        int lastEpochDay,
+        int rowCount,
+        long offset,
+        int compressedLength,
+        int rawLength,
+        int checksum
+) {
+
+    static final int BYTES = 4 + 4 + 4 + 8 + 4 + 4 + 4;
+
+    boolean overlaps(
+            long fromEpochDay,
+            long toEpochDay) {
+        return lastEpochDay >= fromEpochDay && firstEpochDay <= toEpochDay;
+    }
+
+    void writeTo(ByteBuffer buffer) {
+        buffer.putInt(firstEpochDay)
+                .putInt(lastEpochDay)
+                .putInt(rowCount)
+                .putLong(offset)
+                .putInt(compressedLength)
+                .putInt(rawLength)
+                .putInt(checksum);
+    }
+
+    static SegmentBlock readFrom(ByteBuffer buffer) {
+        return new SegmentBlock(
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getLong(),
+                buffer.getInt(),
+                buffer.getInt(),
+                buffer.getInt()
+        );
+    }
+}
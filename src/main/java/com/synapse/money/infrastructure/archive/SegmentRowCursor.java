@@ -0,0 +1,131 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Walks the blocks of consecutive segments that overlap a date range,
+ * inflating one block at a time and skipping the rows outside the range.
+ */
+final class SegmentRowCursor implements TransactionRowCursor {
+
+    private final long fromEpochDay;
+    private final long toEpochDay;
+    private final Iterator<BlockRef> blocks;
+    private BlockColumns columns;
+    private int row;
+    private boolean exhausted;
+
+    SegmentRowCursor(
+            List<TransactionSegmentReader> segments,
+            LocalDate from,
+            LocalDate to) {
+        this.fromEpochDay = from.toEpochDay();
+        this.toEpochDay = to.toEpochDay();
+        List<BlockRef> overlapping = new ArrayList<>();
+        for (TransactionSegmentReader segment : segments) {
+            for (SegmentBlock block : segment.blocks()) {
+                if (block.overlaps(fromEpochDay, toEpochDay)) {
+                    overlapping.add(new BlockRef(segment, block));
+                }
+            }
+        }
+        this.blocks = overlapping.iterator();
+    }
+
+    @Override
+    public boolean next() {
+        while (!exhausted) {
+            if (columns != null && ++row < columns.size) {
+                int epochDay = columns.epochDays[row];
+                if (epochDay > toEpochDay) {
+                    return exhaust();
+                }
+                if (epochDay >= fromEpochDay) {
+                    return true;
+                }
+            } else if (blocks.hasNext()) {
+                BlockRef next = blocks.next();
+                columns = next.segment().decode(next.block());
+                row = -1;
+            } else {
+                return exhaust();
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long id() {
+        return columns.ids[row];
+    }
+
+    @Override
+    public long accountId() {
+        return columns.accountIds[row];
+    }
+
+    @Override
+    public Long categoryId() {
+        return BlockColumns.idOrNull(columns.categoryIds[row]);
+    }
+
+    @Override
+    public Long subcategoryId() {
+        return BlockColumns.idOrNull(columns.subcategoryIds[row]);
+    }
+
+    @Override
+    public Long creditCardId() {
+        return BlockColumns.idOrNull(columns.creditCardIds[row]);
+    }
+
+    @Override
+    public Long transferAccountId() {
+        return BlockColumns.idOrNull(columns.transferAccountIds[row]);
+    }
+
+    @Override
+    public long amountMinorUnits() {
+        return columns.amounts[row];
+    }
+
+    @Override
+    public String description() {
+        return columns.description(row);
+    }
+
+    @Override
+    public LocalDate transactionDate() {
+        return LocalDate.ofEpochDay(columns.epochDays[row]);
+    }
+
+    @Override
+    public ETransactionType transactionType() {
+        return columns.type(row);
+    }
+
+    @Override
+    public boolean recurring() {
+        return columns.recurring[row] != 0;
+    }
+
+    /**
+     * Blocks come in date order, so once a row lies past the range no later
+     * block can hold a match.
+     */
+    private boolean exhaust() {
+        columns = null;
+        exhausted = true;
+        return false;
+    }
+
+    private record BlockRef(
+            TransactionSegmentReader segment,
+            SegmentBlock block) {}
+}
@@ -0,0 +1,84 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.repository.ArchiveSegmentRepository;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.repository.TransactionRowSource;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps segments as {@code <directory>/<userId>/<periodStart>_<periodEnd>.tseg}.
+ * A segment becomes visible to scans only once its metadata row commits, so
+ * a file written by a rolled-back archive run is simply overwritten by the
+ * next attempt.
+ */
+@Component
+public class SegmentTransactionArchive implements TransactionArchive {
+
+    static final String EXTENSION = ".tseg";
+
+    private final ArchiveSegmentRepository archiveSegmentRepository;
+    private final Path directory;
+
+    public SegmentTransactionArchive(
+            ArchiveSegmentRepository archiveSegmentRepository,
+            @Value("${synapse.archive.directory:archive}") Path directory) {
+        this.archiveSegmentRepository = archiveSegmentRepository;
+        this.directory = directory;
+    }
+
+    @Override
+    public ArchiveSegment write(
+            Long userId,
+            LocalDate periodStart,
+            LocalDate periodEnd,
+            TransactionRowSource rows) throws IOException {
+        String fileName = userId + "/" + periodStart + "_" + periodEnd + EXTENSION;
+        Path target = directory.resolve(fileName);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            TransactionSegmentWriter writer;
+            long byteSize;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writer = new TransactionSegmentWriter(channel);
+                rows.forEach(row -> {
+                    if (row.transactionDate().isBefore(periodStart) || row.transactionDate().isAfter(periodEnd)) {
+                        throw new IllegalArgumentException("Row dated " + row.transactionDate()
+                                + " is outside the archived period " + periodStart + ".." + periodEnd);
+                    }
+                    writer.append(row);
+                });
+                byteSize = writer.finish();
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return new ArchiveSegment(userId, periodStart, periodEnd, fileName, writer.rowCount(), byteSize);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public TransactionRowCursor scan(
+            Long userId,
+            LocalDate from,
+            LocalDate to) throws IOException {
+        List<TransactionSegmentReader> segments = new ArrayList<>();
+        for (ArchiveSegment segment : archiveSegmentRepository.findOverlapping(userId, from, to)) {
+            segments.add(TransactionSegmentReader.open(directory.resolve(segment.fileName())));
+        }
+        return new SegmentRowCursor(segments, from, to);
+    }
+}
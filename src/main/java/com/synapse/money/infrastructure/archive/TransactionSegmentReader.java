@@ -0,0 +1,100 @@
+package com.synapse.money.infrastructure.archive;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Read-only, memory-mapped view of one segment file. Opening reads just the
+ * trailer and the block index; a block is inflated straight from the
+ * mapping when a scan reaches its month.
+ */
+final class TransactionSegmentReader {
+
+    private final Path path;
+    private final ByteBuffer mapped;
+    private final List<SegmentBlock> blocks;
+
+    private TransactionSegmentReader(
+            Path path,
+            ByteBuffer mapped) throws IOException {
+        this.path = path;
+        this.mapped = mapped;
+        int size = mapped.capacity();
+        if (size < TransactionSegmentWriter.HEADER_BYTES + TransactionSegmentWriter.TRAILER_BYTES
+                || mapped.getInt(0) != TransactionSegmentWriter.MAGIC
+                || mapped.getInt(size - 4) != TransactionSegmentWriter.MAGIC) {
+            throw new IOException("Not a transaction segment: " + path);
+        }
+        if (mapped.getInt(4) != TransactionSegmentWriter.VERSION) {
+            throw new IOException("Unsupported segment version " + mapped.getInt(4) + ": " + path);
+        }
+        long indexOffset = mapped.getLong(size - TransactionSegmentWriter.TRAILER_BYTES);
+        int blockCount = mapped.getInt(size - 8);
+        if (indexOffset + (long) blockCount * SegmentBlock.BYTES != size - TransactionSegmentWriter.TRAILER_BYTES) {
+            throw new IOException("Corrupt segment index: " + path);
+        }
+        ByteBuffer index = mapped.slice((int) indexOffset, blockCount * SegmentBlock.BYTES);
+        List<SegmentBlock> entries = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            entries.add(SegmentBlock.readFrom(index));
+        }
+        this.blocks = List.copyOf(entries);
+    }
+
+    /**
+     * Maps the whole file. The channel is closed right away; the mapping
+     * stays valid until it is garbage collected.
+     */
+    static TransactionSegmentReader open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new TransactionSegmentReader(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    List<SegmentBlock> blocks() {
+        return blocks;
+    }
+
+    BlockColumns decode(SegmentBlock block) {
+        byte[] raw = new byte[block.rawLength()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(mapped.slice(Math.toIntExact(block.offset()), block.compressedLength()));
+            int length = 0;
+            while (!inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, raw.length - length);
+                if (inflated == 0 && (inflater.needsInput() || length == raw.length)) {
+                    throw corrupt(null);
+                }
+                length += inflated;
+            }
+            if (length != raw.length) {
+                throw corrupt(null);
+            }
+        } catch (DataFormatException e) {
+            throw corrupt(e);
+        } finally {
+            inflater.end();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+        if ((int) crc.getValue() != block.checksum()) {
+            throw corrupt(null);
+        }
+        return BlockColumns.decode(ByteBuffer.wrap(raw), block.rowCount());
+    }
+
+    private DataAccessResourceFailureException corrupt(Exception cause) {
+        return new DataAccessResourceFailureException("Corrupt block in transaction segment " + path, cause);
+    }
+}
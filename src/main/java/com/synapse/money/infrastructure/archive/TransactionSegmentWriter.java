@@ -0,0 +1,125 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Streams rows in transaction date and id order into a segment file. Only
+ * the current month is held in memory; each month becomes one compressed
+ * block. Layout:
+ *
+ * <pre>
+ * header   MAGIC, VERSION
+ * blocks   Deflate-compressed {@link BlockColumns}, one per month
+ * index    one {@link SegmentBlock} per block
+ * trailer  index offset, block count, MAGIC
+ * </pre>
+ */
+final class TransactionSegmentWriter {
+
+    static final int MAGIC = 0x5453_4547;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_BYTES = 8;
+
+    static final int TRAILER_BYTES = 8 + 4 + 4;
+
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+    private final byte[] chunk = new byte[CHUNK_SIZE];
+    private final BlockColumns columns = new BlockColumns();
+    private final List<SegmentBlock> blocks = new ArrayList<>();
+    private YearMonth month;
+    private int lastEpochDay;
+    private long lastId;
+    private int rowCount;
+
+    TransactionSegmentWriter(FileChannel channel) throws IOException {
+        this.channel = channel;
+        writeFully(ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip());
+    }
+
+    void append(TransactionRow row) throws IOException {
+        int epochDay = Math.toIntExact(row.transactionDate().toEpochDay());
+        if (rowCount > 0 && (epochDay < lastEpochDay || epochDay == lastEpochDay && row.id() <= lastId)) {
+            throw new IllegalArgumentException("Rows must be appended in transaction date and id order");
+        }
+        YearMonth rowMonth = YearMonth.from(row.transactionDate());
+        if (!rowMonth.equals(month)) {
+            flushBlock();
+            month = rowMonth;
+        }
+        columns.add(row, epochDay);
+        lastEpochDay = epochDay;
+        lastId = row.id();
+        rowCount++;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Writes the last block, the index and the trailer, and returns the file
+     * size. The channel is forced but left open.
+     */
+    long finish() throws IOException {
+        try {
+            flushBlock();
+            long indexOffset = channel.position();
+            ByteBuffer index = ByteBuffer.allocate(blocks.size() * SegmentBlock.BYTES + TRAILER_BYTES);
+            blocks.forEach(block -> block.writeTo(index));
+            index.putLong(indexOffset).putInt(blocks.size()).putInt(MAGIC);
+            writeFully(index.flip());
+            channel.force(true);
+            return channel.position();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        if (columns.size == 0) {
+            return;
+        }
+        byte[] raw = columns.encode();
+        CRC32 crc = new CRC32();
+        crc.update(raw);
+
+        long offset = channel.position();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(chunk);
+            writeFully(ByteBuffer.wrap(chunk, 0, length));
+        }
+        blocks.add(new SegmentBlock(
+                columns.epochDays[0],
+                columns.epochDays[columns.size - 1],
+                columns.size,
+                offset,
+                Math.toIntExact(channel.position() - offset),
+                raw.length,
+                (int) crc.getValue()
+        ));
+        columns.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.synapse.money.infrastructure.attachment;
+
+import com.synapse.money.domain.exception.AttachmentTooLargeException;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Keeps blobs as {@code <directory>/<userId>/<uuid>}. Uploads go through a
+ * fixed buffer into a temporary file that is moved into place only when
+ * complete, so a partial or oversized upload never becomes visible.
+ */
+@Component
+public class LocalAttachmentStore implements AttachmentStore {
+
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+
+    public LocalAttachmentStore(@Value("${synapse.attachments.directory:attachments}") Path directory) {
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public AttachmentBlob write(
+            Long userId,
+            InputStream content,
+            long maxBytes) throws IOException {
+        String storageKey = userId + "/" + UUID.randomUUID();
+        Path target = resolve(storageKey);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long byteSize = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    byteSize += read;
+                    if (byteSize > maxBytes) {
+                        throw new AttachmentTooLargeException("Attachment exceeds the limit of " + maxBytes + " bytes");
+                    }
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new AttachmentBlob(storageKey, byteSize, HexFormat.of().formatHex(digest.digest()));
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * {@link FileChannel#transferTo} becomes sendfile when the target is a
+     * socket or file; other targets are fed through a small internal buffer.
+     */
+    @Override
+    public long transferTo(
+            String storageKey,
+            long position,
+            long count,
+            WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(resolve(storageKey), StandardOpenOption.READ)) {
+            long end = Math.min(position + count, channel.size());
+            long transferred = 0;
+            while (position + transferred < end) {
+                long sent = channel.transferTo(position + transferred, end - position - transferred, target);
+                if (sent <= 0) {
+                    break;
+                }
+                transferred += sent;
+            }
+            return transferred;
+        }
+    }
+
+    @Override
+    public Optional<Path> localFile(String storageKey) {
+        return Optional.of(resolve(storageKey));
+    }
+
+    @Override
+    public void delete(String storageKey) throws IOException {
+        Files.deleteIfExists(resolve(storageKey));
+    }
+
+    private Path resolve(String storageKey) {
+        Path path = directory.resolve(storageKey).normalize();
+        if (!path.startsWith(directory)) {
+            throw new IllegalArgumentException("Storage key escapes the attachment directory: " + storageKey);
+        }
+        return path;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
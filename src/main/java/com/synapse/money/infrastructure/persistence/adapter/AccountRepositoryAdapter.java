@@ -0,0 +1,194 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Component
+@RequiredArgsConstructor
+public class AccountRepositoryAdapter implements AccountRepository {
+
+    /**
+     * Takes the account locks in the same ascending order as
+     * {@link #APPLY_BALANCE_DELTAS_SQL}, so an import cannot deadlock with
+     * live postings on the same accounts.
+     */
+    static final String RECOMPUTE_BALANCES_SQL = """
+            WITH locked AS MATERIALIZED (SELECT id
+                                         FROM accounts
+                                         WHERE id IN (:accountIds)
+                                         ORDER BY id
+                                         FOR NO KEY UPDATE)
+            UPDATE accounts a
+            SET current_balance = a.initial_balance + a.archived_delta
+                    + COALESCE((SELECT SUM(CASE WHEN t.transaction_type = 'income' THEN t.amount ELSE -t.amount END)
+                                FROM transactions t
+                                WHERE t.account_id = a.id), 0)
+                    + COALESCE((SELECT SUM(t.amount)
+                                FROM transactions t
+                                WHERE t.transfer_account_id = a.id
+                                  AND t.transaction_type = 'transfer'), 0),
+                updated_at = now()
+            FROM locked l
+            WHERE a.id = l.id
+            """;
+
+    static final String COUNT_OWNED_SQL = """
+            SELECT COUNT(*)
+            FROM accounts
+            WHERE user_id = :userId
+              AND id IN (:accountIds)
+            """;
+
+    static final String FIND_OWNED_IDS_SQL = """
+            SELECT id
+            FROM accounts
+            WHERE user_id = :userId
+              AND id IN (:accountIds)
+            """;
+
+    /**
+     * Locks every touched account in ascending id order before updating, so
+     * two transfers between the same pair of accounts in opposite directions
+     * queue behind each other instead of deadlocking. NO KEY UPDATE leaves the
+     * KEY SHARE locks taken by foreign-key checks on transaction inserts alone.
+     */
+    static final String APPLY_BALANCE_DELTAS_SQL = """
+            WITH locked AS MATERIALIZED (SELECT id
+                                         FROM accounts
+                                         WHERE id = ANY (?)
+                                         ORDER BY id
+                                         FOR NO KEY UPDATE)
+            UPDATE accounts a
+            SET current_balance = a.current_balance + d.delta,
+                updated_at      = now()
+            FROM locked l
+                     JOIN unnest(?::bigint[], ?::numeric[]) AS d(id, delta) ON d.id = l.id
+            WHERE a.id = l.id
+            """;
+
+    /**
+     * Every touched account is marked archived through the period end, even
+     * when its archived rows cancel out: that is what keeps its archived
+     * checkpoints out of the next rebuild.
+     */
+    static final String APPLY_ARCHIVED_DELTA_SQL = """
+            UPDATE accounts
+            SET archived_delta   = archived_delta + :delta,
+                archived_through = GREATEST(archived_through, :archivedThrough),
+                updated_at       = now()
+            WHERE id = :accountId
+            """;
+
+    static final String FIND_CURRENT_BALANCES_SQL = """
+            SELECT id, current_balance
+            FROM accounts
+            WHERE id IN (:accountIds)
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public int recomputeCurrentBalances(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(RECOMPUTE_BALANCES_SQL, Map.of("accountIds", accountIds));
+    }
+
+    @Override
+    public boolean allOwnedBy(
+            Long userId,
+            Collection<Long> accountIds) {
+        Set<Long> distinctIds = new HashSet<>(accountIds);
+        if (distinctIds.isEmpty()) {
+            return true;
+        }
+        Long owned = jdbcTemplate.queryForObject(
+                COUNT_OWNED_SQL,
+                Map.of("userId", userId, "accountIds", distinctIds),
+                Long.class
+        );
+        return owned != null && owned == distinctIds.size();
+    }
+
+    @Override
+    public Set<Long> findOwnedIds(
+            Long userId,
+            Collection<Long> accountIds) {
+        Set<Long> distinctIds = new HashSet<>(accountIds);
+        if (distinctIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+                FIND_OWNED_IDS_SQL,
+                Map.of("userId", userId, "accountIds", distinctIds),
+                Long.class
+        ));
+    }
+
+    @Override
+    public void applyBalanceDeltas(Map<Long, BigDecimal> deltasByAccountId) {
+        List<Map.Entry<Long, BigDecimal>> deltas = new TreeMap<>(deltasByAccountId).entrySet().stream()
+                .filter(entry -> entry.getValue().signum() != 0)
+                .toList();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Long[] accountIds = deltas.stream().map(Map.Entry::getKey).toArray(Long[]::new);
+        BigDecimal[] amounts = deltas.stream().map(Map.Entry::getValue).toArray(BigDecimal[]::new);
+        jdbcTemplate.getJdbcOperations().update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(APPLY_BALANCE_DELTAS_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", accountIds));
+            statement.setArray(2, connection.createArrayOf("bigint", accountIds));
+            statement.setArray(3, connection.createArrayOf("numeric", amounts));
+            return statement;
+        });
+    }
+
+    @Override
+    public void applyArchivedDeltas(
+            Map<Long, BigDecimal> deltasByAccountId,
+            LocalDate archivedThrough) {
+        SqlParameterSource[] batch = new TreeMap<>(deltasByAccountId).entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("accountId", entry.getKey())
+                        .addValue("delta", entry.getValue())
+                        .addValue("archivedThrough", Date.valueOf(archivedThrough)))
+                .toArray(SqlParameterSource[]::new);
+        if (batch.length > 0) {
+            jdbcTemplate.batchUpdate(APPLY_ARCHIVED_DELTA_SQL, batch);
+        }
+    }
+
+    @Override
+    public Map<Long, BigDecimal> findCurrentBalances(Collection<Long> accountIds) {
+        Map<Long, BigDecimal> balances = new TreeMap<>();
+        if (accountIds.isEmpty()) {
+            return balances;
+        }
+        jdbcTemplate.query(
+                FIND_CURRENT_BALANCES_SQL,
+                Map.of("accountIds", accountIds),
+                rs -> {
+                    balances.put(rs.getLong("id"), rs.getBigDecimal("current_balance"));
+                }
+        );
+        return balances;
+    }
+}
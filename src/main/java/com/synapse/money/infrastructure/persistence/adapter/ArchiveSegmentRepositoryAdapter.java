@@ -0,0 +1,98 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.ArchiveSegmentRepository;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ArchiveSegmentRepositoryAdapter implements ArchiveSegmentRepository {
+
+    private static final String COLUMNS = "user_id, period_start, period_end, file_name, row_count, byte_size";
+
+    /**
+     * Open-ended scans pass {@link LocalDate#MIN} and {@link LocalDate#MAX},
+     * which {@link Date} cannot represent; they are clamped to these.
+     */
+    private static final LocalDate EARLIEST = LocalDate.of(1, 1, 1);
+
+    private static final LocalDate LATEST = LocalDate.of(9999, 12, 31);
+
+    static final String INSERT_SQL = """
+            INSERT INTO transaction_archive_segments (%s)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """.formatted(COLUMNS);
+
+    static final String FIND_ARCHIVED_THROUGH_SQL = """
+            SELECT MAX(period_end)
+            FROM transaction_archive_segments
+            WHERE user_id = ?
+            """;
+
+    static final String FIND_OVERLAPPING_SQL = """
+            SELECT %s
+            FROM transaction_archive_segments
+            WHERE user_id = ?
+              AND period_end >= ?
+              AND period_start <= ?
+            ORDER BY period_start
+            """.formatted(COLUMNS);
+
+    private static final RowMapper<ArchiveSegment> SEGMENT_MAPPER = (rs, rowNum) -> new ArchiveSegment(
+            rs.getLong("user_id"),
+            rs.getDate("period_start").toLocalDate(),
+            rs.getDate("period_end").toLocalDate(),
+            rs.getString("file_name"),
+            rs.getInt("row_count"),
+            rs.getLong("byte_size")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(ArchiveSegment segment) {
+        jdbcTemplate.update(
+                INSERT_SQL,
+                segment.userId(),
+                Date.valueOf(segment.periodStart()),
+                Date.valueOf(segment.periodEnd()),
+                segment.fileName(),
+                segment.rowCount(),
+                segment.byteSize()
+        );
+    }
+
+    @Override
+    public Optional<LocalDate> findArchivedThrough(Long userId) {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(FIND_ARCHIVED_THROUGH_SQL, LocalDate.class, userId));
+    }
+
+    @Override
+    public List<ArchiveSegment> findOverlapping(
+            Long userId,
+            LocalDate from,
+            LocalDate to) {
+        return jdbcTemplate.query(
+                FIND_OVERLAPPING_SQL,
+                SEGMENT_MAPPER,
+                userId,
+                Date.valueOf(clamp(from)),
+                Date.valueOf(clamp(to))
+        );
+    }
+
+    private static LocalDate clamp(LocalDate date) {
+        if (date.isBefore(EARLIEST)) {
+            return EARLIEST;
+        }
+        return date.isAfter(LATEST) ? LATEST : date;
+    }
+}
@@ -0,0 +1,48 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.time.LocalDate;
+
+/**
+ * Interleaves archived rows into a hot scan ordered by transaction date and
+ * id. Both sides are usually disjoint in time, but rows back-dated into an
+ * archived period after it was archived stay hot and sort in between.
+ */
+final class ArchivedRowMerge {
+
+    private final TransactionRowCursor archived;
+    private boolean available;
+
+    ArchivedRowMerge(TransactionRowCursor archived) {
+        this.archived = archived;
+        this.available = archived.next();
+    }
+
+    /**
+     * Whether an archived row is left that sorts before the hot row at
+     * {@code date} and {@code id}.
+     */
+    boolean before(
+            LocalDate date,
+            long id) {
+        if (!available) {
+            return false;
+        }
+        int order = archived.transactionDate().compareTo(date);
+        return order < 0 || order == 0 && archived.id() < id;
+    }
+
+    boolean available() {
+        return available;
+    }
+
+    TransactionRow row() {
+        return archived;
+    }
+
+    void advance() {
+        available = archived.next();
+    }
+}
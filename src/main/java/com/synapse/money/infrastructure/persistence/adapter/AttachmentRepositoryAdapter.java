@@ -0,0 +1,129 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class AttachmentRepositoryAdapter implements AttachmentRepository {
+
+    private static final String COLUMNS =
+            "id, user_id, transaction_id, file_name, content_type, byte_size, sha256, storage_key, created_at";
+
+    /**
+     * Inserts through the user's own transaction, so a foreign or deleted
+     * transaction yields no row.
+     */
+    static final String CREATE_SQL = """
+            INSERT INTO transaction_attachments (user_id, transaction_id, file_name, content_type, byte_size,
+                                                 sha256, storage_key)
+            SELECT t.user_id, t.id, ?, ?, ?, ?, ?
+            FROM transactions t
+            WHERE t.id = ?
+              AND t.user_id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String FIND_BY_TRANSACTION_SQL = """
+            SELECT %s
+            FROM transaction_attachments
+            WHERE user_id = ?
+              AND transaction_id = ?
+            ORDER BY id
+            """.formatted(COLUMNS);
+
+    static final String FIND_BY_ID_SQL = """
+            SELECT %s
+            FROM transaction_attachments
+            WHERE id = ?
+              AND user_id = ?
+              AND transaction_id = ?
+            """.formatted(COLUMNS);
+
+    static final String DELETE_SQL = """
+            DELETE FROM transaction_attachments
+            WHERE id = ?
+              AND user_id = ?
+              AND transaction_id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String DELETE_BY_TRANSACTION_SQL = """
+            DELETE FROM transaction_attachments
+            WHERE user_id = ?
+              AND transaction_id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    private static final RowMapper<Attachment> ATTACHMENT_MAPPER = (rs, rowNum) -> new Attachment(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getLong("transaction_id"),
+            rs.getString("file_name"),
+            rs.getString("content_type"),
+            rs.getLong("byte_size"),
+            rs.getString("sha256"),
+            rs.getString("storage_key"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Attachment> create(
+            Long userId,
+            Long transactionId,
+            String fileName,
+            String contentType,
+            AttachmentBlob blob) {
+        return jdbcTemplate.query(
+                CREATE_SQL,
+                ATTACHMENT_MAPPER,
+                fileName,
+                contentType,
+                blob.byteSize(),
+                blob.sha256(),
+                blob.storageKey(),
+                transactionId,
+                userId
+        ).stream().findFirst();
+    }
+
+    @Override
+    public List<Attachment> findByTransaction(
+            Long userId,
+            Long transactionId) {
+        return jdbcTemplate.query(FIND_BY_TRANSACTION_SQL, ATTACHMENT_MAPPER, userId, transactionId);
+    }
+
+    @Override
+    public Optional<Attachment> findById(
+            Long id,
+            Long userId,
+            Long transactionId) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, ATTACHMENT_MAPPER, id, userId, transactionId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<Attachment> delete(
+            Long id,
+            Long userId,
+            Long transactionId) {
+        return jdbcTemplate.query(DELETE_SQL, ATTACHMENT_MAPPER, id, userId, transactionId).stream().findFirst();
+    }
+
+    @Override
+    public List<Attachment> deleteByTransaction(
+            Long userId,
+            Long transactionId) {
+        return jdbcTemplate.query(DELETE_BY_TRANSACTION_SQL, ATTACHMENT_MAPPER, userId, transactionId);
+    }
+}
@@ -0,0 +1,178 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.valueobject.BalanceShift;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class BalanceCheckpointRepositoryAdapter implements BalanceCheckpointRepository {
+
+    static final String BALANCE_AS_OF_SQL = """
+            WITH checkpoint AS (SELECT checkpoint_date, balance
+                                FROM account_balance_checkpoints
+                                WHERE account_id = :accountId
+                                  AND checkpoint_date <= :asOf
+                                ORDER BY checkpoint_date DESC
+                                LIMIT 1)
+            SELECT COALESCE((SELECT balance FROM checkpoint), a.initial_balance + a.archived_delta)
+                       + COALESCE((SELECT SUM(CASE WHEN t.transaction_type = 'income' THEN t.amount ELSE -t.amount END)
+                                   FROM transactions t
+                                   WHERE t.account_id = a.id
+                                     AND t.transaction_date > COALESCE((SELECT checkpoint_date FROM checkpoint), '-infinity')
+                                     AND t.transaction_date <= :asOf), 0)
+                       + COALESCE((SELECT SUM(t.amount)
+                                   FROM transactions t
+                                   WHERE t.transfer_account_id = a.id
+                                     AND t.transaction_type = 'transfer'
+                                     AND t.transaction_date > COALESCE((SELECT checkpoint_date FROM checkpoint), '-infinity')
+                                     AND t.transaction_date <= :asOf), 0)
+            FROM accounts a
+            WHERE a.id = :accountId
+              AND a.user_id = :userId
+            """;
+
+    static final String SHIFT_SQL = """
+            UPDATE account_balance_checkpoints
+            SET balance    = balance + :delta,
+                updated_at = now()
+            WHERE account_id = :accountId
+              AND checkpoint_date >= :fromDate
+            """;
+
+    static final String LOCK_USER_ACCOUNTS_SQL = """
+            SELECT id
+            FROM accounts
+            WHERE user_id = :userId
+            ORDER BY id
+            FOR NO KEY UPDATE
+            """;
+
+    static final String LOCK_ACCOUNTS_SQL = """
+            SELECT id
+            FROM accounts
+            WHERE id IN (:accountIds)
+            ORDER BY id
+            FOR NO KEY UPDATE
+            """;
+
+    /**
+     * Checkpoints up to an account's archive horizon stay: the rows they
+     * summarise have moved to the archive and cannot be re-read here.
+     */
+    static final String DELETE_SQL = """
+            DELETE FROM account_balance_checkpoints c
+                USING accounts a
+            WHERE a.id = c.account_id
+              AND c.account_id IN (:accountIds)
+              AND c.checkpoint_date > COALESCE(a.archived_through, '-infinity')
+            """;
+
+    /**
+     * One checkpoint per closed month with activity: the running balance at
+     * the month's last day. Months without activity are skipped because the
+     * nearest earlier checkpoint already holds the same balance. The running
+     * sum starts after the archived rows and is filtered only afterwards, so
+     * rows back-dated into an archived period still count.
+     */
+    static final String REBUILD_SQL = """
+            WITH deltas AS (SELECT account_id,
+                                   transaction_date,
+                                   CASE WHEN transaction_type = 'income' THEN amount ELSE -amount END AS delta
+                            FROM transactions
+                            WHERE account_id IN (:accountIds)
+                            UNION ALL
+                            SELECT transfer_account_id, transaction_date, amount
+                            FROM transactions
+                            WHERE transaction_type = 'transfer'
+                              AND transfer_account_id IN (:accountIds)),
+                 monthly AS (SELECT account_id,
+                                    (date_trunc('month', transaction_date) + INTERVAL '1 month - 1 day')::date AS checkpoint_date,
+                                    SUM(delta) AS delta
+                             FROM deltas
+                             GROUP BY 1, 2)
+            INSERT INTO account_balance_checkpoints (account_id, checkpoint_date, balance)
+            SELECT r.account_id, r.checkpoint_date, r.balance
+            FROM (SELECT m.account_id,
+                         m.checkpoint_date,
+                         a.archived_through,
+                         a.initial_balance + a.archived_delta
+                             + SUM(m.delta) OVER (PARTITION BY m.account_id ORDER BY m.checkpoint_date) AS balance
+                  FROM monthly m
+                           JOIN accounts a ON a.id = m.account_id) r
+            WHERE r.checkpoint_date < date_trunc('month', CURRENT_DATE)
+              AND r.checkpoint_date > COALESCE(r.archived_through, '-infinity')
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<BigDecimal> findBalanceAsOf(
+            Long userId,
+            Long accountId,
+            LocalDate date) {
+        List<BigDecimal> balances = jdbcTemplate.queryForList(
+                BALANCE_AS_OF_SQL,
+                Map.of("userId", userId, "accountId", accountId, "asOf", Date.valueOf(date)),
+                BigDecimal.class
+        );
+        return balances.stream().findFirst();
+    }
+
+    @Override
+    public void applyShifts(List<BalanceShift> shifts) {
+        SqlParameterSource[] batch = shifts.stream()
+                .filter(shift -> shift.delta().signum() != 0)
+                .sorted(Comparator.comparing(BalanceShift::accountId).thenComparing(BalanceShift::fromDate))
+                .map(shift -> new MapSqlParameterSource()
+                        .addValue("accountId", shift.accountId())
+                        .addValue("fromDate", Date.valueOf(shift.fromDate()))
+                        .addValue("delta", shift.delta()))
+                .toArray(SqlParameterSource[]::new);
+        if (batch.length > 0) {
+            jdbcTemplate.batchUpdate(SHIFT_SQL, batch);
+        }
+    }
+
+    @Override
+    public int rebuildForUser(Long userId) {
+        // Locking the account rows serialises the rebuild with writers, which
+        // lock the same rows when they apply balance deltas.
+        List<Long> accountIds = jdbcTemplate.queryForList(
+                LOCK_USER_ACCOUNTS_SQL,
+                Map.of("userId", userId),
+                Long.class
+        );
+        return rebuild(accountIds);
+    }
+
+    @Override
+    public int rebuildForAccounts(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+        return rebuild(jdbcTemplate.queryForList(LOCK_ACCOUNTS_SQL, Map.of("accountIds", accountIds), Long.class));
+    }
+
+    private int rebuild(List<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+        Map<String, Object> params = Map.of("accountIds", accountIds);
+        jdbcTemplate.update(DELETE_SQL, params);
+        return jdbcTemplate.update(REBUILD_SQL, params);
+    }
+}
@@ -0,0 +1,349 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class BulkEditRepositoryAdapter implements BulkEditRepository {
+
+    private static final String COLUMNS = "id, user_id, kind, source_category_id, target_category_id, status, "
+            + "last_transaction_id, total_count, scanned_count, updated_count, error, created_at, completed_at";
+
+    /**
+     * Both categories must be the user's. The count is the progress
+     * denominator only; rows moved in later are still merged.
+     */
+    static final String CREATE_MERGE_SQL = """
+            INSERT INTO bulk_edits (user_id, kind, source_category_id, target_category_id, total_count)
+            SELECT s.user_id, 'merge_category', s.id, t.id,
+                   (SELECT count(*) FROM transactions tr WHERE tr.category_id = s.id)
+            FROM categories s
+                     JOIN categories t ON t.user_id = s.user_id
+            WHERE s.id = ?
+              AND t.id = ?
+              AND s.user_id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String CREATE_RECATEGORIZE_SQL = """
+            INSERT INTO bulk_edits (user_id, kind, total_count)
+            SELECT ?, 'recategorize', count(*)
+            FROM transactions
+            WHERE user_id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String EXISTS_ACTIVE_SQL = """
+            SELECT EXISTS (SELECT 1
+                           FROM bulk_edits
+                           WHERE user_id = ?
+                             AND status IN ('pending', 'running'))
+            """;
+
+    static final String FIND_BY_ID_AND_USER_SQL = """
+            SELECT %s
+            FROM bulk_edits
+            WHERE id = ?
+              AND user_id = ?
+            """.formatted(COLUMNS);
+
+    /**
+     * A single autocommitted statement, so the lease is visible to other
+     * nodes as soon as it returns.
+     */
+    static final String CLAIM_NEXT_SQL = """
+            UPDATE bulk_edits
+            SET status       = 'running',
+                locked_until = now() + make_interval(secs => ?),
+                updated_at   = now()
+            WHERE id = (SELECT id
+                        FROM bulk_edits
+                        WHERE status IN ('pending', 'running')
+                          AND (locked_until IS NULL OR locked_until <= now())
+                        ORDER BY id
+                        LIMIT 1 FOR UPDATE SKIP LOCKED)
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    /**
+     * Every chunk starts from the stored resume point under this lock, so a
+     * node that lost its lease and one that took the edit over take turns
+     * instead of processing the same rows twice.
+     */
+    static final String FIND_FOR_UPDATE_SQL = """
+            SELECT %s
+            FROM bulk_edits
+            WHERE id = ?
+            FOR UPDATE
+            """.formatted(COLUMNS);
+
+    /**
+     * Merged rows leave the source category, so the chunk always starts at
+     * its lowest id; a row moved into the category behind the resume point
+     * is still picked up.
+     */
+    static final String FIND_CATEGORY_CHUNK_SQL = """
+            SELECT %s
+            FROM transactions
+            WHERE category_id = ?
+              AND user_id = ?
+            ORDER BY id
+            LIMIT ?
+            FOR NO KEY UPDATE
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String FIND_USER_CHUNK_SQL = """
+            SELECT %s
+            FROM transactions
+            WHERE user_id = ?
+              AND id > ?
+            ORDER BY id
+            LIMIT ?
+            FOR NO KEY UPDATE
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String UPDATE_CATEGORY_SQL = """
+            UPDATE transactions
+            SET category_id    = ?,
+                subcategory_id = ?,
+                updated_at     = ?
+            WHERE id = ?
+              AND transaction_date = ?
+            """;
+
+    static final String ADVANCE_SQL = """
+            UPDATE bulk_edits
+            SET last_transaction_id = ?,
+                scanned_count       = scanned_count + ?,
+                updated_count       = updated_count + ?,
+                locked_until        = now() + make_interval(secs => ?),
+                updated_at          = now()
+            WHERE id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String COMPLETE_SQL = """
+            UPDATE bulk_edits
+            SET last_transaction_id = ?,
+                scanned_count       = scanned_count + ?,
+                updated_count       = updated_count + ?,
+                status              = 'completed',
+                locked_until        = NULL,
+                updated_at          = now(),
+                completed_at        = now()
+            WHERE id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String FAIL_SQL = """
+            UPDATE bulk_edits
+            SET status       = 'failed',
+                error        = ?,
+                locked_until = NULL,
+                updated_at   = now(),
+                completed_at = now()
+            WHERE id = ?
+              AND status IN ('pending', 'running')
+            """;
+
+    /**
+     * Assigning a transaction to a category takes a key-share lock on the
+     * category row, so once this lock is held no other transaction can be
+     * moving rows into the source, and the next statement sees every row
+     * that was moved in before.
+     */
+    static final String LOCK_CATEGORY_SQL = """
+            SELECT id
+            FROM categories
+            WHERE id = ?
+              AND user_id = ?
+            FOR UPDATE
+            """;
+
+    static final String SOURCE_HAS_TRANSACTIONS_SQL = """
+            SELECT EXISTS (SELECT 1
+                           FROM transactions
+                           WHERE category_id = ?
+                             AND user_id = ?)
+            """;
+
+    /**
+     * Adds each source budget's limit to the target's budget of the same
+     * month. A month the target had no budget for gets one, consumed from
+     * the target's expenses, which by now include the merged rows.
+     */
+    static final String MERGE_BUDGETS_SQL = """
+            INSERT INTO category_budgets (user_id, category_id, month, limit_amount, consumed_amount)
+            SELECT s.user_id, ?, s.month, s.limit_amount,
+                   COALESCE((SELECT SUM(t.amount)
+                             FROM transactions t
+                             WHERE t.user_id = s.user_id
+                               AND t.category_id = ?
+                               AND t.transaction_type = 'expense'
+                               AND t.transaction_date >= s.month
+                               AND t.transaction_date < (s.month + INTERVAL '1 month')::date), 0)
+            FROM category_budgets s
+            WHERE s.category_id = ?
+              AND s.user_id = ?
+            ON CONFLICT (user_id, month, category_id) DO UPDATE
+                SET limit_amount = category_budgets.limit_amount + EXCLUDED.limit_amount,
+                    updated_at   = now()
+            """;
+
+    static final String MOVE_RULES_SQL = """
+            UPDATE categorization_rules
+            SET category_id    = ?,
+                subcategory_id = NULL
+            WHERE category_id = ?
+              AND user_id = ?
+            """;
+
+    static final String DELETE_CATEGORY_SQL = """
+            DELETE FROM categories
+            WHERE id = ?
+              AND user_id = ?
+            """;
+
+    static final int MAX_ERROR_LENGTH = 500;
+
+    private static final RowMapper<BulkEdit> BULK_EDIT_MAPPER = (rs, rowNum) -> new BulkEdit(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            EBulkEditKind.fromDescription(rs.getString("kind")),
+            rs.getObject("source_category_id", Long.class),
+            rs.getObject("target_category_id", Long.class),
+            EBulkEditStatus.fromDescription(rs.getString("status")),
+            rs.getLong("last_transaction_id"),
+            rs.getLong("total_count"),
+            rs.getLong("scanned_count"),
+            rs.getLong("updated_count"),
+            rs.getString("error"),
+            rs.getTimestamp("created_at").toLocalDateTime(),
+            rs.getTimestamp("completed_at") == null ? null : rs.getTimestamp("completed_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionRowMapper rowMapper;
+
+    @Override
+    public Optional<BulkEdit> create(
+            Long userId,
+            EBulkEditKind kind,
+            Long sourceCategoryId,
+            Long targetCategoryId) {
+        List<BulkEdit> created = switch (kind) {
+            case MERGE_CATEGORY -> jdbcTemplate.query(
+                    CREATE_MERGE_SQL, BULK_EDIT_MAPPER, sourceCategoryId, targetCategoryId, userId);
+            case RECATEGORIZE -> jdbcTemplate.query(CREATE_RECATEGORIZE_SQL, BULK_EDIT_MAPPER, userId, userId);
+        };
+        return created.stream().findFirst();
+    }
+
+    @Override
+    public boolean existsActiveByUserId(Long userId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_ACTIVE_SQL, Boolean.class, userId));
+    }
+
+    @Override
+    public Optional<BulkEdit> findByIdAndUserId(
+            Long id,
+            Long userId) {
+        return jdbcTemplate.query(FIND_BY_ID_AND_USER_SQL, BULK_EDIT_MAPPER, id, userId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<BulkEdit> claimNext(Duration lease) {
+        return jdbcTemplate.query(CLAIM_NEXT_SQL, BULK_EDIT_MAPPER, lease.toSeconds()).stream().findFirst();
+    }
+
+    @Override
+    public Optional<BulkEdit> findByIdForUpdate(Long id) {
+        return jdbcTemplate.query(FIND_FOR_UPDATE_SQL, BULK_EDIT_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Transaction> findChunkForUpdate(
+            BulkEdit edit,
+            int limit) {
+        return switch (edit.kind()) {
+            case MERGE_CATEGORY -> jdbcTemplate.query(
+                    FIND_CATEGORY_CHUNK_SQL, rowMapper, edit.sourceCategoryId(), edit.userId(), limit);
+            case RECATEGORIZE -> jdbcTemplate.query(
+                    FIND_USER_CHUNK_SQL, rowMapper, edit.userId(), edit.lastTransactionId(), limit);
+        };
+    }
+
+    @Override
+    public void updateCategories(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_CATEGORY_SQL, transactions, transactions.size(), (ps, transaction) -> {
+            ps.setObject(1, transaction.getCategoryId(), Types.BIGINT);
+            ps.setObject(2, transaction.getSubcategoryId(), Types.BIGINT);
+            ps.setTimestamp(3, Timestamp.valueOf(transaction.getUpdatedAt()));
+            ps.setLong(4, transaction.getId());
+            ps.setDate(5, Date.valueOf(transaction.getTransactionDate()));
+        });
+    }
+
+    @Override
+    public BulkEdit advance(
+            Long id,
+            long lastTransactionId,
+            int scanned,
+            int updated,
+            Duration lease) {
+        return jdbcTemplate.queryForObject(
+                ADVANCE_SQL, BULK_EDIT_MAPPER, lastTransactionId, scanned, updated, lease.toSeconds(), id);
+    }
+
+    @Override
+    public BulkEdit complete(
+            Long id,
+            long lastTransactionId,
+            int scanned,
+            int updated) {
+        return jdbcTemplate.queryForObject(COMPLETE_SQL, BULK_EDIT_MAPPER, lastTransactionId, scanned, updated, id);
+    }
+
+    @Override
+    public void fail(
+            Long id,
+            String error) {
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        jdbcTemplate.update(FAIL_SQL, message, id);
+    }
+
+    @Override
+    public boolean mergeCategory(
+            Long userId,
+            Long sourceCategoryId,
+            Long targetCategoryId) {
+        jdbcTemplate.queryForList(LOCK_CATEGORY_SQL, Long.class, sourceCategoryId, userId);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                SOURCE_HAS_TRANSACTIONS_SQL, Boolean.class, sourceCategoryId, userId))) {
+            return false;
+        }
+        jdbcTemplate.update(MERGE_BUDGETS_SQL, targetCategoryId, targetCategoryId, sourceCategoryId, userId);
+        jdbcTemplate.update(MOVE_RULES_SQL, targetCategoryId, sourceCategoryId, userId);
+        jdbcTemplate.update(DELETE_CATEGORY_SQL, sourceCategoryId, userId);
+        return true;
+    }
+}
@@ -0,0 +1,89 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.CashFlowForecastRepository;
+import com.synapse.money.domain.valueobject.CashFlowForecast;
+import com.synapse.money.domain.valueobject.RecurringTemplate;
+import com.synapse.money.infrastructure.persistence.mapper.MoneyColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class CashFlowForecastRepositoryAdapter implements CashFlowForecastRepository {
+
+    static final String ACCOUNTS_SQL = """
+            SELECT id, %s AS balance_minor_units
+            FROM accounts
+            WHERE user_id = ?
+            """.formatted(MoneyColumns.minorUnits("current_balance"));
+
+    /**
+     * Future-dated transactions are already in {@code current_balance}; the
+     * forecast moves them to their own dates.
+     */
+    static final String FUTURE_TRANSACTIONS_SQL = """
+            SELECT account_id, transfer_account_id, transaction_type, %s AS amount_minor_units, transaction_date
+            FROM transactions
+            WHERE user_id = ?
+              AND transaction_date > ?
+            """.formatted(MoneyColumns.minorUnits("amount"));
+
+    static final String TEMPLATES_SQL = """
+            SELECT id, account_id, transfer_account_id, transaction_type, %s AS amount_minor_units,
+                   transaction_date, %s AS watermark
+            FROM transactions
+            WHERE user_id = ?
+              AND is_recurring
+            """.formatted(MoneyColumns.minorUnits("amount"), RecurringTransactionRepositoryAdapter.WATERMARK);
+
+    static final String UNPAID_BILLS_SQL = """
+            SELECT c.account_id, b.due_date, %s AS amount_minor_units
+            FROM credit_card_bills b
+                     JOIN credit_cards c ON c.id = b.credit_card_id
+            WHERE c.user_id = ?
+              AND NOT COALESCE(b.is_paid, FALSE)
+              AND b.due_date <= ?
+            """.formatted(MoneyColumns.minorUnits("b.total_amount"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public CashFlowForecast loadForUser(
+            Long userId,
+            LocalDate today,
+            LocalDate end) {
+        CashFlowForecast forecast = new CashFlowForecast(today, end);
+        jdbcTemplate.query(ACCOUNTS_SQL, (RowCallbackHandler) rs -> forecast.addBalance(
+                rs.getLong("id"),
+                MoneyColumns.readMinorUnits(rs, "balance_minor_units")
+        ), userId);
+        jdbcTemplate.query(FUTURE_TRANSACTIONS_SQL, (RowCallbackHandler) rs -> forecast.deferBooked(
+                rs.getLong("account_id"),
+                rs.getObject("transfer_account_id", Long.class),
+                ETransactionType.fromDescription(rs.getString("transaction_type")),
+                MoneyColumns.readMinorUnits(rs, "amount_minor_units"),
+                rs.getObject("transaction_date", LocalDate.class)
+        ), userId, Date.valueOf(today));
+        jdbcTemplate.query(TEMPLATES_SQL, (RowCallbackHandler) rs -> forecast.addTemplate(new RecurringTemplate(
+                rs.getLong("id"),
+                rs.getLong("account_id"),
+                rs.getObject("transfer_account_id", Long.class),
+                ETransactionType.fromDescription(rs.getString("transaction_type")),
+                MoneyColumns.readMinorUnits(rs, "amount_minor_units"),
+                rs.getObject("transaction_date", LocalDate.class),
+                rs.getObject("watermark", LocalDate.class)
+        )), userId);
+        jdbcTemplate.query(UNPAID_BILLS_SQL, (RowCallbackHandler) rs -> forecast.addBill(
+                rs.getLong("account_id"),
+                rs.getObject("due_date", LocalDate.class),
+                MoneyColumns.readMinorUnits(rs, "amount_minor_units")
+        ), userId, Date.valueOf(end));
+        return forecast;
+    }
+}
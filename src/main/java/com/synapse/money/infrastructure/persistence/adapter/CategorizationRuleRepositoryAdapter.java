@@ -0,0 +1,103 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.MerchantRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CategorizationRuleRepositoryAdapter implements CategorizationRuleRepository {
+
+    private static final String COLUMNS = "id, pattern, category_id, subcategory_id";
+
+    /**
+     * Inserts through the user's own category, so a foreign category or a
+     * subcategory of another category yields no row.
+     */
+    static final String INSERT_SQL = """
+            INSERT INTO categorization_rules (user_id, pattern, category_id, subcategory_id)
+            SELECT c.user_id, ?, c.id, s.id
+            FROM categories c
+                     LEFT JOIN subcategories s ON s.id = CAST(? AS BIGINT) AND s.category_id = c.id
+            WHERE c.id = ?
+              AND c.user_id = ?
+              AND (CAST(? AS BIGINT) IS NULL OR s.id IS NOT NULL)
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String FIND_BY_USER_SQL = """
+            SELECT %s
+            FROM categorization_rules
+            WHERE user_id = ?
+            ORDER BY id
+            """.formatted(COLUMNS);
+
+    static final String FIND_MERCHANT_RULES_SQL = """
+            SELECT id, pattern, category_name, subcategory_name
+            FROM merchant_categorization_rules
+            ORDER BY id
+            """;
+
+    static final String DELETE_SQL = """
+            DELETE FROM categorization_rules
+            WHERE id = ?
+              AND user_id = ?
+            """;
+
+    private static final RowMapper<CategorizationRule> RULE_MAPPER = (rs, rowNum) -> new CategorizationRule(
+            rs.getLong("id"),
+            rs.getString("pattern"),
+            rs.getLong("category_id"),
+            rs.getObject("subcategory_id", Long.class)
+    );
+
+    private static final RowMapper<MerchantRule> MERCHANT_RULE_MAPPER = (rs, rowNum) -> new MerchantRule(
+            rs.getLong("id"),
+            rs.getString("pattern"),
+            rs.getString("category_name"),
+            rs.getString("subcategory_name")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<CategorizationRule> save(
+            Long userId,
+            String pattern,
+            Long categoryId,
+            Long subcategoryId) {
+        return jdbcTemplate.query(
+                INSERT_SQL,
+                RULE_MAPPER,
+                pattern,
+                subcategoryId,
+                categoryId,
+                userId,
+                subcategoryId
+        ).stream().findFirst();
+    }
+
+    @Override
+    public List<CategorizationRule> findByUserId(Long userId) {
+        return jdbcTemplate.query(FIND_BY_USER_SQL, RULE_MAPPER, userId);
+    }
+
+    @Override
+    public List<MerchantRule> findMerchantRules() {
+        return jdbcTemplate.query(FIND_MERCHANT_RULES_SQL, MERCHANT_RULE_MAPPER);
+    }
+
+    @Override
+    public boolean deleteByIdAndUserId(
+            Long id,
+            Long userId) {
+        return jdbcTemplate.update(DELETE_SQL, id, userId) > 0;
+    }
+}
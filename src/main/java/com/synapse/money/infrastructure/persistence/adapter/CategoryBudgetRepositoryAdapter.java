@@ -0,0 +1,167 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import com.synapse.money.domain.valueobject.CategoryBudgetDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class CategoryBudgetRepositoryAdapter implements CategoryBudgetRepository {
+
+    private static final String COLUMNS = "id, category_id, month, limit_amount, consumed_amount";
+
+    /**
+     * Inserts through the user's own category so a foreign category id
+     * yields no row. An expense committed while the initial sum is taken can
+     * be missed; the reconciler picks it up.
+     */
+    static final String UPSERT_SQL = """
+            INSERT INTO category_budgets (user_id, category_id, month, limit_amount, consumed_amount)
+            SELECT c.user_id, c.id, ?, ?,
+                   COALESCE((SELECT SUM(t.amount)
+                             FROM transactions t
+                             WHERE t.user_id = c.user_id
+                               AND t.category_id = c.id
+                               AND t.transaction_type = 'expense'
+                               AND t.transaction_date >= ?
+                               AND t.transaction_date < ?), 0)
+            FROM categories c
+            WHERE c.id = ?
+              AND c.user_id = ?
+            ON CONFLICT (user_id, month, category_id) DO UPDATE
+                SET limit_amount = EXCLUDED.limit_amount,
+                    updated_at   = now()
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String FIND_BY_USER_AND_MONTH_SQL = """
+            SELECT %s
+            FROM category_budgets
+            WHERE user_id = ?
+              AND month = ?
+            ORDER BY category_id
+            """.formatted(COLUMNS);
+
+    static final String APPLY_CONSUMPTION_SQL = """
+            UPDATE category_budgets
+            SET consumed_amount = consumed_amount + ?,
+                updated_at      = now()
+            WHERE user_id = ?
+              AND month = ?
+              AND category_id = ?
+            """;
+
+    static final String FIND_USER_IDS_SINCE_SQL = """
+            SELECT DISTINCT user_id
+            FROM category_budgets
+            WHERE month >= ?
+            ORDER BY user_id
+            """;
+
+    /**
+     * Runs as its own statement before the recount: once the locks are held,
+     * every writer that touched these rows has committed, and the recount's
+     * fresh snapshot sees its expenses.
+     */
+    static final String LOCK_USER_BUDGETS_SQL = """
+            SELECT id
+            FROM category_budgets
+            WHERE user_id = ?
+              AND month >= ?
+            ORDER BY month, category_id
+            FOR NO KEY UPDATE
+            """;
+
+    static final String RECONCILE_USER_SQL = """
+            UPDATE category_budgets b
+            SET consumed_amount = actual.amount,
+                updated_at      = now()
+            FROM (SELECT cb.id, COALESCE(SUM(t.amount), 0) AS amount
+                  FROM category_budgets cb
+                           LEFT JOIN transactions t
+                                     ON t.user_id = cb.user_id
+                                         AND t.category_id = cb.category_id
+                                         AND t.transaction_type = 'expense'
+                                         AND t.transaction_date >= cb.month
+                                         AND t.transaction_date < (cb.month + INTERVAL '1 month')::date
+                  WHERE cb.user_id = ?
+                    AND cb.month >= ?
+                  GROUP BY cb.id) actual
+            WHERE b.id = actual.id
+              AND b.consumed_amount <> actual.amount
+            """;
+
+    private static final RowMapper<CategoryBudget> BUDGET_MAPPER = (rs, rowNum) -> new CategoryBudget(
+            rs.getLong("id"),
+            rs.getLong("category_id"),
+            YearMonth.from(rs.getDate("month").toLocalDate()),
+            rs.getBigDecimal("limit_amount"),
+            rs.getBigDecimal("consumed_amount")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<CategoryBudget> upsert(
+            Long userId,
+            Long categoryId,
+            YearMonth month,
+            BigDecimal limitAmount) {
+        return jdbcTemplate.query(
+                UPSERT_SQL,
+                BUDGET_MAPPER,
+                Date.valueOf(month.atDay(1)),
+                limitAmount,
+                Date.valueOf(month.atDay(1)),
+                Date.valueOf(month.plusMonths(1).atDay(1)),
+                categoryId,
+                userId
+        ).stream().findFirst();
+    }
+
+    @Override
+    public List<CategoryBudget> findByUserAndMonth(
+            Long userId,
+            YearMonth month) {
+        return jdbcTemplate.query(FIND_BY_USER_AND_MONTH_SQL, BUDGET_MAPPER, userId, Date.valueOf(month.atDay(1)));
+    }
+
+    @Override
+    public void applyConsumption(
+            Long userId,
+            List<CategoryBudgetDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(APPLY_CONSUMPTION_SQL, deltas, deltas.size(), (ps, delta) -> {
+            ps.setBigDecimal(1, delta.amount());
+            ps.setLong(2, userId);
+            ps.setDate(3, Date.valueOf(delta.month().atDay(1)));
+            ps.setLong(4, delta.categoryId());
+        });
+    }
+
+    @Override
+    public List<Long> findUserIdsWithBudgetsSince(YearMonth from) {
+        return jdbcTemplate.queryForList(FIND_USER_IDS_SINCE_SQL, Long.class, Date.valueOf(from.atDay(1)));
+    }
+
+    @Override
+    public int reconcileUser(
+            Long userId,
+            YearMonth from) {
+        Date fromDate = Date.valueOf(from.atDay(1));
+        jdbcTemplate.queryForList(LOCK_USER_BUDGETS_SQL, Long.class, userId, fromDate);
+        return jdbcTemplate.update(RECONCILE_USER_SQL, userId, fromDate);
+    }
+}
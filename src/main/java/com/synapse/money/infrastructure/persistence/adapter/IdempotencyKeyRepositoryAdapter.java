@@ -0,0 +1,132 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.IdempotencyKeyRepository;
+import com.synapse.money.domain.valueobject.IdempotencyRecord;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Claims and releases run outside any transaction, so a claim is visible to
+ * other instances as soon as it is made. Locking and completing run in the
+ * caller's transaction, together with the request's own writes. Times come
+ * from the database clock.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyRepositoryAdapter implements IdempotencyKeyRepository {
+
+    static final String CLAIM_SQL = """
+            INSERT INTO idempotency_keys (scope, idempotency_key, request_hash, expires_at)
+            VALUES (?, ?, ?, now() + make_interval(secs => ?))
+            ON CONFLICT (scope, idempotency_key) DO UPDATE
+                SET request_hash  = EXCLUDED.request_hash,
+                    status_code   = NULL,
+                    response_body = NULL,
+                    created_at    = now(),
+                    expires_at    = EXCLUDED.expires_at
+                WHERE idempotency_keys.expires_at < now()
+                   OR (idempotency_keys.status_code IS NULL
+                       AND idempotency_keys.created_at < now() - make_interval(secs => ?))
+            """;
+
+    static final String FIND_SQL = """
+            SELECT request_hash, status_code, response_body
+            FROM idempotency_keys
+            WHERE scope = ?
+              AND idempotency_key = ?
+            """;
+
+    static final String LOCK_SQL = """
+            SELECT 1
+            FROM idempotency_keys
+            WHERE scope = ?
+              AND idempotency_key = ?
+              AND status_code IS NULL
+            FOR UPDATE
+            """;
+
+    static final String COMPLETE_SQL = """
+            UPDATE idempotency_keys
+            SET status_code   = ?,
+                response_body = ?
+            WHERE scope = ?
+              AND idempotency_key = ?
+            """;
+
+    static final String RELEASE_SQL = """
+            DELETE FROM idempotency_keys
+            WHERE scope = ?
+              AND idempotency_key = ?
+              AND status_code IS NULL
+            """;
+
+    static final String DELETE_EXPIRED_SQL = """
+            DELETE FROM idempotency_keys
+            WHERE expires_at < now()
+            """;
+
+    private static final RowMapper<IdempotencyRecord> RECORD_MAPPER = (rs, rowNum) -> new IdempotencyRecord(
+            rs.getString("request_hash"),
+            rs.getObject("status_code", Integer.class),
+            rs.getString("response_body")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean claim(
+            String scope,
+            String key,
+            String requestHash,
+            Duration ttl,
+            Duration inFlightTimeout) {
+        return jdbcTemplate.update(
+                CLAIM_SQL,
+                scope,
+                key,
+                requestHash,
+                ttl.toSeconds(),
+                inFlightTimeout.toSeconds()
+        ) > 0;
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> find(
+            String scope,
+            String key) {
+        return jdbcTemplate.query(FIND_SQL, RECORD_MAPPER, scope, key).stream().findFirst();
+    }
+
+    @Override
+    public boolean lock(
+            String scope,
+            String key) {
+        return !jdbcTemplate.queryForList(LOCK_SQL, Integer.class, scope, key).isEmpty();
+    }
+
+    @Override
+    public void complete(
+            String scope,
+            String key,
+            int statusCode,
+            String responseBody) {
+        jdbcTemplate.update(COMPLETE_SQL, statusCode, responseBody, scope, key);
+    }
+
+    @Override
+    public void release(
+            String scope,
+            String key) {
+        jdbcTemplate.update(RELEASE_SQL, scope, key);
+    }
+
+    @Override
+    public int deleteExpired() {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL);
+    }
+}
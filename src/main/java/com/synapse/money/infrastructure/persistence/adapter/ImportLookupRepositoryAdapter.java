@@ -0,0 +1,56 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.ImportLookupRepository;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class ImportLookupRepositoryAdapter implements ImportLookupRepository {
+
+    static final String ACCOUNTS_SQL = "SELECT id, name FROM accounts WHERE user_id = ? ORDER BY id";
+    static final String CATEGORIES_SQL = "SELECT id, name FROM categories WHERE user_id = ? ORDER BY id";
+    static final String CREDIT_CARDS_SQL = "SELECT id, name FROM credit_cards WHERE user_id = ? ORDER BY id";
+    static final String SUBCATEGORIES_SQL = """
+            SELECT s.id, c.name AS category_name, s.name
+            FROM subcategories s
+            JOIN categories c ON c.id = s.category_id
+            WHERE c.user_id = ?
+            ORDER BY s.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public ImportLookup loadForUser(Long userId) {
+        Map<String, Long> subcategories = new HashMap<>();
+        jdbcTemplate.query(SUBCATEGORIES_SQL, rs -> {
+            subcategories.putIfAbsent(
+                    ImportLookup.subcategoryKey(rs.getString("category_name"), rs.getString("name")),
+                    rs.getLong("id")
+            );
+        }, userId);
+
+        return new ImportLookup(
+                loadIdsByName(ACCOUNTS_SQL, userId),
+                loadIdsByName(CATEGORIES_SQL, userId),
+                subcategories,
+                loadIdsByName(CREDIT_CARDS_SQL, userId)
+        );
+    }
+
+    private Map<String, Long> loadIdsByName(
+            String sql,
+            Long userId) {
+        Map<String, Long> idsByName = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            idsByName.putIfAbsent(ImportLookup.key(rs.getString("name")), rs.getLong("id"));
+        }, userId);
+        return idsByName;
+    }
+}
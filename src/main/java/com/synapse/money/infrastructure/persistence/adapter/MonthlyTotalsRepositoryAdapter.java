@@ -0,0 +1,141 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.valueobject.MonthlyTotal;
+import com.synapse.money.domain.valueobject.MonthlyTotalDelta;
+import com.synapse.money.domain.valueobject.MonthlyTotalKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.YearMonth;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MonthlyTotalsRepositoryAdapter implements MonthlyTotalsRepository {
+
+    /**
+     * Advisory lock namespace for per-user aggregate maintenance. Writers take
+     * it shared so they never block each other; a rebuild takes it exclusive
+     * so no delta can slip in between its delete and re-insert.
+     */
+    static final int LOCK_NAMESPACE = 0x4D54;
+
+    static final String SHARED_LOCK_SQL = "SELECT pg_advisory_xact_lock_shared(?, hashint8(?))";
+
+    static final String EXCLUSIVE_LOCK_SQL = "SELECT pg_advisory_xact_lock(?, hashint8(?))";
+
+    static final String UPSERT_DELTA_SQL = """
+            INSERT INTO monthly_totals (user_id, month, category_id, subcategory_id, transaction_type,
+                                        total_amount, transaction_count)
+            VALUES (?, ?, ?, ?, CAST(? AS transaction_type_enum), ?, ?)
+            ON CONFLICT (user_id, month, COALESCE(category_id, 0), COALESCE(subcategory_id, 0), transaction_type)
+            DO UPDATE SET total_amount      = monthly_totals.total_amount + EXCLUDED.total_amount,
+                          transaction_count = monthly_totals.transaction_count + EXCLUDED.transaction_count,
+                          updated_at        = now()
+            """;
+
+    /**
+     * Last archived day of the user, bound to the user id once more. Months
+     * up to it are left alone by a rebuild: their rows live in the archive.
+     */
+    static final String ARCHIVED_THROUGH = """
+            COALESCE((SELECT MAX(period_end) FROM transaction_archive_segments WHERE user_id = ?), '-infinity')""";
+
+    static final String DELETE_FOR_USER_SQL = """
+            DELETE FROM monthly_totals
+            WHERE user_id = ?
+              AND month > %s
+            """.formatted(ARCHIVED_THROUGH);
+
+    static final String REBUILD_FOR_USER_SQL = """
+            INSERT INTO monthly_totals (user_id, month, category_id, subcategory_id, transaction_type,
+                                        total_amount, transaction_count)
+            SELECT user_id,
+                   date_trunc('month', transaction_date)::date,
+                   category_id,
+                   subcategory_id,
+                   transaction_type,
+                   SUM(amount),
+                   COUNT(*)
+            FROM transactions
+            WHERE user_id = ?
+              AND transaction_date > %s
+            GROUP BY user_id, date_trunc('month', transaction_date)::date, category_id, subcategory_id, transaction_type
+            """.formatted(ARCHIVED_THROUGH);
+
+    static final String FIND_BY_MONTH_RANGE_SQL = """
+            SELECT month, category_id, subcategory_id, transaction_type, total_amount, transaction_count
+            FROM monthly_totals
+            WHERE user_id = ?
+              AND month BETWEEN ? AND ?
+              AND transaction_count <> 0
+            ORDER BY month, transaction_type, category_id NULLS FIRST, subcategory_id NULLS FIRST
+            """;
+
+    private static final RowCallbackHandler IGNORE_ROW = rs -> {};
+
+    private static final RowMapper<MonthlyTotal> MONTHLY_TOTAL_MAPPER = (rs, rowNum) -> new MonthlyTotal(
+            YearMonth.from(rs.getDate("month").toLocalDate()),
+            rs.getObject("category_id", Long.class),
+            rs.getObject("subcategory_id", Long.class),
+            ETransactionType.fromDescription(rs.getString("transaction_type")),
+            rs.getBigDecimal("total_amount"),
+            rs.getInt("transaction_count")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(
+            Long userId,
+            List<MonthlyTotalDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(SHARED_LOCK_SQL, IGNORE_ROW, LOCK_NAMESPACE, userId);
+        jdbcTemplate.batchUpdate(UPSERT_DELTA_SQL, deltas, deltas.size(), MonthlyTotalsRepositoryAdapter::bindDelta);
+    }
+
+    @Override
+    public int rebuildForUser(Long userId) {
+        jdbcTemplate.query(EXCLUSIVE_LOCK_SQL, IGNORE_ROW, LOCK_NAMESPACE, userId);
+        jdbcTemplate.update(DELETE_FOR_USER_SQL, userId, userId);
+        return jdbcTemplate.update(REBUILD_FOR_USER_SQL, userId, userId);
+    }
+
+    @Override
+    public List<MonthlyTotal> findByUserAndMonthRange(
+            Long userId,
+            YearMonth from,
+            YearMonth to) {
+        return jdbcTemplate.query(
+                FIND_BY_MONTH_RANGE_SQL,
+                MONTHLY_TOTAL_MAPPER,
+                userId,
+                Date.valueOf(from.atDay(1)),
+                Date.valueOf(to.atDay(1))
+        );
+    }
+
+    private static void bindDelta(
+            PreparedStatement ps,
+            MonthlyTotalDelta delta) throws SQLException {
+        MonthlyTotalKey key = delta.key();
+        ps.setLong(1, key.userId());
+        ps.setDate(2, Date.valueOf(key.month().atDay(1)));
+        ps.setObject(3, key.categoryId(), Types.BIGINT);
+        ps.setObject(4, key.subcategoryId(), Types.BIGINT);
+        ps.setString(5, key.transactionType().getDescription());
+        ps.setBigDecimal(6, delta.amount());
+        ps.setInt(7, delta.count());
+    }
+}
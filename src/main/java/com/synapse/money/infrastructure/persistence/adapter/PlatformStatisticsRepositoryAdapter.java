@@ -0,0 +1,296 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.PlatformStatisticsRepository;
+import com.synapse.money.domain.repository.PlatformTransactionConsumer;
+import com.synapse.money.domain.valueobject.PlatformStatisticsAccumulator;
+import com.synapse.money.domain.valueobject.UserIdRange;
+import com.synapse.money.infrastructure.persistence.mapper.MoneyColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class PlatformStatisticsRepositoryAdapter implements PlatformStatisticsRepository {
+
+    static final String USER_ID_BOUNDS_SQL = "SELECT COALESCE(MIN(id), 1), COALESCE(MAX(id), 1) FROM users";
+
+    static final String EXISTS_WEEK_SQL = """
+            SELECT EXISTS (SELECT 1 FROM platform_statistics WHERE week_start = ?)
+            """;
+
+    static final String HAS_RANGES_SQL = """
+            SELECT EXISTS (SELECT 1 FROM platform_statistics_ranges WHERE week_start = ?)
+            """;
+
+    static final String INSERT_RANGE_SQL = """
+            INSERT INTO platform_statistics_ranges (week_start, range_index, user_id_from, user_id_to)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (week_start, range_index) DO NOTHING
+            """;
+
+    static final String PENDING_RANGES_SQL = """
+            SELECT range_index, user_id_from, user_id_to
+            FROM platform_statistics_ranges
+            WHERE week_start = ?
+              AND completed_at IS NULL
+            ORDER BY range_index
+            """;
+
+    static final String COUNT_PENDING_SQL = """
+            SELECT COUNT(*)
+            FROM platform_statistics_ranges
+            WHERE week_start = ?
+              AND completed_at IS NULL
+            """;
+
+    /**
+     * Ordered by user so active users are counted on the fly; the
+     * (user_id, transaction_date, id) index serves both the range and the
+     * order within every partition.
+     */
+    static final String STREAM_SQL = """
+            SELECT user_id, transaction_type, %s AS amount_minor_units, category_id
+            FROM transactions
+            WHERE user_id BETWEEN ? AND ?
+              AND transaction_date >= ?
+              AND transaction_date < ?
+            ORDER BY user_id
+            """.formatted(MoneyColumns.minorUnits("amount"));
+
+    static final String ACCOUNT_BALANCES_SQL = """
+            SELECT COUNT(*), COALESCE(SUM(%s), 0)
+            FROM accounts
+            WHERE user_id BETWEEN ? AND ?
+              AND is_active
+            """.formatted(MoneyColumns.minorUnits("current_balance"));
+
+    static final String SAVE_RANGE_SQL = """
+            UPDATE platform_statistics_ranges
+            SET active_users         = ?,
+                expense_count        = ?,
+                expense_minor_units  = ?,
+                income_count         = ?,
+                income_minor_units   = ?,
+                transfer_count       = ?,
+                transfer_minor_units = ?,
+                account_count        = ?,
+                balance_minor_units  = ?,
+                category_ids         = ?,
+                category_counts      = ?,
+                completed_at         = now()
+            WHERE week_start = ?
+              AND range_index = ?
+            """;
+
+    static final String COMPLETED_RANGES_SQL = """
+            SELECT active_users, expense_count, expense_minor_units, income_count, income_minor_units,
+                   transfer_count, transfer_minor_units, account_count, balance_minor_units,
+                   category_ids, category_counts
+            FROM platform_statistics_ranges
+            WHERE week_start = ?
+              AND completed_at IS NOT NULL
+            ORDER BY range_index
+            """;
+
+    static final String UPSERT_WEEK_SQL = """
+            INSERT INTO platform_statistics (week_start, active_users, expense_count, expense_amount, income_count,
+                                             income_amount, transfer_count, transfer_amount, account_count,
+                                             average_balance, category_ids, category_counts)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (week_start) DO UPDATE
+                SET active_users    = EXCLUDED.active_users,
+                    expense_count   = EXCLUDED.expense_count,
+                    expense_amount  = EXCLUDED.expense_amount,
+                    income_count    = EXCLUDED.income_count,
+                    income_amount   = EXCLUDED.income_amount,
+                    transfer_count  = EXCLUDED.transfer_count,
+                    transfer_amount = EXCLUDED.transfer_amount,
+                    account_count   = EXCLUDED.account_count,
+                    average_balance = EXCLUDED.average_balance,
+                    category_ids    = EXCLUDED.category_ids,
+                    category_counts = EXCLUDED.category_counts,
+                    computed_at     = now()
+            """;
+
+    static final int STREAM_FETCH_SIZE = 1_000;
+
+    private static final RowMapper<UserIdRange> RANGE_MAPPER = (rs, rowNum) -> new UserIdRange(
+            rs.getInt("range_index"),
+            rs.getLong("user_id_from"),
+            rs.getLong("user_id_to")
+    );
+
+    private static final RowMapper<PlatformStatisticsAccumulator> PARTIAL_MAPPER = (rs, rowNum) -> {
+        PlatformStatisticsAccumulator partial = new PlatformStatisticsAccumulator();
+        partial.addActiveUsers(rs.getLong("active_users"));
+        partial.addTypeTotals(ETransactionType.EXPENSE, rs.getLong("expense_count"), rs.getLong("expense_minor_units"));
+        partial.addTypeTotals(ETransactionType.INCOME, rs.getLong("income_count"), rs.getLong("income_minor_units"));
+        partial.addTypeTotals(ETransactionType.TRANSFER, rs.getLong("transfer_count"), rs.getLong("transfer_minor_units"));
+        partial.addAccounts(rs.getLong("account_count"), rs.getLong("balance_minor_units"));
+        Long[] categoryIds = (Long[]) rs.getArray("category_ids").getArray();
+        Long[] categoryCounts = (Long[]) rs.getArray("category_counts").getArray();
+        for (int i = 0; i < categoryIds.length; i++) {
+            partial.addCategoryCount(categoryIds[i], categoryCounts[i]);
+        }
+        return partial;
+    };
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean existsWeek(LocalDate weekStart) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_WEEK_SQL, Boolean.class, weekStart));
+    }
+
+    @Override
+    public List<UserIdRange> preparePendingRanges(
+            LocalDate weekStart,
+            int rangeCount) {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(HAS_RANGES_SQL, Boolean.class, weekStart))) {
+            long[] bounds = jdbcTemplate.queryForObject(
+                    USER_ID_BOUNDS_SQL,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}
+            );
+            List<UserIdRange> ranges = UserIdRange.split(bounds[0], bounds[1], rangeCount);
+            jdbcTemplate.batchUpdate(INSERT_RANGE_SQL, ranges, ranges.size(), (ps, range) -> {
+                ps.setObject(1, weekStart);
+                ps.setInt(2, range.index());
+                ps.setLong(3, range.fromId());
+                ps.setLong(4, range.toId());
+            });
+        }
+        return jdbcTemplate.query(PENDING_RANGES_SQL, RANGE_MAPPER, weekStart);
+    }
+
+    @Override
+    public long streamTransactions(
+            UserIdRange range,
+            LocalDate from,
+            LocalDate to,
+            PlatformTransactionConsumer consumer) {
+        // Same reasoning as the export stream: a connection of its own, read
+        // only, with autocommit off so PgJDBC fetches through a cursor.
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    STREAM_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(STREAM_FETCH_SIZE);
+                statement.setLong(1, range.fromId());
+                statement.setLong(2, range.toId());
+                statement.setObject(3, from);
+                statement.setObject(4, to);
+
+                long count = 0;
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        consumer.accept(
+                                rs.getLong(1),
+                                ETransactionType.fromDescription(rs.getString(2)),
+                                rs.getLong(3),
+                                rs.getObject(4, Long.class)
+                        );
+                        count++;
+                    }
+                }
+                return count;
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Platform statistics query failed", e);
+        }
+    }
+
+    @Override
+    public void addAccountBalances(
+            UserIdRange range,
+            PlatformStatisticsAccumulator accumulator) {
+        jdbcTemplate.query(
+                ACCOUNT_BALANCES_SQL,
+                (RowCallbackHandler) rs -> accumulator.addAccounts(rs.getLong(1), rs.getLong(2)),
+                range.fromId(),
+                range.toId()
+        );
+    }
+
+    @Override
+    public void saveRange(
+            LocalDate weekStart,
+            UserIdRange range,
+            PlatformStatisticsAccumulator accumulator) {
+        Map<Long, Long> popularity = accumulator.categoryPopularity();
+        Long[] categoryIds = popularity.keySet().toArray(Long[]::new);
+        Long[] categoryCounts = popularity.values().toArray(Long[]::new);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SAVE_RANGE_SQL);
+            statement.setLong(1, accumulator.activeUsers());
+            statement.setLong(2, accumulator.transactionCount(ETransactionType.EXPENSE));
+            statement.setLong(3, accumulator.volume(ETransactionType.EXPENSE).minorUnits());
+            statement.setLong(4, accumulator.transactionCount(ETransactionType.INCOME));
+            statement.setLong(5, accumulator.volume(ETransactionType.INCOME).minorUnits());
+            statement.setLong(6, accumulator.transactionCount(ETransactionType.TRANSFER));
+            statement.setLong(7, accumulator.volume(ETransactionType.TRANSFER).minorUnits());
+            statement.setLong(8, accumulator.accountCount());
+            statement.setLong(9, accumulator.totalBalance().minorUnits());
+            statement.setArray(10, connection.createArrayOf("bigint", categoryIds));
+            statement.setArray(11, connection.createArrayOf("bigint", categoryCounts));
+            statement.setObject(12, weekStart);
+            statement.setInt(13, range.index());
+            return statement;
+        });
+    }
+
+    @Override
+    public int countPendingRanges(LocalDate weekStart) {
+        Integer pending = jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Integer.class, weekStart);
+        return pending == null ? 0 : pending;
+    }
+
+    @Override
+    public List<PlatformStatisticsAccumulator> findCompletedRanges(LocalDate weekStart) {
+        return jdbcTemplate.query(COMPLETED_RANGES_SQL, PARTIAL_MAPPER, weekStart);
+    }
+
+    @Override
+    public void saveWeek(
+            LocalDate weekStart,
+            PlatformStatisticsAccumulator totals) {
+        Map<Long, Long> popularity = totals.categoryPopularity();
+        Long[] categoryIds = popularity.keySet().toArray(Long[]::new);
+        Long[] categoryCounts = popularity.values().toArray(Long[]::new);
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_WEEK_SQL);
+            statement.setObject(1, weekStart);
+            statement.setLong(2, totals.activeUsers());
+            statement.setLong(3, totals.transactionCount(ETransactionType.EXPENSE));
+            statement.setBigDecimal(4, totals.volume(ETransactionType.EXPENSE).toBigDecimal());
+            statement.setLong(5, totals.transactionCount(ETransactionType.INCOME));
+            statement.setBigDecimal(6, totals.volume(ETransactionType.INCOME).toBigDecimal());
+            statement.setLong(7, totals.transactionCount(ETransactionType.TRANSFER));
+            statement.setBigDecimal(8, totals.volume(ETransactionType.TRANSFER).toBigDecimal());
+            statement.setLong(9, totals.accountCount());
+            statement.setBigDecimal(10, totals.averageBalance());
+            statement.setArray(11, connection.createArrayOf("bigint", categoryIds));
+            statement.setArray(12, connection.createArrayOf("bigint", categoryCounts));
+            return statement;
+        });
+    }
+}
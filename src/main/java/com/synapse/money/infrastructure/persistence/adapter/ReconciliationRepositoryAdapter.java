@@ -0,0 +1,138 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import com.synapse.money.domain.repository.ReconciliationRepository;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ReconciliationRepositoryAdapter implements ReconciliationRepository {
+
+    private static final int ITEM_BATCH_SIZE = 1000;
+
+    private static final String COLUMNS = "id, account_id, period_start, period_end, date_tolerance_days, "
+            + "matched_count, missing_count, extra_count, created_at";
+
+    private static final String ITEM_COLUMNS = "status, line_number, transaction_id, statement_date, ledger_date, "
+            + "amount, description, score";
+
+    static final String INSERT_SQL = """
+            INSERT INTO reconciliations (user_id, account_id, period_start, period_end, date_tolerance_days,
+                                         matched_count, missing_count, extra_count)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String INSERT_ITEM_SQL = """
+            INSERT INTO reconciliation_items (reconciliation_id, %s)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """.formatted(ITEM_COLUMNS);
+
+    static final String FIND_BY_ID_AND_USER_SQL = """
+            SELECT %s
+            FROM reconciliations
+            WHERE id = ?
+              AND user_id = ?
+            """.formatted(COLUMNS);
+
+    static final String FIND_UNMATCHED_ITEMS_SQL = """
+            SELECT %s
+            FROM reconciliation_items
+            WHERE reconciliation_id = ?
+              AND status <> 'matched'
+            ORDER BY id
+            """.formatted(ITEM_COLUMNS);
+
+    private static final RowMapper<Reconciliation> RECONCILIATION_MAPPER = (rs, rowNum) -> new Reconciliation(
+            rs.getLong("id"),
+            rs.getLong("account_id"),
+            rs.getDate("period_start").toLocalDate(),
+            rs.getDate("period_end").toLocalDate(),
+            rs.getInt("date_tolerance_days"),
+            rs.getInt("matched_count"),
+            rs.getInt("missing_count"),
+            rs.getInt("extra_count"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private static final RowMapper<ReconciliationItem> ITEM_MAPPER = (rs, rowNum) -> new ReconciliationItem(
+            EReconciliationStatus.fromDescription(rs.getString("status")),
+            rs.getObject("line_number", Integer.class),
+            rs.getObject("transaction_id", Long.class),
+            localDate(rs.getDate("statement_date")),
+            localDate(rs.getDate("ledger_date")),
+            Money.of(rs.getBigDecimal("amount")).minorUnits(),
+            rs.getString("description"),
+            rs.getObject("score", Double.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Reconciliation save(
+            Long userId,
+            Reconciliation reconciliation,
+            List<ReconciliationItem> items) {
+        Reconciliation saved = jdbcTemplate.queryForObject(
+                INSERT_SQL,
+                RECONCILIATION_MAPPER,
+                userId,
+                reconciliation.accountId(),
+                Date.valueOf(reconciliation.periodStart()),
+                Date.valueOf(reconciliation.periodEnd()),
+                reconciliation.dateToleranceDays(),
+                reconciliation.matchedCount(),
+                reconciliation.missingCount(),
+                reconciliation.extraCount()
+        );
+        if (!items.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ITEM_SQL, items, ITEM_BATCH_SIZE, (ps, item) -> bindItem(ps, saved.id(), item));
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Reconciliation> findByIdAndUserId(
+            Long id,
+            Long userId) {
+        return jdbcTemplate.query(FIND_BY_ID_AND_USER_SQL, RECONCILIATION_MAPPER, id, userId).stream().findFirst();
+    }
+
+    @Override
+    public List<ReconciliationItem> findUnmatchedItems(Long reconciliationId) {
+        return jdbcTemplate.query(FIND_UNMATCHED_ITEMS_SQL, ITEM_MAPPER, reconciliationId);
+    }
+
+    private static void bindItem(
+            PreparedStatement ps,
+            Long reconciliationId,
+            ReconciliationItem item) throws SQLException {
+        ps.setLong(1, reconciliationId);
+        ps.setString(2, item.status().getDescription());
+        ps.setObject(3, item.lineNumber(), Types.INTEGER);
+        ps.setObject(4, item.transactionId(), Types.BIGINT);
+        ps.setObject(5, item.statementDate() == null ? null : Date.valueOf(item.statementDate()), Types.DATE);
+        ps.setObject(6, item.ledgerDate() == null ? null : Date.valueOf(item.ledgerDate()), Types.DATE);
+        ps.setBigDecimal(7, Money.ofMinor(item.amountMinorUnits()).toBigDecimal());
+        ps.setString(8, item.description());
+        ps.setObject(9, item.score(), Types.DOUBLE);
+    }
+
+    private static LocalDate localDate(Date date) {
+        return date == null ? null : date.toLocalDate();
+    }
+}
@@ -0,0 +1,115 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.RecurringTransactionRepository;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class RecurringTransactionRepositoryAdapter implements RecurringTransactionRepository {
+
+    /**
+     * Templates created without a watermark start from the later of their
+     * anchor date and the day they were created, so back-dated templates are
+     * not backfilled.
+     */
+    static final String WATERMARK =
+            "COALESCE(recurrence_materialized_through, GREATEST(transaction_date, created_at::date))";
+
+    static final String CLAIM_SQL = """
+            SELECT id
+            FROM transactions
+            WHERE is_recurring
+              AND transaction_date < :horizon
+              AND id > :afterId
+              AND (hashint8(user_id) & 2147483647) %% :sliceCount = :slice
+              AND %s < :horizon
+            ORDER BY id
+            LIMIT :limit
+            FOR NO KEY UPDATE SKIP LOCKED
+            """.formatted(WATERMARK);
+
+    /**
+     * Occurrence k is the anchor date plus k months, which Postgres clamps to
+     * the month end, so a template on the 31st never drifts to the 28th. Only
+     * the k between the watermark and the horizon are generated.
+     */
+    static final String MATERIALIZE_SQL = """
+            WITH templates AS (SELECT id, user_id, account_id, category_id, subcategory_id, credit_card_id,
+                                      transfer_account_id, amount, description, transaction_type,
+                                      transaction_date AS anchor_date,
+                                      %1$s AS watermark
+                               FROM transactions
+                               WHERE id IN (:templateIds)
+                                 AND transaction_date < :horizon
+                                 AND is_recurring),
+                 occurrences AS (SELECT t.*, (t.anchor_date + make_interval(months => k))::date AS occurrence_date
+                                 FROM templates t
+                                 CROSS JOIN generate_series(GREATEST(1, %2$s), %3$s) AS k),
+                 advanced AS (UPDATE transactions tr
+                              SET recurrence_materialized_through = :horizon
+                              FROM templates t
+                              WHERE tr.id = t.id
+                                AND tr.transaction_date = t.anchor_date)
+            INSERT INTO transactions (user_id, account_id, category_id, subcategory_id, credit_card_id,
+                                      transfer_account_id, amount, description, transaction_date,
+                                      transaction_type, is_recurring, recurring_source_id)
+            SELECT user_id, account_id, category_id, subcategory_id, credit_card_id,
+                   transfer_account_id, amount, description, occurrence_date,
+                   transaction_type, FALSE, id
+            FROM occurrences
+            WHERE occurrence_date > watermark
+              AND occurrence_date <= :horizon
+            ON CONFLICT (recurring_source_id, transaction_date) WHERE recurring_source_id IS NOT NULL DO NOTHING
+            RETURNING %4$s
+            """.formatted(
+            WATERMARK,
+            monthsFromAnchor("t.watermark"),
+            monthsFromAnchor("CAST(:horizon AS date)"),
+            TransactionRowMapper.COLUMNS);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionRowMapper rowMapper;
+
+    @Override
+    public List<Long> claimDueTemplates(
+            int slice,
+            int sliceCount,
+            long afterId,
+            LocalDate horizon,
+            int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("afterId", afterId)
+                .addValue("sliceCount", sliceCount)
+                .addValue("slice", slice)
+                .addValue("horizon", Date.valueOf(horizon))
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(CLAIM_SQL, params, Long.class);
+    }
+
+    @Override
+    public List<Transaction> materialize(
+            List<Long> templateIds,
+            LocalDate horizon) {
+        if (templateIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("templateIds", templateIds)
+                .addValue("horizon", Date.valueOf(horizon));
+        return jdbcTemplate.query(MATERIALIZE_SQL, params, rowMapper);
+    }
+
+    private static String monthsFromAnchor(String date) {
+        return "((date_part('year', %1$s) - date_part('year', t.anchor_date)) * 12 + date_part('month', %1$s) - date_part('month', t.anchor_date))::int"
+                .formatted(date);
+    }
+}
@@ -0,0 +1,72 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Encodes transactions as rows of PostgreSQL's COPY text format, in the
+ * column order of {@link TransactionRepositoryAdapter#COPY_SQL}.
+ */
+final class TransactionCopyEncoder {
+
+    private static final String NULL = "\\N";
+
+    private TransactionCopyEncoder() {
+    }
+
+    static void write(
+            Writer out,
+            Transaction transaction) throws IOException {
+        writeId(out, transaction.getUserId());
+        out.write('\t');
+        writeId(out, transaction.getAccountId());
+        out.write('\t');
+        writeId(out, transaction.getCategoryId());
+        out.write('\t');
+        writeId(out, transaction.getSubcategoryId());
+        out.write('\t');
+        writeId(out, transaction.getCreditCardId());
+        out.write('\t');
+        writeId(out, transaction.getTransferAccountId());
+        out.write('\t');
+        out.write(transaction.getAmount().toPlainString());
+        out.write('\t');
+        writeText(out, transaction.getDescription());
+        out.write('\t');
+        out.write(transaction.getTransactionDate().toString());
+        out.write('\t');
+        out.write(transaction.getTransactionType().getDescription());
+        out.write('\t');
+        out.write(transaction.isRecurring() ? 't' : 'f');
+        out.write('\t');
+        writeId(out, transaction.getImportFingerprint());
+        out.write('\n');
+    }
+
+    private static void writeId(
+            Writer out,
+            Long id) throws IOException {
+        out.write(id == null ? NULL : Long.toString(id));
+    }
+
+    private static void writeText(
+            Writer out,
+            String value) throws IOException {
+        if (value == null) {
+            out.write(NULL);
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> out.write("\\\\");
+                case '\t' -> out.write("\\t");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                default -> out.write(c);
+            }
+        }
+    }
+}
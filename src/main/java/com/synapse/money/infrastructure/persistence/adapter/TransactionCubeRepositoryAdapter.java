@@ -0,0 +1,83 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionCubeRepository;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.valueobject.TransactionCube;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import com.synapse.money.infrastructure.persistence.mapper.MoneyColumns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionCubeRepositoryAdapter implements TransactionCubeRepository {
+
+    static final String LOAD_SQL = """
+            SELECT id, transaction_date, %s AS amount_minor_units, category_id, account_id, transaction_type
+            FROM transactions
+            WHERE user_id = ?
+            ORDER BY transaction_date, id
+            """.formatted(MoneyColumns.minorUnits("amount"));
+
+    static final int LOAD_FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionArchive transactionArchive;
+
+    @Override
+    public TransactionCube loadForUser(Long userId) {
+        TransactionCube.Builder builder = TransactionCube.builder();
+        ArchivedRowMerge archived = new ArchivedRowMerge(scanArchive(userId));
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(LOAD_SQL);
+                    statement.setFetchSize(LOAD_FETCH_SIZE);
+                    statement.setLong(1, userId);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> {
+                    LocalDate date = rs.getObject("transaction_date", LocalDate.class);
+                    if (archived.available()) {
+                        long id = rs.getLong("id");
+                        for (; archived.before(date, id); archived.advance()) {
+                            add(builder, archived.row());
+                        }
+                    }
+                    builder.add(
+                            date,
+                            MoneyColumns.readMinorUnits(rs, "amount_minor_units"),
+                            rs.getObject("category_id", Long.class),
+                            rs.getLong("account_id"),
+                            ETransactionType.fromDescription(rs.getString("transaction_type"))
+                    );
+                }
+        );
+        for (; archived.available(); archived.advance()) {
+            add(builder, archived.row());
+        }
+        return builder.build();
+    }
+
+    private TransactionRowCursor scanArchive(Long userId) {
+        try {
+            return transactionArchive.scan(userId, LocalDate.MIN, LocalDate.MAX);
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Transaction archive read failed", e);
+        }
+    }
+
+    private static void add(
+            TransactionCube.Builder builder,
+            TransactionRow row) {
+        builder.add(row.transactionDate(), row.amountMinorUnits(), row.categoryId(), row.accountId(), row.transactionType());
+    }
+}
@@ -0,0 +1,24 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.TransactionPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.YearMonth;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionPartitionRepositoryAdapter implements TransactionPartitionRepository {
+
+    static final String EXTEND_SQL = "SELECT extend_transactions_partitions(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int createMonthlyPartitionsThrough(YearMonth through) {
+        Integer created = jdbcTemplate.queryForObject(EXTEND_SQL, Integer.class, Date.valueOf(through.atDay(1)));
+        return created == null ? 0 : created;
+    }
+}
@@ -0,0 +1,69 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionReferenceRepositoryAdapter implements TransactionReferenceRepository {
+
+    /**
+     * Checks every transaction's references in one round trip. A
+     * subcategory sent without its category is reported as well.
+     */
+    static final String FIND_UNOWNED_SQL = """
+            SELECT r.ordinal - 1
+            FROM unnest(?::bigint[], ?::bigint[], ?::bigint[])
+                     WITH ORDINALITY AS r(category_id, subcategory_id, credit_card_id, ordinal)
+            WHERE (r.category_id IS NOT NULL
+                AND NOT EXISTS (SELECT 1
+                                FROM categories c
+                                WHERE c.id = r.category_id
+                                  AND c.user_id = ?))
+               OR (r.subcategory_id IS NOT NULL
+                AND NOT EXISTS (SELECT 1
+                                FROM subcategories s
+                                WHERE s.id = r.subcategory_id
+                                  AND s.category_id = r.category_id))
+               OR (r.credit_card_id IS NOT NULL
+                AND NOT EXISTS (SELECT 1
+                                FROM credit_cards cc
+                                WHERE cc.id = r.credit_card_id
+                                  AND cc.user_id = ?))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<Integer> findUnowned(
+            Long userId,
+            List<Transaction> transactions) {
+        boolean referencesAny = transactions.stream().anyMatch(transaction -> transaction.getCategoryId() != null
+                || transaction.getSubcategoryId() != null
+                || transaction.getCreditCardId() != null);
+        if (!referencesAny) {
+            return Set.of();
+        }
+
+        Long[] categoryIds = transactions.stream().map(Transaction::getCategoryId).toArray(Long[]::new);
+        Long[] subcategoryIds = transactions.stream().map(Transaction::getSubcategoryId).toArray(Long[]::new);
+        Long[] creditCardIds = transactions.stream().map(Transaction::getCreditCardId).toArray(Long[]::new);
+        return new HashSet<>(jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_UNOWNED_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", categoryIds));
+            statement.setArray(2, connection.createArrayOf("bigint", subcategoryIds));
+            statement.setArray(3, connection.createArrayOf("bigint", creditCardIds));
+            statement.setLong(4, userId);
+            statement.setLong(5, userId);
+            return statement;
+        }, (rs, rowNum) -> rs.getInt(1)));
+    }
+}
@@ -0,0 +1,511 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.TransactionRowConsumer;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.TransactionCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchHit;
+import com.synapse.money.infrastructure.persistence.mapper.MoneyColumns;
+import com.synapse.money.infrastructure.persistence.mapper.ResultSetTransactionRow;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionRepositoryAdapter implements TransactionRepository {
+
+    static final String COPY_SQL = """
+            COPY transactions (user_id, account_id, category_id, subcategory_id, credit_card_id,
+                               transfer_account_id, amount, description, transaction_date,
+                               transaction_type, is_recurring, import_fingerprint)
+            FROM STDIN WITH (FORMAT text)
+            """;
+
+    static final String INSERT_SQL = """
+            INSERT INTO transactions (user_id, account_id, category_id, subcategory_id, credit_card_id,
+                                      transfer_account_id, amount, description, transaction_date,
+                                      transaction_type, is_recurring)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS transaction_type_enum), ?)
+            RETURNING %s
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    /**
+     * Ids are drawn up front in one round trip, so the batch needs no
+     * RETURNING and the driver can rewrite it into multi-row INSERTs.
+     */
+    static final String ALLOCATE_IDS_SQL = """
+            SELECT nextval('transactions_id_seq')
+            FROM generate_series(1, ?)
+            """;
+
+    static final String BATCH_INSERT_SQL = """
+            INSERT INTO transactions (id, user_id, account_id, category_id, subcategory_id, credit_card_id,
+                                      transfer_account_id, amount, description, transaction_date,
+                                      transaction_type, is_recurring, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS transaction_type_enum), ?, ?, ?)
+            """;
+
+    static final String UPDATE_SQL = """
+            UPDATE transactions
+            SET account_id          = ?,
+                category_id         = ?,
+                subcategory_id      = ?,
+                credit_card_id      = ?,
+                transfer_account_id = ?,
+                amount              = ?,
+                description         = ?,
+                transaction_date    = ?,
+                transaction_type    = CAST(? AS transaction_type_enum),
+                is_recurring        = ?,
+                updated_at          = now()
+            WHERE id = ?
+              AND user_id = ?
+              AND transaction_date = ?
+            RETURNING %s
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String DELETE_SQL = """
+            DELETE FROM transactions
+            WHERE id = ?
+              AND user_id = ?
+              AND transaction_date = ?
+            """;
+
+    /**
+     * The only lookup without a date: callers know just the id, so every
+     * partition's primary key is probed once.
+     */
+    static final String FIND_FOR_UPDATE_SQL = """
+            SELECT %s
+            FROM transactions
+            WHERE id = ?
+              AND user_id = ?
+            FOR UPDATE
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String FIRST_PAGE_SQL = """
+            SELECT %s
+            FROM transactions
+            WHERE user_id = ?
+            ORDER BY transaction_date DESC, id DESC
+            LIMIT ?
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String NEXT_PAGE_SQL = """
+            SELECT %s
+            FROM transactions
+            WHERE user_id = ?
+              AND transaction_date <= ?
+              AND (transaction_date, id) < (?, ?)
+            ORDER BY transaction_date DESC, id DESC
+            LIMIT ?
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    /**
+     * Ids come from the tag index without their dates, so like the lookup
+     * for update this probes every partition's primary key.
+     */
+    static final String FIND_BY_IDS_SQL = """
+            SELECT %s
+            FROM transactions
+            WHERE user_id = ?
+              AND id = ANY (?)
+            ORDER BY id DESC
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    /**
+     * The ILIKE is served by the trigram GIN index on (user_id, description);
+     * rank is word similarity in thousandths so the cursor compares exactly.
+     */
+    static final String SEARCH_FIRST_PAGE_SQL = """
+            SELECT %s, (word_similarity(?, description) * 1000)::int AS rank
+            FROM transactions
+            WHERE user_id = ?
+              AND description ILIKE ?
+            ORDER BY rank DESC, transaction_date DESC, id DESC
+            LIMIT ?
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String SEARCH_NEXT_PAGE_SQL = """
+            SELECT *
+            FROM (SELECT %s, (word_similarity(?, description) * 1000)::int AS rank
+                  FROM transactions
+                  WHERE user_id = ?
+                    AND description ILIKE ?) matches
+            WHERE (rank, transaction_date, id) < (?, ?, ?)
+            ORDER BY rank DESC, transaction_date DESC, id DESC
+            LIMIT ?
+            """.formatted(TransactionRowMapper.COLUMNS);
+
+    static final String EXPORT_SQL = """
+            SELECT %s, %s AS %s
+            FROM transactions
+            WHERE user_id = ?
+              AND transaction_date BETWEEN ? AND ?
+            ORDER BY transaction_date, id
+            """.formatted(
+            TransactionRowMapper.COLUMNS,
+            MoneyColumns.minorUnits("amount"),
+            ResultSetTransactionRow.AMOUNT_MINOR_UNITS);
+
+    static final String FIND_IMPORT_FINGERPRINTS_SQL = """
+            SELECT import_fingerprint
+            FROM transactions
+            WHERE user_id = ?
+              AND transaction_date BETWEEN ? AND ?
+              AND import_fingerprint IS NOT NULL
+            """;
+
+    static final String FIRST_DATE_AFTER_SQL = """
+            SELECT MIN(transaction_date)
+            FROM transactions
+            WHERE user_id = ?
+              AND transaction_date > COALESCE(CAST(? AS date), '-infinity')
+            """;
+
+    /**
+     * Deletes by id within the archived period: a row committed after the
+     * archive was read is not in the segment and must stay, and so must
+     * recurring templates, which are never archived.
+     */
+    static final String DELETE_ARCHIVED_SQL = """
+            DELETE FROM transactions
+            WHERE user_id = ?
+              AND transaction_date BETWEEN ? AND ?
+              AND id = ANY (?)
+              AND is_recurring IS NOT TRUE
+            """;
+
+    static final int EXPORT_FETCH_SIZE = 1_000;
+
+    private static final int COPY_BUFFER_SIZE = 1 << 16;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionRowMapper rowMapper;
+    private final TransactionArchive transactionArchive;
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        return jdbcTemplate.queryForObject(
+                INSERT_SQL,
+                rowMapper,
+                transaction.getUserId(),
+                transaction.getAccountId(),
+                transaction.getCategoryId(),
+                transaction.getSubcategoryId(),
+                transaction.getCreditCardId(),
+                transaction.getTransferAccountId(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                Date.valueOf(transaction.getTransactionDate()),
+                transaction.getTransactionType().getDescription(),
+                transaction.isRecurring()
+        );
+    }
+
+    @Override
+    public List<Transaction> saveAll(
+            List<Transaction> transactions,
+            int batchSize) {
+        if (transactions.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, transactions.size());
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> stamped = new ArrayList<>(transactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            stamped.add(transactions.get(i).toBuilder()
+                    .id(ids.get(i))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+        jdbcTemplate.batchUpdate(BATCH_INSERT_SQL, stamped, batchSize, (ps, transaction) -> {
+            ps.setLong(1, transaction.getId());
+            ps.setLong(2, transaction.getUserId());
+            ps.setLong(3, transaction.getAccountId());
+            ps.setObject(4, transaction.getCategoryId(), Types.BIGINT);
+            ps.setObject(5, transaction.getSubcategoryId(), Types.BIGINT);
+            ps.setObject(6, transaction.getCreditCardId(), Types.BIGINT);
+            ps.setObject(7, transaction.getTransferAccountId(), Types.BIGINT);
+            ps.setBigDecimal(8, transaction.getAmount());
+            ps.setString(9, transaction.getDescription());
+            ps.setDate(10, Date.valueOf(transaction.getTransactionDate()));
+            ps.setString(11, transaction.getTransactionType().getDescription());
+            ps.setBoolean(12, transaction.isRecurring());
+            ps.setTimestamp(13, Timestamp.valueOf(now));
+            ps.setTimestamp(14, Timestamp.valueOf(now));
+        });
+        return stamped;
+    }
+
+    @Override
+    public Transaction update(
+            Transaction stored,
+            Transaction transaction) {
+        return jdbcTemplate.queryForObject(
+                UPDATE_SQL,
+                rowMapper,
+                transaction.getAccountId(),
+                transaction.getCategoryId(),
+                transaction.getSubcategoryId(),
+                transaction.getCreditCardId(),
+                transaction.getTransferAccountId(),
+                transaction.getAmount(),
+                transaction.getDescription(),
+                Date.valueOf(transaction.getTransactionDate()),
+                transaction.getTransactionType().getDescription(),
+                transaction.isRecurring(),
+                stored.getId(),
+                stored.getUserId(),
+                Date.valueOf(stored.getTransactionDate())
+        );
+    }
+
+    @Override
+    public void delete(Transaction transaction) {
+        jdbcTemplate.update(
+                DELETE_SQL,
+                transaction.getId(),
+                transaction.getUserId(),
+                Date.valueOf(transaction.getTransactionDate())
+        );
+    }
+
+    @Override
+    public Optional<Transaction> findByIdAndUserIdForUpdate(
+            Long id,
+            Long userId) {
+        return jdbcTemplate.query(FIND_FOR_UPDATE_SQL, rowMapper, id, userId).stream().findFirst();
+    }
+
+    @Override
+    public long bulkInsert(Iterator<Transaction> transactions) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            PGCopyOutputStream copy = new PGCopyOutputStream(
+                    connection.unwrap(PGConnection.class),
+                    COPY_SQL,
+                    COPY_BUFFER_SIZE
+            );
+            try {
+                Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(copy, StandardCharsets.UTF_8),
+                        COPY_BUFFER_SIZE
+                );
+                while (transactions.hasNext()) {
+                    TransactionCopyEncoder.write(writer, transactions.next());
+                }
+                writer.flush();
+                return copy.endCopy();
+            } catch (IOException | RuntimeException e) {
+                if (copy.isActive()) {
+                    copy.cancelCopy();
+                }
+                throw e;
+            }
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("Bulk copy into transactions failed", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @Override
+    public FingerprintSet findImportFingerprints(
+            Long userId,
+            LocalDate from,
+            LocalDate to) {
+        FingerprintSet fingerprints = new FingerprintSet();
+        jdbcTemplate.query(
+                FIND_IMPORT_FINGERPRINTS_SQL,
+                (RowCallbackHandler) rs -> fingerprints.add(rs.getLong(1)),
+                userId,
+                Date.valueOf(from),
+                Date.valueOf(to)
+        );
+        return fingerprints;
+    }
+
+    @Override
+    public Optional<LocalDate> findFirstTransactionDateAfter(
+            Long userId,
+            LocalDate after) {
+        LocalDate first = jdbcTemplate.queryForObject(
+                FIRST_DATE_AFTER_SQL,
+                LocalDate.class,
+                userId,
+                after == null ? null : Date.valueOf(after)
+        );
+        return Optional.ofNullable(first);
+    }
+
+    @Override
+    public int deleteArchived(
+            Long userId,
+            LocalDate from,
+            LocalDate to,
+            List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_ARCHIVED_SQL);
+            statement.setLong(1, userId);
+            statement.setDate(2, Date.valueOf(from));
+            statement.setDate(3, Date.valueOf(to));
+            statement.setArray(4, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        });
+    }
+
+    @Override
+    public List<Transaction> findPageByUser(
+            Long userId,
+            TransactionCursor after,
+            int limit) {
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, rowMapper, userId, limit);
+        }
+        return jdbcTemplate.query(
+                NEXT_PAGE_SQL,
+                rowMapper,
+                userId,
+                Date.valueOf(after.transactionDate()),
+                Date.valueOf(after.transactionDate()),
+                after.id(),
+                limit
+        );
+    }
+
+    @Override
+    public List<Transaction> findByIds(
+            Long userId,
+            List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_BY_IDS_SQL);
+            statement.setLong(1, userId);
+            statement.setArray(2, connection.createArrayOf("bigint", ids.toArray()));
+            return statement;
+        }, rowMapper);
+    }
+
+    @Override
+    public List<TransactionSearchHit> searchByUser(
+            Long userId,
+            String query,
+            TransactionSearchCursor after,
+            int limit) {
+        RowMapper<TransactionSearchHit> hitMapper = (rs, rowNum) ->
+                new TransactionSearchHit(rowMapper.mapRow(rs, rowNum), rs.getInt("rank"));
+        String pattern = containsPattern(query);
+        if (after == null) {
+            return jdbcTemplate.query(SEARCH_FIRST_PAGE_SQL, hitMapper, query, userId, pattern, limit);
+        }
+        return jdbcTemplate.query(
+                SEARCH_NEXT_PAGE_SQL,
+                hitMapper,
+                query,
+                userId,
+                pattern,
+                after.rank(),
+                Date.valueOf(after.transactionDate()),
+                after.id(),
+                limit
+        );
+    }
+
+    static String containsPattern(String query) {
+        String escaped = query
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    @Override
+    public long streamByUserAndDateRange(
+            Long userId,
+            LocalDate from,
+            LocalDate to,
+            TransactionRowConsumer consumer) throws IOException {
+        ArchivedRowMerge archived = new ArchivedRowMerge(transactionArchive.scan(userId, from, to));
+        // A dedicated connection outside any Spring transaction: the export
+        // outlives the request thread, and PgJDBC only honours the fetch size
+        // (server-side cursor) with autocommit disabled.
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            try (PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY,
+                    ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(EXPORT_FETCH_SIZE);
+                statement.setLong(1, userId);
+                statement.setObject(2, from);
+                statement.setObject(3, to);
+
+                long count = 0;
+                try (ResultSet rs = statement.executeQuery()) {
+                    ResultSetTransactionRow row = new ResultSetTransactionRow(rs);
+                    while (rs.next()) {
+                        if (archived.available()) {
+                            LocalDate date = row.transactionDate();
+                            long id = row.id();
+                            for (; archived.before(date, id); archived.advance()) {
+                                consumer.accept(archived.row());
+                                count++;
+                            }
+                        }
+                        consumer.accept(row);
+                        count++;
+                    }
+                }
+                for (; archived.available(); archived.advance()) {
+                    consumer.accept(archived.row());
+                    count++;
+                }
+                return count;
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Transaction export query failed", e);
+        }
+    }
+}
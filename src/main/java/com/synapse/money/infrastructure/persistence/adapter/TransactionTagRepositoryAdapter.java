@@ -0,0 +1,110 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class TransactionTagRepositoryAdapter implements TransactionTagRepository {
+
+    static final String DELETE_SQL = """
+            DELETE FROM transaction_tags
+            WHERE user_id = ?
+              AND transaction_id = ?
+            """;
+
+    static final String INSERT_SQL = """
+            INSERT INTO transaction_tags (user_id, transaction_id, tag)
+            VALUES (?, ?, ?)
+            """;
+
+    static final String FIND_BY_TRANSACTION_SQL = """
+            SELECT tag
+            FROM transaction_tags
+            WHERE user_id = ?
+              AND transaction_id = ?
+            ORDER BY tag
+            """;
+
+    static final String DELETE_BY_TRANSACTIONS_SQL = """
+            DELETE FROM transaction_tags
+            WHERE user_id = ?
+              AND transaction_id = ANY (?)
+            """;
+
+    /**
+     * Served in order by the primary key, which leads with
+     * (user_id, transaction_id).
+     */
+    static final String LOAD_INDEX_SQL = """
+            SELECT transaction_id, tag
+            FROM transaction_tags
+            WHERE user_id = ?
+            ORDER BY transaction_id
+            """;
+
+    static final int LOAD_FETCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void replace(
+            Long userId,
+            Long transactionId,
+            Collection<String> tags) {
+        jdbcTemplate.update(DELETE_SQL, userId, transactionId);
+        if (tags.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, List.copyOf(tags), tags.size(), (ps, tag) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, transactionId);
+            ps.setString(3, tag);
+        });
+    }
+
+    @Override
+    public List<String> findByTransaction(
+            Long userId,
+            Long transactionId) {
+        return jdbcTemplate.queryForList(FIND_BY_TRANSACTION_SQL, String.class, userId, transactionId);
+    }
+
+    @Override
+    public void deleteByTransactions(
+            Long userId,
+            Collection<Long> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_BY_TRANSACTIONS_SQL);
+            statement.setLong(1, userId);
+            statement.setArray(2, connection.createArrayOf("bigint", transactionIds.toArray()));
+            return statement;
+        });
+    }
+
+    @Override
+    public TransactionTagIndex loadIndex(Long userId) {
+        TransactionTagIndex.Builder builder = TransactionTagIndex.builder();
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(LOAD_INDEX_SQL);
+                    statement.setFetchSize(LOAD_FETCH_SIZE);
+                    statement.setLong(1, userId);
+                    return statement;
+                },
+                (RowCallbackHandler) rs -> builder.add(rs.getLong("transaction_id"), rs.getString("tag"))
+        );
+        return builder.build();
+    }
+}
@@ -6,8 +6,10 @@ import com.synapse.money.infrastructure.persistence.entity.UserEntity;
 import com.synapse.money.infrastructure.persistence.mapper.UserMapper;
 import com.synapse.money.infrastructure.persistence.repository.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -38,4 +40,11 @@ public class UserRepositoryAdapter implements UserRepository {
     public boolean existsByEmail(String email) {
         return jpaRepository.existsByEmailIgnoreCase(email);
     }
+
+    @Override
+    public List<Long> findIdsAfter(
+            Long afterId,
+            int limit) {
+        return jpaRepository.findIdsAfter(afterId, PageRequest.of(0, limit));
+    }
 }
\ No newline at end of file
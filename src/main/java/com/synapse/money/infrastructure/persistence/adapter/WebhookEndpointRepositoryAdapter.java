@@ -0,0 +1,83 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class WebhookEndpointRepositoryAdapter implements WebhookEndpointRepository {
+
+    private static final String COLUMNS = "id, user_id, url, secret, created_at";
+
+    static final String INSERT_SQL = """
+            INSERT INTO webhook_endpoints (user_id, url, secret)
+            VALUES (?, ?, ?)
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String FIND_BY_USER_SQL = """
+            SELECT %s
+            FROM webhook_endpoints
+            WHERE user_id = ?
+            ORDER BY id
+            """.formatted(COLUMNS);
+
+    static final String UPDATE_SECRET_SQL = """
+            UPDATE webhook_endpoints
+            SET secret = ?
+            WHERE id = ?
+              AND user_id = ?
+            RETURNING %s
+            """.formatted(COLUMNS);
+
+    static final String DELETE_SQL = """
+            DELETE FROM webhook_endpoints
+            WHERE id = ?
+              AND user_id = ?
+            """;
+
+    private static final RowMapper<WebhookEndpoint> ENDPOINT_MAPPER = (rs, rowNum) -> new WebhookEndpoint(
+            rs.getLong("id"),
+            rs.getLong("user_id"),
+            rs.getString("url"),
+            rs.getString("secret"),
+            rs.getTimestamp("created_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public WebhookEndpoint save(
+            Long userId,
+            String url,
+            String secret) {
+        return jdbcTemplate.queryForObject(INSERT_SQL, ENDPOINT_MAPPER, userId, url, secret);
+    }
+
+    @Override
+    public List<WebhookEndpoint> findByUserId(Long userId) {
+        return jdbcTemplate.query(FIND_BY_USER_SQL, ENDPOINT_MAPPER, userId);
+    }
+
+    @Override
+    public Optional<WebhookEndpoint> updateSecret(
+            Long id,
+            Long userId,
+            String secret) {
+        return jdbcTemplate.query(UPDATE_SECRET_SQL, ENDPOINT_MAPPER, secret, id, userId).stream().findFirst();
+    }
+
+    @Override
+    public boolean deleteByIdAndUserId(
+            Long id,
+            Long userId) {
+        return jdbcTemplate.update(DELETE_SQL, id, userId) > 0;
+    }
+}
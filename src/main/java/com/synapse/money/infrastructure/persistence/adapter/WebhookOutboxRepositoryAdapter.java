@@ -0,0 +1,171 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.repository.WebhookOutboxRepository;
+import com.synapse.money.domain.valueobject.OutboxEvent;
+import com.synapse.money.domain.valueobject.WebhookDelivery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class WebhookOutboxRepositoryAdapter implements WebhookOutboxRepository {
+
+    static final String FIND_ENDPOINT_IDS_SQL = """
+            SELECT id
+            FROM webhook_endpoints
+            WHERE user_id = :userId
+            ORDER BY id
+            """;
+
+    static final String ENQUEUE_SQL = """
+            INSERT INTO webhook_outbox (endpoint_id, event_type, payload)
+            VALUES (:endpointId, :eventType, :payload)
+            """;
+
+    /**
+     * A single autocommitted statement: the lease is visible to other
+     * dispatchers as soon as it returns, and no lock is held while the
+     * requests are in flight.
+     */
+    static final String CLAIM_DUE_SQL = """
+            UPDATE webhook_outbox o
+            SET next_attempt_at = now() + make_interval(secs => :leaseSeconds)
+            FROM webhook_endpoints e
+            WHERE e.id = o.endpoint_id
+              AND o.id IN (SELECT ob.id
+                           FROM webhook_outbox ob
+                                    JOIN webhook_endpoints ep ON ep.id = ob.endpoint_id
+                           WHERE ob.failed_at IS NULL
+                             AND ob.next_attempt_at <= now()
+                             AND (ep.circuit_open_until IS NULL OR ep.circuit_open_until <= now())
+                           ORDER BY ob.id
+                           LIMIT :limit
+                           FOR UPDATE OF ob SKIP LOCKED)
+            RETURNING o.id, o.endpoint_id, e.url, e.secret, o.event_type, o.payload, o.attempts
+            """;
+
+    static final String MARK_DELIVERED_SQL = """
+            DELETE FROM webhook_outbox
+            WHERE id IN (:ids)
+            """;
+
+    static final String MARK_FAILED_SQL = """
+            UPDATE webhook_outbox
+            SET attempts        = attempts + 1,
+                next_attempt_at = now() + LEAST(make_interval(secs => :initialBackoffSeconds) * power(2, attempts),
+                                                make_interval(secs => :maxBackoffSeconds)),
+                failed_at       = CASE WHEN attempts + 1 >= :maxAttempts THEN now() END
+            WHERE id IN (:ids)
+            """;
+
+    static final String RECORD_SUCCESS_SQL = """
+            UPDATE webhook_endpoints
+            SET consecutive_failures = 0,
+                circuit_open_until   = NULL
+            WHERE id = :endpointId
+              AND (consecutive_failures > 0 OR circuit_open_until IS NOT NULL)
+            """;
+
+    static final String RECORD_FAILURE_SQL = """
+            UPDATE webhook_endpoints
+            SET consecutive_failures = consecutive_failures + 1,
+                circuit_open_until   = CASE
+                                           WHEN consecutive_failures + 1 >= :threshold
+                                               THEN now() + make_interval(secs => :openForSeconds)
+                                           ELSE circuit_open_until
+                    END
+            WHERE id = :endpointId
+            """;
+
+    private static final RowMapper<WebhookDelivery> DELIVERY_MAPPER = (rs, rowNum) -> new WebhookDelivery(
+            rs.getLong("id"),
+            rs.getLong("endpoint_id"),
+            rs.getString("url"),
+            rs.getString("secret"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> findEndpointIds(Long userId) {
+        return jdbcTemplate.queryForList(FIND_ENDPOINT_IDS_SQL, Map.of("userId", userId), Long.class);
+    }
+
+    @Override
+    public void enqueue(
+            List<Long> endpointIds,
+            List<OutboxEvent> events) {
+        List<SqlParameterSource> rows = new ArrayList<>(endpointIds.size() * events.size());
+        for (Long endpointId : endpointIds) {
+            for (OutboxEvent event : events) {
+                rows.add(new MapSqlParameterSource()
+                        .addValue("endpointId", endpointId)
+                        .addValue("eventType", event.type().getDescription())
+                        .addValue("payload", event.payload()));
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(ENQUEUE_SQL, rows.toArray(SqlParameterSource[]::new));
+    }
+
+    @Override
+    public List<WebhookDelivery> claimDue(
+            int limit,
+            Duration lease) {
+        return jdbcTemplate.query(
+                CLAIM_DUE_SQL,
+                Map.of("leaseSeconds", lease.toSeconds(), "limit", limit),
+                DELIVERY_MAPPER
+        );
+    }
+
+    @Override
+    public void markDelivered(List<Long> deliveryIds) {
+        jdbcTemplate.update(MARK_DELIVERED_SQL, Map.of("ids", deliveryIds));
+    }
+
+    @Override
+    public void markFailed(
+            List<Long> deliveryIds,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            int maxAttempts) {
+        jdbcTemplate.update(MARK_FAILED_SQL, Map.of(
+                "ids", deliveryIds,
+                "initialBackoffSeconds", initialBackoff.toSeconds(),
+                "maxBackoffSeconds", maxBackoff.toSeconds(),
+                "maxAttempts", maxAttempts
+        ));
+    }
+
+    @Override
+    public void recordEndpointSuccess(long endpointId) {
+        jdbcTemplate.update(RECORD_SUCCESS_SQL, Map.of("endpointId", endpointId));
+    }
+
+    @Override
+    public void recordEndpointFailure(
+            long endpointId,
+            int threshold,
+            Duration openFor) {
+        jdbcTemplate.update(RECORD_FAILURE_SQL, Map.of(
+                "endpointId", endpointId,
+                "threshold", threshold,
+                "openForSeconds", openFor.toSeconds()
+        ));
+    }
+}
@@ -0,0 +1,22 @@
+package com.synapse.money.infrastructure.persistence.converter;
+
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.infrastructure.persistence.mapper.MoneyColumns;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+@Converter
+public class MoneyAttributeConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : MoneyColumns.toDecimal(money);
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal amount) {
+        return amount == null ? null : Money.of(amount);
+    }
+}
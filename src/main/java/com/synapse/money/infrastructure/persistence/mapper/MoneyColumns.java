@@ -0,0 +1,47 @@
+package com.synapse.money.infrastructure.persistence.mapper;
+
+import com.synapse.money.domain.valueobject.Money;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * JDBC mapping between {@link Money} and the {@code DECIMAL(12, 2)} amount
+ * columns. Reads select the column pre-scaled to cents with
+ * {@link #minorUnits(String)}, so the driver hands back a primitive
+ * {@code long} instead of materialising a {@code BigDecimal}.
+ */
+public final class MoneyColumns {
+
+    /** Largest magnitude a {@code DECIMAL(12, 2)} column holds, in cents. */
+    public static final long MAX_MINOR_UNITS = 999_999_999_999L;
+
+    private MoneyColumns() {
+    }
+
+    public static String minorUnits(String column) {
+        return "(" + column + " * 100)::bigint";
+    }
+
+    public static long readMinorUnits(
+            ResultSet rs,
+            String label) throws SQLException {
+        return rs.getLong(label);
+    }
+
+    public static void bind(
+            PreparedStatement ps,
+            int index,
+            Money money) throws SQLException {
+        ps.setBigDecimal(index, toDecimal(money));
+    }
+
+    public static BigDecimal toDecimal(Money money) {
+        if (Math.abs(money.minorUnits()) > MAX_MINOR_UNITS) {
+            throw new ArithmeticException("Amount does not fit DECIMAL(12, 2): " + money);
+        }
+        return money.toBigDecimal();
+    }
+}
@@ -0,0 +1,93 @@
+package com.synapse.money.infrastructure.persistence.mapper;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+public class ResultSetTransactionRow implements TransactionRow {
+
+    /**
+     * Label of the amount in cents; scans must select
+     * {@code MoneyColumns.minorUnits("amount")} under it.
+     */
+    public static final String AMOUNT_MINOR_UNITS = "amount_minor_units";
+
+    private final ResultSet rs;
+
+    public ResultSetTransactionRow(ResultSet rs) {
+        this.rs = rs;
+    }
+
+    @Override
+    public long id() {
+        return read(() -> rs.getLong("id"));
+    }
+
+    @Override
+    public long accountId() {
+        return read(() -> rs.getLong("account_id"));
+    }
+
+    @Override
+    public Long categoryId() {
+        return read(() -> rs.getObject("category_id", Long.class));
+    }
+
+    @Override
+    public Long subcategoryId() {
+        return read(() -> rs.getObject("subcategory_id", Long.class));
+    }
+
+    @Override
+    public Long creditCardId() {
+        return read(() -> rs.getObject("credit_card_id", Long.class));
+    }
+
+    @Override
+    public Long transferAccountId() {
+        return read(() -> rs.getObject("transfer_account_id", Long.class));
+    }
+
+    @Override
+    public long amountMinorUnits() {
+        return read(() -> MoneyColumns.readMinorUnits(rs, AMOUNT_MINOR_UNITS));
+    }
+
+    @Override
+    public String description() {
+        return read(() -> rs.getString("description"));
+    }
+
+    @Override
+    public LocalDate transactionDate() {
+        return read(() -> rs.getObject("transaction_date", LocalDate.class));
+    }
+
+    @Override
+    public ETransactionType transactionType() {
+        return read(() -> ETransactionType.fromDescription(rs.getString("transaction_type")));
+    }
+
+    @Override
+    public boolean recurring() {
+        return read(() -> rs.getBoolean("is_recurring"));
+    }
+
+    private static <T> T read(Column<T> column) {
+        try {
+            return column.read();
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Failed to read transaction row", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Column<T> {
+
+        T read() throws SQLException;
+    }
+}
@@ -0,0 +1,45 @@
+package com.synapse.money.infrastructure.persistence.mapper;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Component
+public class TransactionRowMapper implements RowMapper<Transaction> {
+
+    public static final String COLUMNS = """
+            id, user_id, account_id, category_id, subcategory_id, credit_card_id, transfer_account_id,
+            amount, description, transaction_date, transaction_type, is_recurring, recurring_source_id, created_at,
+            updated_at""";
+
+    @Override
+    public Transaction mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return Transaction.builder()
+                .id(rs.getLong("id"))
+                .userId(rs.getLong("user_id"))
+                .accountId(rs.getLong("account_id"))
+                .categoryId(rs.getObject("category_id", Long.class))
+                .subcategoryId(rs.getObject("subcategory_id", Long.class))
+                .creditCardId(rs.getObject("credit_card_id", Long.class))
+                .transferAccountId(rs.getObject("transfer_account_id", Long.class))
+                .amount(rs.getBigDecimal("amount"))
+                .description(rs.getString("description"))
+                .transactionDate(rs.getDate("transaction_date").toLocalDate())
+                .transactionType(ETransactionType.fromDescription(rs.getString("transaction_type")))
+                .isRecurring(rs.getBoolean("is_recurring"))
+                .recurringSourceId(rs.getObject("recurring_source_id", Long.class))
+                .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+                .build();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -0,0 +1,45 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.RebuildBalanceCheckpointsUseCase;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Adds the checkpoint for the month that just closed by rebuilding each
+ * user's checkpoints in its own transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceCheckpointJob {
+
+    static final int USER_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final RebuildBalanceCheckpointsUseCase rebuildBalanceCheckpointsUseCase;
+
+    @Scheduled(cron = "${synapse.jobs.balance-checkpoints.cron:0 15 2 1 * *}")
+    public void run() {
+        long rebuiltUsers = 0;
+        long lastUserId = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, USER_PAGE_SIZE);
+            for (Long userId : userIds) {
+                try {
+                    rebuildBalanceCheckpointsUseCase.execute(userId);
+                    rebuiltUsers++;
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild balance checkpoints for user {}", userId, e);
+                }
+                lastUserId = userId;
+            }
+        } while (userIds.size() == USER_PAGE_SIZE);
+        log.info("Rebuilt balance checkpoints for {} users", rebuiltUsers);
+    }
+}
@@ -0,0 +1,74 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.analytics.RowRateLimiter;
+import com.synapse.money.application.usecase.ProcessBulkEditsUseCase;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Works through queued bulk edits one at a time, chunk after chunk, under a
+ * shared rows-per-second budget. An edit interrupted by a shutdown or a
+ * transient database error keeps its lease and is resumed from its last
+ * chunk, here or on another node, once the lease expires; any other error
+ * fails it.
+ */
+@Slf4j
+@Component
+public class BulkEditJob {
+
+    private final ProcessBulkEditsUseCase processBulkEditsUseCase;
+    private final int chunkSize;
+    private final long maxRowsPerSecond;
+
+    public BulkEditJob(
+            ProcessBulkEditsUseCase processBulkEditsUseCase,
+            @Value("${synapse.jobs.bulk-edit.chunk-size:500}") int chunkSize,
+            @Value("${synapse.jobs.bulk-edit.max-rows-per-second:2000}") long maxRowsPerSecond) {
+        this.processBulkEditsUseCase = processBulkEditsUseCase;
+        this.chunkSize = chunkSize;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    @Scheduled(fixedDelayString = "${synapse.jobs.bulk-edit.interval:10s}")
+    public void run() {
+        RowRateLimiter rateLimiter = new RowRateLimiter(maxRowsPerSecond);
+        try {
+            Optional<BulkEdit> claimed;
+            while (!Thread.currentThread().isInterrupted()
+                    && (claimed = processBulkEditsUseCase.claimNext()).isPresent()) {
+                process(claimed.get(), rateLimiter);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to claim bulk edits", e);
+        }
+    }
+
+    private void process(
+            BulkEdit edit,
+            RowRateLimiter rateLimiter) {
+        try {
+            BulkEdit current = edit;
+            while (current.status() == EBulkEditStatus.RUNNING) {
+                rateLimiter.acquire(chunkSize);
+                current = processBulkEditsUseCase.processChunk(edit.id(), chunkSize);
+            }
+            log.info("Bulk edit {} of user {} {}: updated {} of {} transactions",
+                    edit.id(), edit.userId(), current.status().getDescription(), current.updatedCount(), current.scannedCount());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted bulk edit {}; it resumes once its lease expires", edit.id());
+        } catch (TransientDataAccessException e) {
+            log.warn("Bulk edit {} stopped on a transient error; it resumes once its lease expires", edit.id(), e);
+        } catch (RuntimeException e) {
+            log.error("Bulk edit {} failed", edit.id(), e);
+            processBulkEditsUseCase.fail(edit.id(), e.getMessage());
+        }
+    }
+}
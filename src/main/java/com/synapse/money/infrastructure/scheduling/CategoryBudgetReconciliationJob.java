@@ -0,0 +1,42 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ReconcileCategoryBudgetsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Corrects budget consumption that drifted from the transactions, e.g. an
+ * expense committed while its budget was being created. Only recent months
+ * are rechecked; older budgets no longer change.
+ */
+@Slf4j
+@Component
+public class CategoryBudgetReconciliationJob {
+
+    private final ReconcileCategoryBudgetsUseCase reconcileCategoryBudgetsUseCase;
+    private final int monthsBack;
+
+    public CategoryBudgetReconciliationJob(
+            ReconcileCategoryBudgetsUseCase reconcileCategoryBudgetsUseCase,
+            @Value("${synapse.jobs.budget-reconciliation.months-back:1}") int monthsBack) {
+        this.reconcileCategoryBudgetsUseCase = reconcileCategoryBudgetsUseCase;
+        this.monthsBack = monthsBack;
+    }
+
+    @Scheduled(cron = "${synapse.jobs.budget-reconciliation.cron:0 0 3 * * *}")
+    public void run() {
+        YearMonth from = YearMonth.now().minusMonths(monthsBack);
+        try {
+            int corrected = reconcileCategoryBudgetsUseCase.execute(from);
+            if (corrected > 0) {
+                log.warn("Corrected consumption of {} category budgets since {}", corrected, from);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to reconcile category budgets since {}", from, e);
+        }
+    }
+}
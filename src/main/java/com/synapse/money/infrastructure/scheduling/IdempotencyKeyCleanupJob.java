@@ -0,0 +1,31 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.idempotency.IdempotentRequestExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Purges idempotency keys past their TTL. An expired key that is still
+ * present is simply taken over by the next claim, so a late run is harmless.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyCleanupJob {
+
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
+
+    @Scheduled(cron = "${synapse.jobs.idempotency-cleanup.cron:0 10 * * * *}")
+    public void run() {
+        try {
+            int deleted = idempotentRequestExecutor.purgeExpired();
+            if (deleted > 0) {
+                log.info("Purged {} expired idempotency keys", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to purge expired idempotency keys", e);
+        }
+    }
+}
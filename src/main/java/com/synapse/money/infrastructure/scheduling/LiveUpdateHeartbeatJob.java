@@ -0,0 +1,28 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.live.LiveUpdateHub;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps idle live connections open through proxies and notices clients that
+ * went away without closing the stream.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveUpdateHeartbeatJob {
+
+    private final LiveUpdateHub liveUpdateHub;
+
+    @Scheduled(fixedRateString = "${synapse.live.heartbeat-interval:15s}")
+    public void run() {
+        try {
+            liveUpdateHub.heartbeat();
+        } catch (RuntimeException e) {
+            log.error("Failed to send live update heartbeats", e);
+        }
+    }
+}
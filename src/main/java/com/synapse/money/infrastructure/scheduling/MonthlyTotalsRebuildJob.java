@@ -0,0 +1,48 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.RebuildMonthlyTotalsUseCase;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Periodic repair of {@code monthly_totals}. Each user is rebuilt in its own
+ * transaction, so the job is idempotent and a failure only affects that user.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyTotalsRebuildJob {
+
+    static final int USER_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final RebuildMonthlyTotalsUseCase rebuildMonthlyTotalsUseCase;
+
+    @Scheduled(cron = "${synapse.jobs.monthly-totals-rebuild.cron:0 30 3 * * SUN}")
+    public void run() {
+        long rebuiltUsers = 0;
+        long lastUserId = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, USER_PAGE_SIZE);
+            for (Long userId : userIds) {
+                try {
+                    rebuildMonthlyTotalsUseCase.execute(userId);
+                    rebuiltUsers++;
+                } catch (ResourceNotFoundException e) {
+                    log.debug("User {} removed before its monthly totals were rebuilt", userId);
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild monthly totals for user {}", userId, e);
+                }
+                lastUserId = userId;
+            }
+        } while (userIds.size() == USER_PAGE_SIZE);
+        log.info("Rebuilt monthly totals for {} users", rebuiltUsers);
+    }
+}
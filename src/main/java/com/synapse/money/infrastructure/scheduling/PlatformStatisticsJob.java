@@ -0,0 +1,94 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.analytics.RowRateLimiter;
+import com.synapse.money.application.usecase.ComputePlatformStatisticsUseCase;
+import com.synapse.money.domain.valueobject.UserIdRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Computes statistics for the last complete Monday-to-Sunday week. User-id
+ * ranges are scanned by a small pool of workers sharing one row budget, so
+ * the batch never takes more than its share of the database. The job runs
+ * daily: once the week is published later runs return immediately, and a
+ * run that failed part-way resumes with the ranges still missing.
+ */
+@Slf4j
+@Component
+public class PlatformStatisticsJob {
+
+    private final ComputePlatformStatisticsUseCase computePlatformStatisticsUseCase;
+    private final int ranges;
+    private final int workers;
+    private final long maxRowsPerSecond;
+
+    public PlatformStatisticsJob(
+            ComputePlatformStatisticsUseCase computePlatformStatisticsUseCase,
+            @Value("${synapse.jobs.platform-statistics.ranges:64}") int ranges,
+            @Value("${synapse.jobs.platform-statistics.workers:2}") int workers,
+            @Value("${synapse.jobs.platform-statistics.max-rows-per-second:50000}") long maxRowsPerSecond) {
+        this.computePlatformStatisticsUseCase = computePlatformStatisticsUseCase;
+        this.ranges = ranges;
+        this.workers = workers;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    @Scheduled(cron = "${synapse.jobs.platform-statistics.cron:0 0 4 * * *}")
+    public void run() {
+        LocalDate weekStart = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        try {
+            if (computePlatformStatisticsUseCase.isComputed(weekStart)) {
+                return;
+            }
+            computeRanges(weekStart, computePlatformStatisticsUseCase.prepare(weekStart, ranges));
+            if (computePlatformStatisticsUseCase.complete(weekStart)) {
+                log.info("Computed platform statistics for the week of {}", weekStart);
+            } else {
+                log.warn("Platform statistics for the week of {} are incomplete; the next run resumes them", weekStart);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to compute platform statistics for the week of {}", weekStart, e);
+        }
+    }
+
+    private void computeRanges(
+            LocalDate weekStart,
+            List<UserIdRange> pending) {
+        RowRateLimiter rateLimiter = new RowRateLimiter(maxRowsPerSecond);
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            List<Future<?>> results = new ArrayList<>(pending.size());
+            for (UserIdRange range : pending) {
+                results.add(executor.submit(() -> computePlatformStatisticsUseCase.computeRange(
+                        weekStart, range, rateLimiter)));
+            }
+            for (int i = 0; i < pending.size(); i++) {
+                await(results.get(i), pending.get(i));
+            }
+        }
+    }
+
+    private static void await(
+            Future<?> result,
+            UserIdRange range) {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            log.error("Failed to compute platform statistics for user range {}", range.index(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while computing platform statistics for user range {}", range.index());
+        }
+    }
+}
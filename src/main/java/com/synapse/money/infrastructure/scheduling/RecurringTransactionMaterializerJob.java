@@ -0,0 +1,77 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.MaterializeRecurringTransactionsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Generates due occurrences of recurring templates. Users are split into
+ * hash slices processed by a pool of workers; templates are claimed with
+ * {@code SKIP LOCKED}, so several nodes running the job at once divide the
+ * work instead of colliding on it.
+ */
+@Slf4j
+@Component
+public class RecurringTransactionMaterializerJob {
+
+    private final MaterializeRecurringTransactionsUseCase materializeRecurringTransactionsUseCase;
+    private final int slices;
+    private final int workers;
+    private final int batchSize;
+    private final int horizonDays;
+
+    public RecurringTransactionMaterializerJob(
+            MaterializeRecurringTransactionsUseCase materializeRecurringTransactionsUseCase,
+            @Value("${synapse.jobs.recurring-materializer.slices:16}") int slices,
+            @Value("${synapse.jobs.recurring-materializer.workers:4}") int workers,
+            @Value("${synapse.jobs.recurring-materializer.batch-size:1000}") int batchSize,
+            @Value("${synapse.jobs.recurring-materializer.horizon-days:0}") int horizonDays) {
+        this.materializeRecurringTransactionsUseCase = materializeRecurringTransactionsUseCase;
+        this.slices = slices;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.horizonDays = horizonDays;
+    }
+
+    @Scheduled(cron = "${synapse.jobs.recurring-materializer.cron:0 0 1 * * *}")
+    public void run() {
+        LocalDate horizon = LocalDate.now().plusDays(horizonDays);
+        long inserted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            List<Future<Long>> results = new ArrayList<>(slices);
+            for (int slice = 0; slice < slices; slice++) {
+                int current = slice;
+                results.add(executor.submit(() -> materializeRecurringTransactionsUseCase.materializeSlice(
+                        current, slices, horizon, batchSize)));
+            }
+            for (int slice = 0; slice < slices; slice++) {
+                inserted += await(results.get(slice), slice);
+            }
+        }
+        log.info("Materialized {} recurring occurrences up to {}", inserted, horizon);
+    }
+
+    private static long await(
+            Future<Long> result,
+            int slice) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            log.error("Failed to materialize recurring transactions for slice {}", slice, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while materializing recurring transactions for slice {}", slice);
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "synapse.jobs.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -0,0 +1,64 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ArchiveTransactionsUseCase;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Moves closed years out of the transactions table: everything older than
+ * the current year and the {@code retain-years} before it. Each year of each
+ * user is archived in its own transaction, oldest first, so a failure only
+ * stops that user until the next run.
+ */
+@Slf4j
+@Component
+public class TransactionArchiveJob {
+
+    static final int USER_PAGE_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final ArchiveTransactionsUseCase archiveTransactionsUseCase;
+    private final int retainYears;
+
+    public TransactionArchiveJob(
+            UserRepository userRepository,
+            ArchiveTransactionsUseCase archiveTransactionsUseCase,
+            @Value("${synapse.jobs.transaction-archive.retain-years:3}") int retainYears) {
+        this.userRepository = userRepository;
+        this.archiveTransactionsUseCase = archiveTransactionsUseCase;
+        this.retainYears = retainYears;
+    }
+
+    @Scheduled(cron = "${synapse.jobs.transaction-archive.cron:0 0 5 * * SUN}")
+    public void run() {
+        Year through = Year.now().minusYears(retainYears + 1L);
+        long segments = 0;
+        long rows = 0;
+        long lastUserId = 0;
+        List<Long> userIds;
+        do {
+            userIds = userRepository.findIdsAfter(lastUserId, USER_PAGE_SIZE);
+            for (Long userId : userIds) {
+                try {
+                    Optional<ArchiveSegment> segment;
+                    while ((segment = archiveTransactionsUseCase.execute(userId, through)).isPresent()) {
+                        segments++;
+                        rows += segment.get().rowCount();
+                    }
+                } catch (RuntimeException e) {
+                    log.error("Failed to archive transactions of user {} through {}", userId, through, e);
+                }
+                lastUserId = userId;
+            }
+        } while (userIds.size() == USER_PAGE_SIZE);
+        log.info("Archived {} transactions into {} segments through {}", rows, segments, through);
+    }
+}
@@ -0,0 +1,42 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ExtendTransactionPartitionsUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * Keeps monthly transaction partitions created well ahead of the calendar,
+ * so rows almost never land in the catch-all future partition. Runs daily;
+ * a run that finds nothing to create touches no locks.
+ */
+@Slf4j
+@Component
+public class TransactionPartitionJob {
+
+    private final ExtendTransactionPartitionsUseCase extendTransactionPartitionsUseCase;
+    private final int monthsAhead;
+
+    public TransactionPartitionJob(
+            ExtendTransactionPartitionsUseCase extendTransactionPartitionsUseCase,
+            @Value("${synapse.jobs.transaction-partitions.months-ahead:12}") int monthsAhead) {
+        this.extendTransactionPartitionsUseCase = extendTransactionPartitionsUseCase;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(cron = "${synapse.jobs.transaction-partitions.cron:0 45 0 * * *}")
+    public void run() {
+        YearMonth through = YearMonth.now().plusMonths(monthsAhead);
+        try {
+            int created = extendTransactionPartitionsUseCase.execute(through);
+            if (created > 0) {
+                log.info("Created {} transaction partitions through {}", created, through);
+            }
+        } catch (RuntimeException e) {
+            log.error("Failed to create transaction partitions through {}", through, e);
+        }
+    }
+}
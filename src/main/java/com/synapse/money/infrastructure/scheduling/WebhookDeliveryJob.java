@@ -0,0 +1,86 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.DeliverWebhooksUseCase;
+import com.synapse.money.domain.valueobject.WebhookBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Drains the webhook outbox. Claimed rows are grouped per endpoint and the
+ * endpoints are served by a bounded pool of workers; rows are leased with
+ * {@code SKIP LOCKED}, so several nodes share the outbox without sending an
+ * event twice. A run keeps claiming while it finds full batches.
+ */
+@Slf4j
+@Component
+public class WebhookDeliveryJob {
+
+    private final DeliverWebhooksUseCase deliverWebhooksUseCase;
+    private final int batchSize;
+    private final int workers;
+
+    public WebhookDeliveryJob(
+            DeliverWebhooksUseCase deliverWebhooksUseCase,
+            @Value("${synapse.jobs.webhook-delivery.batch-size:500}") int batchSize,
+            @Value("${synapse.jobs.webhook-delivery.workers:8}") int workers) {
+        this.deliverWebhooksUseCase = deliverWebhooksUseCase;
+        this.batchSize = batchSize;
+        this.workers = workers;
+    }
+
+    @Scheduled(fixedDelayString = "${synapse.jobs.webhook-delivery.interval:5s}")
+    public void run() {
+        try {
+            List<WebhookBatch> batches = deliverWebhooksUseCase.claimDue(batchSize);
+            if (batches.isEmpty()) {
+                return;
+            }
+            long delivered = 0;
+            try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+                while (!batches.isEmpty()) {
+                    List<Future<Integer>> results = new ArrayList<>(batches.size());
+                    for (WebhookBatch batch : batches) {
+                        results.add(executor.submit(() -> deliverWebhooksUseCase.deliver(batch)));
+                    }
+                    for (int i = 0; i < results.size(); i++) {
+                        delivered += await(results.get(i), batches.get(i));
+                    }
+                    if (claimed(batches) < batchSize || Thread.currentThread().isInterrupted()) {
+                        break;
+                    }
+                    batches = deliverWebhooksUseCase.claimDue(batchSize);
+                }
+            }
+            log.debug("Delivered {} webhook events", delivered);
+        } catch (RuntimeException e) {
+            log.error("Failed to claim webhook deliveries", e);
+        }
+    }
+
+    private static int claimed(List<WebhookBatch> batches) {
+        return batches.stream().mapToInt(WebhookBatch::size).sum();
+    }
+
+    private static int await(
+            Future<Integer> result,
+            WebhookBatch batch) {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            log.error("Failed to deliver webhooks to endpoint {}", batch.endpointId(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while delivering webhooks to endpoint {}", batch.endpointId());
+        }
+        return 0;
+    }
+}
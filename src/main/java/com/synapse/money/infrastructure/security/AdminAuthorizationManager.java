@@ -0,0 +1,56 @@
+package com.synapse.money.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Component
+public class AdminAuthorizationManager implements AuthorizationManager<RequestAuthorizationContext> {
+
+    private final Set<String> adminEmails;
+
+    public AdminAuthorizationManager(@Value("${synapse.security.admin-emails:}") List<String> adminEmails) {
+        this.adminEmails = adminEmails.stream()
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .map(email -> email.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Override
+    public AuthorizationResult authorize(
+            Supplier<Authentication> authentication,
+            RequestAuthorizationContext context) {
+        return decide(authentication.get());
+    }
+
+    /**
+     * Still abstract in this Spring Security version; the filter chain calls
+     * {@link #authorize} instead.
+     */
+    @Override
+    @Deprecated
+    public AuthorizationDecision check(
+            Supplier<Authentication> authentication,
+            RequestAuthorizationContext context) {
+        return decide(authentication.get());
+    }
+
+    private AuthorizationDecision decide(Authentication current) {
+        boolean granted = current != null
+                && current.isAuthenticated()
+                && current.getName() != null
+                && adminEmails.contains(current.getName().toLowerCase(Locale.ROOT));
+        return new AuthorizationDecision(granted);
+    }
+}
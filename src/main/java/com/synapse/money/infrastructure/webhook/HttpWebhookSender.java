@@ -0,0 +1,176 @@
+package com.synapse.money.infrastructure.webhook;
+
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+import com.synapse.money.domain.exception.WebhookDeliveryException;
+import com.synapse.money.domain.service.WebhookSender;
+import com.synapse.money.domain.service.WebhookUrlVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Posts webhook bodies over HTTP/1.1. Each body is signed with the endpoint's
+ * secret (HMAC-SHA256, hex) in {@value #SIGNATURE_HEADER}, so receivers can
+ * verify the sender. Redirects are not followed. The URL is verified again
+ * before every post, because its DNS answer may have changed since the
+ * endpoint was registered, and the socket is opened to the verified address
+ * rather than to the host name: an HTTP client resolving the name itself
+ * could be sent to an internal address between the check and the connect.
+ * TLS still checks the certificate against the host name.
+ */
+@Component
+public class HttpWebhookSender implements WebhookSender {
+
+    public static final String SIGNATURE_HEADER = "X-Synapse-Signature";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MAX_STATUS_LINE_LENGTH = 8192;
+
+    private final WebhookUrlVerifier urlVerifier;
+    private final SSLSocketFactory sslSocketFactory;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    public HttpWebhookSender(
+            WebhookUrlVerifier urlVerifier,
+            @Value("${synapse.webhooks.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${synapse.webhooks.request-timeout:10s}") Duration requestTimeout) {
+        this.urlVerifier = urlVerifier;
+        this.sslSocketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+        this.connectTimeoutMillis = Math.toIntExact(connectTimeout.toMillis());
+        this.readTimeoutMillis = Math.toIntExact(requestTimeout.toMillis());
+    }
+
+    @Override
+    public void send(
+            String url,
+            String secret,
+            String body) {
+        InetAddress address;
+        try {
+            address = urlVerifier.resolve(url);
+        } catch (InvalidWebhookUrlException e) {
+            throw new WebhookDeliveryException("Refusing to post to " + url + ": " + e.getMessage(), e);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            throw new WebhookDeliveryException("Interrupted while posting to " + url);
+        }
+        int status;
+        try {
+            status = post(URI.create(url), address, secret, body);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new WebhookDeliveryException("Could not reach " + url, e);
+        }
+        if (status / 100 != 2) {
+            throw new WebhookDeliveryException(url + " answered with status " + status);
+        }
+    }
+
+    static String sign(
+            String secret,
+            String body) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return HexFormat.of().formatHex(mac.doFinal(body.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads the status code off an HTTP/1.x answer; the rest is discarded.
+     */
+    static int readStatus(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int b = in.read(); b != '\n'; b = in.read()) {
+            if (b == -1 || line.length() == MAX_STATUS_LINE_LENGTH) {
+                throw new IOException("Answer has no status line");
+            }
+            line.append((char) b);
+        }
+        String[] parts = line.toString().strip().split(" ", 3);
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/1.")) {
+            throw new IOException("Malformed status line: " + line.toString().strip());
+        }
+        try {
+            return Integer.parseInt(parts[1]);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed status line: " + line.toString().strip(), e);
+        }
+    }
+
+    private int post(
+            URI uri,
+            InetAddress address,
+            String secret,
+            String body) throws IOException {
+        String host = uri.getHost();
+        if (host == null) {
+            throw new IllegalArgumentException("URL names no host");
+        }
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : https ? 443 : 80;
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String target = uri.getRawQuery() == null ? path : path + "?" + uri.getRawQuery();
+        byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        String head = "POST " + target + " HTTP/1.1\r\n"
+                + "Host: " + (uri.getPort() == -1 ? host : host + ":" + uri.getPort()) + "\r\n"
+                + "Content-Type: application/json\r\n"
+                + SIGNATURE_HEADER + ": sha256=" + sign(secret, body) + "\r\n"
+                + "Content-Length: " + payload.length + "\r\n"
+                + "Connection: close\r\n"
+                + "\r\n";
+
+        try (Socket socket = connect(address, host, port, https)) {
+            OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            out.write(head.getBytes(StandardCharsets.US_ASCII));
+            out.write(payload);
+            out.flush();
+            return readStatus(new BufferedInputStream(socket.getInputStream()));
+        }
+    }
+
+    private Socket connect(
+            InetAddress address,
+            String host,
+            int port,
+            boolean https) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(address, port), connectTimeoutMillis);
+            socket.setSoTimeout(readTimeoutMillis);
+            if (!https) {
+                return socket;
+            }
+            String serverName = host.startsWith("[") ? host.substring(1, host.length() - 1) : host;
+            SSLSocket tls = (SSLSocket) sslSocketFactory.createSocket(socket, serverName, port, true);
+            SSLParameters parameters = tls.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            tls.setSSLParameters(parameters);
+            tls.startHandshake();
+            return tls;
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.synapse.money.infrastructure.webhook;
+
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+import com.synapse.money.domain.service.WebhookUrlVerifier;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet4Address;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+
+/**
+ * Accepts https URLs whose host resolves only to public addresses, so a
+ * webhook cannot reach into the service's own network. Loopback, link-local
+ * (which holds the 169.254.169.254 metadata service), private, unique-local,
+ * carrier-grade NAT, multicast and reserved addresses are refused, and every
+ * address of a name must pass. IPv6 addresses that embed an IPv4 one are
+ * judged by the embedded address.
+ */
+@Component
+public class PublicWebhookUrlVerifier implements WebhookUrlVerifier {
+
+    private static final byte[] NAT64_PREFIX = {0, 0x64, (byte) 0xff, (byte) 0x9b, 0, 0, 0, 0, 0, 0, 0, 0};
+
+    @FunctionalInterface
+    interface HostResolver {
+
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+
+    private final HostResolver hostResolver;
+
+    public PublicWebhookUrlVerifier() {
+        this(InetAddress::getAllByName);
+    }
+
+    PublicWebhookUrlVerifier(HostResolver hostResolver) {
+        this.hostResolver = hostResolver;
+    }
+
+    @Override
+    public InetAddress resolve(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new InvalidWebhookUrlException("Webhook URL is not a valid URI");
+        }
+        if (!"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new InvalidWebhookUrlException("Webhook URL must use https");
+        }
+        String host = uri.getHost();
+        if (host == null || host.isEmpty()) {
+            throw new InvalidWebhookUrlException("Webhook URL must name a host");
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = hostResolver.resolve(host);
+        } catch (UnknownHostException e) {
+            addresses = new InetAddress[0];
+        }
+        if (addresses.length == 0) {
+            throw new InvalidWebhookUrlException("Webhook host " + host + " does not resolve");
+        }
+        for (InetAddress address : addresses) {
+            if (!isPublic(address)) {
+                throw new InvalidWebhookUrlException(
+                        "Webhook host " + host + " resolves to a non-public address");
+            }
+        }
+        return addresses[0];
+    }
+
+    static boolean isPublic(InetAddress address) {
+        if (address.isAnyLocalAddress()
+                || address.isLoopbackAddress()
+                || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress()
+                || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] bytes = address.getAddress();
+        if (address instanceof Inet4Address) {
+            int first = bytes[0] & 0xff;
+            int second = bytes[1] & 0xff;
+            return first != 0
+                    && !(first == 100 && (second & 0xc0) == 64)
+                    && first < 240;
+        }
+        if (embedsIpv4((Inet6Address) address)) {
+            return isPublic(ipv4Of(bytes));
+        }
+        return (bytes[0] & 0xfe) != 0xfc;
+    }
+
+    private static boolean embedsIpv4(Inet6Address address) {
+        return address.isIPv4CompatibleAddress()
+                || Arrays.equals(address.getAddress(), 0, NAT64_PREFIX.length, NAT64_PREFIX, 0, NAT64_PREFIX.length);
+    }
+
+    private static InetAddress ipv4Of(byte[] ipv6) {
+        try {
+            return InetAddress.getByAddress(Arrays.copyOfRange(ipv6, 12, 16));
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
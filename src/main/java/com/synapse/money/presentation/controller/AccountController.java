@@ -0,0 +1,32 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.response.AccountBalanceResponse;
+import com.synapse.money.application.usecase.GetAccountBalanceUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/accounts")
+@RequiredArgsConstructor
+public class AccountController {
+
+    private final GetAccountBalanceUseCase getAccountBalanceUseCase;
+
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<AccountBalanceResponse> balance(
+            Authentication authentication,
+            @PathVariable Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        AccountBalanceResponse response = getAccountBalanceUseCase.execute(authentication.getName(), accountId, date);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,23 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.usecase.RebuildMonthlyTotalsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/users/{userId}/monthly-totals")
+@RequiredArgsConstructor
+public class AdminMonthlyTotalsController {
+
+    private final RebuildMonthlyTotalsUseCase rebuildMonthlyTotalsUseCase;
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild(@PathVariable Long userId) {
+        rebuildMonthlyTotalsUseCase.execute(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.response.BulkImportResponse;
+import com.synapse.money.application.usecase.BulkImportTransactionsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/v1/admin/users/{userId}/transactions")
+@RequiredArgsConstructor
+public class AdminTransactionImportController {
+
+    private final BulkImportTransactionsUseCase bulkImportTransactionsUseCase;
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<BulkImportResponse> importTransactions(
+            @PathVariable Long userId,
+            InputStream body) {
+        BulkImportResponse response = bulkImportTransactionsUseCase.execute(userId, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
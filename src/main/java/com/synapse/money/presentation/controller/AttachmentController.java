@@ -0,0 +1,169 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.attachment.AttachmentContent;
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.application.usecase.DeleteAttachmentUseCase;
+import com.synapse.money.application.usecase.GetAttachmentContentUseCase;
+import com.synapse.money.application.usecase.ListAttachmentsUseCase;
+import com.synapse.money.application.usecase.UploadAttachmentUseCase;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/transactions/{transactionId}/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    /**
+     * Request attributes through which Tomcat's NIO connector sends a file
+     * with sendfile once the handler returns, instead of the body being
+     * copied through the servlet output stream.
+     */
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UploadAttachmentUseCase uploadAttachmentUseCase;
+    private final ListAttachmentsUseCase listAttachmentsUseCase;
+    private final GetAttachmentContentUseCase getAttachmentContentUseCase;
+    private final DeleteAttachmentUseCase deleteAttachmentUseCase;
+
+    /**
+     * Takes the raw file as the request body rather than multipart, so it
+     * streams straight into the store.
+     */
+    @PostMapping
+    public ResponseEntity<AttachmentResponse> upload(
+            Authentication authentication,
+            @PathVariable Long transactionId,
+            @RequestParam(required = false) String fileName,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            InputStream body) {
+        AttachmentResponse response = uploadAttachmentUseCase.execute(
+                authentication.getName(), transactionId, fileName, contentType, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<AttachmentResponse>> list(
+            Authentication authentication,
+            @PathVariable Long transactionId) {
+        return ResponseEntity.ok(listAttachmentsUseCase.execute(authentication.getName(), transactionId));
+    }
+
+    /**
+     * Serves one byte range when asked for exactly one and the whole file
+     * otherwise; the content hash is a strong ETag.
+     */
+    @GetMapping("/{id}/content")
+    public ResponseEntity<StreamingResponseBody> download(
+            Authentication authentication,
+            HttpServletRequest request,
+            @PathVariable Long transactionId,
+            @PathVariable Long id,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        AttachmentContent content = getAttachmentContentUseCase.execute(authentication.getName(), transactionId, id);
+        String etag = "\"" + content.sha256() + "\"";
+        if (matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        long size = content.byteSize();
+        long start = 0;
+        long end = size - 1;
+        HttpStatus status = HttpStatus.OK;
+        HttpHeaders headers = new HttpHeaders();
+        HttpRange requested = singleRange(range, ifRange, etag);
+        if (requested != null && size > 0) {
+            start = requested.getRangeStart(size);
+            end = requested.getRangeEnd(size);
+            if (start >= size || start > end) {
+                headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+            }
+            status = HttpStatus.PARTIAL_CONTENT;
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+        long length = end - start + 1;
+        headers.setETag(etag);
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.setContentType(MediaType.parseMediaType(content.contentType()));
+        headers.setContentLength(length);
+        headers.setContentDisposition(ContentDisposition.attachment().filename(content.fileName()).build());
+
+        if (content.localFile() != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && length > 0) {
+            request.setAttribute(SENDFILE_FILENAME, content.localFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+        long position = start;
+        StreamingResponseBody body = out -> content.body().transferTo(position, length, Channels.newChannel(out));
+        return ResponseEntity.status(status).headers(headers).body(body);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            Authentication authentication,
+            @PathVariable Long transactionId,
+            @PathVariable Long id) {
+        deleteAttachmentUseCase.execute(authentication.getName(), transactionId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * The single range to serve, or null for the whole file: malformed and
+     * multi-range requests are answered in full, as is a range whose
+     * If-Range no longer matches.
+     */
+    private static HttpRange singleRange(
+            String range,
+            String ifRange,
+            String etag) {
+        if (range == null || (ifRange != null && !ifRange.trim().equals(etag))) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(range);
+            return ranges.size() == 1 ? ranges.getFirst() : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean matches(
+            String ifNoneMatch,
+            String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
@@ -0,0 +1,41 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.BulkEditRequest;
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.application.usecase.GetBulkEditUseCase;
+import com.synapse.money.application.usecase.StartBulkEditUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/bulk-edits")
+@RequiredArgsConstructor
+public class BulkEditController {
+
+    private final StartBulkEditUseCase startBulkEditUseCase;
+    private final GetBulkEditUseCase getBulkEditUseCase;
+
+    @PostMapping
+    public ResponseEntity<BulkEditResponse> start(
+            Authentication authentication,
+            @Valid @RequestBody BulkEditRequest request) {
+        BulkEditResponse response = startBulkEditUseCase.execute(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<BulkEditResponse> get(
+            Authentication authentication,
+            @PathVariable Long id) {
+        return ResponseEntity.ok(getBulkEditUseCase.execute(authentication.getName(), id));
+    }
+}
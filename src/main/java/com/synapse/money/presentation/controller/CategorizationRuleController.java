@@ -0,0 +1,52 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.CategorizationRuleRequest;
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.application.usecase.CreateCategorizationRuleUseCase;
+import com.synapse.money.application.usecase.DeleteCategorizationRuleUseCase;
+import com.synapse.money.application.usecase.ListCategorizationRulesUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/categorization-rules")
+@RequiredArgsConstructor
+public class CategorizationRuleController {
+
+    private final CreateCategorizationRuleUseCase createCategorizationRuleUseCase;
+    private final ListCategorizationRulesUseCase listCategorizationRulesUseCase;
+    private final DeleteCategorizationRuleUseCase deleteCategorizationRuleUseCase;
+
+    @PostMapping
+    public ResponseEntity<CategorizationRuleResponse> create(
+            Authentication authentication,
+            @Valid @RequestBody CategorizationRuleRequest request) {
+        CategorizationRuleResponse response = createCategorizationRuleUseCase.execute(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CategorizationRuleResponse>> list(Authentication authentication) {
+        return ResponseEntity.ok(listCategorizationRulesUseCase.execute(authentication.getName()));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            Authentication authentication,
+            @PathVariable Long id) {
+        deleteCategorizationRuleUseCase.execute(authentication.getName(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.CategoryBudgetRequest;
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.application.usecase.GetCategoryBudgetsUseCase;
+import com.synapse.money.application.usecase.SetCategoryBudgetUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/budgets")
+@RequiredArgsConstructor
+public class CategoryBudgetController {
+
+    private final SetCategoryBudgetUseCase setCategoryBudgetUseCase;
+    private final GetCategoryBudgetsUseCase getCategoryBudgetsUseCase;
+
+    @PutMapping
+    public ResponseEntity<CategoryBudgetResponse> set(
+            Authentication authentication,
+            @Valid @RequestBody CategoryBudgetRequest request) {
+        CategoryBudgetResponse response = setCategoryBudgetUseCase.execute(authentication.getName(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<CategoryBudgetResponse>> list(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        List<CategoryBudgetResponse> budgets = getCategoryBudgetsUseCase.execute(authentication.getName(), month);
+        return ResponseEntity.ok(budgets);
+    }
+}
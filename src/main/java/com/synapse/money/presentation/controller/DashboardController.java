@@ -0,0 +1,66 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.response.ForecastPointResponse;
+import com.synapse.money.application.dto.response.InsightTotalResponse;
+import com.synapse.money.application.dto.response.MonthlyTotalResponse;
+import com.synapse.money.application.usecase.GetCashFlowForecastUseCase;
+import com.synapse.money.application.usecase.GetMonthlyTotalsUseCase;
+import com.synapse.money.application.usecase.GetTransactionInsightsUseCase;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionCubeQuery;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final GetMonthlyTotalsUseCase getMonthlyTotalsUseCase;
+    private final GetTransactionInsightsUseCase getTransactionInsightsUseCase;
+    private final GetCashFlowForecastUseCase getCashFlowForecastUseCase;
+
+    @GetMapping("/monthly-totals")
+    public ResponseEntity<List<MonthlyTotalResponse>> monthlyTotals(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        List<MonthlyTotalResponse> totals = getMonthlyTotalsUseCase.execute(authentication.getName(), from, to);
+        return ResponseEntity.ok(totals);
+    }
+
+    @GetMapping("/insights")
+    public ResponseEntity<List<InsightTotalResponse>> insights(
+            Authentication authentication,
+            @RequestParam EInsightDimension groupBy,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) ETransactionType type,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long accountId) {
+        TransactionCubeQuery query = new TransactionCubeQuery(groupBy, from, to, type, categoryId, accountId);
+        List<InsightTotalResponse> totals = getTransactionInsightsUseCase.execute(authentication.getName(), query);
+        return ResponseEntity.ok(totals);
+    }
+
+    @GetMapping("/forecast")
+    public ResponseEntity<List<ForecastPointResponse>> forecast(
+            Authentication authentication,
+            @RequestParam(required = false) Long accountId,
+            @RequestParam(defaultValue = "MONTH") EForecastGranularity granularity) {
+        List<ForecastPointResponse> points = getCashFlowForecastUseCase.execute(authentication.getName(), accountId, granularity);
+        return ResponseEntity.ok(points);
+    }
+}
@@ -0,0 +1,65 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.live.LiveUpdate;
+import com.synapse.money.application.live.LiveUpdateSink;
+import com.synapse.money.application.live.LiveUpdateSubscription;
+import com.synapse.money.application.usecase.SubscribeLiveUpdatesUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Server-sent events replacing balance polling. The stream is an async
+ * request, so an idle connection holds no servlet thread; clients reconnect
+ * when it times out and refetch state on a {@code resync} event.
+ */
+@RestController
+@RequestMapping("/api/v1/live")
+public class LiveUpdateController {
+
+    private final SubscribeLiveUpdatesUseCase subscribeLiveUpdatesUseCase;
+    private final Duration timeout;
+
+    public LiveUpdateController(
+            SubscribeLiveUpdatesUseCase subscribeLiveUpdatesUseCase,
+            @Value("${synapse.live.timeout:30m}") Duration timeout) {
+        this.subscribeLiveUpdatesUseCase = subscribeLiveUpdatesUseCase;
+        this.timeout = timeout;
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        LiveUpdateSubscription subscription = subscribeLiveUpdatesUseCase.execute(
+                authentication.getName(), new EmitterSink(emitter));
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements LiveUpdateSink {
+
+        @Override
+        public void send(LiveUpdate update) throws IOException {
+            emitter.send(SseEmitter.event().name(update.event()).data(update.data(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        }
+
+        @Override
+        public void close() {
+            emitter.complete();
+        }
+    }
+}
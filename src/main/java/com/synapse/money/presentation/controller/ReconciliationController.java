@@ -0,0 +1,44 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.StatementReconciliationRequest;
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.application.usecase.GetReconciliationUseCase;
+import com.synapse.money.application.usecase.ReconcileStatementUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/reconciliations")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final ReconcileStatementUseCase reconcileStatementUseCase;
+    private final GetReconciliationUseCase getReconciliationUseCase;
+
+    @PostMapping
+    public ResponseEntity<ReconciliationResponse> reconcile(
+            Authentication authentication,
+            @PathVariable Long accountId,
+            @Valid @RequestBody StatementReconciliationRequest request) {
+        ReconciliationResponse response = reconcileStatementUseCase.execute(authentication.getName(), accountId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/{reconciliationId}")
+    public ResponseEntity<ReconciliationResponse> get(
+            Authentication authentication,
+            @PathVariable Long accountId,
+            @PathVariable Long reconciliationId) {
+        ReconciliationResponse response = getReconciliationUseCase.execute(authentication.getName(), accountId, reconciliationId);
+        return ResponseEntity.ok(response);
+    }
+}
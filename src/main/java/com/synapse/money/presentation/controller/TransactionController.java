@@ -0,0 +1,138 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.BatchTransactionRequest;
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.BatchTransactionResponse;
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.export.TransactionExport;
+import com.synapse.money.application.idempotency.IdempotentRequestExecutor;
+import com.synapse.money.application.usecase.CreateTransactionUseCase;
+import com.synapse.money.application.usecase.CreateTransactionsBatchUseCase;
+import com.synapse.money.application.usecase.DeleteTransactionUseCase;
+import com.synapse.money.application.usecase.ExportTransactionsUseCase;
+import com.synapse.money.application.usecase.ListTransactionsUseCase;
+import com.synapse.money.application.usecase.SearchTransactionsUseCase;
+import com.synapse.money.application.usecase.UpdateTransactionUseCase;
+import com.synapse.money.domain.enums.EExportFormat;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/transactions")
+@RequiredArgsConstructor
+public class TransactionController {
+
+    private final ListTransactionsUseCase listTransactionsUseCase;
+    private final SearchTransactionsUseCase searchTransactionsUseCase;
+    private final ExportTransactionsUseCase exportTransactionsUseCase;
+    private final CreateTransactionUseCase createTransactionUseCase;
+    private final CreateTransactionsBatchUseCase createTransactionsBatchUseCase;
+    private final UpdateTransactionUseCase updateTransactionUseCase;
+    private final DeleteTransactionUseCase deleteTransactionUseCase;
+    private final IdempotentRequestExecutor idempotentRequestExecutor;
+
+    @PostMapping
+    public ResponseEntity<TransactionResponse> create(
+            Authentication authentication,
+            @RequestHeader(name = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TransactionRequest request) {
+        String email = authentication.getName();
+        return idempotentRequestExecutor.execute(
+                idempotencyKey,
+                "transactions.create:" + email,
+                request,
+                TransactionResponse.class,
+                () -> ResponseEntity.status(HttpStatus.CREATED).body(createTransactionUseCase.execute(email, request))
+        );
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransactionResponse> createBatch(
+            Authentication authentication,
+            @RequestHeader(name = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody BatchTransactionRequest request) {
+        String email = authentication.getName();
+        return idempotentRequestExecutor.execute(
+                idempotencyKey,
+                "transactions.create-batch:" + email,
+                request,
+                BatchTransactionResponse.class,
+                () -> ResponseEntity.ok(createTransactionsBatchUseCase.execute(email, request.transactions()))
+        );
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<TransactionResponse> update(
+            Authentication authentication,
+            @PathVariable Long id,
+            @Valid @RequestBody TransactionRequest request) {
+        TransactionResponse response = updateTransactionUseCase.execute(authentication.getName(), id, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            Authentication authentication,
+            @PathVariable Long id) {
+        deleteTransactionUseCase.execute(authentication.getName(), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping
+    public ResponseEntity<TransactionPageResponse> list(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TransactionPageResponse page = listTransactionsUseCase.execute(authentication.getName(), cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<TransactionPageResponse> search(
+            Authentication authentication,
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        TransactionPageResponse page = searchTransactionsUseCase.execute(authentication.getName(), q, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            Authentication authentication,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") EExportFormat format) {
+        TransactionExport export = exportTransactionsUseCase.execute(authentication.getName(), from, to, format);
+        StreamingResponseBody body = out -> export.body().writeTo(out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(export.format().getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(export.fileName())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
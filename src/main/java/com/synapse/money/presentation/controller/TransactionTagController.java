@@ -0,0 +1,62 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.TransactionTagsRequest;
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionTagsResponse;
+import com.synapse.money.application.usecase.FilterTransactionsByTagsUseCase;
+import com.synapse.money.application.usecase.GetTransactionTagsUseCase;
+import com.synapse.money.application.usecase.SetTransactionTagsUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/transactions")
+@RequiredArgsConstructor
+public class TransactionTagController {
+
+    private final SetTransactionTagsUseCase setTransactionTagsUseCase;
+    private final GetTransactionTagsUseCase getTransactionTagsUseCase;
+    private final FilterTransactionsByTagsUseCase filterTransactionsByTagsUseCase;
+
+    @PutMapping("/{transactionId}/tags")
+    public ResponseEntity<TransactionTagsResponse> setTags(
+            Authentication authentication,
+            @PathVariable Long transactionId,
+            @Valid @RequestBody TransactionTagsRequest request) {
+        return ResponseEntity.ok(setTransactionTagsUseCase.execute(authentication.getName(), transactionId, request));
+    }
+
+    @GetMapping("/{transactionId}/tags")
+    public ResponseEntity<TransactionTagsResponse> getTags(
+            Authentication authentication,
+            @PathVariable Long transactionId) {
+        return ResponseEntity.ok(getTransactionTagsUseCase.execute(authentication.getName(), transactionId));
+    }
+
+    /**
+     * Tag lists are comma-separated, e.g.
+     * {@code ?all=travel,work&none=reimbursed}.
+     */
+    @GetMapping("/tagged")
+    public ResponseEntity<TransactionPageResponse> tagged(
+            Authentication authentication,
+            @RequestParam(required = false) List<String> all,
+            @RequestParam(required = false) List<String> any,
+            @RequestParam(required = false) List<String> none,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(filterTransactionsByTagsUseCase.execute(
+                authentication.getName(), all, any, none, cursor, limit));
+    }
+}
@@ -0,0 +1,62 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.WebhookEndpointRequest;
+import com.synapse.money.application.dto.response.WebhookEndpointResponse;
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.application.usecase.CreateWebhookEndpointUseCase;
+import com.synapse.money.application.usecase.DeleteWebhookEndpointUseCase;
+import com.synapse.money.application.usecase.ListWebhookEndpointsUseCase;
+import com.synapse.money.application.usecase.RotateWebhookSecretUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/webhooks")
+@RequiredArgsConstructor
+public class WebhookEndpointController {
+
+    private final CreateWebhookEndpointUseCase createWebhookEndpointUseCase;
+    private final ListWebhookEndpointsUseCase listWebhookEndpointsUseCase;
+    private final RotateWebhookSecretUseCase rotateWebhookSecretUseCase;
+    private final DeleteWebhookEndpointUseCase deleteWebhookEndpointUseCase;
+
+    @PostMapping
+    public ResponseEntity<WebhookEndpointSecretResponse> create(
+            Authentication authentication,
+            @Valid @RequestBody WebhookEndpointRequest request) {
+        WebhookEndpointSecretResponse response = createWebhookEndpointUseCase.execute(authentication.getName(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WebhookEndpointResponse>> list(Authentication authentication) {
+        return ResponseEntity.ok(listWebhookEndpointsUseCase.execute(authentication.getName()));
+    }
+
+    @PostMapping("/{id}/secret")
+    public ResponseEntity<WebhookEndpointSecretResponse> rotateSecret(
+            Authentication authentication,
+            @PathVariable Long id) {
+        return ResponseEntity.ok(rotateWebhookSecretUseCase.execute(authentication.getName(), id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(
+            Authentication authentication,
+            @PathVariable Long id) {
+        deleteWebhookEndpointUseCase.execute(authentication.getName(), id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS idx_transactions_transfer_account_id
+    ON transactions (transfer_account_id)
+    WHERE transfer_account_id IS NOT NULL;
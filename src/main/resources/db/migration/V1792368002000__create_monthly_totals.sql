@@ -0,0 +1,30 @@
+CREATE TABLE IF NOT EXISTS monthly_totals
+(
+    user_id           BIGINT                NOT NULL,
+    month             DATE                  NOT NULL,
+    category_id       BIGINT,
+    subcategory_id    BIGINT,
+    transaction_type  transaction_type_enum NOT NULL,
+    total_amount      DECIMAL(14, 2)        NOT NULL DEFAULT 0.00,
+    transaction_count INTEGER               NOT NULL DEFAULT 0,
+    updated_at        TIMESTAMP DEFAULT now(),
+    CONSTRAINT fk_monthly_totals_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT chk_monthly_totals_month CHECK (month = date_trunc('month', month)::date)
+);
+
+-- Category and subcategory are nullable, so the key folds NULL into 0 to keep
+-- uncategorised transactions in a single bucket per month and type.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_monthly_totals_key
+    ON monthly_totals (user_id, month, COALESCE(category_id, 0), COALESCE(subcategory_id, 0), transaction_type);
+
+INSERT INTO monthly_totals (user_id, month, category_id, subcategory_id, transaction_type, total_amount, transaction_count)
+SELECT user_id,
+       date_trunc('month', transaction_date)::date,
+       category_id,
+       subcategory_id,
+       transaction_type,
+       SUM(amount),
+       COUNT(*)
+FROM transactions
+GROUP BY user_id, date_trunc('month', transaction_date)::date, category_id, subcategory_id, transaction_type
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,45 @@
+CREATE TABLE IF NOT EXISTS account_balance_checkpoints
+(
+    account_id      BIGINT         NOT NULL,
+    checkpoint_date DATE           NOT NULL,
+    balance         DECIMAL(14, 2) NOT NULL,
+    updated_at      TIMESTAMP DEFAULT now(),
+    CONSTRAINT pk_account_balance_checkpoints PRIMARY KEY (account_id, checkpoint_date),
+    CONSTRAINT fk_account_balance_checkpoints_account FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE CASCADE
+);
+
+-- As-of-date balances sum only the rows after the nearest checkpoint, so both
+-- sides of a posting need an index that leads with the account and ends with the date.
+CREATE INDEX IF NOT EXISTS idx_transactions_account_date
+    ON transactions (account_id, transaction_date);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_transfer_account_date
+    ON transactions (transfer_account_id, transaction_date)
+    WHERE transfer_account_id IS NOT NULL;
+
+DROP INDEX IF EXISTS idx_transactions_account_id;
+DROP INDEX IF EXISTS idx_transactions_transfer_account_id;
+
+WITH deltas AS (SELECT account_id,
+                       transaction_date,
+                       CASE WHEN transaction_type = 'income' THEN amount ELSE -amount END AS delta
+                FROM transactions
+                UNION ALL
+                SELECT transfer_account_id, transaction_date, amount
+                FROM transactions
+                WHERE transaction_type = 'transfer'
+                  AND transfer_account_id IS NOT NULL),
+     monthly AS (SELECT account_id,
+                        (date_trunc('month', transaction_date) + INTERVAL '1 month - 1 day')::date AS checkpoint_date,
+                        SUM(delta)                                                            AS delta
+                 FROM deltas
+                 GROUP BY 1, 2)
+INSERT
+INTO account_balance_checkpoints (account_id, checkpoint_date, balance)
+SELECT m.account_id,
+       m.checkpoint_date,
+       a.initial_balance + SUM(m.delta) OVER (PARTITION BY m.account_id ORDER BY m.checkpoint_date)
+FROM monthly m
+         JOIN accounts a ON a.id = m.account_id
+WHERE m.checkpoint_date < date_trunc('month', CURRENT_DATE)
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,20 @@
+-- Occurrences generated from a recurring template point back at it. The
+-- unique index makes re-running the materializer over the same window a
+-- no-op instead of a duplicate posting.
+ALTER TABLE transactions
+    ADD COLUMN IF NOT EXISTS recurring_source_id BIGINT,
+    ADD COLUMN IF NOT EXISTS recurrence_materialized_through DATE;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_transactions_recurring_occurrence
+    ON transactions (recurring_source_id, transaction_date)
+    WHERE recurring_source_id IS NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_transactions_recurring_templates
+    ON transactions (id)
+    WHERE is_recurring;
+
+-- Templates that already exist start from today: the first run must not
+-- backfill years of history for rows that were flagged before this job.
+UPDATE transactions
+SET recurrence_materialized_through = GREATEST(transaction_date, CURRENT_DATE)
+WHERE is_recurring;
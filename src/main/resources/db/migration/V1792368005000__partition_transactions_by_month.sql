@@ -0,0 +1,137 @@
+-- Rebuilds transactions as a table range-partitioned on transaction_date:
+-- one partition per month, a history partition below the oldest month and
+-- a future partition above the newest. Primary and unique keys must
+-- include the partition key, so the primary key becomes (id, transaction_date).
+ALTER TABLE transactions RENAME TO transactions_unpartitioned;
+
+CREATE TABLE transactions
+(
+    id                              BIGINT    DEFAULT nextval('transactions_id_seq') NOT NULL,
+    user_id                         BIGINT                NOT NULL,
+    account_id                      BIGINT                NOT NULL,
+    category_id                     BIGINT,
+    subcategory_id                  BIGINT,
+    credit_card_id                  BIGINT,
+    transfer_account_id             BIGINT,
+    amount                          DECIMAL(12, 2)        NOT NULL,
+    description                     VARCHAR(255),
+    transaction_date                DATE                  NOT NULL,
+    transaction_type                transaction_type_enum NOT NULL,
+    is_recurring                    BOOLEAN   DEFAULT FALSE,
+    created_at                      TIMESTAMP DEFAULT now(),
+    updated_at                      TIMESTAMP DEFAULT now(),
+    recurring_source_id             BIGINT,
+    recurrence_materialized_through DATE,
+    CONSTRAINT chk_amount CHECK (amount > 0),
+    CONSTRAINT fk_transactions_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_transactions_account FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE CASCADE,
+    CONSTRAINT fk_transactions_category FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE SET NULL,
+    CONSTRAINT fk_transactions_subcategory FOREIGN KEY (subcategory_id) REFERENCES subcategories (id) ON DELETE SET NULL,
+    CONSTRAINT fk_transactions_credit_card FOREIGN KEY (credit_card_id) REFERENCES credit_cards (id) ON DELETE SET NULL,
+    CONSTRAINT fk_transactions_transfer_account FOREIGN KEY (transfer_account_id) REFERENCES accounts (id) ON DELETE SET NULL
+) PARTITION BY RANGE (transaction_date);
+
+DO
+$$
+    DECLARE
+        v_first DATE := date_trunc('month', COALESCE((SELECT MIN(transaction_date) FROM transactions_unpartitioned),
+                                                     CURRENT_DATE))::date;
+        v_month DATE;
+    BEGIN
+        EXECUTE format('CREATE TABLE transactions_history PARTITION OF transactions FOR VALUES FROM (MINVALUE) TO (%L)',
+                       v_first);
+        v_month := v_first;
+        WHILE v_month <= date_trunc('month', CURRENT_DATE + INTERVAL '12 months')::date
+            LOOP
+                EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                               'transactions_' || to_char(v_month, 'YYYY_MM'),
+                               v_month,
+                               (v_month + INTERVAL '1 month')::date);
+                v_month := (v_month + INTERVAL '1 month')::date;
+            END LOOP;
+        EXECUTE format('CREATE TABLE transactions_future PARTITION OF transactions FOR VALUES FROM (%L) TO (MAXVALUE)',
+                       v_month);
+    END
+$$;
+
+INSERT INTO transactions (id, user_id, account_id, category_id, subcategory_id, credit_card_id, transfer_account_id,
+                          amount, description, transaction_date, transaction_type, is_recurring, created_at,
+                          updated_at, recurring_source_id, recurrence_materialized_through)
+SELECT id, user_id, account_id, category_id, subcategory_id, credit_card_id, transfer_account_id,
+       amount, description, transaction_date, transaction_type, is_recurring, created_at,
+       updated_at, recurring_source_id, recurrence_materialized_through
+FROM transactions_unpartitioned;
+
+DROP TABLE transactions_unpartitioned;
+
+-- Indexes declared on the parent are created on every partition, so each
+-- month is vacuumed, reindexed and eventually detached on its own.
+ALTER TABLE transactions
+    ADD CONSTRAINT transactions_pkey PRIMARY KEY (id, transaction_date);
+
+CREATE INDEX idx_transactions_user_date_id
+    ON transactions (user_id, transaction_date DESC, id DESC);
+
+CREATE INDEX idx_transactions_account_date
+    ON transactions (account_id, transaction_date);
+
+CREATE INDEX idx_transactions_transfer_account_date
+    ON transactions (transfer_account_id, transaction_date)
+    WHERE transfer_account_id IS NOT NULL;
+
+CREATE UNIQUE INDEX uq_transactions_recurring_occurrence
+    ON transactions (recurring_source_id, transaction_date)
+    WHERE recurring_source_id IS NOT NULL;
+
+CREATE INDEX idx_transactions_recurring_templates
+    ON transactions (id)
+    WHERE is_recurring;
+
+-- Adds monthly partitions up to the month containing p_through. The future
+-- partition is detached while they are created, any rows it holds for the
+-- new months are moved across, and it is re-attached above the last one.
+CREATE OR REPLACE FUNCTION extend_transactions_partitions(p_through DATE) RETURNS INTEGER
+    LANGUAGE plpgsql AS
+$$
+DECLARE
+    v_next    DATE;
+    v_through DATE := date_trunc('month', p_through)::date;
+    v_created INTEGER := 0;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('extend_transactions_partitions'));
+    -- Detaching needs an exclusive lock on the parent; give up rather than
+    -- queue every writer behind a long-running reader.
+    PERFORM set_config('lock_timeout', '5s', TRUE);
+
+    SELECT (MAX(to_date(substring(c.relname FROM 14), 'YYYY_MM')) + INTERVAL '1 month')::date
+    INTO v_next
+    FROM pg_inherits i
+             JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'transactions'::regclass
+      AND c.relname ~ '^transactions_[0-9]{4}_[0-9]{2}$';
+
+    IF v_next IS NULL THEN
+        RAISE EXCEPTION 'transactions has no monthly partitions to extend';
+    END IF;
+    IF v_next > v_through THEN
+        RETURN 0;
+    END IF;
+
+    ALTER TABLE transactions DETACH PARTITION transactions_future;
+    WHILE v_next <= v_through
+        LOOP
+            EXECUTE format('CREATE TABLE %I PARTITION OF transactions FOR VALUES FROM (%L) TO (%L)',
+                           'transactions_' || to_char(v_next, 'YYYY_MM'),
+                           v_next,
+                           (v_next + INTERVAL '1 month')::date);
+            v_next := (v_next + INTERVAL '1 month')::date;
+            v_created := v_created + 1;
+        END LOOP;
+
+    INSERT INTO transactions SELECT * FROM transactions_future WHERE transaction_date < v_next;
+    DELETE FROM transactions_future WHERE transaction_date < v_next;
+    EXECUTE format('ALTER TABLE transactions ATTACH PARTITION transactions_future FOR VALUES FROM (%L) TO (MAXVALUE)',
+                   v_next);
+    RETURN v_created;
+END
+$$;
@@ -0,0 +1,7 @@
+-- btree_gin lets user_id live in the same GIN index as the trigrams, so a
+-- search only visits the caller's postings instead of every user's matches.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX IF NOT EXISTS idx_transactions_user_description_trgm
+    ON transactions USING gin (user_id, description gin_trgm_ops);
@@ -0,0 +1,42 @@
+-- Weekly platform statistics. The batch job splits the user-id space into
+-- ranges and stores each range's partial totals as soon as it finishes, so
+-- an interrupted run resumes with only the ranges still missing. Amounts in
+-- the partials are kept as bigint cents, exactly as they were accumulated.
+CREATE TABLE platform_statistics_ranges
+(
+    week_start           DATE      NOT NULL,
+    range_index          INTEGER   NOT NULL,
+    user_id_from         BIGINT    NOT NULL,
+    user_id_to           BIGINT    NOT NULL,
+    active_users         BIGINT,
+    expense_count        BIGINT,
+    expense_minor_units  BIGINT,
+    income_count         BIGINT,
+    income_minor_units   BIGINT,
+    transfer_count       BIGINT,
+    transfer_minor_units BIGINT,
+    account_count        BIGINT,
+    balance_minor_units  BIGINT,
+    category_ids         BIGINT[],
+    category_counts      BIGINT[],
+    completed_at         TIMESTAMP,
+    CONSTRAINT pk_platform_statistics_ranges PRIMARY KEY (week_start, range_index)
+);
+
+CREATE TABLE platform_statistics
+(
+    week_start      DATE           NOT NULL,
+    active_users    BIGINT         NOT NULL,
+    expense_count   BIGINT         NOT NULL,
+    expense_amount  NUMERIC(20, 2) NOT NULL,
+    income_count    BIGINT         NOT NULL,
+    income_amount   NUMERIC(20, 2) NOT NULL,
+    transfer_count  BIGINT         NOT NULL,
+    transfer_amount NUMERIC(20, 2) NOT NULL,
+    account_count   BIGINT         NOT NULL,
+    average_balance NUMERIC(20, 2) NOT NULL,
+    category_ids    BIGINT[]       NOT NULL,
+    category_counts BIGINT[]       NOT NULL,
+    computed_at     TIMESTAMP      NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT pk_platform_statistics PRIMARY KEY (week_start)
+);
@@ -0,0 +1,22 @@
+-- Monthly spending limits per category. consumed_amount is a running total
+-- adjusted in the same database transaction as every expense insert, edit
+-- and delete, and re-derived from transactions by a nightly reconciler. The
+-- unique key is also the index for reading a user's budgets of one month.
+CREATE TABLE category_budgets
+(
+    id              BIGSERIAL PRIMARY KEY,
+    user_id         BIGINT         NOT NULL,
+    category_id     BIGINT         NOT NULL,
+    month           DATE           NOT NULL,
+    limit_amount    DECIMAL(12, 2) NOT NULL,
+    consumed_amount DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    created_at      TIMESTAMP               DEFAULT now(),
+    updated_at      TIMESTAMP               DEFAULT now(),
+    CONSTRAINT fk_category_budgets_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_category_budgets_category FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE,
+    CONSTRAINT uq_category_budgets_user_month_category UNIQUE (user_id, month, category_id),
+    CONSTRAINT chk_category_budgets_limit CHECK (limit_amount > 0),
+    CONSTRAINT chk_category_budgets_month CHECK (EXTRACT(DAY FROM month) = 1)
+);
+
+CREATE INDEX idx_category_budgets_category ON category_budgets (category_id);
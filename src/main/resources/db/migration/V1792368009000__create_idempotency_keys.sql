@@ -0,0 +1,16 @@
+-- Responses of mutations sent with an Idempotency-Key header. A row without a
+-- status code is still executing; retries wait for it and then replay the
+-- stored response. Rows are purged once they expire.
+CREATE TABLE idempotency_keys
+(
+    scope           VARCHAR(320) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash    CHAR(64)     NOT NULL,
+    status_code     SMALLINT,
+    response_body   TEXT,
+    created_at      TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at      TIMESTAMP    NOT NULL,
+    CONSTRAINT pk_idempotency_keys PRIMARY KEY (scope, idempotency_key)
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,34 @@
+-- Push notifications for integrators. webhook_outbox rows are written in the
+-- same database transaction as the change they describe, one per endpoint,
+-- and removed once delivered. A row that exhausts its attempts keeps
+-- failed_at set for inspection. An endpoint whose circuit is open is skipped
+-- until circuit_open_until passes.
+CREATE TABLE webhook_endpoints
+(
+    id                   BIGSERIAL PRIMARY KEY,
+    user_id              BIGINT        NOT NULL,
+    url                  VARCHAR(2048) NOT NULL,
+    secret               VARCHAR(64)   NOT NULL,
+    consecutive_failures INTEGER       NOT NULL DEFAULT 0,
+    circuit_open_until   TIMESTAMP,
+    created_at           TIMESTAMP              DEFAULT now(),
+    CONSTRAINT fk_webhook_endpoints_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_webhook_endpoints_user ON webhook_endpoints (user_id);
+
+CREATE TABLE webhook_outbox
+(
+    id              BIGSERIAL PRIMARY KEY,
+    endpoint_id     BIGINT      NOT NULL,
+    event_type      VARCHAR(64) NOT NULL,
+    payload         TEXT        NOT NULL,
+    attempts        INTEGER     NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP   NOT NULL DEFAULT now(),
+    failed_at       TIMESTAMP,
+    created_at      TIMESTAMP            DEFAULT now(),
+    CONSTRAINT fk_webhook_outbox_endpoint FOREIGN KEY (endpoint_id) REFERENCES webhook_endpoints (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_webhook_outbox_due ON webhook_outbox (next_attempt_at, id) WHERE failed_at IS NULL;
+CREATE INDEX idx_webhook_outbox_endpoint ON webhook_outbox (endpoint_id);
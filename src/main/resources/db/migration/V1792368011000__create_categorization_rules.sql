@@ -0,0 +1,28 @@
+-- Auto-categorization rules: a description containing the pattern gets the
+-- rule's category. User rules point at the user's own category; merchant
+-- rules are global and name the category instead, applying to every user
+-- who has a category of that name. Patterns are matched after folding case,
+-- accents and punctuation, so they are stored as entered.
+CREATE TABLE categorization_rules
+(
+    id             BIGSERIAL PRIMARY KEY,
+    user_id        BIGINT       NOT NULL,
+    pattern        VARCHAR(100) NOT NULL,
+    category_id    BIGINT       NOT NULL,
+    subcategory_id BIGINT,
+    created_at     TIMESTAMP DEFAULT now(),
+    CONSTRAINT fk_categorization_rules_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_categorization_rules_category FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE,
+    CONSTRAINT fk_categorization_rules_subcategory FOREIGN KEY (subcategory_id) REFERENCES subcategories (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_categorization_rules_user ON categorization_rules (user_id);
+
+CREATE TABLE merchant_categorization_rules
+(
+    id               BIGSERIAL PRIMARY KEY,
+    pattern          VARCHAR(100) NOT NULL,
+    category_name    VARCHAR(100) NOT NULL,
+    subcategory_name VARCHAR(100),
+    created_at       TIMESTAMP DEFAULT now()
+);
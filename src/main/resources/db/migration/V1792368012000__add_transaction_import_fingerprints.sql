@@ -0,0 +1,11 @@
+-- Fingerprint of imported rows (account, date, type, amount, normalized
+-- description, occurrence), NULL for transactions entered by hand. The
+-- unique index is the backstop when two imports of the same statement
+-- race past the in-memory check; it must include transaction_date, the
+-- partition key.
+ALTER TABLE transactions
+    ADD COLUMN import_fingerprint BIGINT;
+
+CREATE UNIQUE INDEX uq_transactions_import_fingerprint
+    ON transactions (account_id, transaction_date, import_fingerprint)
+    WHERE import_fingerprint IS NOT NULL;
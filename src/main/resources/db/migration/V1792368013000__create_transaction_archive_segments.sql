@@ -0,0 +1,26 @@
+-- Cold tier: closed years of a user's transactions are moved out of the
+-- transactions table into compressed columnar segment files on local disk.
+-- Each row here describes one file; the file itself carries the per-month
+-- block index.
+CREATE TABLE transaction_archive_segments
+(
+    id           BIGSERIAL PRIMARY KEY,
+    user_id      BIGINT       NOT NULL,
+    period_start DATE         NOT NULL,
+    period_end   DATE         NOT NULL,
+    file_name    VARCHAR(255) NOT NULL,
+    row_count    INTEGER      NOT NULL,
+    byte_size    BIGINT       NOT NULL,
+    created_at   TIMESTAMP DEFAULT now(),
+    CONSTRAINT fk_transaction_archive_segments_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT uq_transaction_archive_segments_period UNIQUE (user_id, period_start),
+    CONSTRAINT chk_transaction_archive_segments_period CHECK (period_start <= period_end)
+);
+
+-- Net effect of the archived transactions on each account, and the last day
+-- they cover. Balance recomputes and checkpoint rebuilds start from
+-- initial_balance + archived_delta, and checkpoints up to archived_through
+-- are kept because their source rows are gone.
+ALTER TABLE accounts
+    ADD COLUMN archived_delta   DECIMAL(12, 2) NOT NULL DEFAULT 0.00,
+    ADD COLUMN archived_through DATE;
@@ -0,0 +1,41 @@
+-- Statement reconciliations: one row per uploaded statement with the match
+-- summary, and one item per statement line or unmatched ledger transaction.
+-- transaction_id carries no foreign key: transactions are partitioned and
+-- may since have been archived or deleted, and the item keeps its own copy
+-- of the date, amount and description.
+CREATE TABLE reconciliations
+(
+    id                  BIGSERIAL PRIMARY KEY,
+    user_id             BIGINT   NOT NULL,
+    account_id          BIGINT   NOT NULL,
+    period_start        DATE     NOT NULL,
+    period_end          DATE     NOT NULL,
+    date_tolerance_days SMALLINT NOT NULL,
+    matched_count       INTEGER  NOT NULL,
+    missing_count       INTEGER  NOT NULL,
+    extra_count         INTEGER  NOT NULL,
+    created_at          TIMESTAMP DEFAULT now(),
+    CONSTRAINT fk_reconciliations_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_reconciliations_account FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE CASCADE,
+    CONSTRAINT chk_reconciliations_period CHECK (period_start <= period_end)
+);
+
+CREATE INDEX idx_reconciliations_user ON reconciliations (user_id);
+
+CREATE TABLE reconciliation_items
+(
+    id                BIGSERIAL PRIMARY KEY,
+    reconciliation_id BIGINT         NOT NULL,
+    status            VARCHAR(16)    NOT NULL,
+    line_number       INTEGER,
+    transaction_id    BIGINT,
+    statement_date    DATE,
+    ledger_date       DATE,
+    amount            DECIMAL(12, 2) NOT NULL,
+    description       VARCHAR(255),
+    score             DOUBLE PRECISION,
+    CONSTRAINT fk_reconciliation_items_reconciliation FOREIGN KEY (reconciliation_id) REFERENCES reconciliations (id) ON DELETE CASCADE,
+    CONSTRAINT chk_reconciliation_items_status CHECK (status IN ('matched', 'missing', 'extra'))
+);
+
+CREATE INDEX idx_reconciliation_items_reconciliation ON reconciliation_items (reconciliation_id, status);
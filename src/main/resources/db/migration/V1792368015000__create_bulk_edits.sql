@@ -0,0 +1,40 @@
+-- Background category edits over a user's transactions, processed in id
+-- order one chunk per database transaction. last_transaction_id and the
+-- counters advance in the same transaction as the chunk, so an edit picked
+-- up again after a crash neither skips nor repeats rows. A pending or
+-- running edit is leased to one node until locked_until. Categories carry no
+-- foreign key: a merge deletes its source category when it completes.
+CREATE TABLE bulk_edits
+(
+    id                  BIGSERIAL PRIMARY KEY,
+    user_id             BIGINT      NOT NULL,
+    kind                VARCHAR(20) NOT NULL,
+    source_category_id  BIGINT,
+    target_category_id  BIGINT,
+    status              VARCHAR(20) NOT NULL DEFAULT 'pending',
+    last_transaction_id BIGINT      NOT NULL DEFAULT 0,
+    total_count         BIGINT      NOT NULL,
+    scanned_count       BIGINT      NOT NULL DEFAULT 0,
+    updated_count       BIGINT      NOT NULL DEFAULT 0,
+    error               VARCHAR(500),
+    locked_until        TIMESTAMP,
+    created_at          TIMESTAMP            DEFAULT now(),
+    updated_at          TIMESTAMP            DEFAULT now(),
+    completed_at        TIMESTAMP,
+    CONSTRAINT fk_bulk_edits_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+-- One active edit per user, so two merges never chase each other's
+-- categories.
+CREATE UNIQUE INDEX uq_bulk_edits_active_user
+    ON bulk_edits (user_id)
+    WHERE status IN ('pending', 'running');
+
+-- Chunks walk a user's rows, or a category's rows, in id order. The category
+-- index also serves the ON DELETE SET NULL check when a category is deleted.
+CREATE INDEX idx_transactions_user_id_id
+    ON transactions (user_id, id);
+
+CREATE INDEX idx_transactions_category_id_id
+    ON transactions (category_id, id)
+    WHERE category_id IS NOT NULL;
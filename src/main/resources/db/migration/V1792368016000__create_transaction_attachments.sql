@@ -0,0 +1,22 @@
+-- Receipt attachments: the content lives in the attachment store (local
+-- disk for now) under storage_key; this table holds only the metadata.
+-- transaction_id carries no foreign key because transactions are
+-- partitioned; rows are removed with their transaction by the change
+-- handlers. sha256 doubles as the download ETag.
+CREATE TABLE transaction_attachments
+(
+    id             BIGSERIAL PRIMARY KEY,
+    user_id        BIGINT       NOT NULL,
+    transaction_id BIGINT       NOT NULL,
+    file_name      VARCHAR(255) NOT NULL,
+    content_type   VARCHAR(100) NOT NULL,
+    byte_size      BIGINT       NOT NULL,
+    sha256         CHAR(64)     NOT NULL,
+    storage_key    VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP DEFAULT now(),
+    CONSTRAINT fk_transaction_attachments_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT uq_transaction_attachments_storage_key UNIQUE (storage_key),
+    CONSTRAINT chk_transaction_attachments_byte_size CHECK (byte_size >= 0)
+);
+
+CREATE INDEX idx_transaction_attachments_transaction ON transaction_attachments (user_id, transaction_id);
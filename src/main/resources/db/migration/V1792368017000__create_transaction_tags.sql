@@ -0,0 +1,10 @@
+-- Free-form tags on transactions. There is no foreign key to the partitioned
+-- transactions table; tags are removed together with their transaction.
+CREATE TABLE transaction_tags
+(
+    user_id        BIGINT      NOT NULL,
+    transaction_id BIGINT      NOT NULL,
+    tag            VARCHAR(50) NOT NULL,
+    CONSTRAINT pk_transaction_tags PRIMARY KEY (user_id, transaction_id, tag),
+    CONSTRAINT fk_transaction_tags_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
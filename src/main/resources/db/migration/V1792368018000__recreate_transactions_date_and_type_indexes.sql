@@ -0,0 +1,13 @@
+-- Restores the two single-column indexes that the monthly partitioning of
+-- transactions dropped without replacement. Partition pruning narrows a
+-- date range to whole months only; queries that filter on a date range or
+-- a type without a user or account still need these two indexes.
+-- idx_transactions_user_id and idx_transactions_account_id stay retired:
+-- idx_transactions_user_date_id and idx_transactions_account_date lead
+-- with the same columns. Declared on the parent, both indexes are created
+-- on every existing partition and on those added later.
+CREATE INDEX IF NOT EXISTS idx_transactions_date
+    ON transactions (transaction_date);
+
+CREATE INDEX IF NOT EXISTS idx_transactions_type
+    ON transactions (transaction_type);
@@ -0,0 +1,242 @@
+package com.synapse.money.application.analytics;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.CashFlowForecastRepository;
+import com.synapse.money.domain.valueobject.CashFlowForecast;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CashFlowForecastCache Tests")
+class CashFlowForecastCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+    private static final LocalDate END = LocalDate.of(2025, 1, 15);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicReference<LocalDate> today = new AtomicReference<>(TODAY);
+
+    @Mock
+    private CashFlowForecastRepository cashFlowForecastRepository;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load once and answer later reads from memory")
+    void shouldLoadOnce() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000));
+
+        assertThat(todayBalance(cache, 1L)).isEqualTo(1_000);
+        assertThat(todayBalance(cache, 1L)).isEqualTo(1_000);
+
+        verify(cashFlowForecastRepository).loadForUser(1L, TODAY, END);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used user when full")
+    void shouldEvictLeastRecentlyUsed() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1));
+        when(cashFlowForecastRepository.loadForUser(2L, TODAY, END)).thenReturn(forecast(2), forecast(2));
+        when(cashFlowForecastRepository.loadForUser(3L, TODAY, END)).thenReturn(forecast(3));
+
+        todayBalance(cache, 1L);
+        todayBalance(cache, 2L);
+        todayBalance(cache, 1L);
+        todayBalance(cache, 3L);
+        todayBalance(cache, 1L);
+        todayBalance(cache, 2L);
+
+        verify(cashFlowForecastRepository).loadForUser(1L, TODAY, END);
+        verify(cashFlowForecastRepository, times(2)).loadForUser(2L, TODAY, END);
+    }
+
+    @Test
+    @DisplayName("Should reload once the entry outlives the ttl")
+    void shouldReloadAfterTtl() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000), forecast(2_000));
+
+        todayBalance(cache, 1L);
+        clock.addAndGet(Duration.ofMinutes(15).toNanos());
+
+        assertThat(todayBalance(cache, 1L)).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("Should reload on a new day")
+    void shouldReloadOnNewDay() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000));
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY.plusDays(1), END.plusDays(1)))
+                .thenReturn(new CashFlowForecast(TODAY.plusDays(1), END.plusDays(1)));
+
+        todayBalance(cache, 1L);
+        today.set(TODAY.plusDays(1));
+
+        assertThat(todayBalance(cache, 1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should apply a change in place outside a transaction")
+    void shouldApplyImmediatelyOutsideTransaction() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000));
+
+        todayBalance(cache, 1L);
+        cache.applyOnCommit(List.of(expense(1L, 300)));
+
+        assertThat(todayBalance(cache, 1L)).isEqualTo(700);
+        verify(cashFlowForecastRepository).loadForUser(1L, TODAY, END);
+    }
+
+    @Test
+    @DisplayName("Should apply a change only once its transaction commits")
+    void shouldApplyOnCommit() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000));
+        todayBalance(cache, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.applyOnCommit(List.of(expense(1L, 300)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(todayBalance(cache, 1L)).isEqualTo(1_000);
+        synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(synchronizations).hasSize(1);
+        assertThat(todayBalance(cache, 1L)).isEqualTo(700);
+    }
+
+    @Test
+    @DisplayName("Should drop changes of a rolled back transaction")
+    void shouldIgnoreRollback() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000));
+        todayBalance(cache, 1L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.applyOnCommit(List.of(expense(1L, 300)));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(todayBalance(cache, 1L)).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("Should not cache a load that overlapped a commit")
+    void shouldNotCacheLoadDuringCommit() {
+        CashFlowForecastCache cache = cache(2);
+        TransactionSynchronizationManager.initSynchronization();
+        cache.applyOnCommit(List.of(expense(1L, 300)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenAnswer(invocation -> {
+            synchronizations.forEach(synchronization -> synchronization.beforeCommit(false));
+            return forecast(700);
+        }).thenReturn(forecast(700), forecast(700));
+
+        assertThat(todayBalance(cache, 1L)).isEqualTo(700);
+        assertThat(todayBalance(cache, 1L)).isEqualTo(700);
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertThat(todayBalance(cache, 1L)).isEqualTo(700);
+        assertThat(todayBalance(cache, 1L)).isEqualTo(700);
+
+        verify(cashFlowForecastRepository, times(3)).loadForUser(1L, TODAY, END);
+    }
+
+    @Test
+    @DisplayName("Should reload after an eviction")
+    void shouldReloadAfterEviction() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000), forecast(2_000));
+
+        todayBalance(cache, 1L);
+        cache.evict(1L);
+
+        assertThat(todayBalance(cache, 1L)).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("Should evict again once the surrounding transaction completes")
+    void shouldEvictAgainOnCompletion() {
+        CashFlowForecastCache cache = cache(2);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1_000), forecast(2_000));
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictOnCompletion(1L);
+        todayBalance(cache, 1L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(synchronizations).hasSize(1);
+        assertThat(todayBalance(cache, 1L)).isEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("Should load on every read when caching is disabled")
+    void shouldNotCacheWhenDisabled() {
+        CashFlowForecastCache cache = cache(0);
+        when(cashFlowForecastRepository.loadForUser(1L, TODAY, END)).thenReturn(forecast(1), forecast(1));
+
+        todayBalance(cache, 1L);
+        todayBalance(cache, 1L);
+
+        verify(cashFlowForecastRepository, times(2)).loadForUser(1L, TODAY, END);
+    }
+
+    private CashFlowForecastCache cache(int maxUsers) {
+        return new CashFlowForecastCache(cashFlowForecastRepository, maxUsers, Duration.ofMinutes(15), 12, clock::get, today::get);
+    }
+
+    private static long todayBalance(
+            CashFlowForecastCache cache,
+            Long userId) {
+        return cache.read(userId, forecast -> forecast.balances(null, EForecastGranularity.DAY).getFirst().balance().minorUnits());
+    }
+
+    private static CashFlowForecast forecast(long balanceMinorUnits) {
+        CashFlowForecast forecast = new CashFlowForecast(TODAY, END);
+        forecast.addBalance(5L, balanceMinorUnits);
+        return forecast;
+    }
+
+    private static TransactionChange expense(
+            Long userId,
+            long amountMinorUnits) {
+        return TransactionChange.created(Transaction.builder()
+                .id(20L)
+                .userId(userId)
+                .accountId(5L)
+                .amount(Money.ofMinor(amountMinorUnits).toBigDecimal())
+                .transactionType(ETransactionType.EXPENSE)
+                .transactionDate(TODAY)
+                .build());
+    }
+}
@@ -0,0 +1,48 @@
+package com.synapse.money.application.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RowRateLimiter Tests")
+class RowRateLimiterTest {
+
+    @Test
+    @DisplayName("Should spread reservations over the row budget")
+    void shouldSpreadReservations() throws InterruptedException {
+        RowRateLimiter limiter = new RowRateLimiter(1_000);
+        long startedAt = System.nanoTime();
+
+        limiter.acquire(50);
+        limiter.acquire(50);
+        limiter.acquire(50);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("Should never wait when throttling is disabled")
+    void shouldNotWaitWhenDisabled() throws InterruptedException {
+        RowRateLimiter limiter = new RowRateLimiter(0);
+        long startedAt = System.nanoTime();
+
+        limiter.acquire(1_000_000);
+        limiter.acquire(1_000_000);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(50);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting when interrupted")
+    void shouldStopWaitingWhenInterrupted() throws InterruptedException {
+        RowRateLimiter limiter = new RowRateLimiter(1);
+        limiter.acquire(10);
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> limiter.acquire(1)).isInstanceOf(InterruptedException.class);
+    }
+}
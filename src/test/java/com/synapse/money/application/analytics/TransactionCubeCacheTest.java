@@ -0,0 +1,133 @@
+package com.synapse.money.application.analytics;
+
+import com.synapse.money.domain.repository.TransactionCubeRepository;
+import com.synapse.money.domain.valueobject.TransactionCube;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionCubeCache Tests")
+class TransactionCubeCacheTest {
+
+    private final TransactionCube first = TransactionCube.builder().build();
+    private final TransactionCube second = TransactionCube.builder().build();
+
+    @Mock
+    private TransactionCubeRepository transactionCubeRepository;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load once and serve later calls from memory")
+    void shouldLoadOnce() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 2);
+        when(transactionCubeRepository.loadForUser(1L)).thenReturn(first);
+
+        assertThat(cache.get(1L)).isSameAs(first);
+        assertThat(cache.get(1L)).isSameAs(first);
+
+        verify(transactionCubeRepository).loadForUser(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used user when full")
+    void shouldEvictLeastRecentlyUsed() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 2);
+        when(transactionCubeRepository.loadForUser(1L)).thenReturn(first);
+        when(transactionCubeRepository.loadForUser(2L)).thenReturn(second);
+        when(transactionCubeRepository.loadForUser(3L)).thenReturn(second);
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(transactionCubeRepository).loadForUser(1L);
+        verify(transactionCubeRepository, times(2)).loadForUser(2L);
+    }
+
+    @Test
+    @DisplayName("Should reload after an eviction")
+    void shouldReloadAfterEviction() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 2);
+        when(transactionCubeRepository.loadForUser(1L)).thenReturn(first, second);
+
+        cache.get(1L);
+        cache.evict(List.of(1L));
+
+        assertThat(cache.get(1L)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should not cache a snapshot whose load raced an eviction")
+    void shouldNotCacheLoadThatRacedEviction() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 2);
+        when(transactionCubeRepository.loadForUser(1L)).thenAnswer(invocation -> {
+            cache.evict(List.of(2L));
+            return first;
+        }).thenReturn(second);
+
+        assertThat(cache.get(1L)).isSameAs(first);
+        assertThat(cache.get(1L)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should load on every call when caching is disabled")
+    void shouldNotCacheWhenDisabled() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 0);
+        when(transactionCubeRepository.loadForUser(1L)).thenReturn(first);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(transactionCubeRepository, times(2)).loadForUser(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict again when the surrounding transaction completes")
+    void shouldEvictAgainOnCompletion() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 2);
+        when(transactionCubeRepository.loadForUser(1L)).thenReturn(first, second);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictOnCompletion(List.of(1L));
+        cache.get(1L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(synchronizations).hasSize(1);
+        assertThat(cache.get(1L)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should evict immediately outside a transaction")
+    void shouldEvictImmediatelyOutsideTransaction() {
+        TransactionCubeCache cache = new TransactionCubeCache(transactionCubeRepository, 2);
+        when(transactionCubeRepository.loadForUser(1L)).thenReturn(first, second);
+
+        cache.get(1L);
+        cache.evictOnCompletion(List.of(1L));
+
+        assertThat(cache.get(1L)).isSameAs(second);
+    }
+}
@@ -0,0 +1,129 @@
+package com.synapse.money.application.categorization;
+
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.ImportLookupRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.CategoryAssignment;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategorizationEngine Tests")
+class CategorizationEngineTest {
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final ImportLookup LOOKUP = new ImportLookup(Map.of(), Map.of("food", 20L), Map.of(), Map.of());
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+
+    @Mock
+    private ImportLookupRepository importLookupRepository;
+
+    @Test
+    @DisplayName("Should compile once and serve later calls from memory")
+    void shouldCompileOnce() {
+        CategorizationEngine engine = engine(2);
+        stubUser(1L);
+        when(categorizationRuleRepository.findMerchantRules())
+                .thenReturn(List.of(new MerchantRule(1L, "ifood", "Food", null)));
+
+        Categorizer categorizer = engine.forUser(1L);
+
+        assertThat(engine.forUser(1L)).isSameAs(categorizer);
+        assertThat(categorizer.categorize("IFOOD")).contains(new CategoryAssignment(20L, null));
+        verify(categorizationRuleRepository).findByUserId(1L);
+        verify(categorizationRuleRepository).findMerchantRules();
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used user when full")
+    void shouldEvictLeastRecentlyUsed() {
+        CategorizationEngine engine = engine(2);
+        stubUser(1L);
+        stubUser(2L);
+        stubUser(3L);
+
+        engine.forUser(1L);
+        engine.forUser(2L);
+        engine.forUser(1L);
+        engine.forUser(3L);
+        engine.forUser(1L);
+        engine.forUser(2L);
+
+        verify(categorizationRuleRepository).findByUserId(1L);
+        verify(categorizationRuleRepository, times(2)).findByUserId(2L);
+    }
+
+    @Test
+    @DisplayName("Should recompile a user's rules after an eviction")
+    void shouldRecompileAfterEviction() {
+        CategorizationEngine engine = engine(2);
+        when(importLookupRepository.loadForUser(1L)).thenReturn(LOOKUP);
+        when(categorizationRuleRepository.findByUserId(1L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new CategorizationRule(5L, "market", 20L, null)));
+
+        assertThat(engine.forUser(1L).categorize("MARKET")).isEmpty();
+        engine.evict(1L);
+
+        assertThat(engine.forUser(1L).categorize("MARKET")).contains(new CategoryAssignment(20L, null));
+        verify(categorizationRuleRepository).findMerchantRules();
+    }
+
+    @Test
+    @DisplayName("Should reload merchant rules and every user once the ttl expires")
+    void shouldReloadAfterTtl() {
+        CategorizationEngine engine = engine(2);
+        stubUser(1L);
+
+        engine.forUser(1L);
+        now.addAndGet(TTL.toNanos() - 1);
+        engine.forUser(1L);
+        now.incrementAndGet();
+        engine.forUser(1L);
+
+        verify(categorizationRuleRepository, times(2)).findMerchantRules();
+        verify(categorizationRuleRepository, times(2)).findByUserId(1L);
+    }
+
+    @Test
+    @DisplayName("Should compile on every call when caching is disabled")
+    void shouldNotCacheWhenDisabled() {
+        CategorizationEngine engine = engine(0);
+        stubUser(1L);
+
+        engine.forUser(1L);
+        engine.forUser(1L);
+
+        verify(categorizationRuleRepository, times(2)).findByUserId(1L);
+        verify(categorizationRuleRepository).findMerchantRules();
+    }
+
+    private CategorizationEngine engine(int maxUsers) {
+        return new CategorizationEngine(categorizationRuleRepository, importLookupRepository, maxUsers, TTL, now::get);
+    }
+
+    private void stubUser(Long userId) {
+        when(categorizationRuleRepository.findByUserId(userId)).thenReturn(List.of());
+        when(importLookupRepository.loadForUser(userId)).thenReturn(LOOKUP);
+    }
+}
@@ -0,0 +1,97 @@
+package com.synapse.money.application.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.money.domain.enums.EExportFormat;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionExportWriter Tests")
+class TransactionExportWriterTest {
+
+    private static final TransactionRow PLAIN = new Row(
+            1L, 10L, 20L, null, null, null, 990L, "Netflix",
+            LocalDate.of(2024, 5, 1), ETransactionType.EXPENSE, true
+    );
+
+    private static final TransactionRow QUOTED = new Row(
+            2L, 10L, null, 30L, 40L, 11L, 120_000L, "Rent, \"May\"\nflat",
+            LocalDate.of(2024, 5, 2), ETransactionType.TRANSFER, false
+    );
+
+    private static final TransactionRow NO_DESCRIPTION = new Row(
+            3L, 10L, null, null, null, null, 500L, null,
+            LocalDate.of(2024, 5, 3), ETransactionType.INCOME, false
+    );
+
+    @Test
+    @DisplayName("Should write CSV with header and RFC 4180 quoting")
+    void shouldWriteCsv() throws IOException {
+        String csv = export(EExportFormat.CSV);
+
+        assertThat(csv).isEqualTo(TransactionCsvExportWriter.HEADER
+                + "1,2024-05-01,expense,9.90,Netflix,10,20,,,,true\n"
+                + "2,2024-05-02,transfer,1200.00,\"Rent, \"\"May\"\"\nflat\",10,,30,40,11,false\n"
+                + "3,2024-05-03,income,5.00,,10,,,,,false\n");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteNdjson() throws IOException {
+        String ndjson = export(EExportFormat.NDJSON);
+        String[] lines = ndjson.split("\n");
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(ndjson).endsWith("}\n");
+        assertThat(lines).hasSize(3);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("date").asText()).isEqualTo("2024-05-01");
+        assertThat(first.get("type").asText()).isEqualTo("expense");
+        assertThat(first.get("amount").isNumber()).isTrue();
+        assertThat(first.get("amount").decimalValue()).isEqualByComparingTo("9.90");
+        assertThat(first.get("categoryId").asLong()).isEqualTo(20L);
+        assertThat(first.get("subcategoryId").isNull()).isTrue();
+        assertThat(first.get("recurring").asBoolean()).isTrue();
+
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("description").asText()).isEqualTo("Rent, \"May\"\nflat");
+        assertThat(second.get("transferAccountId").asLong()).isEqualTo(11L);
+
+        assertThat(objectMapper.readTree(lines[2]).get("description").isNull()).isTrue();
+    }
+
+    private String export(EExportFormat format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TransactionExportWriter writer = TransactionExportWriter.create(format, out);
+        writer.write(PLAIN);
+        writer.write(QUOTED);
+        writer.write(NO_DESCRIPTION);
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private record Row(
+            long id,
+            long accountId,
+            Long categoryId,
+            Long subcategoryId,
+            Long creditCardId,
+            Long transferAccountId,
+            long amountMinorUnits,
+            String description,
+            LocalDate transactionDate,
+            ETransactionType transactionType,
+            boolean recurring
+    ) implements TransactionRow {}
+}
@@ -0,0 +1,104 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountBalanceChangeHandler Tests")
+class AccountBalanceChangeHandlerTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @InjectMocks
+    private AccountBalanceChangeHandler handler;
+
+    @Captor
+    private ArgumentCaptor<Map<Long, BigDecimal>> deltasCaptor;
+
+    @Test
+    @DisplayName("Should move a created transfer between both accounts")
+    void shouldMoveCreatedTransferBetweenAccounts() {
+        handler.onChange(TransactionChange.created(transaction(ETransactionType.TRANSFER, 10L, 20L, "30.00")));
+
+        verify(accountRepository).applyBalanceDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue())
+                .hasSize(2)
+                .hasEntrySatisfying(10L, delta -> assertThat(delta).isEqualByComparingTo("-30.00"))
+                .hasEntrySatisfying(20L, delta -> assertThat(delta).isEqualByComparingTo("30.00"));
+    }
+
+    @Test
+    @DisplayName("Should reverse the old state and apply the new one on update")
+    void shouldReverseOldStateOnUpdate() {
+        Transaction before = transaction(ETransactionType.EXPENSE, 10L, null, "30.00");
+        Transaction after = transaction(ETransactionType.INCOME, 11L, null, "12.00");
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verify(accountRepository).applyBalanceDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue())
+                .hasEntrySatisfying(10L, delta -> assertThat(delta).isEqualByComparingTo("30.00"))
+                .hasEntrySatisfying(11L, delta -> assertThat(delta).isEqualByComparingTo("12.00"));
+    }
+
+    @Test
+    @DisplayName("Should credit back a deleted expense")
+    void shouldCreditBackDeletedExpense() {
+        handler.onChange(TransactionChange.deleted(transaction(ETransactionType.EXPENSE, 10L, null, "30.00")));
+
+        verify(accountRepository).applyBalanceDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue())
+                .hasSize(1)
+                .hasEntrySatisfying(10L, delta -> assertThat(delta).isEqualByComparingTo("30.00"));
+    }
+
+    @Test
+    @DisplayName("Should fold a batch into a single balance update")
+    void shouldFoldBatchIntoSingleUpdate() {
+        handler.onChanges(List.of(
+                TransactionChange.created(transaction(ETransactionType.EXPENSE, 10L, null, "30.00")),
+                TransactionChange.created(transaction(ETransactionType.EXPENSE, 10L, null, "5.00")),
+                TransactionChange.created(transaction(ETransactionType.INCOME, 11L, null, "7.00"))
+        ));
+
+        verify(accountRepository).applyBalanceDeltas(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue())
+                .hasSize(2)
+                .hasEntrySatisfying(10L, delta -> assertThat(delta).isEqualByComparingTo("-35.00"))
+                .hasEntrySatisfying(11L, delta -> assertThat(delta).isEqualByComparingTo("7.00"));
+    }
+
+    private static Transaction transaction(
+            ETransactionType type,
+            Long accountId,
+            Long transferAccountId,
+            String amount) {
+        return Transaction.builder()
+                .userId(1L)
+                .accountId(accountId)
+                .transferAccountId(transferAccountId)
+                .amount(new BigDecimal(amount))
+                .transactionDate(LocalDate.of(2024, 3, 1))
+                .transactionType(type)
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentChangeHandler Tests")
+class AttachmentChangeHandlerTest {
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentStore attachmentStore;
+
+    @InjectMocks
+    private AttachmentChangeHandler handler;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore inserts and updates")
+    void shouldIgnoreInsertsAndUpdates() {
+        handler.onChanges(List.of(
+                TransactionChange.created(transaction(5L)),
+                TransactionChange.updated(transaction(6L), transaction(6L))
+        ));
+
+        verifyNoInteractions(attachmentRepository, attachmentStore);
+    }
+
+    @Test
+    @DisplayName("Should delete the files of a deleted transaction only after the commit")
+    void shouldDeleteFilesAfterCommit() throws IOException {
+        when(attachmentRepository.deleteByTransaction(1L, 5L)).thenReturn(List.of(attachment("1/a"), attachment("1/b")));
+        TransactionSynchronizationManager.initSynchronization();
+
+        handler.onChange(TransactionChange.deleted(transaction(5L)));
+
+        verifyNoInteractions(attachmentStore);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.getFirst().afterCommit();
+        verify(attachmentStore).delete("1/a");
+        verify(attachmentStore).delete("1/b");
+    }
+
+    @Test
+    @DisplayName("Should delete the files right away outside a transaction and carry on past failures")
+    void shouldDeleteFilesImmediatelyWithoutTransaction() throws IOException {
+        when(attachmentRepository.deleteByTransaction(1L, 5L)).thenReturn(List.of(attachment("1/a"), attachment("1/b")));
+        doThrow(new IOException("disk error")).when(attachmentStore).delete("1/a");
+
+        handler.onChange(TransactionChange.deleted(transaction(5L)));
+
+        verify(attachmentStore).delete("1/b");
+    }
+
+    private static Transaction transaction(Long id) {
+        return Transaction.builder().id(id).userId(1L).accountId(10L).build();
+    }
+
+    private static Attachment attachment(String storageKey) {
+        return new Attachment(3L, 1L, 5L, "receipt.jpg", "image/jpeg", 10L, "a".repeat(64), storageKey,
+                LocalDateTime.of(2024, 3, 1, 9, 0));
+    }
+}
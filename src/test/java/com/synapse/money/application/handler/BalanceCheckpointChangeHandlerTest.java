@@ -0,0 +1,72 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.valueobject.BalanceShift;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceCheckpointChangeHandler Tests")
+class BalanceCheckpointChangeHandlerTest {
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @InjectMocks
+    private BalanceCheckpointChangeHandler handler;
+
+    @Test
+    @DisplayName("Should shift both accounts' checkpoints from a back-dated transfer date")
+    void shouldShiftBothAccountsForTransfer() {
+        Transaction transfer = transaction(ETransactionType.TRANSFER, 20L, LocalDate.of(2023, 6, 10), "30.00");
+
+        handler.onChange(TransactionChange.created(transfer));
+
+        verify(balanceCheckpointRepository).applyShifts(List.of(
+                new BalanceShift(10L, LocalDate.of(2023, 6, 10), new BigDecimal("-30.00")),
+                new BalanceShift(20L, LocalDate.of(2023, 6, 10), new BigDecimal("30.00"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should undo the old date and apply the new one when an edit moves a transaction")
+    void shouldUndoOldDateAndApplyNewDate() {
+        Transaction before = transaction(ETransactionType.EXPENSE, null, LocalDate.of(2023, 6, 10), "30.00");
+        Transaction after = transaction(ETransactionType.EXPENSE, null, LocalDate.of(2023, 2, 1), "30.00");
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verify(balanceCheckpointRepository).applyShifts(List.of(
+                new BalanceShift(10L, LocalDate.of(2023, 6, 10), new BigDecimal("30.00")),
+                new BalanceShift(10L, LocalDate.of(2023, 2, 1), new BigDecimal("-30.00"))
+        ));
+    }
+
+    private static Transaction transaction(
+            ETransactionType type,
+            Long transferAccountId,
+            LocalDate date,
+            String amount) {
+        return Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .transferAccountId(transferAccountId)
+                .amount(new BigDecimal(amount))
+                .transactionDate(date)
+                .transactionType(type)
+                .build();
+    }
+}
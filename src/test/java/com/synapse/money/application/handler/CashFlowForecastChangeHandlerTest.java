@@ -0,0 +1,53 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.application.analytics.CashFlowForecastCache;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CashFlowForecastChangeHandler Tests")
+class CashFlowForecastChangeHandlerTest {
+
+    @Mock
+    private CashFlowForecastCache cashFlowForecastCache;
+
+    @InjectMocks
+    private CashFlowForecastChangeHandler handler;
+
+    @Test
+    @DisplayName("Should apply a single change on commit")
+    void shouldApplyChangeOnCommit() {
+        TransactionChange change = TransactionChange.deleted(ownedBy(4L));
+
+        handler.onChange(change);
+
+        verify(cashFlowForecastCache).applyOnCommit(List.of(change));
+    }
+
+    @Test
+    @DisplayName("Should apply a batch together on commit")
+    void shouldApplyBatchOnCommit() {
+        List<TransactionChange> changes = List.of(
+                TransactionChange.created(ownedBy(2L)),
+                TransactionChange.created(ownedBy(1L))
+        );
+
+        handler.onChanges(changes);
+
+        verify(cashFlowForecastCache).applyOnCommit(changes);
+    }
+
+    private static Transaction ownedBy(Long userId) {
+        return Transaction.builder().userId(userId).build();
+    }
+}
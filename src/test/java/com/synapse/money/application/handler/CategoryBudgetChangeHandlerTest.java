@@ -0,0 +1,154 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.valueobject.CategoryBudgetDelta;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryBudgetChangeHandler Tests")
+class CategoryBudgetChangeHandlerTest {
+
+    @Mock
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @InjectMocks
+    private CategoryBudgetChangeHandler handler;
+
+    @Test
+    @DisplayName("Should consume the amount of a created expense")
+    void shouldConsumeCreatedExpense() {
+        handler.onChange(TransactionChange.created(expense(LocalDate.of(2024, 3, 10), 3L, "40.00")));
+
+        verify(categoryBudgetRepository).applyConsumption(1L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("40.00"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should release the amount of a deleted expense")
+    void shouldReleaseDeletedExpense() {
+        handler.onChange(TransactionChange.deleted(expense(LocalDate.of(2024, 3, 10), 3L, "40.00")));
+
+        verify(categoryBudgetRepository).applyConsumption(1L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("-40.00"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should net an amount-only edit into a single delta")
+    void shouldNetAmountOnlyEdit() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction after = expense(LocalDate.of(2024, 3, 12), 3L, "55.50");
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verify(categoryBudgetRepository).applyConsumption(1L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("15.50"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should move consumption between budgets in lock order")
+    void shouldMoveConsumptionBetweenBudgets() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 7L, "40.00");
+        Transaction after = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verify(categoryBudgetRepository).applyConsumption(1L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("40.00")),
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 7L, new BigDecimal("-40.00"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should release the amount when an expense becomes income")
+    void shouldReleaseWhenTypeChanges() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction after = before.toBuilder().transactionType(ETransactionType.INCOME).build();
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verify(categoryBudgetRepository).applyConsumption(1L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("-40.00"))
+        ));
+    }
+
+    @Test
+    @DisplayName("Should ignore income and uncategorised expenses")
+    void shouldIgnoreIncomeAndUncategorised() {
+        Transaction income = expense(LocalDate.of(2024, 3, 10), 3L, "40.00").toBuilder()
+                .transactionType(ETransactionType.INCOME)
+                .build();
+
+        handler.onChanges(List.of(
+                TransactionChange.created(income),
+                TransactionChange.created(expense(LocalDate.of(2024, 3, 10), null, "40.00"))
+        ));
+
+        verifyNoInteractions(categoryBudgetRepository);
+    }
+
+    @Test
+    @DisplayName("Should skip the database when an edit leaves consumption untouched")
+    void shouldSkipDatabaseWhenUntouched() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction after = before.toBuilder().description("Renamed").build();
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verifyNoInteractions(categoryBudgetRepository);
+    }
+
+    @Test
+    @DisplayName("Should fold a batch into one call per user")
+    void shouldFoldBatchPerUser() {
+        Transaction first = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction second = expense(LocalDate.of(2024, 3, 20), 3L, "10.00");
+        Transaction otherUser = first.toBuilder().userId(2L).build();
+
+        handler.onChanges(List.of(
+                TransactionChange.created(first),
+                TransactionChange.created(otherUser),
+                TransactionChange.created(second)
+        ));
+
+        verify(categoryBudgetRepository).applyConsumption(1L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("50.00"))
+        ));
+        verify(categoryBudgetRepository).applyConsumption(2L, List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("40.00"))
+        ));
+    }
+
+    private static Transaction expense(
+            LocalDate date,
+            Long categoryId,
+            String amount) {
+        return Transaction.builder()
+                .id(5L)
+                .userId(1L)
+                .accountId(10L)
+                .categoryId(categoryId)
+                .amount(new BigDecimal(amount))
+                .transactionDate(date)
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+    }
+}
@@ -0,0 +1,147 @@
+package com.synapse.money.application.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.synapse.money.application.live.LiveUpdate;
+import com.synapse.money.application.live.LiveUpdateHub;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveUpdateChangeHandler Tests")
+class LiveUpdateChangeHandlerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Mock
+    private LiveUpdateHub liveUpdateHub;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private LiveUpdateChangeHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new LiveUpdateChangeHandler(liveUpdateHub, accountRepository, new TransactionResponseMapper(), objectMapper);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should push the transaction and the new balances of every touched account")
+    @SuppressWarnings("unchecked")
+    void shouldPushTransactionAndBalances() throws Exception {
+        when(liveUpdateHub.hasSubscribers(1L)).thenReturn(true);
+        when(accountRepository.findCurrentBalances(Set.of(10L, 11L))).thenReturn(Map.of(
+                10L, new BigDecimal("60.00"),
+                11L, new BigDecimal("40.00")
+        ));
+        Transaction transfer = transaction(5L, ETransactionType.TRANSFER).toBuilder().transferAccountId(11L).build();
+        ArgumentCaptor<List<LiveUpdate>> updates = ArgumentCaptor.forClass(List.class);
+
+        handler.onChange(TransactionChange.created(transfer));
+
+        verify(liveUpdateHub).publish(eq(1L), updates.capture());
+        assertThat(updates.getValue()).extracting(LiveUpdate::event)
+                .containsExactly("transaction.created", "balance.updated", "balance.updated");
+        assertThat(objectMapper.readTree(updates.getValue().getFirst().data()).get("id").asLong()).isEqualTo(5L);
+        assertThat(updates.getValue().subList(1, 3))
+                .extracting(update -> objectMapper.readTree(update.data()).get("balance").decimalValue())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(new BigDecimal("60.00"), new BigDecimal("40.00"));
+    }
+
+    @Test
+    @DisplayName("Should name updates and deletes after the change")
+    @SuppressWarnings("unchecked")
+    void shouldNameUpdatesAndDeletes() {
+        when(liveUpdateHub.hasSubscribers(1L)).thenReturn(true);
+        when(accountRepository.findCurrentBalances(Set.of(10L))).thenReturn(Map.of(10L, BigDecimal.TEN));
+        Transaction before = transaction(5L, ETransactionType.EXPENSE);
+        Transaction after = before.toBuilder().amount(new BigDecimal("55.00")).build();
+        ArgumentCaptor<List<LiveUpdate>> updates = ArgumentCaptor.forClass(List.class);
+
+        handler.onChanges(List.of(TransactionChange.updated(before, after), TransactionChange.deleted(after)));
+
+        verify(liveUpdateHub).publish(eq(1L), updates.capture());
+        assertThat(updates.getValue()).extracting(LiveUpdate::event)
+                .containsExactly("transaction.updated", "transaction.deleted", "balance.updated");
+    }
+
+    @Test
+    @DisplayName("Should do no work for users without live connections")
+    void shouldSkipUsersWithoutConnections() {
+        when(liveUpdateHub.hasSubscribers(1L)).thenReturn(false);
+
+        handler.onChange(TransactionChange.created(transaction(5L, ETransactionType.EXPENSE)));
+
+        verifyNoInteractions(accountRepository);
+        verify(liveUpdateHub, never()).publish(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should publish only after the surrounding transaction commits")
+    void shouldPublishAfterCommit() {
+        when(liveUpdateHub.hasSubscribers(1L)).thenReturn(true);
+        when(accountRepository.findCurrentBalances(Set.of(10L))).thenReturn(Map.of(10L, BigDecimal.TEN));
+        TransactionSynchronizationManager.initSynchronization();
+
+        handler.onChange(TransactionChange.created(transaction(5L, ETransactionType.EXPENSE)));
+
+        verify(liveUpdateHub, never()).publish(any(), anyList());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(liveUpdateHub).publish(eq(1L), anyList());
+    }
+
+    private static Transaction transaction(
+            Long id,
+            ETransactionType type) {
+        return Transaction.builder()
+                .id(id)
+                .userId(1L)
+                .accountId(10L)
+                .amount(new BigDecimal("40.00"))
+                .transactionDate(LocalDate.of(2024, 3, 10))
+                .transactionType(type)
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.valueobject.MonthlyTotalDelta;
+import com.synapse.money.domain.valueobject.MonthlyTotalKey;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyTotalsChangeHandler Tests")
+class MonthlyTotalsChangeHandlerTest {
+
+    @Mock
+    private MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @InjectMocks
+    private MonthlyTotalsChangeHandler handler;
+
+    @Test
+    @DisplayName("Should add the amount and one occurrence on create")
+    void shouldAddAmountOnCreate() {
+        Transaction created = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+
+        handler.onChange(TransactionChange.created(created));
+
+        verify(monthlyTotalsRepository).applyDeltas(1L, List.of(
+                new MonthlyTotalDelta(key(YearMonth.of(2024, 3), 3L), new BigDecimal("40.00"), 1)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should subtract the amount and one occurrence on delete")
+    void shouldSubtractAmountOnDelete() {
+        Transaction deleted = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+
+        handler.onChange(TransactionChange.deleted(deleted));
+
+        verify(monthlyTotalsRepository).applyDeltas(1L, List.of(
+                new MonthlyTotalDelta(key(YearMonth.of(2024, 3), 3L), new BigDecimal("-40.00"), -1)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should net an amount-only edit into a single bucket")
+    void shouldNetAmountOnlyEdit() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction after = expense(LocalDate.of(2024, 3, 12), 3L, "55.50");
+
+        List<MonthlyTotalDelta> deltas = MonthlyTotalsChangeHandler.deltasOf(TransactionChange.updated(before, after));
+
+        assertThat(deltas).containsExactly(
+                new MonthlyTotalDelta(key(YearMonth.of(2024, 3), 3L), new BigDecimal("15.50"), 0)
+        );
+    }
+
+    @Test
+    @DisplayName("Should move amount between buckets in key order")
+    void shouldMoveAmountBetweenBuckets() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction after = expense(LocalDate.of(2024, 2, 28), 3L, "40.00");
+
+        List<MonthlyTotalDelta> deltas = MonthlyTotalsChangeHandler.deltasOf(TransactionChange.updated(before, after));
+
+        assertThat(deltas).containsExactly(
+                new MonthlyTotalDelta(key(YearMonth.of(2024, 2), 3L), new BigDecimal("40.00"), 1),
+                new MonthlyTotalDelta(key(YearMonth.of(2024, 3), 3L), new BigDecimal("-40.00"), -1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should skip the database when an edit leaves totals untouched")
+    void shouldSkipDatabaseWhenTotalsUntouched() {
+        Transaction before = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction after = before.toBuilder().description("Renamed").build();
+
+        handler.onChange(TransactionChange.updated(before, after));
+
+        verifyNoInteractions(monthlyTotalsRepository);
+    }
+
+    @Test
+    @DisplayName("Should fold a batch into one upsert per user")
+    void shouldFoldBatchPerUser() {
+        Transaction first = expense(LocalDate.of(2024, 3, 10), 3L, "40.00");
+        Transaction second = expense(LocalDate.of(2024, 3, 20), 3L, "10.00");
+        Transaction otherUser = first.toBuilder().userId(2L).build();
+
+        handler.onChanges(List.of(
+                TransactionChange.created(first),
+                TransactionChange.created(otherUser),
+                TransactionChange.created(second)
+        ));
+
+        verify(monthlyTotalsRepository).applyDeltas(1L, List.of(
+                new MonthlyTotalDelta(key(YearMonth.of(2024, 3), 3L), new BigDecimal("50.00"), 2)
+        ));
+        verify(monthlyTotalsRepository).applyDeltas(2L, List.of(
+                new MonthlyTotalDelta(
+                        new MonthlyTotalKey(2L, YearMonth.of(2024, 3), 3L, null, ETransactionType.EXPENSE),
+                        new BigDecimal("40.00"),
+                        1)
+        ));
+    }
+
+    private static MonthlyTotalKey key(
+            YearMonth month,
+            Long categoryId) {
+        return new MonthlyTotalKey(1L, month, categoryId, null, ETransactionType.EXPENSE);
+    }
+
+    private static Transaction expense(
+            LocalDate date,
+            Long categoryId,
+            String amount) {
+        return Transaction.builder()
+                .id(5L)
+                .userId(1L)
+                .accountId(10L)
+                .categoryId(categoryId)
+                .amount(new BigDecimal(amount))
+                .transactionDate(date)
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+    }
+}
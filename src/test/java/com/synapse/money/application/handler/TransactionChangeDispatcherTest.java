@@ -0,0 +1,59 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.service.TransactionChangeHandler;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("TransactionChangeDispatcher Tests")
+class TransactionChangeDispatcherTest {
+
+    @Test
+    @DisplayName("Should run every handler in registration order")
+    void shouldRunEveryHandlerInOrder() {
+        TransactionChangeHandler first = mock(TransactionChangeHandler.class);
+        TransactionChangeHandler second = mock(TransactionChangeHandler.class);
+        TransactionChange change = TransactionChange.created(Transaction.builder().userId(1L).build());
+
+        new TransactionChangeDispatcher(List.of(first, second)).dispatch(change);
+
+        InOrder order = inOrder(first, second);
+        order.verify(first).onChange(change);
+        order.verify(second).onChange(change);
+    }
+
+    @Test
+    @DisplayName("Should hand a batch to every handler at once")
+    void shouldHandBatchToEveryHandler() {
+        TransactionChangeHandler first = mock(TransactionChangeHandler.class);
+        TransactionChangeHandler second = mock(TransactionChangeHandler.class);
+        List<TransactionChange> changes = List.of(
+                TransactionChange.created(Transaction.builder().userId(1L).build()),
+                TransactionChange.created(Transaction.builder().userId(2L).build())
+        );
+
+        new TransactionChangeDispatcher(List.of(first, second)).dispatchAll(changes);
+
+        InOrder order = inOrder(first, second);
+        order.verify(first).onChanges(changes);
+        order.verify(second).onChanges(changes);
+    }
+
+    @Test
+    @DisplayName("Should skip the handlers for an empty batch")
+    void shouldSkipEmptyBatch() {
+        TransactionChangeHandler handler = mock(TransactionChangeHandler.class);
+
+        new TransactionChangeDispatcher(List.of(handler)).dispatchAll(List.of());
+
+        verifyNoInteractions(handler);
+    }
+}
@@ -0,0 +1,51 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.application.analytics.TransactionCubeCache;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionCubeChangeHandler Tests")
+class TransactionCubeChangeHandlerTest {
+
+    @Mock
+    private TransactionCubeCache transactionCubeCache;
+
+    @InjectMocks
+    private TransactionCubeChangeHandler handler;
+
+    @Test
+    @DisplayName("Should evict the owner's cube on a single change")
+    void shouldEvictOwnerOnChange() {
+        handler.onChange(TransactionChange.deleted(ownedBy(4L)));
+
+        verify(transactionCubeCache).evictOnCompletion(List.of(4L));
+    }
+
+    @Test
+    @DisplayName("Should evict each distinct owner once for a batch")
+    void shouldEvictDistinctOwnersForBatch() {
+        handler.onChanges(List.of(
+                TransactionChange.created(ownedBy(2L)),
+                TransactionChange.created(ownedBy(1L)),
+                TransactionChange.created(ownedBy(2L))
+        ));
+
+        verify(transactionCubeCache).evictOnCompletion(Set.of(1L, 2L));
+    }
+
+    private static Transaction ownedBy(Long userId) {
+        return Transaction.builder().userId(userId).build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.synapse.money.application.handler;
+
+import com.synapse.money.application.tag.TransactionTagIndexCache;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionTagChangeHandler Tests")
+class TransactionTagChangeHandlerTest {
+
+    @Mock
+    private TransactionTagRepository transactionTagRepository;
+
+    @Mock
+    private TransactionTagIndexCache transactionTagIndexCache;
+
+    @InjectMocks
+    private TransactionTagChangeHandler handler;
+
+    @Test
+    @DisplayName("Should ignore inserts and updates")
+    void shouldIgnoreInsertsAndUpdates() {
+        handler.onChanges(List.of(
+                TransactionChange.created(transaction(5L, 1L)),
+                TransactionChange.updated(transaction(6L, 1L), transaction(6L, 1L))
+        ));
+
+        verifyNoInteractions(transactionTagRepository, transactionTagIndexCache);
+    }
+
+    @Test
+    @DisplayName("Should drop the tags of deleted transactions per user and evict their indexes")
+    void shouldDropTagsOfDeletedTransactions() {
+        handler.onChanges(List.of(
+                TransactionChange.deleted(transaction(5L, 1L)),
+                TransactionChange.deleted(transaction(6L, 1L)),
+                TransactionChange.deleted(transaction(7L, 2L))
+        ));
+
+        verify(transactionTagRepository).deleteByTransactions(1L, List.of(5L, 6L));
+        verify(transactionTagRepository).deleteByTransactions(2L, List.of(7L));
+        verify(transactionTagIndexCache).evictOnCompletion(Set.of(1L, 2L));
+    }
+
+    private static Transaction transaction(
+            Long id,
+            Long userId) {
+        return Transaction.builder().id(id).userId(userId).accountId(10L).build();
+    }
+}
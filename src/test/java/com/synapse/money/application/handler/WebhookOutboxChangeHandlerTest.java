@@ -0,0 +1,133 @@
+package com.synapse.money.application.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.enums.EWebhookEventType;
+import com.synapse.money.domain.repository.WebhookOutboxRepository;
+import com.synapse.money.domain.valueobject.OutboxEvent;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookOutboxChangeHandler Tests")
+class WebhookOutboxChangeHandlerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Mock
+    private WebhookOutboxRepository webhookOutboxRepository;
+
+    private WebhookOutboxChangeHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new WebhookOutboxChangeHandler(webhookOutboxRepository, new TransactionResponseMapper(), objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should enqueue a created event for every endpoint of the user")
+    @SuppressWarnings("unchecked")
+    void shouldEnqueueCreatedEvent() throws Exception {
+        when(webhookOutboxRepository.findEndpointIds(1L)).thenReturn(List.of(3L, 4L));
+        ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+
+        handler.onChange(TransactionChange.created(expense(5L, "40.00")));
+
+        verify(webhookOutboxRepository).enqueue(eq(List.of(3L, 4L)), events.capture());
+        OutboxEvent event = events.getValue().getFirst();
+        assertThat(event.type()).isEqualTo(EWebhookEventType.TRANSACTION_CREATED);
+        assertThat(objectMapper.readTree(event.payload()).get("id").asLong()).isEqualTo(5L);
+        assertThat(objectMapper.readTree(event.payload()).get("transactionDate").asText()).isEqualTo("2024-03-10");
+    }
+
+    @Test
+    @DisplayName("Should describe updates with the new state and deletes with the old one")
+    @SuppressWarnings("unchecked")
+    void shouldDescribeUpdatesAndDeletes() throws Exception {
+        when(webhookOutboxRepository.findEndpointIds(1L)).thenReturn(List.of(3L));
+        ArgumentCaptor<List<OutboxEvent>> events = ArgumentCaptor.forClass(List.class);
+        Transaction before = expense(5L, "40.00");
+        Transaction after = expense(5L, "55.00");
+
+        handler.onChanges(List.of(
+                TransactionChange.updated(before, after),
+                TransactionChange.deleted(after)
+        ));
+
+        verify(webhookOutboxRepository).enqueue(eq(List.of(3L)), events.capture());
+        assertThat(events.getValue()).extracting(OutboxEvent::type).containsExactly(
+                EWebhookEventType.TRANSACTION_UPDATED,
+                EWebhookEventType.TRANSACTION_DELETED
+        );
+        assertThat(objectMapper.readTree(events.getValue().getFirst().payload()).get("amount").decimalValue())
+                .isEqualByComparingTo("55.00");
+    }
+
+    @Test
+    @DisplayName("Should skip serialization for users without endpoints")
+    void shouldSkipUsersWithoutEndpoints() {
+        when(webhookOutboxRepository.findEndpointIds(1L)).thenReturn(List.of());
+
+        handler.onChange(TransactionChange.created(expense(5L, "40.00")));
+
+        verify(webhookOutboxRepository, never()).enqueue(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should look endpoints up once per user in a batch")
+    void shouldLookUpOncePerUser() {
+        when(webhookOutboxRepository.findEndpointIds(1L)).thenReturn(List.of(3L));
+        when(webhookOutboxRepository.findEndpointIds(2L)).thenReturn(List.of());
+        Transaction first = expense(5L, "40.00");
+        Transaction otherUser = first.toBuilder().id(6L).userId(2L).build();
+
+        handler.onChanges(List.of(
+                TransactionChange.created(first),
+                TransactionChange.created(otherUser),
+                TransactionChange.created(first.toBuilder().id(7L).build())
+        ));
+
+        verify(webhookOutboxRepository).findEndpointIds(1L);
+        verify(webhookOutboxRepository).findEndpointIds(2L);
+        verify(webhookOutboxRepository).enqueue(eq(List.of(3L)), argThat(events -> events.size() == 2));
+    }
+
+    private static Transaction expense(
+            Long id,
+            String amount) {
+        return Transaction.builder()
+                .id(id)
+                .userId(1L)
+                .accountId(10L)
+                .amount(new BigDecimal(amount))
+                .transactionDate(LocalDate.of(2024, 3, 10))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+    }
+}
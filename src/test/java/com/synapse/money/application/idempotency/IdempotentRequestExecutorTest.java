@@ -0,0 +1,280 @@
+package com.synapse.money.application.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.exception.IdempotencyKeyInProgressException;
+import com.synapse.money.domain.exception.IdempotencyKeyReuseException;
+import com.synapse.money.domain.exception.InvalidIdempotencyKeyException;
+import com.synapse.money.domain.repository.IdempotencyKeyRepository;
+import com.synapse.money.domain.valueobject.IdempotencyRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotentRequestExecutor Tests")
+class IdempotentRequestExecutorTest {
+
+    private static final String KEY = "3f1c9a62-0d4e-4f5b-9a1e-7c2d8b6e4a10";
+    private static final String SCOPE = "transactions.create:john.doe@example.com";
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration IN_FLIGHT_TIMEOUT = Duration.ofMinutes(5);
+    private static final Payment REQUEST = new Payment(10L, "9.90", LocalDate.of(2024, 5, 1));
+    private static final Receipt RECEIPT = new Receipt(5L, LocalDate.of(2024, 5, 1));
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    private IdempotentRequestExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            inTransaction.set(true);
+            try {
+                return invocation.<Supplier<?>>getArgument(0).get();
+            } finally {
+                inTransaction.set(false);
+            }
+        }).when(transactionExecutor).execute(any());
+        executor = executor(Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void clearInterrupt() {
+        Thread.interrupted();
+    }
+
+    @Test
+    @DisplayName("Should run the action unguarded without a key")
+    void shouldRunWithoutKey() {
+        ResponseEntity<Receipt> response = executor.execute(null, SCOPE, REQUEST, Receipt.class, this::create);
+
+        assertThat(response.getBody()).isEqualTo(RECEIPT);
+        assertThat(executions).hasValue(1);
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a blank or oversized key before running anything")
+    void shouldRejectInvalidKey() {
+        assertThatThrownBy(() -> executor.execute(" ", SCOPE, REQUEST, Receipt.class, this::create))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+        assertThatThrownBy(() -> executor.execute(
+                "k".repeat(IdempotentRequestExecutor.MAX_KEY_LENGTH + 1), SCOPE, REQUEST, Receipt.class, this::create))
+                .isInstanceOf(InvalidIdempotencyKeyException.class);
+
+        assertThat(executions).hasValue(0);
+        verifyNoInteractions(idempotencyKeyRepository);
+    }
+
+    @Test
+    @DisplayName("Should run once and store the response after winning the claim")
+    void shouldRunAndStoreResponse() throws Exception {
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash(REQUEST), TTL, IN_FLIGHT_TIMEOUT)).thenReturn(true);
+        when(idempotencyKeyRepository.lock(SCOPE, KEY)).thenReturn(true);
+
+        ResponseEntity<Receipt> response = executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(executions).hasValue(1);
+        verify(idempotencyKeyRepository).complete(SCOPE, KEY, 201, objectMapper.writeValueAsString(RECEIPT));
+    }
+
+    @Test
+    @DisplayName("Should lock the key and store the response in the action's own transaction")
+    void shouldCompleteInActionTransaction() throws Exception {
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash(REQUEST), TTL, IN_FLIGHT_TIMEOUT)).thenReturn(true);
+        AtomicBoolean lockedInTransaction = new AtomicBoolean();
+        AtomicBoolean completedInTransaction = new AtomicBoolean();
+        when(idempotencyKeyRepository.lock(SCOPE, KEY)).thenAnswer(invocation -> {
+            lockedInTransaction.set(inTransaction.get());
+            return true;
+        });
+        doAnswer(invocation -> {
+            completedInTransaction.set(inTransaction.get());
+            return null;
+        }).when(idempotencyKeyRepository).complete(anyString(), anyString(), anyInt(), anyString());
+
+        executor.execute(KEY, SCOPE, REQUEST, Receipt.class, () -> {
+            assertThat(inTransaction).isTrue();
+            return create();
+        });
+
+        assertThat(lockedInTransaction).isTrue();
+        assertThat(completedInTransaction).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should neither run nor release when the claim was taken over")
+    void shouldStopWhenClaimTakenOver() throws Exception {
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash(REQUEST), TTL, IN_FLIGHT_TIMEOUT)).thenReturn(true);
+        when(idempotencyKeyRepository.lock(SCOPE, KEY)).thenReturn(false);
+
+        assertThatThrownBy(() -> executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+
+        assertThat(executions).hasValue(0);
+        verify(idempotencyKeyRepository, never()).release(SCOPE, KEY);
+        verify(idempotencyKeyRepository, never()).complete(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should replay a completed response without running the action")
+    void shouldReplayCompletedResponse() throws Exception {
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash(REQUEST), TTL, IN_FLIGHT_TIMEOUT)).thenReturn(false);
+        when(idempotencyKeyRepository.find(SCOPE, KEY)).thenReturn(Optional.of(completed(hash(REQUEST))));
+
+        ResponseEntity<Receipt> response = executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(response.getBody()).isEqualTo(RECEIPT);
+        assertThat(response.getHeaders().getFirst(IdempotentRequestExecutor.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void shouldRejectReusedKey() throws Exception {
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash(REQUEST), TTL, IN_FLIGHT_TIMEOUT)).thenReturn(false);
+        when(idempotencyKeyRepository.find(SCOPE, KEY)).thenReturn(Optional.of(completed("0".repeat(64))));
+
+        assertThatThrownBy(() -> executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should wait for an in-flight duplicate and replay its response")
+    void shouldWaitForInFlightDuplicate() throws Exception {
+        String hash = hash(REQUEST);
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash, TTL, IN_FLIGHT_TIMEOUT)).thenReturn(false);
+        when(idempotencyKeyRepository.find(SCOPE, KEY)).thenReturn(
+                Optional.of(new IdempotencyRecord(hash, null, null)),
+                Optional.of(completed(hash))
+        );
+
+        ResponseEntity<Receipt> response = executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create);
+
+        assertThat(response.getBody()).isEqualTo(RECEIPT);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should give up with a conflict when the duplicate stays in flight")
+    void shouldGiveUpWhenStillInFlight() throws Exception {
+        String hash = hash(REQUEST);
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash, TTL, IN_FLIGHT_TIMEOUT)).thenReturn(false);
+        when(idempotencyKeyRepository.find(SCOPE, KEY)).thenReturn(Optional.of(new IdempotencyRecord(hash, null, null)));
+
+        assertThatThrownBy(() -> executor(Duration.ZERO).execute(KEY, SCOPE, REQUEST, Receipt.class, this::create))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Should stop waiting when interrupted")
+    void shouldStopWaitingWhenInterrupted() throws Exception {
+        String hash = hash(REQUEST);
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash, TTL, IN_FLIGHT_TIMEOUT)).thenReturn(false);
+        when(idempotencyKeyRepository.find(SCOPE, KEY)).thenReturn(Optional.of(new IdempotencyRecord(hash, null, null)));
+        Thread.currentThread().interrupt();
+
+        assertThatThrownBy(() -> executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create))
+                .isInstanceOf(IdempotencyKeyInProgressException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should claim again once a failed first attempt released the key")
+    void shouldClaimAfterRelease() throws Exception {
+        String hash = hash(REQUEST);
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash, TTL, IN_FLIGHT_TIMEOUT)).thenReturn(false, true);
+        when(idempotencyKeyRepository.find(SCOPE, KEY)).thenReturn(Optional.empty());
+        when(idempotencyKeyRepository.lock(SCOPE, KEY)).thenReturn(true);
+
+        executor.execute(KEY, SCOPE, REQUEST, Receipt.class, this::create);
+
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should release the key when the action fails")
+    void shouldReleaseKeyOnFailure() throws Exception {
+        when(idempotencyKeyRepository.claim(SCOPE, KEY, hash(REQUEST), TTL, IN_FLIGHT_TIMEOUT)).thenReturn(true);
+        when(idempotencyKeyRepository.lock(SCOPE, KEY)).thenReturn(true);
+
+        assertThatThrownBy(() -> executor.execute(KEY, SCOPE, REQUEST, Receipt.class, () -> {
+            throw new IllegalStateException("account locked");
+        })).isInstanceOf(IllegalStateException.class);
+
+        verify(idempotencyKeyRepository).release(SCOPE, KEY);
+        verify(idempotencyKeyRepository, never()).complete(anyString(), anyString(), anyInt(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should purge expired keys")
+    void shouldPurgeExpiredKeys() {
+        when(idempotencyKeyRepository.deleteExpired()).thenReturn(7);
+
+        assertThat(executor.purgeExpired()).isEqualTo(7);
+    }
+
+    private IdempotentRequestExecutor executor(Duration waitTimeout) {
+        return new IdempotentRequestExecutor(
+                idempotencyKeyRepository, objectMapper, transactionExecutor, TTL, waitTimeout, IN_FLIGHT_TIMEOUT);
+    }
+
+    private ResponseEntity<Receipt> create() {
+        executions.incrementAndGet();
+        return ResponseEntity.status(HttpStatus.CREATED).body(RECEIPT);
+    }
+
+    private IdempotencyRecord completed(String requestHash) throws Exception {
+        return new IdempotencyRecord(requestHash, 201, objectMapper.writeValueAsString(RECEIPT));
+    }
+
+    private String hash(Object request) throws Exception {
+        return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request)));
+    }
+
+    record Payment(Long accountId, String amount, LocalDate date) {}
+
+    record Receipt(Long id, LocalDate date) {}
+}
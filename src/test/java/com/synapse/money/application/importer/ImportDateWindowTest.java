@@ -0,0 +1,43 @@
+package com.synapse.money.application.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImportDateWindow Tests")
+class ImportDateWindowTest {
+
+    @Test
+    @DisplayName("Should span the earliest to the latest valid date in any row order")
+    void shouldSpanValidDates() throws IOException {
+        String csv = """
+                     date,type,amount,account
+                     2024-02-10,expense,1.00,Checking
+                     2023-12-31,expense,1.00,Checking
+                     not-a-date,expense,1.00,Checking
+                     ,expense,1.00,Checking
+                     2024-01-15,expense,1.00,Checking
+                     """;
+
+        assertThat(scan(csv)).isEqualTo(new ImportDateWindow(LocalDate.of(2023, 12, 31), LocalDate.of(2024, 2, 10)));
+    }
+
+    @Test
+    @DisplayName("Should return null when no row has a valid date")
+    void shouldReturnNullWithoutDates() throws IOException {
+        assertThat(scan("date,type,amount,account\n")).isNull();
+    }
+
+    private static ImportDateWindow scan(String csv) throws IOException {
+        try (TransactionCsvReader reader = new TransactionCsvReader(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            return ImportDateWindow.scan(reader);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ImportDeduplicator Tests")
+class ImportDeduplicatorTest {
+
+    @Test
+    @DisplayName("Should fingerprint new rows and keep repeats within the file apart")
+    void shouldFingerprintNewRows() {
+        ImportDeduplicator deduplicator = new ImportDeduplicator(new FingerprintSet());
+
+        Transaction first = deduplicator.admit(coffee());
+        Transaction second = deduplicator.admit(coffee());
+
+        assertThat(first.getImportFingerprint()).isNotNull();
+        assertThat(second.getImportFingerprint()).isNotNull().isNotEqualTo(first.getImportFingerprint());
+        assertThat(deduplicator.skippedRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should skip only as many repeats as an earlier import stored")
+    void shouldSkipStoredRows() {
+        FingerprintSet stored = new FingerprintSet();
+        ImportDeduplicator earlier = new ImportDeduplicator(new FingerprintSet());
+        stored.add(earlier.admit(coffee()).getImportFingerprint());
+        stored.add(earlier.admit(coffee()).getImportFingerprint());
+        ImportDeduplicator deduplicator = new ImportDeduplicator(stored);
+
+        assertThat(deduplicator.admit(coffee())).isNull();
+        assertThat(deduplicator.admit(coffee())).isNull();
+        assertThat(deduplicator.admit(coffee())).isNotNull();
+        assertThat(deduplicator.skippedRows()).isEqualTo(2);
+    }
+
+    private static Transaction coffee() {
+        return Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .amount(new BigDecimal("4.50"))
+                .description("Coffee")
+                .transactionDate(LocalDate.of(2024, 1, 5))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+    }
+}
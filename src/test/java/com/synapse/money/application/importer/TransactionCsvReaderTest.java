@@ -0,0 +1,101 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionCsvReader Tests")
+class TransactionCsvReaderTest {
+
+    @Test
+    @DisplayName("Should map columns by header name into canonical order")
+    void shouldMapColumnsByHeaderName() throws IOException {
+        String csv = """
+                     Amount,account,Type,date,description
+                     12.50,Checking,expense,2024-01-05,Coffee
+                     """;
+
+        try (TransactionCsvReader reader = reader(csv)) {
+            String[] row = reader.next();
+
+            assertThat(row[TransactionCsvReader.DATE]).isEqualTo("2024-01-05");
+            assertThat(row[TransactionCsvReader.TYPE]).isEqualTo("expense");
+            assertThat(row[TransactionCsvReader.AMOUNT]).isEqualTo("12.50");
+            assertThat(row[TransactionCsvReader.ACCOUNT]).isEqualTo("Checking");
+            assertThat(row[TransactionCsvReader.DESCRIPTION]).isEqualTo("Coffee");
+            assertThat(row[TransactionCsvReader.CATEGORY]).isNull();
+            assertThat(reader.lineNumber()).isEqualTo(2);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should parse quoted fields with commas, escaped quotes and line breaks")
+    void shouldParseQuotedFields() throws IOException {
+        String csv = "date,type,amount,account,description\r\n"
+                + "2024-01-05,expense,1.00,Checking,\"Uber, \"\"black\"\"\"\r\n"
+                + "\r\n"
+                + "2024-01-06,expense,2.00,Checking,\"multi\nline\"\n"
+                + "2024-01-07,income,3.00,Checking,";
+
+        try (TransactionCsvReader reader = reader(csv)) {
+            assertThat(reader.next()[TransactionCsvReader.DESCRIPTION]).isEqualTo("Uber, \"black\"");
+            assertThat(reader.next()[TransactionCsvReader.DESCRIPTION]).isEqualTo("multi\nline");
+            assertThat(reader.lineNumber()).isEqualTo(4);
+
+            String[] last = reader.next();
+            assertThat(last[TransactionCsvReader.AMOUNT]).isEqualTo("3.00");
+            assertThat(last[TransactionCsvReader.DESCRIPTION]).isNull();
+            assertThat(reader.lineNumber()).isEqualTo(6);
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should tolerate rows shorter than the header")
+    void shouldTolerateShortRows() throws IOException {
+        try (TransactionCsvReader reader = reader("date,type,amount,account,category\n2024-01-05,expense\n")) {
+            String[] row = reader.next();
+
+            assertThat(row[TransactionCsvReader.TYPE]).isEqualTo("expense");
+            assertThat(row[TransactionCsvReader.ACCOUNT]).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject empty file")
+    void shouldRejectEmptyFile() {
+        assertThatThrownBy(() -> reader(""))
+                .isInstanceOf(InvalidTransactionImportException.class)
+                .hasMessage("Line 1: File is empty");
+    }
+
+    @Test
+    @DisplayName("Should reject header without required columns")
+    void shouldRejectHeaderWithoutRequiredColumns() {
+        assertThatThrownBy(() -> reader("date,type,amount\n"))
+                .isInstanceOf(InvalidTransactionImportException.class)
+                .hasMessage("Line 1: Missing required column: account");
+    }
+
+    @Test
+    @DisplayName("Should reject unterminated quoted field")
+    void shouldRejectUnterminatedQuotedField() throws IOException {
+        try (TransactionCsvReader reader = reader("date,type,amount,account\n\"2024-01-05,expense")) {
+            assertThatThrownBy(reader::next)
+                    .isInstanceOf(InvalidTransactionImportException.class)
+                    .hasMessage("Line 2: Unterminated quoted field");
+        }
+    }
+
+    private TransactionCsvReader reader(String csv) throws IOException {
+        return new TransactionCsvReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,128 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionImportIterator Tests")
+class TransactionImportIteratorTest {
+
+    private static final ImportLookup LOOKUP =
+            new ImportLookup(Map.of("checking", 10L, "savings", 11L), Map.of(), Map.of(), Map.of());
+
+    private final TransactionImportRowMapper mapper = new TransactionImportRowMapper(
+            1L,
+            LOOKUP,
+            Categorizer.compile(List.of(), MerchantRuleSet.EMPTY, LOOKUP)
+    );
+
+    @Test
+    @DisplayName("Should iterate rows and collect affected accounts")
+    void shouldIterateRowsAndCollectAffectedAccounts() throws IOException {
+        String csv = """
+                     date,type,amount,account,transfer_account
+                     2024-01-05,expense,1.00,Checking,
+                     2024-01-06,transfer,2.00,Checking,Savings
+                     """;
+        Set<Long> affected = new HashSet<>();
+
+        try (TransactionCsvReader reader = new TransactionCsvReader(stream(csv))) {
+            TransactionImportIterator iterator = new TransactionImportIterator(reader, mapper, new ImportDeduplicator(new FingerprintSet()), affected);
+
+            assertThat(iterator.hasNext()).isTrue();
+            assertThat(iterator.hasNext()).isTrue();
+            Transaction first = iterator.next();
+            Transaction second = iterator.next();
+
+            assertThat(first.getAmount()).isEqualByComparingTo("1.00");
+            assertThat(second.getTransferAccountId()).isEqualTo(11L);
+            assertThat(iterator.hasNext()).isFalse();
+            assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+            assertThat(affected).containsExactlyInAnyOrder(10L, 11L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip duplicates without counting their accounts")
+    void shouldSkipDuplicates() throws IOException {
+        String csv = """
+                     date,type,amount,account,description
+                     2024-01-05,expense,1.00,Savings,Coffee
+                     2024-01-06,expense,2.00,Checking,Lunch
+                     """;
+        FingerprintSet stored = new FingerprintSet();
+        try (TransactionCsvReader reader = new TransactionCsvReader(stream(csv))) {
+            ImportDeduplicator first = new ImportDeduplicator(new FingerprintSet());
+            new TransactionImportIterator(reader, mapper, first, new HashSet<>())
+                    .forEachRemaining(transaction -> stored.add(transaction.getImportFingerprint()));
+        }
+        Set<Long> affected = new HashSet<>();
+        String reimport = csv + "2024-01-07,expense,3.00,Checking,Dinner\n";
+
+        try (TransactionCsvReader reader = new TransactionCsvReader(stream(reimport))) {
+            ImportDeduplicator deduplicator = new ImportDeduplicator(stored);
+            TransactionImportIterator iterator = new TransactionImportIterator(reader, mapper, deduplicator, affected);
+
+            assertThat(iterator.next().getDescription()).isEqualTo("Dinner");
+            assertThat(iterator.hasNext()).isFalse();
+            assertThat(deduplicator.skippedRows()).isEqualTo(2);
+            assertThat(affected).containsExactly(10L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should wrap read failures as UncheckedIOException")
+    void shouldWrapReadFailures() throws IOException {
+        InputStream failing = new InputStream() {
+            private final InputStream header = stream("date,type,amount,account\n");
+
+            @Override
+            public int read() throws IOException {
+                int c = header.read();
+                if (c == -1) {
+                    throw new IOException("connection reset");
+                }
+                return c;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = header.read(b, off, len);
+                if (n == -1) {
+                    throw new IOException("connection reset");
+                }
+                return n;
+            }
+        };
+
+        TransactionCsvReader reader = new TransactionCsvReader(failing);
+        TransactionImportIterator iterator = new TransactionImportIterator(
+                reader, mapper, new ImportDeduplicator(new FingerprintSet()), new HashSet<>());
+
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("connection reset");
+    }
+
+    private static InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,165 @@
+package com.synapse.money.application.importer;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionImportRowMapper Tests")
+class TransactionImportRowMapperTest {
+
+    private final ImportLookup lookup = new ImportLookup(
+            Map.of("checking", 10L, "savings", 11L),
+            Map.of("food", 20L),
+            Map.of("food/delivery", 30L),
+            Map.of("gold card", 40L)
+    );
+
+    private final Categorizer categorizer = Categorizer.compile(
+            List.of(new CategorizationRule(1L, "ifood", 20L, 30L)),
+            MerchantRuleSet.EMPTY,
+            lookup
+    );
+
+    private final TransactionImportRowMapper mapper = new TransactionImportRowMapper(1L, lookup, categorizer);
+
+    @Test
+    @DisplayName("Should map a fully populated expense row")
+    void shouldMapExpenseRow() {
+        String[] row = makeRow(r -> {
+            r[TransactionCsvReader.CATEGORY] = "Food";
+            r[TransactionCsvReader.SUBCATEGORY] = "Delivery";
+            r[TransactionCsvReader.CREDIT_CARD] = "Gold Card";
+            r[TransactionCsvReader.DESCRIPTION] = "IFOOD";
+            r[TransactionCsvReader.RECURRING] = "TRUE";
+        });
+
+        Transaction transaction = mapper.map(row, 2);
+
+        assertThat(transaction.getUserId()).isEqualTo(1L);
+        assertThat(transaction.getAccountId()).isEqualTo(10L);
+        assertThat(transaction.getCategoryId()).isEqualTo(20L);
+        assertThat(transaction.getSubcategoryId()).isEqualTo(30L);
+        assertThat(transaction.getCreditCardId()).isEqualTo(40L);
+        assertThat(transaction.getTransferAccountId()).isNull();
+        assertThat(transaction.getAmount()).isEqualByComparingTo("12.50");
+        assertThat(transaction.getAmount().scale()).isEqualTo(2);
+        assertThat(transaction.getTransactionDate()).isEqualTo(LocalDate.of(2024, 1, 5));
+        assertThat(transaction.getTransactionType()).isEqualTo(ETransactionType.EXPENSE);
+        assertThat(transaction.getDescription()).isEqualTo("IFOOD");
+        assertThat(transaction.isRecurring()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should map a transfer row")
+    void shouldMapTransferRow() {
+        String[] row = makeRow(r -> {
+            r[TransactionCsvReader.TYPE] = "transfer";
+            r[TransactionCsvReader.TRANSFER_ACCOUNT] = "Savings";
+            r[TransactionCsvReader.RECURRING] = "false";
+        });
+
+        Transaction transaction = mapper.map(row, 2);
+
+        assertThat(transaction.getTransferAccountId()).isEqualTo(11L);
+        assertThat(transaction.isRecurring()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should categorize rows without a category from their description")
+    void shouldCategorizeUncategorizedRows() {
+        Transaction transaction = mapper.map(makeRow(r -> r[TransactionCsvReader.DESCRIPTION] = "Ifood *Pizza"), 2);
+
+        assertThat(transaction.getCategoryId()).isEqualTo(20L);
+        assertThat(transaction.getSubcategoryId()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("Should keep an explicit category and leave transfers uncategorized")
+    void shouldNotOverrideExplicitCategoryOrCategorizeTransfers() {
+        Transaction explicit = mapper.map(makeRow(r -> {
+            r[TransactionCsvReader.CATEGORY] = "Food";
+            r[TransactionCsvReader.DESCRIPTION] = "IFOOD";
+        }), 2);
+        Transaction transfer = mapper.map(makeRow(r -> {
+            r[TransactionCsvReader.TYPE] = "transfer";
+            r[TransactionCsvReader.TRANSFER_ACCOUNT] = "Savings";
+            r[TransactionCsvReader.DESCRIPTION] = "IFOOD";
+        }), 3);
+
+        assertThat(explicit.getCategoryId()).isEqualTo(20L);
+        assertThat(explicit.getSubcategoryId()).isNull();
+        assertThat(transfer.getCategoryId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid scalar fields")
+    void shouldRejectInvalidScalarFields() {
+        assertRejected(r -> r[TransactionCsvReader.TYPE] = "refund", "Line 7: Unknown transaction type: refund");
+        assertRejected(r -> r[TransactionCsvReader.AMOUNT] = "abc", "Line 7: Invalid amount: abc");
+        assertRejected(r -> r[TransactionCsvReader.AMOUNT] = null, "Line 7: Invalid amount: null");
+        assertRejected(r -> r[TransactionCsvReader.AMOUNT] = "-5", "Line 7: Invalid amount: -5");
+        assertRejected(r -> r[TransactionCsvReader.DATE] = null, "Line 7: date is required");
+        assertRejected(r -> r[TransactionCsvReader.DATE] = "05/01/2024", "Line 7: Invalid date: 05/01/2024");
+        assertRejected(r -> r[TransactionCsvReader.RECURRING] = "yes", "Line 7: Invalid recurring flag: yes");
+        assertRejected(r -> r[TransactionCsvReader.DESCRIPTION] = "x".repeat(256), "Line 7: Description exceeds 255 characters");
+    }
+
+    @Test
+    @DisplayName("Should reject unresolved references")
+    void shouldRejectUnresolvedReferences() {
+        assertRejected(r -> r[TransactionCsvReader.ACCOUNT] = null, "Line 7: account is required");
+        assertRejected(r -> r[TransactionCsvReader.ACCOUNT] = "Wallet", "Line 7: Unknown account: Wallet");
+        assertRejected(r -> r[TransactionCsvReader.CATEGORY] = "Travel", "Line 7: Unknown category: Travel");
+        assertRejected(r -> r[TransactionCsvReader.CREDIT_CARD] = "Black", "Line 7: Unknown credit card: Black");
+        assertRejected(r -> {
+            r[TransactionCsvReader.CATEGORY] = "Food";
+            r[TransactionCsvReader.SUBCATEGORY] = "Groceries";
+        }, "Line 7: Unknown subcategory: Groceries");
+        assertRejected(r -> r[TransactionCsvReader.SUBCATEGORY] = "Delivery", "Line 7: subcategory requires a category");
+    }
+
+    @Test
+    @DisplayName("Should enforce transfer account rules")
+    void shouldEnforceTransferAccountRules() {
+        assertRejected(r -> r[TransactionCsvReader.TYPE] = "transfer", "Line 7: transfer_account is required");
+        assertRejected(r -> {
+            r[TransactionCsvReader.TYPE] = "transfer";
+            r[TransactionCsvReader.TRANSFER_ACCOUNT] = "checking";
+        }, "Line 7: Transfer source and destination must differ");
+        assertRejected(r -> r[TransactionCsvReader.TRANSFER_ACCOUNT] = "Savings", "Line 7: transfer_account is only allowed for transfers");
+    }
+
+    private void assertRejected(
+            Consumer<String[]> customizer,
+            String message) {
+        String[] row = makeRow(customizer);
+
+        assertThatThrownBy(() -> mapper.map(row, 7))
+                .isInstanceOf(InvalidTransactionImportException.class)
+                .hasMessage(message);
+    }
+
+    private String[] makeRow(Consumer<String[]> customizer) {
+        String[] row = new String[TransactionCsvReader.COLUMNS.size()];
+        row[TransactionCsvReader.DATE] = "2024-01-05";
+        row[TransactionCsvReader.TYPE] = "expense";
+        row[TransactionCsvReader.AMOUNT] = "12.5";
+        row[TransactionCsvReader.ACCOUNT] = "Checking";
+        customizer.accept(row);
+        return row;
+    }
+}
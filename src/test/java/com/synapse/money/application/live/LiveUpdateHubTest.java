@@ -0,0 +1,162 @@
+package com.synapse.money.application.live;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LiveUpdateHub Tests")
+class LiveUpdateHubTest {
+
+    private final LiveUpdateHub hub = new LiveUpdateHub(16, 3);
+
+    @AfterEach
+    void shutdown() {
+        hub.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should fan updates out to every connection of the user only")
+    void shouldFanOutPerUser() throws Exception {
+        QueueSink first = new QueueSink();
+        QueueSink second = new QueueSink();
+        QueueSink otherUser = new QueueSink();
+        hub.subscribe(1L, first);
+        hub.subscribe(1L, second);
+        hub.subscribe(2L, otherUser);
+
+        hub.publish(1L, List.of(new LiveUpdate("transaction.created", "{}")));
+
+        assertThat(first.updates.poll(5, TimeUnit.SECONDS)).extracting(LiveUpdate::event).isEqualTo("transaction.created");
+        assertThat(second.updates.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(otherUser.updates.poll(100, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(hub.connectionCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should forget a user once their last connection closes")
+    void shouldForgetClosedConnections() {
+        LiveUpdateSubscription first = hub.subscribe(1L, new QueueSink());
+        LiveUpdateSubscription second = hub.subscribe(1L, new QueueSink());
+
+        first.close();
+        assertThat(hub.hasSubscribers(1L)).isTrue();
+        second.close();
+
+        assertThat(hub.hasSubscribers(1L)).isFalse();
+        assertThat(hub.connectionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should close the oldest connection once a user goes over the cap")
+    void shouldCloseOldestConnectionOverCap() throws Exception {
+        QueueSink oldest = new QueueSink();
+        LiveUpdateSubscription evicted = hub.subscribe(1L, oldest);
+        hub.subscribe(1L, new QueueSink());
+        hub.subscribe(1L, new QueueSink());
+        QueueSink newest = new QueueSink();
+        hub.subscribe(1L, newest);
+
+        hub.publish(1L, List.of(new LiveUpdate("transaction.created", "{}")));
+
+        assertThat(evicted.isClosed()).isTrue();
+        assertThat(oldest.closed.getCount()).isZero();
+        assertThat(hub.connectionCount()).isEqualTo(3);
+        assertThat(newest.updates.poll(5, TimeUnit.SECONDS)).isNotNull();
+        assertThat(oldest.updates.poll(100, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should refuse a cap below one connection")
+    void shouldRejectNonPositiveCap() {
+        assertThatThrownBy(() -> new LiveUpdateHub(16, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep a slow client from delaying the others")
+    void shouldIsolateSlowClient() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        QueueSink slow = new QueueSink(release);
+        QueueSink fast = new QueueSink();
+        hub.subscribe(1L, slow);
+        hub.subscribe(1L, fast);
+
+        for (int i = 0; i < 10; i++) {
+            hub.publish(1L, List.of(new LiveUpdate("e" + i, "{}")));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(fast.updates.poll(5, TimeUnit.SECONDS)).extracting(LiveUpdate::event).isEqualTo("e" + i);
+        }
+        release.countDown();
+        assertThat(slow.updates.poll(5, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should heartbeat every idle connection")
+    void shouldHeartbeatIdleConnections() throws Exception {
+        QueueSink sink = new QueueSink();
+        hub.subscribe(1L, sink);
+
+        hub.heartbeat();
+
+        assertThat(sink.heartbeats.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should close every connection on shutdown")
+    void shouldCloseOnShutdown() {
+        QueueSink sink = new QueueSink();
+        hub.subscribe(1L, sink);
+
+        hub.shutdown();
+
+        assertThat(sink.closed.getCount()).isZero();
+        assertThat(hub.connectionCount()).isZero();
+    }
+
+    private static final class QueueSink implements LiveUpdateSink {
+
+        private final BlockingQueue<LiveUpdate> updates = new LinkedBlockingQueue<>();
+        private final CountDownLatch heartbeats = new CountDownLatch(1);
+        private final CountDownLatch closed = new CountDownLatch(1);
+        private final CountDownLatch gate;
+
+        QueueSink() {
+            this(new CountDownLatch(0));
+        }
+
+        QueueSink(CountDownLatch gate) {
+            this.gate = gate;
+        }
+
+        @Override
+        public void send(LiveUpdate update) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            updates.add(update);
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats.countDown();
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.synapse.money.application.live;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LiveUpdateSubscription Tests")
+class LiveUpdateSubscriptionTest {
+
+    private final Queue<Runnable> tasks = new ArrayDeque<>();
+    private final RecordingSink sink = new RecordingSink();
+    private final List<LiveUpdateSubscription> closed = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should send buffered updates in order from a single drain task")
+    void shouldSendInOrder() {
+        LiveUpdateSubscription subscription = subscription(4);
+
+        subscription.offer(List.of(update(1)));
+        subscription.offer(List.of(update(2), update(3)));
+
+        assertThat(tasks).hasSize(1);
+        runTasks();
+        assertThat(sink.sent).containsExactly("e1", "e2", "e3");
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest updates of a slow client and announce a resync")
+    void shouldDropOldest() {
+        LiveUpdateSubscription subscription = subscription(2);
+
+        subscription.offer(List.of(update(1), update(2), update(3), update(4), update(5)));
+        runTasks();
+
+        assertThat(sink.sent).containsExactly("resync:{\"dropped\":3}", "e4", "e5");
+    }
+
+    @Test
+    @DisplayName("Should send a heartbeat only when nothing is in flight")
+    void shouldHeartbeatWhenIdle() {
+        LiveUpdateSubscription subscription = subscription(4);
+
+        subscription.offer(List.of(update(1)));
+        subscription.heartbeat();
+        runTasks();
+        subscription.heartbeat();
+        runTasks();
+
+        assertThat(sink.sent).containsExactly("e1", "heartbeat");
+    }
+
+    @Test
+    @DisplayName("Should close and deregister once the client is gone")
+    void shouldCloseOnSendFailure() {
+        LiveUpdateSubscription subscription = subscription(4);
+        sink.failing = true;
+
+        subscription.heartbeat();
+        runTasks();
+        subscription.offer(List.of(update(1)));
+
+        assertThat(subscription.isClosed()).isTrue();
+        assertThat(closed).containsExactly(subscription);
+        assertThat(sink.closed).isTrue();
+        assertThat(tasks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should close only once")
+    void shouldCloseOnce() {
+        LiveUpdateSubscription subscription = subscription(4);
+
+        subscription.close();
+        subscription.close();
+
+        assertThat(closed).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should close when the executor is shut down")
+    void shouldCloseWhenRejected() {
+        LiveUpdateSubscription subscription = new LiveUpdateSubscription(sink, 4, task -> {
+            throw new RejectedExecutionException("shut down");
+        }, closed::add);
+
+        subscription.offer(List.of(update(1)));
+
+        assertThat(subscription.isClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject an empty buffer")
+    void shouldRejectEmptyBuffer() {
+        assertThatThrownBy(() -> subscription(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private LiveUpdateSubscription subscription(int capacity) {
+        return new LiveUpdateSubscription(sink, capacity, tasks::add, closed::add);
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.poll().run();
+        }
+    }
+
+    private static LiveUpdate update(int number) {
+        return new LiveUpdate("e" + number, "{}");
+    }
+
+    private static final class RecordingSink implements LiveUpdateSink {
+
+        private final List<String> sent = new ArrayList<>();
+        private boolean failing;
+        private boolean closed;
+
+        @Override
+        public void send(LiveUpdate update) throws IOException {
+            check();
+            sent.add(LiveUpdateSubscription.RESYNC_EVENT.equals(update.event())
+                    ? update.event() + ":" + update.data()
+                    : update.event());
+        }
+
+        @Override
+        public void heartbeat() throws IOException {
+            check();
+            sent.add("heartbeat");
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        private void check() throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.domain.valueobject.Attachment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AttachmentResponseMapper Tests")
+class AttachmentResponseMapperTest {
+
+    private final AttachmentResponseMapper mapper = new AttachmentResponseMapper();
+
+    @Test
+    @DisplayName("Should map the metadata without the storage details")
+    void shouldMapAttachment() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+        Attachment attachment = new Attachment(
+                3L, 1L, 99L, "receipt.jpg", "image/jpeg", 2048L, "a".repeat(64), "1/key", createdAt
+        );
+
+        assertThat(mapper.toResponse(attachment)).isEqualTo(new AttachmentResponse(
+                3L, 99L, "receipt.jpg", "image/jpeg", 2048L, createdAt
+        ));
+    }
+}
@@ -0,0 +1,34 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BulkEditResponseMapper Tests")
+class BulkEditResponseMapperTest {
+
+    private final BulkEditResponseMapper mapper = new BulkEditResponseMapper();
+
+    @Test
+    @DisplayName("Should map the edit and its progress")
+    void shouldMapEdit() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 0);
+        LocalDateTime completedAt = LocalDateTime.of(2024, 3, 1, 9, 5);
+        BulkEdit edit = new BulkEdit(
+                7L, 1L, EBulkEditKind.RECATEGORIZE, null, null, EBulkEditStatus.COMPLETED, 900L, 1000, 1000, 42, null,
+                createdAt, completedAt
+        );
+
+        assertThat(mapper.toResponse(edit)).isEqualTo(new BulkEditResponse(
+                7L, EBulkEditKind.RECATEGORIZE, EBulkEditStatus.COMPLETED, null, null, 1000, 1000, 42, null,
+                createdAt, completedAt
+        ));
+    }
+}
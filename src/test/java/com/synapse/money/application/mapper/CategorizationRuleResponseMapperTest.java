@@ -0,0 +1,22 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategorizationRuleResponseMapper Tests")
+class CategorizationRuleResponseMapperTest {
+
+    private final CategorizationRuleResponseMapper mapper = new CategorizationRuleResponseMapper();
+
+    @Test
+    @DisplayName("Should map a rule")
+    void shouldMapRule() {
+        CategorizationRuleResponse response = mapper.toResponse(new CategorizationRule(5L, "uber", 20L, null));
+
+        assertThat(response).isEqualTo(new CategorizationRuleResponse(5L, "uber", 20L, null));
+    }
+}
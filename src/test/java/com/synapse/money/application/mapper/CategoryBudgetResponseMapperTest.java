@@ -0,0 +1,31 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryBudgetResponseMapper Tests")
+class CategoryBudgetResponseMapperTest {
+
+    private final CategoryBudgetResponseMapper mapper = new CategoryBudgetResponseMapper();
+
+    @Test
+    @DisplayName("Should map a budget with its derived status")
+    void shouldMapBudgetWithStatus() {
+        CategoryBudget budget = new CategoryBudget(
+                9L, 3L, YearMonth.of(2024, 3), new BigDecimal("200.00"), new BigDecimal("50.00")
+        );
+
+        CategoryBudgetResponse response = mapper.toResponse(budget);
+
+        assertThat(response).isEqualTo(new CategoryBudgetResponse(
+                9L, 3L, YearMonth.of(2024, 3), new BigDecimal("200.00"), new BigDecimal("50.00"), new BigDecimal("150.00"), 25
+        ));
+    }
+}
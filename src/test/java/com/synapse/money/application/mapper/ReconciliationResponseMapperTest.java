@@ -0,0 +1,44 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.ReconciliationItemResponse;
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ReconciliationResponseMapper Tests")
+class ReconciliationResponseMapperTest {
+
+    private final ReconciliationResponseMapper mapper = new ReconciliationResponseMapper();
+
+    @Test
+    @DisplayName("Should map the summary with missing and extra items only")
+    void shouldMapUnmatchedItems() {
+        LocalDate start = LocalDate.of(2024, 3, 1);
+        LocalDate end = LocalDate.of(2024, 3, 31);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        Reconciliation reconciliation = new Reconciliation(5L, 10L, start, end, 3, 1, 1, 1, createdAt);
+
+        ReconciliationResponse response = mapper.toResponse(reconciliation, List.of(
+                new ReconciliationItem(EReconciliationStatus.MATCHED, 1, 70L, start, start, -100, "A", 1.0),
+                new ReconciliationItem(EReconciliationStatus.MISSING, 2, null, start.plusDays(1), null, -2_550, "B", null),
+                new ReconciliationItem(EReconciliationStatus.EXTRA, null, 71L, null, end, 10_000, "C", null)
+        ));
+
+        assertThat(response).isEqualTo(new ReconciliationResponse(
+                5L, 10L, start, end, 3, 1, 1, 1,
+                List.of(new ReconciliationItemResponse(2, null, start.plusDays(1), new BigDecimal("-25.50"), "B")),
+                List.of(new ReconciliationItemResponse(null, 71L, end, new BigDecimal("100.00"), "C")),
+                createdAt
+        ));
+    }
+}
@@ -0,0 +1,50 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionRequestMapper Tests")
+class TransactionRequestMapperTest {
+
+    private final TransactionRequestMapper mapper = new TransactionRequestMapper();
+
+    @Test
+    @DisplayName("Should map request to a transaction owned by the user")
+    void shouldMapRequestToTransaction() {
+        TransactionRequest request = new TransactionRequest(
+                10L, 3L, 4L, 5L, null,
+                new BigDecimal("12.34"), "Lunch", LocalDate.of(2024, 3, 1),
+                ETransactionType.EXPENSE, true
+        );
+
+        Transaction transaction = mapper.toDomain(1L, request);
+
+        assertThat(transaction.getId()).isNull();
+        assertThat(transaction.getUserId()).isEqualTo(1L);
+        assertThat(transaction.getAccountId()).isEqualTo(10L);
+        assertThat(transaction.getCategoryId()).isEqualTo(3L);
+        assertThat(transaction.getSubcategoryId()).isEqualTo(4L);
+        assertThat(transaction.getCreditCardId()).isEqualTo(5L);
+        assertThat(transaction.getAmount()).isEqualByComparingTo("12.34");
+        assertThat(transaction.getDescription()).isEqualTo("Lunch");
+        assertThat(transaction.getTransactionType()).isEqualTo(ETransactionType.EXPENSE);
+        assertThat(transaction.isRecurring()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should throw when request is null")
+    void shouldThrowWhenRequestIsNull() {
+        assertThatThrownBy(() -> mapper.toDomain(1L, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("TransactionRequest cannot be null");
+    }
+}
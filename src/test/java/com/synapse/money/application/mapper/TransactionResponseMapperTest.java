@@ -0,0 +1,97 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TaggedTransactionPage;
+import com.synapse.money.domain.valueobject.TransactionCursor;
+import com.synapse.money.domain.valueobject.TransactionIdCursor;
+import com.synapse.money.domain.valueobject.TransactionPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionResponseMapper Tests")
+class TransactionResponseMapperTest {
+
+    private final TransactionResponseMapper mapper = new TransactionResponseMapper();
+
+    @Test
+    @DisplayName("Should map Transaction to TransactionResponse")
+    void shouldMapTransactionToResponse() {
+        TransactionResponse response = mapper.toResponse(makeTransaction());
+
+        assertThat(response.id()).isEqualTo(5L);
+        assertThat(response.accountId()).isEqualTo(10L);
+        assertThat(response.categoryId()).isEqualTo(20L);
+        assertThat(response.subcategoryId()).isEqualTo(30L);
+        assertThat(response.creditCardId()).isEqualTo(40L);
+        assertThat(response.transferAccountId()).isNull();
+        assertThat(response.amount()).isEqualByComparingTo("9.90");
+        assertThat(response.description()).isEqualTo("Netflix");
+        assertThat(response.transactionDate()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(response.transactionType()).isEqualTo(ETransactionType.EXPENSE);
+        assertThat(response.recurring()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should throw exception when transaction is null")
+    void shouldThrowExceptionWhenTransactionIsNull() {
+        assertThatThrownBy(() -> mapper.toResponse(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Transaction cannot be null");
+    }
+
+    @Test
+    @DisplayName("Should encode next cursor only when there are more pages")
+    void shouldEncodeNextCursorOnlyWhenThereAreMorePages() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2024, 5, 1), 5L);
+
+        TransactionPageResponse more = mapper.toPageResponse(new TransactionPage(List.of(makeTransaction()), cursor));
+        TransactionPageResponse last = mapper.toPageResponse(new TransactionPage(List.of(), null));
+
+        assertThat(more.items()).hasSize(1);
+        assertThat(more.hasMore()).isTrue();
+        assertThat(more.nextCursor()).isEqualTo(cursor.encode());
+        assertThat(last.items()).isEmpty();
+        assertThat(last.hasMore()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should encode the id cursor of a tagged page")
+    void shouldEncodeTaggedPageCursor() {
+        TransactionIdCursor cursor = new TransactionIdCursor(5L);
+
+        TransactionPageResponse more = mapper.toTaggedPageResponse(new TaggedTransactionPage(List.of(makeTransaction()), cursor));
+        TransactionPageResponse last = mapper.toTaggedPageResponse(new TaggedTransactionPage(List.of(), null));
+
+        assertThat(more.items()).extracting(TransactionResponse::id).containsExactly(5L);
+        assertThat(more.nextCursor()).isEqualTo(cursor.encode());
+        assertThat(last.hasMore()).isFalse();
+        assertThat(last.nextCursor()).isNull();
+    }
+
+    private Transaction makeTransaction() {
+        return Transaction.builder()
+                .id(5L)
+                .userId(1L)
+                .accountId(10L)
+                .categoryId(20L)
+                .subcategoryId(30L)
+                .creditCardId(40L)
+                .amount(new BigDecimal("9.90"))
+                .description("Netflix")
+                .transactionDate(LocalDate.of(2024, 5, 1))
+                .transactionType(ETransactionType.EXPENSE)
+                .isRecurring(true)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.synapse.money.application.mapper;
+
+import com.synapse.money.application.dto.response.WebhookEndpointResponse;
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebhookEndpointResponseMapper Tests")
+class WebhookEndpointResponseMapperTest {
+
+    private final WebhookEndpointResponseMapper mapper = new WebhookEndpointResponseMapper();
+
+    @Test
+    @DisplayName("Should map an endpoint without its owner or secret")
+    void shouldMapEndpoint() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+        WebhookEndpointResponse response = mapper.toResponse(
+                new WebhookEndpoint(3L, 1L, "https://example.com/hook", "secret", createdAt));
+
+        assertThat(response).isEqualTo(new WebhookEndpointResponse(3L, "https://example.com/hook", createdAt));
+    }
+
+    @Test
+    @DisplayName("Should include the secret only in the secret response")
+    void shouldMapSecretResponse() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+        WebhookEndpointSecretResponse response = mapper.toSecretResponse(
+                new WebhookEndpoint(3L, 1L, "https://example.com/hook", "secret", createdAt));
+
+        assertThat(response).isEqualTo(
+                new WebhookEndpointSecretResponse(3L, "https://example.com/hook", "secret", createdAt));
+    }
+}
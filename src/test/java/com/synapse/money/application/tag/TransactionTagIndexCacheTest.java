@@ -0,0 +1,109 @@
+package com.synapse.money.application.tag;
+
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionTagIndexCache Tests")
+class TransactionTagIndexCacheTest {
+
+    private final TransactionTagIndex first = TransactionTagIndex.builder().build();
+    private final TransactionTagIndex second = TransactionTagIndex.builder().build();
+
+    @Mock
+    private TransactionTagRepository transactionTagRepository;
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should load once and serve later calls from memory")
+    void shouldLoadOnce() {
+        TransactionTagIndexCache cache = new TransactionTagIndexCache(transactionTagRepository, 2);
+        when(transactionTagRepository.loadIndex(1L)).thenReturn(first);
+
+        assertThat(cache.get(1L)).isSameAs(first);
+        assertThat(cache.get(1L)).isSameAs(first);
+
+        verify(transactionTagRepository).loadIndex(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used user when full")
+    void shouldEvictLeastRecentlyUsed() {
+        TransactionTagIndexCache cache = new TransactionTagIndexCache(transactionTagRepository, 2);
+        when(transactionTagRepository.loadIndex(1L)).thenReturn(first);
+        when(transactionTagRepository.loadIndex(2L)).thenReturn(second);
+        when(transactionTagRepository.loadIndex(3L)).thenReturn(second);
+
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(1L);
+        cache.get(3L);
+        cache.get(1L);
+        cache.get(2L);
+
+        verify(transactionTagRepository).loadIndex(1L);
+        verify(transactionTagRepository, times(2)).loadIndex(2L);
+    }
+
+    @Test
+    @DisplayName("Should not cache an index whose load raced an eviction")
+    void shouldNotCacheLoadThatRacedEviction() {
+        TransactionTagIndexCache cache = new TransactionTagIndexCache(transactionTagRepository, 2);
+        when(transactionTagRepository.loadIndex(1L)).thenAnswer(invocation -> {
+            cache.evict(List.of(2L));
+            return first;
+        }).thenReturn(second);
+
+        assertThat(cache.get(1L)).isSameAs(first);
+        assertThat(cache.get(1L)).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should load on every call when caching is disabled")
+    void shouldNotCacheWhenDisabled() {
+        TransactionTagIndexCache cache = new TransactionTagIndexCache(transactionTagRepository, 0);
+        when(transactionTagRepository.loadIndex(1L)).thenReturn(first);
+
+        cache.get(1L);
+        cache.get(1L);
+
+        verify(transactionTagRepository, times(2)).loadIndex(1L);
+    }
+
+    @Test
+    @DisplayName("Should evict again when the surrounding transaction completes")
+    void shouldEvictAgainOnCompletion() {
+        TransactionTagIndexCache cache = new TransactionTagIndexCache(transactionTagRepository, 2);
+        when(transactionTagRepository.loadIndex(1L)).thenReturn(first, second);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictOnCompletion(List.of(1L));
+        cache.get(1L);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(synchronizations).hasSize(1);
+        assertThat(cache.get(1L)).isSameAs(second);
+    }
+}
@@ -0,0 +1,119 @@
+package com.synapse.money.application.transaction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryingTransactionExecutor Tests")
+class RetryingTransactionExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RetryingTransactionExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new RetryingTransactionExecutor(transactionManager, 3, Duration.ofMillis(1), Duration.ofMillis(2));
+    }
+
+    @Test
+    @DisplayName("Should re-run the whole transaction after a lock failure")
+    void shouldRetryAfterLockFailure() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("deadlock detected");
+            }
+            return "posted";
+        });
+
+        assertThat(result).isEqualTo("posted");
+        assertThat(attempts).hasValue(3);
+        verify(transactionManager, times(3)).getTransaction(any());
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured number of attempts")
+    void shouldGiveUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("could not serialize access");
+        })).isInstanceOf(CannotAcquireLockException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should not retry non-transient failures")
+    void shouldNotRetryNonTransientFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.run(() -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("duplicate key");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should join an outer transaction without retrying")
+    void shouldJoinOuterTransaction() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThat(executor.execute(() -> 42)).isEqualTo(42);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should bound the backoff between half and all of the capped delay")
+    void shouldBoundBackoff() {
+        RetryingTransactionExecutor bounded = new RetryingTransactionExecutor(
+                transactionManager, 10, Duration.ofMillis(20), Duration.ofMillis(500));
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(bounded.backoffMillis(1)).isBetween(10L, 20L);
+            assertThat(bounded.backoffMillis(3)).isBetween(40L, 80L);
+            assertThat(bounded.backoffMillis(9)).isBetween(250L, 500L);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive attempt count")
+    void shouldRejectNonPositiveAttempts() {
+        assertThatThrownBy(() -> new RetryingTransactionExecutor(
+                transactionManager, 0, Duration.ofMillis(1), Duration.ofMillis(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
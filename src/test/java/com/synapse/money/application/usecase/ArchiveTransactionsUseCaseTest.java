@@ -0,0 +1,208 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.ArchiveSegmentRepository;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.TransactionRowConsumer;
+import com.synapse.money.domain.repository.TransactionRowSource;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveTransactionsUseCase Tests")
+class ArchiveTransactionsUseCaseTest {
+
+    private static final LocalDate FROM = LocalDate.of(2021, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2021, 12, 31);
+    private static final ArchiveSegment SEGMENT = new ArchiveSegment(7L, FROM, TO, "7/2021-01-01_2021-12-31.tseg", 3, 512L);
+
+    private static final List<Row> ROWS = List.of(
+            new Row(1L, 10L, null, 1_250L, LocalDate.of(2021, 3, 4), ETransactionType.EXPENSE, false),
+            new Row(2L, 10L, null, 10_000L, LocalDate.of(2021, 5, 1), ETransactionType.INCOME, false),
+            new Row(3L, 10L, 11L, 3_000L, LocalDate.of(2021, 9, 9), ETransactionType.TRANSFER, false)
+    );
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @Mock
+    private ArchiveSegmentRepository archiveSegmentRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @InjectMocks
+    private ArchiveTransactionsUseCase useCase;
+
+    @Test
+    @DisplayName("Should do nothing when the oldest remaining year is still retained")
+    void shouldSkipRetainedYears() {
+        when(archiveSegmentRepository.findArchivedThrough(7L)).thenReturn(Optional.of(LocalDate.of(2020, 12, 31)));
+        when(transactionRepository.findFirstTransactionDateAfter(7L, LocalDate.of(2020, 12, 31)))
+                .thenReturn(Optional.of(LocalDate.of(2023, 2, 1)));
+
+        assertThat(useCase.execute(7L, Year.of(2022))).isEmpty();
+
+        verifyNoInteractions(transactionArchive, balanceCheckpointRepository, monthlyTotalsRepository, accountRepository);
+    }
+
+    @Test
+    @DisplayName("Should archive the oldest year, fold its balance effect into the accounts and drop its rows")
+    void shouldArchiveOldestYear() throws IOException {
+        givenOldestYear2021();
+        givenArchivedRows();
+        when(transactionRepository.deleteArchived(7L, FROM, TO, List.of(1L, 2L, 3L))).thenReturn(3);
+
+        assertThat(useCase.execute(7L, Year.of(2022))).contains(SEGMENT);
+
+        InOrder order = inOrder(balanceCheckpointRepository, monthlyTotalsRepository, transactionArchive,
+                transactionRepository, accountRepository, archiveSegmentRepository);
+        order.verify(balanceCheckpointRepository).rebuildForUser(7L);
+        order.verify(monthlyTotalsRepository).rebuildForUser(7L);
+        order.verify(transactionArchive).write(eq(7L), eq(FROM), eq(TO), any());
+        order.verify(transactionRepository).deleteArchived(7L, FROM, TO, List.of(1L, 2L, 3L));
+        order.verify(accountRepository).applyArchivedDeltas(
+                Map.of(10L, new BigDecimal("57.50"), 11L, new BigDecimal("30.00")), TO);
+        order.verify(archiveSegmentRepository).save(SEGMENT);
+    }
+
+    @Test
+    @DisplayName("Should leave recurring templates in the table and out of the archived balance")
+    void shouldKeepRecurringTemplates() throws IOException {
+        givenOldestYear2021();
+        Row rent = new Row(4L, 10L, null, 90_000L, LocalDate.of(2021, 2, 1), ETransactionType.EXPENSE, true);
+        List<Long> written = givenArchivedRows(List.of(ROWS.get(0), rent));
+        when(transactionRepository.deleteArchived(7L, FROM, TO, List.of(1L))).thenReturn(1);
+
+        useCase.execute(7L, Year.of(2022));
+
+        assertThat(written).containsExactly(1L);
+        verify(accountRepository).applyArchivedDeltas(Map.of(10L, new BigDecimal("-12.50")), TO);
+    }
+
+    @Test
+    @DisplayName("Should roll back when rows changed between the copy and the delete")
+    void shouldFailWhenRowsChanged() throws IOException {
+        givenOldestYear2021();
+        givenArchivedRows();
+        when(transactionRepository.deleteArchived(7L, FROM, TO, List.of(1L, 2L, 3L))).thenReturn(2);
+
+        assertThatThrownBy(() -> useCase.execute(7L, Year.of(2022)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("wrote 3, deleted 2");
+
+        verify(accountRepository, never()).applyArchivedDeltas(anyMap(), any());
+        verify(archiveSegmentRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should surface a failed segment write unchecked")
+    void shouldWrapWriteFailure() throws IOException {
+        givenOldestYear2021();
+        when(transactionArchive.write(eq(7L), eq(FROM), eq(TO), any())).thenThrow(new IOException("disk full"));
+
+        assertThatThrownBy(() -> useCase.execute(7L, Year.of(2022)))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("disk full");
+
+        verify(transactionRepository, never()).deleteArchived(any(), any(), any(), any());
+    }
+
+    private void givenOldestYear2021() {
+        when(archiveSegmentRepository.findArchivedThrough(7L)).thenReturn(Optional.empty());
+        when(transactionRepository.findFirstTransactionDateAfter(7L, null)).thenReturn(Optional.of(LocalDate.of(2021, 3, 4)));
+    }
+
+    private void givenArchivedRows() throws IOException {
+        givenArchivedRows(ROWS);
+    }
+
+    private List<Long> givenArchivedRows(List<Row> rows) throws IOException {
+        doAnswer(invocation -> {
+            TransactionRowConsumer consumer = invocation.getArgument(3);
+            for (Row row : rows) {
+                consumer.accept(row);
+            }
+            return (long) rows.size();
+        }).when(transactionRepository).streamByUserAndDateRange(eq(7L), eq(FROM), eq(TO), any());
+        List<Long> written = new ArrayList<>();
+        when(transactionArchive.write(eq(7L), eq(FROM), eq(TO), any())).thenAnswer(invocation -> {
+            invocation.<TransactionRowSource>getArgument(3).forEach(row -> written.add(row.id()));
+            return SEGMENT;
+        });
+        return written;
+    }
+
+    private record Row(
+            long id,
+            long accountId,
+            Long transferAccountId,
+            long amountMinorUnits,
+            LocalDate transactionDate,
+            ETransactionType transactionType,
+            boolean recurring
+    ) implements TransactionRow {
+
+        @Override
+        public Long categoryId() {
+            return null;
+        }
+
+        @Override
+        public Long subcategoryId() {
+            return null;
+        }
+
+        @Override
+        public Long creditCardId() {
+            return null;
+        }
+
+        @Override
+        public String description() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.CashFlowForecastCache;
+import com.synapse.money.application.analytics.TransactionCubeCache;
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.response.BulkImportResponse;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.repository.ImportLookupRepository;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import com.synapse.money.domain.valueobject.TransactionFingerprint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkImportTransactionsUseCase Tests")
+class BulkImportTransactionsUseCaseTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ImportLookupRepository importLookupRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Mock
+    private TransactionCubeCache transactionCubeCache;
+
+    @Mock
+    private CashFlowForecastCache cashFlowForecastCache;
+
+    @Mock
+    private CategorizationEngine categorizationEngine;
+
+    @InjectMocks
+    private BulkImportTransactionsUseCase useCase;
+
+    @Test
+    @DisplayName("Should stream rows to the bulk loader and recompute balances once")
+    void shouldStreamRowsAndRecomputeBalancesOnce() {
+        String csv = """
+                     date,type,amount,account,transfer_account,description
+                     2024-01-05,income,100.00,Checking,,ACME PAYROLL
+                     2024-01-06,transfer,25.00,Checking,Savings,Payroll reserve
+                     """;
+        List<Transaction> loaded = new ArrayList<>();
+        List<Collection<Long>> recomputed = new ArrayList<>();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(importLookupRepository.loadForUser(USER_ID)).thenReturn(lookup());
+        when(categorizationEngine.forUser(USER_ID)).thenReturn(Categorizer.compile(
+                List.of(new CategorizationRule(1L, "payroll", 20L, null)), MerchantRuleSet.EMPTY, lookup()));
+        when(transactionRepository.findImportFingerprints(USER_ID, LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 6)))
+                .thenReturn(new FingerprintSet());
+        when(transactionRepository.bulkInsert(any())).thenAnswer(invocation -> {
+            Iterator<Transaction> rows = invocation.getArgument(0);
+            rows.forEachRemaining(loaded::add);
+            return (long) loaded.size();
+        });
+        when(accountRepository.recomputeCurrentBalances(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            recomputed.add(List.copyOf(ids));
+            return ids.size();
+        });
+
+        BulkImportResponse response = useCase.execute(USER_ID, stream(csv));
+
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.skippedDuplicates()).isZero();
+        assertThat(response.recomputedAccounts()).isEqualTo(2);
+        assertThat(response.elapsedMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(loaded).extracting(Transaction::getUserId).containsOnly(USER_ID);
+        assertThat(loaded).extracting(Transaction::getCategoryId).containsExactly(20L, null);
+        assertThat(loaded).extracting(Transaction::getImportFingerprint).doesNotContainNull();
+        assertThat(recomputed).hasSize(1);
+        assertThat(recomputed.getFirst()).containsExactlyInAnyOrder(10L, 11L);
+        verify(monthlyTotalsRepository).rebuildForUser(USER_ID);
+        verify(categoryBudgetRepository).reconcileUser(USER_ID, YearMonth.of(1970, 1));
+        verify(transactionCubeCache).evictOnCompletion(List.of(USER_ID));
+        verify(cashFlowForecastCache).evictOnCompletion(USER_ID);
+        verify(balanceCheckpointRepository).rebuildForAccounts(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should skip rows an earlier import already stored")
+    void shouldSkipPreviouslyImportedRows() {
+        String csv = """
+                     date,type,amount,account,description
+                     2024-01-05,expense,4.50,Checking,Coffee
+                     2024-01-05,expense,4.50,Checking,Coffee
+                     2024-01-07,expense,30.00,Checking,Books
+                     """;
+        FingerprintSet stored = new FingerprintSet();
+        stored.add(TransactionFingerprint.base(
+                10L, LocalDate.of(2024, 1, 5), ETransactionType.EXPENSE, new BigDecimal("4.50"), "COFFEE"));
+        List<Transaction> loaded = new ArrayList<>();
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(importLookupRepository.loadForUser(USER_ID)).thenReturn(lookup());
+        when(categorizationEngine.forUser(USER_ID)).thenReturn(categorizer());
+        when(transactionRepository.findImportFingerprints(USER_ID, LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 7)))
+                .thenReturn(stored);
+        when(transactionRepository.bulkInsert(any())).thenAnswer(invocation -> {
+            Iterator<Transaction> rows = invocation.getArgument(0);
+            rows.forEachRemaining(loaded::add);
+            return (long) loaded.size();
+        });
+
+        BulkImportResponse response = useCase.execute(USER_ID, stream(csv));
+
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.skippedDuplicates()).isEqualTo(1);
+        assertThat(loaded).extracting(Transaction::getDescription).containsExactly("Coffee", "Books");
+    }
+
+    @Test
+    @DisplayName("Should throw when user does not exist")
+    void shouldThrowWhenUserDoesNotExist() {
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(USER_ID, stream("")))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found: 1");
+
+        verifyNoInteractions(importLookupRepository, transactionRepository, accountRepository, monthlyTotalsRepository,
+                balanceCheckpointRepository, categoryBudgetRepository, transactionCubeCache, cashFlowForecastCache,
+                categorizationEngine);
+    }
+
+    @Test
+    @DisplayName("Should not recompute balances when a row is invalid")
+    void shouldNotRecomputeBalancesWhenRowIsInvalid() {
+        String csv = """
+                     date,type,amount,account
+                     2024-01-05,expense,abc,Checking
+                     """;
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(importLookupRepository.loadForUser(USER_ID)).thenReturn(lookup());
+        when(categorizationEngine.forUser(USER_ID)).thenReturn(categorizer());
+        when(transactionRepository.findImportFingerprints(USER_ID, LocalDate.of(2024, 1, 5), LocalDate.of(2024, 1, 5)))
+                .thenReturn(new FingerprintSet());
+        when(transactionRepository.bulkInsert(any())).thenAnswer(invocation -> {
+            Iterator<Transaction> rows = invocation.getArgument(0);
+            rows.forEachRemaining(row -> {});
+            return 0L;
+        });
+
+        assertThatThrownBy(() -> useCase.execute(USER_ID, stream(csv)))
+                .isInstanceOf(InvalidTransactionImportException.class)
+                .hasMessage("Line 2: Invalid amount: abc");
+
+        verify(accountRepository, never()).recomputeCurrentBalances(anyCollection());
+        verifyNoInteractions(monthlyTotalsRepository, balanceCheckpointRepository, categoryBudgetRepository,
+                transactionCubeCache, cashFlowForecastCache);
+    }
+
+    @Test
+    @DisplayName("Should wrap I/O failures reading the upload")
+    void shouldWrapIoFailures() {
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("broken pipe");
+            }
+        };
+
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(importLookupRepository.loadForUser(USER_ID)).thenReturn(lookup());
+        when(categorizationEngine.forUser(USER_ID)).thenReturn(categorizer());
+
+        assertThatThrownBy(() -> useCase.execute(USER_ID, broken))
+                .isInstanceOf(UncheckedIOException.class)
+                .hasRootCauseMessage("broken pipe");
+    }
+
+    private ImportLookup lookup() {
+        return new ImportLookup(Map.of("checking", 10L, "savings", 11L), Map.of(), Map.of(), Map.of());
+    }
+
+    private Categorizer categorizer() {
+        return Categorizer.compile(List.of(), MerchantRuleSet.EMPTY, lookup());
+    }
+
+    private InputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
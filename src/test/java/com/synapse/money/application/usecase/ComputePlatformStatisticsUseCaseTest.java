@@ -0,0 +1,127 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.RowRateLimiter;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.PlatformStatisticsRepository;
+import com.synapse.money.domain.repository.PlatformTransactionConsumer;
+import com.synapse.money.domain.valueobject.PlatformStatisticsAccumulator;
+import com.synapse.money.domain.valueobject.UserIdRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ComputePlatformStatisticsUseCase Tests")
+class ComputePlatformStatisticsUseCaseTest {
+
+    private static final LocalDate WEEK = LocalDate.of(2024, 3, 4);
+    private static final UserIdRange RANGE = new UserIdRange(2, 100, 199);
+
+    @Mock
+    private PlatformStatisticsRepository platformStatisticsRepository;
+
+    @InjectMocks
+    private ComputePlatformStatisticsUseCase useCase;
+
+    @Test
+    @DisplayName("Should delegate week checks and range preparation")
+    void shouldDelegateWeekChecksAndPreparation() {
+        when(platformStatisticsRepository.existsWeek(WEEK)).thenReturn(true);
+        when(platformStatisticsRepository.preparePendingRanges(WEEK, 8)).thenReturn(List.of(RANGE));
+
+        assertThat(useCase.isComputed(WEEK)).isTrue();
+        assertThat(useCase.prepare(WEEK, 8)).containsExactly(RANGE);
+    }
+
+    @Test
+    @DisplayName("Should scan one week of the range, add balances and store the partial")
+    void shouldComputeAndStoreRange() throws InterruptedException {
+        RowRateLimiter rateLimiter = mock(RowRateLimiter.class);
+        doAnswer(invocation -> {
+            PlatformTransactionConsumer consumer = invocation.getArgument(3);
+            for (int i = 0; i < ComputePlatformStatisticsUseCase.ROWS_PER_PERMIT + 1; i++) {
+                consumer.accept(100L + i / 10, ETransactionType.EXPENSE, 100, 3L);
+            }
+            return (long) ComputePlatformStatisticsUseCase.ROWS_PER_PERMIT + 1;
+        }).when(platformStatisticsRepository).streamTransactions(eq(RANGE), eq(WEEK), eq(WEEK.plusDays(7)), any());
+
+        PlatformStatisticsAccumulator result = useCase.computeRange(WEEK, RANGE, rateLimiter);
+
+        assertThat(result.activeUsers()).isEqualTo(101);
+        assertThat(result.transactionCount(ETransactionType.EXPENSE)).isEqualTo(1_001);
+        verify(rateLimiter, times(1)).acquire(ComputePlatformStatisticsUseCase.ROWS_PER_PERMIT);
+        verify(platformStatisticsRepository).addAccountBalances(RANGE, result);
+        verify(platformStatisticsRepository).saveRange(WEEK, RANGE, result);
+    }
+
+    @Test
+    @DisplayName("Should cancel the scan and keep the interrupt when throttling is interrupted")
+    void shouldCancelWhenInterrupted() throws InterruptedException {
+        RowRateLimiter rateLimiter = mock(RowRateLimiter.class);
+        doThrow(new InterruptedException()).when(rateLimiter).acquire(ComputePlatformStatisticsUseCase.ROWS_PER_PERMIT);
+        doAnswer(invocation -> {
+            PlatformTransactionConsumer consumer = invocation.getArgument(3);
+            for (int i = 0; i < ComputePlatformStatisticsUseCase.ROWS_PER_PERMIT; i++) {
+                consumer.accept(1L, ETransactionType.INCOME, 100, null);
+            }
+            return 0L;
+        }).when(platformStatisticsRepository).streamTransactions(eq(RANGE), eq(WEEK), eq(WEEK.plusDays(7)), any());
+
+        try {
+            assertThatThrownBy(() -> useCase.computeRange(WEEK, RANGE, rateLimiter))
+                    .isInstanceOf(CancellationException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        verify(platformStatisticsRepository, never()).saveRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should publish the merged week once every range is stored")
+    void shouldPublishMergedWeek() {
+        PlatformStatisticsAccumulator first = new PlatformStatisticsAccumulator();
+        first.addTransaction(1L, ETransactionType.EXPENSE, 1_000, null);
+        PlatformStatisticsAccumulator second = new PlatformStatisticsAccumulator();
+        second.addTransaction(9L, ETransactionType.EXPENSE, 500, null);
+        when(platformStatisticsRepository.countPendingRanges(WEEK)).thenReturn(0);
+        when(platformStatisticsRepository.findCompletedRanges(WEEK)).thenReturn(List.of(first, second));
+        ArgumentCaptor<PlatformStatisticsAccumulator> totals = ArgumentCaptor.forClass(PlatformStatisticsAccumulator.class);
+
+        assertThat(useCase.complete(WEEK)).isTrue();
+
+        verify(platformStatisticsRepository).saveWeek(eq(WEEK), totals.capture());
+        assertThat(totals.getValue().activeUsers()).isEqualTo(2);
+        assertThat(totals.getValue().transactionCount(ETransactionType.EXPENSE)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not publish while ranges are still pending")
+    void shouldNotPublishWhilePending() {
+        when(platformStatisticsRepository.countPendingRanges(WEEK)).thenReturn(3);
+
+        assertThat(useCase.complete(WEEK)).isFalse();
+
+        verify(platformStatisticsRepository, never()).saveWeek(any(), any());
+    }
+}
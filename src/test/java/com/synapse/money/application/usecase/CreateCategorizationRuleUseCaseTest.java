@@ -0,0 +1,85 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.request.CategorizationRuleRequest;
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.application.mapper.CategorizationRuleResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidCategorizationRuleException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateCategorizationRuleUseCase Tests")
+class CreateCategorizationRuleUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+
+    @Mock
+    private CategorizationEngine categorizationEngine;
+
+    @Spy
+    private CategorizationRuleResponseMapper categorizationRuleResponseMapper;
+
+    @InjectMocks
+    private CreateCategorizationRuleUseCase useCase;
+
+    @Test
+    @DisplayName("Should save the trimmed pattern and drop the user's compiled rules")
+    void shouldSaveAndEvict() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categorizationRuleRepository.save(1L, "Uber *", 20L, 31L))
+                .thenReturn(Optional.of(new CategorizationRule(5L, "Uber *", 20L, 31L)));
+
+        CategorizationRuleResponse response = useCase.execute(EMAIL, new CategorizationRuleRequest(" Uber * ", 20L, 31L));
+
+        assertThat(response).isEqualTo(new CategorizationRuleResponse(5L, "Uber *", 20L, 31L));
+        verify(categorizationEngine).evict(1L);
+    }
+
+    @Test
+    @DisplayName("Should reject a pattern without letters or digits")
+    void shouldRejectPatternWithoutLettersOrDigits() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new CategorizationRuleRequest("*-*", 20L, null)))
+                .isInstanceOf(InvalidCategorizationRuleException.class)
+                .hasMessage("Pattern must contain a letter or digit");
+        verifyNoInteractions(categorizationRuleRepository, categorizationEngine);
+    }
+
+    @Test
+    @DisplayName("Should report a category or subcategory the user does not own")
+    void shouldRejectForeignCategory() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categorizationRuleRepository.save(1L, "uber", 20L, null)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new CategorizationRuleRequest("uber", 20L, null)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found");
+        verifyNoInteractions(categorizationEngine);
+    }
+}
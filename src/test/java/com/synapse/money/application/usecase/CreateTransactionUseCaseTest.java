@@ -0,0 +1,183 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.mapper.TransactionRequestMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidTransactionException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateTransactionUseCase Tests")
+class CreateTransactionUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionReferenceRepository transactionReferenceRepository;
+
+    @Mock
+    private TransactionChangeDispatcher transactionChangeDispatcher;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @Mock
+    private CategorizationEngine categorizationEngine;
+
+    private CreateTransactionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        useCase = new CreateTransactionUseCase(
+                userRepository,
+                accountRepository,
+                transactionRepository,
+                transactionReferenceRepository,
+                transactionChangeDispatcher,
+                transactionExecutor,
+                categorizationEngine,
+                new TransactionRequestMapper(),
+                new TransactionResponseMapper()
+        );
+    }
+
+    @Test
+    @DisplayName("Should save the transaction and dispatch the change")
+    void shouldSaveAndDispatchChange() {
+        TransactionRequest request = request(ETransactionType.TRANSFER, 20L);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L, 20L))).thenReturn(true);
+        when(transactionRepository.save(any())).thenAnswer(invocation ->
+                invocation.<Transaction>getArgument(0).toBuilder().id(99L).build());
+
+        TransactionResponse response = useCase.execute(EMAIL, request);
+
+        assertThat(response.id()).isEqualTo(99L);
+        assertThat(response.transferAccountId()).isEqualTo(20L);
+        assertThat(response.categoryId()).isNull();
+        verify(transactionChangeDispatcher).dispatch(any(TransactionChange.class));
+        verifyNoInteractions(categorizationEngine);
+    }
+
+    @Test
+    @DisplayName("Should categorize an uncategorized transaction from its description")
+    void shouldCategorizeFromDescription() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L))).thenReturn(true);
+        when(categorizationEngine.forUser(USER_ID)).thenReturn(Categorizer.compile(
+                List.of(new CategorizationRule(1L, "groceries", 30L, 31L)),
+                MerchantRuleSet.EMPTY,
+                new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of())
+        ));
+        when(transactionRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionResponse response = useCase.execute(EMAIL, request(ETransactionType.EXPENSE, null));
+
+        assertThat(response.categoryId()).isEqualTo(30L);
+        assertThat(response.subcategoryId()).isEqualTo(31L);
+    }
+
+    @Test
+    @DisplayName("Should reject accounts the user does not own")
+    void shouldRejectForeignAccounts() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L))).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, request(ETransactionType.EXPENSE, null)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Account not found");
+
+        verifyNoInteractions(transactionRepository, transactionChangeDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should reject a category or credit card the user does not own")
+    void shouldRejectForeignReferences() {
+        TransactionRequest request = new TransactionRequest(
+                10L, 30L, 31L, 40L, null,
+                new BigDecimal("25.00"), "Groceries", LocalDate.of(2024, 3, 1),
+                ETransactionType.EXPENSE, false
+        );
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L))).thenReturn(true);
+        when(transactionReferenceRepository.findUnowned(eq(USER_ID), any())).thenReturn(Set.of(0));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, request))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category or credit card not found");
+
+        verifyNoInteractions(transactionRepository, transactionChangeDispatcher, categorizationEngine);
+    }
+
+    @Test
+    @DisplayName("Should reject an inconsistent transfer before touching the database")
+    void shouldRejectInconsistentTransfer() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, request(ETransactionType.TRANSFER, null)))
+                .isInstanceOf(InvalidTransactionException.class);
+
+        verifyNoInteractions(accountRepository, transactionRepository, transactionChangeDispatcher);
+    }
+
+    private static TransactionRequest request(
+            ETransactionType type,
+            Long transferAccountId) {
+        return new TransactionRequest(
+                10L, null, null, null, transferAccountId,
+                new BigDecimal("25.00"), "Groceries", LocalDate.of(2024, 3, 1),
+                type, false
+        );
+    }
+}
@@ -0,0 +1,239 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.BatchTransactionItemResponse;
+import com.synapse.money.application.dto.response.BatchTransactionResponse;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.mapper.TransactionRequestMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateTransactionsBatchUseCase Tests")
+class CreateTransactionsBatchUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+    private static final int BATCH_SIZE = 20;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionReferenceRepository transactionReferenceRepository;
+
+    @Mock
+    private TransactionChangeDispatcher transactionChangeDispatcher;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @Mock
+    private CategorizationEngine categorizationEngine;
+
+    private CreateTransactionsBatchUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        useCase = new CreateTransactionsBatchUseCase(
+                userRepository,
+                accountRepository,
+                transactionRepository,
+                transactionReferenceRepository,
+                transactionChangeDispatcher,
+                transactionExecutor,
+                categorizationEngine,
+                new TransactionRequestMapper(),
+                new TransactionResponseMapper(),
+                BATCH_SIZE
+        );
+    }
+
+    @Test
+    @DisplayName("Should insert every valid item in one batch and dispatch the changes together")
+    @SuppressWarnings("unchecked")
+    void shouldInsertValidItemsInOneBatch() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.findOwnedIds(USER_ID, Set.of(10L, 20L))).thenReturn(Set.of(10L, 20L));
+        givenSaveAssignsIds();
+
+        BatchTransactionResponse response = useCase.execute(EMAIL, List.of(
+                request(ETransactionType.TRANSFER, 10L, 20L, 5L),
+                request(ETransactionType.EXPENSE, 20L, null, 6L)
+        ));
+
+        assertThat(response.created()).isEqualTo(2);
+        assertThat(response.failed()).isZero();
+        assertThat(response.items()).extracting(BatchTransactionItemResponse::index).containsExactly(0, 1);
+        assertThat(response.items()).extracting(item -> item.transaction().id()).containsExactly(100L, 101L);
+        ArgumentCaptor<List<TransactionChange>> changes = ArgumentCaptor.forClass(List.class);
+        verify(transactionChangeDispatcher).dispatchAll(changes.capture());
+        assertThat(changes.getValue()).hasSize(2).allMatch(change -> change.before() == null);
+        verifyNoInteractions(categorizationEngine);
+    }
+
+    @Test
+    @DisplayName("Should report invalid items and foreign accounts by index and insert the rest")
+    @SuppressWarnings("unchecked")
+    void shouldReportRejectedItemsByIndex() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.findOwnedIds(USER_ID, Set.of(10L, 30L))).thenReturn(Set.of(10L));
+        givenSaveAssignsIds();
+
+        BatchTransactionResponse response = useCase.execute(EMAIL, List.of(
+                request(ETransactionType.TRANSFER, 10L, null, 5L),
+                request(ETransactionType.EXPENSE, 30L, null, 5L),
+                request(ETransactionType.EXPENSE, 10L, null, 5L)
+        ));
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.items().get(0).error()).isEqualTo("Transfer requires a destination account");
+        assertThat(response.items().get(1).error()).isEqualTo("Account not found");
+        assertThat(response.items().get(2).transaction().id()).isEqualTo(100L);
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(saved.capture(), eq(BATCH_SIZE));
+        assertThat(saved.getValue()).extracting(Transaction::getAccountId).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Should reject items with a foreign category or card by index instead of failing the batch")
+    @SuppressWarnings("unchecked")
+    void shouldRejectForeignReferencesByIndex() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.findOwnedIds(USER_ID, Set.of(10L))).thenReturn(Set.of(10L));
+        when(transactionReferenceRepository.findUnowned(eq(USER_ID), any())).thenReturn(Set.of(0));
+        givenSaveAssignsIds();
+
+        BatchTransactionResponse response = useCase.execute(EMAIL, List.of(
+                request(ETransactionType.TRANSFER, 10L, null, 5L),
+                request(ETransactionType.EXPENSE, 10L, null, 5L),
+                request(ETransactionType.EXPENSE, 10L, null, 7L)
+        ));
+
+        assertThat(response.created()).isEqualTo(1);
+        assertThat(response.items().get(0).error()).isEqualTo("Transfer requires a destination account");
+        assertThat(response.items().get(1).error()).isEqualTo("Category or credit card not found");
+        assertThat(response.items().get(2).transaction().categoryId()).isEqualTo(7L);
+        ArgumentCaptor<List<Transaction>> checked = ArgumentCaptor.forClass(List.class);
+        verify(transactionReferenceRepository).findUnowned(eq(USER_ID), checked.capture());
+        assertThat(checked.getValue()).extracting(Transaction::getCategoryId).containsExactly(5L, 7L);
+        ArgumentCaptor<List<Transaction>> saved = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).saveAll(saved.capture(), eq(BATCH_SIZE));
+        assertThat(saved.getValue()).extracting(Transaction::getCategoryId).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("Should categorize uncategorized items with one compiled rule set")
+    void shouldCategorizeWithOneRuleSet() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.findOwnedIds(USER_ID, Set.of(10L))).thenReturn(Set.of(10L));
+        when(categorizationEngine.forUser(USER_ID)).thenReturn(Categorizer.compile(
+                List.of(new CategorizationRule(1L, "groceries", 30L, 31L)),
+                MerchantRuleSet.EMPTY,
+                new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of())
+        ));
+        givenSaveAssignsIds();
+
+        BatchTransactionResponse response = useCase.execute(EMAIL, List.of(
+                request(ETransactionType.EXPENSE, 10L, null, null),
+                request(ETransactionType.EXPENSE, 10L, null, null)
+        ));
+
+        assertThat(response.items()).extracting(item -> item.transaction().categoryId()).containsExactly(30L, 30L);
+        verify(categorizationEngine).forUser(USER_ID);
+    }
+
+    @Test
+    @DisplayName("Should not open a transaction when no item is valid")
+    void shouldSkipInsertWhenNothingIsValid() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.findOwnedIds(USER_ID, Set.of(30L))).thenReturn(Set.of());
+
+        BatchTransactionResponse response = useCase.execute(EMAIL, List.of(request(ETransactionType.EXPENSE, 30L, null, 5L)));
+
+        assertThat(response.created()).isZero();
+        assertThat(response.failed()).isEqualTo(1);
+        verifyNoInteractions(transactionExecutor, transactionRepository, transactionChangeDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should throw when the user does not exist")
+    void shouldThrowWhenUserMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, List.of(request(ETransactionType.EXPENSE, 10L, null, 5L))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+
+        verifyNoInteractions(accountRepository, transactionRepository);
+    }
+
+    private void givenSaveAssignsIds() {
+        AtomicLong ids = new AtomicLong(100L);
+        when(transactionRepository.saveAll(any(), anyInt())).thenAnswer(invocation -> invocation.<List<Transaction>>getArgument(0)
+                .stream()
+                .map(transaction -> transaction.toBuilder().id(ids.getAndIncrement()).build())
+                .toList());
+    }
+
+    private static TransactionRequest request(
+            ETransactionType type,
+            Long accountId,
+            Long transferAccountId,
+            Long categoryId) {
+        return new TransactionRequest(
+                accountId, type == ETransactionType.TRANSFER ? null : categoryId, null, null, transferAccountId,
+                new BigDecimal("25.00"), "Groceries", LocalDate.of(2024, 3, 1),
+                type, false
+        );
+    }
+}
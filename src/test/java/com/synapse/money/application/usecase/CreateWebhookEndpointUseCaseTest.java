@@ -0,0 +1,92 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.WebhookEndpointRequest;
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.application.mapper.WebhookEndpointResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import com.synapse.money.domain.service.WebhookUrlVerifier;
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateWebhookEndpointUseCase Tests")
+class CreateWebhookEndpointUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final String URL = "https://example.com/hook";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WebhookEndpointRepository webhookEndpointRepository;
+
+    @Spy
+    private WebhookEndpointResponseMapper webhookEndpointResponseMapper;
+
+    @Mock
+    private WebhookUrlVerifier webhookUrlVerifier;
+
+    @InjectMocks
+    private CreateWebhookEndpointUseCase useCase;
+
+    @Test
+    @DisplayName("Should register the endpoint with a fresh random signing secret")
+    void shouldRegisterWithRandomSecret() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        ArgumentCaptor<String> secret = ArgumentCaptor.forClass(String.class);
+        when(webhookEndpointRepository.save(eq(1L), eq(URL), secret.capture()))
+                .thenAnswer(invocation -> new WebhookEndpoint(3L, 1L, URL, invocation.getArgument(2), CREATED_AT));
+
+        WebhookEndpointSecretResponse response = useCase.execute(EMAIL, new WebhookEndpointRequest(URL));
+
+        assertThat(secret.getValue()).hasSize(64).matches("[0-9a-f]+");
+        assertThat(response).isEqualTo(new WebhookEndpointSecretResponse(3L, URL, secret.getValue(), CREATED_AT));
+        verify(webhookUrlVerifier).verify(URL);
+    }
+
+    @Test
+    @DisplayName("Should not register a URL that fails verification")
+    void shouldRejectUnverifiedUrl() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        doThrow(new InvalidWebhookUrlException("Webhook host example.com resolves to a non-public address"))
+                .when(webhookUrlVerifier).verify(URL);
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new WebhookEndpointRequest(URL)))
+                .isInstanceOf(InvalidWebhookUrlException.class);
+        verifyNoInteractions(webhookEndpointRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void shouldRejectUnknownUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new WebhookEndpointRequest(URL)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(webhookEndpointRepository);
+    }
+}
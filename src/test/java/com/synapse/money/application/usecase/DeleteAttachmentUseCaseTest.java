@@ -0,0 +1,81 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteAttachmentUseCase Tests")
+class DeleteAttachmentUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Attachment ATTACHMENT = new Attachment(
+            3L, 1L, 99L, "receipt.jpg", "image/jpeg", 2048L, "a".repeat(64), "1/key", LocalDateTime.of(2024, 3, 1, 9, 0)
+    );
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentStore attachmentStore;
+
+    @InjectMocks
+    private DeleteAttachmentUseCase useCase;
+
+    @Test
+    @DisplayName("Should delete the row and then the content")
+    void shouldDeleteRowAndContent() throws IOException {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(attachmentRepository.delete(3L, 1L, 99L)).thenReturn(Optional.of(ATTACHMENT));
+
+        useCase.execute(EMAIL, 99L, 3L);
+
+        verify(attachmentStore).delete("1/key");
+    }
+
+    @Test
+    @DisplayName("Should not fail when only the content cannot be deleted")
+    void shouldTolerateContentDeleteFailure() throws IOException {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(attachmentRepository.delete(3L, 1L, 99L)).thenReturn(Optional.of(ATTACHMENT));
+        doThrow(new IOException("disk error")).when(attachmentStore).delete("1/key");
+
+        assertThatCode(() -> useCase.execute(EMAIL, 99L, 3L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should throw when the attachment is not the user's")
+    void shouldThrowWhenAttachmentMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(attachmentRepository.delete(3L, 1L, 99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, 3L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Attachment not found");
+
+        verifyNoInteractions(attachmentStore);
+    }
+}
@@ -0,0 +1,62 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteCategorizationRuleUseCase Tests")
+class DeleteCategorizationRuleUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+
+    @Mock
+    private CategorizationEngine categorizationEngine;
+
+    @InjectMocks
+    private DeleteCategorizationRuleUseCase useCase;
+
+    @Test
+    @DisplayName("Should delete the user's rule and drop their compiled rules")
+    void shouldDeleteAndEvict() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categorizationRuleRepository.deleteByIdAndUserId(5L, 1L)).thenReturn(true);
+
+        useCase.execute(EMAIL, 5L);
+
+        verify(categorizationEngine).evict(1L);
+    }
+
+    @Test
+    @DisplayName("Should report a rule that is missing or belongs to someone else")
+    void shouldRejectForeignRule() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categorizationRuleRepository.deleteByIdAndUserId(5L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 5L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Categorization rule not found");
+        verifyNoInteractions(categorizationEngine);
+    }
+}
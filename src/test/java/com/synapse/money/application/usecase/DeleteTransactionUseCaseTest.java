@@ -0,0 +1,85 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteTransactionUseCase Tests")
+class DeleteTransactionUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionChangeDispatcher transactionChangeDispatcher;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @InjectMocks
+    private DeleteTransactionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(transactionExecutor).run(any());
+    }
+
+    @Test
+    @DisplayName("Should delete the row and dispatch its last state")
+    void shouldDeleteAndDispatchLastState() {
+        Transaction transaction = Transaction.builder().id(5L).userId(USER_ID).build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(transactionRepository.findByIdAndUserIdForUpdate(5L, USER_ID)).thenReturn(Optional.of(transaction));
+
+        useCase.execute(EMAIL, 5L);
+
+        verify(transactionRepository).delete(transaction);
+        verify(transactionChangeDispatcher).dispatch(TransactionChange.deleted(transaction));
+    }
+
+    @Test
+    @DisplayName("Should throw when the transaction does not belong to the user")
+    void shouldThrowWhenTransactionNotFound() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(transactionRepository.findByIdAndUserIdForUpdate(5L, USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 5L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Transaction not found");
+
+        verify(transactionRepository, never()).delete(any());
+        verifyNoInteractions(transactionChangeDispatcher);
+    }
+}
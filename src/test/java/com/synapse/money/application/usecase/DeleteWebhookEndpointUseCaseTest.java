@@ -0,0 +1,54 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteWebhookEndpointUseCase Tests")
+class DeleteWebhookEndpointUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WebhookEndpointRepository webhookEndpointRepository;
+
+    @InjectMocks
+    private DeleteWebhookEndpointUseCase useCase;
+
+    @Test
+    @DisplayName("Should delete the user's endpoint")
+    void shouldDeleteEndpoint() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(webhookEndpointRepository.deleteByIdAndUserId(3L, 1L)).thenReturn(true);
+
+        assertThatCode(() -> useCase.execute(EMAIL, 3L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should report an endpoint that is missing or belongs to someone else")
+    void shouldRejectForeignEndpoint() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(webhookEndpointRepository.deleteByIdAndUserId(3L, 1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 3L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Webhook endpoint not found");
+    }
+}
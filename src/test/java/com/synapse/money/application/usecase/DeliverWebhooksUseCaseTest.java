@@ -0,0 +1,138 @@
+package com.synapse.money.application.usecase;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synapse.money.domain.exception.WebhookDeliveryException;
+import com.synapse.money.domain.repository.WebhookOutboxRepository;
+import com.synapse.money.domain.service.WebhookSender;
+import com.synapse.money.domain.valueobject.WebhookBatch;
+import com.synapse.money.domain.valueobject.WebhookDelivery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeliverWebhooksUseCase Tests")
+class DeliverWebhooksUseCaseTest {
+
+    private static final String URL = "https://example.com/hook";
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final Duration OPEN_FOR = Duration.ofMinutes(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private WebhookOutboxRepository webhookOutboxRepository;
+
+    @Mock
+    private WebhookSender webhookSender;
+
+    private DeliverWebhooksUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new DeliverWebhooksUseCase(
+                webhookOutboxRepository, webhookSender, objectMapper, 2, LEASE, INITIAL_BACKOFF, MAX_BACKOFF, 12, 5, OPEN_FOR
+        );
+    }
+
+    @Test
+    @DisplayName("Should claim due rows with the lease and group them into bounded requests")
+    void shouldClaimAndGroup() {
+        when(webhookOutboxRepository.claimDue(500, LEASE)).thenReturn(List.of(
+                delivery(1), delivery(2), delivery(3)
+        ));
+
+        List<WebhookBatch> batches = useCase.claimDue(500);
+
+        assertThat(batches).singleElement().satisfies(batch -> {
+            assertThat(batch.requests()).hasSize(2);
+            assertThat(batch.size()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    @DisplayName("Should send every request in order and close the endpoint's circuit")
+    void shouldDeliverInOrder() throws Exception {
+        WebhookBatch batch = WebhookBatch.groupByEndpoint(List.of(delivery(1), delivery(2), delivery(3)), 2).getFirst();
+
+        int delivered = useCase.deliver(batch);
+
+        assertThat(delivered).isEqualTo(3);
+        InOrder order = inOrder(webhookSender, webhookOutboxRepository);
+        order.verify(webhookSender).send(eq(URL), eq("secret"), anyString());
+        order.verify(webhookOutboxRepository).markDelivered(List.of(1L, 2L));
+        order.verify(webhookSender).send(eq(URL), eq("secret"), anyString());
+        order.verify(webhookOutboxRepository).markDelivered(List.of(3L));
+        order.verify(webhookOutboxRepository).recordEndpointSuccess(7L);
+    }
+
+    @Test
+    @DisplayName("Should stop at the first failure and reschedule everything not yet delivered")
+    void shouldRescheduleRemainderOnFailure() {
+        WebhookBatch batch = WebhookBatch.groupByEndpoint(
+                List.of(delivery(1), delivery(2), delivery(3), delivery(4), delivery(5)), 2).getFirst();
+        doNothing()
+                .doThrow(new WebhookDeliveryException("Webhook endpoint answered 503"))
+                .when(webhookSender).send(eq(URL), eq("secret"), anyString());
+
+        int delivered = useCase.deliver(batch);
+
+        assertThat(delivered).isEqualTo(2);
+        verify(webhookSender, times(2)).send(eq(URL), eq("secret"), anyString());
+        verify(webhookOutboxRepository).markDelivered(List.of(1L, 2L));
+        verify(webhookOutboxRepository).markFailed(List.of(3L, 4L, 5L), INITIAL_BACKOFF, MAX_BACKOFF, 12);
+        verify(webhookOutboxRepository).recordEndpointFailure(7L, 5, OPEN_FOR);
+        verify(webhookOutboxRepository, never()).recordEndpointSuccess(7L);
+    }
+
+    @Test
+    @DisplayName("Should not mark anything delivered when the first request fails")
+    void shouldMarkNothingDeliveredOnFirstFailure() {
+        WebhookBatch batch = WebhookBatch.groupByEndpoint(List.of(delivery(1)), 2).getFirst();
+        doThrow(new WebhookDeliveryException("Could not reach " + URL))
+                .when(webhookSender).send(eq(URL), eq("secret"), anyString());
+
+        assertThat(useCase.deliver(batch)).isZero();
+
+        verify(webhookOutboxRepository, never()).markDelivered(anyList());
+        verify(webhookOutboxRepository).markFailed(List.of(1L), INITIAL_BACKOFF, MAX_BACKOFF, 12);
+    }
+
+    @Test
+    @DisplayName("Should embed stored payloads as JSON with the event id and type")
+    void shouldEmbedPayloads() throws Exception {
+        JsonNode body = objectMapper.readTree(useCase.toBody(List.of(delivery(1), delivery(2))));
+
+        assertThat(body.get("events")).hasSize(2);
+        JsonNode first = body.get("events").get(0);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("type").asText()).isEqualTo("transaction.created");
+        assertThat(first.get("data").get("amount").decimalValue()).isEqualByComparingTo("12.50");
+    }
+
+    private static WebhookDelivery delivery(long id) {
+        return new WebhookDelivery(id, 7L, URL, "secret", "transaction.created", "{\"id\":" + id + ",\"amount\":12.50}", 0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.export.TransactionExport;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EExportFormat;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportTransactionsUseCase Tests")
+class ExportTransactionsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @InjectMocks
+    private ExportTransactionsUseCase useCase;
+
+    @Test
+    @DisplayName("Should defer streaming until the body is written")
+    void shouldDeferStreamingUntilBodyIsWritten() throws IOException {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+
+        TransactionExport export = useCase.execute(EMAIL, FROM, TO, EExportFormat.CSV);
+
+        assertThat(export.format()).isEqualTo(EExportFormat.CSV);
+        assertThat(export.fileName()).isEqualTo("transactions-2024-01-01-2024-12-31.csv");
+        verifyNoInteractions(transactionRepository);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.body().writeTo(out);
+
+        verify(transactionRepository).streamByUserAndDateRange(eq(1L), eq(FROM), eq(TO), any());
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("id,date,type");
+    }
+
+    @Test
+    @DisplayName("Should reject inverted date range")
+    void shouldRejectInvertedDateRange() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, TO, FROM, EExportFormat.NDJSON))
+                .isInstanceOf(InvalidDateRangeException.class)
+                .hasMessage("'from' must not be after 'to'");
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw when user does not exist")
+    void shouldThrowWhenUserDoesNotExist() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, FROM, TO, EExportFormat.CSV))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.repository.TransactionPartitionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExtendTransactionPartitionsUseCase Tests")
+class ExtendTransactionPartitionsUseCaseTest {
+
+    @Mock
+    private TransactionPartitionRepository transactionPartitionRepository;
+
+    @InjectMocks
+    private ExtendTransactionPartitionsUseCase useCase;
+
+    @Test
+    @DisplayName("Should create the missing partitions through the given month")
+    void shouldCreateMissingPartitions() {
+        when(transactionPartitionRepository.createMonthlyPartitionsThrough(YearMonth.of(2025, 6))).thenReturn(2);
+
+        assertThat(useCase.execute(YearMonth.of(2025, 6))).isEqualTo(2);
+    }
+}
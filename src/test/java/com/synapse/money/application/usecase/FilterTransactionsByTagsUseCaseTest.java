@@ -0,0 +1,108 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.tag.TransactionTagIndexCache;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidSearchQueryException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionIdCursor;
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FilterTransactionsByTagsUseCase Tests")
+class FilterTransactionsByTagsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+
+    private static final TransactionTagIndex INDEX = TransactionTagIndex.builder()
+            .add(10L, "travel")
+            .add(10L, "work")
+            .add(11L, "travel")
+            .add(11L, "work")
+            .add(11L, "reimbursed")
+            .add(12L, "travel")
+            .add(12L, "work")
+            .add(13L, "travel")
+            .add(13L, "work")
+            .build();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionTagIndexCache transactionTagIndexCache;
+
+    private FilterTransactionsByTagsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new FilterTransactionsByTagsUseCase(
+                userRepository, transactionRepository, transactionTagIndexCache, new TransactionResponseMapper());
+    }
+
+    @Test
+    @DisplayName("Should fetch only the page's ids and point the cursor past them")
+    void shouldFetchPageIds() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(transactionTagIndexCache.get(USER_ID)).thenReturn(INDEX);
+        when(transactionRepository.findByIds(USER_ID, List.of(13L, 12L))).thenReturn(List.of(transaction(13L), transaction(12L)));
+
+        TransactionPageResponse page = useCase.execute(
+                EMAIL, List.of("#Travel", "work"), null, List.of("reimbursed"), null, 2);
+
+        assertThat(page.items()).extracting(TransactionResponse::id).containsExactly(13L, 12L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new TransactionIdCursor(12L).encode());
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor and end the listing")
+    void shouldContinueAfterCursor() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(transactionTagIndexCache.get(USER_ID)).thenReturn(INDEX);
+        when(transactionRepository.findByIds(USER_ID, List.of(10L))).thenReturn(List.of(transaction(10L)));
+
+        TransactionPageResponse page = useCase.execute(
+                EMAIL, List.of("travel", "work"), null, List.of("reimbursed"), new TransactionIdCursor(12L).encode(), 2);
+
+        assertThat(page.items()).extracting(TransactionResponse::id).containsExactly(10L);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a filter that only excludes")
+    void shouldRejectExclusionOnlyFilter() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, List.of(" "), null, List.of("reimbursed"), null, null))
+                .isInstanceOf(InvalidSearchQueryException.class)
+                .hasMessage("Tag filter must include at least one tag in 'all' or 'any'");
+
+        verifyNoInteractions(userRepository, transactionTagIndexCache, transactionRepository);
+    }
+
+    private static Transaction transaction(Long id) {
+        return Transaction.builder().id(id).userId(USER_ID).build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.AccountBalanceResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAccountBalanceUseCase Tests")
+class GetAccountBalanceUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @InjectMocks
+    private GetAccountBalanceUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the balance as of the requested date")
+    void shouldReturnBalanceAsOfDate() throws IOException {
+        LocalDate date = LocalDate.of(2024, 3, 3);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(transactionArchive.scan(1L, LocalDate.of(2024, 3, 1), date)).thenReturn(cursor());
+        when(balanceCheckpointRepository.findBalanceAsOf(1L, 10L, date)).thenReturn(Optional.of(new BigDecimal("500.00")));
+
+        AccountBalanceResponse response = useCase.execute(EMAIL, 10L, date);
+
+        assertThat(response).isEqualTo(new AccountBalanceResponse(10L, date, new BigDecimal("500.00")));
+    }
+
+    @Test
+    @DisplayName("Should default to today when no date is given")
+    void shouldDefaultToToday() throws IOException {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        lenient().when(transactionArchive.scan(eq(1L), any(), any())).thenReturn(cursor());
+        when(balanceCheckpointRepository.findBalanceAsOf(eq(1L), eq(10L), any())).thenReturn(Optional.of(BigDecimal.TEN));
+
+        assertThat(useCase.execute(EMAIL, 10L, null).asOf()).isEqualTo(LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("Should add archived movements between the last checkpoint and the date")
+    void shouldAddArchivedMovementsWithinMonth() throws IOException {
+        LocalDate date = LocalDate.of(2020, 3, 15);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(balanceCheckpointRepository.findBalanceAsOf(1L, 10L, date)).thenReturn(Optional.of(new BigDecimal("500.00")));
+        when(transactionArchive.scan(1L, LocalDate.of(2020, 3, 1), date)).thenReturn(cursor(
+                new Row(10L, null, 2_000L, ETransactionType.EXPENSE),
+                new Row(10L, null, 10_000L, ETransactionType.INCOME),
+                new Row(12L, 10L, 5_000L, ETransactionType.TRANSFER),
+                new Row(12L, null, 99_900L, ETransactionType.INCOME)
+        ));
+
+        AccountBalanceResponse response = useCase.execute(EMAIL, 10L, date);
+
+        assertThat(response.balance()).isEqualByComparingTo("630.00");
+    }
+
+    @Test
+    @DisplayName("Should rely on the checkpoint alone at a month end")
+    void shouldSkipArchiveAtMonthEnd() {
+        LocalDate date = LocalDate.of(2020, 2, 29);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(balanceCheckpointRepository.findBalanceAsOf(1L, 10L, date)).thenReturn(Optional.of(new BigDecimal("500.00")));
+
+        assertThat(useCase.execute(EMAIL, 10L, date).balance()).isEqualTo(new BigDecimal("500.00"));
+
+        verifyNoInteractions(transactionArchive);
+    }
+
+    @Test
+    @DisplayName("Should throw when the account does not belong to the user")
+    void shouldThrowWhenAccountNotFound() {
+        LocalDate date = LocalDate.of(2024, 3, 3);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(balanceCheckpointRepository.findBalanceAsOf(1L, 10L, date)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 10L, date))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Account not found");
+    }
+
+    private static TransactionRowCursor cursor(Row... rows) {
+        Iterator<Row> iterator = List.of(rows).iterator();
+        return new TransactionRowCursor() {
+
+            private Row current;
+
+            @Override
+            public boolean next() {
+                current = iterator.hasNext() ? iterator.next() : null;
+                return current != null;
+            }
+
+            @Override
+            public long id() {
+                return 0;
+            }
+
+            @Override
+            public long accountId() {
+                return current.accountId();
+            }
+
+            @Override
+            public Long categoryId() {
+                return null;
+            }
+
+            @Override
+            public Long subcategoryId() {
+                return null;
+            }
+
+            @Override
+            public Long creditCardId() {
+                return null;
+            }
+
+            @Override
+            public Long transferAccountId() {
+                return current.transferAccountId();
+            }
+
+            @Override
+            public long amountMinorUnits() {
+                return current.amountMinorUnits();
+            }
+
+            @Override
+            public String description() {
+                return null;
+            }
+
+            @Override
+            public LocalDate transactionDate() {
+                return null;
+            }
+
+            @Override
+            public ETransactionType transactionType() {
+                return current.transactionType();
+            }
+
+            @Override
+            public boolean recurring() {
+                return false;
+            }
+        };
+    }
+
+    private record Row(
+            long accountId,
+            Long transferAccountId,
+            long amountMinorUnits,
+            ETransactionType transactionType
+    ) {}
+}
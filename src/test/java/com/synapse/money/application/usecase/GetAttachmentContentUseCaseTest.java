@@ -0,0 +1,79 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.attachment.AttachmentContent;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetAttachmentContentUseCase Tests")
+class GetAttachmentContentUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentStore attachmentStore;
+
+    @InjectMocks
+    private GetAttachmentContentUseCase useCase;
+
+    @Test
+    @DisplayName("Should describe the content and read it from the store by range")
+    void shouldReadContentFromStore() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(attachmentRepository.findById(3L, 1L, 99L)).thenReturn(Optional.of(new Attachment(
+                3L, 1L, 99L, "receipt.jpg", "image/jpeg", 2048L, "a".repeat(64), "1/key", LocalDateTime.of(2024, 3, 1, 9, 0)
+        )));
+        when(attachmentStore.localFile("1/key")).thenReturn(Optional.of(Path.of("/data/1/key")));
+        WritableByteChannel target = mock(WritableByteChannel.class);
+
+        AttachmentContent content = useCase.execute(EMAIL, 99L, 3L);
+        content.body().transferTo(100, 50, target);
+
+        assertThat(content.fileName()).isEqualTo("receipt.jpg");
+        assertThat(content.byteSize()).isEqualTo(2048L);
+        assertThat(content.sha256()).isEqualTo("a".repeat(64));
+        assertThat(content.localFile()).isEqualTo(Path.of("/data/1/key"));
+        verify(attachmentStore).transferTo("1/key", 100, 50, target);
+    }
+
+    @Test
+    @DisplayName("Should throw when the attachment is not the user's")
+    void shouldThrowWhenAttachmentMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(attachmentRepository.findById(3L, 1L, 99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, 3L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Attachment not found");
+
+        verifyNoInteractions(attachmentStore);
+    }
+}
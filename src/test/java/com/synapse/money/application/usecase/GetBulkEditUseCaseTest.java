@@ -0,0 +1,70 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.application.mapper.BulkEditResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetBulkEditUseCase Tests")
+class GetBulkEditUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BulkEditRepository bulkEditRepository;
+
+    @Spy
+    private BulkEditResponseMapper bulkEditResponseMapper;
+
+    @InjectMocks
+    private GetBulkEditUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the user's edit")
+    void shouldReturnEdit() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(bulkEditRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.of(new BulkEdit(
+                7L, 1L, EBulkEditKind.RECATEGORIZE, null, null, EBulkEditStatus.RUNNING, 500L, 1000, 500, 12, null,
+                LocalDateTime.of(2024, 3, 1, 9, 0), null
+        )));
+
+        BulkEditResponse response = useCase.execute(EMAIL, 7L);
+
+        assertThat(response.status()).isEqualTo(EBulkEditStatus.RUNNING);
+        assertThat(response.scannedCount()).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("Should fail for another user's edit")
+    void shouldFailForForeignEdit() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(bulkEditRepository.findByIdAndUserId(7L, 1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 7L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Bulk edit not found");
+    }
+}
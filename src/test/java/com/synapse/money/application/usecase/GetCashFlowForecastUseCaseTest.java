@@ -0,0 +1,98 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.CashFlowForecastCache;
+import com.synapse.money.application.dto.response.ForecastPointResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CashFlowForecast;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCashFlowForecastUseCase Tests")
+class GetCashFlowForecastUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CashFlowForecastCache cashFlowForecastCache;
+
+    @InjectMocks
+    private GetCashFlowForecastUseCase useCase;
+
+    @Test
+    @DisplayName("Should chart the account from the cached forecast")
+    void shouldChartAccount() {
+        givenForecast();
+
+        List<ForecastPointResponse> points = useCase.execute(EMAIL, 5L, EForecastGranularity.DAY);
+
+        assertThat(points).hasSize(3).startsWith(new ForecastPointResponse(TODAY, new BigDecimal("12.50")));
+        assertThat(points.get(2)).isEqualTo(new ForecastPointResponse(TODAY.plusDays(2), new BigDecimal("10.00")));
+    }
+
+    @Test
+    @DisplayName("Should chart all accounts when none is given")
+    void shouldChartAllAccounts() {
+        givenForecast();
+
+        List<ForecastPointResponse> points = useCase.execute(EMAIL, null, EForecastGranularity.MONTH);
+
+        assertThat(points).extracting(ForecastPointResponse::balance)
+                .containsExactly(new BigDecimal("13.50"), new BigDecimal("11.00"));
+    }
+
+    @Test
+    @DisplayName("Should fail for an account the user does not have")
+    void shouldFailForUnknownAccount() {
+        givenForecast();
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, EForecastGranularity.DAY))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Account not found");
+    }
+
+    @Test
+    @DisplayName("Should fail when the user does not exist")
+    void shouldFailWhenUserMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, null, EForecastGranularity.DAY))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(cashFlowForecastCache);
+    }
+
+    private void givenForecast() {
+        CashFlowForecast forecast = new CashFlowForecast(TODAY, TODAY.plusDays(2));
+        forecast.addBalance(5L, 1_250);
+        forecast.addBalance(6L, 100);
+        forecast.addFlow(5L, TODAY.plusDays(2), -250);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(cashFlowForecastCache.read(eq(1L), any())).thenAnswer(invocation ->
+                invocation.<Function<CashFlowForecast, ?>>getArgument(1).apply(forecast));
+    }
+}
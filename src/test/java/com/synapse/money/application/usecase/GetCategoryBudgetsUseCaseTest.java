@@ -0,0 +1,69 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.application.mapper.CategoryBudgetResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetCategoryBudgetsUseCase Tests")
+class GetCategoryBudgetsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Spy
+    private CategoryBudgetResponseMapper categoryBudgetResponseMapper;
+
+    @InjectMocks
+    private GetCategoryBudgetsUseCase useCase;
+
+    @Test
+    @DisplayName("Should return every budget of the month")
+    void shouldReturnBudgetsOfMonth() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categoryBudgetRepository.findByUserAndMonth(1L, MARCH)).thenReturn(List.of(
+                new CategoryBudget(9L, 3L, MARCH, new BigDecimal("100.00"), new BigDecimal("120.00"))
+        ));
+
+        List<CategoryBudgetResponse> budgets = useCase.execute(EMAIL, MARCH);
+
+        assertThat(budgets).containsExactly(new CategoryBudgetResponse(
+                9L, 3L, MARCH, new BigDecimal("100.00"), new BigDecimal("120.00"), new BigDecimal("-20.00"), 120
+        ));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void shouldRejectUnknownUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, MARCH))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
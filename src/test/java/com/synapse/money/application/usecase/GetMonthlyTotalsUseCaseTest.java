@@ -0,0 +1,67 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.MonthlyTotalResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.MonthlyTotal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetMonthlyTotalsUseCase Tests")
+class GetMonthlyTotalsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @InjectMocks
+    private GetMonthlyTotalsUseCase useCase;
+
+    @Test
+    @DisplayName("Should read precomputed totals for the month range")
+    void shouldReadPrecomputedTotals() {
+        YearMonth from = YearMonth.of(2024, 1);
+        YearMonth to = YearMonth.of(2024, 3);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(monthlyTotalsRepository.findByUserAndMonthRange(1L, from, to)).thenReturn(List.of(
+                new MonthlyTotal(YearMonth.of(2024, 2), 3L, null, ETransactionType.EXPENSE, new BigDecimal("80.00"), 2)
+        ));
+
+        List<MonthlyTotalResponse> totals = useCase.execute(EMAIL, from, to);
+
+        assertThat(totals).containsExactly(
+                new MonthlyTotalResponse(YearMonth.of(2024, 2), 3L, null, ETransactionType.EXPENSE, new BigDecimal("80.00"), 2)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted month range")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, YearMonth.of(2024, 3), YearMonth.of(2024, 1)))
+                .isInstanceOf(InvalidDateRangeException.class);
+
+        verifyNoInteractions(userRepository, monthlyTotalsRepository);
+    }
+}
@@ -0,0 +1,78 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.application.mapper.ReconciliationResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.ReconciliationRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetReconciliationUseCase Tests")
+class GetReconciliationUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Reconciliation RECONCILIATION = new Reconciliation(
+            5L, 10L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), 3, 40, 1, 0, LocalDateTime.of(2024, 4, 1, 9, 0));
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReconciliationRepository reconciliationRepository;
+
+    @Spy
+    private ReconciliationResponseMapper reconciliationResponseMapper;
+
+    @InjectMocks
+    private GetReconciliationUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the stored summary with its unmatched items")
+    void shouldReturnSummaryWithUnmatchedItems() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(reconciliationRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(RECONCILIATION));
+        when(reconciliationRepository.findUnmatchedItems(5L)).thenReturn(List.of(new ReconciliationItem(
+                EReconciliationStatus.MISSING, 12, null, LocalDate.of(2024, 3, 9), null, -2_000, "ATM", null)));
+
+        ReconciliationResponse response = useCase.execute(EMAIL, 10L, 5L);
+
+        assertThat(response.matchedCount()).isEqualTo(40);
+        assertThat(response.missing()).singleElement().satisfies(item -> assertThat(item.lineNumber()).isEqualTo(12));
+        assertThat(response.extra()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not find a reconciliation under another account")
+    void shouldNotFindUnderAnotherAccount() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(reconciliationRepository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(RECONCILIATION));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 11L, 5L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Reconciliation not found");
+        verify(reconciliationRepository).findByIdAndUserId(5L, 1L);
+        verifyNoMoreInteractions(reconciliationRepository);
+    }
+}
@@ -0,0 +1,86 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.analytics.TransactionCubeCache;
+import com.synapse.money.application.dto.response.InsightTotalResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionCube;
+import com.synapse.money.domain.valueobject.TransactionCubeQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetTransactionInsightsUseCase Tests")
+class GetTransactionInsightsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionCubeCache transactionCubeCache;
+
+    @InjectMocks
+    private GetTransactionInsightsUseCase useCase;
+
+    @Test
+    @DisplayName("Should aggregate the user's cached cube")
+    void shouldAggregateCachedCube() {
+        TransactionCube cube = TransactionCube.builder()
+                .add(LocalDate.of(2024, 2, 3), 8_000, 3L, 1L, ETransactionType.EXPENSE)
+                .build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(transactionCubeCache.get(1L)).thenReturn(cube);
+
+        List<InsightTotalResponse> totals = useCase.execute(EMAIL, query(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 6, 30)));
+
+        assertThat(totals).containsExactly(
+                new InsightTotalResponse(null, 3L, null, null, new BigDecimal("80.00"), 1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted date range")
+    void shouldRejectInvertedRange() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, query(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 1, 1))))
+                .isInstanceOf(InvalidDateRangeException.class);
+
+        verifyNoInteractions(userRepository, transactionCubeCache);
+    }
+
+    @Test
+    @DisplayName("Should fail when the user does not exist")
+    void shouldFailWhenUserMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, query(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31))))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(transactionCubeCache);
+    }
+
+    private static TransactionCubeQuery query(
+            LocalDate from,
+            LocalDate to) {
+        return new TransactionCubeQuery(EInsightDimension.CATEGORY, from, to, null, null, null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionTagsResponse;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GetTransactionTagsUseCase Tests")
+class GetTransactionTagsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionTagRepository transactionTagRepository;
+
+    @InjectMocks
+    private GetTransactionTagsUseCase useCase;
+
+    @Test
+    @DisplayName("Should return the transaction's tags")
+    void shouldReturnTags() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(transactionTagRepository.findByTransaction(1L, 99L)).thenReturn(List.of("travel", "work"));
+
+        assertThat(useCase.execute(EMAIL, 99L)).isEqualTo(new TransactionTagsResponse(99L, List.of("travel", "work")));
+    }
+
+    @Test
+    @DisplayName("Should throw when the user does not exist")
+    void shouldThrowWhenUserMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+
+        verifyNoInteractions(transactionTagRepository);
+    }
+}
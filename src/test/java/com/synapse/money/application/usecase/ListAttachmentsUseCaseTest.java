@@ -0,0 +1,68 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.mapper.AttachmentResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListAttachmentsUseCase Tests")
+class ListAttachmentsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Spy
+    private AttachmentResponseMapper attachmentResponseMapper;
+
+    @InjectMocks
+    private ListAttachmentsUseCase useCase;
+
+    @Test
+    @DisplayName("Should list the transaction's attachments")
+    void shouldListAttachments() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(attachmentRepository.findByTransaction(1L, 99L)).thenReturn(List.of(
+                new Attachment(3L, 1L, 99L, "receipt.jpg", "image/jpeg", 2048L, "a".repeat(64), "1/key",
+                        LocalDateTime.of(2024, 3, 1, 9, 0))
+        ));
+
+        assertThat(useCase.execute(EMAIL, 99L)).singleElement()
+                .satisfies(attachment -> assertThat(attachment.fileName()).isEqualTo("receipt.jpg"));
+    }
+
+    @Test
+    @DisplayName("Should throw when the user does not exist")
+    void shouldThrowWhenUserMissing() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+
+        verifyNoInteractions(attachmentRepository);
+    }
+}
@@ -0,0 +1,67 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.application.mapper.CategorizationRuleResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategorizationRuleRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListCategorizationRulesUseCase Tests")
+class ListCategorizationRulesUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategorizationRuleRepository categorizationRuleRepository;
+
+    @Spy
+    private CategorizationRuleResponseMapper categorizationRuleResponseMapper;
+
+    @InjectMocks
+    private ListCategorizationRulesUseCase useCase;
+
+    @Test
+    @DisplayName("Should list the user's rules in creation order")
+    void shouldListRules() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categorizationRuleRepository.findByUserId(1L)).thenReturn(List.of(
+                new CategorizationRule(5L, "uber", 20L, null),
+                new CategorizationRule(6L, "ifood", 21L, 30L)
+        ));
+
+        assertThat(useCase.execute(EMAIL)).containsExactly(
+                new CategorizationRuleResponse(5L, "uber", 20L, null),
+                new CategorizationRuleResponse(6L, "ifood", 21L, 30L)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void shouldRejectUnknownUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+    }
+}
@@ -0,0 +1,128 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionCursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListTransactionsUseCase Tests")
+class ListTransactionsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final User USER = User.builder().id(1L).email(EMAIL).build();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Spy
+    private TransactionResponseMapper transactionResponseMapper;
+
+    @InjectMocks
+    private ListTransactionsUseCase useCase;
+
+    @Test
+    @DisplayName("Should fetch one extra row to detect the next page")
+    void shouldFetchOneExtraRowToDetectNextPage() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
+        when(transactionRepository.findPageByUser(1L, null, 3)).thenReturn(makeTransactions(3));
+
+        TransactionPageResponse response = useCase.execute(EMAIL, null, 2);
+
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasMore()).isTrue();
+        assertThat(TransactionCursor.decode(response.nextCursor()))
+                .isEqualTo(new TransactionCursor(LocalDate.of(2024, 1, 2), 2L));
+    }
+
+    @Test
+    @DisplayName("Should seek from the decoded cursor")
+    void shouldSeekFromDecodedCursor() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2024, 1, 2), 2L);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
+        when(transactionRepository.findPageByUser(1L, cursor, ListTransactionsUseCase.DEFAULT_PAGE_SIZE + 1))
+                .thenReturn(makeTransactions(1));
+
+        TransactionPageResponse response = useCase.execute(EMAIL, cursor.encode(), null);
+
+        assertThat(response.items()).hasSize(1);
+        assertThat(response.hasMore()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should clamp page size and treat blank cursor as first page")
+    void shouldClampPageSize() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
+        when(transactionRepository.findPageByUser(any(), any(), anyInt())).thenReturn(List.of());
+
+        useCase.execute(EMAIL, " ", 10_000);
+        useCase.execute(EMAIL, null, 0);
+
+        verify(transactionRepository).findPageByUser(1L, null, ListTransactionsUseCase.MAX_PAGE_SIZE + 1);
+        verify(transactionRepository).findPageByUser(1L, null, 2);
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, "garbage", 10))
+                .isInstanceOf(InvalidPageCursorException.class);
+
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw when user does not exist")
+    void shouldThrowWhenUserDoesNotExist() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, null, 10))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+    }
+
+    private List<Transaction> makeTransactions(int count) {
+        return LongStream.rangeClosed(1, count)
+                .map(i -> count - i + 1)
+                .mapToObj(id -> Transaction.builder()
+                        .id(id)
+                        .userId(1L)
+                        .accountId(10L)
+                        .amount(BigDecimal.TEN)
+                        .transactionDate(LocalDate.of(2024, 1, (int) id))
+                        .build())
+                .toList();
+    }
+}
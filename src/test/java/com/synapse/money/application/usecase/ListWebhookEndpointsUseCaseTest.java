@@ -0,0 +1,68 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.WebhookEndpointResponse;
+import com.synapse.money.application.mapper.WebhookEndpointResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.repository.WebhookEndpointRepository;
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListWebhookEndpointsUseCase Tests")
+class ListWebhookEndpointsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private WebhookEndpointRepository webhookEndpointRepository;
+
+    @Spy
+    private WebhookEndpointResponseMapper webhookEndpointResponseMapper;
+
+    @InjectMocks
+    private ListWebhookEndpointsUseCase useCase;
+
+    @Test
+    @DisplayName("Should list the user's endpoints without their secrets")
+    void shouldListEndpoints() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(webhookEndpointRepository.findByUserId(1L)).thenReturn(List.of(
+                new WebhookEndpoint(3L, 1L, "https://example.com/hook", "secret", CREATED_AT)
+        ));
+
+        List<WebhookEndpointResponse> endpoints = useCase.execute(EMAIL);
+
+        assertThat(endpoints).containsExactly(
+                new WebhookEndpointResponse(3L, "https://example.com/hook", CREATED_AT)
+        );
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void shouldRejectUnknownUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
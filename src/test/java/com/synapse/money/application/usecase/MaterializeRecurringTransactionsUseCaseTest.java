@@ -0,0 +1,90 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.repository.RecurringTransactionRepository;
+import com.synapse.money.domain.valueobject.MaterializationBatch;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MaterializeRecurringTransactionsUseCase Tests")
+class MaterializeRecurringTransactionsUseCaseTest {
+
+    private static final LocalDate HORIZON = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private RecurringTransactionRepository recurringTransactionRepository;
+
+    @Mock
+    private TransactionChangeDispatcher transactionChangeDispatcher;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @InjectMocks
+    private MaterializeRecurringTransactionsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("Should insert occurrences and dispatch them as one batch")
+    void shouldDispatchInsertedOccurrencesAsBatch() {
+        Transaction first = Transaction.builder().id(100L).userId(1L).build();
+        Transaction second = Transaction.builder().id(101L).userId(1L).build();
+        when(recurringTransactionRepository.claimDueTemplates(2, 8, 0L, HORIZON, 50)).thenReturn(List.of(7L, 9L));
+        when(recurringTransactionRepository.materialize(List.of(7L, 9L), HORIZON)).thenReturn(List.of(first, second));
+
+        MaterializationBatch batch = useCase.materializeBatch(2, 8, 0L, HORIZON, 50);
+
+        assertThat(batch).isEqualTo(new MaterializationBatch(2, 9L, 2));
+        verify(transactionChangeDispatcher).dispatchAll(List.of(
+                TransactionChange.created(first),
+                TransactionChange.created(second)
+        ));
+    }
+
+    @Test
+    @DisplayName("Should stop without writing when nothing is due")
+    void shouldStopWhenNothingDue() {
+        when(recurringTransactionRepository.claimDueTemplates(0, 8, 12L, HORIZON, 50)).thenReturn(List.of());
+
+        assertThat(useCase.materializeBatch(0, 8, 12L, HORIZON, 50)).isEqualTo(MaterializationBatch.empty(12L));
+        verify(recurringTransactionRepository, never()).materialize(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should page through a slice until a batch comes back short")
+    void shouldPageThroughSlice() {
+        when(recurringTransactionRepository.claimDueTemplates(1, 4, 0L, HORIZON, 2)).thenReturn(List.of(3L, 5L));
+        when(recurringTransactionRepository.materialize(List.of(3L, 5L), HORIZON))
+                .thenReturn(List.of(Transaction.builder().userId(1L).build()));
+        when(recurringTransactionRepository.claimDueTemplates(1, 4, 5L, HORIZON, 2)).thenReturn(List.of(8L));
+        when(recurringTransactionRepository.materialize(List.of(8L), HORIZON))
+                .thenReturn(List.of(Transaction.builder().userId(2L).build(), Transaction.builder().userId(2L).build()));
+
+        assertThat(useCase.materializeSlice(1, 4, HORIZON, 2)).isEqualTo(3);
+    }
+}
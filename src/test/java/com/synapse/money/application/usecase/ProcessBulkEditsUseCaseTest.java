@@ -0,0 +1,247 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.categorization.CategorizationEngine;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.Categorizer;
+import com.synapse.money.domain.valueobject.ImportLookup;
+import com.synapse.money.domain.valueobject.MerchantRuleSet;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProcessBulkEditsUseCase Tests")
+class ProcessBulkEditsUseCaseTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Mock
+    private BulkEditRepository bulkEditRepository;
+
+    @Mock
+    private TransactionChangeDispatcher transactionChangeDispatcher;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @Mock
+    private CategorizationEngine categorizationEngine;
+
+    private ProcessBulkEditsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ProcessBulkEditsUseCase(
+                bulkEditRepository, transactionChangeDispatcher, transactionExecutor, categorizationEngine, LEASE);
+        lenient().when(transactionExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+    }
+
+    @Test
+    @DisplayName("Should claim with the configured lease")
+    void shouldClaimWithLease() {
+        BulkEdit edit = merge(EBulkEditStatus.RUNNING, 0L);
+        when(bulkEditRepository.claimNext(LEASE)).thenReturn(Optional.of(edit));
+
+        assertThat(useCase.claimNext()).contains(edit);
+    }
+
+    @Test
+    @DisplayName("Should move a full chunk to the target category and advance")
+    void shouldMoveFullChunkAndAdvance() {
+        BulkEdit edit = merge(EBulkEditStatus.RUNNING, 0L);
+        Transaction first = transaction(11L, 3L, 30L, "Rent");
+        Transaction second = transaction(12L, 3L, null, "Water");
+        BulkEdit advanced = merge(EBulkEditStatus.RUNNING, 12L);
+        when(bulkEditRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(edit));
+        when(bulkEditRepository.findChunkForUpdate(edit, 2)).thenReturn(List.of(first, second));
+        when(bulkEditRepository.advance(7L, 12L, 2, 2, LEASE)).thenReturn(advanced);
+
+        assertThat(useCase.processChunk(7L, 2)).isSameAs(advanced);
+
+        List<TransactionChange> changes = dispatched();
+        assertThat(changes).hasSize(2);
+        assertThat(changes.getFirst().before()).isSameAs(first);
+        assertThat(changes.getFirst().after().getCategoryId()).isEqualTo(4L);
+        assertThat(changes.getFirst().after().getSubcategoryId()).isNull();
+        assertThat(changes.getFirst().after().getUpdatedAt()).isNotNull();
+        verify(bulkEditRepository).updateCategories(changes.stream().map(TransactionChange::after).toList());
+        verify(bulkEditRepository, never()).mergeCategory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should delete the source category after the last chunk of a merge")
+    void shouldCompleteMerge() {
+        BulkEdit edit = merge(EBulkEditStatus.RUNNING, 12L);
+        Transaction row = transaction(5L, 3L, null, "Rent");
+        BulkEdit completed = merge(EBulkEditStatus.COMPLETED, 12L);
+        when(bulkEditRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(edit));
+        when(bulkEditRepository.findChunkForUpdate(edit, 2)).thenReturn(List.of(row));
+        when(bulkEditRepository.mergeCategory(1L, 3L, 4L)).thenReturn(true);
+        when(bulkEditRepository.complete(7L, 12L, 1, 1)).thenReturn(completed);
+
+        assertThat(useCase.processChunk(7L, 2)).isSameAs(completed);
+
+        verify(categorizationEngine).evict(1L);
+    }
+
+    @Test
+    @DisplayName("Should keep a merge running when rows were moved into the source after the last chunk")
+    void shouldKeepMergingWhenSourceGainedRows() {
+        BulkEdit edit = merge(EBulkEditStatus.RUNNING, 12L);
+        Transaction row = transaction(5L, 3L, null, "Rent");
+        BulkEdit advanced = merge(EBulkEditStatus.RUNNING, 12L);
+        when(bulkEditRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(edit));
+        when(bulkEditRepository.findChunkForUpdate(edit, 2)).thenReturn(List.of(row));
+        when(bulkEditRepository.mergeCategory(1L, 3L, 4L)).thenReturn(false);
+        when(bulkEditRepository.advance(7L, 12L, 1, 1, LEASE)).thenReturn(advanced);
+
+        assertThat(useCase.processChunk(7L, 2)).isSameAs(advanced);
+
+        verify(bulkEditRepository, never()).complete(any(), anyLong(), anyInt(), anyInt());
+        verify(categorizationEngine, never()).evict(any());
+    }
+
+    @Test
+    @DisplayName("Should apply the user's rules and skip rows they leave unchanged")
+    void shouldRecategorizeMatchingRows() {
+        BulkEdit edit = recategorize(0L);
+        Transaction matching = transaction(11L, 3L, null, "SUPERMARKET 123");
+        Transaction alreadyRight = transaction(12L, 8L, 9L, "supermarket");
+        Transaction unmatched = transaction(13L, 3L, null, "Cinema");
+        BulkEdit completed = recategorize(13L);
+        when(bulkEditRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(edit));
+        when(bulkEditRepository.findChunkForUpdate(edit, 5)).thenReturn(List.of(matching, alreadyRight, unmatched));
+        when(categorizationEngine.forUser(1L)).thenReturn(Categorizer.compile(
+                List.of(new CategorizationRule(1L, "supermarket", 8L, 9L)),
+                MerchantRuleSet.EMPTY,
+                new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of())
+        ));
+        when(bulkEditRepository.complete(7L, 13L, 3, 1)).thenReturn(completed);
+
+        assertThat(useCase.processChunk(7L, 5)).isSameAs(completed);
+
+        List<TransactionChange> changes = dispatched();
+        assertThat(changes).hasSize(1);
+        assertThat(changes.getFirst().after().getId()).isEqualTo(11L);
+        assertThat(changes.getFirst().after().getCategoryId()).isEqualTo(8L);
+        assertThat(changes.getFirst().after().getSubcategoryId()).isEqualTo(9L);
+        verify(bulkEditRepository, never()).mergeCategory(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should leave transfers uncategorized when recategorizing")
+    void shouldSkipTransfersWhenRecategorizing() {
+        BulkEdit edit = recategorize(0L);
+        Transaction expense = transaction(11L, null, null, "SUPERMARKET 123");
+        Transaction transfer = transaction(12L, null, null, "supermarket savings").toBuilder()
+                .transactionType(ETransactionType.TRANSFER)
+                .transferAccountId(20L)
+                .build();
+        BulkEdit completed = recategorize(12L);
+        when(bulkEditRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(edit));
+        when(bulkEditRepository.findChunkForUpdate(edit, 5)).thenReturn(List.of(expense, transfer));
+        when(categorizationEngine.forUser(1L)).thenReturn(Categorizer.compile(
+                List.of(new CategorizationRule(1L, "supermarket", 8L, 9L)),
+                MerchantRuleSet.EMPTY,
+                new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of())
+        ));
+        when(bulkEditRepository.complete(7L, 12L, 2, 1)).thenReturn(completed);
+
+        assertThat(useCase.processChunk(7L, 5)).isSameAs(completed);
+
+        assertThat(dispatched()).extracting(change -> change.after().getId()).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("Should leave an edit that is no longer running untouched")
+    void shouldSkipFinishedEdit() {
+        BulkEdit failed = merge(EBulkEditStatus.FAILED, 12L);
+        when(bulkEditRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(failed));
+
+        assertThat(useCase.processChunk(7L, 2)).isSameAs(failed);
+
+        verify(bulkEditRepository, never()).findChunkForUpdate(any(), anyInt());
+        verify(bulkEditRepository, never()).advance(any(), anyLong(), anyInt(), anyInt(), eq(LEASE));
+        verifyNoInteractions(transactionChangeDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should record a failure")
+    void shouldRecordFailure() {
+        useCase.fail(7L, "boom");
+
+        verify(bulkEditRepository).fail(7L, "boom");
+    }
+
+    private List<TransactionChange> dispatched() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TransactionChange>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionChangeDispatcher).dispatchAll(captor.capture());
+        return captor.getValue();
+    }
+
+    private static BulkEdit merge(
+            EBulkEditStatus status,
+            long lastTransactionId) {
+        return new BulkEdit(
+                7L, 1L, EBulkEditKind.MERGE_CATEGORY, 3L, 4L, status, lastTransactionId, 3, 0, 0, null,
+                LocalDateTime.of(2024, 3, 1, 9, 0), null
+        );
+    }
+
+    private static BulkEdit recategorize(long lastTransactionId) {
+        return new BulkEdit(
+                7L, 1L, EBulkEditKind.RECATEGORIZE, null, null, EBulkEditStatus.RUNNING, lastTransactionId, 3, 0, 0, null,
+                LocalDateTime.of(2024, 3, 1, 9, 0), null
+        );
+    }
+
+    private static Transaction transaction(
+            Long id,
+            Long categoryId,
+            Long subcategoryId,
+            String description) {
+        return Transaction.builder()
+                .id(id)
+                .userId(1L)
+                .accountId(10L)
+                .categoryId(categoryId)
+                .subcategoryId(subcategoryId)
+                .description(description)
+                .transactionDate(LocalDate.of(2024, 3, 1))
+                .build();
+    }
+}
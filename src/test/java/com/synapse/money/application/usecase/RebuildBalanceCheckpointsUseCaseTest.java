@@ -0,0 +1,31 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.repository.BalanceCheckpointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RebuildBalanceCheckpointsUseCase Tests")
+class RebuildBalanceCheckpointsUseCaseTest {
+
+    @Mock
+    private BalanceCheckpointRepository balanceCheckpointRepository;
+
+    @InjectMocks
+    private RebuildBalanceCheckpointsUseCase useCase;
+
+    @Test
+    @DisplayName("Should rebuild the user's checkpoints")
+    void shouldRebuildUserCheckpoints() {
+        when(balanceCheckpointRepository.rebuildForUser(1L)).thenReturn(24);
+
+        assertThat(useCase.execute(1L)).isEqualTo(24);
+    }
+}
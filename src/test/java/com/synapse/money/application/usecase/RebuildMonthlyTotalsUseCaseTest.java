@@ -0,0 +1,54 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.MonthlyTotalsRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RebuildMonthlyTotalsUseCase Tests")
+class RebuildMonthlyTotalsUseCaseTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MonthlyTotalsRepository monthlyTotalsRepository;
+
+    @InjectMocks
+    private RebuildMonthlyTotalsUseCase useCase;
+
+    @Test
+    @DisplayName("Should rebuild the user's totals from transactions")
+    void shouldRebuildUserTotals() {
+        when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(monthlyTotalsRepository.rebuildForUser(1L)).thenReturn(12);
+
+        assertThat(useCase.execute(1L)).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("Should throw when user does not exist")
+    void shouldThrowWhenUserDoesNotExist() {
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(1L))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found: 1");
+
+        verifyNoInteractions(monthlyTotalsRepository);
+    }
+}
@@ -0,0 +1,58 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconcileCategoryBudgetsUseCase Tests")
+class ReconcileCategoryBudgetsUseCaseTest {
+
+    private static final YearMonth FROM = YearMonth.of(2024, 2);
+
+    @Mock
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @InjectMocks
+    private ReconcileCategoryBudgetsUseCase useCase;
+
+    @Test
+    @DisplayName("Should reconcile each user in its own transaction and sum the corrections")
+    void shouldReconcileEachUserSeparately() {
+        when(transactionExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        when(categoryBudgetRepository.findUserIdsWithBudgetsSince(FROM)).thenReturn(List.of(1L, 2L));
+        when(categoryBudgetRepository.reconcileUser(1L, FROM)).thenReturn(0);
+        when(categoryBudgetRepository.reconcileUser(2L, FROM)).thenReturn(3);
+
+        assertThat(useCase.execute(FROM)).isEqualTo(3);
+
+        verify(transactionExecutor, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no budgets exist")
+    void shouldDoNothingWithoutBudgets() {
+        when(categoryBudgetRepository.findUserIdsWithBudgetsSince(FROM)).thenReturn(List.of());
+
+        assertThat(useCase.execute(FROM)).isZero();
+    }
+}
@@ -0,0 +1,191 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.StatementLineRequest;
+import com.synapse.money.application.dto.request.StatementReconciliationRequest;
+import com.synapse.money.application.dto.response.ReconciliationItemResponse;
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.application.mapper.ReconciliationResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.ReconciliationRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.TransactionRowConsumer;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconcileStatementUseCase Tests")
+class ReconcileStatementUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final LocalDate START = LocalDate.of(2024, 3, 5);
+    private static final LocalDate END = LocalDate.of(2024, 3, 25);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private ReconciliationRepository reconciliationRepository;
+
+    private ReconcileStatementUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new ReconcileStatementUseCase(
+                userRepository,
+                accountRepository,
+                transactionRepository,
+                reconciliationRepository,
+                new ReconciliationResponseMapper(),
+                3
+        );
+    }
+
+    @Test
+    @DisplayName("Should reconcile the statement against the account's signed ledger and persist the result")
+    @SuppressWarnings("unchecked")
+    void shouldReconcileAndPersist() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(accountRepository.allOwnedBy(1L, List.of(10L))).thenReturn(true);
+        List<Row> rows = List.of(
+                new Row(4L, 10L, null, 500L, LocalDate.of(2024, 3, 3), ETransactionType.EXPENSE, "Parking"),
+                new Row(1L, 10L, null, 1_250L, LocalDate.of(2024, 3, 4), ETransactionType.EXPENSE, "Uber"),
+                new Row(3L, 10L, null, 999L, LocalDate.of(2024, 3, 10), ETransactionType.EXPENSE, "Bakery"),
+                new Row(2L, 11L, 10L, 10_000L, LocalDate.of(2024, 3, 21), ETransactionType.TRANSFER, "Savings"),
+                new Row(5L, 12L, null, 4_000L, LocalDate.of(2024, 3, 25), ETransactionType.EXPENSE, "Gym")
+        );
+        doAnswer(invocation -> {
+            TransactionRowConsumer consumer = invocation.getArgument(3);
+            for (Row row : rows) {
+                consumer.accept(row);
+            }
+            return (long) rows.size();
+        }).when(transactionRepository).streamByUserAndDateRange(eq(1L), eq(START.minusDays(3)), eq(END.plusDays(3)), any());
+        LocalDateTime createdAt = LocalDateTime.of(2024, 4, 1, 9, 0);
+        when(reconciliationRepository.save(eq(1L), any(), any())).thenAnswer(invocation -> {
+            Reconciliation reconciliation = invocation.getArgument(1);
+            return new Reconciliation(9L, reconciliation.accountId(), reconciliation.periodStart(), reconciliation.periodEnd(),
+                    reconciliation.dateToleranceDays(), reconciliation.matchedCount(), reconciliation.missingCount(),
+                    reconciliation.extraCount(), createdAt);
+        });
+
+        ReconciliationResponse response = useCase.execute(EMAIL, 10L, new StatementReconciliationRequest(null, List.of(
+                new StatementLineRequest(START, new BigDecimal("-12.50"), "UBER *TRIP"),
+                new StatementLineRequest(LocalDate.of(2024, 3, 20), new BigDecimal("100.00"), "FROM SAVINGS"),
+                new StatementLineRequest(END, new BigDecimal("-40.00"), "GYM")
+        )));
+
+        ArgumentCaptor<List<ReconciliationItem>> items = ArgumentCaptor.forClass(List.class);
+        verify(reconciliationRepository).save(
+                eq(1L),
+                eq(new Reconciliation(null, 10L, START, END, 3, 2, 1, 1, null)),
+                items.capture()
+        );
+        assertThat(items.getValue()).extracting(ReconciliationItem::status).containsExactly(
+                EReconciliationStatus.MATCHED,
+                EReconciliationStatus.MATCHED,
+                EReconciliationStatus.MISSING,
+                EReconciliationStatus.EXTRA
+        );
+        assertThat(items.getValue()).extracting(ReconciliationItem::transactionId).containsExactly(1L, 2L, null, 3L);
+        assertThat(response.id()).isEqualTo(9L);
+        assertThat(response.missing()).containsExactly(
+                new ReconciliationItemResponse(3, null, END, new BigDecimal("-40.00"), "GYM"));
+        assertThat(response.extra()).containsExactly(
+                new ReconciliationItemResponse(null, 3L, LocalDate.of(2024, 3, 10), new BigDecimal("-9.99"), "Bakery"));
+    }
+
+    @Test
+    @DisplayName("Should use the requested date tolerance")
+    void shouldUseRequestedTolerance() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(accountRepository.allOwnedBy(1L, List.of(10L))).thenReturn(true);
+        when(reconciliationRepository.save(eq(1L), any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        ReconciliationResponse response = useCase.execute(EMAIL, 10L, new StatementReconciliationRequest(0, List.of(
+                new StatementLineRequest(START, new BigDecimal("-1.00"), null)
+        )));
+
+        verify(transactionRepository).streamByUserAndDateRange(eq(1L), eq(START), eq(START), any());
+        assertThat(response.dateToleranceDays()).isZero();
+        assertThat(response.missingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject another user's account")
+    void shouldRejectForeignAccount() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(accountRepository.allOwnedBy(1L, List.of(99L))).thenReturn(false);
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, new StatementReconciliationRequest(null, List.of(
+                new StatementLineRequest(START, BigDecimal.ONE, null)
+        ))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Account not found");
+        verifyNoInteractions(transactionRepository, reconciliationRepository);
+    }
+
+    private record Row(
+            long id,
+            long accountId,
+            Long transferAccountId,
+            long amountMinorUnits,
+            LocalDate transactionDate,
+            ETransactionType transactionType,
+            String description
+    ) implements TransactionRow {
+
+        @Override
+        public Long categoryId() {
+            return null;
+        }
+
+        @Override
+        public Long subcategoryId() {
+            return null;
+        }
+
+        @Override
+        public Long creditCardId() {
+            return null;
+        }
+
+        @Override
+        public boolean recurring() {
+            return false;
+        }
+    }
+}
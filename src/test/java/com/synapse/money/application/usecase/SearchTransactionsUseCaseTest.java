@@ -0,0 +1,105 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidSearchQueryException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionSearchCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchHit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchTransactionsUseCase Tests")
+class SearchTransactionsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final User USER = User.builder().id(1L).email(EMAIL).build();
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Spy
+    private TransactionResponseMapper transactionResponseMapper;
+
+    @InjectMocks
+    private SearchTransactionsUseCase useCase;
+
+    @Test
+    @DisplayName("Should search the trimmed query and return a cursor after the last hit")
+    void shouldReturnCursorAfterLastHit() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
+        when(transactionRepository.searchByUser(1L, "uber", null, 3)).thenReturn(hits(3));
+
+        TransactionPageResponse response = useCase.execute(EMAIL, "  uber ", null, 2);
+
+        assertThat(response.items()).hasSize(2);
+        assertThat(response.hasMore()).isTrue();
+        assertThat(TransactionSearchCursor.decode(response.nextCursor()))
+                .isEqualTo(new TransactionSearchCursor(999, LocalDate.of(2024, 1, 2), 2L));
+    }
+
+    @Test
+    @DisplayName("Should continue from a decoded cursor")
+    void shouldContinueFromCursor() {
+        TransactionSearchCursor cursor = new TransactionSearchCursor(500, LocalDate.of(2024, 1, 1), 9L);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(USER));
+        when(transactionRepository.searchByUser(1L, "netflix", cursor, 51)).thenReturn(List.of());
+
+        TransactionPageResponse response = useCase.execute(EMAIL, "netflix", cursor.encode(), null);
+
+        assertThat(response.items()).isEmpty();
+        assertThat(response.hasMore()).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "  ub  "})
+    @DisplayName("Should reject queries too short for the trigram index")
+    void shouldRejectShortQueries(String query) {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, query, null, null))
+                .isInstanceOf(InvalidSearchQueryException.class)
+                .hasMessage("Search query must be between 3 and 100 characters");
+        verifyNoInteractions(transactionRepository);
+    }
+
+    private static List<TransactionSearchHit> hits(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new TransactionSearchHit(
+                        Transaction.builder()
+                                .id(id)
+                                .userId(1L)
+                                .accountId(10L)
+                                .amount(new BigDecimal("12.00"))
+                                .description("Uber trip")
+                                .transactionDate(LocalDate.of(2024, 1, (int) id))
+                                .transactionType(ETransactionType.EXPENSE)
+                                .build(),
+                        1000 - (int) id + 1))
+                .toList();
+    }
+}
@@ -0,0 +1,83 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.CategoryBudgetRequest;
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.application.mapper.CategoryBudgetResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.CategoryBudgetRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SetCategoryBudgetUseCase Tests")
+class SetCategoryBudgetUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CategoryBudgetRepository categoryBudgetRepository;
+
+    @Spy
+    private CategoryBudgetResponseMapper categoryBudgetResponseMapper;
+
+    @InjectMocks
+    private SetCategoryBudgetUseCase useCase;
+
+    @Test
+    @DisplayName("Should set the limit and return the budget status")
+    void shouldSetLimit() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categoryBudgetRepository.upsert(1L, 3L, MARCH, new BigDecimal("200.00"))).thenReturn(Optional.of(
+                new CategoryBudget(9L, 3L, MARCH, new BigDecimal("200.00"), new BigDecimal("40.00"))
+        ));
+
+        CategoryBudgetResponse response = useCase.execute(EMAIL, new CategoryBudgetRequest(3L, MARCH, new BigDecimal("200.00")));
+
+        assertThat(response.consumedAmount()).isEqualByComparingTo("40.00");
+        assertThat(response.remainingAmount()).isEqualByComparingTo("160.00");
+        assertThat(response.usedPercent()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should reject a category the user does not own")
+    void shouldRejectForeignCategory() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(categoryBudgetRepository.upsert(1L, 3L, MARCH, new BigDecimal("200.00"))).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new CategoryBudgetRequest(3L, MARCH, new BigDecimal("200.00"))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found");
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void shouldRejectUnknownUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new CategoryBudgetRequest(3L, MARCH, new BigDecimal("200.00"))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("User not found");
+        verifyNoInteractions(categoryBudgetRepository);
+    }
+}
@@ -0,0 +1,101 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.TransactionTagsRequest;
+import com.synapse.money.application.dto.response.TransactionTagsResponse;
+import com.synapse.money.application.tag.TransactionTagIndexCache;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.TransactionTagRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SetTransactionTagsUseCase Tests")
+class SetTransactionTagsUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionTagRepository transactionTagRepository;
+
+    @Mock
+    private TransactionTagIndexCache transactionTagIndexCache;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    @InjectMocks
+    private SetTransactionTagsUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(transactionExecutor).run(any());
+    }
+
+    @Test
+    @DisplayName("Should store the normalized tags and evict the user's index")
+    void shouldReplaceNormalizedTags() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(transactionRepository.findByIdAndUserIdForUpdate(99L, USER_ID))
+                .thenReturn(Optional.of(Transaction.builder().id(99L).userId(USER_ID).build()));
+
+        TransactionTagsResponse response = useCase.execute(
+                EMAIL, 99L, new TransactionTagsRequest(List.of("#Work", "travel", "work")));
+
+        assertThat(response).isEqualTo(new TransactionTagsResponse(99L, List.of("travel", "work")));
+        verify(transactionTagRepository).replace(USER_ID, 99L, Set.of("travel", "work"));
+        verify(transactionTagIndexCache).evictOnCompletion(List.of(USER_ID));
+    }
+
+    @Test
+    @DisplayName("Should not tag a transaction that is not the user's")
+    void shouldRejectForeignTransaction() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(transactionRepository.findByIdAndUserIdForUpdate(99L, USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, new TransactionTagsRequest(List.of("travel"))))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Transaction not found");
+
+        verifyNoInteractions(transactionTagRepository, transactionTagIndexCache);
+    }
+
+    @Test
+    @DisplayName("Should compare tags without '#' and case")
+    void shouldNormalizeTags() {
+        assertThat(SetTransactionTagsUseCase.normalize(" #Travel ")).isEqualTo("travel");
+        assertThat(SetTransactionTagsUseCase.normalize("work")).isEqualTo("work");
+    }
+}
@@ -0,0 +1,134 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.BulkEditRequest;
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.application.mapper.BulkEditResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.exception.BulkEditInProgressException;
+import com.synapse.money.domain.exception.InvalidBulkEditException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.BulkEditRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StartBulkEditUseCase Tests")
+class StartBulkEditUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BulkEditRepository bulkEditRepository;
+
+    @Spy
+    private BulkEditResponseMapper bulkEditResponseMapper;
+
+    @InjectMocks
+    private StartBulkEditUseCase useCase;
+
+    @Test
+    @DisplayName("Should queue a merge of two of the user's categories")
+    void shouldQueueMerge() {
+        givenUser();
+        when(bulkEditRepository.create(1L, EBulkEditKind.MERGE_CATEGORY, 3L, 4L))
+                .thenReturn(Optional.of(pending(EBulkEditKind.MERGE_CATEGORY, 3L, 4L)));
+
+        BulkEditResponse response = useCase.execute(EMAIL, new BulkEditRequest(EBulkEditKind.MERGE_CATEGORY, 3L, 4L));
+
+        assertThat(response.id()).isEqualTo(7L);
+        assertThat(response.status()).isEqualTo(EBulkEditStatus.PENDING);
+        assertThat(response.totalCount()).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("Should queue a recategorization")
+    void shouldQueueRecategorization() {
+        givenUser();
+        when(bulkEditRepository.create(1L, EBulkEditKind.RECATEGORIZE, null, null))
+                .thenReturn(Optional.of(pending(EBulkEditKind.RECATEGORIZE, null, null)));
+
+        BulkEditResponse response = useCase.execute(EMAIL, new BulkEditRequest(EBulkEditKind.RECATEGORIZE, null, null));
+
+        assertThat(response.kind()).isEqualTo(EBulkEditKind.RECATEGORIZE);
+    }
+
+    @Test
+    @DisplayName("Should reject a merge without both categories")
+    void shouldRejectIncompleteMerge() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new BulkEditRequest(EBulkEditKind.MERGE_CATEGORY, 3L, null)))
+                .isInstanceOf(InvalidBulkEditException.class);
+
+        verifyNoInteractions(userRepository, bulkEditRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject merging a category into itself")
+    void shouldRejectSelfMerge() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new BulkEditRequest(EBulkEditKind.MERGE_CATEGORY, 3L, 3L)))
+                .isInstanceOf(InvalidBulkEditException.class)
+                .hasMessage("A category cannot be merged into itself");
+
+        verifyNoInteractions(userRepository, bulkEditRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse a second edit while one is in progress")
+    void shouldRefuseConcurrentEdit() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(bulkEditRepository.existsActiveByUserId(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new BulkEditRequest(EBulkEditKind.RECATEGORIZE, null, null)))
+                .isInstanceOf(BulkEditInProgressException.class);
+
+        verify(bulkEditRepository, never()).create(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail when a category is not the user's")
+    void shouldFailForForeignCategory() {
+        givenUser();
+        when(bulkEditRepository.create(1L, EBulkEditKind.MERGE_CATEGORY, 3L, 99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, new BulkEditRequest(EBulkEditKind.MERGE_CATEGORY, 3L, 99L)))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category not found");
+    }
+
+    private void givenUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(bulkEditRepository.existsActiveByUserId(1L)).thenReturn(false);
+    }
+
+    private static BulkEdit pending(
+            EBulkEditKind kind,
+            Long sourceCategoryId,
+            Long targetCategoryId) {
+        return new BulkEdit(
+                7L, 1L, kind, sourceCategoryId, targetCategoryId, EBulkEditStatus.PENDING, 0L, 1200, 0, 0, null,
+                LocalDateTime.of(2024, 3, 1, 9, 0), null
+        );
+    }
+}
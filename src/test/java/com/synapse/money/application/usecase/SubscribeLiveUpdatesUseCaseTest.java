@@ -0,0 +1,61 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.live.LiveUpdateHub;
+import com.synapse.money.application.live.LiveUpdateSink;
+import com.synapse.money.application.live.LiveUpdateSubscription;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SubscribeLiveUpdatesUseCase Tests")
+class SubscribeLiveUpdatesUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private LiveUpdateHub liveUpdateHub;
+
+    @Mock
+    private LiveUpdateSink sink;
+
+    @InjectMocks
+    private SubscribeLiveUpdatesUseCase useCase;
+
+    @Test
+    @DisplayName("Should subscribe the user's connection to the hub")
+    void shouldSubscribe() {
+        LiveUpdateSubscription subscription = mock(LiveUpdateSubscription.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(1L).build()));
+        when(liveUpdateHub.subscribe(1L, sink)).thenReturn(subscription);
+
+        assertThat(useCase.execute(EMAIL, sink)).isSameAs(subscription);
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown user")
+    void shouldRejectUnknownUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, sink))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(liveUpdateHub);
+    }
+}
@@ -0,0 +1,148 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.mapper.TransactionRequestMapper;
+import com.synapse.money.application.mapper.TransactionResponseMapper;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AccountRepository;
+import com.synapse.money.domain.repository.TransactionReferenceRepository;
+import com.synapse.money.domain.repository.TransactionRepository;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateTransactionUseCase Tests")
+class UpdateTransactionUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private TransactionReferenceRepository transactionReferenceRepository;
+
+    @Mock
+    private TransactionChangeDispatcher transactionChangeDispatcher;
+
+    @Mock
+    private RetryingTransactionExecutor transactionExecutor;
+
+    private UpdateTransactionUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionExecutor.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        useCase = new UpdateTransactionUseCase(
+                userRepository,
+                accountRepository,
+                transactionRepository,
+                transactionReferenceRepository,
+                transactionChangeDispatcher,
+                transactionExecutor,
+                new TransactionRequestMapper(),
+                new TransactionResponseMapper()
+        );
+    }
+
+    @Test
+    @DisplayName("Should update the locked row and dispatch before and after states")
+    void shouldUpdateAndDispatchBothStates() {
+        Transaction before = Transaction.builder()
+                .id(5L)
+                .userId(USER_ID)
+                .accountId(10L)
+                .amount(new BigDecimal("10.00"))
+                .transactionDate(LocalDate.of(2024, 1, 1))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L))).thenReturn(true);
+        when(transactionRepository.findByIdAndUserIdForUpdate(5L, USER_ID)).thenReturn(Optional.of(before));
+        when(transactionRepository.update(eq(before), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        TransactionResponse response = useCase.execute(EMAIL, 5L, request());
+
+        ArgumentCaptor<TransactionChange> change = ArgumentCaptor.forClass(TransactionChange.class);
+        verify(transactionChangeDispatcher).dispatch(change.capture());
+        assertThat(change.getValue().before()).isSameAs(before);
+        assertThat(change.getValue().after().getId()).isEqualTo(5L);
+        assertThat(change.getValue().after().getAmount()).isEqualByComparingTo("42.00");
+        assertThat(response.amount()).isEqualByComparingTo("42.00");
+    }
+
+    @Test
+    @DisplayName("Should throw when the transaction does not belong to the user")
+    void shouldThrowWhenTransactionNotFound() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L))).thenReturn(true);
+        when(transactionRepository.findByIdAndUserIdForUpdate(5L, USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 5L, request()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Transaction not found");
+
+        verify(transactionRepository, never()).update(any(), any());
+        verifyNoInteractions(transactionChangeDispatcher);
+    }
+
+    @Test
+    @DisplayName("Should reject a category or credit card the user does not own before locking the row")
+    void shouldRejectForeignReferences() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(accountRepository.allOwnedBy(USER_ID, List.of(10L))).thenReturn(true);
+        when(transactionReferenceRepository.findUnowned(eq(USER_ID), any())).thenReturn(Set.of(0));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 5L, request()))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Category or credit card not found");
+
+        verifyNoInteractions(transactionRepository, transactionChangeDispatcher);
+    }
+
+    private static TransactionRequest request() {
+        return new TransactionRequest(
+                10L, null, null, null, null,
+                new BigDecimal("42.00"), "Dinner", LocalDate.of(2024, 2, 1),
+                ETransactionType.EXPENSE, false
+        );
+    }
+}
@@ -0,0 +1,130 @@
+package com.synapse.money.application.usecase;
+
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.application.mapper.AttachmentResponseMapper;
+import com.synapse.money.domain.entity.User;
+import com.synapse.money.domain.exception.AttachmentTooLargeException;
+import com.synapse.money.domain.exception.InvalidAttachmentException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.AttachmentRepository;
+import com.synapse.money.domain.repository.AttachmentStore;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UploadAttachmentUseCase Tests")
+class UploadAttachmentUseCaseTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Long USER_ID = 1L;
+    private static final AttachmentBlob BLOB = new AttachmentBlob("1/key", 4L, "a".repeat(64));
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentStore attachmentStore;
+
+    private final InputStream content = new ByteArrayInputStream(new byte[]{1, 2, 3, 4});
+
+    private UploadAttachmentUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new UploadAttachmentUseCase(
+                userRepository,
+                attachmentRepository,
+                attachmentStore,
+                new AttachmentResponseMapper(),
+                DataSize.ofKilobytes(1),
+                List.of("image/jpeg", " application/pdf")
+        );
+    }
+
+    @Test
+    @DisplayName("Should store the content and record it against the transaction")
+    void shouldStoreAndRecord() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(attachmentStore.write(USER_ID, content, 1024)).thenReturn(BLOB);
+        when(attachmentRepository.create(USER_ID, 99L, "receipt.jpg", "image/jpeg", BLOB)).thenReturn(Optional.of(
+                new Attachment(3L, USER_ID, 99L, "receipt.jpg", "image/jpeg", 4L, BLOB.sha256(), BLOB.storageKey(),
+                        LocalDateTime.of(2024, 3, 1, 9, 0))
+        ));
+
+        AttachmentResponse response = useCase.execute(EMAIL, 99L, "photos/receipt.jpg", "Image/JPEG; q=1", content);
+
+        assertThat(response.id()).isEqualTo(3L);
+        assertThat(response.byteSize()).isEqualTo(4L);
+        verify(attachmentStore, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should remove the stored content when the transaction is not the user's")
+    void shouldDiscardContentForForeignTransaction() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(attachmentStore.write(USER_ID, content, 1024)).thenReturn(BLOB);
+        when(attachmentRepository.create(USER_ID, 99L, "attachment", "application/pdf", BLOB)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, null, "application/pdf", content))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessage("Transaction not found");
+
+        verify(attachmentStore).delete(BLOB.storageKey());
+    }
+
+    @Test
+    @DisplayName("Should reject a content type that is not allowed before reading the body")
+    void shouldRejectContentType() {
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, "notes.txt", "text/plain", content))
+                .isInstanceOf(InvalidAttachmentException.class)
+                .hasMessage("Content type must be one of image/jpeg, application/pdf");
+
+        verifyNoInteractions(userRepository, attachmentStore, attachmentRepository);
+    }
+
+    @Test
+    @DisplayName("Should record nothing when the content is too large")
+    void shouldRecordNothingWhenTooLarge() throws Exception {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(USER_ID).build()));
+        when(attachmentStore.write(USER_ID, content, 1024)).thenThrow(new AttachmentTooLargeException("too large"));
+
+        assertThatThrownBy(() -> useCase.execute(EMAIL, 99L, "receipt.jpg", "image/jpeg", content))
+                .isInstanceOf(AttachmentTooLargeException.class);
+
+        verifyNoInteractions(attachmentRepository);
+    }
+
+    @Test
+    @DisplayName("Should keep only a safe last segment of the client's file name")
+    void shouldSanitizeFileName() {
+        assertThat(UploadAttachmentUseCase.sanitize("C:\\scans\\receipt.pdf")).isEqualTo("receipt.pdf");
+        assertThat(UploadAttachmentUseCase.sanitize("a\r\nb.jpg")).isEqualTo("ab.jpg");
+        assertThat(UploadAttachmentUseCase.sanitize("dir/")).isEqualTo(UploadAttachmentUseCase.DEFAULT_FILE_NAME);
+        assertThat(UploadAttachmentUseCase.sanitize("x".repeat(300))).hasSize(UploadAttachmentUseCase.MAX_FILE_NAME_LENGTH);
+    }
+}
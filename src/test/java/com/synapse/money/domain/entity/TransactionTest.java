@@ -0,0 +1,116 @@
+package com.synapse.money.domain.entity;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidTransactionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Transaction Domain Entity Tests")
+class TransactionTest {
+
+    @Test
+    @DisplayName("Should credit the account for income")
+    void shouldCreditAccountForIncome() {
+        Transaction income = makeTransaction(ETransactionType.INCOME, null);
+
+        assertThat(income.balanceDeltaFor(10L)).isEqualByComparingTo("150.00");
+        assertThat(income.balanceDeltaFor(20L)).isEqualByComparingTo("0");
+        assertThat(income.isTransfer()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should debit the account for expense")
+    void shouldDebitAccountForExpense() {
+        Transaction expense = makeTransaction(ETransactionType.EXPENSE, null);
+
+        assertThat(expense.balanceDeltaFor(10L)).isEqualByComparingTo("-150.00");
+    }
+
+    @Test
+    @DisplayName("Should move the amount between accounts for transfer")
+    void shouldMoveAmountBetweenAccountsForTransfer() {
+        Transaction transfer = makeTransaction(ETransactionType.TRANSFER, 20L);
+
+        assertThat(transfer.isTransfer()).isTrue();
+        assertThat(transfer.balanceDeltaFor(10L)).isEqualByComparingTo("-150.00");
+        assertThat(transfer.balanceDeltaFor(20L)).isEqualByComparingTo("150.00");
+        assertThat(transfer.balanceDeltaFor(30L)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    @DisplayName("Should validate amounts against DECIMAL(12,2)")
+    void shouldValidateAmounts() {
+        assertThat(Transaction.isValidAmount(new BigDecimal("0.01"))).isTrue();
+        assertThat(Transaction.isValidAmount(new BigDecimal("9999999999.99"))).isTrue();
+        assertThat(Transaction.isValidAmount(new BigDecimal("10.500"))).isTrue();
+        assertThat(Transaction.isValidAmount(null)).isFalse();
+        assertThat(Transaction.isValidAmount(BigDecimal.ZERO)).isFalse();
+        assertThat(Transaction.isValidAmount(new BigDecimal("-1"))).isFalse();
+        assertThat(Transaction.isValidAmount(new BigDecimal("1.001"))).isFalse();
+        assertThat(Transaction.isValidAmount(new BigDecimal("10000000000.00"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should accept a consistent transfer")
+    void shouldAcceptConsistentTransfer() {
+        assertThatCode(() -> makeTransaction(ETransactionType.TRANSFER, 20L).validate())
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should reject a transfer without a distinct destination account")
+    void shouldRejectTransferWithoutDistinctDestination() {
+        assertThatThrownBy(() -> makeTransaction(ETransactionType.TRANSFER, null).validate())
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Transfer requires a destination account");
+        assertThatThrownBy(() -> makeTransaction(ETransactionType.TRANSFER, 10L).validate())
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Transfer destination must differ from the source account");
+    }
+
+    @Test
+    @DisplayName("Should reject a destination account on non-transfers")
+    void shouldRejectDestinationOnNonTransfer() {
+        assertThatThrownBy(() -> makeTransaction(ETransactionType.EXPENSE, 20L).validate())
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Only transfers can have a destination account");
+    }
+
+    @Test
+    @DisplayName("Should reject a subcategory without category and an invalid amount")
+    void shouldRejectSubcategoryWithoutCategoryAndInvalidAmount() {
+        Transaction orphanSubcategory = makeTransaction(ETransactionType.EXPENSE, null).toBuilder()
+                .subcategoryId(7L)
+                .build();
+        Transaction negative = makeTransaction(ETransactionType.EXPENSE, null).toBuilder()
+                .amount(new BigDecimal("-1.00"))
+                .build();
+
+        assertThatThrownBy(orphanSubcategory::validate)
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Subcategory requires a category");
+        assertThatThrownBy(negative::validate)
+                .isInstanceOf(InvalidTransactionException.class)
+                .hasMessage("Amount must be positive with at most 2 decimal places");
+    }
+
+    private Transaction makeTransaction(
+            ETransactionType type,
+            Long transferAccountId) {
+        return Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .transferAccountId(transferAccountId)
+                .amount(new BigDecimal("150.00"))
+                .transactionDate(LocalDate.of(2024, 3, 3))
+                .transactionType(type)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package com.synapse.money.domain.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EExportFormat Enum Tests")
+class EExportFormatTest {
+
+    @Test
+    @DisplayName("Should expose media type and file extension")
+    void shouldExposeMediaTypeAndFileExtension() {
+        assertThat(EExportFormat.CSV.getMediaType()).isEqualTo("text/csv");
+        assertThat(EExportFormat.CSV.getFileExtension()).isEqualTo("csv");
+        assertThat(EExportFormat.NDJSON.getMediaType()).isEqualTo("application/x-ndjson");
+        assertThat(EExportFormat.NDJSON.getFileExtension()).isEqualTo("ndjson");
+    }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DisplayName("ETransactionType Enum Tests")
 class ETransactionTypeTest {
@@ -49,4 +50,23 @@ class ETransactionTypeTest {
             assertThat(type.getDescription()).isNotNull().isNotEmpty();
         }
     }
+
+    @Test
+    @DisplayName("Should resolve type from description ignoring case and whitespace")
+    void shouldResolveTypeFromDescription() {
+        assertThat(ETransactionType.fromDescription("expense")).isEqualTo(ETransactionType.EXPENSE);
+        assertThat(ETransactionType.fromDescription(" Transfer ")).isEqualTo(ETransactionType.TRANSFER);
+        assertThat(ETransactionType.fromDescription("INCOME")).isEqualTo(ETransactionType.INCOME);
+    }
+
+    @Test
+    @DisplayName("Should reject unknown or null description")
+    void shouldRejectUnknownOrNullDescription() {
+        assertThatThrownBy(() -> ETransactionType.fromDescription("refund"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown transaction type: refund");
+        assertThatThrownBy(() -> ETransactionType.fromDescription(null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Transaction type cannot be null");
+    }
 }
\ No newline at end of file
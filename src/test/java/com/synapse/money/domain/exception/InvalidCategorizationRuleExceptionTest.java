@@ -0,0 +1,20 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidCategorizationRuleException Tests")
+class InvalidCategorizationRuleExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        InvalidCategorizationRuleException exception =
+                new InvalidCategorizationRuleException("Pattern must contain a letter or digit");
+
+        assertThat(exception.getMessage()).isEqualTo("Pattern must contain a letter or digit");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
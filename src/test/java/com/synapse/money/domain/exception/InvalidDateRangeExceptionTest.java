@@ -0,0 +1,19 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidDateRangeException Tests")
+class InvalidDateRangeExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        InvalidDateRangeException exception = new InvalidDateRangeException("'from' must not be after 'to'");
+
+        assertThat(exception.getMessage()).isEqualTo("'from' must not be after 'to'");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
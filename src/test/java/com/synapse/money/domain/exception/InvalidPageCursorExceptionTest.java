@@ -0,0 +1,19 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidPageCursorException Tests")
+class InvalidPageCursorExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        InvalidPageCursorException exception = new InvalidPageCursorException("Invalid page cursor");
+
+        assertThat(exception.getMessage()).isEqualTo("Invalid page cursor");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
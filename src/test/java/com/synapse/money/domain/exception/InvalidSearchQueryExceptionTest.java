@@ -0,0 +1,19 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidSearchQueryException Tests")
+class InvalidSearchQueryExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        InvalidSearchQueryException exception = new InvalidSearchQueryException("Search query too short");
+
+        assertThat(exception.getMessage()).isEqualTo("Search query too short");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
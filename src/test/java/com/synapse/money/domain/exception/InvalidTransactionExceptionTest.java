@@ -0,0 +1,19 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidTransactionException Tests")
+class InvalidTransactionExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        InvalidTransactionException exception = new InvalidTransactionException("Transfer requires a destination account");
+
+        assertThat(exception.getMessage()).isEqualTo("Transfer requires a destination account");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,20 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidTransactionImportException Tests")
+class InvalidTransactionImportExceptionTest {
+
+    @Test
+    @DisplayName("Should prefix message with line number")
+    void shouldPrefixMessageWithLineNumber() {
+        InvalidTransactionImportException exception = new InvalidTransactionImportException(42, "Invalid amount: x");
+
+        assertThat(exception.getMessage()).isEqualTo("Line 42: Invalid amount: x");
+        assertThat(exception.getLineNumber()).isEqualTo(42);
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InvalidWebhookUrlException Tests")
+class InvalidWebhookUrlExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        InvalidWebhookUrlException exception = new InvalidWebhookUrlException("Webhook URL must use https");
+
+        assertThat(exception.getMessage()).isEqualTo("Webhook URL must use https");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
@@ -0,0 +1,19 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResourceNotFoundException Tests")
+class ResourceNotFoundExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        ResourceNotFoundException exception = new ResourceNotFoundException("User not found: 1");
+
+        assertThat(exception.getMessage()).isEqualTo("User not found: 1");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+}
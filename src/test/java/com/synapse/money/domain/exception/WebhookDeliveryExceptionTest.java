@@ -0,0 +1,31 @@
+package com.synapse.money.domain.exception;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebhookDeliveryException Tests")
+class WebhookDeliveryExceptionTest {
+
+    @Test
+    @DisplayName("Should create exception with message")
+    void shouldCreateExceptionWithMessage() {
+        WebhookDeliveryException exception = new WebhookDeliveryException("Webhook endpoint answered 503");
+
+        assertThat(exception.getMessage()).isEqualTo("Webhook endpoint answered 503");
+        assertThat(exception).isInstanceOf(DomainException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep the cause")
+    void shouldKeepCause() {
+        IOException cause = new IOException("Connection refused");
+
+        WebhookDeliveryException exception = new WebhookDeliveryException("Could not reach https://example.com", cause);
+
+        assertThat(exception).hasCause(cause);
+    }
+}
@@ -0,0 +1,214 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CashFlowForecast Tests")
+class CashFlowForecastTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+    private static final LocalDate END = TODAY.plusMonths(12);
+
+    private final CashFlowForecast forecast = new CashFlowForecast(TODAY, END);
+
+    @Test
+    @DisplayName("Should reject an end before today")
+    void shouldRejectEndBeforeToday() {
+        assertThatThrownBy(() -> new CashFlowForecast(TODAY, TODAY.minusDays(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should accumulate daily flows onto today's balance")
+    void shouldAccumulateDailyFlows() {
+        forecast.addBalance(1L, 10_000);
+        forecast.addFlow(1L, TODAY.plusDays(5), -2_000);
+        forecast.addFlow(1L, TODAY.minusDays(3), 500);
+        forecast.addFlow(1L, END.plusDays(1), -99_999);
+
+        List<ForecastPoint> points = forecast.balances(1L, EForecastGranularity.DAY);
+
+        assertThat(points).hasSize(367);
+        assertThat(points.get(0)).isEqualTo(new ForecastPoint(TODAY, Money.ofMinor(10_500)));
+        assertThat(points.get(4).balance()).isEqualTo(Money.ofMinor(10_500));
+        assertThat(points.get(5).balance()).isEqualTo(Money.ofMinor(8_500));
+        assertThat(points.getLast()).isEqualTo(new ForecastPoint(END, Money.ofMinor(8_500)));
+    }
+
+    @Test
+    @DisplayName("Should report today, each month end and the last day by month")
+    void shouldReportMonthEnds() {
+        forecast.addBalance(1L, 1_000);
+
+        List<ForecastPoint> points = forecast.balances(null, EForecastGranularity.MONTH);
+
+        assertThat(points).extracting(ForecastPoint::date).startsWith(
+                TODAY, LocalDate.of(2024, 1, 31), LocalDate.of(2024, 2, 29)
+        ).endsWith(LocalDate.of(2024, 12, 31), END).hasSize(14);
+    }
+
+    @Test
+    @DisplayName("Should sum all accounts or filter to one")
+    void shouldSumOrFilterAccounts() {
+        forecast.addBalance(1L, 1_000);
+        forecast.addBalance(2L, 2_500);
+
+        assertThat(forecast.balances(null, EForecastGranularity.MONTH).getFirst().balance()).isEqualTo(Money.ofMinor(3_500));
+        assertThat(forecast.balances(2L, EForecastGranularity.MONTH).getFirst().balance()).isEqualTo(Money.ofMinor(2_500));
+        assertThat(forecast.hasAccount(2L)).isTrue();
+        assertThat(forecast.hasAccount(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should move a future-dated transaction from today to its date")
+    void shouldDeferBookedTransaction() {
+        forecast.addBalance(1L, 7_000);
+        forecast.addBalance(2L, 3_000);
+        forecast.deferBooked(1L, 2L, ETransactionType.TRANSFER, 3_000, TODAY.plusDays(10));
+
+        assertThat(balanceOn(1L, TODAY)).isEqualTo(10_000);
+        assertThat(balanceOn(2L, TODAY)).isZero();
+        assertThat(balanceOn(1L, TODAY.plusDays(10))).isEqualTo(7_000);
+        assertThat(balanceOn(2L, TODAY.plusDays(10))).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("Should expect an overdue bill tomorrow")
+    void shouldMoveOverdueBillToTomorrow() {
+        forecast.addBalance(1L, 10_000);
+        forecast.addBill(1L, TODAY.minusDays(2), 4_000);
+        forecast.addBill(1L, TODAY.plusDays(20), 1_000);
+
+        assertThat(balanceOn(1L, TODAY)).isEqualTo(10_000);
+        assertThat(balanceOn(1L, TODAY.plusDays(1))).isEqualTo(6_000);
+        assertThat(balanceOn(1L, TODAY.plusDays(20))).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("Should project monthly occurrences after the watermark")
+    void shouldProjectOccurrencesAfterWatermark() {
+        forecast.addBalance(1L, 100_000);
+        forecast.addTemplate(new RecurringTemplate(
+                9L, 1L, null, ETransactionType.EXPENSE, 5_000, LocalDate.of(2023, 11, 5), LocalDate.of(2024, 1, 5)
+        ));
+
+        assertThat(balanceOn(1L, LocalDate.of(2024, 2, 4))).isEqualTo(100_000);
+        assertThat(balanceOn(1L, LocalDate.of(2024, 2, 5))).isEqualTo(95_000);
+        assertThat(balanceOn(1L, END)).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("Should clamp occurrences to the month end")
+    void shouldClampToMonthEnd() {
+        forecast.addTemplate(new RecurringTemplate(
+                9L, 1L, null, ETransactionType.INCOME, 1_000, LocalDate.of(2024, 1, 31), LocalDate.of(2024, 1, 31)
+        ));
+
+        assertThat(balanceOn(1L, LocalDate.of(2024, 2, 28))).isZero();
+        assertThat(balanceOn(1L, LocalDate.of(2024, 2, 29))).isEqualTo(1_000);
+        assertThat(balanceOn(1L, LocalDate.of(2024, 3, 30))).isEqualTo(1_000);
+        assertThat(balanceOn(1L, LocalDate.of(2024, 3, 31))).isEqualTo(2_000);
+        assertThat(balanceOn(1L, LocalDate.of(2024, 4, 30))).isEqualTo(3_000);
+    }
+
+    @Test
+    @DisplayName("Should take back a removed template's occurrences")
+    void shouldRemoveTemplate() {
+        RecurringTemplate template = new RecurringTemplate(
+                9L, 1L, 2L, ETransactionType.TRANSFER, 2_000, LocalDate.of(2023, 6, 20), LocalDate.of(2024, 1, 20)
+        );
+        forecast.addBalance(1L, 0);
+        forecast.addTemplate(template);
+
+        assertThat(balanceOn(2L, END)).isEqualTo(22_000);
+        assertThat(forecast.removeTemplate(9L)).isEqualTo(template);
+        assertThat(forecast.removeTemplate(9L)).isNull();
+        assertThat(balanceOn(1L, END)).isZero();
+        assertThat(balanceOn(2L, END)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should swap a template's occurrences for the materialized transaction")
+    void shouldRetireMaterializedOccurrence() {
+        forecast.addBalance(1L, 100_000);
+        forecast.addTemplate(new RecurringTemplate(
+                9L, 1L, null, ETransactionType.EXPENSE, 5_000, LocalDate.of(2023, 11, 5), TODAY
+        ));
+
+        forecast.apply(TransactionChange.created(transaction(20L, 5_000, LocalDate.of(2024, 2, 5), false).toBuilder()
+                .recurringSourceId(9L)
+                .build()));
+
+        assertThat(balanceOn(1L, LocalDate.of(2024, 2, 5))).isEqualTo(95_000);
+        assertThat(balanceOn(1L, END)).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("Should post a new transaction on its date and today")
+    void shouldApplyCreatedTransaction() {
+        forecast.addBalance(1L, 10_000);
+
+        forecast.apply(TransactionChange.created(transaction(20L, 1_000, TODAY.minusDays(10), false)));
+        forecast.apply(TransactionChange.created(transaction(21L, 2_000, TODAY.plusDays(3), false)));
+
+        assertThat(balanceOn(1L, TODAY)).isEqualTo(9_000);
+        assertThat(balanceOn(1L, TODAY.plusDays(3))).isEqualTo(7_000);
+    }
+
+    @Test
+    @DisplayName("Should project a new template from today and keep the watermark on edit")
+    void shouldApplyTemplateChanges() {
+        forecast.addBalance(1L, 100_000);
+        Transaction template = transaction(9L, 5_000, LocalDate.of(2023, 12, 20), true);
+
+        forecast.apply(TransactionChange.created(template));
+        assertThat(balanceOn(1L, TODAY)).isEqualTo(95_000);
+        assertThat(balanceOn(1L, LocalDate.of(2024, 1, 20))).isEqualTo(90_000);
+        assertThat(balanceOn(1L, END)).isEqualTo(35_000);
+
+        Transaction edited = template.toBuilder().amount(new BigDecimal("10.00")).build();
+        forecast.apply(TransactionChange.updated(template, edited));
+        assertThat(balanceOn(1L, LocalDate.of(2024, 1, 20))).isEqualTo(98_000);
+        assertThat(balanceOn(1L, END)).isEqualTo(87_000);
+
+        forecast.apply(TransactionChange.deleted(edited));
+        assertThat(balanceOn(1L, END)).isEqualTo(100_000);
+    }
+
+    private long balanceOn(
+            Long accountId,
+            LocalDate date) {
+        return forecast.balances(accountId, EForecastGranularity.DAY).stream()
+                .filter(point -> point.date().equals(date))
+                .findFirst()
+                .orElseThrow()
+                .balance()
+                .minorUnits();
+    }
+
+    private static Transaction transaction(
+            Long id,
+            long amountMinorUnits,
+            LocalDate date,
+            boolean recurring) {
+        return Transaction.builder()
+                .id(id)
+                .userId(1L)
+                .accountId(1L)
+                .amount(Money.ofMinor(amountMinorUnits).toBigDecimal())
+                .transactionType(ETransactionType.EXPENSE)
+                .transactionDate(date)
+                .isRecurring(recurring)
+                .build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.synapse.money.domain.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Categorizes descriptions against a user's rules with the compiled
+ * {@link Categorizer} and with a loop of {@code contains} calls, one
+ * description per operation cycling through the whole set. Not part of the
+ * test suite; run {@link #main} from the IDE or with
+ * {@code java -cp target/test-classes:<test classpath>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategorizerBenchmark {
+
+    private static final String LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    @Param("10000")
+    private int rules;
+
+    @Param("1000000")
+    private int descriptions;
+
+    private List<CategorizationRule> ruleList;
+    private String[] upperCasePatterns;
+    private String[] texts;
+    private Categorizer categorizer;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        ruleList = new ArrayList<>(rules);
+        upperCasePatterns = new String[rules];
+        for (int i = 0; i < rules; i++) {
+            String pattern = word(random, 5 + random.nextInt(6));
+            ruleList.add(new CategorizationRule((long) i, pattern, (long) (i % 50), null));
+            upperCasePatterns[i] = pattern.toUpperCase(Locale.ROOT);
+        }
+        texts = new String[descriptions];
+        for (int i = 0; i < descriptions; i++) {
+            String merchant = random.nextInt(4) == 0 ? ruleList.get(random.nextInt(rules)).pattern() : word(random, 8);
+            texts[i] = word(random, 3) + " *" + merchant + " " + random.nextInt(10_000);
+        }
+        categorizer = Categorizer.compile(
+                ruleList,
+                MerchantRuleSet.EMPTY,
+                new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of())
+        );
+    }
+
+    @Benchmark
+    public Optional<CategoryAssignment> automaton() {
+        return categorizer.categorize(nextText());
+    }
+
+    @Benchmark
+    public Optional<CategoryAssignment> containsLoop() {
+        String text = nextText().toUpperCase(Locale.ROOT);
+        for (int i = 0; i < upperCasePatterns.length; i++) {
+            if (text.contains(upperCasePatterns[i])) {
+                CategorizationRule rule = ruleList.get(i);
+                return Optional.of(new CategoryAssignment(rule.categoryId(), rule.subcategoryId()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public Categorizer compile() {
+        return Categorizer.compile(ruleList, MerchantRuleSet.EMPTY, new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of()));
+    }
+
+    private String nextText() {
+        String text = texts[next];
+        next = next + 1 == texts.length ? 0 : next + 1;
+        return text;
+    }
+
+    private static String word(
+            SplittableRandom random,
+            int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CategorizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
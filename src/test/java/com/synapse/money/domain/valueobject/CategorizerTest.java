@@ -0,0 +1,74 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Categorizer Tests")
+class CategorizerTest {
+
+    private static final ImportLookup LOOKUP = new ImportLookup(
+            Map.of(),
+            Map.of("food", 20L, "transport", 21L),
+            Map.of("food/delivery", 30L, "transport/ride hailing", 31L),
+            Map.of()
+    );
+
+    private static final MerchantRuleSet MERCHANTS = MerchantRuleSet.compile(List.of(
+            new MerchantRule(1L, "ifood", "Food", "Delivery"),
+            new MerchantRule(2L, "uber", "Transport", "Ride hailing"),
+            new MerchantRule(3L, "uber eats", "Food", "Delivery"),
+            new MerchantRule(4L, "steam", "Games", null),
+            new MerchantRule(5L, "99 taxi", "Transport", "Taxi")
+    ));
+
+    @Test
+    @DisplayName("Should resolve merchant rules to the user's categories by name")
+    void shouldResolveMerchantRules() {
+        Categorizer categorizer = Categorizer.compile(List.of(), MERCHANTS, LOOKUP);
+
+        assertThat(categorizer.categorize("IFOOD *RESTAURANTE")).contains(new CategoryAssignment(20L, 30L));
+        assertThat(categorizer.categorize("Uber *Trip")).contains(new CategoryAssignment(21L, 31L));
+        assertThat(categorizer.categorize("UBER EATS")).contains(new CategoryAssignment(20L, 30L));
+    }
+
+    @Test
+    @DisplayName("Should skip merchant categories the user does not have")
+    void shouldSkipUnknownMerchantCategories() {
+        Categorizer categorizer = Categorizer.compile(List.of(), MERCHANTS, LOOKUP);
+
+        assertThat(categorizer.categorize("STEAM PURCHASE")).isEmpty();
+        assertThat(categorizer.categorize("99 TAXI")).contains(new CategoryAssignment(21L, null));
+    }
+
+    @Test
+    @DisplayName("Should let the user's rules win over merchant rules")
+    void shouldPreferUserRules() {
+        Categorizer categorizer = Categorizer.compile(
+                List.of(
+                        new CategorizationRule(7L, "uber", 50L, null),
+                        new CategorizationRule(8L, "trip", 51L, 52L)
+                ),
+                MERCHANTS,
+                LOOKUP
+        );
+
+        assertThat(categorizer.categorize("UBER EATS")).contains(new CategoryAssignment(50L, null));
+        assertThat(categorizer.categorize("ifood trip")).contains(new CategoryAssignment(51L, 52L));
+        assertThat(categorizer.categorize("IFOOD")).contains(new CategoryAssignment(20L, 30L));
+    }
+
+    @Test
+    @DisplayName("Should return empty for missing or unmatched descriptions")
+    void shouldReturnEmptyWhenNothingMatches() {
+        Categorizer categorizer = Categorizer.compile(List.of(), MERCHANTS, LOOKUP);
+
+        assertThat(categorizer.categorize(null)).isEmpty();
+        assertThat(categorizer.categorize("Rent")).isEmpty();
+        assertThat(Categorizer.compile(List.of(), MerchantRuleSet.EMPTY, LOOKUP).categorize("IFOOD")).isEmpty();
+    }
+}
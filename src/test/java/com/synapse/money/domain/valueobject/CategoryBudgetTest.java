@@ -0,0 +1,37 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CategoryBudget Tests")
+class CategoryBudgetTest {
+
+    @Test
+    @DisplayName("Should derive the remaining amount and floor the used percentage")
+    void shouldDeriveRemainingAndPercent() {
+        CategoryBudget budget = budget("200.00", "133.99");
+
+        assertThat(budget.remainingAmount()).isEqualByComparingTo("66.01");
+        assertThat(budget.usedPercent()).isEqualTo(66);
+    }
+
+    @Test
+    @DisplayName("Should report overspending past one hundred percent")
+    void shouldReportOverspending() {
+        CategoryBudget budget = budget("100.00", "150.00");
+
+        assertThat(budget.remainingAmount()).isEqualByComparingTo("-50.00");
+        assertThat(budget.usedPercent()).isEqualTo(150);
+    }
+
+    private static CategoryBudget budget(
+            String limit,
+            String consumed) {
+        return new CategoryBudget(1L, 3L, YearMonth.of(2024, 3), new BigDecimal(limit), new BigDecimal(consumed));
+    }
+}
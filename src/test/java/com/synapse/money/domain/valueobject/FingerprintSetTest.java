@@ -0,0 +1,55 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FingerprintSet Tests")
+class FingerprintSetTest {
+
+    @Test
+    @DisplayName("Should report whether a fingerprint was added")
+    void shouldAddOnce() {
+        FingerprintSet set = new FingerprintSet();
+
+        assertThat(set.add(42L)).isTrue();
+        assertThat(set.add(42L)).isFalse();
+        assertThat(set.contains(42L)).isTrue();
+        assertThat(set.contains(43L)).isFalse();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold zero like any other fingerprint")
+    void shouldHoldZero() {
+        FingerprintSet set = new FingerprintSet();
+
+        assertThat(set.contains(0L)).isFalse();
+        assertThat(set.add(0L)).isTrue();
+        assertThat(set.add(0L)).isFalse();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep every fingerprint while growing")
+    void shouldGrow() {
+        SplittableRandom random = new SplittableRandom(7);
+        Set<Long> expected = new HashSet<>();
+        FingerprintSet set = new FingerprintSet();
+
+        for (int i = 0; i < 10_000; i++) {
+            long fingerprint = random.nextInt(5_000) * 0x1_0000_0000L;
+            assertThat(set.add(fingerprint)).isEqualTo(expected.add(fingerprint));
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        expected.forEach(fingerprint -> assertThat(set.contains(fingerprint)).isTrue());
+        assertThat(set.contains(5_001 * 0x1_0000_0000L)).isFalse();
+    }
+}
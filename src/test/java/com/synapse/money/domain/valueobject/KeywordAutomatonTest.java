@@ -0,0 +1,111 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeywordAutomaton Tests")
+class KeywordAutomatonTest {
+
+    @Test
+    @DisplayName("Should normalize case, accents and separator runs")
+    void shouldNormalize() {
+        assertThat(KeywordAutomaton.normalize("  iFood *SP ")).isEqualTo("IFOOD SP");
+        assertThat(KeywordAutomaton.normalize("Padaria São João-24h")).isEqualTo("PADARIA SAO JOAO 24H");
+        assertThat(KeywordAutomaton.normalize("*** ---")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find keywords anywhere in the text")
+    void shouldFindKeywords() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("uber", "netflix", "posto shell"));
+
+        assertThat(automaton.keywordCount()).isEqualTo(3);
+        assertThat(automaton.find("UBER *TRIP 1234")).isZero();
+        assertThat(automaton.find("pagamento Netflix.com")).isEqualTo(1);
+        assertThat(automaton.find("POSTO   SHELL-BR 116")).isEqualTo(2);
+        assertThat(automaton.find("supermercado")).isEqualTo(-1);
+        assertThat(automaton.find("")).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should prefer the longest keyword and then the first compiled")
+    void shouldPreferLongestThenFirst() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("uber", "uber eats", "eats", "UBER"));
+
+        assertThat(automaton.find("UBER EATS PEDIDO")).isEqualTo(1);
+        assertThat(automaton.find("uber trip")).isZero();
+        assertThat(automaton.find("just eats")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should follow failure links into overlapping keywords")
+    void shouldFollowFailureLinks() {
+        KeywordAutomaton automaton = KeywordAutomaton.compile(List.of("abcd", "bce"));
+
+        assertThat(automaton.find("xabce")).isEqualTo(1);
+        assertThat(automaton.find("abcabcd")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should agree with a naive substring scan on random input")
+    void shouldAgreeWithNaiveScan() {
+        Random random = new Random(42);
+        List<String> keywords = IntStream.range(0, 200)
+                .mapToObj(i -> randomWord(random, "abc", 2 + random.nextInt(5)))
+                .toList();
+        KeywordAutomaton automaton = KeywordAutomaton.compile(keywords);
+
+        for (int i = 0; i < 500; i++) {
+            String text = randomWord(random, "abc ", 5 + random.nextInt(30));
+            assertThat(automaton.find(text)).as(text).isEqualTo(naiveFind(keywords, text));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject keywords without letters or digits")
+    void shouldRejectBlankKeywords() {
+        assertThatThrownBy(() -> KeywordAutomaton.compile(List.of("ok", " * ")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Keyword has no letter or digit:  * ");
+    }
+
+    @Test
+    @DisplayName("Should match nothing when compiled without keywords")
+    void shouldMatchNothingWhenEmpty() {
+        assertThat(KeywordAutomaton.compile(List.of()).find("anything")).isEqualTo(-1);
+    }
+
+    private static int naiveFind(
+            List<String> keywords,
+            String text) {
+        String normalized = KeywordAutomaton.normalize(text);
+        int best = -1;
+        int bestLength = 0;
+        for (int i = 0; i < keywords.size(); i++) {
+            String keyword = KeywordAutomaton.normalize(keywords.get(i));
+            if (normalized.contains(keyword) && keyword.length() > bestLength) {
+                best = i;
+                bestLength = keyword.length();
+            }
+        }
+        return best;
+    }
+
+    private static String randomWord(
+            Random random,
+            String alphabet,
+            int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return word.toString();
+    }
+}
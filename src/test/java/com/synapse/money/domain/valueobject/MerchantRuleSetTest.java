@@ -0,0 +1,42 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MerchantRuleSet Tests")
+class MerchantRuleSetTest {
+
+    @Test
+    @DisplayName("Should resolve category names case-insensitively")
+    void shouldResolveCategoryNames() {
+        MerchantRuleSet rules = MerchantRuleSet.compile(List.of(
+                new MerchantRule(1L, "ifood", " FOOD ", "Delivery"),
+                new MerchantRule(2L, "netflix", "Streaming", null)
+        ));
+        ImportLookup lookup = new ImportLookup(
+                Map.of(),
+                Map.of("food", 20L, "streaming", 22L),
+                Map.of("food/delivery", 30L),
+                Map.of()
+        );
+
+        assertThat(rules.size()).isEqualTo(2);
+        assertThat(rules.automaton().keywordCount()).isEqualTo(2);
+        assertThat(rules.resolve(0, lookup)).isEqualTo(new CategoryAssignment(20L, 30L));
+        assertThat(rules.resolve(1, lookup)).isEqualTo(new CategoryAssignment(22L, null));
+    }
+
+    @Test
+    @DisplayName("Should not resolve a category the user does not have")
+    void shouldNotResolveMissingCategory() {
+        MerchantRuleSet rules = MerchantRuleSet.compile(List.of(new MerchantRule(1L, "ifood", "Food", "Delivery")));
+
+        assertThat(rules.resolve(0, new ImportLookup(Map.of(), Map.of(), Map.of(), Map.of()))).isNull();
+        assertThat(MerchantRuleSet.EMPTY.size()).isZero();
+    }
+}
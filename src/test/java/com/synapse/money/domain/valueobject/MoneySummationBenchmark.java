@@ -0,0 +1,110 @@
+package com.synapse.money.domain.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sums a report-sized batch of amounts as {@code BigDecimal}, as {@link Money}
+ * and as raw cents. Not part of the test suite; run {@link #main} from the IDE
+ * or with {@code java -cp target/test-classes:<test classpath>} and add
+ * {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneySummationBenchmark {
+
+    private static final int CATEGORIES = 32;
+
+    @Param("200000")
+    private int rows;
+
+    private BigDecimal[] decimals;
+    private Money[] amounts;
+    private long[] minorUnits;
+    private int[] categories;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        decimals = new BigDecimal[rows];
+        amounts = new Money[rows];
+        minorUnits = new long[rows];
+        categories = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            long cents = random.nextLong(-500_000, 500_000);
+            decimals[i] = BigDecimal.valueOf(cents, Money.SCALE);
+            amounts[i] = Money.ofMinor(cents);
+            minorUnits[i] = cents;
+            categories[i] = random.nextInt(CATEGORIES);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (BigDecimal amount : decimals) {
+            total = total.add(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        Money total = Money.ZERO;
+        for (Money amount : amounts) {
+            total = total.plus(amount);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long minorUnitsTotal() {
+        return Money.sum(minorUnits);
+    }
+
+    @Benchmark
+    public BigDecimal[] bigDecimalTotalsByCategory() {
+        BigDecimal[] totals = new BigDecimal[CATEGORIES];
+        Arrays.fill(totals, BigDecimal.ZERO);
+        for (int i = 0; i < rows; i++) {
+            totals[categories[i]] = totals[categories[i]].add(decimals[i]);
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public MoneyTotals minorUnitsTotalsByCategory() {
+        MoneyTotals totals = new MoneyTotals(CATEGORIES);
+        for (int i = 0; i < rows; i++) {
+            totals.add(categories[i], minorUnits[i]);
+        }
+        return totals;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneySummationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Money Tests")
+class MoneyTest {
+
+    @Test
+    @DisplayName("Should convert exactly to and from BigDecimal cents")
+    void shouldConvertExactly() {
+        Money money = Money.of(new BigDecimal("1234.5"));
+
+        assertThat(money.minorUnits()).isEqualTo(123_450L);
+        assertThat(money.toBigDecimal()).isEqualByComparingTo("1234.50");
+        assertThat(money.toBigDecimal().scale()).isEqualTo(2);
+        assertThat(Money.ofMinor(-5)).isEqualTo(Money.of(new BigDecimal("-0.05")));
+    }
+
+    @Test
+    @DisplayName("Should reject amounts with fractions of a cent")
+    void shouldRejectFractionsOfCent() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001")))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("Amount is not a whole number of cents: 0.001");
+    }
+
+    @Test
+    @DisplayName("Should do exact arithmetic and compare by cents")
+    void shouldDoExactArithmetic() {
+        Money ten = Money.ofMinor(1000);
+        Money three = Money.ofMinor(300);
+
+        assertThat(ten.plus(three)).isEqualTo(Money.ofMinor(1300));
+        assertThat(ten.minus(three)).isEqualTo(Money.ofMinor(700));
+        assertThat(three.negate()).isEqualTo(Money.ofMinor(-300));
+        assertThat(three.times(3)).isEqualTo(Money.ofMinor(900));
+        assertThat(three.negate().signum()).isEqualTo(-1);
+        assertThat(Money.ZERO.signum()).isZero();
+        assertThat(ten).isGreaterThan(three);
+    }
+
+    @Test
+    @DisplayName("Should throw on overflow instead of wrapping")
+    void shouldThrowOnOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1))).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).minus(Money.ofMinor(1)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.ofMinor(Long.MIN_VALUE).negate()).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> max.times(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.sum(new long[]{Long.MAX_VALUE, 1})).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Should sum a primitive array or a slice of it")
+    void shouldSumPrimitiveArray() {
+        long[] amounts = {100, -250, 990, 5};
+
+        assertThat(Money.sum(amounts)).isEqualTo(845L);
+        assertThat(Money.sum(amounts, 1, 3)).isEqualTo(740L);
+        assertThat(Money.sum(new long[0])).isZero();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 0.00",
+            "5, 0.05",
+            "-5, -0.05",
+            "123450, 1234.50",
+            "-100, -1.00",
+            "9223372036854775807, 92233720368547758.07",
+            "-9223372036854775808, -92233720368547758.08"
+    })
+    @DisplayName("Should format as a plain two-decimal string")
+    void shouldFormatPlain(long minorUnits, String expected) {
+        char[] buffer = new char[Money.MAX_PLAIN_LENGTH];
+
+        int length = Money.formatPlain(minorUnits, buffer);
+
+        assertThat(new String(buffer, 0, length)).isEqualTo(expected);
+        assertThat(Money.ofMinor(minorUnits)).hasToString(expected);
+    }
+}
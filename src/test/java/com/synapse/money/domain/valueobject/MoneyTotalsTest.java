@@ -0,0 +1,36 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MoneyTotals Tests")
+class MoneyTotalsTest {
+
+    @Test
+    @DisplayName("Should keep an exact running total per bucket")
+    void shouldKeepRunningTotalPerBucket() {
+        MoneyTotals totals = new MoneyTotals(3);
+
+        totals.add(0, 1050);
+        totals.add(0, -50);
+        totals.add(2, 999);
+
+        assertThat(totals.size()).isEqualTo(3);
+        assertThat(totals.minorUnits(0)).isEqualTo(1000L);
+        assertThat(totals.total(1)).isEqualTo(Money.ZERO);
+        assertThat(totals.total(2)).isEqualTo(Money.ofMinor(999));
+        assertThat(totals.grandTotal()).isEqualTo(Money.ofMinor(1999));
+    }
+
+    @Test
+    @DisplayName("Should throw when a bucket overflows")
+    void shouldThrowOnOverflow() {
+        MoneyTotals totals = new MoneyTotals(1);
+        totals.add(0, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> totals.add(0, 1)).isInstanceOf(ArithmeticException.class);
+    }
+}
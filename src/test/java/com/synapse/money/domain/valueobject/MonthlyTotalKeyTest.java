@@ -0,0 +1,42 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MonthlyTotalKey Tests")
+class MonthlyTotalKeyTest {
+
+    @Test
+    @DisplayName("Should bucket a transaction by calendar month")
+    void shouldBucketTransactionByMonth() {
+        Transaction transaction = Transaction.builder()
+                .userId(1L)
+                .categoryId(3L)
+                .transactionDate(LocalDate.of(2024, 2, 29))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+
+        assertThat(MonthlyTotalKey.of(transaction))
+                .isEqualTo(new MonthlyTotalKey(1L, YearMonth.of(2024, 2), 3L, null, ETransactionType.EXPENSE));
+    }
+
+    @Test
+    @DisplayName("Should order keys with uncategorised buckets first")
+    void shouldOrderKeysWithUncategorisedFirst() {
+        MonthlyTotalKey categorised = new MonthlyTotalKey(1L, YearMonth.of(2024, 1), 3L, null, ETransactionType.EXPENSE);
+        MonthlyTotalKey uncategorised = new MonthlyTotalKey(1L, YearMonth.of(2024, 1), null, null, ETransactionType.EXPENSE);
+        MonthlyTotalKey earlier = new MonthlyTotalKey(1L, YearMonth.of(2023, 12), 9L, null, ETransactionType.INCOME);
+
+        assertThat(new TreeSet<>(List.of(categorised, uncategorised, earlier)))
+                .containsExactly(earlier, uncategorised, categorised);
+    }
+}
@@ -0,0 +1,63 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@DisplayName("PlatformStatisticsAccumulator Tests")
+class PlatformStatisticsAccumulatorTest {
+
+    @Test
+    @DisplayName("Should count active users, volume per type and category use")
+    void shouldAccumulateTransactions() {
+        PlatformStatisticsAccumulator accumulator = new PlatformStatisticsAccumulator();
+
+        accumulator.addTransaction(1L, ETransactionType.EXPENSE, 1_000, 3L);
+        accumulator.addTransaction(1L, ETransactionType.INCOME, 50_000, null);
+        accumulator.addTransaction(2L, ETransactionType.EXPENSE, 250, 3L);
+        accumulator.addTransaction(2L, ETransactionType.TRANSFER, 7_000, 9L);
+
+        assertThat(accumulator.activeUsers()).isEqualTo(2);
+        assertThat(accumulator.transactionCount(ETransactionType.EXPENSE)).isEqualTo(2);
+        assertThat(accumulator.volume(ETransactionType.EXPENSE)).isEqualTo(Money.ofMinor(1_250));
+        assertThat(accumulator.volume(ETransactionType.INCOME)).isEqualTo(Money.ofMinor(50_000));
+        assertThat(accumulator.transactionCount(ETransactionType.TRANSFER)).isEqualTo(1);
+        assertThat(accumulator.categoryPopularity()).containsExactly(entry(3L, 2L), entry(9L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should merge disjoint ranges into platform totals")
+    void shouldMergeRanges() {
+        PlatformStatisticsAccumulator first = new PlatformStatisticsAccumulator();
+        first.addTransaction(1L, ETransactionType.EXPENSE, 1_000, 4L);
+        first.addAccounts(2, 10_000);
+        PlatformStatisticsAccumulator second = new PlatformStatisticsAccumulator();
+        second.addTransaction(7L, ETransactionType.EXPENSE, 500, 2L);
+        second.addTransaction(7L, ETransactionType.INCOME, 300, 4L);
+        second.addAccounts(1, 5_001);
+
+        PlatformStatisticsAccumulator totals = new PlatformStatisticsAccumulator().merge(first).merge(second);
+
+        assertThat(totals.activeUsers()).isEqualTo(2);
+        assertThat(totals.volume(ETransactionType.EXPENSE)).isEqualTo(Money.ofMinor(1_500));
+        assertThat(totals.transactionCount(ETransactionType.INCOME)).isEqualTo(1);
+        assertThat(totals.accountCount()).isEqualTo(3);
+        assertThat(totals.totalBalance()).isEqualTo(Money.ofMinor(15_001));
+        assertThat(totals.averageBalance()).isEqualByComparingTo("50.00");
+        assertThat(totals.categoryPopularity()).containsExactly(entry(4L, 2L), entry(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should report a zero average balance without accounts")
+    void shouldReportZeroAverageWithoutAccounts() {
+        PlatformStatisticsAccumulator accumulator = new PlatformStatisticsAccumulator();
+
+        assertThat(accumulator.averageBalance()).isEqualTo("0.00");
+        assertThat(accumulator.categoryPopularity()).isEqualTo(Map.of());
+    }
+}
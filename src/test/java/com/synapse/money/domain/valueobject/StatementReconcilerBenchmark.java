@@ -0,0 +1,81 @@
+package com.synapse.money.domain.valueobject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconciles a statement against a ledger of the same size spread over a
+ * year, where a few percent of lines on each side have no counterpart and
+ * amounts repeat often enough that descriptions decide between candidates.
+ * Not part of the test suite; run {@link #main} from the IDE or with
+ * {@code java -cp target/test-classes:<test classpath>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StatementReconcilerBenchmark {
+
+    private static final String[] MERCHANTS = {
+            "SUPERMARKET", "PHARMACY", "GAS STATION", "RESTAURANT", "BAKERY", "BOOKSTORE", "CINEMA", "TAXI"
+    };
+
+    @Param("100000")
+    private int lines;
+
+    private List<StatementLine> statement;
+    private List<LedgerEntry> ledger;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        statement = new ArrayList<>(lines);
+        ledger = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            LocalDate date = start.plusDays(random.nextInt(365));
+            long amount = -(100 + random.nextInt(20_000));
+            String merchant = MERCHANTS[random.nextInt(MERCHANTS.length)];
+            if (random.nextInt(50) != 0) {
+                ledger.add(new LedgerEntry(i, date, amount, merchant.toLowerCase()));
+            }
+            if (random.nextInt(50) != 0) {
+                statement.add(new StatementLine(date.plusDays(random.nextInt(3)), amount, "POS " + merchant + " " + i));
+            }
+        }
+        Collections.shuffle(statement, new Random(7));
+    }
+
+    @Benchmark
+    public List<ReconciliationItem> reconcile() {
+        return StatementReconciler.reconcile(statement, ledger, 3);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(StatementReconcilerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
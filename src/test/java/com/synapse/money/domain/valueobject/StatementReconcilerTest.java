@@ -0,0 +1,189 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("StatementReconciler Tests")
+class StatementReconcilerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Test
+    @DisplayName("Should match equal amounts within the date tolerance")
+    void shouldMatchWithinTolerance() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(new StatementLine(DAY, -4_250, "UBER TRIP")),
+                List.of(new LedgerEntry(1L, DAY.minusDays(2), -4_250, "Uber")),
+                2
+        );
+
+        assertThat(items).singleElement().satisfies(item -> {
+            assertThat(item.status()).isEqualTo(EReconciliationStatus.MATCHED);
+            assertThat(item.lineNumber()).isEqualTo(1);
+            assertThat(item.transactionId()).isEqualTo(1L);
+            assertThat(item.statementDate()).isEqualTo(DAY);
+            assertThat(item.ledgerDate()).isEqualTo(DAY.minusDays(2));
+            assertThat(item.score()).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("Should report lines outside the tolerance as missing and extra")
+    void shouldReportOutsideToleranceAsMissingAndExtra() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(new StatementLine(DAY, -4_250, "UBER TRIP")),
+                List.of(new LedgerEntry(1L, DAY.plusDays(3), -4_250, "Uber")),
+                2
+        );
+
+        assertThat(items).extracting(ReconciliationItem::status)
+                .containsExactly(EReconciliationStatus.MISSING, EReconciliationStatus.EXTRA);
+        assertThat(items.get(0).transactionId()).isNull();
+        assertThat(items.get(1).lineNumber()).isNull();
+        assertThat(items.get(1).ledgerDate()).isEqualTo(DAY.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("Should never match different amounts or signs")
+    void shouldNotMatchDifferentAmounts() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(new StatementLine(DAY, 10_000, "SALARY")),
+                List.of(new LedgerEntry(1L, DAY, -10_000, "Salary"), new LedgerEntry(2L, DAY, 10_001, "Salary")),
+                3
+        );
+
+        assertThat(items).extracting(ReconciliationItem::status)
+                .containsExactly(EReconciliationStatus.MISSING, EReconciliationStatus.EXTRA, EReconciliationStatus.EXTRA);
+    }
+
+    @Test
+    @DisplayName("Should prefer the candidate with the closest description")
+    void shouldPreferClosestDescription() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(
+                        new StatementLine(DAY, -1_500, "NETFLIX.COM"),
+                        new StatementLine(DAY, -1_500, "SPOTIFY AB")
+                ),
+                List.of(
+                        new LedgerEntry(1L, DAY, -1_500, "Spotify"),
+                        new LedgerEntry(2L, DAY, -1_500, "Netflix")
+                ),
+                0
+        );
+
+        assertThat(items).extracting(ReconciliationItem::transactionId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should prefer the closer date between equally described candidates")
+    void shouldPreferCloserDate() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(new StatementLine(DAY, -900, "COFFEE")),
+                List.of(
+                        new LedgerEntry(1L, DAY.minusDays(2), -900, "Coffee"),
+                        new LedgerEntry(2L, DAY.plusDays(1), -900, "Coffee")
+                ),
+                3
+        );
+
+        assertThat(items.get(0).transactionId()).isEqualTo(2L);
+        assertThat(items.get(1)).satisfies(item -> {
+            assertThat(item.status()).isEqualTo(EReconciliationStatus.EXTRA);
+            assertThat(item.transactionId()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should use each ledger entry at most once")
+    void shouldUseEachEntryOnce() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(
+                        new StatementLine(DAY, -500, "BUS"),
+                        new StatementLine(DAY, -500, "BUS"),
+                        new StatementLine(DAY.plusDays(1), -500, "BUS")
+                ),
+                List.of(new LedgerEntry(1L, DAY, -500, "Bus"), new LedgerEntry(2L, DAY, -500, "Bus")),
+                1
+        );
+
+        assertThat(items).extracting(ReconciliationItem::status).containsExactly(
+                EReconciliationStatus.MATCHED, EReconciliationStatus.MATCHED, EReconciliationStatus.MISSING);
+        assertThat(items).extracting(ReconciliationItem::transactionId).containsExactly(1L, 2L, null);
+    }
+
+    @Test
+    @DisplayName("Should keep statement order for lines and ledger order for extras")
+    void shouldKeepInputOrder() {
+        List<ReconciliationItem> items = StatementReconciler.reconcile(
+                List.of(
+                        new StatementLine(DAY.plusDays(5), -300, "B"),
+                        new StatementLine(DAY, 99_900, "A")
+                ),
+                List.of(
+                        new LedgerEntry(1L, DAY, -700, "X"),
+                        new LedgerEntry(2L, DAY.plusDays(5), -300, "B"),
+                        new LedgerEntry(3L, DAY.plusDays(6), -100, "Y")
+                ),
+                0
+        );
+
+        assertThat(items).extracting(ReconciliationItem::lineNumber).containsExactly(1, 2, null, null);
+        assertThat(items).extracting(ReconciliationItem::transactionId).containsExactly(2L, null, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should reconcile a large shuffled statement completely")
+    void shouldReconcileLargeStatement() {
+        SplittableRandom random = new SplittableRandom(7);
+        List<LedgerEntry> ledger = new ArrayList<>();
+        List<StatementLine> statement = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            LocalDate date = DAY.plusDays(random.nextInt(30));
+            long amount = random.nextBoolean() ? -(100 + i) : 100 + i;
+            ledger.add(new LedgerEntry(i, date, amount, "MERCHANT " + random.nextInt(50)));
+            statement.add(random.nextInt(statement.size() + 1),
+                    new StatementLine(date.plusDays(random.nextInt(3)), amount, "POS MERCHANT"));
+        }
+
+        List<ReconciliationItem> items = StatementReconciler.reconcile(statement, ledger, 2);
+
+        assertThat(items).hasSize(20_000).allMatch(item -> item.status() == EReconciliationStatus.MATCHED);
+    }
+
+    @Test
+    @DisplayName("Should reject a negative tolerance")
+    void shouldRejectNegativeTolerance() {
+        assertThatThrownBy(() -> StatementReconciler.reconcile(List.of(), List.of(), -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should build padded trigrams over normalized text")
+    void shouldBuildTrigrams() {
+        assertThat(StatementReconciler.trigrams("Café")).isEqualTo(StatementReconciler.trigrams("  CAFE!!"));
+        assertThat(StatementReconciler.trigrams("ab")).hasSize(3);
+        assertThat(StatementReconciler.trigrams("---")).isEmpty();
+        assertThat(StatementReconciler.trigrams(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should score similarity as the Jaccard index of trigrams")
+    void shouldScoreSimilarity() {
+        int[] netflix = StatementReconciler.trigrams("Netflix");
+
+        assertThat(StatementReconciler.similarity(netflix, netflix)).isEqualTo(1.0);
+        assertThat(StatementReconciler.similarity(netflix, StatementReconciler.trigrams("NETFLIX.COM")))
+                .isBetween(0.5, 1.0);
+        assertThat(StatementReconciler.similarity(netflix, StatementReconciler.trigrams("Spotify"))).isZero();
+        assertThat(StatementReconciler.similarity(netflix, new int[0])).isZero();
+    }
+}
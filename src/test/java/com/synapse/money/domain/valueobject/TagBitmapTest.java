@@ -0,0 +1,112 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TagBitmap Tests")
+class TagBitmapTest {
+
+    @Test
+    @DisplayName("Should hold sparse and dense chunks and list values largest first")
+    void shouldHoldSparseAndDenseChunks() {
+        TagBitmap.Builder builder = TagBitmap.builder().add(3).add(3).add(70_000);
+        for (int value = 200_000; value < 210_000; value++) {
+            builder.add(value);
+        }
+        TagBitmap bitmap = builder.build();
+
+        assertThat(bitmap.cardinality()).isEqualTo(10_002);
+        assertThat(bitmap.contains(3)).isTrue();
+        assertThat(bitmap.contains(4)).isFalse();
+        assertThat(bitmap.contains(205_000)).isTrue();
+        assertThat(bitmap.contains(-1)).isFalse();
+        assertThat(bitmap.descendingBelow(Integer.MAX_VALUE, 2)).containsExactly(209_999, 209_998);
+        assertThat(bitmap.descendingBelow(200_001, 4)).containsExactly(200_000, 70_000, 3);
+    }
+
+    @Test
+    @DisplayName("Should reject values out of order")
+    void shouldRejectValuesOutOfOrder() {
+        TagBitmap.Builder builder = TagBitmap.builder().add(5);
+
+        assertThatThrownBy(() -> builder.add(4))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Values must be added in ascending order");
+    }
+
+    @Test
+    @DisplayName("Should agree with a plain bit set on and, or and and-not across container kinds")
+    void shouldAgreeWithBitSet() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            BitSet left = randomSet(random);
+            BitSet right = randomSet(random);
+
+            assertOperation(left, right, TagBitmap::and, BitSet::and);
+            assertOperation(left, right, TagBitmap::or, BitSet::or);
+            assertOperation(left, right, TagBitmap::andNot, BitSet::andNot);
+        }
+    }
+
+    @Test
+    @DisplayName("Should shrink a dense chunk back to an empty result")
+    void shouldDropEmptyChunks() {
+        TagBitmap.Builder builder = TagBitmap.builder();
+        for (int value = 0; value < TagBitmap.ARRAY_LIMIT * 2; value++) {
+            builder.add(value);
+        }
+        TagBitmap dense = builder.build();
+
+        assertThat(dense.andNot(dense).cardinality()).isZero();
+        assertThat(dense.and(TagBitmap.empty()).descendingBelow(Integer.MAX_VALUE, 10)).isEmpty();
+    }
+
+    private static void assertOperation(
+            BitSet left,
+            BitSet right,
+            BinaryOperator<TagBitmap> operation,
+            BiConsumer<BitSet, BitSet> expected) {
+        BitSet result = (BitSet) left.clone();
+        expected.accept(result, right);
+
+        TagBitmap actual = operation.apply(bitmapOf(left), bitmapOf(right));
+
+        int[] descending = result.stream().toArray();
+        for (int i = 0, j = descending.length - 1; i < j; i++, j--) {
+            int swap = descending[i];
+            descending[i] = descending[j];
+            descending[j] = swap;
+        }
+        assertThat(actual.cardinality()).isEqualTo(result.cardinality());
+        assertThat(actual.descendingBelow(Integer.MAX_VALUE, Integer.MAX_VALUE)).isEqualTo(descending);
+    }
+
+    /**
+     * Three chunks, each randomly empty, sparse or dense.
+     */
+    private static BitSet randomSet(Random random) {
+        BitSet set = new BitSet();
+        for (int chunk = 0; chunk < 3; chunk++) {
+            int density = random.nextInt(3);
+            int count = density == 0 ? 0 : density == 1 ? random.nextInt(50) + 1 : TagBitmap.ARRAY_LIMIT + random.nextInt(20_000);
+            for (int i = 0; i < count; i++) {
+                set.set((chunk << 16) + random.nextInt(1 << 16));
+            }
+        }
+        return set;
+    }
+
+    private static TagBitmap bitmapOf(BitSet set) {
+        TagBitmap.Builder builder = TagBitmap.builder();
+        set.stream().forEach(builder::add);
+        return builder.build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionChange Tests")
+class TransactionChangeTest {
+
+    @Test
+    @DisplayName("Should expose the user of whichever state is present")
+    void shouldExposeUserOfPresentState() {
+        Transaction transaction = transactionOn(LocalDate.of(2024, 3, 1));
+
+        assertThat(TransactionChange.created(transaction).userId()).isEqualTo(1L);
+        assertThat(TransactionChange.deleted(transaction).userId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Should report the earliest date touched by an update")
+    void shouldReportEarliestDateTouchedByUpdate() {
+        Transaction march = transactionOn(LocalDate.of(2024, 3, 1));
+        Transaction january = transactionOn(LocalDate.of(2024, 1, 15));
+
+        assertThat(TransactionChange.updated(march, january).earliestDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(TransactionChange.updated(january, march).earliestDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(TransactionChange.created(march).earliestDate()).isEqualTo(LocalDate.of(2024, 3, 1));
+    }
+
+    @Test
+    @DisplayName("Should reject a change without any state")
+    void shouldRejectChangeWithoutState() {
+        assertThatThrownBy(() -> new TransactionChange(null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Transaction transactionOn(LocalDate date) {
+        return Transaction.builder()
+                .userId(1L)
+                .transactionDate(date)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("TransactionCube Tests")
+class TransactionCubeTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 12, 31);
+
+    private final TransactionCube cube = TransactionCube.builder()
+            .add(LocalDate.of(2024, 1, 5), 1_000, 7L, 1L, ETransactionType.EXPENSE)
+            .add(LocalDate.of(2024, 1, 31), 250_000, null, 1L, ETransactionType.INCOME)
+            .add(LocalDate.of(2024, 3, 1), 2_500, 3L, 2L, ETransactionType.EXPENSE)
+            .add(LocalDate.of(2024, 3, 15), 40_000, null, 1L, ETransactionType.TRANSFER)
+            .add(LocalDate.of(2024, 3, 31), 500, 7L, 2L, ETransactionType.EXPENSE)
+            .build();
+
+    @Test
+    @DisplayName("Should sum per month and skip empty months")
+    void shouldGroupByMonth() {
+        assertThat(cube.size()).isEqualTo(5);
+        assertThat(cube.aggregate(query(EInsightDimension.MONTH, FROM, TO, null, null, null))).containsExactly(
+                new InsightTotal(YearMonth.of(2024, 1), null, null, null, Money.ofMinor(251_000), 2),
+                new InsightTotal(YearMonth.of(2024, 3), null, null, null, Money.ofMinor(43_000), 3)
+        );
+    }
+
+    @Test
+    @DisplayName("Should sum per category in id order with uncategorised first")
+    void shouldGroupByCategory() {
+        assertThat(cube.aggregate(query(EInsightDimension.CATEGORY, FROM, TO, null, null, null))).containsExactly(
+                new InsightTotal(null, null, null, null, Money.ofMinor(290_000), 2),
+                new InsightTotal(null, 3L, null, null, Money.ofMinor(2_500), 1),
+                new InsightTotal(null, 7L, null, null, Money.ofMinor(1_500), 2)
+        );
+    }
+
+    @Test
+    @DisplayName("Should sum per account for one type only")
+    void shouldGroupByAccountFilteredByType() {
+        assertThat(cube.aggregate(query(EInsightDimension.ACCOUNT, FROM, TO, ETransactionType.EXPENSE, null, null)))
+                .containsExactly(
+                        new InsightTotal(null, null, 1L, null, Money.ofMinor(1_000), 1),
+                        new InsightTotal(null, null, 2L, null, Money.ofMinor(3_000), 2)
+                );
+    }
+
+    @Test
+    @DisplayName("Should sum per type within an inclusive date range and filters")
+    void shouldGroupByTypeWithinRangeAndFilters() {
+        LocalDate from = LocalDate.of(2024, 1, 31);
+        LocalDate to = LocalDate.of(2024, 3, 15);
+
+        assertThat(cube.aggregate(query(EInsightDimension.TYPE, from, to, null, null, 1L))).containsExactly(
+                new InsightTotal(null, null, null, ETransactionType.TRANSFER, Money.ofMinor(40_000), 1),
+                new InsightTotal(null, null, null, ETransactionType.INCOME, Money.ofMinor(250_000), 1)
+        );
+        assertThat(cube.aggregate(query(EInsightDimension.TYPE, FROM, TO, null, 7L, 2L))).containsExactly(
+                new InsightTotal(null, null, null, ETransactionType.EXPENSE, Money.ofMinor(500), 1)
+        );
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown ids or an empty range")
+    void shouldReturnNothingWhenNothingMatches() {
+        assertThat(cube.aggregate(query(EInsightDimension.MONTH, FROM, TO, null, 99L, null))).isEmpty();
+        assertThat(cube.aggregate(query(EInsightDimension.MONTH, FROM, TO, null, null, 99L))).isEmpty();
+        assertThat(cube.aggregate(query(EInsightDimension.MONTH, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31),
+                null, null, null))).isEmpty();
+        assertThat(TransactionCube.builder().build().aggregate(query(EInsightDimension.MONTH, FROM, TO, null, null, null)))
+                .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should grow past the initial capacity and span year boundaries")
+    void shouldGrowAndSpanYears() {
+        TransactionCube.Builder builder = TransactionCube.builder();
+        LocalDate date = LocalDate.of(2023, 12, 1);
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(date.plusDays(i / 10), 100, (long) (i % 40), i % 3, ETransactionType.EXPENSE);
+        }
+        TransactionCube large = builder.build();
+
+        assertThat(large.size()).isEqualTo(1_000);
+        assertThat(large.aggregate(query(EInsightDimension.MONTH, date, date.plusDays(99), null, null, null)))
+                .extracting(InsightTotal::month, InsightTotal::transactionCount)
+                .containsExactly(
+                        tuple(YearMonth.of(2023, 12), 310L),
+                        tuple(YearMonth.of(2024, 1), 310L),
+                        tuple(YearMonth.of(2024, 2), 290L),
+                        tuple(YearMonth.of(2024, 3), 90L)
+                );
+    }
+
+    @Test
+    @DisplayName("Should reject rows added out of date order")
+    void shouldRejectRowsOutOfOrder() {
+        TransactionCube.Builder builder = TransactionCube.builder()
+                .add(LocalDate.of(2024, 2, 1), 100, null, 1L, ETransactionType.EXPENSE);
+
+        assertThatThrownBy(() -> builder.add(LocalDate.of(2024, 1, 31), 100, null, 1L, ETransactionType.EXPENSE))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rows must be added in transaction date order");
+    }
+
+    private static TransactionCubeQuery query(
+            EInsightDimension groupBy,
+            LocalDate from,
+            LocalDate to,
+            ETransactionType type,
+            Long categoryId,
+            Long accountId) {
+        return new TransactionCubeQuery(groupBy, from, to, type, categoryId, accountId);
+    }
+}
@@ -0,0 +1,64 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionCursor Tests")
+class TransactionCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through its opaque token")
+    void shouldRoundTripThroughToken() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2024, 3, 3), 987654321L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("2024").doesNotContain("=");
+        assertThat(TransactionCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should point after the given transaction")
+    void shouldPointAfterTransaction() {
+        Transaction transaction = Transaction.builder()
+                .id(42L)
+                .transactionDate(LocalDate.of(2024, 1, 31))
+                .build();
+
+        assertThat(TransactionCursor.after(transaction))
+                .isEqualTo(new TransactionCursor(LocalDate.of(2024, 1, 31), 42L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "djE6YWJjOjE", "djI6MTox", "djE6MQ", "djE6OTk5OTk5OTk5OTk5OjE"})
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens(String token) {
+        assertThatThrownBy(() -> TransactionCursor.decode(token))
+                .isInstanceOf(InvalidPageCursorException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    @Test
+    @DisplayName("Fixture tokens decode to the intended raw values")
+    void fixtureTokensDecodeToIntendedValues() {
+        assertThat(raw("djE6YWJjOjE")).isEqualTo("v1:abc:1");
+        assertThat(raw("djI6MTox")).isEqualTo("v2:1:1");
+        assertThat(raw("djE6MQ")).isEqualTo("v1:1");
+        assertThat(raw("djE6OTk5OTk5OTk5OTk5OjE")).isEqualTo("v1:999999999999:1");
+    }
+
+    private String raw(String token) {
+        return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,67 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionFingerprint Tests")
+class TransactionFingerprintTest {
+
+    private static final LocalDate DATE = LocalDate.of(2024, 3, 1);
+
+    @Test
+    @DisplayName("Should ignore case, accents, punctuation and amount scale in the description")
+    void shouldNormalizeDescription() {
+        long fingerprint = fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.50", "Padaria São João *SP");
+
+        assertThat(fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.5", "padaria sao joao sp")).isEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("Should tell apart every field")
+    void shouldDependOnEveryField() {
+        long fingerprint = fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.50", "Coffee");
+
+        assertThat(fingerprint(11L, DATE, ETransactionType.EXPENSE, "12.50", "Coffee")).isNotEqualTo(fingerprint);
+        assertThat(fingerprint(10L, DATE.plusDays(1), ETransactionType.EXPENSE, "12.50", "Coffee")).isNotEqualTo(fingerprint);
+        assertThat(fingerprint(10L, DATE, ETransactionType.INCOME, "12.50", "Coffee")).isNotEqualTo(fingerprint);
+        assertThat(fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.51", "Coffee")).isNotEqualTo(fingerprint);
+        assertThat(fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.50", "Coffees")).isNotEqualTo(fingerprint);
+        assertThat(fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.50", null)).isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    @DisplayName("Should keep the base for the first occurrence and derive distinct ones after it")
+    void shouldDeriveOccurrences() {
+        long base = fingerprint(10L, DATE, ETransactionType.EXPENSE, "4.50", "Coffee");
+
+        assertThat(TransactionFingerprint.occurrence(base, 0)).isEqualTo(base);
+        assertThat(TransactionFingerprint.occurrence(base, 1))
+                .isNotEqualTo(base)
+                .isNotEqualTo(TransactionFingerprint.occurrence(base, 2))
+                .isEqualTo(TransactionFingerprint.occurrence(base, 1));
+    }
+
+    @Test
+    @DisplayName("Should stay stable across releases")
+    void shouldStayStable() {
+        long fingerprint = fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.50", "Coffee");
+
+        assertThat(fingerprint).isEqualTo(fingerprint(10L, DATE, ETransactionType.EXPENSE, "12.50", "COFFEE"));
+        assertThat(fingerprint).isEqualTo(0x5fce1aa714789a36L);
+    }
+
+    private static long fingerprint(
+            long accountId,
+            LocalDate date,
+            ETransactionType type,
+            String amount,
+            String description) {
+        return TransactionFingerprint.base(accountId, date, type, new BigDecimal(amount), description);
+    }
+}
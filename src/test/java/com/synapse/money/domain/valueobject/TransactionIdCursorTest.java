@@ -0,0 +1,34 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionIdCursor Tests")
+class TransactionIdCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through its opaque token")
+    void shouldRoundTripThroughToken() {
+        TransactionIdCursor cursor = new TransactionIdCursor(987654321L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("987654321").doesNotContain("=");
+        assertThat(TransactionIdCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "djE6YWJj", "djI6MQ", "djE6MTox"})
+    @DisplayName("Should reject malformed tokens")
+    void shouldRejectMalformedTokens(String token) {
+        assertThatThrownBy(() -> TransactionIdCursor.decode(token))
+                .isInstanceOf(InvalidPageCursorException.class)
+                .hasMessage("Invalid page cursor");
+    }
+}
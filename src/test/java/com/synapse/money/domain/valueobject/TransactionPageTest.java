@@ -0,0 +1,45 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionPage Tests")
+class TransactionPageTest {
+
+    @Test
+    @DisplayName("Should expose a cursor when more rows than the limit were fetched")
+    void shouldExposeCursorWhenMoreRowsWereFetched() {
+        List<Transaction> fetched = List.of(make(3L, 5), make(2L, 4), make(1L, 4));
+
+        TransactionPage page = TransactionPage.of(fetched, 2);
+
+        assertThat(page.items()).extracting(Transaction::getId).containsExactly(3L, 2L);
+        assertThat(page.hasMore()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(new TransactionCursor(LocalDate.of(2024, 1, 4), 2L));
+    }
+
+    @Test
+    @DisplayName("Should have no cursor on the last page")
+    void shouldHaveNoCursorOnLastPage() {
+        TransactionPage page = TransactionPage.of(List.of(make(1L, 1)), 2);
+
+        assertThat(page.items()).hasSize(1);
+        assertThat(page.hasMore()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    private Transaction make(
+            Long id,
+            int day) {
+        return Transaction.builder()
+                .id(id)
+                .transactionDate(LocalDate.of(2024, 1, day))
+                .build();
+    }
+}
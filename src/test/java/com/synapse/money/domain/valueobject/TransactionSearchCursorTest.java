@@ -0,0 +1,52 @@
+package com.synapse.money.domain.valueobject;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionSearchCursor Tests")
+class TransactionSearchCursorTest {
+
+    @Test
+    @DisplayName("Should round-trip through its opaque token")
+    void shouldRoundTripThroughToken() {
+        TransactionSearchCursor cursor = new TransactionSearchCursor(875, LocalDate.of(2024, 3, 3), 987654321L);
+
+        assertThat(TransactionSearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Should point after the given hit")
+    void shouldPointAfterHit() {
+        Transaction transaction = Transaction.builder().id(42L).transactionDate(LocalDate.of(2024, 1, 31)).build();
+
+        assertThat(TransactionSearchCursor.after(new TransactionSearchHit(transaction, 1000)))
+                .isEqualTo(new TransactionSearchCursor(1000, LocalDate.of(2024, 1, 31), 42L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not base64!", "czE6MTox", "djE6MTox"})
+    @DisplayName("Should reject malformed tokens and list cursors")
+    void shouldRejectMalformedTokens(String token) {
+        assertThatThrownBy(() -> TransactionSearchCursor.decode(token))
+                .isInstanceOf(InvalidPageCursorException.class)
+                .hasMessage("Invalid page cursor");
+    }
+
+    @Test
+    @DisplayName("Should reject a list cursor")
+    void shouldRejectListCursor() {
+        String listToken = new TransactionCursor(LocalDate.of(2024, 1, 1), 1L).encode();
+
+        assertThatThrownBy(() -> TransactionSearchCursor.decode(listToken))
+                .isInstanceOf(InvalidPageCursorException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionTagIndex Tests")
+class TransactionTagIndexTest {
+
+    private TransactionTagIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = TransactionTagIndex.builder()
+                .add(10L, "travel")
+                .add(10L, "work")
+                .add(11L, "travel")
+                .add(12L, "travel")
+                .add(12L, "work")
+                .add(12L, "reimbursed")
+                .add(20L, "food")
+                .add(25L, "travel")
+                .add(25L, "work")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should number each tagged transaction once")
+    void shouldNumberTransactions() {
+        assertThat(index.size()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should match all required tags minus the excluded ones")
+    void shouldMatchAllButNone() {
+        TagBitmap matches = index.match(new TransactionTagQuery(Set.of("travel", "work"), Set.of(), Set.of("reimbursed")));
+
+        assertThat(index.idsBefore(matches, null, 10)).containsExactly(25L, 10L);
+    }
+
+    @Test
+    @DisplayName("Should match any of the optional tags")
+    void shouldMatchAny() {
+        TagBitmap matches = index.match(new TransactionTagQuery(Set.of(), Set.of("food", "reimbursed"), Set.of()));
+
+        assertThat(index.idsBefore(matches, null, 10)).containsExactly(20L, 12L);
+    }
+
+    @Test
+    @DisplayName("Should match nothing for an unknown required tag or without inclusions")
+    void shouldMatchNothing() {
+        assertThat(index.match(new TransactionTagQuery(Set.of("travel", "unknown"), Set.of(), Set.of())).cardinality())
+                .isZero();
+        assertThat(index.match(new TransactionTagQuery(Set.of(), Set.of(), Set.of("food"))).cardinality())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("Should page by transaction id, newest first")
+    void shouldPageById() {
+        TagBitmap matches = index.match(new TransactionTagQuery(Set.of("travel"), Set.of(), Set.of()));
+
+        assertThat(index.idsBefore(matches, null, 2)).containsExactly(25L, 12L);
+        assertThat(index.idsBefore(matches, 12L, 2)).containsExactly(11L, 10L);
+        assertThat(index.idsBefore(matches, 15L, 10)).containsExactly(12L, 11L, 10L);
+    }
+
+    @Test
+    @DisplayName("Should reject rows out of transaction id order")
+    void shouldRejectRowsOutOfOrder() {
+        TransactionTagIndex.Builder builder = TransactionTagIndex.builder().add(5L, "travel");
+
+        assertThatThrownBy(() -> builder.add(4L, "travel"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rows must be added in transaction id order");
+    }
+}
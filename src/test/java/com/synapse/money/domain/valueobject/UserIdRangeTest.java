@@ -0,0 +1,30 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserIdRange Tests")
+class UserIdRangeTest {
+
+    @Test
+    @DisplayName("Should split into contiguous ranges with an open-ended last one")
+    void shouldSplitContiguously() {
+        assertThat(UserIdRange.split(1, 10, 3)).containsExactly(
+                new UserIdRange(0, 1, 4),
+                new UserIdRange(1, 5, 8),
+                new UserIdRange(2, 9, Long.MAX_VALUE)
+        );
+    }
+
+    @Test
+    @DisplayName("Should not create more ranges than ids")
+    void shouldNotCreateMoreRangesThanIds() {
+        assertThat(UserIdRange.split(5, 6, 8)).containsExactly(
+                new UserIdRange(0, 5, 5),
+                new UserIdRange(1, 6, Long.MAX_VALUE)
+        );
+        assertThat(UserIdRange.split(1, 1, 4)).containsExactly(new UserIdRange(0, 1, Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,57 @@
+package com.synapse.money.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WebhookBatch Tests")
+class WebhookBatchTest {
+
+    @Test
+    @DisplayName("Should group deliveries per endpoint in outbox order")
+    void shouldGroupPerEndpointInOrder() {
+        List<WebhookBatch> batches = WebhookBatch.groupByEndpoint(List.of(
+                delivery(7, 2),
+                delivery(3, 1),
+                delivery(5, 2),
+                delivery(4, 1)
+        ), 10);
+
+        assertThat(batches).extracting(WebhookBatch::endpointId).containsExactly(1L, 2L);
+        assertThat(batches.get(0).url()).isEqualTo("https://example.com/1");
+        assertThat(batches.get(0).requests()).singleElement()
+                .satisfies(request -> assertThat(request).extracting(WebhookDelivery::id).containsExactly(3L, 4L));
+        assertThat(batches.get(1).requests()).singleElement()
+                .satisfies(request -> assertThat(request).extracting(WebhookDelivery::id).containsExactly(5L, 7L));
+    }
+
+    @Test
+    @DisplayName("Should split an endpoint's events into bounded requests")
+    void shouldSplitIntoBoundedRequests() {
+        List<WebhookBatch> batches = WebhookBatch.groupByEndpoint(List.of(
+                delivery(1, 1),
+                delivery(2, 1),
+                delivery(3, 1)
+        ), 2);
+
+        WebhookBatch batch = batches.getFirst();
+        assertThat(batch.requests()).hasSize(2);
+        assertThat(batch.requests().get(1)).extracting(WebhookDelivery::id).containsExactly(3L);
+        assertThat(batch.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should return no batches for no deliveries")
+    void shouldReturnNoBatches() {
+        assertThat(WebhookBatch.groupByEndpoint(List.of(), 10)).isEmpty();
+    }
+
+    private static WebhookDelivery delivery(
+            long id,
+            long endpointId) {
+        return new WebhookDelivery(id, endpointId, "https://example.com/" + endpointId, "secret", "transaction.created", "{}", 0);
+    }
+}
@@ -0,0 +1,61 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.infrastructure.archive.SegmentTransactionArchiveTest.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlockColumns Tests")
+class BlockColumnsTest {
+
+    @Test
+    @DisplayName("Should decode exactly what was encoded, keeping nulls and empty descriptions apart")
+    void shouldRoundTrip() {
+        BlockColumns columns = new BlockColumns();
+        columns.add(row(40L, 3, null), 3);
+        columns.add(row(7L, 3, ""), 3);
+        columns.add(row(41L, 9, "Ünïcødé ☕"), 9);
+
+        BlockColumns decoded = BlockColumns.decode(ByteBuffer.wrap(columns.encode()), 3);
+
+        assertThat(decoded.ids).containsExactly(40L, 7L, 41L);
+        assertThat(decoded.epochDays).containsExactly(3, 3, 9);
+        assertThat(decoded.description(0)).isNull();
+        assertThat(decoded.description(1)).isEmpty();
+        assertThat(decoded.description(2)).isEqualTo("Ünïcødé ☕");
+        assertThat(BlockColumns.idOrNull(decoded.categoryIds[0])).isNull();
+        assertThat(BlockColumns.idOrNull(decoded.transferAccountIds[0])).isEqualTo(11L);
+        assertThat(decoded.type(2)).isEqualTo(ETransactionType.TRANSFER);
+        assertThat(decoded.recurring).containsExactly(1, 1, 1);
+    }
+
+    @Test
+    @DisplayName("Should grow past its initial capacity and start over after clear")
+    void shouldGrowAndClear() {
+        BlockColumns columns = new BlockColumns();
+        for (int i = 0; i < 1_000; i++) {
+            columns.add(row(i + 1L, i, "Row " + i), i);
+        }
+
+        BlockColumns decoded = BlockColumns.decode(ByteBuffer.wrap(columns.encode()), 1_000);
+        columns.clear();
+
+        assertThat(decoded.ids[999]).isEqualTo(1_000L);
+        assertThat(decoded.description(999)).isEqualTo("Row 999");
+        assertThat(columns.size).isZero();
+        assertThat(columns.encode()).isEmpty();
+    }
+
+    private static Row row(
+            long id,
+            int epochDay,
+            String description) {
+        return new Row(id, 10L, null, null, null, 11L, 100L, description, LocalDate.ofEpochDay(epochDay),
+                ETransactionType.TRANSFER, true);
+    }
+}
@@ -0,0 +1,190 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.ArchiveSegmentRepository;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.repository.TransactionRowSource;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import com.synapse.money.domain.valueobject.TransactionRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SegmentTransactionArchive Tests")
+class SegmentTransactionArchiveTest {
+
+    private static final LocalDate YEAR_START = LocalDate.of(2021, 1, 1);
+    private static final LocalDate YEAR_END = LocalDate.of(2021, 12, 31);
+
+    private static final List<Row> ROWS = List.of(
+            new Row(5L, 10L, 20L, 21L, null, null, 1_250L, "Café da manhã", LocalDate.of(2021, 1, 3), ETransactionType.EXPENSE, false),
+            new Row(9L, 10L, null, null, 30L, null, 99_000L, null, LocalDate.of(2021, 1, 3), ETransactionType.INCOME, true),
+            new Row(4L, 10L, null, null, null, 11L, 50_000L, "Savings", LocalDate.of(2021, 2, 14), ETransactionType.TRANSFER, false),
+            new Row(12L, 11L, 20L, null, null, null, 300L, "", LocalDate.of(2021, 2, 28), ETransactionType.EXPENSE, false),
+            new Row(13L, 11L, 22L, null, null, null, 4_500L, "Gym", LocalDate.of(2021, 7, 1), ETransactionType.EXPENSE, true)
+    );
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private ArchiveSegmentRepository archiveSegmentRepository;
+
+    private SegmentTransactionArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new SegmentTransactionArchive(archiveSegmentRepository, directory);
+    }
+
+    @Test
+    @DisplayName("Should write the period into one file per user and leave no temporary file")
+    void shouldWriteSegmentFile() throws IOException {
+        ArchiveSegment segment = archive.write(7L, YEAR_START, YEAR_END, source(ROWS));
+
+        Path file = directory.resolve("7/2021-01-01_2021-12-31.tseg");
+        assertThat(segment).isEqualTo(new ArchiveSegment(
+                7L, YEAR_START, YEAR_END, "7/2021-01-01_2021-12-31.tseg", 5, Files.size(file)));
+        try (Stream<Path> files = Files.list(directory.resolve("7"))) {
+            assertThat(files).containsExactly(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read back every column of every row in order")
+    void shouldRoundTripRows() throws IOException {
+        ArchiveSegment segment = archive.write(7L, YEAR_START, YEAR_END, source(ROWS));
+        when(archiveSegmentRepository.findOverlapping(7L, LocalDate.MIN, LocalDate.MAX)).thenReturn(List.of(segment));
+
+        assertThat(read(archive.scan(7L, LocalDate.MIN, LocalDate.MAX))).isEqualTo(ROWS);
+    }
+
+    @Test
+    @DisplayName("Should return only the rows dated within the scanned range")
+    void shouldRestrictScanToRange() throws IOException {
+        ArchiveSegment segment = archive.write(7L, YEAR_START, YEAR_END, source(ROWS));
+        LocalDate from = LocalDate.of(2021, 1, 4);
+        LocalDate to = LocalDate.of(2021, 2, 27);
+        when(archiveSegmentRepository.findOverlapping(7L, from, to)).thenReturn(List.of(segment));
+
+        assertThat(read(archive.scan(7L, from, to))).containsExactly(ROWS.get(2));
+    }
+
+    @Test
+    @DisplayName("Should chain consecutive segments oldest first")
+    void shouldChainSegments() throws IOException {
+        Row older = new Row(1L, 10L, null, null, null, null, 700L, "Old", LocalDate.of(2020, 12, 31),
+                ETransactionType.EXPENSE, false);
+        ArchiveSegment first = archive.write(7L, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), source(List.of(older)));
+        ArchiveSegment second = archive.write(7L, YEAR_START, YEAR_END, source(ROWS));
+        LocalDate to = LocalDate.of(2021, 1, 3);
+        when(archiveSegmentRepository.findOverlapping(7L, LocalDate.MIN, to)).thenReturn(List.of(first, second));
+
+        assertThat(read(archive.scan(7L, LocalDate.MIN, to))).containsExactly(older, ROWS.get(0), ROWS.get(1));
+    }
+
+    @Test
+    @DisplayName("Should return an empty cursor when no segment overlaps")
+    void shouldReturnEmptyCursorWithoutSegments() throws IOException {
+        when(archiveSegmentRepository.findOverlapping(7L, YEAR_START, YEAR_END)).thenReturn(List.of());
+
+        assertThat(archive.scan(7L, YEAR_START, YEAR_END).next()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replace a file left behind by an uncommitted attempt")
+    void shouldReplaceStaleFile() throws IOException {
+        archive.write(7L, YEAR_START, YEAR_END, source(ROWS));
+        ArchiveSegment segment = archive.write(7L, YEAR_START, YEAR_END, source(ROWS.subList(0, 1)));
+        when(archiveSegmentRepository.findOverlapping(7L, YEAR_START, YEAR_END)).thenReturn(List.of(segment));
+
+        assertThat(read(archive.scan(7L, YEAR_START, YEAR_END))).containsExactly(ROWS.get(0));
+    }
+
+    @Test
+    @DisplayName("Should reject rows outside the period without leaving a file")
+    void shouldRejectRowsOutsidePeriod() throws IOException {
+        Row outside = new Row(99L, 10L, null, null, null, null, 1L, null, LocalDate.of(2022, 1, 1),
+                ETransactionType.EXPENSE, false);
+
+        assertThatThrownBy(() -> archive.write(7L, YEAR_START, YEAR_END, source(List.of(ROWS.get(0), outside))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("outside the archived period");
+        try (Stream<Path> files = Files.list(directory.resolve("7"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject rows out of date and id order")
+    void shouldRejectUnorderedRows() {
+        assertThatThrownBy(() -> archive.write(7L, YEAR_START, YEAR_END, source(List.of(ROWS.get(1), ROWS.get(0)))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Rows must be appended in transaction date and id order");
+    }
+
+    static TransactionRowSource source(List<Row> rows) {
+        return consumer -> {
+            for (Row row : rows) {
+                consumer.accept(row);
+            }
+            return rows.size();
+        };
+    }
+
+    static List<Row> read(TransactionRowCursor cursor) {
+        List<Row> rows = new ArrayList<>();
+        while (cursor.next()) {
+            rows.add(Row.copyOf(cursor));
+        }
+        return rows;
+    }
+
+    record Row(
+            long id,
+            long accountId,
+            Long categoryId,
+            Long subcategoryId,
+            Long creditCardId,
+            Long transferAccountId,
+            long amountMinorUnits,
+            String description,
+            LocalDate transactionDate,
+            ETransactionType transactionType,
+            boolean recurring
+    ) implements TransactionRow {
+
+        static Row copyOf(TransactionRow row) {
+            return new Row(
+                    row.id(),
+                    row.accountId(),
+                    row.categoryId(),
+                    row.subcategoryId(),
+                    row.creditCardId(),
+                    row.transferAccountId(),
+                    row.amountMinorUnits(),
+                    row.description(),
+                    row.transactionDate(),
+                    row.transactionType(),
+                    row.recurring()
+            );
+        }
+    }
+}
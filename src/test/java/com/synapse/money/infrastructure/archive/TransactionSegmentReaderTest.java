@@ -0,0 +1,99 @@
+package com.synapse.money.infrastructure.archive;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.infrastructure.archive.SegmentTransactionArchiveTest.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TransactionSegmentReader Tests")
+class TransactionSegmentReaderTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should index one block per month with its date span")
+    void shouldIndexOneBlockPerMonth() throws IOException {
+        Path file = write(rows(LocalDate.of(2021, 1, 1), 90));
+
+        List<SegmentBlock> blocks = TransactionSegmentReader.open(file).blocks();
+
+        assertThat(blocks).extracting(SegmentBlock::rowCount).containsExactly(31, 28, 31);
+        assertThat(blocks.get(1).firstEpochDay()).isEqualTo(LocalDate.of(2021, 2, 1).toEpochDay());
+        assertThat(blocks.get(1).lastEpochDay()).isEqualTo(LocalDate.of(2021, 2, 28).toEpochDay());
+        assertThat(blocks.get(1).offset()).isEqualTo(blocks.get(0).offset() + blocks.get(0).compressedLength());
+    }
+
+    @Test
+    @DisplayName("Should store repetitive rows well below their raw column size")
+    void shouldCompressBlocks() throws IOException {
+        Path file = write(rows(LocalDate.of(2021, 1, 1), 365));
+
+        List<SegmentBlock> blocks = TransactionSegmentReader.open(file).blocks();
+
+        long raw = blocks.stream().mapToLong(SegmentBlock::rawLength).sum();
+        assertThat(Files.size(file)).isLessThan(raw / 4);
+    }
+
+    @Test
+    @DisplayName("Should refuse a file that is not a segment")
+    void shouldRefuseForeignFile() throws IOException {
+        Path file = Files.write(directory.resolve("foreign.tseg"), new byte[64]);
+
+        assertThatThrownBy(() -> TransactionSegmentReader.open(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Not a transaction segment");
+    }
+
+    @Test
+    @DisplayName("Should detect a damaged block through its checksum")
+    void shouldDetectDamagedBlock() throws IOException {
+        Path file = write(rows(LocalDate.of(2021, 1, 1), 31));
+        byte[] bytes = Files.readAllBytes(file);
+        SegmentBlock block = TransactionSegmentReader.open(file).blocks().get(0);
+        bytes[(int) block.offset() + block.compressedLength() / 2] ^= 0x55;
+        Files.write(file, bytes);
+        TransactionSegmentReader reader = TransactionSegmentReader.open(file);
+
+        assertThatThrownBy(() -> reader.decode(reader.blocks().get(0)))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessageContaining("Corrupt block");
+    }
+
+    private Path write(List<Row> rows) throws IOException {
+        Path file = directory.resolve("segment.tseg");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            TransactionSegmentWriter writer = new TransactionSegmentWriter(channel);
+            for (Row row : rows) {
+                writer.append(row);
+            }
+            writer.finish();
+        }
+        return file;
+    }
+
+    private static List<Row> rows(
+            LocalDate from,
+            int days) {
+        List<Row> rows = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            rows.add(new Row(1_000L + day, 10L, 20L, null, null, null, 4_990L, "Groceries",
+                    from.plusDays(day), ETransactionType.EXPENSE, false));
+        }
+        return rows;
+    }
+}
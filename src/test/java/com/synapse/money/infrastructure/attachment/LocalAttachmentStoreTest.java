@@ -0,0 +1,98 @@
+package com.synapse.money.infrastructure.attachment;
+
+import com.synapse.money.domain.exception.AttachmentTooLargeException;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("LocalAttachmentStore Tests")
+class LocalAttachmentStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private LocalAttachmentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new LocalAttachmentStore(directory);
+    }
+
+    @Test
+    @DisplayName("Should stream content larger than the buffer into the user's directory with its hash")
+    void shouldWriteContentWithHash() throws Exception {
+        byte[] content = new byte[LocalAttachmentStore.BUFFER_SIZE * 2 + 17];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        AttachmentBlob blob = store.write(1L, new ByteArrayInputStream(content), content.length);
+
+        assertThat(blob.storageKey()).startsWith("1/");
+        assertThat(blob.byteSize()).isEqualTo(content.length);
+        assertThat(blob.sha256()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+        assertThat(Files.readAllBytes(directory.resolve(blob.storageKey()))).isEqualTo(content);
+        assertThat(store.localFile(blob.storageKey())).contains(directory.resolve(blob.storageKey()));
+    }
+
+    @Test
+    @DisplayName("Should keep nothing when the content exceeds the limit")
+    void shouldRejectOversizedContent() throws IOException {
+        assertThatThrownBy(() -> store.write(1L, new ByteArrayInputStream(new byte[101]), 100))
+                .isInstanceOf(AttachmentTooLargeException.class)
+                .hasMessage("Attachment exceeds the limit of 100 bytes");
+
+        try (Stream<Path> files = Files.list(directory.resolve("1"))) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should transfer the requested byte range only")
+    void shouldTransferByteRange() throws IOException {
+        AttachmentBlob blob = store.write(1L, stream("receipt-content"), 1_000);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long transferred = store.transferTo(blob.storageKey(), 8, 100, Channels.newChannel(out));
+
+        assertThat(transferred).isEqualTo(7);
+        assertThat(out.toString(StandardCharsets.US_ASCII)).isEqualTo("content");
+    }
+
+    @Test
+    @DisplayName("Should delete the content")
+    void shouldDeleteContent() throws IOException {
+        AttachmentBlob blob = store.write(1L, stream("receipt"), 1_000);
+
+        store.delete(blob.storageKey());
+
+        assertThat(directory.resolve(blob.storageKey())).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should refuse keys that leave the attachment directory")
+    void shouldRefuseEscapingKeys() {
+        assertThatThrownBy(() -> store.localFile("../outside"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,181 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccountRepositoryAdapter Tests")
+class AccountRepositoryAdapterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AccountRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should recompute balances of the given accounts in one statement under ordered locks")
+    void shouldRecomputeBalancesInOneStatement() {
+        List<Long> accountIds = List.of(10L, 11L);
+        when(jdbcTemplate.update(AccountRepositoryAdapter.RECOMPUTE_BALANCES_SQL, Map.of("accountIds", accountIds)))
+                .thenReturn(2);
+
+        assertThat(adapter.recomputeCurrentBalances(accountIds)).isEqualTo(2);
+        assertThat(AccountRepositoryAdapter.RECOMPUTE_BALANCES_SQL)
+                .contains("a.initial_balance + a.archived_delta")
+                .contains("ORDER BY id")
+                .contains("FOR NO KEY UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should fold archived deltas into every touched account in id order")
+    void shouldApplyArchivedDeltas() {
+        ArgumentCaptor<SqlParameterSource[]> batch = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        Map<Long, BigDecimal> deltas = new HashMap<>();
+        deltas.put(11L, BigDecimal.ZERO);
+        deltas.put(10L, new BigDecimal("-42.50"));
+
+        adapter.applyArchivedDeltas(deltas, LocalDate.of(2021, 12, 31));
+
+        verify(jdbcTemplate).batchUpdate(eq(AccountRepositoryAdapter.APPLY_ARCHIVED_DELTA_SQL), batch.capture());
+        assertThat(batch.getValue()).extracting(params -> params.getValue("accountId")).containsExactly(10L, 11L);
+        assertThat(batch.getValue()[0].getValue("delta")).isEqualTo(new BigDecimal("-42.50"));
+        assertThat(batch.getValue()[0].getValue("archivedThrough")).isEqualTo(Date.valueOf(LocalDate.of(2021, 12, 31)));
+        assertThat(AccountRepositoryAdapter.APPLY_ARCHIVED_DELTA_SQL)
+                .contains("archived_through = GREATEST(archived_through, :archivedThrough)");
+    }
+
+    @Test
+    @DisplayName("Should skip the database when no account is affected")
+    void shouldSkipDatabaseWhenNoAccountIsAffected() {
+        assertThat(adapter.recomputeCurrentBalances(List.of())).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should report ownership only when every distinct account belongs to the user")
+    void shouldCheckOwnershipOfDistinctAccounts() {
+        when(jdbcTemplate.queryForObject(
+                AccountRepositoryAdapter.COUNT_OWNED_SQL,
+                Map.of("userId", 1L, "accountIds", Set.of(10L, 11L)),
+                Long.class
+        )).thenReturn(2L, 1L);
+
+        assertThat(adapter.allOwnedBy(1L, List.of(10L, 11L, 10L))).isTrue();
+        assertThat(adapter.allOwnedBy(1L, List.of(10L, 11L))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should return the owned subset of the distinct accounts in one query")
+    void shouldFindOwnedSubsetOfDistinctAccounts() {
+        when(jdbcTemplate.queryForList(
+                AccountRepositoryAdapter.FIND_OWNED_IDS_SQL,
+                Map.of("userId", 1L, "accountIds", Set.of(10L, 11L)),
+                Long.class
+        )).thenReturn(List.of(10L));
+
+        assertThat(adapter.findOwnedIds(1L, List.of(10L, 11L, 10L))).containsExactly(10L);
+        assertThat(adapter.findOwnedIds(1L, List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should apply non-zero balance deltas in one ordered statement")
+    void shouldApplyDeltasInOneOrderedStatement() throws SQLException {
+        JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        Array amounts = mock(Array.class);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(connection.prepareStatement(AccountRepositoryAdapter.APPLY_BALANCE_DELTAS_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Long[]{10L, 20L})).thenReturn(ids);
+        when(connection.createArrayOf("numeric", new BigDecimal[]{new BigDecimal("-5.00"), new BigDecimal("5.00")}))
+                .thenReturn(amounts);
+
+        adapter.applyBalanceDeltas(Map.of(
+                20L, new BigDecimal("5.00"),
+                10L, new BigDecimal("-5.00"),
+                15L, BigDecimal.ZERO
+        ));
+
+        verify(jdbcOperations).update(creator.capture());
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setArray(1, ids);
+        verify(statement).setArray(2, ids);
+        verify(statement).setArray(3, amounts);
+        assertThat(AccountRepositoryAdapter.APPLY_BALANCE_DELTAS_SQL)
+                .contains("ORDER BY id")
+                .contains("FOR NO KEY UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should skip the database when every delta nets to zero")
+    void shouldSkipDatabaseWhenDeltasNetToZero() {
+        adapter.applyBalanceDeltas(Map.of(10L, BigDecimal.ZERO));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should read the current balances of the given accounts")
+    void shouldReadCurrentBalances() throws SQLException {
+        ArgumentCaptor<RowCallbackHandler> handler = ArgumentCaptor.forClass(RowCallbackHandler.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(11L, 10L);
+        when(rs.getBigDecimal("current_balance")).thenReturn(new BigDecimal("5.00"), new BigDecimal("-20.00"));
+
+        Map<Long, BigDecimal> balances = adapter.findCurrentBalances(Set.of(10L, 11L));
+
+        verify(jdbcTemplate).query(
+                eq(AccountRepositoryAdapter.FIND_CURRENT_BALANCES_SQL),
+                eq(Map.of("accountIds", Set.of(10L, 11L))),
+                handler.capture()
+        );
+        handler.getValue().processRow(rs);
+        handler.getValue().processRow(rs);
+        assertThat(balances).containsExactly(
+                Map.entry(10L, new BigDecimal("-20.00")),
+                Map.entry(11L, new BigDecimal("5.00"))
+        );
+    }
+
+    @Test
+    @DisplayName("Should not query balances of no accounts")
+    void shouldSkipBalancesOfNoAccounts() {
+        assertThat(adapter.findCurrentBalances(Set.of())).isEmpty();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,132 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.application.handler.AccountBalanceChangeHandler;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.application.usecase.ArchiveTransactionsUseCase;
+import com.synapse.money.application.usecase.MaterializeRecurringTransactionsUseCase;
+import com.synapse.money.domain.valueobject.MaterializationBatch;
+import com.synapse.money.infrastructure.archive.SegmentTransactionArchive;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives a year holding both a one-off expense and a recurring template,
+ * then runs the materializer against the same database.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Archiving recurring templates Tests")
+class ArchiveRecurringTemplateIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should keep a recurring template in the table and keep materializing it after archiving its year")
+    void shouldKeepMaterializingArchivedYearTemplates() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        Long userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES ('archive@example.com', 'x', 'Archive', 'Test')
+                RETURNING id
+                """, Long.class);
+        Long institutionId = jdbcTemplate.queryForObject(
+                "INSERT INTO financial_institutions (name) VALUES ('Bank') RETURNING id", Long.class);
+        Long accountTypeId = jdbcTemplate.queryForObject(
+                "INSERT INTO account_types (name) VALUES ('Checking') RETURNING id", Long.class);
+        Long accountId = jdbcTemplate.queryForObject("""
+                INSERT INTO accounts (user_id, financial_institution_id, account_type_id, name,
+                                      initial_balance, current_balance)
+                VALUES (?, ?, ?, 'Checking', 1000.00, 1000.00)
+                RETURNING id
+                """, Long.class, userId, institutionId, accountTypeId);
+        Long oneOffId = jdbcTemplate.queryForObject("""
+                INSERT INTO transactions (user_id, account_id, amount, description, transaction_date,
+                                          transaction_type, is_recurring)
+                VALUES (?, ?, 50.00, 'Groceries', DATE '2021-03-04', 'EXPENSE', false)
+                RETURNING id
+                """, Long.class, userId, accountId);
+        Long templateId = jdbcTemplate.queryForObject("""
+                INSERT INTO transactions (user_id, account_id, amount, description, transaction_date,
+                                          transaction_type, is_recurring)
+                VALUES (?, ?, 900.00, 'Rent', DATE '2021-02-01', 'EXPENSE', true)
+                RETURNING id
+                """, Long.class, userId, accountId);
+
+        AccountRepositoryAdapter accounts = new AccountRepositoryAdapter(namedJdbcTemplate);
+        ArchiveSegmentRepositoryAdapter segments = new ArchiveSegmentRepositoryAdapter(jdbcTemplate);
+        ArchiveTransactionsUseCase archive = new ArchiveTransactionsUseCase(
+                new TransactionRepositoryAdapter(dataSource, jdbcTemplate, new TransactionRowMapper(), null),
+                new SegmentTransactionArchive(segments, archiveDirectory),
+                segments,
+                accounts,
+                new BalanceCheckpointRepositoryAdapter(namedJdbcTemplate),
+                new MonthlyTotalsRepositoryAdapter(jdbcTemplate)
+        );
+        MaterializeRecurringTransactionsUseCase materializer = new MaterializeRecurringTransactionsUseCase(
+                new RecurringTransactionRepositoryAdapter(namedJdbcTemplate, new TransactionRowMapper()),
+                new TransactionChangeDispatcher(List.of(new AccountBalanceChangeHandler(accounts))),
+                new RetryingTransactionExecutor(
+                        new DataSourceTransactionManager(dataSource), 1, Duration.ofMillis(1), Duration.ofMillis(1))
+        );
+
+        archive.execute(userId, Year.of(2022));
+
+        List<Long> remaining = jdbcTemplate.queryForList(
+                "SELECT id FROM transactions WHERE user_id = ? ORDER BY id", Long.class, userId);
+        assertThat(remaining).containsExactly(templateId).doesNotContain(oneOffId);
+        BigDecimal archivedDelta = jdbcTemplate.queryForObject(
+                "SELECT archived_delta FROM accounts WHERE id = ?", BigDecimal.class, accountId);
+        assertThat(archivedDelta).isEqualByComparingTo("-50.00");
+
+        MaterializationBatch batch = materializer.materializeBatch(
+                0, 1, 0, LocalDate.now().plusMonths(3), 100);
+
+        assertThat(batch.claimedTemplates()).isEqualTo(1);
+        assertThat(batch.insertedOccurrences()).isPositive();
+        Integer occurrences = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE recurring_source_id = ?", Integer.class, templateId);
+        assertThat(occurrences).isEqualTo(batch.insertedOccurrences());
+    }
+}
@@ -0,0 +1,78 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArchiveSegmentRepositoryAdapter Tests")
+class ArchiveSegmentRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ArchiveSegmentRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should insert the segment metadata")
+    void shouldInsertSegment() {
+        adapter.save(new ArchiveSegment(
+                7L, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31), "7/2021-01-01_2021-12-31.tseg", 5, 2_048L));
+
+        verify(jdbcTemplate).update(
+                ArchiveSegmentRepositoryAdapter.INSERT_SQL,
+                7L,
+                Date.valueOf(LocalDate.of(2021, 1, 1)),
+                Date.valueOf(LocalDate.of(2021, 12, 31)),
+                "7/2021-01-01_2021-12-31.tseg",
+                5,
+                2_048L
+        );
+    }
+
+    @Test
+    @DisplayName("Should report no horizon for a user without segments")
+    void shouldReportNoHorizonWithoutSegments() {
+        when(jdbcTemplate.queryForObject(ArchiveSegmentRepositoryAdapter.FIND_ARCHIVED_THROUGH_SQL, LocalDate.class, 7L))
+                .thenReturn(null);
+
+        assertThat(adapter.findArchivedThrough(7L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should clamp open-ended ranges to dates the driver can bind")
+    @SuppressWarnings("unchecked")
+    void shouldClampOpenEndedRange() {
+        List<ArchiveSegment> segments = List.of();
+        when(jdbcTemplate.query(
+                eq(ArchiveSegmentRepositoryAdapter.FIND_OVERLAPPING_SQL),
+                any(RowMapper.class),
+                eq(7L),
+                eq(Date.valueOf(LocalDate.of(1, 1, 1))),
+                eq(Date.valueOf(LocalDate.of(9999, 12, 31)))
+        )).thenReturn(segments);
+
+        assertThat(adapter.findOverlapping(7L, LocalDate.MIN, LocalDate.MAX)).isSameAs(segments);
+        assertThat(ArchiveSegmentRepositoryAdapter.FIND_OVERLAPPING_SQL)
+                .contains("period_end >= ?")
+                .contains("period_start <= ?")
+                .contains("ORDER BY period_start");
+    }
+}
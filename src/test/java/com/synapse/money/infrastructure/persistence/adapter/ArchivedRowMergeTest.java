@@ -0,0 +1,44 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.synapse.money.infrastructure.persistence.adapter.ArchivedRows.cursor;
+import static com.synapse.money.infrastructure.persistence.adapter.ArchivedRows.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ArchivedRowMerge Tests")
+class ArchivedRowMergeTest {
+
+    private static final LocalDate DAY = LocalDate.of(2021, 6, 10);
+
+    @Test
+    @DisplayName("Should release archived rows that sort before the hot row by date, then id")
+    void shouldReleaseRowsBeforeHotRow() {
+        ArchivedRowMerge merge = new ArchivedRowMerge(cursor(row(9L, DAY.minusDays(1)), row(4L, DAY), row(6L, DAY)));
+        List<Long> released = new ArrayList<>();
+
+        for (; merge.before(DAY, 5L); merge.advance()) {
+            released.add(merge.row().id());
+        }
+
+        assertThat(released).containsExactly(9L, 4L);
+        assertThat(merge.available()).isTrue();
+        assertThat(merge.row().id()).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("Should report nothing before any hot row once the archive is drained")
+    void shouldStopWhenDrained() {
+        ArchivedRowMerge merge = new ArchivedRowMerge(cursor(row(1L, DAY)));
+
+        merge.advance();
+
+        assertThat(merge.available()).isFalse();
+        assertThat(merge.before(LocalDate.MAX, Long.MAX_VALUE)).isFalse();
+    }
+}
@@ -0,0 +1,107 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.TransactionRowCursor;
+import com.synapse.money.domain.valueobject.TransactionRow;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Archive cursors over fixed rows for the adapter tests.
+ */
+final class ArchivedRows {
+
+    private ArchivedRows() {
+    }
+
+    static Row row(
+            long id,
+            LocalDate date) {
+        return new Row(id, 10L, 3L, null, null, null, 1_000L, "Archived", date, ETransactionType.EXPENSE, false);
+    }
+
+    static TransactionRowCursor cursor(TransactionRow... rows) {
+        Iterator<TransactionRow> iterator = List.of(rows).iterator();
+        return new TransactionRowCursor() {
+
+            private TransactionRow current;
+
+            @Override
+            public boolean next() {
+                current = iterator.hasNext() ? iterator.next() : null;
+                return current != null;
+            }
+
+            @Override
+            public long id() {
+                return current.id();
+            }
+
+            @Override
+            public long accountId() {
+                return current.accountId();
+            }
+
+            @Override
+            public Long categoryId() {
+                return current.categoryId();
+            }
+
+            @Override
+            public Long subcategoryId() {
+                return current.subcategoryId();
+            }
+
+            @Override
+            public Long creditCardId() {
+                return current.creditCardId();
+            }
+
+            @Override
+            public Long transferAccountId() {
+                return current.transferAccountId();
+            }
+
+            @Override
+            public long amountMinorUnits() {
+                return current.amountMinorUnits();
+            }
+
+            @Override
+            public String description() {
+                return current.description();
+            }
+
+            @Override
+            public LocalDate transactionDate() {
+                return current.transactionDate();
+            }
+
+            @Override
+            public ETransactionType transactionType() {
+                return current.transactionType();
+            }
+
+            @Override
+            public boolean recurring() {
+                return current.recurring();
+            }
+        };
+    }
+
+    record Row(
+            long id,
+            long accountId,
+            Long categoryId,
+            Long subcategoryId,
+            Long creditCardId,
+            Long transferAccountId,
+            long amountMinorUnits,
+            String description,
+            LocalDate transactionDate,
+            ETransactionType transactionType,
+            boolean recurring
+    ) implements TransactionRow {}
+}
@@ -0,0 +1,94 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.Attachment;
+import com.synapse.money.domain.valueobject.AttachmentBlob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentRepositoryAdapter Tests")
+class AttachmentRepositoryAdapterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final String SHA256 = "a".repeat(64);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private AttachmentRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should insert through the user's own transaction and map the returned row")
+    @SuppressWarnings("unchecked")
+    void shouldCreateThroughOwnTransaction() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(3L);
+        when(rs.getLong("user_id")).thenReturn(1L);
+        when(rs.getLong("transaction_id")).thenReturn(99L);
+        when(rs.getString("file_name")).thenReturn("receipt.jpg");
+        when(rs.getString("content_type")).thenReturn("image/jpeg");
+        when(rs.getLong("byte_size")).thenReturn(2048L);
+        when(rs.getString("sha256")).thenReturn(SHA256);
+        when(rs.getString("storage_key")).thenReturn("1/key");
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(CREATED_AT));
+        ArgumentCaptor<RowMapper<Attachment>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(
+                eq(AttachmentRepositoryAdapter.CREATE_SQL),
+                mapper.capture(),
+                eq("receipt.jpg"),
+                eq("image/jpeg"),
+                eq(2048L),
+                eq(SHA256),
+                eq("1/key"),
+                eq(99L),
+                eq(1L)
+        )).thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        Optional<Attachment> attachment = adapter.create(
+                1L, 99L, "receipt.jpg", "image/jpeg", new AttachmentBlob("1/key", 2048L, SHA256));
+
+        assertThat(attachment).contains(new Attachment(
+                3L, 1L, 99L, "receipt.jpg", "image/jpeg", 2048L, SHA256, "1/key", CREATED_AT
+        ));
+        assertThat(AttachmentRepositoryAdapter.CREATE_SQL)
+                .contains("FROM transactions t")
+                .contains("AND t.user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should scope lookups and deletes to the user and transaction")
+    @SuppressWarnings("unchecked")
+    void shouldScopeToUserAndTransaction() {
+        adapter.findByTransaction(1L, 99L);
+        adapter.findById(3L, 1L, 99L);
+        adapter.delete(3L, 1L, 99L);
+        adapter.deleteByTransaction(1L, 99L);
+
+        verify(jdbcTemplate).query(eq(AttachmentRepositoryAdapter.FIND_BY_TRANSACTION_SQL), any(RowMapper.class), eq(1L), eq(99L));
+        verify(jdbcTemplate).query(eq(AttachmentRepositoryAdapter.FIND_BY_ID_SQL), any(RowMapper.class), eq(3L), eq(1L), eq(99L));
+        verify(jdbcTemplate).query(eq(AttachmentRepositoryAdapter.DELETE_SQL), any(RowMapper.class), eq(3L), eq(1L), eq(99L));
+        verify(jdbcTemplate).query(eq(AttachmentRepositoryAdapter.DELETE_BY_TRANSACTION_SQL), any(RowMapper.class), eq(1L), eq(99L));
+        assertThat(AttachmentRepositoryAdapter.DELETE_BY_TRANSACTION_SQL).contains("RETURNING");
+    }
+}
@@ -0,0 +1,129 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.BalanceShift;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceCheckpointRepositoryAdapter Tests")
+class BalanceCheckpointRepositoryAdapterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private BalanceCheckpointRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should read the as-of balance in a single user-scoped query")
+    void shouldReadAsOfBalance() {
+        LocalDate date = LocalDate.of(2024, 3, 3);
+        when(jdbcTemplate.queryForList(
+                BalanceCheckpointRepositoryAdapter.BALANCE_AS_OF_SQL,
+                Map.of("userId", 1L, "accountId", 10L, "asOf", Date.valueOf(date)),
+                BigDecimal.class
+        )).thenReturn(List.of(new BigDecimal("1234.56")));
+
+        assertThat(adapter.findBalanceAsOf(1L, 10L, date)).contains(new BigDecimal("1234.56"));
+        assertThat(BalanceCheckpointRepositoryAdapter.BALANCE_AS_OF_SQL)
+                .contains("ORDER BY checkpoint_date DESC")
+                .contains("LIMIT 1")
+                .contains("COALESCE((SELECT balance FROM checkpoint), a.initial_balance + a.archived_delta)")
+                .contains("a.user_id = :userId");
+    }
+
+    @Test
+    @DisplayName("Should report a missing or foreign account as empty")
+    void shouldReturnEmptyForForeignAccount() {
+        LocalDate date = LocalDate.of(2024, 3, 3);
+        when(jdbcTemplate.queryForList(
+                BalanceCheckpointRepositoryAdapter.BALANCE_AS_OF_SQL,
+                Map.of("userId", 1L, "accountId", 99L, "asOf", Date.valueOf(date)),
+                BigDecimal.class
+        )).thenReturn(List.of());
+
+        assertThat(adapter.findBalanceAsOf(1L, 99L, date)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should batch non-zero shifts in account order")
+    void shouldBatchShiftsInAccountOrder() {
+        ArgumentCaptor<SqlParameterSource[]> batch = ArgumentCaptor.forClass(SqlParameterSource[].class);
+
+        adapter.applyShifts(List.of(
+                new BalanceShift(20L, LocalDate.of(2024, 1, 5), new BigDecimal("5.00")),
+                new BalanceShift(10L, LocalDate.of(2024, 1, 5), new BigDecimal("-5.00")),
+                new BalanceShift(15L, LocalDate.of(2024, 1, 5), BigDecimal.ZERO)
+        ));
+
+        verify(jdbcTemplate).batchUpdate(eq(BalanceCheckpointRepositoryAdapter.SHIFT_SQL), batch.capture());
+        assertThat(batch.getValue())
+                .extracting(source -> source.getValue("accountId"))
+                .containsExactly(10L, 20L);
+    }
+
+    @Test
+    @DisplayName("Should lock the user's accounts before replacing their checkpoints")
+    void shouldLockAccountsBeforeRebuild() {
+        Map<String, Object> params = Map.of("accountIds", List.of(10L, 11L));
+        when(jdbcTemplate.queryForList(
+                BalanceCheckpointRepositoryAdapter.LOCK_USER_ACCOUNTS_SQL,
+                Map.of("userId", 1L),
+                Long.class
+        )).thenReturn(List.of(10L, 11L));
+        when(jdbcTemplate.update(BalanceCheckpointRepositoryAdapter.DELETE_SQL, params)).thenReturn(6);
+        when(jdbcTemplate.update(BalanceCheckpointRepositoryAdapter.REBUILD_SQL, params)).thenReturn(7);
+
+        assertThat(adapter.rebuildForUser(1L)).isEqualTo(7);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).queryForList(
+                BalanceCheckpointRepositoryAdapter.LOCK_USER_ACCOUNTS_SQL,
+                Map.of("userId", 1L),
+                Long.class
+        );
+        order.verify(jdbcTemplate).update(BalanceCheckpointRepositoryAdapter.DELETE_SQL, params);
+        order.verify(jdbcTemplate).update(BalanceCheckpointRepositoryAdapter.REBUILD_SQL, params);
+        assertThat(BalanceCheckpointRepositoryAdapter.LOCK_USER_ACCOUNTS_SQL).contains("ORDER BY id").contains("FOR NO KEY UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should keep archived checkpoints and start the running sum after the archive")
+    void shouldKeepArchivedCheckpoints() {
+        assertThat(BalanceCheckpointRepositoryAdapter.DELETE_SQL)
+                .contains("c.checkpoint_date > COALESCE(a.archived_through, '-infinity')");
+        assertThat(BalanceCheckpointRepositoryAdapter.REBUILD_SQL)
+                .contains("a.initial_balance + a.archived_delta")
+                .contains("r.checkpoint_date > COALESCE(r.archived_through, '-infinity')");
+    }
+
+    @Test
+    @DisplayName("Should skip the database when no account is affected")
+    void shouldSkipDatabaseWhenNoAccountIsAffected() {
+        assertThat(adapter.rebuildForAccounts(List.of())).isZero();
+        adapter.applyShifts(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,242 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkEditRepositoryAdapter Tests")
+class BulkEditRepositoryAdapterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionRowMapper rowMapper;
+
+    @InjectMocks
+    private BulkEditRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should create a merge only through two of the user's categories")
+    @SuppressWarnings("unchecked")
+    void shouldCreateMergeThroughOwnCategories() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(7L);
+        when(rs.getLong("user_id")).thenReturn(1L);
+        when(rs.getString("kind")).thenReturn("merge_category");
+        when(rs.getObject("source_category_id", Long.class)).thenReturn(3L);
+        when(rs.getObject("target_category_id", Long.class)).thenReturn(4L);
+        when(rs.getString("status")).thenReturn("pending");
+        when(rs.getLong("last_transaction_id")).thenReturn(0L);
+        when(rs.getLong("total_count")).thenReturn(120L);
+        when(rs.getLong("scanned_count")).thenReturn(0L);
+        when(rs.getLong("updated_count")).thenReturn(0L);
+        when(rs.getString("error")).thenReturn(null);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(CREATED_AT));
+        when(rs.getTimestamp("completed_at")).thenReturn(null);
+        ArgumentCaptor<RowMapper<BulkEdit>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(
+                eq(BulkEditRepositoryAdapter.CREATE_MERGE_SQL),
+                mapper.capture(),
+                eq(3L),
+                eq(4L),
+                eq(1L)
+        )).thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        Optional<BulkEdit> edit = adapter.create(1L, EBulkEditKind.MERGE_CATEGORY, 3L, 4L);
+
+        assertThat(edit).contains(new BulkEdit(
+                7L, 1L, EBulkEditKind.MERGE_CATEGORY, 3L, 4L, EBulkEditStatus.PENDING, 0L, 120L, 0L, 0L, null,
+                CREATED_AT, null
+        ));
+        assertThat(BulkEditRepositoryAdapter.CREATE_MERGE_SQL)
+                .contains("JOIN categories t ON t.user_id = s.user_id")
+                .contains("AND s.user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should create a recategorization counting the user's rows")
+    @SuppressWarnings("unchecked")
+    void shouldCreateRecategorization() {
+        when(jdbcTemplate.query(
+                eq(BulkEditRepositoryAdapter.CREATE_RECATEGORIZE_SQL),
+                any(RowMapper.class),
+                eq(1L),
+                eq(1L)
+        )).thenReturn(List.of());
+
+        assertThat(adapter.create(1L, EBulkEditKind.RECATEGORIZE, null, null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should claim the oldest free edit with a lease in seconds")
+    @SuppressWarnings("unchecked")
+    void shouldClaimWithLease() {
+        when(jdbcTemplate.query(
+                eq(BulkEditRepositoryAdapter.CLAIM_NEXT_SQL),
+                any(RowMapper.class),
+                eq(300L)
+        )).thenReturn(List.of());
+
+        assertThat(adapter.claimNext(Duration.ofMinutes(5))).isEmpty();
+        assertThat(BulkEditRepositoryAdapter.CLAIM_NEXT_SQL)
+                .contains("locked_until IS NULL OR locked_until <= now()")
+                .contains("FOR UPDATE SKIP LOCKED");
+    }
+
+    @Test
+    @DisplayName("Should read a merge chunk from the lowest ids left in the source category")
+    void shouldReadMergeChunkFromSourceCategory() {
+        adapter.findChunkForUpdate(edit(EBulkEditKind.MERGE_CATEGORY, 3L, 40L), 500);
+
+        verify(jdbcTemplate).query(BulkEditRepositoryAdapter.FIND_CATEGORY_CHUNK_SQL, rowMapper, 3L, 1L, 500);
+        assertThat(BulkEditRepositoryAdapter.FIND_CATEGORY_CHUNK_SQL)
+                .doesNotContain("id > ?")
+                .contains("FOR NO KEY UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should read a recategorization chunk after the resume point")
+    void shouldReadRecategorizationChunkAfterResumePoint() {
+        adapter.findChunkForUpdate(edit(EBulkEditKind.RECATEGORIZE, null, 40L), 500);
+
+        verify(jdbcTemplate).query(BulkEditRepositoryAdapter.FIND_USER_CHUNK_SQL, rowMapper, 1L, 40L, 500);
+        assertThat(BulkEditRepositoryAdapter.FIND_USER_CHUNK_SQL)
+                .contains("AND id > ?")
+                .contains("ORDER BY id")
+                .contains("FOR NO KEY UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should write all categories in one batch keyed by id and date")
+    @SuppressWarnings("unchecked")
+    void shouldUpdateCategoriesInOneBatch() throws Exception {
+        Transaction transaction = Transaction.builder()
+                .id(11L)
+                .categoryId(4L)
+                .transactionDate(LocalDate.of(2024, 3, 2))
+                .updatedAt(CREATED_AT)
+                .build();
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Transaction>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+
+        adapter.updateCategories(List.of(transaction));
+
+        verify(jdbcTemplate).batchUpdate(
+                eq(BulkEditRepositoryAdapter.UPDATE_CATEGORY_SQL), eq(List.of(transaction)), eq(1), setter.capture());
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, transaction);
+        verify(ps).setObject(1, 4L, Types.BIGINT);
+        verify(ps).setObject(2, null, Types.BIGINT);
+        verify(ps).setTimestamp(3, Timestamp.valueOf(CREATED_AT));
+        verify(ps).setLong(4, 11L);
+        verify(ps).setDate(5, Date.valueOf(LocalDate.of(2024, 3, 2)));
+    }
+
+    @Test
+    @DisplayName("Should skip the batch when nothing changed")
+    void shouldSkipEmptyBatch() {
+        adapter.updateCategories(List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should move the resume point and renew the lease")
+    @SuppressWarnings("unchecked")
+    void shouldAdvance() {
+        adapter.advance(7L, 40L, 500, 12, Duration.ofMinutes(5));
+
+        verify(jdbcTemplate).queryForObject(
+                eq(BulkEditRepositoryAdapter.ADVANCE_SQL), any(RowMapper.class), eq(40L), eq(500), eq(12), eq(300L), eq(7L));
+    }
+
+    @Test
+    @DisplayName("Should truncate long failure messages")
+    void shouldTruncateFailure() {
+        adapter.fail(7L, "x".repeat(BulkEditRepositoryAdapter.MAX_ERROR_LENGTH + 10));
+
+        verify(jdbcTemplate).update(
+                BulkEditRepositoryAdapter.FAIL_SQL, "x".repeat(BulkEditRepositoryAdapter.MAX_ERROR_LENGTH), 7L);
+    }
+
+    @Test
+    @DisplayName("Should lock the source, fold its budgets and repoint rules before deleting it")
+    void shouldFoldBudgetsAndRepointRulesBeforeDeletingCategory() {
+        when(jdbcTemplate.queryForObject(BulkEditRepositoryAdapter.SOURCE_HAS_TRANSACTIONS_SQL, Boolean.class, 3L, 1L))
+                .thenReturn(false);
+
+        assertThat(adapter.mergeCategory(1L, 3L, 4L)).isTrue();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).queryForList(BulkEditRepositoryAdapter.LOCK_CATEGORY_SQL, Long.class, 3L, 1L);
+        order.verify(jdbcTemplate).queryForObject(
+                BulkEditRepositoryAdapter.SOURCE_HAS_TRANSACTIONS_SQL, Boolean.class, 3L, 1L);
+        order.verify(jdbcTemplate).update(BulkEditRepositoryAdapter.MERGE_BUDGETS_SQL, 4L, 4L, 3L, 1L);
+        order.verify(jdbcTemplate).update(BulkEditRepositoryAdapter.MOVE_RULES_SQL, 4L, 3L, 1L);
+        order.verify(jdbcTemplate).update(BulkEditRepositoryAdapter.DELETE_CATEGORY_SQL, 3L, 1L);
+        assertThat(BulkEditRepositoryAdapter.LOCK_CATEGORY_SQL).contains("FOR UPDATE");
+        assertThat(BulkEditRepositoryAdapter.MERGE_BUDGETS_SQL)
+                .contains("ON CONFLICT (user_id, month, category_id) DO UPDATE")
+                .contains("limit_amount = category_budgets.limit_amount + EXCLUDED.limit_amount");
+    }
+
+    @Test
+    @DisplayName("Should leave the source category alone when rows were moved into it")
+    void shouldNotDeleteSourceWithRows() {
+        when(jdbcTemplate.queryForObject(BulkEditRepositoryAdapter.SOURCE_HAS_TRANSACTIONS_SQL, Boolean.class, 3L, 1L))
+                .thenReturn(true);
+
+        assertThat(adapter.mergeCategory(1L, 3L, 4L)).isFalse();
+
+        verify(jdbcTemplate, never()).update(eq(BulkEditRepositoryAdapter.MERGE_BUDGETS_SQL), any(Object[].class));
+        verify(jdbcTemplate, never()).update(eq(BulkEditRepositoryAdapter.DELETE_CATEGORY_SQL), any(Object[].class));
+    }
+
+    private static BulkEdit edit(
+            EBulkEditKind kind,
+            Long sourceCategoryId,
+            long lastTransactionId) {
+        return new BulkEdit(
+                7L, 1L, kind, sourceCategoryId, 4L, EBulkEditStatus.RUNNING, lastTransactionId, 0, 0, 0, null,
+                CREATED_AT, null
+        );
+    }
+}
@@ -0,0 +1,122 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.valueobject.CashFlowForecast;
+import com.synapse.money.domain.valueobject.ForecastPoint;
+import com.synapse.money.domain.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CashFlowForecastRepositoryAdapter Tests")
+class CashFlowForecastRepositoryAdapterTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+    private static final LocalDate END = LocalDate.of(2025, 1, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CashFlowForecastRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should read balances, booked future rows, templates and unpaid bills in cents")
+    void shouldReadSourcesInCents() {
+        assertThat(CashFlowForecastRepositoryAdapter.ACCOUNTS_SQL).contains("(current_balance * 100)::bigint");
+        assertThat(CashFlowForecastRepositoryAdapter.FUTURE_TRANSACTIONS_SQL).contains("transaction_date > ?");
+        assertThat(CashFlowForecastRepositoryAdapter.TEMPLATES_SQL)
+                .contains("is_recurring")
+                .contains("COALESCE(recurrence_materialized_through, GREATEST(transaction_date, created_at::date)) AS watermark");
+        assertThat(CashFlowForecastRepositoryAdapter.UNPAID_BILLS_SQL)
+                .contains("(b.total_amount * 100)::bigint")
+                .contains("NOT COALESCE(b.is_paid, FALSE)")
+                .contains("b.due_date <= ?");
+    }
+
+    @Test
+    @DisplayName("Should fold every source into the forecast")
+    void shouldFoldSourcesIntoForecast() throws SQLException {
+        ResultSet account = mock(ResultSet.class);
+        when(account.getLong("id")).thenReturn(5L);
+        when(account.getLong("balance_minor_units")).thenReturn(100_000L);
+        givenRows(CashFlowForecastRepositoryAdapter.ACCOUNTS_SQL, account, 1L);
+
+        ResultSet future = mock(ResultSet.class);
+        when(future.getLong("account_id")).thenReturn(5L);
+        when(future.getObject("transfer_account_id", Long.class)).thenReturn(null);
+        when(future.getString("transaction_type")).thenReturn("expense");
+        when(future.getLong("amount_minor_units")).thenReturn(2_000L);
+        when(future.getObject("transaction_date", LocalDate.class)).thenReturn(TODAY.plusDays(3));
+        givenRows(CashFlowForecastRepositoryAdapter.FUTURE_TRANSACTIONS_SQL, future, 1L, Date.valueOf(TODAY));
+
+        ResultSet template = mock(ResultSet.class);
+        when(template.getLong("id")).thenReturn(9L);
+        when(template.getLong("account_id")).thenReturn(5L);
+        when(template.getObject("transfer_account_id", Long.class)).thenReturn(null);
+        when(template.getString("transaction_type")).thenReturn("income");
+        when(template.getLong("amount_minor_units")).thenReturn(10_000L);
+        when(template.getObject("transaction_date", LocalDate.class)).thenReturn(LocalDate.of(2023, 12, 1));
+        when(template.getObject("watermark", LocalDate.class)).thenReturn(LocalDate.of(2024, 1, 1));
+        givenRows(CashFlowForecastRepositoryAdapter.TEMPLATES_SQL, template, 1L);
+
+        ResultSet bill = mock(ResultSet.class);
+        when(bill.getLong("account_id")).thenReturn(5L);
+        when(bill.getObject("due_date", LocalDate.class)).thenReturn(TODAY.plusDays(10));
+        when(bill.getLong("amount_minor_units")).thenReturn(30_000L);
+        givenRows(CashFlowForecastRepositoryAdapter.UNPAID_BILLS_SQL, bill, 1L, Date.valueOf(END));
+
+        CashFlowForecast forecast = adapter.loadForUser(1L, TODAY, END);
+
+        assertThat(forecast.balances(5L, EForecastGranularity.DAY))
+                .contains(
+                        new ForecastPoint(TODAY, Money.ofMinor(102_000)),
+                        new ForecastPoint(TODAY.plusDays(3), Money.ofMinor(100_000)),
+                        new ForecastPoint(TODAY.plusDays(10), Money.ofMinor(70_000)),
+                        new ForecastPoint(LocalDate.of(2024, 2, 1), Money.ofMinor(80_000)),
+                        new ForecastPoint(END, Money.ofMinor(190_000))
+                );
+    }
+
+    private void givenRows(
+            String sql,
+            ResultSet rs,
+            Long userId) {
+        doAnswer(invocation -> processRow(invocation.getArgument(1), rs))
+                .when(jdbcTemplate).query(eq(sql), any(RowCallbackHandler.class), eq(userId));
+    }
+
+    private void givenRows(
+            String sql,
+            ResultSet rs,
+            Long userId,
+            Date date) {
+        doAnswer(invocation -> processRow(invocation.getArgument(1), rs))
+                .when(jdbcTemplate).query(eq(sql), any(RowCallbackHandler.class), eq(userId), eq(date));
+    }
+
+    private static Void processRow(
+            RowCallbackHandler handler,
+            ResultSet rs) throws SQLException {
+        handler.processRow(rs);
+        return null;
+    }
+}
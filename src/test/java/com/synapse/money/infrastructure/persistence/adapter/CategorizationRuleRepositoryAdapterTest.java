@@ -0,0 +1,104 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.CategorizationRule;
+import com.synapse.money.domain.valueobject.MerchantRule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategorizationRuleRepositoryAdapter Tests")
+class CategorizationRuleRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CategorizationRuleRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should insert through the user's own category and map the returned row")
+    @SuppressWarnings("unchecked")
+    void shouldSaveRule() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(5L);
+        when(rs.getString("pattern")).thenReturn("uber");
+        when(rs.getLong("category_id")).thenReturn(20L);
+        when(rs.getObject("subcategory_id", Long.class)).thenReturn(null);
+        ArgumentCaptor<RowMapper<CategorizationRule>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(
+                eq(CategorizationRuleRepositoryAdapter.INSERT_SQL),
+                mapper.capture(),
+                eq("uber"),
+                isNull(),
+                eq(20L),
+                eq(1L),
+                isNull()
+        )).thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        assertThat(adapter.save(1L, "uber", 20L, null)).contains(new CategorizationRule(5L, "uber", 20L, null));
+        assertThat(CategorizationRuleRepositoryAdapter.INSERT_SQL).contains("AND c.user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should return empty when the category is not the user's")
+    void shouldReturnEmptyForForeignCategory() {
+        when(jdbcTemplate.query(
+                eq(CategorizationRuleRepositoryAdapter.INSERT_SQL),
+                org.mockito.ArgumentMatchers.<RowMapper<CategorizationRule>>any(),
+                eq("uber"),
+                eq(31L),
+                eq(20L),
+                eq(1L),
+                eq(31L)
+        )).thenReturn(List.of());
+
+        assertThat(adapter.save(1L, "uber", 20L, 31L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read merchant rules with their category names")
+    @SuppressWarnings("unchecked")
+    void shouldFindMerchantRules() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(1L);
+        when(rs.getString("pattern")).thenReturn("ifood");
+        when(rs.getString("category_name")).thenReturn("Food");
+        when(rs.getString("subcategory_name")).thenReturn("Delivery");
+        ArgumentCaptor<RowMapper<MerchantRule>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(eq(CategorizationRuleRepositoryAdapter.FIND_MERCHANT_RULES_SQL), mapper.capture()))
+                .thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        assertThat(adapter.findMerchantRules()).containsExactly(new MerchantRule(1L, "ifood", "Food", "Delivery"));
+    }
+
+    @Test
+    @DisplayName("Should list rules oldest first so earlier rules win ties")
+    void shouldOrderRulesById() {
+        assertThat(CategorizationRuleRepositoryAdapter.FIND_BY_USER_SQL).contains("ORDER BY id");
+    }
+
+    @Test
+    @DisplayName("Should delete only the user's own rule")
+    void shouldDeleteOwnRule() {
+        when(jdbcTemplate.update(CategorizationRuleRepositoryAdapter.DELETE_SQL, 5L, 1L)).thenReturn(1);
+
+        assertThat(adapter.deleteByIdAndUserId(5L, 1L)).isTrue();
+        assertThat(CategorizationRuleRepositoryAdapter.DELETE_SQL).contains("AND user_id = ?");
+    }
+}
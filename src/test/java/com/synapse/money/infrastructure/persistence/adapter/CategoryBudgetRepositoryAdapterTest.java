@@ -0,0 +1,171 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.CategoryBudget;
+import com.synapse.money.domain.valueobject.CategoryBudgetDelta;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryBudgetRepositoryAdapter Tests")
+class CategoryBudgetRepositoryAdapterTest {
+
+    private static final Date MARCH = Date.valueOf(LocalDate.of(2024, 3, 1));
+    private static final Date APRIL = Date.valueOf(LocalDate.of(2024, 4, 1));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private CategoryBudgetRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should upsert through the user's own category and map the returned row")
+    @SuppressWarnings("unchecked")
+    void shouldUpsertThroughOwnCategory() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(9L);
+        when(rs.getLong("category_id")).thenReturn(3L);
+        when(rs.getDate("month")).thenReturn(MARCH);
+        when(rs.getBigDecimal("limit_amount")).thenReturn(new BigDecimal("200.00"));
+        when(rs.getBigDecimal("consumed_amount")).thenReturn(new BigDecimal("40.00"));
+        ArgumentCaptor<RowMapper<CategoryBudget>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(
+                eq(CategoryBudgetRepositoryAdapter.UPSERT_SQL),
+                mapper.capture(),
+                eq(MARCH),
+                eq(new BigDecimal("200.00")),
+                eq(MARCH),
+                eq(APRIL),
+                eq(3L),
+                eq(1L)
+        )).thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        Optional<CategoryBudget> budget = adapter.upsert(1L, 3L, YearMonth.of(2024, 3), new BigDecimal("200.00"));
+
+        assertThat(budget).contains(new CategoryBudget(
+                9L, 3L, YearMonth.of(2024, 3), new BigDecimal("200.00"), new BigDecimal("40.00")
+        ));
+        assertThat(CategoryBudgetRepositoryAdapter.UPSERT_SQL)
+                .contains("WHERE c.id = ?")
+                .contains("AND c.user_id = ?")
+                .contains("ON CONFLICT (user_id, month, category_id) DO UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should return empty when the category is not the user's")
+    @SuppressWarnings("unchecked")
+    void shouldReturnEmptyForForeignCategory() {
+        when(jdbcTemplate.query(
+                eq(CategoryBudgetRepositoryAdapter.UPSERT_SQL),
+                any(RowMapper.class),
+                eq(MARCH),
+                eq(new BigDecimal("200.00")),
+                eq(MARCH),
+                eq(APRIL),
+                eq(3L),
+                eq(2L)
+        )).thenReturn(List.of());
+
+        assertThat(adapter.upsert(2L, 3L, YearMonth.of(2024, 3), new BigDecimal("200.00"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should read a user's month in one query")
+    @SuppressWarnings("unchecked")
+    void shouldReadMonthInOneQuery() {
+        adapter.findByUserAndMonth(1L, YearMonth.of(2024, 3));
+
+        verify(jdbcTemplate).query(
+                eq(CategoryBudgetRepositoryAdapter.FIND_BY_USER_AND_MONTH_SQL),
+                any(RowMapper.class),
+                eq(1L),
+                eq(MARCH)
+        );
+    }
+
+    @Test
+    @DisplayName("Should apply all deltas in one batch")
+    @SuppressWarnings("unchecked")
+    void shouldApplyDeltasInOneBatch() throws Exception {
+        List<CategoryBudgetDelta> deltas = List.of(
+                new CategoryBudgetDelta(YearMonth.of(2024, 3), 3L, new BigDecimal("15.50"))
+        );
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<CategoryBudgetDelta>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+
+        adapter.applyConsumption(1L, deltas);
+
+        verify(jdbcTemplate).batchUpdate(
+                eq(CategoryBudgetRepositoryAdapter.APPLY_CONSUMPTION_SQL),
+                eq(deltas),
+                eq(1),
+                setter.capture()
+        );
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, deltas.get(0));
+        verify(ps).setBigDecimal(1, new BigDecimal("15.50"));
+        verify(ps).setLong(2, 1L);
+        verify(ps).setDate(3, MARCH);
+        verify(ps).setLong(4, 3L);
+        assertThat(CategoryBudgetRepositoryAdapter.APPLY_CONSUMPTION_SQL)
+                .contains("consumed_amount = consumed_amount + ?");
+    }
+
+    @Test
+    @DisplayName("Should skip the database when there is nothing to apply")
+    void shouldSkipDatabaseWhenNoDeltas() {
+        adapter.applyConsumption(1L, List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should list users with budgets from the given month")
+    void shouldListUsersWithBudgets() {
+        when(jdbcTemplate.queryForList(CategoryBudgetRepositoryAdapter.FIND_USER_IDS_SINCE_SQL, Long.class, MARCH))
+                .thenReturn(List.of(1L, 2L));
+
+        assertThat(adapter.findUserIdsWithBudgetsSince(YearMonth.of(2024, 3))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should lock the user's budgets before recounting them")
+    void shouldLockBeforeRecount() {
+        when(jdbcTemplate.update(CategoryBudgetRepositoryAdapter.RECONCILE_USER_SQL, 1L, MARCH)).thenReturn(2);
+
+        assertThat(adapter.reconcileUser(1L, YearMonth.of(2024, 3))).isEqualTo(2);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).queryForList(CategoryBudgetRepositoryAdapter.LOCK_USER_BUDGETS_SQL, Long.class, 1L, MARCH);
+        order.verify(jdbcTemplate).update(CategoryBudgetRepositoryAdapter.RECONCILE_USER_SQL, 1L, MARCH);
+        assertThat(CategoryBudgetRepositoryAdapter.LOCK_USER_BUDGETS_SQL).contains("FOR NO KEY UPDATE");
+        assertThat(CategoryBudgetRepositoryAdapter.RECONCILE_USER_SQL).contains("b.consumed_amount <> actual.amount");
+    }
+}
@@ -0,0 +1,104 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.IdempotencyRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyKeyRepositoryAdapter Tests")
+class IdempotencyKeyRepositoryAdapterTest {
+
+    private static final String SCOPE = "transactions.create:john.doe@example.com";
+    private static final String KEY = "key-1";
+    private static final String HASH = "a".repeat(64);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private IdempotencyKeyRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should win the claim when a row was inserted or taken over")
+    void shouldWinClaim() {
+        when(jdbcTemplate.update(IdempotencyKeyRepositoryAdapter.CLAIM_SQL, SCOPE, KEY, HASH, 86400L, 300L)).thenReturn(1);
+
+        assertThat(adapter.claim(SCOPE, KEY, HASH, Duration.ofHours(24), Duration.ofMinutes(5))).isTrue();
+        assertThat(IdempotencyKeyRepositoryAdapter.CLAIM_SQL)
+                .contains("ON CONFLICT (scope, idempotency_key) DO UPDATE")
+                .contains("WHERE idempotency_keys.expires_at < now()")
+                .contains("idempotency_keys.status_code IS NULL");
+    }
+
+    @Test
+    @DisplayName("Should lose the claim when the key is held")
+    void shouldLoseClaim() {
+        when(jdbcTemplate.update(IdempotencyKeyRepositoryAdapter.CLAIM_SQL, SCOPE, KEY, HASH, 86400L, 300L)).thenReturn(0);
+
+        assertThat(adapter.claim(SCOPE, KEY, HASH, Duration.ofHours(24), Duration.ofMinutes(5))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should map a stored record, keeping a null status while in flight")
+    @SuppressWarnings("unchecked")
+    void shouldMapStoredRecord() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("request_hash")).thenReturn(HASH);
+        when(rs.getObject("status_code", Integer.class)).thenReturn(null);
+        when(rs.getString("response_body")).thenReturn(null);
+        ArgumentCaptor<RowMapper<IdempotencyRecord>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(eq(IdempotencyKeyRepositoryAdapter.FIND_SQL), mapper.capture(), eq(SCOPE), eq(KEY)))
+                .thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        assertThat(adapter.find(SCOPE, KEY)).contains(new IdempotencyRecord(HASH, null, null));
+    }
+
+    @Test
+    @DisplayName("Should lock only a key that is still in flight")
+    void shouldLockInFlightKey() {
+        when(jdbcTemplate.queryForList(IdempotencyKeyRepositoryAdapter.LOCK_SQL, Integer.class, SCOPE, KEY))
+                .thenReturn(List.of(1), List.of());
+
+        assertThat(adapter.lock(SCOPE, KEY)).isTrue();
+        assertThat(adapter.lock(SCOPE, KEY)).isFalse();
+        assertThat(IdempotencyKeyRepositoryAdapter.LOCK_SQL)
+                .contains("AND status_code IS NULL")
+                .contains("FOR UPDATE");
+    }
+
+    @Test
+    @DisplayName("Should store the response and release only in-flight keys")
+    void shouldCompleteAndRelease() {
+        adapter.complete(SCOPE, KEY, 201, "{\"id\":5}");
+        adapter.release(SCOPE, KEY);
+
+        verify(jdbcTemplate).update(IdempotencyKeyRepositoryAdapter.COMPLETE_SQL, 201, "{\"id\":5}", SCOPE, KEY);
+        verify(jdbcTemplate).update(IdempotencyKeyRepositoryAdapter.RELEASE_SQL, SCOPE, KEY);
+        assertThat(IdempotencyKeyRepositoryAdapter.RELEASE_SQL).contains("AND status_code IS NULL");
+    }
+
+    @Test
+    @DisplayName("Should purge expired keys")
+    void shouldPurgeExpiredKeys() {
+        when(jdbcTemplate.update(IdempotencyKeyRepositoryAdapter.DELETE_EXPIRED_SQL)).thenReturn(4);
+
+        assertThat(adapter.deleteExpired()).isEqualTo(4);
+    }
+}
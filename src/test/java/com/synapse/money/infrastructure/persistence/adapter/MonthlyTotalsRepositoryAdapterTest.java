@@ -0,0 +1,116 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.MonthlyTotalDelta;
+import com.synapse.money.domain.valueobject.MonthlyTotalKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyTotalsRepositoryAdapter Tests")
+class MonthlyTotalsRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private MonthlyTotalsRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should take the shared user lock before upserting deltas in one batch")
+    @SuppressWarnings("unchecked")
+    void shouldLockSharedThenUpsertBatch() {
+        List<MonthlyTotalDelta> deltas = List.of(new MonthlyTotalDelta(
+                new MonthlyTotalKey(1L, YearMonth.of(2024, 3), 3L, null, ETransactionType.EXPENSE),
+                new BigDecimal("10.00"),
+                1
+        ));
+
+        adapter.applyDeltas(1L, deltas);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).query(
+                eq(MonthlyTotalsRepositoryAdapter.SHARED_LOCK_SQL),
+                any(RowCallbackHandler.class),
+                eq(MonthlyTotalsRepositoryAdapter.LOCK_NAMESPACE),
+                eq(1L)
+        );
+        order.verify(jdbcTemplate).batchUpdate(
+                eq(MonthlyTotalsRepositoryAdapter.UPSERT_DELTA_SQL),
+                eq(deltas),
+                eq(1),
+                any(ParameterizedPreparedStatementSetter.class)
+        );
+        assertThat(MonthlyTotalsRepositoryAdapter.UPSERT_DELTA_SQL)
+                .contains("ON CONFLICT (user_id, month, COALESCE(category_id, 0), COALESCE(subcategory_id, 0), transaction_type)");
+    }
+
+    @Test
+    @DisplayName("Should skip the database when there is nothing to apply")
+    void shouldSkipDatabaseWhenNoDeltas() {
+        adapter.applyDeltas(1L, List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should rebuild under the exclusive user lock")
+    void shouldRebuildUnderExclusiveLock() {
+        when(jdbcTemplate.update(MonthlyTotalsRepositoryAdapter.DELETE_FOR_USER_SQL, 1L, 1L)).thenReturn(3);
+        when(jdbcTemplate.update(MonthlyTotalsRepositoryAdapter.REBUILD_FOR_USER_SQL, 1L, 1L)).thenReturn(4);
+
+        assertThat(adapter.rebuildForUser(1L)).isEqualTo(4);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).query(
+                eq(MonthlyTotalsRepositoryAdapter.EXCLUSIVE_LOCK_SQL),
+                any(RowCallbackHandler.class),
+                eq(MonthlyTotalsRepositoryAdapter.LOCK_NAMESPACE),
+                eq(1L)
+        );
+        order.verify(jdbcTemplate).update(MonthlyTotalsRepositoryAdapter.DELETE_FOR_USER_SQL, 1L, 1L);
+        order.verify(jdbcTemplate).update(MonthlyTotalsRepositoryAdapter.REBUILD_FOR_USER_SQL, 1L, 1L);
+        assertThat(MonthlyTotalsRepositoryAdapter.DELETE_FOR_USER_SQL)
+                .contains("month > COALESCE((SELECT MAX(period_end) FROM transaction_archive_segments WHERE user_id = ?)");
+        assertThat(MonthlyTotalsRepositoryAdapter.REBUILD_FOR_USER_SQL)
+                .contains("transaction_date > COALESCE((SELECT MAX(period_end) FROM transaction_archive_segments");
+    }
+
+    @Test
+    @DisplayName("Should query the month range by first-of-month dates")
+    @SuppressWarnings("unchecked")
+    void shouldQueryMonthRange() {
+        adapter.findByUserAndMonthRange(1L, YearMonth.of(2024, 1), YearMonth.of(2024, 3));
+
+        verify(jdbcTemplate).query(
+                eq(MonthlyTotalsRepositoryAdapter.FIND_BY_MONTH_RANGE_SQL),
+                any(RowMapper.class),
+                eq(1L),
+                eq(Date.valueOf(LocalDate.of(2024, 1, 1))),
+                eq(Date.valueOf(LocalDate.of(2024, 3, 1)))
+        );
+    }
+}
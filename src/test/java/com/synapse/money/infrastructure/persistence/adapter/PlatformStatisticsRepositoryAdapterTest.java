@@ -0,0 +1,284 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.PlatformTransactionConsumer;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.PlatformStatisticsAccumulator;
+import com.synapse.money.domain.valueobject.UserIdRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlatformStatisticsRepositoryAdapter Tests")
+class PlatformStatisticsRepositoryAdapterTest {
+
+    private static final LocalDate WEEK = LocalDate.of(2024, 3, 4);
+    private static final UserIdRange RANGE = new UserIdRange(1, 11, 20);
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PlatformStatisticsRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should report whether the week is already published")
+    void shouldReportPublishedWeek() {
+        when(jdbcTemplate.queryForObject(PlatformStatisticsRepositoryAdapter.EXISTS_WEEK_SQL, Boolean.class, WEEK))
+                .thenReturn(true);
+
+        assertThat(adapter.existsWeek(WEEK)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should split the user ids on the first run of a week")
+    @SuppressWarnings("unchecked")
+    void shouldCreateRangesOnFirstRun() throws SQLException {
+        when(jdbcTemplate.queryForObject(PlatformStatisticsRepositoryAdapter.HAS_RANGES_SQL, Boolean.class, WEEK))
+                .thenReturn(false);
+        when(jdbcTemplate.queryForObject(eq(PlatformStatisticsRepositoryAdapter.USER_ID_BOUNDS_SQL), any(RowMapper.class)))
+                .thenAnswer(invocation -> {
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getLong(1)).thenReturn(1L);
+                    when(rs.getLong(2)).thenReturn(20L);
+                    return invocation.<RowMapper<long[]>>getArgument(1).mapRow(rs, 0);
+                });
+        when(jdbcTemplate.query(eq(PlatformStatisticsRepositoryAdapter.PENDING_RANGES_SQL), any(RowMapper.class), eq(WEEK)))
+                .thenReturn(List.of(RANGE));
+        ArgumentCaptor<List<UserIdRange>> ranges = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<UserIdRange>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+
+        assertThat(adapter.preparePendingRanges(WEEK, 2)).containsExactly(RANGE);
+
+        verify(jdbcTemplate).batchUpdate(
+                eq(PlatformStatisticsRepositoryAdapter.INSERT_RANGE_SQL), ranges.capture(), eq(2), setter.capture());
+        assertThat(ranges.getValue()).containsExactly(new UserIdRange(0, 1, 10), new UserIdRange(1, 11, Long.MAX_VALUE));
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, ranges.getValue().get(1));
+        verify(ps).setObject(1, WEEK);
+        verify(ps).setInt(2, 1);
+        verify(ps).setLong(3, 11L);
+        verify(ps).setLong(4, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("Should reuse the stored ranges when resuming a week")
+    @SuppressWarnings("unchecked")
+    void shouldReuseRangesWhenResuming() throws SQLException {
+        when(jdbcTemplate.queryForObject(PlatformStatisticsRepositoryAdapter.HAS_RANGES_SQL, Boolean.class, WEEK))
+                .thenReturn(true);
+        ArgumentCaptor<RowMapper<UserIdRange>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(eq(PlatformStatisticsRepositoryAdapter.PENDING_RANGES_SQL), mapper.capture(), eq(WEEK)))
+                .thenReturn(List.of(RANGE));
+
+        assertThat(adapter.preparePendingRanges(WEEK, 2)).containsExactly(RANGE);
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(List.class), anyInt(), any());
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getInt("range_index")).thenReturn(1);
+        when(rs.getLong("user_id_from")).thenReturn(11L);
+        when(rs.getLong("user_id_to")).thenReturn(20L);
+        assertThat(mapper.getValue().mapRow(rs, 0)).isEqualTo(RANGE);
+    }
+
+    @Test
+    @DisplayName("Should stream a week of the range through a read-only cursor")
+    void shouldStreamThroughReadOnlyCursor() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(
+                PlatformStatisticsRepositoryAdapter.STREAM_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, false);
+        when(rs.getLong(1)).thenReturn(12L);
+        when(rs.getString(2)).thenReturn("expense");
+        when(rs.getLong(3)).thenReturn(990L);
+        when(rs.getObject(4, Long.class)).thenReturn(3L);
+        List<String> rows = new ArrayList<>();
+        PlatformTransactionConsumer consumer = (userId, type, amount, categoryId) ->
+                rows.add(userId + ":" + type + ":" + amount + ":" + categoryId);
+
+        long count = adapter.streamTransactions(RANGE, WEEK, WEEK.plusDays(7), consumer);
+
+        assertThat(count).isEqualTo(1);
+        assertThat(rows).containsExactly("12:EXPENSE:990:3");
+        verify(connection).setAutoCommit(false);
+        verify(connection).setReadOnly(true);
+        verify(statement).setFetchSize(PlatformStatisticsRepositoryAdapter.STREAM_FETCH_SIZE);
+        verify(statement).setLong(1, 11L);
+        verify(statement).setLong(2, 20L);
+        verify(statement).setObject(3, WEEK);
+        verify(statement).setObject(4, WEEK.plusDays(7));
+        verify(connection).rollback();
+        assertThat(PlatformStatisticsRepositoryAdapter.STREAM_SQL).contains("ORDER BY user_id");
+    }
+
+    @Test
+    @DisplayName("Should wrap driver failures while streaming")
+    void shouldWrapStreamFailures() throws SQLException {
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(() -> adapter.streamTransactions(RANGE, WEEK, WEEK.plusDays(7), (u, t, a, c) -> {}))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasMessage("Platform statistics query failed");
+    }
+
+    @Test
+    @DisplayName("Should add the range's active account balances")
+    void shouldAddAccountBalances() throws SQLException {
+        PlatformStatisticsAccumulator accumulator = new PlatformStatisticsAccumulator();
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(4L);
+        when(rs.getLong(2)).thenReturn(40_000L);
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(
+                eq(PlatformStatisticsRepositoryAdapter.ACCOUNT_BALANCES_SQL), any(RowCallbackHandler.class), eq(11L), eq(20L));
+
+        adapter.addAccountBalances(RANGE, accumulator);
+
+        assertThat(accumulator.accountCount()).isEqualTo(4);
+        assertThat(accumulator.totalBalance()).isEqualTo(Money.ofMinor(40_000));
+    }
+
+    @Test
+    @DisplayName("Should store the range partial with its category counts")
+    void shouldSaveRange() throws SQLException {
+        PlatformStatisticsAccumulator accumulator = new PlatformStatisticsAccumulator();
+        accumulator.addTransaction(12L, ETransactionType.TRANSFER, 700, 5L);
+        accumulator.addAccounts(1, 100);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        Array counts = mock(Array.class);
+        when(connection.prepareStatement(PlatformStatisticsRepositoryAdapter.SAVE_RANGE_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Long[]{5L})).thenReturn(ids);
+        when(connection.createArrayOf("bigint", new Long[]{1L})).thenReturn(counts);
+
+        adapter.saveRange(WEEK, RANGE, accumulator);
+
+        verify(jdbcTemplate).update(creator.capture());
+        creator.getValue().createPreparedStatement(connection);
+        verify(statement).setLong(1, 1L);
+        verify(statement).setLong(6, 1L);
+        verify(statement).setLong(7, 700L);
+        verify(statement).setLong(9, 100L);
+        verify(statement).setArray(10, ids);
+        verify(statement).setArray(11, counts);
+        verify(statement).setObject(12, WEEK);
+        verify(statement).setInt(13, 1);
+    }
+
+    @Test
+    @DisplayName("Should count pending ranges")
+    void shouldCountPendingRanges() {
+        when(jdbcTemplate.queryForObject(PlatformStatisticsRepositoryAdapter.COUNT_PENDING_SQL, Integer.class, WEEK))
+                .thenReturn(3, (Integer) null);
+
+        assertThat(adapter.countPendingRanges(WEEK)).isEqualTo(3);
+        assertThat(adapter.countPendingRanges(WEEK)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should restore stored partials for merging")
+    @SuppressWarnings("unchecked")
+    void shouldRestorePartials() throws SQLException {
+        ArgumentCaptor<RowMapper<PlatformStatisticsAccumulator>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(eq(PlatformStatisticsRepositoryAdapter.COMPLETED_RANGES_SQL), mapper.capture(), eq(WEEK)))
+                .thenReturn(List.of());
+        ResultSet rs = mock(ResultSet.class);
+        Array ids = mock(Array.class);
+        Array counts = mock(Array.class);
+        when(rs.getLong("active_users")).thenReturn(2L);
+        when(rs.getLong("expense_count")).thenReturn(3L);
+        when(rs.getLong("expense_minor_units")).thenReturn(1_500L);
+        when(rs.getLong("income_count")).thenReturn(1L);
+        when(rs.getLong("income_minor_units")).thenReturn(90_000L);
+        when(rs.getLong("transfer_count")).thenReturn(0L);
+        when(rs.getLong("transfer_minor_units")).thenReturn(0L);
+        when(rs.getLong("account_count")).thenReturn(2L);
+        when(rs.getLong("balance_minor_units")).thenReturn(10_000L);
+        when(rs.getArray("category_ids")).thenReturn(ids);
+        when(rs.getArray("category_counts")).thenReturn(counts);
+        when(ids.getArray()).thenReturn(new Long[]{3L, 8L});
+        when(counts.getArray()).thenReturn(new Long[]{2L, 1L});
+
+        assertThat(adapter.findCompletedRanges(WEEK)).isEmpty();
+        PlatformStatisticsAccumulator partial = mapper.getValue().mapRow(rs, 0);
+
+        assertThat(partial.activeUsers()).isEqualTo(2);
+        assertThat(partial.volume(ETransactionType.EXPENSE)).isEqualTo(Money.ofMinor(1_500));
+        assertThat(partial.transactionCount(ETransactionType.INCOME)).isEqualTo(1);
+        assertThat(partial.averageBalance()).isEqualByComparingTo("50.00");
+        assertThat(partial.categoryPopularity()).containsEntry(3L, 2L).containsEntry(8L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should upsert the published week with decimal amounts")
+    void shouldSaveWeek() throws SQLException {
+        PlatformStatisticsAccumulator totals = new PlatformStatisticsAccumulator();
+        totals.addTransaction(1L, ETransactionType.EXPENSE, 1_250, null);
+        totals.addAccounts(2, 3_001);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array empty = mock(Array.class);
+        when(connection.prepareStatement(PlatformStatisticsRepositoryAdapter.UPSERT_WEEK_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Long[0])).thenReturn(empty);
+
+        adapter.saveWeek(WEEK, totals);
+
+        verify(jdbcTemplate).update(creator.capture());
+        creator.getValue().createPreparedStatement(connection);
+        verify(statement).setObject(1, WEEK);
+        verify(statement).setLong(2, 1L);
+        verify(statement).setBigDecimal(4, new BigDecimal("12.50"));
+        verify(statement).setLong(9, 2L);
+        verify(statement).setBigDecimal(10, new BigDecimal("15.00"));
+        verify(statement).setArray(11, empty);
+        verify(statement).setArray(12, empty);
+    }
+}
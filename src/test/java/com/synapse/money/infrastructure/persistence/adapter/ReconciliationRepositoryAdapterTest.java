@@ -0,0 +1,124 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.EReconciliationStatus;
+import com.synapse.money.domain.valueobject.Reconciliation;
+import com.synapse.money.domain.valueobject.ReconciliationItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReconciliationRepositoryAdapter Tests")
+class ReconciliationRepositoryAdapterTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate END = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ReconciliationRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should insert the summary and batch its items under the new id")
+    @SuppressWarnings("unchecked")
+    void shouldInsertSummaryAndItems() throws Exception {
+        Reconciliation saved = new Reconciliation(5L, 10L, START, END, 3, 1, 1, 0, LocalDateTime.of(2024, 4, 1, 9, 0));
+        when(jdbcTemplate.queryForObject(
+                eq(ReconciliationRepositoryAdapter.INSERT_SQL),
+                any(RowMapper.class),
+                eq(1L), eq(10L), eq(Date.valueOf(START)), eq(Date.valueOf(END)), eq(3), eq(1), eq(1), eq(0)
+        )).thenReturn(saved);
+        List<ReconciliationItem> items = List.of(
+                new ReconciliationItem(EReconciliationStatus.MATCHED, 1, 77L, START, START.plusDays(1), -1_550, "UBER", 0.5),
+                new ReconciliationItem(EReconciliationStatus.MISSING, 2, null, END, null, 2_000, null, null)
+        );
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<ReconciliationItem>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+
+        Reconciliation result = adapter.save(1L, new Reconciliation(null, 10L, START, END, 3, 1, 1, 0, null), items);
+
+        assertThat(result).isSameAs(saved);
+        verify(jdbcTemplate).batchUpdate(eq(ReconciliationRepositoryAdapter.INSERT_ITEM_SQL), eq(items), eq(1000), setter.capture());
+        PreparedStatement matched = mock(PreparedStatement.class);
+        setter.getValue().setValues(matched, items.get(0));
+        verify(matched).setLong(1, 5L);
+        verify(matched).setString(2, "matched");
+        verify(matched).setObject(3, 1, Types.INTEGER);
+        verify(matched).setObject(4, 77L, Types.BIGINT);
+        verify(matched).setObject(6, Date.valueOf(START.plusDays(1)), Types.DATE);
+        verify(matched).setBigDecimal(7, new BigDecimal("-15.50"));
+        verify(matched).setObject(9, 0.5, Types.DOUBLE);
+        PreparedStatement missing = mock(PreparedStatement.class);
+        setter.getValue().setValues(missing, items.get(1));
+        verify(missing).setObject(4, null, Types.BIGINT);
+        verify(missing).setObject(6, null, Types.DATE);
+        verify(missing).setObject(9, null, Types.DOUBLE);
+    }
+
+    @Test
+    @DisplayName("Should skip the item batch for an empty reconciliation")
+    @SuppressWarnings("unchecked")
+    void shouldSkipBatchWithoutItems() {
+        Reconciliation saved = new Reconciliation(5L, 10L, START, END, 3, 0, 0, 0, LocalDateTime.of(2024, 4, 1, 9, 0));
+        when(jdbcTemplate.queryForObject(
+                eq(ReconciliationRepositoryAdapter.INSERT_SQL),
+                any(RowMapper.class),
+                eq(1L), eq(10L), eq(Date.valueOf(START)), eq(Date.valueOf(END)), eq(3), eq(0), eq(0), eq(0)
+        )).thenReturn(saved);
+
+        adapter.save(1L, new Reconciliation(null, 10L, START, END, 3, 0, 0, 0, null), List.of());
+
+        verify(jdbcTemplate, never()).batchUpdate(eq(ReconciliationRepositoryAdapter.INSERT_ITEM_SQL), any(List.class), eq(1000),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("Should find a reconciliation only for its owner")
+    @SuppressWarnings("unchecked")
+    void shouldFindByIdAndUser() {
+        when(jdbcTemplate.query(eq(ReconciliationRepositoryAdapter.FIND_BY_ID_AND_USER_SQL), any(RowMapper.class), eq(5L), eq(2L)))
+                .thenReturn(List.of());
+
+        assertThat(adapter.findByIdAndUserId(5L, 2L)).isEmpty();
+        assertThat(ReconciliationRepositoryAdapter.FIND_BY_ID_AND_USER_SQL).contains("AND user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should read back only the unmatched items in stored order")
+    @SuppressWarnings("unchecked")
+    void shouldFindUnmatchedItems() {
+        List<ReconciliationItem> items = List.of();
+        when(jdbcTemplate.query(eq(ReconciliationRepositoryAdapter.FIND_UNMATCHED_ITEMS_SQL), any(RowMapper.class), eq(5L)))
+                .thenReturn(items);
+
+        assertThat(adapter.findUnmatchedItems(5L)).isSameAs(items);
+        assertThat(ReconciliationRepositoryAdapter.FIND_UNMATCHED_ITEMS_SQL)
+                .contains("status <> 'matched'")
+                .contains("ORDER BY id");
+    }
+}
@@ -0,0 +1,85 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecurringTransactionRepositoryAdapter Tests")
+class RecurringTransactionRepositoryAdapterTest {
+
+    private static final LocalDate HORIZON = LocalDate.of(2024, 3, 31);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionRowMapper rowMapper;
+
+    @InjectMocks
+    private RecurringTransactionRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should claim a slice of due templates with SKIP LOCKED")
+    void shouldClaimSliceWithSkipLocked() {
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        when(jdbcTemplate.queryForList(
+                eq(RecurringTransactionRepositoryAdapter.CLAIM_SQL), params.capture(), eq(Long.class)
+        )).thenReturn(List.of(4L, 8L));
+
+        assertThat(adapter.claimDueTemplates(3, 16, 2L, HORIZON, 500)).containsExactly(4L, 8L);
+        assertThat(params.getValue().getValues())
+                .containsEntry("slice", 3)
+                .containsEntry("sliceCount", 16)
+                .containsEntry("afterId", 2L)
+                .containsEntry("horizon", Date.valueOf(HORIZON))
+                .containsEntry("limit", 500);
+        assertThat(RecurringTransactionRepositoryAdapter.CLAIM_SQL)
+                .contains("(hashint8(user_id) & 2147483647) % :sliceCount = :slice")
+                .contains("ORDER BY id")
+                .contains("FOR NO KEY UPDATE SKIP LOCKED");
+    }
+
+    @Test
+    @DisplayName("Should insert occurrences idempotently and advance the watermark in one statement")
+    void shouldMaterializeInOneStatement() {
+        Transaction occurrence = Transaction.builder().id(100L).build();
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        when(jdbcTemplate.query(
+                eq(RecurringTransactionRepositoryAdapter.MATERIALIZE_SQL), params.capture(), eq(rowMapper)
+        )).thenReturn(List.of(occurrence));
+
+        assertThat(adapter.materialize(List.of(4L, 8L), HORIZON)).containsExactly(occurrence);
+        assertThat(params.getValue().getValues())
+                .containsEntry("templateIds", List.of(4L, 8L))
+                .containsEntry("horizon", Date.valueOf(HORIZON));
+        assertThat(RecurringTransactionRepositoryAdapter.MATERIALIZE_SQL)
+                .contains("SET recurrence_materialized_through = :horizon")
+                .contains("ON CONFLICT (recurring_source_id, transaction_date) WHERE recurring_source_id IS NOT NULL DO NOTHING")
+                .contains("RETURNING " + TransactionRowMapper.COLUMNS);
+    }
+
+    @Test
+    @DisplayName("Should skip the database for an empty claim")
+    void shouldSkipEmptyClaim() {
+        assertThat(adapter.materialize(List.of(), HORIZON)).isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,159 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.application.handler.AccountBalanceChangeHandler;
+import com.synapse.money.application.handler.BalanceCheckpointChangeHandler;
+import com.synapse.money.application.handler.MonthlyTotalsChangeHandler;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Uploads 500 transactions once as single posts, each in its own
+ * transaction, and once as a batch, and reports both timings. Rows and
+ * balances must come out the same either way.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Transaction batch insert benchmark Tests")
+class TransactionBatchInsertBenchmarkTest {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 20;
+    private static final int ROUNDS = 5;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static TransactionRepositoryAdapter transactions;
+    private static TransactionChangeDispatcher dispatcher;
+    private static RetryingTransactionExecutor transactionExecutor;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactions = new TransactionRepositoryAdapter(dataSource, jdbcTemplate, new TransactionRowMapper(), null);
+        dispatcher = new TransactionChangeDispatcher(List.of(
+                new AccountBalanceChangeHandler(new AccountRepositoryAdapter(namedJdbcTemplate)),
+                new BalanceCheckpointChangeHandler(new BalanceCheckpointRepositoryAdapter(namedJdbcTemplate)),
+                new MonthlyTotalsChangeHandler(new MonthlyTotalsRepositoryAdapter(jdbcTemplate))
+        ));
+        transactionExecutor = new RetryingTransactionExecutor(
+                new DataSourceTransactionManager(dataSource), 1, Duration.ofMillis(1), Duration.ofMillis(1));
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should create a batch faster than the same rows posted one by one")
+    void shouldBeatSinglePosts() {
+        long singleNanos = Long.MAX_VALUE;
+        long batchNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Transaction> single = upload("single-" + round);
+            long start = System.nanoTime();
+            for (Transaction transaction : single) {
+                transactionExecutor.run(() -> dispatcher.dispatch(TransactionChange.created(transactions.save(transaction))));
+            }
+            singleNanos = Math.min(singleNanos, System.nanoTime() - start);
+
+            List<Transaction> batch = upload("batch-" + round);
+            start = System.nanoTime();
+            transactionExecutor.run(() -> dispatcher.dispatchAll(transactions.saveAll(batch, BATCH_SIZE).stream()
+                    .map(TransactionChange::created)
+                    .toList()));
+            batchNanos = Math.min(batchNanos, System.nanoTime() - start);
+
+            assertConsistent(single.getFirst().getUserId());
+            assertConsistent(batch.getFirst().getUserId());
+        }
+        System.out.printf("Creating %d transactions: single posts=%dms batch=%dms%n", ROWS,
+                TimeUnit.NANOSECONDS.toMillis(singleNanos), TimeUnit.NANOSECONDS.toMillis(batchNanos));
+
+        assertThat(batchNanos).isLessThan(singleNanos);
+    }
+
+    private static void assertConsistent(Long userId) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ?", Integer.class, userId);
+        Integer drifted = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM accounts a
+                WHERE a.user_id = ?
+                  AND a.current_balance <> a.initial_balance
+                        - COALESCE((SELECT SUM(t.amount) FROM transactions t WHERE t.account_id = a.id), 0)
+                """, Integer.class, userId);
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(drifted).isZero();
+    }
+
+    /**
+     * A fresh user with two accounts, and the rows an offline client would
+     * upload for them.
+     */
+    private static List<Transaction> upload(String name) {
+        Long userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES (?, 'x', 'Batch', 'Benchmark')
+                RETURNING id
+                """, Long.class, name + "@example.com");
+        Long institutionId = jdbcTemplate.queryForObject(
+                "INSERT INTO financial_institutions (name) VALUES ('Bank') RETURNING id", Long.class);
+        Long accountTypeId = jdbcTemplate.queryForObject(
+                "INSERT INTO account_types (name) VALUES ('Checking') RETURNING id", Long.class);
+        List<Long> accountIds = jdbcTemplate.queryForList("""
+                INSERT INTO accounts (user_id, financial_institution_id, account_type_id, name,
+                                      initial_balance, current_balance)
+                VALUES (?, ?, ?, 'Main', 1000, 1000),
+                       (?, ?, ?, 'Savings', 1000, 1000)
+                RETURNING id
+                """, Long.class, userId, institutionId, accountTypeId, userId, institutionId, accountTypeId);
+
+        List<Transaction> upload = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            upload.add(Transaction.builder()
+                    .userId(userId)
+                    .accountId(accountIds.get(i % accountIds.size()))
+                    .amount(BigDecimal.valueOf(100 + i, 2))
+                    .description("Offline purchase " + i)
+                    .transactionDate(LocalDate.of(2024, 1, 1).plusDays(i % 90))
+                    .transactionType(ETransactionType.EXPENSE)
+                    .build());
+        }
+        return upload;
+    }
+}
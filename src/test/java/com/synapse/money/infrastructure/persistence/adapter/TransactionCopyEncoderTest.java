@@ -0,0 +1,75 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransactionCopyEncoder Tests")
+class TransactionCopyEncoderTest {
+
+    @Test
+    @DisplayName("Should encode all columns in COPY text format")
+    void shouldEncodeAllColumns() throws IOException {
+        Transaction transaction = Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .categoryId(20L)
+                .subcategoryId(30L)
+                .creditCardId(40L)
+                .transferAccountId(11L)
+                .amount(new BigDecimal("1234.50"))
+                .description("Rent")
+                .transactionDate(LocalDate.of(2024, 2, 29))
+                .transactionType(ETransactionType.TRANSFER)
+                .isRecurring(true)
+                .importFingerprint(-42L)
+                .build();
+
+        assertThat(encode(transaction))
+                .isEqualTo("1\t10\t20\t30\t40\t11\t1234.50\tRent\t2024-02-29\ttransfer\tt\t-42\n");
+    }
+
+    @Test
+    @DisplayName("Should encode nulls and escape control characters")
+    void shouldEncodeNullsAndEscapeControlCharacters() throws IOException {
+        Transaction transaction = Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .amount(new BigDecimal("5.00"))
+                .description("a\\b\tc\nd\re")
+                .transactionDate(LocalDate.of(2024, 1, 1))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+
+        assertThat(encode(transaction))
+                .isEqualTo("1\t10\t\\N\t\\N\t\\N\t\\N\t5.00\ta\\\\b\\tc\\nd\\re\t2024-01-01\texpense\tf\t\\N\n");
+    }
+
+    @Test
+    @DisplayName("Should encode null description as NULL marker")
+    void shouldEncodeNullDescription() throws IOException {
+        Transaction transaction = Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .amount(new BigDecimal("5.00"))
+                .transactionDate(LocalDate.of(2024, 1, 1))
+                .transactionType(ETransactionType.INCOME)
+                .build();
+
+        assertThat(encode(transaction)).contains("\t5.00\t\\N\t2024-01-01\tincome\t");
+    }
+
+    private String encode(Transaction transaction) throws IOException {
+        StringWriter out = new StringWriter();
+        TransactionCopyEncoder.write(out, transaction);
+        return out.toString();
+    }
+}
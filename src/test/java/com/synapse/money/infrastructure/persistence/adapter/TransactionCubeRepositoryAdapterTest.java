@@ -0,0 +1,132 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.valueobject.InsightTotal;
+import com.synapse.money.domain.valueobject.Money;
+import com.synapse.money.domain.valueobject.TransactionCube;
+import com.synapse.money.domain.valueobject.TransactionCubeQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionCubeRepositoryAdapter Tests")
+class TransactionCubeRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @InjectMocks
+    private TransactionCubeRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should stream the user's rows in date order with a bounded fetch size")
+    void shouldStreamRowsWithFetchSize() throws SQLException, IOException {
+        when(transactionArchive.scan(1L, LocalDate.MIN, LocalDate.MAX)).thenReturn(ArchivedRows.cursor());
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(TransactionCubeRepositoryAdapter.LOAD_SQL)).thenReturn(statement);
+
+        TransactionCube cube = adapter.loadForUser(1L);
+
+        verify(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setFetchSize(TransactionCubeRepositoryAdapter.LOAD_FETCH_SIZE);
+        verify(statement).setLong(1, 1L);
+        assertThat(cube.size()).isZero();
+        assertThat(TransactionCubeRepositoryAdapter.LOAD_SQL)
+                .contains("(amount * 100)::bigint AS amount_minor_units")
+                .contains("ORDER BY transaction_date, id");
+    }
+
+    @Test
+    @DisplayName("Should map each row into the cube columns")
+    void shouldMapRowsIntoCube() throws SQLException, IOException {
+        when(transactionArchive.scan(1L, LocalDate.MIN, LocalDate.MAX)).thenReturn(ArchivedRows.cursor());
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getObject("transaction_date", LocalDate.class)).thenReturn(LocalDate.of(2024, 3, 10));
+        when(rs.getLong("amount_minor_units")).thenReturn(4_000L);
+        when(rs.getObject("category_id", Long.class)).thenReturn(3L);
+        when(rs.getLong("account_id")).thenReturn(5L);
+        when(rs.getString("transaction_type")).thenReturn("expense");
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        TransactionCube cube = adapter.loadForUser(1L);
+
+        assertThat(cube.aggregate(new TransactionCubeQuery(
+                EInsightDimension.CATEGORY, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), null, null, 5L
+        ))).containsExactly(new InsightTotal(null, 3L, null, null, Money.ofMinor(4_000), 1));
+    }
+
+    @Test
+    @DisplayName("Should fold archived rows into the cube in date order")
+    void shouldFoldArchivedRowsIntoCube() throws SQLException, IOException {
+        ResultSet rs = mock(ResultSet.class);
+        when(transactionArchive.scan(1L, LocalDate.MIN, LocalDate.MAX)).thenReturn(ArchivedRows.cursor(
+                ArchivedRows.row(1L, LocalDate.of(2020, 5, 1)),
+                ArchivedRows.row(2L, LocalDate.of(2024, 3, 10))
+        ));
+        when(rs.getObject("transaction_date", LocalDate.class)).thenReturn(LocalDate.of(2024, 3, 10));
+        when(rs.getLong("id")).thenReturn(50L);
+        when(rs.getLong("amount_minor_units")).thenReturn(4_000L);
+        when(rs.getObject("category_id", Long.class)).thenReturn(3L);
+        when(rs.getLong("account_id")).thenReturn(10L);
+        when(rs.getString("transaction_type")).thenReturn("expense");
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        TransactionCube cube = adapter.loadForUser(1L);
+
+        assertThat(cube.size()).isEqualTo(3);
+        assertThat(cube.aggregate(new TransactionCubeQuery(
+                EInsightDimension.MONTH, LocalDate.of(2020, 1, 1), LocalDate.of(2024, 12, 31), null, null, null
+        ))).containsExactly(
+                new InsightTotal(YearMonth.of(2020, 5), null, null, null, Money.ofMinor(1_000), 1),
+                new InsightTotal(YearMonth.of(2024, 3), null, null, null, Money.ofMinor(5_000), 2)
+        );
+    }
+
+    @Test
+    @DisplayName("Should translate an unreadable archive")
+    void shouldTranslateUnreadableArchive() throws IOException {
+        when(transactionArchive.scan(1L, LocalDate.MIN, LocalDate.MAX)).thenThrow(new IOException("disk gone"));
+
+        assertThatThrownBy(() -> adapter.loadForUser(1L))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasRootCauseMessage("disk gone");
+    }
+}
@@ -0,0 +1,39 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionPartitionRepositoryAdapter Tests")
+class TransactionPartitionRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TransactionPartitionRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should extend partitions through the first day of the month")
+    void shouldExtendThroughMonth() {
+        when(jdbcTemplate.queryForObject(
+                TransactionPartitionRepositoryAdapter.EXTEND_SQL,
+                Integer.class,
+                Date.valueOf(LocalDate.of(2025, 6, 1))
+        )).thenReturn(3);
+
+        assertThat(adapter.createMonthlyPartitionsThrough(YearMonth.of(2025, 6))).isEqualTo(3);
+    }
+}
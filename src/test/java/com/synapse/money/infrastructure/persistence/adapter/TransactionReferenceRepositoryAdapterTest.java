@@ -0,0 +1,79 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionReferenceRepositoryAdapter Tests")
+class TransactionReferenceRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TransactionReferenceRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should check every transaction's references in one query")
+    @SuppressWarnings("unchecked")
+    void shouldCheckReferencesInOneQuery() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array categoryIds = mock(Array.class);
+        Array subcategoryIds = mock(Array.class);
+        Array creditCardIds = mock(Array.class);
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of(1));
+        when(connection.prepareStatement(TransactionReferenceRepositoryAdapter.FIND_UNOWNED_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Long[]{30L, null})).thenReturn(categoryIds);
+        when(connection.createArrayOf("bigint", new Long[]{31L, null})).thenReturn(subcategoryIds);
+        when(connection.createArrayOf("bigint", new Long[]{null, 40L})).thenReturn(creditCardIds);
+
+        assertThat(adapter.findUnowned(1L, List.of(
+                Transaction.builder().categoryId(30L).subcategoryId(31L).build(),
+                Transaction.builder().creditCardId(40L).build()
+        ))).containsExactly(1);
+
+        verify(jdbcTemplate).query(creator.capture(), any(RowMapper.class));
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setArray(1, categoryIds);
+        verify(statement).setArray(2, subcategoryIds);
+        verify(statement).setArray(3, creditCardIds);
+        verify(statement).setLong(4, 1L);
+        verify(statement).setLong(5, 1L);
+        assertThat(TransactionReferenceRepositoryAdapter.FIND_UNOWNED_SQL)
+                .contains("c.user_id = ?")
+                .contains("s.category_id = r.category_id")
+                .contains("cc.user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should skip the database when no transaction references a category or card")
+    void shouldSkipDatabaseWithoutReferences() {
+        assertThat(adapter.findUnowned(1L, List.of(Transaction.builder().accountId(10L).build()))).isEmpty();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,432 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.repository.TransactionArchive;
+import com.synapse.money.domain.valueobject.FingerprintSet;
+import com.synapse.money.domain.valueobject.TransactionCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchHit;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionRepositoryAdapter Tests")
+class TransactionRepositoryAdapterTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionRowMapper rowMapper;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @InjectMocks
+    private TransactionRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should insert a transaction and return the stored row")
+    void shouldInsertAndReturnStoredRow() {
+        Transaction transaction = Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .amount(new BigDecimal("12.50"))
+                .description("Coffee")
+                .transactionDate(LocalDate.of(2024, 3, 1))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+        Transaction stored = transaction.toBuilder().id(7L).build();
+        when(jdbcTemplate.queryForObject(
+                TransactionRepositoryAdapter.INSERT_SQL,
+                rowMapper,
+                1L, 10L, null, null, null, null,
+                new BigDecimal("12.50"),
+                "Coffee",
+                Date.valueOf(LocalDate.of(2024, 3, 1)),
+                "expense",
+                false
+        )).thenReturn(stored);
+
+        assertThat(adapter.save(transaction)).isSameAs(stored);
+        assertThat(TransactionRepositoryAdapter.INSERT_SQL).contains("CAST(? AS transaction_type_enum)");
+    }
+
+    @Test
+    @DisplayName("Should scope update, delete and row lock to the owning user and stored date")
+    void shouldScopeWritesToOwningUser() {
+        Transaction transaction = Transaction.builder().id(7L).userId(1L).transactionDate(LocalDate.of(2024, 2, 3)).build();
+        when(jdbcTemplate.query(TransactionRepositoryAdapter.FIND_FOR_UPDATE_SQL, rowMapper, 7L, 1L))
+                .thenReturn(List.of(transaction));
+
+        assertThat(adapter.findByIdAndUserIdForUpdate(7L, 1L)).isEqualTo(Optional.of(transaction));
+        adapter.delete(transaction);
+
+        verify(jdbcTemplate).update(TransactionRepositoryAdapter.DELETE_SQL, 7L, 1L, Date.valueOf(LocalDate.of(2024, 2, 3)));
+        assertThat(TransactionRepositoryAdapter.FIND_FOR_UPDATE_SQL).contains("FOR UPDATE");
+        assertThat(TransactionRepositoryAdapter.UPDATE_SQL)
+                .contains("WHERE id = ?\n  AND user_id = ?\n  AND transaction_date = ?");
+        assertThat(TransactionRepositoryAdapter.DELETE_SQL).contains("AND transaction_date = ?");
+    }
+
+    @Test
+    @DisplayName("Should draw ids in one query and insert all rows in JDBC batches")
+    @SuppressWarnings("unchecked")
+    void shouldInsertBatchWithPreallocatedIds() throws SQLException {
+        Transaction first = expense(new BigDecimal("12.50"));
+        Transaction second = expense(new BigDecimal("3.00"));
+        when(jdbcTemplate.queryForList(TransactionRepositoryAdapter.ALLOCATE_IDS_SQL, Long.class, 2))
+                .thenReturn(List.of(101L, 102L));
+        ArgumentCaptor<List<Transaction>> rows = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Transaction>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+
+        List<Transaction> saved = adapter.saveAll(List.of(first, second), 20);
+
+        verify(jdbcTemplate).batchUpdate(
+                eq(TransactionRepositoryAdapter.BATCH_INSERT_SQL), rows.capture(), eq(20), setter.capture());
+        assertThat(saved).extracting(Transaction::getId).containsExactly(101L, 102L);
+        assertThat(saved).extracting(Transaction::getAmount).containsExactly(first.getAmount(), second.getAmount());
+        assertThat(saved.getFirst().getCreatedAt()).isNotNull().isEqualTo(saved.getFirst().getUpdatedAt());
+        assertThat(rows.getValue()).isEqualTo(saved);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, saved.getFirst());
+        verify(ps).setLong(1, 101L);
+        verify(ps).setObject(4, null, Types.BIGINT);
+        verify(ps).setBigDecimal(8, new BigDecimal("12.50"));
+        verify(ps).setString(11, "expense");
+        assertThat(TransactionRepositoryAdapter.BATCH_INSERT_SQL).doesNotContain("RETURNING");
+    }
+
+    @Test
+    @DisplayName("Should skip the database for an empty batch")
+    void shouldSkipEmptyBatch() {
+        assertThat(adapter.saveAll(List.of(), 20)).isEmpty();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should load the import fingerprints of a date window in one query")
+    void shouldLoadImportFingerprints() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(11L, 12L, 11L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(
+                eq(TransactionRepositoryAdapter.FIND_IMPORT_FINGERPRINTS_SQL),
+                any(RowCallbackHandler.class),
+                eq(1L),
+                eq(Date.valueOf(LocalDate.of(2024, 1, 1))),
+                eq(Date.valueOf(LocalDate.of(2024, 2, 15)))
+        );
+
+        FingerprintSet fingerprints = adapter.findImportFingerprints(1L, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 15));
+
+        assertThat(fingerprints.size()).isEqualTo(2);
+        assertThat(fingerprints.contains(11L)).isTrue();
+        assertThat(fingerprints.contains(12L)).isTrue();
+        assertThat(TransactionRepositoryAdapter.FIND_IMPORT_FINGERPRINTS_SQL).contains("import_fingerprint IS NOT NULL");
+        assertThat(TransactionRepositoryAdapter.COPY_SQL).contains("import_fingerprint");
+    }
+
+    @Test
+    @DisplayName("Should query the first page without a seek predicate")
+    void shouldQueryFirstPage() {
+        List<Transaction> rows = List.of(Transaction.builder().id(1L).build());
+        when(jdbcTemplate.query(TransactionRepositoryAdapter.FIRST_PAGE_SQL, rowMapper, 1L, 51)).thenReturn(rows);
+
+        assertThat(adapter.findPageByUser(1L, null, 51)).isSameAs(rows);
+    }
+
+    @Test
+    @DisplayName("Should seek past the cursor on later pages")
+    void shouldSeekPastCursor() {
+        TransactionCursor cursor = new TransactionCursor(LocalDate.of(2024, 2, 1), 99L);
+        List<Transaction> rows = List.of();
+        when(jdbcTemplate.query(
+                TransactionRepositoryAdapter.NEXT_PAGE_SQL,
+                rowMapper,
+                1L,
+                Date.valueOf(LocalDate.of(2024, 2, 1)),
+                Date.valueOf(LocalDate.of(2024, 2, 1)),
+                99L,
+                51
+        )).thenReturn(rows);
+
+        assertThat(adapter.findPageByUser(1L, cursor, 51)).isSameAs(rows);
+        assertThat(TransactionRepositoryAdapter.NEXT_PAGE_SQL)
+                .contains("transaction_date <= ?")
+                .contains("(transaction_date, id) < (?, ?)")
+                .contains("ORDER BY transaction_date DESC, id DESC");
+    }
+
+    @Test
+    @DisplayName("Should search with an escaped contains pattern and seek past the cursor")
+    @SuppressWarnings("unchecked")
+    void shouldSearchPastCursor() {
+        TransactionSearchCursor cursor = new TransactionSearchCursor(900, LocalDate.of(2024, 2, 1), 99L);
+        List<TransactionSearchHit> hits = List.of();
+        when(jdbcTemplate.query(
+                eq(TransactionRepositoryAdapter.SEARCH_NEXT_PAGE_SQL),
+                any(RowMapper.class),
+                eq("50%_off"),
+                eq(1L),
+                eq("%50\\%\\_off%"),
+                eq(900),
+                eq(Date.valueOf(LocalDate.of(2024, 2, 1))),
+                eq(99L),
+                eq(21)
+        )).thenReturn(hits);
+
+        assertThat(adapter.searchByUser(1L, "50%_off", cursor, 21)).isSameAs(hits);
+        assertThat(TransactionRepositoryAdapter.SEARCH_NEXT_PAGE_SQL)
+                .contains("description ILIKE ?")
+                .contains("(rank, transaction_date, id) < (?, ?, ?)")
+                .contains("ORDER BY rank DESC, transaction_date DESC, id DESC");
+    }
+
+    @Test
+    @DisplayName("Should stream the date range through a forward-only cursor")
+    void shouldStreamThroughForwardOnlyCursor() throws SQLException, IOException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        when(transactionArchive.scan(1L, from, to)).thenReturn(ArchivedRows.cursor());
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(
+                TransactionRepositoryAdapter.EXPORT_SQL,
+                ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY
+        )).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true, true, false);
+        when(rs.getLong("id")).thenReturn(1L, 2L);
+        List<Long> ids = new ArrayList<>();
+
+        long count = adapter.streamByUserAndDateRange(1L, from, to, row -> ids.add(row.id()));
+
+        assertThat(count).isEqualTo(2);
+        assertThat(ids).containsExactly(1L, 2L);
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).setFetchSize(TransactionRepositoryAdapter.EXPORT_FETCH_SIZE);
+        inOrder.verify(statement).executeQuery();
+        inOrder.verify(connection).rollback();
+        inOrder.verify(connection).close();
+        verify(statement).setObject(2, from);
+        verify(statement).setObject(3, to);
+        assertThat(TransactionRepositoryAdapter.EXPORT_SQL).contains("(amount * 100)::bigint AS amount_minor_units");
+    }
+
+    @Test
+    @DisplayName("Should merge archived rows into the stream in date and id order")
+    void shouldMergeArchivedRows() throws SQLException, IOException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        LocalDate from = LocalDate.of(2021, 1, 1);
+        LocalDate to = LocalDate.of(2021, 1, 31);
+        long[] hotIds = {1L, 2L};
+        LocalDate[] hotDates = {LocalDate.of(2021, 1, 5), LocalDate.of(2021, 1, 20)};
+        int[] position = {-1};
+        when(transactionArchive.scan(1L, from, to)).thenReturn(ArchivedRows.cursor(
+                ArchivedRows.row(9L, LocalDate.of(2021, 1, 1)),
+                ArchivedRows.row(3L, LocalDate.of(2021, 1, 20)),
+                ArchivedRows.row(4L, LocalDate.of(2021, 1, 31))
+        ));
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(
+                TransactionRepositoryAdapter.EXPORT_SQL,
+                ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY
+        )).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenAnswer(invocation -> ++position[0] < hotIds.length);
+        when(rs.getLong("id")).thenAnswer(invocation -> hotIds[position[0]]);
+        when(rs.getObject("transaction_date", LocalDate.class)).thenAnswer(invocation -> hotDates[position[0]]);
+        List<Long> ids = new ArrayList<>();
+
+        long count = adapter.streamByUserAndDateRange(1L, from, to, row -> ids.add(row.id()));
+
+        assertThat(count).isEqualTo(5);
+        assertThat(ids).containsExactly(9L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should find the first transaction date after the archive horizon")
+    void shouldFindFirstDateAfterHorizon() {
+        when(jdbcTemplate.queryForObject(
+                TransactionRepositoryAdapter.FIRST_DATE_AFTER_SQL,
+                LocalDate.class,
+                1L,
+                Date.valueOf(LocalDate.of(2020, 12, 31))
+        )).thenReturn(LocalDate.of(2021, 3, 4));
+        when(jdbcTemplate.queryForObject(TransactionRepositoryAdapter.FIRST_DATE_AFTER_SQL, LocalDate.class, 2L, null))
+                .thenReturn(null);
+
+        assertThat(adapter.findFirstTransactionDateAfter(1L, LocalDate.of(2020, 12, 31))).contains(LocalDate.of(2021, 3, 4));
+        assertThat(adapter.findFirstTransactionDateAfter(2L, null)).isEmpty();
+        assertThat(TransactionRepositoryAdapter.FIRST_DATE_AFTER_SQL).contains("COALESCE(CAST(? AS date), '-infinity')");
+    }
+
+    @Test
+    @DisplayName("Should read the user's transactions among the ids in one query")
+    void shouldFindByIds() throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        Transaction transaction = Transaction.builder().id(6L).build();
+        when(jdbcTemplate.query(creator.capture(), eq(rowMapper))).thenReturn(List.of(transaction));
+        when(connection.prepareStatement(TransactionRepositoryAdapter.FIND_BY_IDS_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Object[]{6L, 5L})).thenReturn(ids);
+
+        List<Transaction> found = adapter.findByIds(1L, List.of(6L, 5L));
+
+        assertThat(found).containsExactly(transaction);
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setLong(1, 1L);
+        verify(statement).setArray(2, ids);
+        assertThat(TransactionRepositoryAdapter.FIND_BY_IDS_SQL)
+                .contains("id = ANY (?)")
+                .contains("ORDER BY id DESC");
+    }
+
+    @Test
+    @DisplayName("Should not query for an empty id list")
+    void shouldSkipFindByIdsWithoutIds() {
+        assertThat(adapter.findByIds(1L, List.of())).isEmpty();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should delete archived rows by id within the archived period")
+    void shouldDeleteArchivedRowsById() throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        when(jdbcTemplate.update(creator.capture())).thenReturn(2);
+        when(connection.prepareStatement(TransactionRepositoryAdapter.DELETE_ARCHIVED_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Object[]{5L, 6L})).thenReturn(ids);
+
+        int deleted = adapter.deleteArchived(1L, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31), List.of(5L, 6L));
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setLong(1, 1L);
+        verify(statement).setDate(2, Date.valueOf(LocalDate.of(2021, 1, 1)));
+        verify(statement).setDate(3, Date.valueOf(LocalDate.of(2021, 12, 31)));
+        verify(statement).setArray(4, ids);
+        assertThat(TransactionRepositoryAdapter.DELETE_ARCHIVED_SQL)
+                .contains("transaction_date BETWEEN ? AND ?")
+                .contains("id = ANY (?)")
+                .contains("is_recurring IS NOT TRUE");
+    }
+
+    @Test
+    @DisplayName("Should skip the delete when nothing was archived")
+    void shouldSkipDeleteWhenNothingArchived() {
+        assertThat(adapter.deleteArchived(1L, LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31), List.of())).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should end the read transaction when the client stops reading")
+    void shouldEndTransactionWhenClientStopsReading() throws SQLException, IOException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(transactionArchive.scan(1L, LocalDate.MIN, LocalDate.MAX)).thenReturn(ArchivedRows.cursor());
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(
+                TransactionRepositoryAdapter.EXPORT_SQL,
+                ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY
+        )).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+
+        assertThatThrownBy(() -> adapter.streamByUserAndDateRange(1L, LocalDate.MIN, LocalDate.MAX, row -> {
+            throw new IOException("client went away");
+        })).isInstanceOf(IOException.class);
+
+        verify(rs).close();
+        verify(connection).rollback();
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Should translate SQLException while streaming")
+    void shouldTranslateSqlExceptionWhileStreaming() throws SQLException, IOException {
+        when(transactionArchive.scan(1L, LocalDate.MIN, LocalDate.MAX)).thenReturn(ArchivedRows.cursor());
+        when(dataSource.getConnection()).thenThrow(new SQLException("pool exhausted"));
+
+        assertThatThrownBy(() -> adapter.streamByUserAndDateRange(1L, LocalDate.MIN, LocalDate.MAX, row -> {}))
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasRootCauseMessage("pool exhausted");
+    }
+
+    private static Transaction expense(BigDecimal amount) {
+        return Transaction.builder()
+                .userId(1L)
+                .accountId(10L)
+                .amount(amount)
+                .description("Coffee")
+                .transactionDate(LocalDate.of(2024, 3, 2))
+                .transactionType(ETransactionType.EXPENSE)
+                .build();
+    }
+}
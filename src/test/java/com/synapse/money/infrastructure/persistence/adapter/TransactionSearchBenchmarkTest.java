@@ -0,0 +1,168 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.TransactionSearchCursor;
+import com.synapse.money.domain.valueobject.TransactionSearchHit;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Searches a user with 500k transactions (next to 200k belonging to another
+ * user) and reports first-page latency. The bound is loose enough for a
+ * shared CI runner; the printed percentiles are the actual measurement.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Transaction search benchmark Tests")
+class TransactionSearchBenchmarkTest {
+
+    private static final int ROWS = 500_000;
+    private static final int OTHER_USER_ROWS = 200_000;
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 200;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+    private static Long userId;
+
+    @BeforeAll
+    static void seed() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        userId = insertUser("search@example.com");
+        Long otherUserId = insertUser("other@example.com");
+        generate(userId, ROWS);
+        generate(otherUserId, OTHER_USER_ROWS);
+        jdbcTemplate.execute("ANALYZE transactions");
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should serve the first ranked page in low milliseconds")
+    void shouldServeFirstPageQuickly() {
+        TransactionRepositoryAdapter adapter = new TransactionRepositoryAdapter(
+                dataSource, jdbcTemplate, new TransactionRowMapper(), null);
+        List<String> queries = List.of("uber", "netflix", "merchant 42", "spotify");
+
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            adapter.searchByUser(userId, queries.get(i % queries.size()), null, 51);
+        }
+        long[] nanos = new long[MEASURED_RUNS];
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            adapter.searchByUser(userId, queries.get(i % queries.size()), null, 51);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = TimeUnit.NANOSECONDS.toMicros(nanos[MEASURED_RUNS / 2]);
+        long p95 = TimeUnit.NANOSECONDS.toMicros(nanos[MEASURED_RUNS * 95 / 100]);
+        System.out.printf("Transaction search over %d rows: p50=%dus p95=%dus%n", ROWS, p50, p95);
+
+        assertThat(p95).isLessThan(TimeUnit.MILLISECONDS.toMicros(50));
+        assertThat(jdbcTemplate.queryForList("EXPLAIN " + TransactionRepositoryAdapter.SEARCH_FIRST_PAGE_SQL
+                        .replaceFirst("\\?", "'uber'")
+                        .replaceFirst("\\?", String.valueOf(userId))
+                        .replaceFirst("\\?", "'%uber%'")
+                        .replaceFirst("\\?", "51"), String.class))
+                .anyMatch(line -> line.contains("idx_transactions_user_description_trgm"));
+    }
+
+    @Test
+    @DisplayName("Should page through every match of the user exactly once, best rank first")
+    void shouldPageThroughEveryMatchOnce() {
+        TransactionRepositoryAdapter adapter = new TransactionRepositoryAdapter(
+                dataSource, jdbcTemplate, new TransactionRowMapper(), null);
+        Integer expected = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM transactions WHERE user_id = ? AND description ILIKE '%netflix%'",
+                Integer.class, userId);
+
+        Set<Long> seen = new HashSet<>();
+        int previousRank = Integer.MAX_VALUE;
+        TransactionSearchCursor cursor = null;
+        List<TransactionSearchHit> page;
+        do {
+            page = adapter.searchByUser(userId, "netflix", cursor, 100);
+            for (TransactionSearchHit hit : page) {
+                assertThat(hit.transaction().getUserId()).isEqualTo(userId);
+                assertThat(hit.rank()).isLessThanOrEqualTo(previousRank);
+                assertThat(seen.add(hit.transaction().getId())).isTrue();
+                previousRank = hit.rank();
+            }
+            cursor = page.isEmpty() ? null : TransactionSearchCursor.after(page.getLast());
+        } while (page.size() == 100);
+
+        assertThat(seen).hasSize(expected);
+    }
+
+    private static Long insertUser(String email) {
+        Long id = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES (?, 'x', 'Search', 'Benchmark')
+                RETURNING id
+                """, Long.class, email);
+        Long institutionId = jdbcTemplate.queryForObject(
+                "INSERT INTO financial_institutions (name) VALUES ('Bank') RETURNING id", Long.class);
+        Long accountTypeId = jdbcTemplate.queryForObject(
+                "INSERT INTO account_types (name) VALUES ('Checking') RETURNING id", Long.class);
+        jdbcTemplate.update("""
+                INSERT INTO accounts (user_id, financial_institution_id, account_type_id, name,
+                                      initial_balance, current_balance)
+                VALUES (?, ?, ?, 'Main', 0, 0)
+                """, id, institutionId, accountTypeId);
+        return id;
+    }
+
+    /**
+     * About a thousand merchants, with "Uber" and "Netflix" variants recurring
+     * at realistic rates rather than in every row.
+     */
+    private static void generate(
+            Long ownerId,
+            int rows) {
+        jdbcTemplate.update("""
+                INSERT INTO transactions (user_id, account_id, amount, description, transaction_date, transaction_type)
+                SELECT a.user_id,
+                       a.id,
+                       1 + (g %% 5000) / 100.0,
+                       CASE
+                           WHEN g %% 400 = 0 THEN 'UBER *TRIP ' || (g %% 97)
+                           WHEN g %% 401 = 0 THEN 'Uber Eats order'
+                           WHEN g %% 900 = 0 THEN 'NETFLIX.COM'
+                           WHEN g %% 1300 = 0 THEN 'Spotify Premium'
+                           ELSE 'Merchant ' || (g %% 997) || ' ' || substr(md5(g::text), 1, 8)
+                       END,
+                       CURRENT_DATE - (g %% 1500),
+                       'expense'
+                FROM accounts a
+                CROSS JOIN generate_series(1, %d) AS g
+                WHERE a.user_id = ?
+                """.formatted(rows), ownerId);
+    }
+}
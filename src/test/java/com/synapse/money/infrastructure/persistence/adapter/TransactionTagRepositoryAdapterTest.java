@@ -0,0 +1,118 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.TransactionTagIndex;
+import com.synapse.money.domain.valueobject.TransactionTagQuery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionTagRepositoryAdapter Tests")
+class TransactionTagRepositoryAdapterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TransactionTagRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should replace the tags with one delete and one batch insert")
+    @SuppressWarnings("unchecked")
+    void shouldReplaceTags() throws SQLException {
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<String>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+
+        adapter.replace(1L, 99L, List.of("travel", "work"));
+
+        verify(jdbcTemplate).update(TransactionTagRepositoryAdapter.DELETE_SQL, 1L, 99L);
+        verify(jdbcTemplate).batchUpdate(
+                eq(TransactionTagRepositoryAdapter.INSERT_SQL), eq(List.of("travel", "work")), eq(2), setter.capture());
+        setter.getValue().setValues(statement, "work");
+        verify(statement).setLong(1, 1L);
+        verify(statement).setLong(2, 99L);
+        verify(statement).setString(3, "work");
+    }
+
+    @Test
+    @DisplayName("Should only delete when the tags are cleared")
+    void shouldOnlyDeleteWhenCleared() {
+        adapter.replace(1L, 99L, List.of());
+
+        verify(jdbcTemplate).update(TransactionTagRepositoryAdapter.DELETE_SQL, 1L, 99L);
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should delete the tags of many transactions in one statement")
+    void shouldDeleteByTransactions() throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array ids = mock(Array.class);
+        when(connection.prepareStatement(TransactionTagRepositoryAdapter.DELETE_BY_TRANSACTIONS_SQL)).thenReturn(statement);
+        when(connection.createArrayOf("bigint", new Object[]{5L, 6L})).thenReturn(ids);
+
+        adapter.deleteByTransactions(1L, List.of(5L, 6L));
+
+        verify(jdbcTemplate).update(creator.capture());
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setLong(1, 1L);
+        verify(statement).setArray(2, ids);
+    }
+
+    @Test
+    @DisplayName("Should stream the user's tag rows into an index")
+    void shouldLoadIndex() throws SQLException {
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(TransactionTagRepositoryAdapter.LOAD_INDEX_SQL)).thenReturn(statement);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("transaction_id")).thenReturn(10L, 10L, 12L);
+        when(rs.getString("tag")).thenReturn("travel", "work", "travel");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (int i = 0; i < 3; i++) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(creator.capture(), any(RowCallbackHandler.class));
+
+        TransactionTagIndex index = adapter.loadIndex(1L);
+
+        assertThat(creator.getValue().createPreparedStatement(connection)).isSameAs(statement);
+        verify(statement).setFetchSize(TransactionTagRepositoryAdapter.LOAD_FETCH_SIZE);
+        verify(statement).setLong(1, 1L);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.idsBefore(index.match(new TransactionTagQuery(Set.of("travel"), Set.of(), Set.of())), null, 10))
+                .containsExactly(12L, 10L);
+        assertThat(TransactionTagRepositoryAdapter.LOAD_INDEX_SQL).contains("ORDER BY transaction_id");
+    }
+}
@@ -0,0 +1,150 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.application.handler.AccountBalanceChangeHandler;
+import com.synapse.money.application.handler.BalanceCheckpointChangeHandler;
+import com.synapse.money.application.handler.MonthlyTotalsChangeHandler;
+import com.synapse.money.application.handler.TransactionChangeDispatcher;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionChange;
+import com.synapse.money.infrastructure.persistence.mapper.TransactionRowMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hammers the posting path with transfers in both directions between the
+ * same accounts. Retries are disabled, so a single deadlock fails the test.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Transfer posting stress Tests")
+class TransferPostingStressTest {
+
+    private static final int THREADS = 8;
+    private static final int TRANSFERS_PER_THREAD = 150;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("100000.00");
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static HikariDataSource dataSource;
+
+    @BeforeAll
+    static void migrate() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(POSTGRES.getJdbcUrl());
+        dataSource.setUsername(POSTGRES.getUsername());
+        dataSource.setPassword(POSTGRES.getPassword());
+        dataSource.setMaximumPoolSize(THREADS + 2);
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+    }
+
+    @AfterAll
+    static void close() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should post concurrent opposite transfers without deadlock and conserve money")
+    void shouldPostConcurrentTransfersWithoutDeadlock() throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        Long userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (email, password, first_name, last_name)
+                VALUES ('stress@example.com', 'x', 'Stress', 'Test')
+                RETURNING id
+                """, Long.class);
+        Long institutionId = jdbcTemplate.queryForObject(
+                "INSERT INTO financial_institutions (name) VALUES ('Bank') RETURNING id", Long.class);
+        Long accountTypeId = jdbcTemplate.queryForObject(
+                "INSERT INTO account_types (name) VALUES ('Checking') RETURNING id", Long.class);
+        List<Long> accountIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            accountIds.add(jdbcTemplate.queryForObject("""
+                    INSERT INTO accounts (user_id, financial_institution_id, account_type_id, name,
+                                          initial_balance, current_balance)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    RETURNING id
+                    """, Long.class, userId, institutionId, accountTypeId, "Account " + i, INITIAL_BALANCE, INITIAL_BALANCE));
+        }
+
+        TransactionRepositoryAdapter transactions = new TransactionRepositoryAdapter(
+                dataSource, jdbcTemplate, new TransactionRowMapper(), null);
+        TransactionChangeDispatcher dispatcher = new TransactionChangeDispatcher(List.of(
+                new AccountBalanceChangeHandler(new AccountRepositoryAdapter(namedJdbcTemplate)),
+                new BalanceCheckpointChangeHandler(new BalanceCheckpointRepositoryAdapter(namedJdbcTemplate)),
+                new MonthlyTotalsChangeHandler(new MonthlyTotalsRepositoryAdapter(jdbcTemplate))
+        ));
+        RetryingTransactionExecutor noRetry = new RetryingTransactionExecutor(
+                new DataSourceTransactionManager(dataSource), 1, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                workers.add(pool.submit(() -> {
+                    start.await();
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                        int from = random.nextInt(accountIds.size());
+                        int to = (from + 1 + random.nextInt(accountIds.size() - 1)) % accountIds.size();
+                        Transaction transfer = Transaction.builder()
+                                .userId(userId)
+                                .accountId(accountIds.get(from))
+                                .transferAccountId(accountIds.get(to))
+                                .amount(BigDecimal.valueOf(random.nextInt(1, 10_000), 2))
+                                .transactionDate(LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365)))
+                                .transactionType(ETransactionType.TRANSFER)
+                                .build();
+                        noRetry.run(() -> dispatcher.dispatch(TransactionChange.created(transactions.save(transfer))));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        BigDecimal total = jdbcTemplate.queryForObject(
+                "SELECT SUM(current_balance) FROM accounts WHERE user_id = ?", BigDecimal.class, userId);
+        assertThat(total).isEqualByComparingTo(INITIAL_BALANCE.multiply(BigDecimal.valueOf(accountIds.size())));
+
+        Integer drifted = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*)
+                FROM accounts a
+                WHERE a.user_id = ?
+                  AND a.current_balance <> a.initial_balance
+                        - COALESCE((SELECT SUM(t.amount) FROM transactions t WHERE t.account_id = a.id), 0)
+                        + COALESCE((SELECT SUM(t.amount) FROM transactions t WHERE t.transfer_account_id = a.id), 0)
+                """, Integer.class, userId);
+        assertThat(drifted).isZero();
+    }
+}
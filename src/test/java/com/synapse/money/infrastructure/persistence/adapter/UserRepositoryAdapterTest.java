@@ -11,8 +11,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -156,4 +158,14 @@ class UserRepositoryAdapterTest {
         assertThat(result).isFalse();
         verify(jpaRepository).existsByEmailIgnoreCase(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page user ids after the given id")
+    void shouldPageUserIdsAfterGivenId() {
+        when(jpaRepository.findIdsAfter(10L, PageRequest.of(0, 3))).thenReturn(List.of(11L, 12L, 15L));
+
+        List<Long> result = adapter.findIdsAfter(10L, 3);
+
+        assertThat(result).containsExactly(11L, 12L, 15L);
+    }
+}
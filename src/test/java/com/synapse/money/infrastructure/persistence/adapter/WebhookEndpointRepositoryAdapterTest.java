@@ -0,0 +1,95 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.valueobject.WebhookEndpoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookEndpointRepositoryAdapter Tests")
+class WebhookEndpointRepositoryAdapterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private WebhookEndpointRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should insert an endpoint and map the returned row")
+    @SuppressWarnings("unchecked")
+    void shouldSaveEndpoint() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(3L);
+        when(rs.getLong("user_id")).thenReturn(1L);
+        when(rs.getString("url")).thenReturn("https://example.com/hook");
+        when(rs.getString("secret")).thenReturn("secret");
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(CREATED_AT));
+        ArgumentCaptor<RowMapper<WebhookEndpoint>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.queryForObject(
+                eq(WebhookEndpointRepositoryAdapter.INSERT_SQL),
+                mapper.capture(),
+                eq(1L),
+                eq("https://example.com/hook"),
+                eq("secret")
+        )).thenAnswer(invocation -> mapper.getValue().mapRow(rs, 0));
+
+        WebhookEndpoint endpoint = adapter.save(1L, "https://example.com/hook", "secret");
+
+        assertThat(endpoint).isEqualTo(new WebhookEndpoint(3L, 1L, "https://example.com/hook", "secret", CREATED_AT));
+    }
+
+    @Test
+    @DisplayName("Should replace the secret of the user's own endpoint only")
+    @SuppressWarnings("unchecked")
+    void shouldUpdateOwnSecret() {
+        WebhookEndpoint rotated = new WebhookEndpoint(3L, 1L, "https://example.com/hook", "rotated", CREATED_AT);
+        when(jdbcTemplate.query(
+                eq(WebhookEndpointRepositoryAdapter.UPDATE_SECRET_SQL),
+                any(RowMapper.class),
+                eq("rotated"),
+                eq(3L),
+                eq(1L)
+        )).thenReturn(List.of(rotated), List.of());
+
+        assertThat(adapter.updateSecret(3L, 1L, "rotated")).contains(rotated);
+        assertThat(adapter.updateSecret(3L, 1L, "rotated")).isEmpty();
+        assertThat(WebhookEndpointRepositoryAdapter.UPDATE_SECRET_SQL).contains("AND user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should delete only the user's own endpoint")
+    void shouldDeleteOwnEndpoint() {
+        when(jdbcTemplate.update(WebhookEndpointRepositoryAdapter.DELETE_SQL, 3L, 1L)).thenReturn(1);
+
+        assertThat(adapter.deleteByIdAndUserId(3L, 1L)).isTrue();
+        assertThat(WebhookEndpointRepositoryAdapter.DELETE_SQL).contains("AND user_id = ?");
+    }
+
+    @Test
+    @DisplayName("Should report a missing endpoint")
+    void shouldReportMissingEndpoint() {
+        when(jdbcTemplate.update(WebhookEndpointRepositoryAdapter.DELETE_SQL, 3L, 2L)).thenReturn(0);
+
+        assertThat(adapter.deleteByIdAndUserId(3L, 2L)).isFalse();
+    }
+}
@@ -0,0 +1,153 @@
+package com.synapse.money.infrastructure.persistence.adapter;
+
+import com.synapse.money.domain.enums.EWebhookEventType;
+import com.synapse.money.domain.valueobject.OutboxEvent;
+import com.synapse.money.domain.valueobject.WebhookDelivery;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookOutboxRepositoryAdapter Tests")
+class WebhookOutboxRepositoryAdapterTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private WebhookOutboxRepositoryAdapter adapter;
+
+    @Test
+    @DisplayName("Should look up a user's endpoint ids")
+    void shouldFindEndpointIds() {
+        when(jdbcTemplate.queryForList(WebhookOutboxRepositoryAdapter.FIND_ENDPOINT_IDS_SQL, Map.of("userId", 1L), Long.class))
+                .thenReturn(List.of(3L, 4L));
+
+        assertThat(adapter.findEndpointIds(1L)).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should enqueue one row per endpoint and event in a single batch")
+    void shouldEnqueueCrossProduct() {
+        ArgumentCaptor<SqlParameterSource[]> batch = ArgumentCaptor.forClass(SqlParameterSource[].class);
+
+        adapter.enqueue(List.of(3L, 4L), List.of(
+                new OutboxEvent(EWebhookEventType.TRANSACTION_CREATED, "{\"id\":1}"),
+                new OutboxEvent(EWebhookEventType.TRANSACTION_DELETED, "{\"id\":2}")
+        ));
+
+        verify(jdbcTemplate).batchUpdate(eq(WebhookOutboxRepositoryAdapter.ENQUEUE_SQL), batch.capture());
+        assertThat(batch.getValue()).hasSize(4);
+        assertThat(batch.getValue()[1].getValue("endpointId")).isEqualTo(3L);
+        assertThat(batch.getValue()[1].getValue("eventType")).isEqualTo("transaction.deleted");
+        assertThat(batch.getValue()[1].getValue("payload")).isEqualTo("{\"id\":2}");
+        assertThat(batch.getValue()[2].getValue("endpointId")).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("Should skip the batch when there is nothing to enqueue")
+    void shouldSkipEmptyEnqueue() {
+        adapter.enqueue(List.of(3L), List.of());
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should lease due rows past locked ones and open circuits")
+    @SuppressWarnings("unchecked")
+    void shouldClaimDueRows() throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(11L);
+        when(rs.getLong("endpoint_id")).thenReturn(3L);
+        when(rs.getString("url")).thenReturn("https://example.com/hook");
+        when(rs.getString("secret")).thenReturn("secret");
+        when(rs.getString("event_type")).thenReturn("transaction.created");
+        when(rs.getString("payload")).thenReturn("{}");
+        when(rs.getInt("attempts")).thenReturn(2);
+        ArgumentCaptor<RowMapper<WebhookDelivery>> mapper = ArgumentCaptor.forClass(RowMapper.class);
+        when(jdbcTemplate.query(
+                eq(WebhookOutboxRepositoryAdapter.CLAIM_DUE_SQL),
+                eq(Map.of("leaseSeconds", 120L, "limit", 500)),
+                mapper.capture()
+        )).thenAnswer(invocation -> List.of(mapper.getValue().mapRow(rs, 0)));
+
+        List<WebhookDelivery> deliveries = adapter.claimDue(500, Duration.ofMinutes(2));
+
+        assertThat(deliveries).containsExactly(new WebhookDelivery(
+                11L, 3L, "https://example.com/hook", "secret", "transaction.created", "{}", 2
+        ));
+        assertThat(WebhookOutboxRepositoryAdapter.CLAIM_DUE_SQL)
+                .contains("FOR UPDATE OF ob SKIP LOCKED")
+                .contains("ob.failed_at IS NULL")
+                .contains("ep.circuit_open_until IS NULL OR ep.circuit_open_until <= now()")
+                .contains("ORDER BY ob.id");
+    }
+
+    @Test
+    @DisplayName("Should delete delivered rows")
+    void shouldDeleteDelivered() {
+        adapter.markDelivered(List.of(11L, 12L));
+
+        verify(jdbcTemplate).update(WebhookOutboxRepositoryAdapter.MARK_DELIVERED_SQL, Map.of("ids", List.of(11L, 12L)));
+    }
+
+    @Test
+    @DisplayName("Should reschedule failed rows with capped exponential backoff")
+    void shouldRescheduleFailed() {
+        adapter.markFailed(List.of(11L), Duration.ofSeconds(10), Duration.ofHours(1), 12);
+
+        verify(jdbcTemplate).update(WebhookOutboxRepositoryAdapter.MARK_FAILED_SQL, Map.of(
+                "ids", List.of(11L),
+                "initialBackoffSeconds", 10L,
+                "maxBackoffSeconds", 3600L,
+                "maxAttempts", 12
+        ));
+        assertThat(WebhookOutboxRepositoryAdapter.MARK_FAILED_SQL)
+                .contains("power(2, attempts)")
+                .contains("LEAST(")
+                .contains("failed_at       = CASE WHEN attempts + 1 >= :maxAttempts THEN now() END");
+    }
+
+    @Test
+    @DisplayName("Should reset the circuit only when it carries failures")
+    void shouldResetCircuit() {
+        adapter.recordEndpointSuccess(3L);
+
+        verify(jdbcTemplate).update(WebhookOutboxRepositoryAdapter.RECORD_SUCCESS_SQL, Map.of("endpointId", 3L));
+        assertThat(WebhookOutboxRepositoryAdapter.RECORD_SUCCESS_SQL)
+                .contains("AND (consecutive_failures > 0 OR circuit_open_until IS NOT NULL)");
+    }
+
+    @Test
+    @DisplayName("Should open the circuit once failures reach the threshold")
+    void shouldCountFailure() {
+        adapter.recordEndpointFailure(3L, 5, Duration.ofMinutes(5));
+
+        verify(jdbcTemplate).update(WebhookOutboxRepositoryAdapter.RECORD_FAILURE_SQL, Map.of(
+                "endpointId", 3L,
+                "threshold", 5,
+                "openForSeconds", 300L
+        ));
+        assertThat(WebhookOutboxRepositoryAdapter.RECORD_FAILURE_SQL)
+                .contains("WHEN consecutive_failures + 1 >= :threshold");
+    }
+}
@@ -0,0 +1,29 @@
+package com.synapse.money.infrastructure.persistence.converter;
+
+import com.synapse.money.domain.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MoneyAttributeConverter Tests")
+class MoneyAttributeConverterTest {
+
+    private final MoneyAttributeConverter converter = new MoneyAttributeConverter();
+
+    @Test
+    @DisplayName("Should convert to and from the decimal column")
+    void shouldConvertBothWays() {
+        assertThat(converter.convertToDatabaseColumn(Money.ofMinor(990))).isEqualTo(new BigDecimal("9.90"));
+        assertThat(converter.convertToEntityAttribute(new BigDecimal("9.90"))).isEqualTo(Money.ofMinor(990));
+    }
+
+    @Test
+    @DisplayName("Should pass nulls through")
+    void shouldPassNullsThrough() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
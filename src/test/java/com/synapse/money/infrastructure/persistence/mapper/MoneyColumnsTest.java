@@ -0,0 +1,55 @@
+package com.synapse.money.infrastructure.persistence.mapper;
+
+import com.synapse.money.domain.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("MoneyColumns Tests")
+class MoneyColumnsTest {
+
+    @Test
+    @DisplayName("Should select a decimal column scaled to cents")
+    void shouldSelectScaledColumn() {
+        assertThat(MoneyColumns.minorUnits("t.amount")).isEqualTo("(t.amount * 100)::bigint");
+    }
+
+    @Test
+    @DisplayName("Should read cents as a primitive long")
+    void shouldReadCents() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("amount_minor_units")).thenReturn(990L);
+
+        assertThat(MoneyColumns.readMinorUnits(rs, "amount_minor_units")).isEqualTo(990L);
+    }
+
+    @Test
+    @DisplayName("Should bind as a two-decimal BigDecimal")
+    void shouldBindAsDecimal() throws SQLException {
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        MoneyColumns.bind(ps, 3, Money.ofMinor(-1250));
+
+        verify(ps).setBigDecimal(3, new BigDecimal("-12.50"));
+    }
+
+    @Test
+    @DisplayName("Should reject amounts that do not fit DECIMAL(12, 2)")
+    void shouldRejectOutOfRangeAmounts() {
+        assertThat(MoneyColumns.toDecimal(Money.ofMinor(MoneyColumns.MAX_MINOR_UNITS)))
+                .isEqualByComparingTo("9999999999.99");
+        assertThatThrownBy(() -> MoneyColumns.toDecimal(Money.ofMinor(-MoneyColumns.MAX_MINOR_UNITS - 1)))
+                .isInstanceOf(ArithmeticException.class)
+                .hasMessage("Amount does not fit DECIMAL(12, 2): -10000000000.00");
+    }
+}
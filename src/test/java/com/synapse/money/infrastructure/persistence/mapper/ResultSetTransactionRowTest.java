@@ -0,0 +1,60 @@
+package com.synapse.money.infrastructure.persistence.mapper;
+
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ResultSetTransactionRow Tests")
+class ResultSetTransactionRowTest {
+
+    private final ResultSet rs = mock(ResultSet.class);
+    private final ResultSetTransactionRow row = new ResultSetTransactionRow(rs);
+
+    @Test
+    @DisplayName("Should read columns of the current row on demand")
+    void shouldReadColumnsOnDemand() throws SQLException {
+        when(rs.getLong("id")).thenReturn(5L);
+        when(rs.getLong("account_id")).thenReturn(10L);
+        when(rs.getObject("category_id", Long.class)).thenReturn(20L);
+        when(rs.getObject("subcategory_id", Long.class)).thenReturn(30L);
+        when(rs.getObject("credit_card_id", Long.class)).thenReturn(null);
+        when(rs.getObject("transfer_account_id", Long.class)).thenReturn(11L);
+        when(rs.getLong(ResultSetTransactionRow.AMOUNT_MINOR_UNITS)).thenReturn(350L);
+        when(rs.getString("description")).thenReturn("Bus");
+        when(rs.getObject("transaction_date", LocalDate.class)).thenReturn(LocalDate.of(2024, 1, 2));
+        when(rs.getString("transaction_type")).thenReturn("expense");
+        when(rs.getBoolean("is_recurring")).thenReturn(true);
+
+        assertThat(row.id()).isEqualTo(5L);
+        assertThat(row.accountId()).isEqualTo(10L);
+        assertThat(row.categoryId()).isEqualTo(20L);
+        assertThat(row.subcategoryId()).isEqualTo(30L);
+        assertThat(row.creditCardId()).isNull();
+        assertThat(row.transferAccountId()).isEqualTo(11L);
+        assertThat(row.amountMinorUnits()).isEqualTo(350L);
+        assertThat(row.description()).isEqualTo("Bus");
+        assertThat(row.transactionDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(row.transactionType()).isEqualTo(ETransactionType.EXPENSE);
+        assertThat(row.recurring()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should translate SQLException")
+    void shouldTranslateSqlException() throws SQLException {
+        when(rs.getLong("id")).thenThrow(new SQLException("closed"));
+
+        assertThatThrownBy(row::id)
+                .isInstanceOf(DataAccessResourceFailureException.class)
+                .hasRootCauseMessage("closed");
+    }
+}
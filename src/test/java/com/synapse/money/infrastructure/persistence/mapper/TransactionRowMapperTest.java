@@ -0,0 +1,64 @@
+package com.synapse.money.infrastructure.persistence.mapper;
+
+import com.synapse.money.domain.entity.Transaction;
+import com.synapse.money.domain.enums.ETransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("TransactionRowMapper Tests")
+class TransactionRowMapperTest {
+
+    private final TransactionRowMapper rowMapper = new TransactionRowMapper();
+
+    @Test
+    @DisplayName("Should map every column of a transactions row")
+    void shouldMapEveryColumn() throws SQLException {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 3, 10, 0);
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong("id")).thenReturn(5L);
+        when(rs.getLong("user_id")).thenReturn(1L);
+        when(rs.getLong("account_id")).thenReturn(10L);
+        when(rs.getObject("category_id", Long.class)).thenReturn(20L);
+        when(rs.getObject("subcategory_id", Long.class)).thenReturn(null);
+        when(rs.getObject("credit_card_id", Long.class)).thenReturn(null);
+        when(rs.getObject("transfer_account_id", Long.class)).thenReturn(11L);
+        when(rs.getBigDecimal("amount")).thenReturn(new BigDecimal("50.00"));
+        when(rs.getString("description")).thenReturn("Savings");
+        when(rs.getDate("transaction_date")).thenReturn(Date.valueOf(LocalDate.of(2024, 3, 3)));
+        when(rs.getString("transaction_type")).thenReturn("transfer");
+        when(rs.getBoolean("is_recurring")).thenReturn(true);
+        when(rs.getObject("recurring_source_id", Long.class)).thenReturn(9L);
+        when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(createdAt));
+        when(rs.getTimestamp("updated_at")).thenReturn(null);
+
+        Transaction transaction = rowMapper.mapRow(rs, 0);
+
+        assertThat(transaction.getId()).isEqualTo(5L);
+        assertThat(transaction.getUserId()).isEqualTo(1L);
+        assertThat(transaction.getAccountId()).isEqualTo(10L);
+        assertThat(transaction.getCategoryId()).isEqualTo(20L);
+        assertThat(transaction.getSubcategoryId()).isNull();
+        assertThat(transaction.getCreditCardId()).isNull();
+        assertThat(transaction.getTransferAccountId()).isEqualTo(11L);
+        assertThat(transaction.getAmount()).isEqualByComparingTo("50.00");
+        assertThat(transaction.getDescription()).isEqualTo("Savings");
+        assertThat(transaction.getTransactionDate()).isEqualTo(LocalDate.of(2024, 3, 3));
+        assertThat(transaction.getTransactionType()).isEqualTo(ETransactionType.TRANSFER);
+        assertThat(transaction.isRecurring()).isTrue();
+        assertThat(transaction.getRecurringSourceId()).isEqualTo(9L);
+        assertThat(transaction.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(transaction.getUpdatedAt()).isNull();
+    }
+}
@@ -0,0 +1,41 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.RebuildBalanceCheckpointsUseCase;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BalanceCheckpointJob Tests")
+class BalanceCheckpointJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RebuildBalanceCheckpointsUseCase rebuildBalanceCheckpointsUseCase;
+
+    @InjectMocks
+    private BalanceCheckpointJob job;
+
+    @Test
+    @DisplayName("Should rebuild every user and keep going after a failure")
+    void shouldRebuildEveryUser() {
+        when(userRepository.findIdsAfter(0L, BalanceCheckpointJob.USER_PAGE_SIZE)).thenReturn(List.of(4L, 9L));
+        when(rebuildBalanceCheckpointsUseCase.execute(4L)).thenThrow(new IllegalStateException("boom"));
+
+        job.run();
+
+        verify(rebuildBalanceCheckpointsUseCase).execute(4L);
+        verify(rebuildBalanceCheckpointsUseCase).execute(9L);
+    }
+}
@@ -0,0 +1,106 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ProcessBulkEditsUseCase;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.valueobject.BulkEdit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkEditJob Tests")
+class BulkEditJobTest {
+
+    private static final int CHUNK_SIZE = 100;
+
+    @Mock
+    private ProcessBulkEditsUseCase processBulkEditsUseCase;
+
+    private BulkEditJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new BulkEditJob(processBulkEditsUseCase, CHUNK_SIZE, 0);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no edit is queued")
+    void shouldDoNothingWhenIdle() {
+        when(processBulkEditsUseCase.claimNext()).thenReturn(Optional.empty());
+
+        job.run();
+
+        verify(processBulkEditsUseCase, never()).processChunk(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should process chunks until the edit completes, then claim the next")
+    void shouldProcessChunksUntilComplete() {
+        when(processBulkEditsUseCase.claimNext()).thenReturn(Optional.of(edit(7L, EBulkEditStatus.RUNNING)), Optional.empty());
+        when(processBulkEditsUseCase.processChunk(7L, CHUNK_SIZE))
+                .thenReturn(edit(7L, EBulkEditStatus.RUNNING), edit(7L, EBulkEditStatus.COMPLETED));
+
+        job.run();
+
+        verify(processBulkEditsUseCase, times(2)).processChunk(7L, CHUNK_SIZE);
+        verify(processBulkEditsUseCase, times(2)).claimNext();
+    }
+
+    @Test
+    @DisplayName("Should fail the edit on an unexpected error and carry on")
+    void shouldFailEditOnError() {
+        when(processBulkEditsUseCase.claimNext())
+                .thenReturn(Optional.of(edit(7L, EBulkEditStatus.RUNNING)), Optional.of(edit(8L, EBulkEditStatus.RUNNING)), Optional.empty());
+        when(processBulkEditsUseCase.processChunk(7L, CHUNK_SIZE)).thenThrow(new IllegalStateException("boom"));
+        when(processBulkEditsUseCase.processChunk(8L, CHUNK_SIZE)).thenReturn(edit(8L, EBulkEditStatus.COMPLETED));
+
+        job.run();
+
+        verify(processBulkEditsUseCase).fail(7L, "boom");
+        verify(processBulkEditsUseCase).processChunk(8L, CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should leave the edit to be resumed after a transient error")
+    void shouldLeaveEditOnTransientError() {
+        when(processBulkEditsUseCase.claimNext()).thenReturn(Optional.of(edit(7L, EBulkEditStatus.RUNNING)), Optional.empty());
+        when(processBulkEditsUseCase.processChunk(7L, CHUNK_SIZE)).thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        job.run();
+
+        verify(processBulkEditsUseCase, never()).fail(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should swallow a failed claim")
+    void shouldSwallowFailedClaim() {
+        when(processBulkEditsUseCase.claimNext()).thenThrow(new IllegalStateException("database down"));
+
+        assertThatCode(job::run).doesNotThrowAnyException();
+    }
+
+    private static BulkEdit edit(
+            Long id,
+            EBulkEditStatus status) {
+        return new BulkEdit(
+                id, 1L, EBulkEditKind.RECATEGORIZE, null, null, status, 0L, 200, 0, 0, null,
+                LocalDateTime.of(2024, 3, 1, 9, 0), null
+        );
+    }
+}
@@ -0,0 +1,54 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ReconcileCategoryBudgetsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryBudgetReconciliationJob Tests")
+class CategoryBudgetReconciliationJobTest {
+
+    @Mock
+    private ReconcileCategoryBudgetsUseCase reconcileCategoryBudgetsUseCase;
+
+    @Test
+    @DisplayName("Should reconcile the configured number of months back")
+    void shouldReconcileRecentMonths() {
+        YearMonth from = YearMonth.now().minusMonths(2);
+        when(reconcileCategoryBudgetsUseCase.execute(from)).thenReturn(1);
+
+        new CategoryBudgetReconciliationJob(reconcileCategoryBudgetsUseCase, 2).run();
+
+        verify(reconcileCategoryBudgetsUseCase).execute(from);
+    }
+
+    @Test
+    @DisplayName("Should stay quiet when nothing drifted")
+    void shouldStayQuietWithoutDrift() {
+        YearMonth from = YearMonth.now().minusMonths(1);
+        when(reconcileCategoryBudgetsUseCase.execute(from)).thenReturn(0);
+
+        new CategoryBudgetReconciliationJob(reconcileCategoryBudgetsUseCase, 1).run();
+
+        verify(reconcileCategoryBudgetsUseCase).execute(from);
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed run so the next one retries")
+    void shouldSwallowFailure() {
+        YearMonth from = YearMonth.now().minusMonths(1);
+        when(reconcileCategoryBudgetsUseCase.execute(from)).thenThrow(new IllegalStateException("lock timeout"));
+
+        assertThatCode(() -> new CategoryBudgetReconciliationJob(reconcileCategoryBudgetsUseCase, 1).run())
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,52 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.idempotency.IdempotentRequestExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IdempotencyKeyCleanupJob Tests")
+class IdempotencyKeyCleanupJobTest {
+
+    @Mock
+    private IdempotentRequestExecutor idempotentRequestExecutor;
+
+    @InjectMocks
+    private IdempotencyKeyCleanupJob job;
+
+    @Test
+    @DisplayName("Should purge expired keys")
+    void shouldPurgeExpiredKeys() {
+        when(idempotentRequestExecutor.purgeExpired()).thenReturn(3);
+
+        job.run();
+
+        verify(idempotentRequestExecutor).purgeExpired();
+    }
+
+    @Test
+    @DisplayName("Should stay quiet when nothing expired")
+    void shouldStayQuietWhenNothingExpired() {
+        when(idempotentRequestExecutor.purgeExpired()).thenReturn(0);
+
+        job.run();
+
+        verify(idempotentRequestExecutor).purgeExpired();
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed run so the next one retries")
+    void shouldSwallowFailure() {
+        when(idempotentRequestExecutor.purgeExpired()).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThatCode(() -> job.run()).doesNotThrowAnyException();
+    }
+}
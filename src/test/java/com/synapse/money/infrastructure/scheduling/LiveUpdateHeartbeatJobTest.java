@@ -0,0 +1,40 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.live.LiveUpdateHub;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveUpdateHeartbeatJob Tests")
+class LiveUpdateHeartbeatJobTest {
+
+    @Mock
+    private LiveUpdateHub liveUpdateHub;
+
+    @InjectMocks
+    private LiveUpdateHeartbeatJob job;
+
+    @Test
+    @DisplayName("Should heartbeat the open connections")
+    void shouldHeartbeat() {
+        job.run();
+
+        verify(liveUpdateHub).heartbeat();
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed run so the next one retries")
+    void shouldSwallowFailure() {
+        doThrow(new IllegalStateException("boom")).when(liveUpdateHub).heartbeat();
+
+        assertThatCode(() -> job.run()).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,47 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.RebuildMonthlyTotalsUseCase;
+import com.synapse.money.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyTotalsRebuildJob Tests")
+class MonthlyTotalsRebuildJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RebuildMonthlyTotalsUseCase rebuildMonthlyTotalsUseCase;
+
+    @InjectMocks
+    private MonthlyTotalsRebuildJob job;
+
+    @Test
+    @DisplayName("Should page through every user and keep going after a failure")
+    void shouldPageThroughEveryUser() {
+        List<Long> firstPage = LongStream.rangeClosed(1, MonthlyTotalsRebuildJob.USER_PAGE_SIZE).boxed().toList();
+        long lastOfFirstPage = MonthlyTotalsRebuildJob.USER_PAGE_SIZE;
+        when(userRepository.findIdsAfter(0L, MonthlyTotalsRebuildJob.USER_PAGE_SIZE)).thenReturn(firstPage);
+        when(userRepository.findIdsAfter(lastOfFirstPage, MonthlyTotalsRebuildJob.USER_PAGE_SIZE))
+                .thenReturn(List.of(lastOfFirstPage + 1));
+        when(rebuildMonthlyTotalsUseCase.execute(2L)).thenThrow(new IllegalStateException("boom"));
+
+        job.run();
+
+        verify(rebuildMonthlyTotalsUseCase).execute(1L);
+        verify(rebuildMonthlyTotalsUseCase).execute(3L);
+        verify(rebuildMonthlyTotalsUseCase).execute(lastOfFirstPage + 1);
+    }
+}
@@ -0,0 +1,79 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ComputePlatformStatisticsUseCase;
+import com.synapse.money.domain.valueobject.UserIdRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PlatformStatisticsJob Tests")
+class PlatformStatisticsJobTest {
+
+    private static final LocalDate WEEK = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+            .minusWeeks(1);
+
+    @Mock
+    private ComputePlatformStatisticsUseCase computePlatformStatisticsUseCase;
+
+    @Test
+    @DisplayName("Should compute every pending range of last week and keep going after a failure")
+    void shouldComputeEveryPendingRange() {
+        List<UserIdRange> ranges = List.of(new UserIdRange(0, 1, 10), new UserIdRange(1, 11, Long.MAX_VALUE));
+        when(computePlatformStatisticsUseCase.prepare(WEEK, 4)).thenReturn(ranges);
+        when(computePlatformStatisticsUseCase.computeRange(eq(WEEK), eq(ranges.get(0)), any()))
+                .thenThrow(new IllegalStateException("boom"));
+        when(computePlatformStatisticsUseCase.complete(WEEK)).thenReturn(false);
+
+        new PlatformStatisticsJob(computePlatformStatisticsUseCase, 4, 2, 0).run();
+
+        verify(computePlatformStatisticsUseCase).computeRange(eq(WEEK), eq(ranges.get(0)), any());
+        verify(computePlatformStatisticsUseCase).computeRange(eq(WEEK), eq(ranges.get(1)), any());
+        verify(computePlatformStatisticsUseCase).complete(WEEK);
+    }
+
+    @Test
+    @DisplayName("Should publish the week when the last range completes")
+    void shouldPublishWeek() {
+        when(computePlatformStatisticsUseCase.prepare(WEEK, 4)).thenReturn(List.of());
+        when(computePlatformStatisticsUseCase.complete(WEEK)).thenReturn(true);
+
+        new PlatformStatisticsJob(computePlatformStatisticsUseCase, 4, 2, 0).run();
+
+        verify(computePlatformStatisticsUseCase).complete(WEEK);
+    }
+
+    @Test
+    @DisplayName("Should skip a week that is already published")
+    void shouldSkipPublishedWeek() {
+        when(computePlatformStatisticsUseCase.isComputed(WEEK)).thenReturn(true);
+
+        new PlatformStatisticsJob(computePlatformStatisticsUseCase, 4, 2, 0).run();
+
+        verify(computePlatformStatisticsUseCase, never()).prepare(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should log and swallow failures")
+    void shouldSwallowFailures() {
+        when(computePlatformStatisticsUseCase.prepare(WEEK, 4)).thenThrow(new IllegalStateException("down"));
+
+        new PlatformStatisticsJob(computePlatformStatisticsUseCase, 4, 2, 0).run();
+
+        verify(computePlatformStatisticsUseCase, never()).complete(any());
+    }
+}
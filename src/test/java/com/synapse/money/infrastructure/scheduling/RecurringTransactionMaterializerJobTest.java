@@ -0,0 +1,40 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.MaterializeRecurringTransactionsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RecurringTransactionMaterializerJob Tests")
+class RecurringTransactionMaterializerJobTest {
+
+    @Mock
+    private MaterializeRecurringTransactionsUseCase materializeRecurringTransactionsUseCase;
+
+    @Test
+    @DisplayName("Should process every slice and keep going after a failure")
+    void shouldProcessEverySlice() {
+        LocalDate horizon = LocalDate.now().plusDays(3);
+        when(materializeRecurringTransactionsUseCase.materializeSlice(anyInt(), eq(3), any(), eq(100)))
+                .thenReturn(5L);
+        when(materializeRecurringTransactionsUseCase.materializeSlice(1, 3, horizon, 100))
+                .thenThrow(new IllegalStateException("boom"));
+
+        new RecurringTransactionMaterializerJob(materializeRecurringTransactionsUseCase, 3, 2, 100, 3).run();
+
+        verify(materializeRecurringTransactionsUseCase).materializeSlice(0, 3, horizon, 100);
+        verify(materializeRecurringTransactionsUseCase).materializeSlice(1, 3, horizon, 100);
+        verify(materializeRecurringTransactionsUseCase).materializeSlice(2, 3, horizon, 100);
+    }
+}
@@ -0,0 +1,55 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ArchiveTransactionsUseCase;
+import com.synapse.money.domain.repository.UserRepository;
+import com.synapse.money.domain.valueobject.ArchiveSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionArchiveJob Tests")
+class TransactionArchiveJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ArchiveTransactionsUseCase archiveTransactionsUseCase;
+
+    private TransactionArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new TransactionArchiveJob(userRepository, archiveTransactionsUseCase, 3);
+    }
+
+    @Test
+    @DisplayName("Should archive each user's closed years one by one and keep going after a failure")
+    void shouldArchiveEveryUser() {
+        Year through = Year.now().minusYears(4);
+        ArchiveSegment segment = new ArchiveSegment(1L, LocalDate.of(2020, 1, 1), LocalDate.of(2020, 12, 31), "1/x.tseg", 10, 100L);
+        when(userRepository.findIdsAfter(0L, TransactionArchiveJob.USER_PAGE_SIZE)).thenReturn(List.of(1L, 2L, 3L));
+        when(archiveTransactionsUseCase.execute(1L, through))
+                .thenReturn(Optional.of(segment), Optional.of(segment), Optional.empty());
+        when(archiveTransactionsUseCase.execute(2L, through)).thenThrow(new IllegalStateException("boom"));
+        when(archiveTransactionsUseCase.execute(3L, through)).thenReturn(Optional.empty());
+
+        job.run();
+
+        verify(archiveTransactionsUseCase, times(3)).execute(1L, through);
+        verify(archiveTransactionsUseCase).execute(3L, through);
+    }
+}
@@ -0,0 +1,42 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.ExtendTransactionPartitionsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransactionPartitionJob Tests")
+class TransactionPartitionJobTest {
+
+    @Mock
+    private ExtendTransactionPartitionsUseCase extendTransactionPartitionsUseCase;
+
+    @Test
+    @DisplayName("Should create partitions the configured number of months ahead")
+    void shouldCreatePartitionsAhead() {
+        YearMonth through = YearMonth.now().plusMonths(6);
+
+        new TransactionPartitionJob(extendTransactionPartitionsUseCase, 6).run();
+
+        verify(extendTransactionPartitionsUseCase).execute(through);
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed run so the next one retries")
+    void shouldSwallowFailure() {
+        YearMonth through = YearMonth.now().plusMonths(6);
+        when(extendTransactionPartitionsUseCase.execute(through)).thenThrow(new IllegalStateException("lock timeout"));
+
+        assertThatCode(() -> new TransactionPartitionJob(extendTransactionPartitionsUseCase, 6).run())
+                .doesNotThrowAnyException();
+    }
+}
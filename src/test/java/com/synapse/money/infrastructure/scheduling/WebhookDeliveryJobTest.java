@@ -0,0 +1,99 @@
+package com.synapse.money.infrastructure.scheduling;
+
+import com.synapse.money.application.usecase.DeliverWebhooksUseCase;
+import com.synapse.money.domain.valueobject.WebhookBatch;
+import com.synapse.money.domain.valueobject.WebhookDelivery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WebhookDeliveryJob Tests")
+class WebhookDeliveryJobTest {
+
+    private static final int BATCH_SIZE = 4;
+
+    @Mock
+    private DeliverWebhooksUseCase deliverWebhooksUseCase;
+
+    private WebhookDeliveryJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new WebhookDeliveryJob(deliverWebhooksUseCase, BATCH_SIZE, 2);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no events are due")
+    void shouldDoNothingWhenNothingDue() {
+        when(deliverWebhooksUseCase.claimDue(BATCH_SIZE)).thenReturn(List.of());
+
+        job.run();
+
+        verify(deliverWebhooksUseCase, never()).deliver(any());
+    }
+
+    @Test
+    @DisplayName("Should deliver every endpoint's batch and stop after a partial claim")
+    void shouldDeliverEveryBatch() {
+        List<WebhookBatch> batches = batches(1, 2, 3);
+        when(deliverWebhooksUseCase.claimDue(BATCH_SIZE)).thenReturn(batches);
+
+        job.run();
+
+        verify(deliverWebhooksUseCase).claimDue(BATCH_SIZE);
+        batches.forEach(batch -> verify(deliverWebhooksUseCase).deliver(batch));
+    }
+
+    @Test
+    @DisplayName("Should keep claiming while claims come back full")
+    void shouldKeepClaimingWhileFull() {
+        List<WebhookBatch> full = batches(1, 2, 3, 4);
+        List<WebhookBatch> rest = batches(5);
+        when(deliverWebhooksUseCase.claimDue(BATCH_SIZE)).thenReturn(full, rest);
+
+        job.run();
+
+        verify(deliverWebhooksUseCase, times(2)).claimDue(BATCH_SIZE);
+        verify(deliverWebhooksUseCase, times(5)).deliver(any());
+    }
+
+    @Test
+    @DisplayName("Should carry on with other endpoints when one delivery throws")
+    void shouldIsolateFailedEndpoint() {
+        List<WebhookBatch> batches = batches(1, 2);
+        when(deliverWebhooksUseCase.claimDue(BATCH_SIZE)).thenReturn(batches);
+        when(deliverWebhooksUseCase.deliver(batches.getFirst())).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThatCode(() -> job.run()).doesNotThrowAnyException();
+
+        verify(deliverWebhooksUseCase).deliver(batches.get(1));
+    }
+
+    @Test
+    @DisplayName("Should log and swallow a failed claim so the next run retries")
+    void shouldSwallowFailedClaim() {
+        when(deliverWebhooksUseCase.claimDue(BATCH_SIZE)).thenThrow(new IllegalStateException("connection refused"));
+
+        assertThatCode(() -> job.run()).doesNotThrowAnyException();
+    }
+
+    private static List<WebhookBatch> batches(long... ids) {
+        return WebhookBatch.groupByEndpoint(LongStream.of(ids)
+                .mapToObj(id -> new WebhookDelivery(id, id, "https://example.com/" + id, "secret", "transaction.created", "{}", 0))
+                .toList(), 100);
+    }
+}
@@ -0,0 +1,36 @@
+package com.synapse.money.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdminAuthorizationManager Tests")
+class AdminAuthorizationManagerTest {
+
+    private final AdminAuthorizationManager manager =
+            new AdminAuthorizationManager(List.of(" Admin@Example.com ", ""));
+
+    @Test
+    @DisplayName("Should grant access to configured admin emails ignoring case")
+    void shouldGrantAccessToConfiguredAdmins() {
+        Authentication admin = UsernamePasswordAuthenticationToken.authenticated("admin@example.com", null, List.of());
+
+        assertThat(manager.authorize(() -> admin, null).isGranted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should deny access to other or missing authentications")
+    void shouldDenyAccessToOthers() {
+        Authentication user = UsernamePasswordAuthenticationToken.authenticated("john@example.com", null, List.of());
+        Authentication unauthenticated = UsernamePasswordAuthenticationToken.unauthenticated("admin@example.com", null);
+
+        assertThat(manager.authorize(() -> user, null).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> unauthenticated, null).isGranted()).isFalse();
+        assertThat(manager.authorize(() -> null, null).isGranted()).isFalse();
+    }
+}
@@ -0,0 +1,184 @@
+package com.synapse.money.infrastructure.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+import com.synapse.money.domain.exception.WebhookDeliveryException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HttpWebhookSender Tests")
+class HttpWebhookSenderTest {
+
+    private static final String SECRET = "s3cr3t";
+    private static final String BODY = "{\"events\":[{\"id\":1}]}";
+
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private final List<String> receivedSignatures = new CopyOnWriteArrayList<>();
+    private final List<String> receivedContentTypes = new CopyOnWriteArrayList<>();
+    private final List<String> receivedHosts = new CopyOnWriteArrayList<>();
+    private final HttpWebhookSender sender = new HttpWebhookSender(
+            url -> loopback(), Duration.ofSeconds(2), Duration.ofMillis(500));
+
+    private HttpServer server;
+    private volatile int status = 204;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hook", exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            receivedSignatures.add(exchange.getRequestHeaders().getFirst(HttpWebhookSender.SIGNATURE_HEADER));
+            receivedContentTypes.add(exchange.getRequestHeaders().getFirst("Content-Type"));
+            receivedHosts.add(exchange.getRequestHeaders().getFirst("Host"));
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should post the signed JSON body")
+    void shouldPostSignedBody() {
+        sender.send(url("/hook"), SECRET, BODY);
+
+        assertThat(receivedBodies).containsExactly(BODY);
+        assertThat(receivedContentTypes).containsExactly("application/json");
+        assertThat(receivedSignatures).containsExactly("sha256=" + HttpWebhookSender.sign(SECRET, BODY));
+    }
+
+    @Test
+    @DisplayName("Should connect to the verified address instead of resolving the host again")
+    void shouldConnectToVerifiedAddress() {
+        String url = "http://webhook.invalid:" + server.getAddress().getPort() + "/hook";
+
+        sender.send(url, SECRET, BODY);
+
+        assertThat(receivedBodies).containsExactly(BODY);
+        assertThat(receivedHosts).containsExactly("webhook.invalid:" + server.getAddress().getPort());
+    }
+
+    @Test
+    @DisplayName("Should not follow a redirect")
+    void shouldNotFollowRedirect() {
+        status = 302;
+
+        assertThatThrownBy(() -> sender.send(url("/hook"), SECRET, BODY))
+                .isInstanceOf(WebhookDeliveryException.class)
+                .hasMessageContaining("302");
+        assertThat(receivedBodies).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should read the status code and reject an answer without a status line")
+    void shouldReadStatusLine() throws IOException {
+        assertThat(HttpWebhookSender.readStatus(stream("HTTP/1.1 204 No Content\r\n\r\n"))).isEqualTo(204);
+        assertThat(HttpWebhookSender.readStatus(stream("HTTP/1.0 500\r\n"))).isEqualTo(500);
+        assertThatThrownBy(() -> HttpWebhookSender.readStatus(stream("SSH-2.0-OpenSSH\r\n")))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> HttpWebhookSender.readStatus(stream("HTTP/1.1 2")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("Should sign with HMAC-SHA256 in hex")
+    void shouldSignWithHmacSha256() {
+        assertThat(HttpWebhookSender.sign("key", "The quick brown fox jumps over the lazy dog"))
+                .isEqualTo("f7bc83f430538424b13298e6aa6fb143ef4d59a14946175997479dbc2d1a3cd8");
+    }
+
+    @Test
+    @DisplayName("Should fail on a non-2xx answer")
+    void shouldFailOnErrorStatus() {
+        status = 503;
+
+        assertThatThrownBy(() -> sender.send(url("/hook"), SECRET, BODY))
+                .isInstanceOf(WebhookDeliveryException.class)
+                .hasMessageContaining("503");
+    }
+
+    @Test
+    @DisplayName("Should fail when the endpoint does not answer in time")
+    void shouldFailOnTimeout() {
+        assertThatThrownBy(() -> sender.send(url("/slow"), SECRET, BODY))
+                .isInstanceOf(WebhookDeliveryException.class)
+                .hasMessageContaining("Could not reach");
+    }
+
+    @Test
+    @DisplayName("Should fail on an unusable URL")
+    void shouldFailOnUnusableUrl() {
+        assertThatThrownBy(() -> sender.send("not a url", SECRET, BODY))
+                .isInstanceOf(WebhookDeliveryException.class);
+    }
+
+    @Test
+    @DisplayName("Should verify the URL again before posting")
+    void shouldVerifyBeforePosting() {
+        HttpWebhookSender guarded = new HttpWebhookSender(url -> {
+            throw new InvalidWebhookUrlException("Webhook host 127.0.0.1 resolves to a non-public address");
+        }, Duration.ofSeconds(2), Duration.ofMillis(500));
+
+        assertThatThrownBy(() -> guarded.send(url("/hook"), SECRET, BODY))
+                .isInstanceOf(WebhookDeliveryException.class)
+                .hasMessageContaining("non-public")
+                .hasCauseInstanceOf(InvalidWebhookUrlException.class);
+        assertThat(receivedBodies).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the interrupt flag when interrupted")
+    void shouldKeepInterruptFlag() {
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(() -> sender.send(url("/slow"), SECRET, BODY))
+                    .isInstanceOf(WebhookDeliveryException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static InetAddress loopback() {
+        try {
+            return InetAddress.getByName("127.0.0.1");
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ByteArrayInputStream stream(String answer) {
+        return new ByteArrayInputStream(answer.getBytes(StandardCharsets.US_ASCII));
+    }
+}
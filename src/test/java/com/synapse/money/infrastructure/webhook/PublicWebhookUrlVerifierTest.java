@@ -0,0 +1,175 @@
+package com.synapse.money.infrastructure.webhook;
+
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PublicWebhookUrlVerifier Tests")
+class PublicWebhookUrlVerifierTest {
+
+    private static final String URL = "https://hooks.example.com/synapse";
+
+    private final List<String> resolvedHosts = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should accept an https URL that resolves only to public addresses")
+    void shouldAcceptPublicHost() {
+        assertThatCode(() -> verifier("93.184.216.34", "2606:2800:220:1:248:1893:25c8:1946").verify(URL))
+                .doesNotThrowAnyException();
+        assertThat(resolvedHosts).containsExactly("hooks.example.com");
+    }
+
+    @Test
+    @DisplayName("Should return a verified address to connect to")
+    void shouldReturnVerifiedAddress() {
+        assertThat(verifier("93.184.216.34", "93.184.216.35").resolve(URL)).isEqualTo(address("93.184.216.34"));
+    }
+
+    @Test
+    @DisplayName("Should reject plain http before resolving anything")
+    void shouldRejectHttp() {
+        assertThatThrownBy(() -> verifier("93.184.216.34").verify("http://hooks.example.com/synapse"))
+                .isInstanceOf(InvalidWebhookUrlException.class)
+                .hasMessage("Webhook URL must use https");
+        assertThat(resolvedHosts).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a URL without a host")
+    void shouldRejectMissingHost() {
+        assertThatThrownBy(() -> verifier("93.184.216.34").verify("https:///synapse"))
+                .isInstanceOf(InvalidWebhookUrlException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject a host that does not resolve")
+    void shouldRejectUnresolvableHost() {
+        PublicWebhookUrlVerifier verifier = new PublicWebhookUrlVerifier(host -> {
+            throw new UnknownHostException(host);
+        });
+
+        assertThatThrownBy(() -> verifier.verify(URL))
+                .isInstanceOf(InvalidWebhookUrlException.class)
+                .hasMessageContaining("does not resolve");
+    }
+
+    @Test
+    @DisplayName("Should reject loopback addresses")
+    void shouldRejectLoopback() {
+        assertRejected("127.0.0.1");
+        assertRejected("127.10.0.5");
+        assertRejected("::1");
+    }
+
+    @Test
+    @DisplayName("Should reject link-local addresses")
+    void shouldRejectLinkLocal() {
+        assertRejected("169.254.10.1");
+        assertRejected("fe80::1");
+    }
+
+    @Test
+    @DisplayName("Should reject private and unique-local addresses")
+    void shouldRejectPrivate() {
+        assertRejected("10.0.0.1");
+        assertRejected("172.16.0.1");
+        assertRejected("172.31.255.254");
+        assertRejected("192.168.1.1");
+        assertRejected("fd12:3456::1");
+    }
+
+    @Test
+    @DisplayName("Should reject carrier-grade NAT addresses")
+    void shouldRejectCarrierGradeNat() {
+        assertRejected("100.64.0.1");
+        assertRejected("100.127.255.254");
+    }
+
+    @Test
+    @DisplayName("Should reject multicast addresses")
+    void shouldRejectMulticast() {
+        assertRejected("224.0.0.1");
+        assertRejected("239.255.255.250");
+        assertRejected("ff02::1");
+    }
+
+    @Test
+    @DisplayName("Should reject cloud metadata addresses")
+    void shouldRejectMetadata() {
+        assertRejected("169.254.169.254");
+        assertRejected("fd00:ec2::254");
+        assertRejected("100.100.100.200");
+    }
+
+    @Test
+    @DisplayName("Should reject unspecified, reserved and broadcast addresses")
+    void shouldRejectReserved() {
+        assertRejected("0.0.0.0");
+        assertRejected("::");
+        assertRejected("240.0.0.1");
+        assertRejected("255.255.255.255");
+    }
+
+    @Test
+    @DisplayName("Should judge IPv6 addresses that embed IPv4 by the embedded address")
+    void shouldRejectEmbeddedIpv4() {
+        assertRejected("::ffff:127.0.0.1");
+        assertRejected("::10.0.0.1");
+        assertRejected("64:ff9b::a9fe:a9fe");
+        assertThat(PublicWebhookUrlVerifier.isPublic(address("64:ff9b::5db8:d822"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject a host when any one of its addresses is not public")
+    void shouldRejectMixedAnswer() {
+        assertThatThrownBy(() -> verifier("93.184.216.34", "10.0.0.1").verify(URL))
+                .isInstanceOf(InvalidWebhookUrlException.class)
+                .hasMessageContaining("non-public");
+    }
+
+    @Test
+    @DisplayName("Should check IP literals in the URL too")
+    void shouldCheckIpLiterals() {
+        PublicWebhookUrlVerifier verifier = new PublicWebhookUrlVerifier();
+
+        assertThatThrownBy(() -> verifier.verify("https://127.0.0.1:8443/hook"))
+                .isInstanceOf(InvalidWebhookUrlException.class);
+        assertThatThrownBy(() -> verifier.verify("https://[::1]/hook"))
+                .isInstanceOf(InvalidWebhookUrlException.class);
+    }
+
+    private void assertRejected(String literal) {
+        assertThatThrownBy(() -> verifier(literal).verify(URL))
+                .as(literal)
+                .isInstanceOf(InvalidWebhookUrlException.class)
+                .hasMessageContaining("non-public");
+    }
+
+    private PublicWebhookUrlVerifier verifier(String... literals) {
+        return new PublicWebhookUrlVerifier(host -> {
+            resolvedHosts.add(host);
+            InetAddress[] addresses = new InetAddress[literals.length];
+            for (int i = 0; i < literals.length; i++) {
+                addresses[i] = address(literals[i]);
+            }
+            return addresses;
+        });
+    }
+
+    private static InetAddress address(String literal) {
+        try {
+            return InetAddress.getByName(literal);
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.response.AccountBalanceResponse;
+import com.synapse.money.application.usecase.GetAccountBalanceUseCase;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AccountController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("AccountController Tests")
+class AccountControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private GetAccountBalanceUseCase getAccountBalanceUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    AccountControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/accounts/{id}/balance - Should return the as-of balance")
+    void shouldReturnAsOfBalance() throws Exception {
+        LocalDate date = LocalDate.of(2024, 3, 3);
+        when(getAccountBalanceUseCase.execute(EMAIL, 10L, date))
+                .thenReturn(new AccountBalanceResponse(10L, date, new BigDecimal("500.00")));
+
+        mockMvc.perform(get("/api/v1/accounts/10/balance")
+                        .principal(PRINCIPAL)
+                        .param("date", "2024-03-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountId").value(10))
+                .andExpect(jsonPath("$.asOf").value("2024-03-03"))
+                .andExpect(jsonPath("$.balance").value(500.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/accounts/{id}/balance - Should return 404 for another user's account")
+    void shouldReturn404ForForeignAccount() throws Exception {
+        when(getAccountBalanceUseCase.execute(EMAIL, 99L, null))
+                .thenThrow(new ResourceNotFoundException("Account not found"));
+
+        mockMvc.perform(get("/api/v1/accounts/99/balance")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,56 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.usecase.RebuildMonthlyTotalsUseCase;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminMonthlyTotalsController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("AdminMonthlyTotalsController Tests")
+class AdminMonthlyTotalsControllerTest {
+
+    private static final String REBUILD_ENDPOINT = "/api/v1/admin/users/7/monthly-totals/rebuild";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private RebuildMonthlyTotalsUseCase rebuildMonthlyTotalsUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    AdminMonthlyTotalsControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST rebuild - Should return 204 after rebuilding")
+    void shouldRebuildMonthlyTotals() throws Exception {
+        mockMvc.perform(post(REBUILD_ENDPOINT))
+                .andExpect(status().isNoContent());
+
+        verify(rebuildMonthlyTotalsUseCase).execute(7L);
+    }
+
+    @Test
+    @DisplayName("POST rebuild - Should return 404 for an unknown user")
+    void shouldReturn404ForUnknownUser() throws Exception {
+        when(rebuildMonthlyTotalsUseCase.execute(7L)).thenThrow(new ResourceNotFoundException("User not found: 7"));
+
+        mockMvc.perform(post(REBUILD_ENDPOINT))
+                .andExpect(status().isNotFound());
+    }
+}
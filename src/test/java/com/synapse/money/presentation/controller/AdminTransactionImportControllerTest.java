@@ -0,0 +1,72 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.response.BulkImportResponse;
+import com.synapse.money.application.usecase.BulkImportTransactionsUseCase;
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminTransactionImportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("AdminTransactionImportController Tests")
+class AdminTransactionImportControllerTest {
+
+    private static final String IMPORT_ENDPOINT = "/api/v1/admin/users/7/transactions/import";
+    private static final String CSV = "date,type,amount,account\n2024-01-05,expense,1.00,Checking\n";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private BulkImportTransactionsUseCase bulkImportTransactionsUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    AdminTransactionImportControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST import - Should return 201 with import summary")
+    void shouldReturnImportSummary() throws Exception {
+        when(bulkImportTransactionsUseCase.execute(eq(7L), any(InputStream.class)))
+                .thenReturn(new BulkImportResponse(1, 2, 1, 5));
+
+        mockMvc.perform(post(IMPORT_ENDPOINT)
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.skippedDuplicates").value(2))
+                .andExpect(jsonPath("$.recomputedAccounts").value(1));
+    }
+
+    @Test
+    @DisplayName("POST import - Should return 400 when a row is invalid")
+    void shouldReturn400WhenRowIsInvalid() throws Exception {
+        when(bulkImportTransactionsUseCase.execute(eq(7L), any(InputStream.class)))
+                .thenThrow(new InvalidTransactionImportException(2, "Invalid amount: x"));
+
+        mockMvc.perform(post(IMPORT_ENDPOINT)
+                        .contentType("text/csv")
+                        .content(CSV))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Line 2: Invalid amount: x"));
+    }
+}
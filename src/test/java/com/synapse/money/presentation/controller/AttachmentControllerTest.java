@@ -0,0 +1,209 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.attachment.AttachmentContent;
+import com.synapse.money.application.dto.response.AttachmentResponse;
+import com.synapse.money.application.usecase.DeleteAttachmentUseCase;
+import com.synapse.money.application.usecase.GetAttachmentContentUseCase;
+import com.synapse.money.application.usecase.ListAttachmentsUseCase;
+import com.synapse.money.application.usecase.UploadAttachmentUseCase;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AttachmentController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("AttachmentController Tests")
+class AttachmentControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+    private static final String ATTACHMENTS_ENDPOINT = "/api/v1/transactions/99/attachments";
+    private static final String SHA256 = "a".repeat(64);
+    private static final String ETAG = "\"" + SHA256 + "\"";
+    private static final byte[] BYTES = "receipt-content".getBytes(StandardCharsets.US_ASCII);
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private UploadAttachmentUseCase uploadAttachmentUseCase;
+
+    @MockitoBean
+    private ListAttachmentsUseCase listAttachmentsUseCase;
+
+    @MockitoBean
+    private GetAttachmentContentUseCase getAttachmentContentUseCase;
+
+    @MockitoBean
+    private DeleteAttachmentUseCase deleteAttachmentUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    AttachmentControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions/{id}/attachments - Should store the raw body")
+    void shouldUploadRawBody() throws Exception {
+        when(uploadAttachmentUseCase.execute(eq(EMAIL), eq(99L), eq("receipt.jpg"), eq("image/jpeg"), any()))
+                .thenReturn(response());
+
+        mockMvc.perform(post(ATTACHMENTS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .param("fileName", "receipt.jpg")
+                        .contentType("image/jpeg")
+                        .content(BYTES))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.fileName").value("receipt.jpg"))
+                .andExpect(jsonPath("$.storageKey").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments - Should list the attachments")
+    void shouldListAttachments() throws Exception {
+        when(listAttachmentsUseCase.execute(EMAIL, 99L)).thenReturn(List.of(response()));
+
+        mockMvc.perform(get(ATTACHMENTS_ENDPOINT).principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].byteSize").value(BYTES.length));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments/{id}/content - Should stream the whole file")
+    void shouldDownloadWholeFile() throws Exception {
+        when(getAttachmentContentUseCase.execute(EMAIL, 99L, 3L)).thenReturn(attachmentContent(null));
+
+        MvcResult result = mockMvc.perform(get(ATTACHMENTS_ENDPOINT + "/3/content").principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(header().string("Accept-Ranges", "bytes"))
+                .andExpect(header().longValue("Content-Length", BYTES.length))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(BYTES));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments/{id}/content - Should serve a single range")
+    void shouldDownloadRange() throws Exception {
+        when(getAttachmentContentUseCase.execute(EMAIL, 99L, 3L)).thenReturn(attachmentContent(null));
+
+        MvcResult result = mockMvc.perform(get(ATTACHMENTS_ENDPOINT + "/3/content")
+                        .principal(PRINCIPAL)
+                        .header("Range", "bytes=8-"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 8-14/15"))
+                .andExpect(header().longValue("Content-Length", 7))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(content().string("content"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments/{id}/content - Should ignore a range whose If-Range is stale")
+    void shouldIgnoreStaleIfRange() throws Exception {
+        when(getAttachmentContentUseCase.execute(EMAIL, 99L, 3L)).thenReturn(attachmentContent(null));
+
+        mockMvc.perform(get(ATTACHMENTS_ENDPOINT + "/3/content")
+                        .principal(PRINCIPAL)
+                        .header("Range", "bytes=8-")
+                        .header("If-Range", "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Content-Range"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments/{id}/content - Should answer 416 to a range past the end")
+    void shouldRejectUnsatisfiableRange() throws Exception {
+        when(getAttachmentContentUseCase.execute(EMAIL, 99L, 3L)).thenReturn(attachmentContent(null));
+
+        mockMvc.perform(get(ATTACHMENTS_ENDPOINT + "/3/content")
+                        .principal(PRINCIPAL)
+                        .header("Range", "bytes=100-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string("Content-Range", "bytes */15"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments/{id}/content - Should answer 304 to a matching ETag")
+    void shouldAnswerNotModified() throws Exception {
+        when(getAttachmentContentUseCase.execute(EMAIL, 99L, 3L)).thenReturn(attachmentContent(null));
+
+        mockMvc.perform(get(ATTACHMENTS_ENDPOINT + "/3/content")
+                        .principal(PRINCIPAL)
+                        .header("If-None-Match", "\"other\", W/" + ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/attachments/{id}/content - Should hand the file to sendfile when supported")
+    void shouldUseSendfile() throws Exception {
+        Path file = Path.of("/data/attachments/1/key");
+        when(getAttachmentContentUseCase.execute(EMAIL, 99L, 3L)).thenReturn(attachmentContent(file));
+
+        mockMvc.perform(get(ATTACHMENTS_ENDPOINT + "/3/content")
+                        .principal(PRINCIPAL)
+                        .requestAttr(AttachmentController.SENDFILE_SUPPORT, Boolean.TRUE)
+                        .header("Range", "bytes=0-6"))
+                .andExpect(status().isPartialContent())
+                .andExpect(request().attribute(AttachmentController.SENDFILE_FILENAME, file.toAbsolutePath().toString()))
+                .andExpect(request().attribute(AttachmentController.SENDFILE_START, 0L))
+                .andExpect(request().attribute(AttachmentController.SENDFILE_END, 7L))
+                .andExpect(header().longValue("Content-Length", 7));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/transactions/{id}/attachments/{id} - Should delete the attachment")
+    void shouldDeleteAttachment() throws Exception {
+        mockMvc.perform(delete(ATTACHMENTS_ENDPOINT + "/3").principal(PRINCIPAL))
+                .andExpect(status().isNoContent());
+
+        verify(deleteAttachmentUseCase).execute(EMAIL, 99L, 3L);
+    }
+
+    private static AttachmentResponse response() {
+        return new AttachmentResponse(3L, 99L, "receipt.jpg", "image/jpeg", BYTES.length, LocalDateTime.of(2024, 3, 1, 9, 0));
+    }
+
+    private static AttachmentContent attachmentContent(Path localFile) {
+        return new AttachmentContent("receipt.jpg", "image/jpeg", BYTES.length, SHA256, localFile,
+                (position, count, target) -> target.write(ByteBuffer.wrap(
+                        Arrays.copyOfRange(BYTES, (int) position, (int) (position + count)))));
+    }
+}
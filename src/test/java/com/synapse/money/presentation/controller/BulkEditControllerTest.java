@@ -0,0 +1,134 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.BulkEditRequest;
+import com.synapse.money.application.dto.response.BulkEditResponse;
+import com.synapse.money.application.usecase.GetBulkEditUseCase;
+import com.synapse.money.application.usecase.StartBulkEditUseCase;
+import com.synapse.money.domain.enums.EBulkEditKind;
+import com.synapse.money.domain.enums.EBulkEditStatus;
+import com.synapse.money.domain.exception.BulkEditInProgressException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BulkEditController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("BulkEditController Tests")
+class BulkEditControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+    private static final BulkEditRequest MERGE = new BulkEditRequest(EBulkEditKind.MERGE_CATEGORY, 3L, 4L);
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private StartBulkEditUseCase startBulkEditUseCase;
+
+    @MockitoBean
+    private GetBulkEditUseCase getBulkEditUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    BulkEditControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bulk-edits - Should queue the edit")
+    void shouldQueueEdit() throws Exception {
+        when(startBulkEditUseCase.execute(EMAIL, MERGE)).thenReturn(response(EBulkEditStatus.PENDING, 0));
+
+        mockMvc.perform(post("/api/v1/bulk-edits")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"kind": "MERGE_CATEGORY", "sourceCategoryId": 3, "targetCategoryId": 4}
+                                """))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.totalCount").value(1200));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bulk-edits - Should reject a request without a kind")
+    void shouldRejectMissingKind() throws Exception {
+        mockMvc.perform(post("/api/v1/bulk-edits")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"sourceCategoryId": 3}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(startBulkEditUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/bulk-edits - Should return 409 while another edit runs")
+    void shouldReturn409WhileAnotherEditRuns() throws Exception {
+        when(startBulkEditUseCase.execute(EMAIL, MERGE))
+                .thenThrow(new BulkEditInProgressException("Another bulk edit is still in progress"));
+
+        mockMvc.perform(post("/api/v1/bulk-edits")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"kind": "MERGE_CATEGORY", "sourceCategoryId": 3, "targetCategoryId": 4}
+                                """))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bulk-edits/{id} - Should report progress")
+    void shouldReportProgress() throws Exception {
+        when(getBulkEditUseCase.execute(EMAIL, 7L)).thenReturn(response(EBulkEditStatus.RUNNING, 500));
+
+        mockMvc.perform(get("/api/v1/bulk-edits/7")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.scannedCount").value(500));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/bulk-edits/{id} - Should return 404 when not found")
+    void shouldReturn404WhenNotFound() throws Exception {
+        when(getBulkEditUseCase.execute(EMAIL, 8L)).thenThrow(new ResourceNotFoundException("Bulk edit not found"));
+
+        mockMvc.perform(get("/api/v1/bulk-edits/8")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isNotFound());
+    }
+
+    private static BulkEditResponse response(
+            EBulkEditStatus status,
+            long scanned) {
+        return new BulkEditResponse(
+                7L, EBulkEditKind.MERGE_CATEGORY, status, 3L, 4L, 1200, scanned, scanned, null,
+                LocalDateTime.of(2024, 3, 1, 9, 0), null
+        );
+    }
+}
@@ -0,0 +1,140 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.CategorizationRuleRequest;
+import com.synapse.money.application.dto.response.CategorizationRuleResponse;
+import com.synapse.money.application.usecase.CreateCategorizationRuleUseCase;
+import com.synapse.money.application.usecase.DeleteCategorizationRuleUseCase;
+import com.synapse.money.application.usecase.ListCategorizationRulesUseCase;
+import com.synapse.money.domain.exception.InvalidCategorizationRuleException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CategorizationRuleController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("CategorizationRuleController Tests")
+class CategorizationRuleControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CreateCategorizationRuleUseCase createCategorizationRuleUseCase;
+
+    @MockitoBean
+    private ListCategorizationRulesUseCase listCategorizationRulesUseCase;
+
+    @MockitoBean
+    private DeleteCategorizationRuleUseCase deleteCategorizationRuleUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    CategorizationRuleControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/categorization-rules - Should create a rule")
+    void shouldCreateRule() throws Exception {
+        when(createCategorizationRuleUseCase.execute(EMAIL, new CategorizationRuleRequest("uber", 20L, 31L)))
+                .thenReturn(response());
+
+        mockMvc.perform(post("/api/v1/categorization-rules")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"pattern": "uber", "categoryId": 20, "subcategoryId": 31}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.pattern").value("uber"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/categorization-rules - Should reject a rule without category")
+    void shouldRejectMissingCategory() throws Exception {
+        mockMvc.perform(post("/api/v1/categorization-rules")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"pattern": "uber"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(createCategorizationRuleUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/categorization-rules - Should return 400 for a pattern without letters or digits")
+    void shouldReturnBadRequestForInvalidPattern() throws Exception {
+        when(createCategorizationRuleUseCase.execute(EMAIL, new CategorizationRuleRequest("***", 20L, null)))
+                .thenThrow(new InvalidCategorizationRuleException("Pattern must contain a letter or digit"));
+
+        mockMvc.perform(post("/api/v1/categorization-rules")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"pattern": "***", "categoryId": 20}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Pattern must contain a letter or digit"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/categorization-rules - Should list the user's rules")
+    void shouldListRules() throws Exception {
+        when(listCategorizationRulesUseCase.execute(EMAIL)).thenReturn(List.of(response()));
+
+        mockMvc.perform(get("/api/v1/categorization-rules").principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categoryId").value(20));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/categorization-rules/{id} - Should remove the rule")
+    void shouldDeleteRule() throws Exception {
+        mockMvc.perform(delete("/api/v1/categorization-rules/5").principal(PRINCIPAL))
+                .andExpect(status().isNoContent());
+
+        verify(deleteCategorizationRuleUseCase).execute(EMAIL, 5L);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/categorization-rules/{id} - Should return 404 for a missing rule")
+    void shouldReturnNotFound() throws Exception {
+        doThrow(new ResourceNotFoundException("Categorization rule not found"))
+                .when(deleteCategorizationRuleUseCase).execute(EMAIL, 5L);
+
+        mockMvc.perform(delete("/api/v1/categorization-rules/5").principal(PRINCIPAL))
+                .andExpect(status().isNotFound());
+    }
+
+    private static CategorizationRuleResponse response() {
+        return new CategorizationRuleResponse(5L, "uber", 20L, 31L);
+    }
+}
@@ -0,0 +1,105 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.CategoryBudgetRequest;
+import com.synapse.money.application.dto.response.CategoryBudgetResponse;
+import com.synapse.money.application.usecase.GetCategoryBudgetsUseCase;
+import com.synapse.money.application.usecase.SetCategoryBudgetUseCase;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CategoryBudgetController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("CategoryBudgetController Tests")
+class CategoryBudgetControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private SetCategoryBudgetUseCase setCategoryBudgetUseCase;
+
+    @MockitoBean
+    private GetCategoryBudgetsUseCase getCategoryBudgetsUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    CategoryBudgetControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/budgets - Should set a category's monthly limit")
+    void shouldSetBudget() throws Exception {
+        when(setCategoryBudgetUseCase.execute(EMAIL, new CategoryBudgetRequest(3L, MARCH, new BigDecimal("200.00"))))
+                .thenReturn(response());
+
+        mockMvc.perform(put("/api/v1/budgets")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"categoryId": 3, "month": "2024-03", "limitAmount": 200.00}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.month").value("2024-03"))
+                .andExpect(jsonPath("$.remainingAmount").value(160.00))
+                .andExpect(jsonPath("$.usedPercent").value(20));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/budgets - Should reject a non-positive limit")
+    void shouldRejectNonPositiveLimit() throws Exception {
+        mockMvc.perform(put("/api/v1/budgets")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"categoryId": 3, "month": "2024-03", "limitAmount": 0}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(setCategoryBudgetUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/budgets - Should list the month's budgets")
+    void shouldListBudgets() throws Exception {
+        when(getCategoryBudgetsUseCase.execute(EMAIL, MARCH)).thenReturn(List.of(response()));
+
+        mockMvc.perform(get("/api/v1/budgets")
+                        .principal(PRINCIPAL)
+                        .param("month", "2024-03"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].categoryId").value(3))
+                .andExpect(jsonPath("$[0].consumedAmount").value(40.00));
+    }
+
+    private static CategoryBudgetResponse response() {
+        return new CategoryBudgetResponse(
+                9L, 3L, MARCH, new BigDecimal("200.00"), new BigDecimal("40.00"), new BigDecimal("160.00"), 20
+        );
+    }
+}
@@ -0,0 +1,126 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.response.ForecastPointResponse;
+import com.synapse.money.application.dto.response.InsightTotalResponse;
+import com.synapse.money.application.dto.response.MonthlyTotalResponse;
+import com.synapse.money.application.usecase.GetCashFlowForecastUseCase;
+import com.synapse.money.application.usecase.GetMonthlyTotalsUseCase;
+import com.synapse.money.application.usecase.GetTransactionInsightsUseCase;
+import com.synapse.money.domain.enums.EForecastGranularity;
+import com.synapse.money.domain.enums.EInsightDimension;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.valueobject.TransactionCubeQuery;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(DashboardController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("DashboardController Tests")
+class DashboardControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private GetMonthlyTotalsUseCase getMonthlyTotalsUseCase;
+
+    @MockitoBean
+    private GetTransactionInsightsUseCase getTransactionInsightsUseCase;
+
+    @MockitoBean
+    private GetCashFlowForecastUseCase getCashFlowForecastUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    DashboardControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/dashboard/monthly-totals - Should return precomputed totals")
+    void shouldReturnMonthlyTotals() throws Exception {
+        when(getMonthlyTotalsUseCase.execute(EMAIL, YearMonth.of(2024, 1), YearMonth.of(2024, 6)))
+                .thenReturn(List.of(new MonthlyTotalResponse(
+                        YearMonth.of(2024, 2), 3L, null, ETransactionType.EXPENSE, new BigDecimal("80.00"), 2
+                )));
+
+        mockMvc.perform(get("/api/v1/dashboard/monthly-totals")
+                        .principal(PRINCIPAL)
+                        .param("from", "2024-01")
+                        .param("to", "2024-06"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].month").value("2024-02"))
+                .andExpect(jsonPath("$[0].categoryId").value(3))
+                .andExpect(jsonPath("$[0].totalAmount").value(80.00))
+                .andExpect(jsonPath("$[0].transactionCount").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/dashboard/insights - Should slice the user's transactions")
+    void shouldReturnInsights() throws Exception {
+        TransactionCubeQuery query = new TransactionCubeQuery(
+                EInsightDimension.ACCOUNT, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 31), ETransactionType.EXPENSE, 3L, null
+        );
+        when(getTransactionInsightsUseCase.execute(EMAIL, query))
+                .thenReturn(List.of(new InsightTotalResponse(null, null, 5L, null, new BigDecimal("42.50"), 3)));
+
+        mockMvc.perform(get("/api/v1/dashboard/insights")
+                        .principal(PRINCIPAL)
+                        .param("groupBy", "ACCOUNT")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-03-31")
+                        .param("type", "EXPENSE")
+                        .param("categoryId", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].accountId").value(5))
+                .andExpect(jsonPath("$[0].totalAmount").value(42.50))
+                .andExpect(jsonPath("$[0].transactionCount").value(3));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/dashboard/forecast - Should return projected balances")
+    void shouldReturnForecast() throws Exception {
+        when(getCashFlowForecastUseCase.execute(EMAIL, 5L, EForecastGranularity.DAY))
+                .thenReturn(List.of(new ForecastPointResponse(LocalDate.of(2024, 3, 1), new BigDecimal("1250.00"))));
+
+        mockMvc.perform(get("/api/v1/dashboard/forecast")
+                        .principal(PRINCIPAL)
+                        .param("accountId", "5")
+                        .param("granularity", "DAY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2024-03-01"))
+                .andExpect(jsonPath("$[0].balance").value(1250.00));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/dashboard/forecast - Should default to all accounts by month")
+    void shouldDefaultForecastToMonthlyTotals() throws Exception {
+        when(getCashFlowForecastUseCase.execute(EMAIL, null, EForecastGranularity.MONTH)).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/dashboard/forecast").principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
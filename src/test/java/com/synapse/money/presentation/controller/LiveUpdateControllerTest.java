@@ -0,0 +1,90 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.live.LiveUpdate;
+import com.synapse.money.application.live.LiveUpdateSink;
+import com.synapse.money.application.live.LiveUpdateSubscription;
+import com.synapse.money.application.usecase.SubscribeLiveUpdatesUseCase;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LiveUpdateController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("LiveUpdateController Tests")
+class LiveUpdateControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private SubscribeLiveUpdatesUseCase subscribeLiveUpdatesUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    LiveUpdateControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/live - Should stream named JSON events and heartbeats")
+    void shouldStreamEvents() throws Exception {
+        ArgumentCaptor<LiveUpdateSink> sink = ArgumentCaptor.forClass(LiveUpdateSink.class);
+        when(subscribeLiveUpdatesUseCase.execute(eq(EMAIL), sink.capture())).thenReturn(mock(LiveUpdateSubscription.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/live")
+                        .principal(PRINCIPAL)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        sink.getValue().send(new LiveUpdate("balance.updated", "{\"accountId\":10}"));
+        sink.getValue().heartbeat();
+        sink.getValue().close();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string("event:balance.updated\ndata:{\"accountId\":10}\n\n:heartbeat\n\n"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/live - Should release the subscription when the stream ends")
+    void shouldCloseSubscriptionOnCompletion() throws Exception {
+        LiveUpdateSubscription subscription = mock(LiveUpdateSubscription.class);
+        ArgumentCaptor<LiveUpdateSink> sink = ArgumentCaptor.forClass(LiveUpdateSink.class);
+        when(subscribeLiveUpdatesUseCase.execute(eq(EMAIL), sink.capture())).thenReturn(subscription);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/live").principal(PRINCIPAL))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        sink.getValue().close();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        verify(subscription).close();
+    }
+}
@@ -0,0 +1,139 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.StatementLineRequest;
+import com.synapse.money.application.dto.request.StatementReconciliationRequest;
+import com.synapse.money.application.dto.response.ReconciliationItemResponse;
+import com.synapse.money.application.dto.response.ReconciliationResponse;
+import com.synapse.money.application.usecase.GetReconciliationUseCase;
+import com.synapse.money.application.usecase.ReconcileStatementUseCase;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReconciliationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("ReconciliationController Tests")
+class ReconciliationControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+    private static final ReconciliationResponse RESPONSE = new ReconciliationResponse(
+            5L, 10L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), 3, 1, 1, 0,
+            List.of(new ReconciliationItemResponse(2, null, LocalDate.of(2024, 3, 31), new BigDecimal("-40.00"), "GYM")),
+            List.of(),
+            LocalDateTime.of(2024, 4, 1, 9, 0)
+    );
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private ReconcileStatementUseCase reconcileStatementUseCase;
+
+    @MockitoBean
+    private GetReconciliationUseCase getReconciliationUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    ReconciliationControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/accounts/{id}/reconciliations - Should reconcile the statement")
+    void shouldReconcileStatement() throws Exception {
+        when(reconcileStatementUseCase.execute(EMAIL, 10L, new StatementReconciliationRequest(3, List.of(
+                new StatementLineRequest(LocalDate.of(2024, 3, 1), new BigDecimal("-12.50"), "UBER"),
+                new StatementLineRequest(LocalDate.of(2024, 3, 31), new BigDecimal("-40.00"), "GYM")
+        )))).thenReturn(RESPONSE);
+
+        mockMvc.perform(post("/api/v1/accounts/10/reconciliations")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"dateToleranceDays": 3, "lines": [
+                                  {"date": "2024-03-01", "amount": -12.50, "description": "UBER"},
+                                  {"date": "2024-03-31", "amount": -40.00, "description": "GYM"}
+                                ]}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.matchedCount").value(1))
+                .andExpect(jsonPath("$.missing[0].lineNumber").value(2))
+                .andExpect(jsonPath("$.missing[0].amount").value(-40.00))
+                .andExpect(jsonPath("$.extra").isEmpty());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/accounts/{id}/reconciliations - Should reject an empty statement")
+    void shouldRejectEmptyStatement() throws Exception {
+        mockMvc.perform(post("/api/v1/accounts/10/reconciliations")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"lines": []}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reconcileStatementUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/accounts/{id}/reconciliations - Should reject a line without a date")
+    void shouldRejectLineWithoutDate() throws Exception {
+        mockMvc.perform(post("/api/v1/accounts/10/reconciliations")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"dateToleranceDays": 40, "lines": [{"amount": 1.00}]}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(reconcileStatementUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/accounts/{id}/reconciliations/{id} - Should return the stored reconciliation")
+    void shouldReturnReconciliation() throws Exception {
+        when(getReconciliationUseCase.execute(EMAIL, 10L, 5L)).thenReturn(RESPONSE);
+
+        mockMvc.perform(get("/api/v1/accounts/10/reconciliations/5")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missingCount").value(1))
+                .andExpect(jsonPath("$.periodEnd").value("2024-03-31"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/accounts/{id}/reconciliations/{id} - Should return 404 when not found")
+    void shouldReturn404WhenNotFound() throws Exception {
+        when(getReconciliationUseCase.execute(EMAIL, 10L, 6L))
+                .thenThrow(new ResourceNotFoundException("Reconciliation not found"));
+
+        mockMvc.perform(get("/api/v1/accounts/10/reconciliations/6")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isNotFound());
+    }
+}
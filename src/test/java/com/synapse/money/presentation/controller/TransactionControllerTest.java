@@ -0,0 +1,374 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.TransactionRequest;
+import com.synapse.money.application.dto.response.BatchTransactionItemResponse;
+import com.synapse.money.application.dto.response.BatchTransactionResponse;
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionResponse;
+import com.synapse.money.application.export.TransactionExport;
+import com.synapse.money.application.idempotency.IdempotentRequestExecutor;
+import com.synapse.money.application.transaction.RetryingTransactionExecutor;
+import com.synapse.money.application.usecase.CreateTransactionUseCase;
+import com.synapse.money.application.usecase.CreateTransactionsBatchUseCase;
+import com.synapse.money.application.usecase.DeleteTransactionUseCase;
+import com.synapse.money.application.usecase.ExportTransactionsUseCase;
+import com.synapse.money.application.usecase.ListTransactionsUseCase;
+import com.synapse.money.application.usecase.SearchTransactionsUseCase;
+import com.synapse.money.application.usecase.UpdateTransactionUseCase;
+import com.synapse.money.domain.enums.EExportFormat;
+import com.synapse.money.domain.enums.ETransactionType;
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+import com.synapse.money.domain.exception.InvalidSearchQueryException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.domain.repository.IdempotencyKeyRepository;
+import com.synapse.money.domain.valueobject.IdempotencyRecord;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransactionController.class)
+@Import({IdempotentRequestExecutor.class, RetryingTransactionExecutor.class})
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("TransactionController Tests")
+class TransactionControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final String TRANSACTIONS_ENDPOINT = "/api/v1/transactions";
+    private static final String IDEMPOTENCY_SCOPE = "transactions.create:" + EMAIL;
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+
+    private static final String EXPENSE_JSON = """
+            {"accountId": 10, "amount": 9.90, "description": "Netflix",
+             "transactionDate": "2024-05-01", "transactionType": "EXPENSE"}
+            """;
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private ListTransactionsUseCase listTransactionsUseCase;
+
+    @MockitoBean
+    private SearchTransactionsUseCase searchTransactionsUseCase;
+
+    @MockitoBean
+    private ExportTransactionsUseCase exportTransactionsUseCase;
+
+    @MockitoBean
+    private CreateTransactionUseCase createTransactionUseCase;
+
+    @MockitoBean
+    private CreateTransactionsBatchUseCase createTransactionsBatchUseCase;
+
+    @MockitoBean
+    private UpdateTransactionUseCase updateTransactionUseCase;
+
+    @MockitoBean
+    private DeleteTransactionUseCase deleteTransactionUseCase;
+
+    @MockitoBean
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @MockitoBean
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    TransactionControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions - Should return a keyset page")
+    void shouldReturnKeysetPage() throws Exception {
+        TransactionResponse item = new TransactionResponse(
+                5L, 10L, null, null, null, null,
+                new BigDecimal("9.90"), "Netflix", LocalDate.of(2024, 5, 1),
+                ETransactionType.EXPENSE, false
+        );
+        when(listTransactionsUseCase.execute(EMAIL, "abc", 20))
+                .thenReturn(new TransactionPageResponse(List.of(item), "next", true));
+
+        mockMvc.perform(get(TRANSACTIONS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .param("cursor", "abc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(5))
+                .andExpect(jsonPath("$.items[0].transactionType").value("EXPENSE"))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions - Should return 400 for an invalid cursor")
+    void shouldReturn400ForInvalidCursor() throws Exception {
+        when(listTransactionsUseCase.execute(EMAIL, "bad", null))
+                .thenThrow(new InvalidPageCursorException("Invalid page cursor"));
+
+        mockMvc.perform(get(TRANSACTIONS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .param("cursor", "bad"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid page cursor"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/search - Should return a ranked page")
+    void shouldReturnSearchPage() throws Exception {
+        TransactionResponse item = new TransactionResponse(
+                5L, 10L, null, null, null, null,
+                new BigDecimal("9.90"), "Netflix", LocalDate.of(2024, 5, 1),
+                ETransactionType.EXPENSE, false
+        );
+        when(searchTransactionsUseCase.execute(EMAIL, "netflix", null, 10))
+                .thenReturn(new TransactionPageResponse(List.of(item), null, false));
+
+        mockMvc.perform(get(TRANSACTIONS_ENDPOINT + "/search")
+                        .principal(PRINCIPAL)
+                        .param("q", "netflix")
+                        .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].description").value("Netflix"))
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/search - Should return 400 for a short query")
+    void shouldReturn400ForShortQuery() throws Exception {
+        when(searchTransactionsUseCase.execute(EMAIL, "ub", null, null))
+                .thenThrow(new InvalidSearchQueryException("Search query must be between 3 and 100 characters"));
+
+        mockMvc.perform(get(TRANSACTIONS_ENDPOINT + "/search")
+                        .principal(PRINCIPAL)
+                        .param("q", "ub"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Search query must be between 3 and 100 characters"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/export - Should stream the export as an attachment")
+    void shouldStreamExportAsAttachment() throws Exception {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 1, 31);
+        TransactionExport export = new TransactionExport(
+                EExportFormat.NDJSON,
+                "transactions-2024-01-01-2024-01-31.ndjson",
+                out -> out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8))
+        );
+        when(exportTransactionsUseCase.execute(EMAIL, from, to, EExportFormat.NDJSON)).thenReturn(export);
+
+        MvcResult result = mockMvc.perform(get(TRANSACTIONS_ENDPOINT + "/export")
+                        .principal(PRINCIPAL)
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-01-31")
+                        .param("format", "NDJSON"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"transactions-2024-01-01-2024-01-31.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions - Should return 201 with the created transaction")
+    void shouldCreateTransaction() throws Exception {
+        when(createTransactionUseCase.execute(eq(EMAIL), any(TransactionRequest.class))).thenReturn(expenseResponse());
+
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EXPENSE_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5))
+                .andExpect(jsonPath("$.amount").value(9.90));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions - Should store the response under the Idempotency-Key")
+    void shouldStoreResponseUnderIdempotencyKey() throws Exception {
+        when(createTransactionUseCase.execute(eq(EMAIL), any(TransactionRequest.class))).thenReturn(expenseResponse());
+        when(idempotencyKeyRepository.claim(eq(IDEMPOTENCY_SCOPE), eq("retry-1"), anyString(), any(), any()))
+                .thenReturn(true);
+        when(idempotencyKeyRepository.lock(IDEMPOTENCY_SCOPE, "retry-1")).thenReturn(true);
+
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .header(IdempotentRequestExecutor.HEADER, "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EXPENSE_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(5));
+
+        verify(idempotencyKeyRepository).complete(eq(IDEMPOTENCY_SCOPE), eq("retry-1"), eq(201), anyString());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions - Should replay a retried request without creating it again")
+    void shouldReplayRetriedRequest() throws Exception {
+        AtomicReference<String> requestHash = new AtomicReference<>();
+        when(idempotencyKeyRepository.claim(eq(IDEMPOTENCY_SCOPE), eq("retry-1"), anyString(), any(), any()))
+                .thenAnswer(invocation -> {
+                    requestHash.set(invocation.getArgument(2));
+                    return false;
+                });
+        when(idempotencyKeyRepository.find(IDEMPOTENCY_SCOPE, "retry-1")).thenAnswer(invocation -> Optional.of(
+                new IdempotencyRecord(requestHash.get(), 201, "{\"id\":5,\"amount\":9.90}")
+        ));
+
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .header(IdempotentRequestExecutor.HEADER, "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EXPENSE_JSON))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotentRequestExecutor.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.id").value(5));
+
+        verifyNoInteractions(createTransactionUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions - Should return 400 when amount is missing")
+    void shouldReturn400WhenAmountIsMissing() throws Exception {
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT)
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"accountId": 10, "transactionDate": "2024-05-01", "transactionType": "EXPENSE"}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.amount").value("Amount is required"));
+
+        verifyNoInteractions(createTransactionUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions/batch - Should return a result per item")
+    void shouldCreateBatch() throws Exception {
+        when(createTransactionsBatchUseCase.execute(eq(EMAIL), any())).thenReturn(new BatchTransactionResponse(1, 1, List.of(
+                new BatchTransactionItemResponse(0, expenseResponse(), null),
+                new BatchTransactionItemResponse(1, null, "Account not found")
+        )));
+
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT + "/batch")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactions\": [" + EXPENSE_JSON + ", " + EXPENSE_JSON + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.items[0].transaction.id").value(5))
+                .andExpect(jsonPath("$.items[1].error").value("Account not found"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions/batch - Should return 400 for an empty batch")
+    void shouldReturn400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT + "/batch")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactions\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.transactions").value("At least one transaction is required"));
+
+        verifyNoInteractions(createTransactionsBatchUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/transactions/batch - Should return 400 for a null item")
+    void shouldReturn400ForNullBatchItem() throws Exception {
+        mockMvc.perform(post(TRANSACTIONS_ENDPOINT + "/batch")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transactions\": [" + EXPENSE_JSON + ", null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['transactions[1]']").value("Transaction is required"));
+
+        verifyNoInteractions(createTransactionsBatchUseCase);
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/transactions/{id} - Should return the updated transaction")
+    void shouldUpdateTransaction() throws Exception {
+        when(updateTransactionUseCase.execute(eq(EMAIL), eq(5L), any(TransactionRequest.class)))
+                .thenReturn(expenseResponse());
+
+        mockMvc.perform(put(TRANSACTIONS_ENDPOINT + "/5")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(EXPENSE_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Netflix"));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/transactions/{id} - Should return 204")
+    void shouldDeleteTransaction() throws Exception {
+        mockMvc.perform(delete(TRANSACTIONS_ENDPOINT + "/5")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isNoContent());
+
+        verify(deleteTransactionUseCase).execute(EMAIL, 5L);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/transactions/{id} - Should return 404 for another user's transaction")
+    void shouldReturn404WhenDeletingUnknownTransaction() throws Exception {
+        doThrow(new ResourceNotFoundException("Transaction not found"))
+                .when(deleteTransactionUseCase).execute(EMAIL, 5L);
+
+        mockMvc.perform(delete(TRANSACTIONS_ENDPOINT + "/5")
+                        .principal(PRINCIPAL))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Transaction not found"));
+    }
+
+    private static TransactionResponse expenseResponse() {
+        return new TransactionResponse(
+                5L, 10L, null, null, null, null,
+                new BigDecimal("9.90"), "Netflix", LocalDate.of(2024, 5, 1),
+                ETransactionType.EXPENSE, false
+        );
+    }
+}
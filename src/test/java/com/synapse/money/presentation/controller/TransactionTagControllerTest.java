@@ -0,0 +1,115 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.TransactionTagsRequest;
+import com.synapse.money.application.dto.response.TransactionPageResponse;
+import com.synapse.money.application.dto.response.TransactionTagsResponse;
+import com.synapse.money.application.usecase.FilterTransactionsByTagsUseCase;
+import com.synapse.money.application.usecase.GetTransactionTagsUseCase;
+import com.synapse.money.application.usecase.SetTransactionTagsUseCase;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.security.Principal;
+import java.util.List;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(TransactionTagController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("TransactionTagController Tests")
+class TransactionTagControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private SetTransactionTagsUseCase setTransactionTagsUseCase;
+
+    @MockitoBean
+    private GetTransactionTagsUseCase getTransactionTagsUseCase;
+
+    @MockitoBean
+    private FilterTransactionsByTagsUseCase filterTransactionsByTagsUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    TransactionTagControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/transactions/{id}/tags - Should replace the tags")
+    void shouldReplaceTags() throws Exception {
+        when(setTransactionTagsUseCase.execute(EMAIL, 99L, new TransactionTagsRequest(List.of("#travel", "work"))))
+                .thenReturn(new TransactionTagsResponse(99L, List.of("travel", "work")));
+
+        mockMvc.perform(put("/api/v1/transactions/99/tags")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"tags": ["#travel", "work"]}
+                                """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.transactionId").value(99))
+                .andExpect(jsonPath("$.tags[0]").value("travel"));
+    }
+
+    @Test
+    @DisplayName("PUT /api/v1/transactions/{id}/tags - Should reject a malformed tag")
+    void shouldRejectMalformedTag() throws Exception {
+        mockMvc.perform(put("/api/v1/transactions/99/tags")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"tags": ["two words"]}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(setTransactionTagsUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/{id}/tags - Should return the tags")
+    void shouldReturnTags() throws Exception {
+        when(getTransactionTagsUseCase.execute(EMAIL, 99L)).thenReturn(new TransactionTagsResponse(99L, List.of("travel")));
+
+        mockMvc.perform(get("/api/v1/transactions/99/tags").principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags[0]").value("travel"));
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/transactions/tagged - Should split comma-separated tag lists")
+    void shouldFilterByTags() throws Exception {
+        when(filterTransactionsByTagsUseCase.execute(
+                EMAIL, List.of("travel", "work"), null, List.of("reimbursed"), "abc", 20))
+                .thenReturn(new TransactionPageResponse(List.of(), "next", true));
+
+        mockMvc.perform(get("/api/v1/transactions/tagged")
+                        .principal(PRINCIPAL)
+                        .param("all", "travel,work")
+                        .param("none", "reimbursed")
+                        .param("cursor", "abc")
+                        .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+}
@@ -0,0 +1,165 @@
+package com.synapse.money.presentation.controller;
+
+import com.synapse.money.application.dto.request.WebhookEndpointRequest;
+import com.synapse.money.application.dto.response.WebhookEndpointResponse;
+import com.synapse.money.application.dto.response.WebhookEndpointSecretResponse;
+import com.synapse.money.application.usecase.CreateWebhookEndpointUseCase;
+import com.synapse.money.application.usecase.DeleteWebhookEndpointUseCase;
+import com.synapse.money.application.usecase.ListWebhookEndpointsUseCase;
+import com.synapse.money.application.usecase.RotateWebhookSecretUseCase;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
+import com.synapse.money.infrastructure.security.JwtService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WebhookEndpointController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("WebhookEndpointController Tests")
+class WebhookEndpointControllerTest {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final Principal PRINCIPAL = UsernamePasswordAuthenticationToken.authenticated(EMAIL, null, List.of());
+    private static final String URL = "https://example.com/hook";
+
+    private final MockMvc mockMvc;
+
+    @MockitoBean
+    private CreateWebhookEndpointUseCase createWebhookEndpointUseCase;
+
+    @MockitoBean
+    private ListWebhookEndpointsUseCase listWebhookEndpointsUseCase;
+
+    @MockitoBean
+    private RotateWebhookSecretUseCase rotateWebhookSecretUseCase;
+
+    @MockitoBean
+    private DeleteWebhookEndpointUseCase deleteWebhookEndpointUseCase;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Autowired
+    WebhookEndpointControllerTest(MockMvc mockMvc) {
+        this.mockMvc = mockMvc;
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/webhooks - Should register an endpoint and return its secret")
+    void shouldRegisterEndpoint() throws Exception {
+        when(createWebhookEndpointUseCase.execute(EMAIL, new WebhookEndpointRequest(URL))).thenReturn(secretResponse());
+
+        mockMvc.perform(post("/api/v1/webhooks")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"url": "https://example.com/hook"}
+                                """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(3))
+                .andExpect(jsonPath("$.secret").value("secret"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/webhooks - Should reject a non-HTTP url")
+    void shouldRejectNonHttpUrl() throws Exception {
+        mockMvc.perform(post("/api/v1/webhooks")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"url": "ftp://example.com/hook"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(createWebhookEndpointUseCase);
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/webhooks - Should reject a plain http url")
+    void shouldRejectPlainHttpUrl() throws Exception {
+        mockMvc.perform(post("/api/v1/webhooks")
+                        .principal(PRINCIPAL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"url": "http://example.com/hook"}
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(createWebhookEndpointUseCase);
+    }
+
+    @Test
+    @DisplayName("GET /api/v1/webhooks - Should list the user's endpoints without their secrets")
+    void shouldListEndpoints() throws Exception {
+        when(listWebhookEndpointsUseCase.execute(EMAIL)).thenReturn(List.of(
+                new WebhookEndpointResponse(3L, URL, LocalDateTime.of(2024, 3, 10, 12, 0))));
+
+        mockMvc.perform(get("/api/v1/webhooks").principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].url").value(URL))
+                .andExpect(jsonPath("$[0].secret").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/webhooks/{id}/secret - Should return the new secret")
+    void shouldRotateSecret() throws Exception {
+        when(rotateWebhookSecretUseCase.execute(EMAIL, 3L)).thenReturn(secretResponse());
+
+        mockMvc.perform(post("/api/v1/webhooks/3/secret").principal(PRINCIPAL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.secret").value("secret"));
+    }
+
+    @Test
+    @DisplayName("POST /api/v1/webhooks/{id}/secret - Should return 404 for a missing endpoint")
+    void shouldReturnNotFoundWhenRotatingMissingEndpoint() throws Exception {
+        when(rotateWebhookSecretUseCase.execute(EMAIL, 3L))
+                .thenThrow(new ResourceNotFoundException("Webhook endpoint not found"));
+
+        mockMvc.perform(post("/api/v1/webhooks/3/secret").principal(PRINCIPAL))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/webhooks/{id} - Should remove the endpoint")
+    void shouldDeleteEndpoint() throws Exception {
+        mockMvc.perform(delete("/api/v1/webhooks/3").principal(PRINCIPAL))
+                .andExpect(status().isNoContent());
+
+        verify(deleteWebhookEndpointUseCase).execute(EMAIL, 3L);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/v1/webhooks/{id} - Should return 404 for a missing endpoint")
+    void shouldReturnNotFound() throws Exception {
+        doThrow(new ResourceNotFoundException("Webhook endpoint not found"))
+                .when(deleteWebhookEndpointUseCase).execute(EMAIL, 3L);
+
+        mockMvc.perform(delete("/api/v1/webhooks/3").principal(PRINCIPAL))
+                .andExpect(status().isNotFound());
+    }
+
+    private static WebhookEndpointSecretResponse secretResponse() {
+        return new WebhookEndpointSecretResponse(3L, URL, "secret", LocalDateTime.of(2024, 3, 10, 12, 0));
+    }
+}
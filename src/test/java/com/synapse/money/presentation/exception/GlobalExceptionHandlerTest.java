@@ -1,7 +1,22 @@
 package com.synapse.money.presentation.exception;
 
 import com.synapse.money.domain.exception.EmailAlreadyExistsException;
+import com.synapse.money.domain.exception.IdempotencyKeyInProgressException;
+import com.synapse.money.domain.exception.IdempotencyKeyReuseException;
 import com.synapse.money.domain.exception.InvalidCredentialsException;
+import com.synapse.money.domain.exception.AttachmentTooLargeException;
+import com.synapse.money.domain.exception.BulkEditInProgressException;
+import com.synapse.money.domain.exception.InvalidAttachmentException;
+import com.synapse.money.domain.exception.InvalidBulkEditException;
+import com.synapse.money.domain.exception.InvalidCategorizationRuleException;
+import com.synapse.money.domain.exception.InvalidDateRangeException;
+import com.synapse.money.domain.exception.InvalidIdempotencyKeyException;
+import com.synapse.money.domain.exception.InvalidPageCursorException;
+import com.synapse.money.domain.exception.InvalidSearchQueryException;
+import com.synapse.money.domain.exception.InvalidTransactionException;
+import com.synapse.money.domain.exception.InvalidTransactionImportException;
+import com.synapse.money.domain.exception.InvalidWebhookUrlException;
+import com.synapse.money.domain.exception.ResourceNotFoundException;
 import com.synapse.money.presentation.dto.ErrorResponse;
 import com.synapse.money.presentation.dto.ValidationErrorResponse;
 import org.junit.jupiter.api.DisplayName;
@@ -62,6 +77,204 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().timestamp()).isNotNull();
     }
 
+    @Test
+    @DisplayName("Should handle ResourceNotFoundException and return 404")
+    void shouldHandleResourceNotFoundException() {
+        ResourceNotFoundException exception = new ResourceNotFoundException("User not found: 1");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleResourceNotFound(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(response.getBody().message()).isEqualTo("User not found: 1");
+        assertThat(response.getBody().timestamp()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidTransactionImportException and return 400")
+    void shouldHandleInvalidTransactionImportException() {
+        InvalidTransactionImportException exception = new InvalidTransactionImportException(3, "Invalid date: x");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidTransactionImport(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Line 3: Invalid date: x");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidPageCursorException and return 400")
+    void shouldHandleInvalidPageCursorException() {
+        InvalidPageCursorException exception = new InvalidPageCursorException("Invalid page cursor");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidPageCursor(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Invalid page cursor");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidSearchQueryException and return 400")
+    void shouldHandleInvalidSearchQueryException() {
+        InvalidSearchQueryException exception = new InvalidSearchQueryException("Search query too short");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidSearchQuery(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Search query too short");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidDateRangeException and return 400")
+    void shouldHandleInvalidDateRangeException() {
+        InvalidDateRangeException exception = new InvalidDateRangeException("'from' must not be after 'to'");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidDateRange(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("'from' must not be after 'to'");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidCategorizationRuleException and return 400")
+    void shouldHandleInvalidCategorizationRuleException() {
+        InvalidCategorizationRuleException exception =
+                new InvalidCategorizationRuleException("Pattern must contain a letter or digit");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidCategorizationRule(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Pattern must contain a letter or digit");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidBulkEditException and return 400")
+    void shouldHandleInvalidBulkEditException() {
+        InvalidBulkEditException exception = new InvalidBulkEditException("A category cannot be merged into itself");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidBulkEdit(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("A category cannot be merged into itself");
+    }
+
+    @Test
+    @DisplayName("Should handle BulkEditInProgressException and return 409")
+    void shouldHandleBulkEditInProgressException() {
+        BulkEditInProgressException exception = new BulkEditInProgressException("Another bulk edit is still in progress");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleBulkEditInProgress(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Another bulk edit is still in progress");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidAttachmentException and return 400")
+    void shouldHandleInvalidAttachmentException() {
+        InvalidAttachmentException exception = new InvalidAttachmentException("Content type must be one of image/png");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidAttachment(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Content type must be one of image/png");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidWebhookUrlException and return 400")
+    void shouldHandleInvalidWebhookUrlException() {
+        InvalidWebhookUrlException exception = new InvalidWebhookUrlException("Webhook URL must use https");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidWebhookUrl(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Webhook URL must use https");
+    }
+
+    @Test
+    @DisplayName("Should handle AttachmentTooLargeException and return 413")
+    void shouldHandleAttachmentTooLargeException() {
+        AttachmentTooLargeException exception = new AttachmentTooLargeException("Attachment exceeds the limit of 10 bytes");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleAttachmentTooLarge(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Attachment exceeds the limit of 10 bytes");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidTransactionException and return 400")
+    void shouldHandleInvalidTransactionException() {
+        InvalidTransactionException exception = new InvalidTransactionException("Subcategory requires a category");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidTransaction(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Subcategory requires a category");
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidIdempotencyKeyException and return 400")
+    void shouldHandleInvalidIdempotencyKeyException() {
+        InvalidIdempotencyKeyException exception = new InvalidIdempotencyKeyException("Idempotency-Key is too long");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleInvalidIdempotencyKey(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Idempotency-Key is too long");
+    }
+
+    @Test
+    @DisplayName("Should handle IdempotencyKeyInProgressException and return 409")
+    void shouldHandleIdempotencyKeyInProgressException() {
+        IdempotencyKeyInProgressException exception = new IdempotencyKeyInProgressException("Still in progress");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleIdempotencyKeyInProgress(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("Should handle IdempotencyKeyReuseException and return 422")
+    void shouldHandleIdempotencyKeyReuseException() {
+        IdempotencyKeyReuseException exception = new IdempotencyKeyReuseException("Used for a different request");
+
+        ResponseEntity<ErrorResponse> response =
+                exceptionHandler.handleIdempotencyKeyReuse(exception);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Used for a different request");
+    }
+
     @Test
     @DisplayName("Should handle MethodArgumentNotValidException and return 400 with field errors")
     void shouldHandleMethodArgumentNotValidException() {